@@ -15,7 +15,11 @@
  */
 package io.pravega.storage.filesystem;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import io.pravega.segmentstore.storage.chunklayer.BaseChunkStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkAlreadyExistsException;
 import io.pravega.segmentstore.storage.chunklayer.ChunkHandle;
@@ -26,13 +30,17 @@ import io.pravega.segmentstore.storage.chunklayer.ChunkStorageException;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorageFullException;
 import io.pravega.segmentstore.storage.chunklayer.ConcatArgument;
 import io.pravega.segmentstore.storage.chunklayer.InvalidOffsetException;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
@@ -45,7 +53,11 @@ import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * {@link ChunkStorage} for file system based storage.
@@ -57,12 +69,37 @@ import java.util.concurrent.Executor;
 @Slf4j
 public class FileSystemChunkStorage extends BaseChunkStorage {
     public static final String NO_SPACE_LEFT_ON_DEVICE = "No space left on device";
+    /**
+     * Size of the aligned buffer used to stage data for direct I/O writes.
+     */
+    private static final int DIRECT_IO_BUFFER_SIZE = 1024 * 1024;
+    /**
+     * Maximum number of aligned direct I/O buffers kept for reuse. Writes that run concurrently beyond this number still
+     * get a buffer, but it is not retained afterwards.
+     */
+    private static final int MAX_POOLED_DIRECT_IO_BUFFERS = 16;
+    /**
+     * Releases a memory mapping right away instead of waiting for the {@link MappedByteBuffer} to be garbage collected.
+     */
+    private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
     //region members
 
     private final FileSystemStorageConfig config;
 
     private final FileSystemWrapper fileSystem;
 
+    /**
+     * Memory mapped chunk files used by {@link FileSystemStorageConfig.IOMode#MMAP}.
+     */
+    private final Cache<String, MappedChunk> mappedChunks;
+
+    /**
+     * Aligned direct buffers used to stage data for {@link FileSystemStorageConfig.IOMode#DIRECT} writes.
+     */
+    private final BlockingQueue<ByteBuffer> directBuffers = new ArrayBlockingQueue<>(MAX_POOLED_DIRECT_IO_BUFFERS);
+
+    private final AtomicInteger unmappedChunkCount = new AtomicInteger();
+
     //endregion
 
     //region constructor
@@ -74,9 +111,7 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
      * @param executor Executor for async operations.
      */
     public FileSystemChunkStorage(FileSystemStorageConfig config, Executor executor) {
-        super(executor);
-        this.config = Preconditions.checkNotNull(config, "config");
-        this.fileSystem = new FileSystemWrapper();
+        this(config, new FileSystemWrapper(), executor);
     }
 
     /**
@@ -90,9 +125,24 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
         super(executor);
         this.config = Preconditions.checkNotNull(config, "config");
         this.fileSystem = Preconditions.checkNotNull(fileSystem, "fileSystem");
+        this.mappedChunks = CacheBuilder.newBuilder()
+                .maximumSize(config.getMaxMappedChunks())
+                .removalListener(this::onMappedChunkRemoved)
+                .build();
     }
 
 
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        // Release all memory mappings.
+        mappedChunks.invalidateAll();
+        super.close();
+    }
+
     //endregion
 
     //region capabilities
@@ -157,6 +207,8 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
     @Override
     protected void doDelete(ChunkHandle handle) throws ChunkStorageException {
         try {
+            // Unmap before deleting; some platforms do not allow deleting files that are mapped.
+            mappedChunks.invalidate(handle.getChunkName());
             fileSystem.delete(getFilePath(handle.getChunkName()));
         } catch (IOException e) {
             throw convertException(handle.getChunkName(), "doDelete", e);
@@ -203,6 +255,9 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
                 throw new IllegalArgumentException(String.format("Reading at offset (%d) which is beyond the " +
                         "current size of chunk (%d).", fromOffset, fileSize));
             }
+            if (config.getIoMode() == FileSystemStorageConfig.IOMode.MMAP && fileSize <= Integer.MAX_VALUE) {
+                return doReadMapped(handle.getChunkName(), path, fromOffset, length, buffer, bufferOffset);
+            }
         } catch (IOException e) {
             throw convertException(handle.getChunkName(), "doRead", e);
         }
@@ -224,9 +279,57 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
         }
     }
 
+    /**
+     * Reads from a memory mapped chunk file.
+     * Chunk files are only ever appended to, so an existing mapping remains valid for the range it covers and is only
+     * replaced when a read goes past its end. A mapping is retained for the duration of each read, so that it is not
+     * unmapped while in use if it is evicted or replaced concurrently.
+     */
+    private int doReadMapped(String chunkName, Path path, long fromOffset, int length, byte[] buffer, int bufferOffset) throws IOException {
+        MappedChunk mapped = mappedChunks.getIfPresent(chunkName);
+        if (null != mapped && (mapped.getBuffer().capacity() < fromOffset + length || !mapped.retain())) {
+            mapped = null;
+        }
+        if (null == mapped) {
+            try (FileChannel channel = fileSystem.getFileChannel(path, StandardOpenOption.READ)) {
+                mapped = new MappedChunk(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+            mapped.retain();
+            mappedChunks.put(chunkName, mapped);
+        }
+        try {
+            int bytesToRead = (int) Math.min(length, mapped.getBuffer().capacity() - fromOffset);
+            ByteBuffer source = mapped.getBuffer().duplicate();
+            source.position((int) fromOffset);
+            source.get(buffer, bufferOffset, bytesToRead);
+            return bytesToRead;
+        } finally {
+            release(mapped);
+        }
+    }
+
+    private void onMappedChunkRemoved(RemovalNotification<String, MappedChunk> notification) {
+        // Invoked when the chunk is deleted, its mapping is replaced or evicted.
+        release(notification.getValue());
+    }
+
+    private void release(MappedChunk mapped) {
+        if (mapped.release()) {
+            UNMAPPER.accept(mapped.getBuffer());
+            unmappedChunkCount.incrementAndGet();
+        }
+    }
+
     @Override
     protected int doWrite(ChunkHandle handle, long offset, int length, InputStream data) throws ChunkStorageException {
         Path path = getFilePath(handle.getChunkName());
+        if (config.getIoMode() == FileSystemStorageConfig.IOMode.DIRECT) {
+            try {
+                return doWriteDirect(handle.getChunkName(), path, offset, length, data);
+            } catch (IOException e) {
+                throw convertException(handle.getChunkName(), "doWrite", e);
+            }
+        }
 
         long totalBytesWritten = 0;
         try (FileChannel channel = fileSystem.getFileChannel(path, StandardOpenOption.WRITE)) {
@@ -252,6 +355,165 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
         return (int) totalBytesWritten;
     }
 
+    /**
+     * Writes using direct I/O. Direct I/O requires aligned buffers, offsets and lengths, so the partially filled last block
+     * of the file is read back and written again along with the new data, and the last block written is padded with zeros.
+     * The padding is removed by truncating the file to its new length once all data is written. If the write fails before
+     * the file is truncated, the next write fails with {@link InvalidOffsetException} as the file is longer than expected.
+     */
+    private int doWriteDirect(String chunkName, Path path, long offset, int length, InputStream data) throws IOException, ChunkStorageException {
+        try (FileChannel channel = fileSystem.getDirectFileChannel(path)) {
+            long fileSize = channel.size();
+            if (fileSize != offset) {
+                throw new InvalidOffsetException(chunkName, fileSize, offset, "doWrite");
+            }
+            int blockSize = fileSystem.getBlockSize(path);
+            long writeOffset = offset - offset % blockSize;
+            int head = (int) (offset - writeOffset);
+            ByteBuffer stagingBuffer = acquireDirectBuffer(blockSize);
+            try {
+                // Read back the partially filled last block.
+                if (head > 0) {
+                    stagingBuffer.limit(blockSize);
+                    int bytesRead = channel.read(stagingBuffer, writeOffset);
+                    Preconditions.checkState(bytesRead == head, "Unable to read last block of chunk %s. Expected (%s) Actual (%s)",
+                            chunkName, head, bytesRead);
+                }
+
+                // Do not close the channel, doing so will close the underlying InputStream.
+                ReadableByteChannel sourceChannel = Channels.newChannel(data);
+                int bytesRemaining = length;
+                while (bytesRemaining > 0) {
+                    int bytesToCopy = Math.min(bytesRemaining, stagingBuffer.capacity() - stagingBuffer.position());
+                    stagingBuffer.limit(stagingBuffer.position() + bytesToCopy);
+                    while (stagingBuffer.hasRemaining()) {
+                        if (sourceChannel.read(stagingBuffer) < 0) {
+                            throw new IOException(String.format("Unexpected end of input stream while writing to chunk %s.", chunkName));
+                        }
+                    }
+                    bytesRemaining -= bytesToCopy;
+
+                    // Pad to the block size and write.
+                    int filled = stagingBuffer.position();
+                    stagingBuffer.limit(alignUp(filled, blockSize));
+                    while (stagingBuffer.hasRemaining()) {
+                        stagingBuffer.put((byte) 0);
+                    }
+                    stagingBuffer.flip();
+                    while (stagingBuffer.hasRemaining()) {
+                        channel.write(stagingBuffer, writeOffset + stagingBuffer.position());
+                    }
+                    writeOffset += filled;
+                    stagingBuffer.clear();
+                }
+            } finally {
+                releaseDirectBuffer(stagingBuffer);
+            }
+            channel.truncate(offset + length);
+            channel.force(true);
+        }
+        return length;
+    }
+
+    /**
+     * Gets a direct buffer of (at least) {@link #DIRECT_IO_BUFFER_SIZE} bytes that is aligned to the given block size,
+     * reusing a pooled one if possible. The buffer must be returned using {@link #releaseDirectBuffer}.
+     */
+    private ByteBuffer acquireDirectBuffer(int blockSize) {
+        ByteBuffer buffer = directBuffers.poll();
+        if (buffer == null || buffer.alignmentOffset(0, blockSize) != 0 || buffer.capacity() % blockSize != 0) {
+            // Either nothing pooled or it was allocated for a (different) file system with a larger block size.
+            buffer = allocateAligned(DIRECT_IO_BUFFER_SIZE, blockSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private void releaseDirectBuffer(ByteBuffer buffer) {
+        // If the pool is full, the buffer is simply left for the garbage collector.
+        directBuffers.offer(buffer);
+    }
+
+    private static ByteBuffer allocateAligned(int size, int alignment) {
+        int capacity = alignUp(size, alignment);
+        return ByteBuffer.allocateDirect(capacity + alignment - 1).alignedSlice(alignment).limit(capacity).slice();
+    }
+
+    private static int alignUp(int value, int alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    @VisibleForTesting
+    int getMappedChunkCount() {
+        return (int) mappedChunks.size();
+    }
+
+    @VisibleForTesting
+    int getUnmappedChunkCount() {
+        return unmappedChunkCount.get();
+    }
+
+    private static Consumer<ByteBuffer> createUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            Object unsafe = unsafeField.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    log.warn("Unable to unmap chunk file.", e);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Unable to unmap chunk files explicitly. Mappings will be released when garbage collected.", e);
+            return buffer -> { };
+        }
+    }
+
+    /**
+     * A memory mapped chunk file. The mapping is reference counted: the {@link #mappedChunks} cache holds one reference
+     * and every read in progress holds another, and it is unmapped once they are all released.
+     */
+    private static final class MappedChunk {
+        private final MappedByteBuffer buffer;
+        @GuardedBy("this")
+        private int refCount = 1;
+
+        MappedChunk(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        MappedByteBuffer getBuffer() {
+            return this.buffer;
+        }
+
+        /**
+         * Acquires a reference.
+         *
+         * @return True if successful, false if the mapping has already been released.
+         */
+        synchronized boolean retain() {
+            if (this.refCount == 0) {
+                return false;
+            }
+            this.refCount++;
+            return true;
+        }
+
+        /**
+         * Releases a reference.
+         *
+         * @return True if this was the last reference, in which case the mapping should be unmapped.
+         */
+        synchronized boolean release() {
+            Preconditions.checkState(this.refCount > 0, "Mapping already released.");
+            return --this.refCount == 0;
+        }
+    }
+
     @Override
     public int doConcat(ConcatArgument[] chunks) throws ChunkStorageException {
         try {
@@ -31,6 +31,8 @@ public class FileSystemStorageConfig {
 
     public static final Property<String> ROOT = Property.named("root", "/fs/");
     public static final Property<Boolean> REPLACE_ENABLED = Property.named("replace.enable", false);
+    public static final Property<IOMode> IO_MODE = Property.named("io.mode", IOMode.BUFFERED);
+    public static final Property<Integer> MAX_MAPPED_CHUNKS = Property.named("io.mmap.chunks.max", 128);
     public static final String COMPONENT_CODE = "filesystem";
 
     //endregion
@@ -50,6 +52,18 @@ public class FileSystemStorageConfig {
     @Getter
     private final boolean replaceEnabled;
 
+    /**
+     * The way {@link FileSystemChunkStorage} reads and writes chunk files.
+     */
+    @Getter
+    private final IOMode ioMode;
+
+    /**
+     * Maximum number of chunk files to keep memory mapped when {@link IOMode#MMAP} is used.
+     */
+    @Getter
+    private final int maxMappedChunks;
+
     //endregion
 
     //region Constructor
@@ -62,6 +76,8 @@ public class FileSystemStorageConfig {
     private FileSystemStorageConfig(TypedProperties properties) throws ConfigurationException {
         this.root = properties.get(ROOT);
         this.replaceEnabled = properties.getBoolean(REPLACE_ENABLED);
+        this.ioMode = properties.getEnum(IO_MODE, IOMode.class);
+        this.maxMappedChunks = properties.getPositiveInt(MAX_MAPPED_CHUNKS);
     }
 
     /**
@@ -74,4 +90,29 @@ public class FileSystemStorageConfig {
     }
 
     //endregion
+
+    //region IOMode
+
+    /**
+     * Modes in which {@link FileSystemChunkStorage} performs I/O on chunk files.
+     */
+    public enum IOMode {
+        /**
+         * Reads and writes go through the page cache.
+         */
+        BUFFERED,
+
+        /**
+         * Writes bypass the page cache using direct I/O with buffers aligned to the block size of the file store.
+         * Reads go through the page cache.
+         */
+        DIRECT,
+
+        /**
+         * Reads are served from memory mapped chunk files. Writes go through the page cache.
+         */
+        MMAP
+    }
+
+    //endregion
 }
@@ -16,6 +16,7 @@
 package io.pravega.storage.filesystem;
 
 import com.google.common.collect.ImmutableSet;
+import com.sun.nio.file.ExtendedOpenOption;
 
 import java.io.File;
 import java.io.IOException;
@@ -119,6 +120,27 @@ public class FileSystemWrapper {
         return FileChannel.open(path, openOption);
     }
 
+    /**
+     * Creates a {@link FileChannel} for given path that can be read and written using direct I/O, bypassing the page cache.
+     * All I/O on the returned channel must use buffers, positions and lengths aligned to {@link #getBlockSize(Path)}.
+     * @param path File path.
+     * @return FileChannel opened for direct I/O.
+     * @throws IOException Exception thrown by file system call.
+     */
+    FileChannel getDirectFileChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, ExtendedOpenOption.DIRECT);
+    }
+
+    /**
+     * Gets the block size of the file store where the given file is located.
+     * @param path File path.
+     * @return Block size in bytes.
+     * @throws IOException Exception thrown by file system call.
+     */
+    int getBlockSize(Path path) throws IOException {
+        return Math.toIntExact(Files.getFileStore(path).getBlockSize());
+    }
+
     /**
      * Gets the size of file in bytes.
      * @param path File path.
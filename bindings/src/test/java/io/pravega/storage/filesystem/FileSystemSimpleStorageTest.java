@@ -20,11 +20,18 @@ import io.pravega.segmentstore.storage.chunklayer.ChunkStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SimpleStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SystemJournalTests;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import java.util.concurrent.Executor;
 
 import static org.junit.Assert.assertEquals;
@@ -34,14 +41,32 @@ import static org.junit.Assert.assertEquals;
  */
 public class FileSystemSimpleStorageTest extends SimpleStorageTests {
     private static ChunkStorage newChunkStorage(Executor executor) throws IOException {
+        return newChunkStorage(executor, FileSystemStorageConfig.IOMode.BUFFERED);
+    }
+
+    private static ChunkStorage newChunkStorage(Executor executor, FileSystemStorageConfig.IOMode ioMode) throws IOException {
         File baseDir = Files.createTempDirectory("test_nfs").toFile().getAbsoluteFile();
         return new FileSystemChunkStorage(FileSystemStorageConfig
                 .builder()
                 .with(FileSystemStorageConfig.ROOT, baseDir.getAbsolutePath())
+                .with(FileSystemStorageConfig.IO_MODE, ioMode)
                 .build(),
                 executor);
     }
 
+    private static boolean isDirectIOSupported() {
+        try {
+            Path path = Files.createTempFile("test_direct_io", null);
+            try (FileChannel channel = new FileSystemWrapper().getDirectFileChannel(path)) {
+                return channel.isOpen();
+            } finally {
+                Files.delete(path);
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
     @Override
     protected ChunkStorage getChunkStorage()  throws Exception {
         return newChunkStorage(executorService());
@@ -79,6 +104,56 @@ public class FileSystemSimpleStorageTest extends SimpleStorageTests {
         }
     }
 
+    /**
+     * {@link ChunkStorageTests} tests for {@link FileSystemChunkStorage} using {@link FileSystemStorageConfig.IOMode#MMAP}.
+     */
+    public static class FileSystemMappedChunkStorageTests extends FileSystemChunkStorageTests {
+        @Override
+        protected ChunkStorage createChunkStorage() throws Exception {
+            return newChunkStorage(executorService(), FileSystemStorageConfig.IOMode.MMAP);
+        }
+
+        /**
+         * Test that mappings are extended as chunks grow and unmapped when replaced or when chunks are deleted.
+         */
+        @Test
+        public void testMappedReads() {
+            val storage = (FileSystemChunkStorage) getChunkStorage();
+            val data = new byte[100];
+            new Random(0).nextBytes(data);
+            val handle = storage.create("test").join();
+            storage.write(handle, 0, 50, new ByteArrayInputStream(data, 0, 50)).join();
+
+            val buffer = new byte[100];
+            Assert.assertEquals(50, (int) storage.read(handle, 0, 50, buffer, 0).join());
+            Assert.assertEquals(1, storage.getMappedChunkCount());
+            Assert.assertEquals(0, storage.getUnmappedChunkCount());
+
+            // Read past the end of the existing mapping.
+            storage.write(handle, 50, 50, new ByteArrayInputStream(data, 50, 50)).join();
+            Assert.assertEquals(60, (int) storage.read(handle, 40, 60, buffer, 40).join());
+            Assert.assertArrayEquals(data, buffer);
+            Assert.assertEquals(1, storage.getMappedChunkCount());
+            Assert.assertEquals("The replaced mapping should have been unmapped.", 1, storage.getUnmappedChunkCount());
+
+            storage.delete(handle).join();
+            Assert.assertEquals(0, storage.getMappedChunkCount());
+            Assert.assertEquals("The mapping should have been unmapped on delete.", 2, storage.getUnmappedChunkCount());
+        }
+    }
+
+    /**
+     * {@link ChunkStorageTests} tests for {@link FileSystemChunkStorage} using {@link FileSystemStorageConfig.IOMode#DIRECT}.
+     * Skipped if the file system used for temporary files does not support direct I/O.
+     */
+    public static class FileSystemDirectChunkStorageTests extends FileSystemChunkStorageTests {
+        @Override
+        protected ChunkStorage createChunkStorage() throws Exception {
+            Assume.assumeTrue("Direct I/O is not supported.", isDirectIOSupported());
+            return newChunkStorage(executorService(), FileSystemStorageConfig.IOMode.DIRECT);
+        }
+    }
+
     /**
      * {@link SystemJournalTests} tests for {@link FileSystemChunkStorage} based {@link io.pravega.segmentstore.storage.Storage}.
      */
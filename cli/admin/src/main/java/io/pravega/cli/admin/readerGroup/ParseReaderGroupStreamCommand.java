@@ -23,6 +23,7 @@ import io.pravega.client.admin.impl.ReaderGroupManagerImpl;
 import io.pravega.client.connection.impl.ConnectionPool;
 import io.pravega.client.control.impl.Controller;
 import io.pravega.client.state.impl.UpdateOrInitSerializer;
+import io.pravega.client.stream.impl.EventCompressor;
 import io.pravega.client.stream.impl.StreamSegments;
 import io.pravega.controller.server.SegmentHelper;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
@@ -56,6 +57,7 @@ public class ParseReaderGroupStreamCommand extends AdminCommand {
     private final static int HEADER = WireCommands.TYPE_SIZE;
     private final static int LENGTH = WireCommands.TYPE_PLUS_LENGTH_SIZE - WireCommands.TYPE_SIZE;
     private final static int TYPE = WireCommandType.EVENT.getCode();
+    private final static int COMPRESSED_TYPE = WireCommandType.COMPRESSED_EVENT.getCode();
     private final static int REQUEST_TIMEOUT_SECONDS = 10;
     private final GrpcAuthHelper authHelper;
 
@@ -137,13 +139,14 @@ public class ParseReaderGroupStreamCommand extends AdminCommand {
             long offset = startOffset;
             while (fileInputStream.available() > 0) {
                 // read type
-                // type should be 0 as Wirecommand.Event type is 0
+                // type should be 0 as Wirecommand.Event type is 0, or -7 if the event has been compressed.
                 byte[] type = new byte[HEADER];
                 int read = fileInputStream.read(type);
                 assertEquals("should read 4 bytes header", read, HEADER);
                 ByteBuffer b = ByteBuffer.wrap(type);
                 int t = b.getInt();
-                assertEquals("Wirecommand.Event type should be 0", t, TYPE);
+                Preconditions.checkState(t == TYPE || t == COMPRESSED_TYPE,
+                        "Unexpected WireCommand type %s at offset %s; expected Event (%s) or CompressedEvent (%s).", t, offset, TYPE, COMPRESSED_TYPE);
 
                 // read length
                 byte[] len = new byte[LENGTH];
@@ -156,6 +159,9 @@ public class ParseReaderGroupStreamCommand extends AdminCommand {
                 read = fileInputStream.read(payload);
                 assertEquals("read payload", read, eventLength);
                 b = ByteBuffer.wrap(payload);
+                if (t == COMPRESSED_TYPE) {
+                    b = EventCompressor.decompress(b);
+                }
 
                 val serializer = new UpdateOrInitSerializer<>(new ReaderGroupManagerImpl.ReaderGroupStateUpdatesSerializer(), new ReaderGroupManagerImpl.ReaderGroupStateInitSerializer());
                 val result = serializer.deserialize(b);
@@ -18,6 +18,7 @@ package io.pravega.client;
 import com.google.common.annotations.Beta;
 import io.pravega.client.admin.StreamInfo;
 import io.pravega.client.admin.StreamManager;
+import io.pravega.client.batch.SegmentChunk;
 import io.pravega.client.batch.SegmentIterator;
 import io.pravega.client.batch.SegmentRange;
 import io.pravega.client.batch.StreamSegmentsIterator;
@@ -31,6 +32,7 @@ import io.pravega.client.stream.EventStreamReader;
 import io.pravega.client.stream.Serializer;
 import io.pravega.client.stream.Stream;
 import io.pravega.client.stream.StreamCut;
+import io.pravega.common.util.AsyncIterator;
 import java.util.List;
 import lombok.val;
 
@@ -90,6 +92,43 @@ public interface BatchClientFactory extends AutoCloseable {
      */
     <T> SegmentIterator<T> readSegment(SegmentRange segment, Serializer<T> deserializer);
 
+    /**
+     * Reads all the data in the given stream between fromStreamCut and toStreamCut, reading up to the given number of
+     * segments in parallel. Each segment is read sequentially using large reads from the Segment Store that owns it.
+     * Reads are only issued as the returned iterator is consumed, so no more than a few chunks per segment being read
+     * are ever held in memory.
+     * 
+     * Passing StreamCut.UNBOUNDED or null to fromStreamCut and toStreamCut will result in using the current start of
+     * stream and the current end of stream respectively.
+     * 
+     * The chunks of each segment are returned in order, but the chunks of different segments are interleaved. The
+     * connections used to read a segment are released once it has been read; if the returned iterator is not consumed
+     * to the end, they are released when this factory is closed.
+     *
+     * @param stream The stream.
+     * @param fromStreamCut Starting stream cut.
+     * @param toStreamCut End stream cut.
+     * @param concurrency The maximum number of segments to read in parallel.
+     * @return An iterator over the raw data of the segments, which returns null once all the data has been read.
+     */
+    AsyncIterator<SegmentChunk> exportSegments(Stream stream, StreamCut fromStreamCut, StreamCut toStreamCut, int concurrency);
+
+    /**
+     * Same as {@link #exportSegments(Stream, StreamCut, StreamCut, int)}, but returns the events contained in the
+     * segments rather than their raw data. Events from the same segment are returned in order, but those from different
+     * segments are interleaved.
+     *
+     * @param <T> The type of events written to the stream.
+     * @param stream The stream.
+     * @param fromStreamCut Starting stream cut.
+     * @param toStreamCut End stream cut.
+     * @param deserializer A deserializer to be used to parse events.
+     * @param concurrency The maximum number of segments to read in parallel.
+     * @return An iterator over the events, which returns null once all the events have been read.
+     */
+    <T> AsyncIterator<T> exportEvents(Stream stream, StreamCut fromStreamCut, StreamCut toStreamCut, Serializer<T> deserializer,
+                                      int concurrency);
+
     /**
      * Closes the client factory. This will close any connections created through it.
      * @see java.lang.AutoCloseable#close()
@@ -162,6 +162,25 @@ public class ClientConfig implements Serializable {
      */
     private final MetricListener metricListener;
 
+    /**
+     * Whether to connect to the Segment Store using non-blocking sockets. These multiplex all connections over a small,
+     * fixed set of threads, instead of dedicating a thread to each connection, which is preferable for processes that
+     * open a large number of connections. Not supported with TLS; if TLS is enabled, this setting is ignored.
+     *
+     * @param enableNioConnections Whether to use non-blocking connections to the Segment Store.
+     * @return Whether to use non-blocking connections to the Segment Store.
+     */
+    private final boolean enableNioConnections;
+
+    /**
+     * The number of threads to multiplex non-blocking connections over (see {@link #isEnableNioConnections()}). If not
+     * positive, half the number of available processors is used.
+     *
+     * @param nioThreadCount The number of threads to multiplex non-blocking connections over.
+     * @return The number of threads to multiplex non-blocking connections over.
+     */
+    private final int nioThreadCount;
+
     /**
      * Returns whether TLS is enabled for client-to-server (Controller and Segment Store) communications.
      *
@@ -291,7 +310,7 @@ public class ClientConfig implements Serializable {
             }
             return new ClientConfig(controllerURI, credentials, trustStore, validateHostName, maxConnectionsPerSegmentStore, connectTimeoutMilliSec,
                     isDefaultMaxConnections, deriveTlsEnabledFromControllerURI, enableTlsToController,
-                    enableTlsToSegmentStore, metricListener);
+                    enableTlsToSegmentStore, metricListener, enableNioConnections, nioThreadCount);
         }
 
         private boolean isValidScheme(String scheme) {
@@ -0,0 +1,46 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.batch;
+
+import com.google.common.annotations.Beta;
+import java.nio.ByteBuffer;
+import lombok.Data;
+
+/**
+ * Please note this is an experimental API.
+ * 
+ * A contiguous piece of the raw data of a segment, as returned by
+ * {@link io.pravega.client.BatchClientFactory#exportSegments}. Chunks are not aligned to event boundaries: the data is
+ * exactly what is stored in the segment, including the headers that frame each event.
+ */
+@Beta
+@Data
+public final class SegmentChunk {
+    /**
+     * The range being exported that this chunk belongs to.
+     */
+    private final SegmentRange segmentRange;
+
+    /**
+     * The offset within the segment of the first byte of {@link #data}.
+     */
+    private final long offset;
+
+    /**
+     * The data.
+     */
+    private final ByteBuffer data;
+}
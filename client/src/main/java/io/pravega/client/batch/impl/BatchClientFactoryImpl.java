@@ -18,11 +18,14 @@ package io.pravega.client.batch.impl;
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
 import io.pravega.auth.AuthenticationException;
 import io.pravega.auth.TokenExpiredException;
 import io.pravega.client.BatchClientFactory;
 import io.pravega.client.ClientConfig;
 import io.pravega.client.admin.impl.StreamCutHelper;
+import io.pravega.client.batch.SegmentChunk;
 import io.pravega.client.batch.SegmentIterator;
 import io.pravega.client.batch.SegmentRange;
 import io.pravega.client.batch.StreamSegmentsIterator;
@@ -50,12 +53,14 @@ import io.pravega.client.stream.impl.StreamSegmentSuccessors;
 import io.pravega.client.stream.impl.StreamSegmentsWithPredecessors;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.Retry;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.Reply;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.StreamSegmentInfo;
 import io.pravega.shared.security.auth.AccessOperation;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -66,6 +71,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.SneakyThrows;
 import lombok.val;
 import lombok.extern.slf4j.Slf4j;
@@ -112,6 +118,28 @@ public class BatchClientFactoryImpl implements BatchClientFactory {
                 segment.asImpl().getStartOffset(), segment.asImpl().getEndOffset());
     }
 
+    @Override
+    public AsyncIterator<SegmentChunk> exportSegments(final Stream stream, final StreamCut fromStreamCut, final StreamCut toStreamCut,
+                                                      final int concurrency) {
+        return createExporter(stream, fromStreamCut, toStreamCut, concurrency);
+    }
+
+    @Override
+    public <T> AsyncIterator<T> exportEvents(final Stream stream, final StreamCut fromStreamCut, final StreamCut toStreamCut,
+                                             final Serializer<T> deserializer, final int concurrency) {
+        Preconditions.checkNotNull(deserializer, "deserializer");
+        return new EventExporter<>(createExporter(stream, fromStreamCut, toStreamCut, concurrency), deserializer);
+    }
+
+    private SegmentExporter createExporter(final Stream stream, final StreamCut fromStreamCut, final StreamCut toStreamCut,
+                                           final int concurrency) {
+        Preconditions.checkNotNull(stream, "stream");
+        Preconditions.checkArgument(concurrency > 0, "concurrency must be a positive number.");
+        List<SegmentRange> segments = Lists.newArrayList(listSegments(stream, Optional.ofNullable(fromStreamCut),
+                                                                      Optional.ofNullable(toStreamCut)).getIterator());
+        return new SegmentExporter(segments, concurrency, SegmentExporter.DEFAULT_READ_LENGTH, SegmentChunkReader::new);
+    }
+
     private StreamSegmentsIterator listSegments(final Stream stream, final Optional<StreamCut> startStreamCut,
                                                 final Optional<StreamCut> endStreamCut) {
         val startCut = startStreamCut.filter(sc -> !sc.equals(StreamCut.UNBOUNDED));
@@ -353,4 +381,74 @@ public class BatchClientFactoryImpl implements BatchClientFactory {
                     + klass.getName());
         }
     }
+
+    /**
+     * Reads a segment for a {@link SegmentExporter} by sending ReadSegment requests directly to the Segment Store that
+     * owns it, over a single connection that is re-established if it fails.
+     */
+    private final class SegmentChunkReader implements SegmentExporter.ChunkReader {
+        private final Segment segment;
+        private final DelegationTokenProvider tokenProvider;
+        @GuardedBy("this")
+        private RawClient connection;
+
+        SegmentChunkReader(SegmentRange range) {
+            this.segment = range.asImpl().getSegment();
+            this.tokenProvider = DelegationTokenProviderFactory.create(controller, segment, AccessOperation.READ);
+        }
+
+        @Override
+        public CompletableFuture<ByteBuffer> read(long offset, int length) {
+            return retryWithBackoff.retryWhen(t -> {
+                Throwable ex = Exceptions.unwrap(t);
+                if (ex instanceof ConnectionFailedException || ex instanceof TokenExpiredException) {
+                    log.info("Failure while reading segment {} at offset {}: {}. Retrying", segment, offset, ex.getMessage());
+                    return true;
+                }
+                return false;
+            }).runAsync(() -> {
+                RawClient client = getConnection();
+                long requestId = client.getFlow().getNextSequenceNumber();
+                return tokenProvider.retrieveToken()
+                                    .thenCompose(token -> client.sendRequest(requestId, new WireCommands.ReadSegment(segment.getScopedName(),
+                                                                                                                     offset, length, token, requestId)))
+                                    .thenApply(this::toData);
+            }, connectionPool.getInternalExecutor());
+        }
+
+        @SneakyThrows(SegmentTruncatedException.class)
+        private ByteBuffer toData(Reply reply) {
+            if (reply instanceof WireCommands.SegmentIsTruncated) {
+                throw new SegmentTruncatedException(reply.toString());
+            }
+            WireCommands.SegmentRead segmentRead = transformReply(reply, WireCommands.SegmentRead.class);
+            try {
+                ByteBuf data = segmentRead.getData();
+                if (data.readableBytes() == 0 && segmentRead.isEndOfSegment()) {
+                    return null;
+                }
+                ByteBuffer result = ByteBuffer.allocate(data.readableBytes());
+                data.readBytes(result);
+                result.flip();
+                return result;
+            } finally {
+                segmentRead.release();
+            }
+        }
+
+        private synchronized RawClient getConnection() {
+            if (connection == null || connection.isClosed()) {
+                connection = new RawClient(controller, connectionPool, segment);
+            }
+            return connection;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.batch.impl;
+
+import io.pravega.client.batch.SegmentChunk;
+import io.pravega.client.batch.SegmentRange;
+import io.pravega.client.stream.Serializer;
+import io.pravega.client.stream.impl.EventCompressor;
+import io.pravega.common.util.AsyncIterator;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parses the {@link SegmentChunk}s returned by a {@link SegmentExporter} into events.
+ * 
+ * Events may span chunks, so the trailing partial event of each chunk is kept until the next chunk of the same segment
+ * arrives. Since a {@link SegmentExporter} returns the chunks of any one segment in order, this is enough to recover
+ * every event.
+ *
+ * @param <T> The type of the events.
+ */
+@RequiredArgsConstructor
+class EventExporter<T> implements AsyncIterator<T>, AutoCloseable {
+    private final SegmentExporter chunks;
+    private final Serializer<T> deserializer;
+    private final ArrayDeque<T> events = new ArrayDeque<>();
+    private final Map<SegmentRange, ByteBuffer> partialEvents = new HashMap<>();
+
+    @Override
+    public CompletableFuture<T> getNext() {
+        T event = events.poll();
+        if (event != null) {
+            return CompletableFuture.completedFuture(event);
+        }
+        return chunks.getNext().thenCompose(chunk -> {
+            if (chunk == null) {
+                if (!partialEvents.isEmpty()) {
+                    throw new InvalidMessageException("Segment data ended in the middle of an event: " + partialEvents.keySet());
+                }
+                return CompletableFuture.completedFuture(null);
+            }
+            parse(chunk);
+            return getNext();
+        });
+    }
+
+    private void parse(SegmentChunk chunk) {
+        ByteBuffer data = chunk.getData();
+        ByteBuffer partial = partialEvents.remove(chunk.getSegmentRange());
+        if (partial != null) {
+            ByteBuffer combined = ByteBuffer.allocate(partial.remaining() + data.remaining());
+            combined.put(partial).put(data).flip();
+            data = combined;
+        }
+        while (data.remaining() >= WireCommands.TYPE_PLUS_LENGTH_SIZE) {
+            int type = data.getInt(data.position());
+            int length = data.getInt(data.position() + Integer.BYTES);
+            if (type != WireCommandType.EVENT.getCode() && type != WireCommandType.COMPRESSED_EVENT.getCode()) {
+                throw new InvalidMessageException("Event was of wrong type: " + type);
+            }
+            if (length < 0) {
+                throw new InvalidMessageException("Event of invalid length: " + length);
+            }
+            if (data.remaining() < WireCommands.TYPE_PLUS_LENGTH_SIZE + length) {
+                break;
+            }
+            data.position(data.position() + WireCommands.TYPE_PLUS_LENGTH_SIZE);
+            ByteBuffer payload = data.slice();
+            payload.limit(length);
+            data.position(data.position() + length);
+            if (type == WireCommandType.COMPRESSED_EVENT.getCode()) {
+                payload = EventCompressor.decompress(payload);
+            }
+            events.add(deserializer.deserialize(payload));
+        }
+        if (data.hasRemaining()) {
+            partialEvents.put(chunk.getSegmentRange(), data);
+        }
+    }
+
+    @Override
+    public void close() {
+        chunks.close();
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.batch.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.client.batch.SegmentChunk;
+import io.pravega.client.batch.SegmentRange;
+import io.pravega.common.Exceptions;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.AsyncIterator;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads a set of {@link SegmentRange}s in parallel and returns their data as {@link SegmentChunk}s.
+ * 
+ * Up to a given number of segments are read at the same time. Each of them is read sequentially from start to end using
+ * large reads, one at a time, so the chunks of any one segment are returned in order (the chunks of different segments
+ * are interleaved). A segment is only started once another one has been read completely.
+ * 
+ * Reading is driven by the consumer: no more than twice as many chunks as segments being read are ever buffered or
+ * requested, so reads are only issued as fast as {@link #getNext()} is called.
+ */
+@Slf4j
+class SegmentExporter implements AsyncIterator<SegmentChunk>, AutoCloseable {
+    static final int DEFAULT_READ_LENGTH = 1024 * 1024;
+
+    private final Function<SegmentRange, ChunkReader> readerFactory;
+    private final int concurrency;
+    private final int readLength;
+    private final int maxBufferedChunks;
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private final ArrayDeque<SegmentRange> pendingSegments;
+    @GuardedBy("lock")
+    private final ArrayDeque<ActiveSegment> idleSegments = new ArrayDeque<>();
+    @GuardedBy("lock")
+    private final Set<ActiveSegment> activeSegments = new HashSet<>();
+    @GuardedBy("lock")
+    private final ArrayDeque<SegmentChunk> chunks = new ArrayDeque<>();
+    @GuardedBy("lock")
+    private CompletableFuture<SegmentChunk> nextChunk;
+    @GuardedBy("lock")
+    private int readsInFlight;
+    @GuardedBy("lock")
+    private Throwable failure;
+    @GuardedBy("lock")
+    private boolean closed;
+
+    /**
+     * Creates a new instance of the SegmentExporter class.
+     *
+     * @param segments      The segments to read.
+     * @param concurrency   The maximum number of segments to read at the same time.
+     * @param readLength    The maximum number of bytes to request in a single read.
+     * @param readerFactory Creates a {@link ChunkReader} for a segment. It is closed once the segment has been read.
+     */
+    SegmentExporter(List<SegmentRange> segments, int concurrency, int readLength, Function<SegmentRange, ChunkReader> readerFactory) {
+        Preconditions.checkArgument(concurrency > 0, "concurrency must be a positive number.");
+        Preconditions.checkArgument(readLength > 0, "readLength must be a positive number.");
+        this.pendingSegments = new ArrayDeque<>(segments);
+        this.concurrency = concurrency;
+        this.readLength = readLength;
+        this.maxBufferedChunks = 2 * concurrency;
+        this.readerFactory = readerFactory;
+    }
+
+    /**
+     * Gets the next chunk. The returned future completes with null once all the segments have been read.
+     * As with all {@link AsyncIterator}s, this must not be called again before the previously returned future completes.
+     *
+     * @return A future for the next chunk.
+     */
+    @Override
+    public CompletableFuture<SegmentChunk> getNext() {
+        CompletableFuture<SegmentChunk> result;
+        synchronized (lock) {
+            Preconditions.checkState(nextChunk == null, "getNext() must not be called before the previous call completes.");
+            if (closed) {
+                result = Futures.failedFuture(new ObjectClosedException(this));
+            } else if (failure != null) {
+                result = Futures.failedFuture(failure);
+            } else if (!chunks.isEmpty()) {
+                result = CompletableFuture.completedFuture(chunks.poll());
+            } else if (isDone()) {
+                result = CompletableFuture.completedFuture(null);
+            } else {
+                result = new CompletableFuture<>();
+                nextChunk = result;
+            }
+        }
+        issueReads();
+        return result;
+    }
+
+    @GuardedBy("lock")
+    private boolean isDone() {
+        return pendingSegments.isEmpty() && activeSegments.isEmpty() && chunks.isEmpty();
+    }
+
+    private void issueReads() {
+        List<ActiveSegment> toRead = new ArrayList<>();
+        synchronized (lock) {
+            while (!closed && failure == null && chunks.size() + readsInFlight < maxBufferedChunks) {
+                ActiveSegment segment = idleSegments.poll();
+                if (segment == null) {
+                    segment = startNextSegment();
+                    if (segment == null) {
+                        break;
+                    }
+                }
+                readsInFlight++;
+                toRead.add(segment);
+            }
+        }
+        toRead.forEach(this::read);
+    }
+
+    @GuardedBy("lock")
+    private ActiveSegment startNextSegment() {
+        while (activeSegments.size() < concurrency && !pendingSegments.isEmpty()) {
+            SegmentRange range = pendingSegments.poll();
+            if (range.getStartOffset() < range.getEndOffset()) {
+                log.debug("Starting export of {}.", range);
+                ActiveSegment segment = new ActiveSegment(range, readerFactory.apply(range));
+                segment.offset = range.getStartOffset();
+                activeSegments.add(segment);
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    private void read(ActiveSegment segment) {
+        int length = (int) Math.min(readLength, segment.range.getEndOffset() - segment.offset);
+        segment.reader.read(segment.offset, length)
+                      .whenComplete((data, ex) -> readComplete(segment, data, ex));
+    }
+
+    private void readComplete(ActiveSegment segment, ByteBuffer data, Throwable ex) {
+        CompletableFuture<SegmentChunk> toComplete = null;
+        SegmentChunk chunk = null;
+        boolean segmentDone = false;
+        synchronized (lock) {
+            readsInFlight--;
+            if (closed) {
+                return;
+            }
+            if (ex != null) {
+                if (failure == null) {
+                    failure = Exceptions.unwrap(ex);
+                }
+                log.warn("Export of {} failed at offset {}.", segment.range, segment.offset, failure);
+            } else {
+                if (data != null && data.hasRemaining()) {
+                    chunk = new SegmentChunk(segment.range, segment.offset, data);
+                    segment.offset += data.remaining();
+                }
+                // A null result means the end of the segment was reached before the end of the range.
+                segmentDone = data == null || segment.offset >= segment.range.getEndOffset();
+                if (segmentDone) {
+                    log.debug("Completed export of {}.", segment.range);
+                    activeSegments.remove(segment);
+                } else {
+                    idleSegments.add(segment);
+                }
+            }
+
+            if (nextChunk != null && (failure != null || chunk != null || isDone())) {
+                toComplete = nextChunk;
+                nextChunk = null;
+            } else if (chunk != null) {
+                chunks.add(chunk);
+            }
+        }
+
+        if (segmentDone) {
+            segment.reader.close();
+        }
+        if (toComplete != null) {
+            if (ex != null) {
+                toComplete.completeExceptionally(Exceptions.unwrap(ex));
+            } else {
+                toComplete.complete(chunk);
+            }
+        }
+        issueReads();
+    }
+
+    @Override
+    public void close() {
+        List<ActiveSegment> toClose;
+        CompletableFuture<SegmentChunk> toFail;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(activeSegments);
+            activeSegments.clear();
+            idleSegments.clear();
+            pendingSegments.clear();
+            chunks.clear();
+            toFail = nextChunk;
+            nextChunk = null;
+        }
+        toClose.forEach(s -> s.reader.close());
+        if (toFail != null) {
+            toFail.completeExceptionally(new ObjectClosedException(this));
+        }
+    }
+
+    /**
+     * Reads data from a single segment.
+     */
+    interface ChunkReader extends AutoCloseable {
+        /**
+         * Reads from the segment.
+         *
+         * @param offset The offset to read at.
+         * @param length The maximum number of bytes to read.
+         * @return A future with the data read, which may be shorter than requested, or null if the end of the segment
+         * has been reached.
+         */
+        CompletableFuture<ByteBuffer> read(long offset, int length);
+
+        @Override
+        void close();
+    }
+
+    @RequiredArgsConstructor
+    private static final class ActiveSegment {
+        private final SegmentRange range;
+        private final ChunkReader reader;
+        // Only updated while holding the exporter's lock, and never while a read is in flight.
+        private long offset;
+    }
+}
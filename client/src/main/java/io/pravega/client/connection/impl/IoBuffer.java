@@ -24,6 +24,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -34,6 +35,8 @@ import static com.google.common.base.Preconditions.checkArgument;
  * This is a utility class for repeatedly reading data from an input stream, that tries to buffer data in a way that minimizes allocations.
  * It is intended that {@link #getBuffOfSize(InputStream, int)} is called in a loop to read chunks of data from the provided input stream.
  * This class does not support reading chunks larger than {@link WireCommands#MAX_WIRECOMMAND_SIZE}.
+ * Non-blocking channels are supported via {@link #getBuffOfSize(ReadableByteChannel, ByteBuffer, int)}, which never waits
+ * for data to arrive.
  */
 @NotThreadSafe
 class IoBuffer {
@@ -41,6 +44,10 @@ class IoBuffer {
     @VisibleForTesting
     @Getter(AccessLevel.PACKAGE)
     private ByteBuffer buffer = null;
+    /**
+     * A chunk that is being accumulated by {@link #getBuffOfSize(ReadableByteChannel, ByteBuffer, int)}.
+     */
+    private ByteBuffer partial = null;
     
     private ByteBuf sliceOut(int size) {
         ByteBuf result = Unpooled.wrappedBuffer(buffer.array(), buffer.arrayOffset() + buffer.position(), size);
@@ -88,5 +95,71 @@ class IoBuffer {
             return Unpooled.wrappedBuffer(first, Unpooled.wrappedBuffer(remaining));
         }
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * Non-blocking version of {@link #getBuffOfSize(InputStream, int)}. Obtain a ByteBuff of size `size` from the data
+     * already buffered and whatever can be read from the provided channel without blocking. If not enough data is
+     * available yet, null is returned and the data read so far is retained; the call should then be repeated (with the
+     * same size) once more data is available.
+     *
+     * @param in         The channel to read from.
+     * @param readBuffer A scratch buffer to read into. Only the data that was actually read is retained, so this may be
+     *                   shared by all the channels serviced by the same thread.
+     * @param size       The number of bytes to obtain.
+     * @return A ByteBuf of size `size`, or null if not enough data is available yet.
+     * @throws EOFException If the end of the channel has been reached.
+     * @throws IOException  If the read from the channel failed.
+     */
+    public ByteBuf getBuffOfSize(ReadableByteChannel in, ByteBuffer readBuffer, int size) throws IOException {
+        checkArgument(size <= maxBufferSize, "Requested buffer size {} is larger than max allowed {}", size, maxBufferSize);
+        if (size == 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+        if (partial != null) {
+            checkArgument(partial.capacity() == size, "Requested buffer size {} does not match pending read of size {}", size, partial.capacity());
+            return fillPartial(in);
+        }
+        if (buffer == null && !readAvailable(in, readBuffer)) {
+            return null;
+        }
+
+        if (buffer.remaining() >= size) {
+            return sliceOut(size);
+        } else {
+            // Not enough data for this chunk yet. Accumulate it directly into a buffer of the appropriate size.
+            partial = ByteBuffer.allocate(size);
+            partial.put(buffer);
+            buffer = null;
+            return fillPartial(in);
+        }
+    }
+
+    private boolean readAvailable(ReadableByteChannel in, ByteBuffer readBuffer) throws IOException {
+        readBuffer.clear();
+        int read = in.read(readBuffer);
+        if (read <= -1) {
+            throw new EOFException();
+        } else if (read == 0) {
+            return false;
+        }
+        readBuffer.flip();
+        byte[] newBuffer = new byte[read];
+        readBuffer.get(newBuffer);
+        buffer = ByteBuffer.wrap(newBuffer);
+        return true;
+    }
+
+    private ByteBuf fillPartial(ReadableByteChannel in) throws IOException {
+        while (partial.hasRemaining()) {
+            int read = in.read(partial);
+            if (read <= -1) {
+                throw new EOFException();
+            } else if (read == 0) {
+                return null;
+            }
+        }
+        ByteBuf result = Unpooled.wrappedBuffer(partial.array());
+        partial = null;
+        return result;
+    }
+}
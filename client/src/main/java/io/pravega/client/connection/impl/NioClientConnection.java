@@ -0,0 +1,493 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.ClientConfig;
+import io.pravega.common.Exceptions;
+import io.pravega.shared.protocol.netty.Append;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.EnhancedByteBufInputStream;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.ReplyProcessor;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.pravega.client.connection.impl.TcpClientConnection.CONNECTION_TIMEOUT;
+import static io.pravega.client.connection.impl.TcpClientConnection.SOCKET_TIMEOUT_MS;
+import static io.pravega.client.connection.impl.TcpClientConnection.TCP_BUFFER_SIZE;
+import static io.pravega.common.io.StreamHelpers.closeQuietly;
+import static io.pravega.shared.protocol.netty.AppendBatchSizeTracker.MAX_BATCH_TIME_MILLIS;
+
+/**
+ * A {@link ClientConnection} over a non-blocking {@link SocketChannel}. As opposed from {@link TcpClientConnection}, which
+ * dedicates a thread to reading from each socket, the reads for all {@link NioClientConnection}s are multiplexed over the
+ * (small, fixed) set of threads of a {@link SelectorLoopGroup}. The {@link ReplyProcessor} is invoked on those threads,
+ * so it should not block.
+ *
+ * Writes are attempted on the caller's thread. Whatever does not fit in the socket's send buffer is queued and flushed by
+ * the {@link SelectorLoopGroup} once the channel becomes writable again; writers only block if too much data is queued
+ * (see {@link ChannelOutputStream}).
+ *
+ * This does not support TLS; see {@link SocketConnectionFactoryImpl}.
+ */
+@Slf4j
+public class NioClientConnection implements ClientConnection {
+    private final SocketChannel channel;
+    private final CommandEncoder encoder;
+    private final ConnectionReader reader;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final PravegaNodeUri location;
+    private final Runnable onClose;
+    private final ScheduledFuture<?> timeoutFuture;
+
+    private NioClientConnection(SocketChannel channel, CommandEncoder encoder, ConnectionReader reader, PravegaNodeUri location,
+                                Runnable onClose, ScheduledExecutorService executor) {
+        this.channel = checkNotNull(channel);
+        this.encoder = checkNotNull(encoder);
+        this.reader = checkNotNull(reader);
+        this.location = checkNotNull(location);
+        this.onClose = onClose;
+        this.timeoutFuture = executor.scheduleWithFixedDelay(new TcpClientConnection.TimeoutBatch(encoder),
+                                                             MAX_BATCH_TIME_MILLIS,
+                                                             MAX_BATCH_TIME_MILLIS,
+                                                             TimeUnit.MILLISECONDS);
+    }
+
+    @VisibleForTesting
+    static class ConnectionReader implements SelectorLoopGroup.ChannelHandler {
+        private final String name;
+        private final SocketChannel in;
+        private final ChannelOutputStream out;
+        private final ReplyProcessor callback;
+        private final FlowToBatchSizeTracker flowToBatchSizeTracker;
+        private final AtomicBoolean stop = new AtomicBoolean(false);
+        /**
+         * Held while processing data read from the channel, so that {@link #stop()} can wait for it to complete.
+         */
+        private final Object processLock = new Object();
+        @GuardedBy("processLock")
+        private final IoBuffer buffer = new IoBuffer();
+        @GuardedBy("processLock")
+        private WireCommandType pendingType;
+        @GuardedBy("processLock")
+        private int pendingLength;
+
+        ConnectionReader(String name, SocketChannel in, ChannelOutputStream out, ReplyProcessor callback,
+                         FlowToBatchSizeTracker flowToBatchSizeTracker) {
+            this.name = name;
+            this.in = in;
+            this.out = out;
+            this.callback = callback;
+            this.flowToBatchSizeTracker = flowToBatchSizeTracker;
+        }
+
+        @Override
+        public void processReadable(ByteBuffer readBuffer) {
+            synchronized (this.processLock) {
+                try {
+                    while (!stop.get()) {
+                        WireCommand command = readCommand(readBuffer);
+                        if (command == null || stop.get()) {
+                            // Either nothing more to read for now or stop has already been invoked, in which case we
+                            // ignore the message received from the channel.
+                            break;
+                        }
+                        if (command instanceof WireCommands.DataAppended) {
+                            WireCommands.DataAppended dataAppended = (WireCommands.DataAppended) command;
+                            flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(Flow.toFlowID(dataAppended.getRequestId())).recordAck(dataAppended.getEventNumber());
+                        }
+                        try {
+                            callback.process((Reply) command);
+                        } catch (Exception e) {
+                            callback.processingFailure(e);
+                        }
+                    }
+                } catch (EOFException e) {
+                    log.info("Closing NioClientConnection.Reader because end of input reached.");
+                    stop();
+                } catch (Exception e) {
+                    if (!stop.get()) {
+                        log.warn("Error processing data from server " + name, e);
+                    }
+                    stop();
+                }
+            }
+        }
+
+        @Override
+        public void processWritable() {
+            try {
+                out.flushPending();
+            } catch (IOException e) {
+                if (!stop.get()) {
+                    log.warn("Error writing to server " + name, e);
+                }
+                stop();
+            }
+        }
+
+        /**
+         * Reads the next command from the channel, without blocking.
+         *
+         * @return The command, or null if it has not been fully received yet.
+         */
+        @GuardedBy("processLock")
+        private WireCommand readCommand(ByteBuffer readBuffer) throws IOException {
+            if (this.pendingType == null) {
+                ByteBuf header = this.buffer.getBuffOfSize(this.in, readBuffer, 8);
+                if (header == null) {
+                    return null;
+                }
+
+                int t = header.getInt(0);
+                WireCommandType type = WireCommands.getType(t);
+                if (type == null) {
+                    throw new InvalidMessageException("Unknown wire command: " + t);
+                }
+
+                int length = header.getInt(4);
+                if (length < 0 || length > WireCommands.MAX_WIRECOMMAND_SIZE) {
+                    throw new InvalidMessageException("Event of invalid length: " + length);
+                }
+                this.pendingType = type;
+                this.pendingLength = length;
+            }
+
+            ByteBuf payload = this.buffer.getBuffOfSize(this.in, readBuffer, this.pendingLength);
+            if (payload == null) {
+                return null;
+            }
+
+            WireCommandType type = this.pendingType;
+            this.pendingType = null;
+            return type.readFrom(new EnhancedByteBufInputStream(payload), this.pendingLength);
+        }
+
+        @Override
+        public void stop() {
+            if (stop.getAndSet(true)) {
+                return;
+            }
+            // close the channel to ensure no further data can be received.
+            closeQuietly(in, log, "Got error while shutting down reader {}. ", name);
+            synchronized (this.processLock) {
+                // Wait until we have completed the current call to the reply processors (if any). If invoked from the
+                // reply processor itself, this lock is re-entrant.
+                callback.connectionDropped();
+            }
+        }
+    }
+
+    /**
+     * Writes to a non-blocking {@link SocketChannel}. Whatever the socket does not accept right away is copied into a
+     * queue, which is flushed from the {@link SelectorLoopGroup} thread once the channel becomes writable (see
+     * {@link #flushPending()}).
+     *
+     * Once the queue holds {@link #MAX_PENDING_BYTES}, further writes block until it drains, failing with a
+     * {@link SocketTimeoutException} if it has not made any progress for {@link TcpClientConnection#SOCKET_TIMEOUT_MS}.
+     * While blocked, writers flush the queue themselves, as the {@link SelectorLoopGroup} thread may be waiting on them
+     * (for instance, if the {@link ReplyProcessor} is sending a command on this connection). Writes issued from the
+     * {@link SelectorLoopGroup} thread itself never block, since that would stall every other connection it services.
+     */
+    @VisibleForTesting
+    static final class ChannelOutputStream extends OutputStream {
+        @VisibleForTesting
+        static final int MAX_PENDING_BYTES = 4 * TCP_BUFFER_SIZE;
+        private static final long FLUSH_RETRY_MILLIS = 10;
+        private final SocketChannel channel;
+        private final int maxPendingBytes;
+        @GuardedBy("this")
+        private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+        @GuardedBy("this")
+        private long pendingBytes;
+        @GuardedBy("this")
+        private long lastProgressNanos;
+        private volatile SelectorLoopGroup.Registration registration;
+
+        ChannelOutputStream(SocketChannel channel) {
+            this(channel, MAX_PENDING_BYTES);
+        }
+
+        @VisibleForTesting
+        ChannelOutputStream(SocketChannel channel, int maxPendingBytes) {
+            Preconditions.checkArgument(maxPendingBytes > 0, "maxPendingBytes must be a positive integer.");
+            this.channel = checkNotNull(channel);
+            this.maxPendingBytes = maxPendingBytes;
+        }
+
+        void setRegistration(SelectorLoopGroup.Registration registration) {
+            this.registration = checkNotNull(registration);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            awaitPendingBelowLimit(len);
+            if (this.pending.isEmpty()) {
+                ByteBuffer source = ByteBuffer.wrap(b, off, len);
+                this.channel.write(source);
+                if (!source.hasRemaining()) {
+                    return;
+                }
+                this.lastProgressNanos = System.nanoTime();
+                // The caller may reuse its array once we return, so we need to copy whatever has not been written.
+                enqueue(Arrays.copyOfRange(b, source.position(), off + len));
+                requestWritable();
+            } else {
+                checkProgress();
+                // Queue behind the pending data to preserve ordering; it will be written by flushPending().
+                enqueue(Arrays.copyOfRange(b, off, off + len));
+            }
+        }
+
+        /**
+         * Blocks until the given number of bytes can be queued without exceeding the limit. A write that is larger than
+         * the limit on its own is let through once the queue is empty.
+         */
+        @GuardedBy("this")
+        private void awaitPendingBelowLimit(int len) throws IOException {
+            SelectorLoopGroup.Registration registration = this.registration;
+            if (registration != null && registration.isServicingThread()) {
+                return;
+            }
+            while (!this.pending.isEmpty() && this.pendingBytes + len > this.maxPendingBytes) {
+                checkProgress();
+                try {
+                    wait(FLUSH_RETRY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while writing to " + this.channel);
+                }
+                flushPending();
+            }
+        }
+
+        @GuardedBy("this")
+        private void checkProgress() throws SocketTimeoutException {
+            if (System.nanoTime() - this.lastProgressNanos > TimeUnit.MILLISECONDS.toNanos(SOCKET_TIMEOUT_MS)) {
+                throw new SocketTimeoutException("Timed out writing to " + this.channel);
+            }
+        }
+
+        @GuardedBy("this")
+        private void enqueue(byte[] data) {
+            this.pending.add(ByteBuffer.wrap(data));
+            this.pendingBytes += data.length;
+        }
+
+        /**
+         * Writes as much of the queued data as the channel accepts, without blocking. Invoked on the
+         * {@link SelectorLoopGroup} thread when the channel becomes writable.
+         */
+        synchronized void flushPending() throws IOException {
+            ByteBuffer head;
+            while ((head = this.pending.peek()) != null) {
+                int written = this.channel.write(head);
+                if (written > 0) {
+                    this.lastProgressNanos = System.nanoTime();
+                    this.pendingBytes -= written;
+                    notifyAll();
+                }
+                if (head.hasRemaining()) {
+                    requestWritable();
+                    return;
+                }
+                this.pending.poll();
+            }
+        }
+
+        @VisibleForTesting
+        synchronized boolean hasPending() {
+            return !this.pending.isEmpty();
+        }
+
+        @VisibleForTesting
+        synchronized long getPendingBytes() {
+            return this.pendingBytes;
+        }
+
+        private void requestWritable() {
+            SelectorLoopGroup.Registration registration = this.registration;
+            Preconditions.checkState(registration != null, "Channel not registered.");
+            registration.requestWritable();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Connects to the specified location.
+     *
+     * @param location      Location to connect to.
+     * @param clientConfig  config for socket. TLS is not supported.
+     * @param callback      ReplyProcessor for replies from the server.
+     * @param selectorGroup The {@link SelectorLoopGroup} to read from the socket with.
+     * @param executor      Thread pool to perform the connect in.
+     * @param onClose       A callback to be notified when this connection closes.
+     * @return A future for a new connection. If the connect attempt fails the future will be failed with a {@link ConnectionFailedException}
+     */
+    public static CompletableFuture<NioClientConnection> connect(PravegaNodeUri location, ClientConfig clientConfig, ReplyProcessor callback,
+                                                                 SelectorLoopGroup selectorGroup, ScheduledExecutorService executor, Runnable onClose) {
+        Preconditions.checkArgument(!clientConfig.isEnableTlsToSegmentStore(), "NioClientConnection does not support TLS.");
+        return CompletableFuture.supplyAsync(() -> {
+            SocketChannel channel = createChannel(location);
+            try {
+                FlowToBatchSizeTracker flowToBatchSizeTracker = new FlowToBatchSizeTracker();
+                ChannelOutputStream output = new ChannelOutputStream(channel);
+                ConnectionReader reader = new ConnectionReader(location.toString(), channel, output, callback, flowToBatchSizeTracker);
+                // We use the flow id on both CommandEncoder and ConnectionReader to locate AppendBatchSizeTrackers.
+                CommandEncoder encoder = new CommandEncoder(requestId ->
+                        flowToBatchSizeTracker.getAppendBatchSizeTrackerByFlowId(Flow.toFlowID(requestId)), null, output, callback, location);
+                output.setRegistration(selectorGroup.register(channel, reader));
+                return new NioClientConnection(channel, encoder, reader, location, onClose, executor);
+            } catch (Exception e) {
+                closeQuietly(channel, log, "Failed to close channel while failing.");
+                if (onClose != null) {
+                    onClose.run();
+                }
+                throw Exceptions.sneakyThrow(new ConnectionFailedException(e));
+            }
+        }, executor);
+    }
+
+    /**
+     * Creates a non-blocking channel connected to the provided endpoint.
+     * Note that this is a sync call even though it is called in an async context, as we want to honor the connection timeout.
+     * @throws ConnectionFailedException (Sneakily thrown) If the connect attempt fails.
+     */
+    private static SocketChannel createChannel(PravegaNodeUri location) {
+        SocketChannel result = null;
+        try {
+            result = SocketChannel.open();
+            Socket socket = result.socket();
+            socket.setSendBufferSize(TCP_BUFFER_SIZE);
+            socket.setReceiveBufferSize(TCP_BUFFER_SIZE);
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(location.getEndpoint(), location.getPort()), CONNECTION_TIMEOUT);
+            result.configureBlocking(false);
+            return result;
+        } catch (Exception e) {
+            if (result != null) {
+                closeQuietly(result, log, "Failed to close channel while failing.");
+            }
+            throw Exceptions.sneakyThrow(new ConnectionFailedException(e));
+        }
+    }
+
+    @Override
+    public void send(WireCommand cmd) throws ConnectionFailedException {
+        checkIfClosed();
+        try {
+            encoder.write(cmd);
+        } catch (IOException e) {
+            log.warn("Error writing to connection: {}", e.toString());
+            close();
+            throw new ConnectionFailedException(e);
+        }
+    }
+
+    @Override
+    public void send(Append append) throws ConnectionFailedException {
+        checkIfClosed();
+        try {
+            encoder.write(append);
+        } catch (IOException e) {
+            log.warn("Error writing to connection: {}", e.toString());
+            close();
+            throw new ConnectionFailedException(e);
+        }
+    }
+
+    private void checkIfClosed() throws ConnectionFailedException {
+        if (closed.get()) {
+            throw new ConnectionFailedException("Connection already closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            reader.stop();
+            timeoutFuture.cancel(false);
+            closeQuietly(channel, log, "Error closing NioClientConnection.channel");
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void sendAsync(List<Append> appends, CompletedCallback callback) {
+        try {
+            for (Append append : appends) {
+                encoder.write(append);
+            }
+            callback.complete(null);
+        } catch (IOException e) {
+            log.warn("Error writing to connection: {}", e.toString());
+            close();
+            callback.complete(new ConnectionFailedException(e));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NioClientConnection [location=" + location + ", isClosed=" + closed.get() + "]";
+    }
+
+    @Override
+    public PravegaNodeUri getLocation() {
+        return location;
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import static io.pravega.common.io.StreamHelpers.closeQuietly;
+
+/**
+ * A fixed set of threads, each owning a {@link Selector}, that multiplex the reads (and pending writes) from any number of
+ * non-blocking {@link SocketChannel}s (see {@link NioClientConnection}). Each registered channel is serviced by exactly one
+ * thread, so the {@link ChannelHandler} for a channel is never invoked concurrently.
+ *
+ * Nothing executed on these threads may block, since that would stall all the other channels serviced by the same thread.
+ */
+@Slf4j
+class SelectorLoopGroup implements AutoCloseable {
+    private static final ThreadFactory THREAD_FACTORY = ExecutorServiceHelpers.getThreadFactory("ClientSelectorLoop", (Thread.NORM_PRIORITY + Thread.MAX_PRIORITY) / 2);
+    private final SelectorLoop[] loops;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Creates a new instance of the SelectorLoopGroup class and starts its threads.
+     *
+     * @param threadCount The number of threads (and {@link Selector}s) to use.
+     */
+    @SneakyThrows(IOException.class)
+    SelectorLoopGroup(int threadCount) {
+        Preconditions.checkArgument(threadCount > 0, "threadCount must be a positive integer.");
+        this.loops = new SelectorLoop[threadCount];
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                this.loops[i] = new SelectorLoop(Selector.open());
+            }
+        } catch (IOException ex) {
+            close();
+            throw ex;
+        }
+        for (SelectorLoop loop : this.loops) {
+            loop.thread.start();
+        }
+    }
+
+    /**
+     * Registers the given channel for reading. The channel must be in non-blocking mode. The given {@link ChannelHandler}
+     * will be invoked on the thread servicing this channel whenever data is available to read, or whenever the channel
+     * becomes writable after {@link Registration#requestWritable()} has been invoked. Closing the channel unregisters it.
+     *
+     * @param channel The channel to register.
+     * @param handler The {@link ChannelHandler} for the channel.
+     * @return A {@link Registration} for the channel.
+     */
+    Registration register(SocketChannel channel, ChannelHandler handler) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(!channel.isBlocking(), "channel must be in non-blocking mode.");
+        SelectorLoop loop = this.loops[Math.floorMod(this.nextLoop.getAndIncrement(), this.loops.length)];
+        Registration registration = new Registration(channel, handler, loop);
+        loop.register(registration);
+        if (this.closed.get()) {
+            // We raced with close(); the registration may never be processed.
+            handler.stop();
+        }
+
+        return registration;
+    }
+
+    /**
+     * Stops all the threads. The {@link ChannelHandler}s for all channels that are still registered are stopped.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            for (SelectorLoop loop : this.loops) {
+                if (loop != null) {
+                    loop.selector.wakeup();
+                    if (!loop.thread.isAlive()) {
+                        closeQuietly(loop.selector, log, "Error closing selector.");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the reads (and pending writes) for a channel registered with a {@link SelectorLoopGroup}.
+     */
+    interface ChannelHandler {
+        /**
+         * Invoked when data is available to read from the channel. Implementations should read (and process) as much
+         * data as is available, without blocking.
+         *
+         * @param readBuffer A scratch buffer that can be used for reading. This buffer is shared by all the channels
+         *                   serviced by the same thread, so it must not be retained after this method returns.
+         */
+        void processReadable(ByteBuffer readBuffer);
+
+        /**
+         * Invoked when the channel has become writable, following a call to {@link Registration#requestWritable()}.
+         * Implementations should write as much pending data as possible, without blocking, and invoke
+         * {@link Registration#requestWritable()} again if there is still data left to write.
+         */
+        void processWritable();
+
+        /**
+         * Invoked if the channel can no longer be serviced (i.e., the {@link SelectorLoopGroup} has been closed).
+         */
+        void stop();
+    }
+
+    /**
+     * A channel registered with a {@link SelectorLoopGroup}.
+     */
+    static final class Registration {
+        private final SocketChannel channel;
+        private final ChannelHandler handler;
+        private final SelectorLoop loop;
+        /**
+         * Set (on the loop thread) once the channel has been registered with the loop's {@link Selector}.
+         */
+        private volatile SelectionKey key;
+
+        private Registration(SocketChannel channel, ChannelHandler handler, SelectorLoop loop) {
+            this.channel = channel;
+            this.handler = handler;
+            this.loop = loop;
+        }
+
+        /**
+         * Requests that {@link ChannelHandler#processWritable()} be invoked (once) when the channel becomes writable.
+         * This may be invoked from any thread and does not block.
+         */
+        void requestWritable() {
+            this.loop.requestWritable(this);
+        }
+
+        /**
+         * Gets a value indicating whether the current thread is the one servicing this channel.
+         */
+        boolean isServicingThread() {
+            return Thread.currentThread() == this.loop.thread;
+        }
+    }
+
+    private final class SelectorLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<Registration> pendingRegistrations = new ConcurrentLinkedQueue<>();
+        private final Queue<Registration> pendingWritable = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(TcpClientConnection.TCP_BUFFER_SIZE);
+
+        SelectorLoop(Selector selector) {
+            this.selector = selector;
+            this.thread = THREAD_FACTORY.newThread(this);
+        }
+
+        void register(Registration registration) {
+            // Selector.register() blocks while the Selector is selecting, so we hand the registration to the loop thread.
+            this.pendingRegistrations.add(registration);
+            this.selector.wakeup();
+        }
+
+        void requestWritable(Registration registration) {
+            if (Thread.currentThread() == this.thread) {
+                setWriteInterest(registration);
+            } else {
+                // Interest changes are applied by the loop thread, so that we do not need to synchronize with select().
+                this.pendingWritable.add(registration);
+                this.selector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed.get()) {
+                    this.selector.select();
+                    processPendingRegistrations();
+                    processPendingWritable();
+                    for (SelectionKey key : this.selector.selectedKeys()) {
+                        Registration registration = (Registration) key.attachment();
+                        if (key.isValid() && key.isWritable()) {
+                            // Write interest is one-shot; the handler will request it again if it still has data to write.
+                            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+                            processWritable(registration.handler);
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            processReadable(registration.handler);
+                        }
+                    }
+                    this.selector.selectedKeys().clear();
+                }
+            } catch (Throwable ex) {
+                log.error("Selector loop failed.", ex);
+            } finally {
+                // Whatever is still registered will not be serviced anymore.
+                processPendingRegistrations();
+                for (SelectionKey key : this.selector.keys()) {
+                    ((Registration) key.attachment()).handler.stop();
+                }
+                closeQuietly(this.selector, log, "Error closing selector.");
+            }
+        }
+
+        private void processPendingRegistrations() {
+            Registration r;
+            while ((r = this.pendingRegistrations.poll()) != null) {
+                try {
+                    r.key = r.channel.register(this.selector, SelectionKey.OP_READ, r);
+                } catch (ClosedChannelException ex) {
+                    // The connection has been closed before we got a chance to register it. Nothing else to do.
+                    log.debug("Not registering closed channel {}.", r.channel);
+                }
+            }
+        }
+
+        private void processPendingWritable() {
+            Registration r;
+            while ((r = this.pendingWritable.poll()) != null) {
+                setWriteInterest(r);
+            }
+        }
+
+        private void setWriteInterest(Registration registration) {
+            SelectionKey key = registration.key;
+            if (key != null && key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+        private void processReadable(ChannelHandler handler) {
+            try {
+                handler.processReadable(this.readBuffer);
+            } catch (Throwable ex) {
+                // Do not let one channel bring down all the others serviced by this thread.
+                log.error("Unhandled exception while processing reads.", ex);
+                handler.stop();
+            }
+        }
+
+        private void processWritable(ChannelHandler handler) {
+            try {
+                handler.processWritable();
+            } catch (Throwable ex) {
+                log.error("Unhandled exception while processing writes.", ex);
+                handler.stop();
+            }
+        }
+    }
+}
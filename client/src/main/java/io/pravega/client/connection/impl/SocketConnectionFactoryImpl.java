@@ -28,9 +28,17 @@ import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * A {@link ConnectionFactory} that creates connections over plain (or TLS) sockets.
+ *
+ * By default, each connection is a {@link TcpClientConnection}, which uses a dedicated thread to read from its socket.
+ * If {@link ClientConfig#isEnableNioConnections()} is set, connections are {@link NioClientConnection}s instead, which
+ * multiplex all reads over a fixed number of threads (see {@link ClientConfig#getNioThreadCount()}). This is preferable
+ * for processes that open a large number of connections. {@link NioClientConnection} does not support TLS, so it is not
+ * used if TLS is enabled.
+ */
 @Slf4j
 public class SocketConnectionFactoryImpl implements ConnectionFactory {
-
     private static final AtomicInteger POOLCOUNT = new AtomicInteger();
     
     private final AtomicInteger openSocketCount = new AtomicInteger();
@@ -38,6 +46,10 @@ public class SocketConnectionFactoryImpl implements ConnectionFactory {
     private final ClientConfig clientConfig;
     @Getter
     private final ScheduledExecutorService internalExecutor;
+    /**
+     * The {@link SelectorLoopGroup} for {@link NioClientConnection}s, or null if using {@link TcpClientConnection}s.
+     */
+    private final SelectorLoopGroup selectorGroup;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     public SocketConnectionFactoryImpl(ClientConfig clientConfig) {
@@ -46,21 +58,41 @@ public class SocketConnectionFactoryImpl implements ConnectionFactory {
 
     @VisibleForTesting
     public SocketConnectionFactoryImpl(ClientConfig clientConfig, Integer numThreadsInPool) {
+        this(clientConfig, numThreadsInPool, getSelectorThreadCount(clientConfig));
+    }
+
+    /**
+     * Creates a new instance of the SocketConnectionFactoryImpl class.
+     *
+     * @param clientConfig        Client configuration.
+     * @param numThreadsInPool    The number of threads in the internal thread pool, or null to use the default.
+     * @param selectorThreadCount If positive, the number of threads to multiplex {@link NioClientConnection}s over. If 0,
+     *                            {@link TcpClientConnection}s will be used.
+     */
+    @VisibleForTesting
+    public SocketConnectionFactoryImpl(ClientConfig clientConfig, Integer numThreadsInPool, int selectorThreadCount) {
         this.clientConfig = Preconditions.checkNotNull(clientConfig, "clientConfig");
         this.internalExecutor = ExecutorServiceHelpers.newScheduledThreadPool(getThreadPoolSize(numThreadsInPool),
                 "clientInternal-" + POOLCOUNT.incrementAndGet());
+        this.selectorGroup = createSelectorGroup(clientConfig, selectorThreadCount);
     }
 
     @VisibleForTesting
     public SocketConnectionFactoryImpl(ClientConfig clientConfig, ScheduledExecutorService executor) {
         this.clientConfig = Preconditions.checkNotNull(clientConfig, "clientConfig");
         this.internalExecutor = executor;
+        this.selectorGroup = createSelectorGroup(clientConfig, getSelectorThreadCount(clientConfig));
     }
 
 
     @Override
     public CompletableFuture<ClientConnection> establishConnection(PravegaNodeUri endpoint, ReplyProcessor rp) {
         openSocketCount.incrementAndGet();
+        if (selectorGroup != null) {
+            return NioClientConnection
+                .connect(endpoint, clientConfig, rp, selectorGroup, internalExecutor, openSocketCount::decrementAndGet)
+                .thenApply(c -> c);
+        }
         return TcpClientConnection
             .connect(endpoint, clientConfig, rp, internalExecutor, openSocketCount::decrementAndGet)
             .thenApply(c -> c);
@@ -77,10 +109,33 @@ public class SocketConnectionFactoryImpl implements ConnectionFactory {
         return Math.max(2, Runtime.getRuntime().availableProcessors());
     }
 
+    private static int getSelectorThreadCount(ClientConfig clientConfig) {
+        if (!clientConfig.isEnableNioConnections()) {
+            return 0;
+        }
+        if (clientConfig.getNioThreadCount() > 0) {
+            return clientConfig.getNioThreadCount();
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    private static SelectorLoopGroup createSelectorGroup(ClientConfig clientConfig, int selectorThreadCount) {
+        if (selectorThreadCount <= 0) {
+            return null;
+        } else if (clientConfig.isEnableTlsToSegmentStore()) {
+            log.warn("Non-blocking connections do not support TLS. Using blocking connections instead.");
+            return null;
+        }
+        return new SelectorLoopGroup(selectorThreadCount);
+    }
+
     @Override
     public void close() {
         log.info("Shutting down connection factory");
         if (closed.compareAndSet(false, true)) {
+            if (selectorGroup != null) {
+                selectorGroup.close();
+            }
             ExecutorServiceHelpers.shutdown(internalExecutor);
         }
     }
@@ -16,6 +16,8 @@
 package io.pravega.client.segment.impl;
 
 import io.pravega.client.stream.EventStreamWriter;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
@@ -85,6 +87,22 @@ public interface EventSegmentReader extends AutoCloseable {
      * @throws SegmentTruncatedException If the segment has been truncated beyond the current offset and the data cannot be read.
      */
     public abstract ByteBuffer read(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException;
+
+    /**
+     * Same as {@link #read(long)}, but where possible returns a view over the reader's internal buffer rather than a
+     * copy of the event. The returned view is only valid until the next call to any other method on this reader, as the
+     * space it refers to may then be reused.
+     *
+     * @param firstByteTimeoutMillis The maximum length of time to block to get the first byte of the event.
+     * @return A BufferView containing the serialized data that was written via
+     *         {@link EventStreamWriter#writeEvent(String, Object)}, or null if there is no event after the timeout.
+     * @throws EndOfSegmentException If no event could be read because the end of the segment was reached.
+     * @throws SegmentTruncatedException If the segment has been truncated beyond the current offset and the data cannot be read.
+     */
+    public default BufferView readView(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException {
+        ByteBuffer result = read(firstByteTimeoutMillis);
+        return result == null ? null : new ByteArraySegment(result);
+    }
     
     /**
      * Issues a request to asynchronously fill up the buffer. The goal is to prevent future {@link #read()} calls from blocking.
@@ -107,4 +125,14 @@ public interface EventSegmentReader extends AutoCloseable {
      * @return False if data read is blocking.
      */
     public boolean isSegmentReady();
+
+    /**
+     * Returns true if the next event is fully buffered (or the call will throw EndOfSegmentException), so that it can be
+     * read without blocking. This is stricter than {@link #isSegmentReady()}, which only requires some data to be buffered.
+     *
+     * @return False if reading the next event may block.
+     */
+    public default boolean isEventReady() {
+        return isSegmentReady();
+    }
 }
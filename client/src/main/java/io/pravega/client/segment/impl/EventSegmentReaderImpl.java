@@ -16,11 +16,15 @@
 package io.pravega.client.segment.impl;
 
 import com.google.common.base.Preconditions;
+import io.pravega.client.stream.impl.EventCompressor;
 import io.pravega.common.LoggerHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.shared.protocol.netty.InvalidMessageException;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -72,12 +76,26 @@ class EventSegmentReaderImpl implements EventSegmentReader {
     @Override
     @Synchronized
     public ByteBuffer read(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException {
+        return readInternal("read", this::readEvent, firstByteTimeoutMillis);
+    }
+
+    /**
+     * @see EventSegmentReader#readView(long)
+     */
+    @Override
+    @Synchronized
+    public BufferView readView(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException {
+        return readInternal("readView", this::readEventView, firstByteTimeoutMillis);
+    }
+
+    private <T> T readInternal(String methodName, EventReader<T> reader, long firstByteTimeoutMillis)
+            throws EndOfSegmentException, SegmentTruncatedException {
         long originalOffset = in.getOffset();
-        long traceId = LoggerHelpers.traceEnter(log, "read", in.getSegmentId(), originalOffset, firstByteTimeoutMillis);
+        long traceId = LoggerHelpers.traceEnter(log, methodName, in.getSegmentId(), originalOffset, firstByteTimeoutMillis);
         boolean success = false;
         boolean timeout = false;
         try {
-            ByteBuffer result = readEvent(firstByteTimeoutMillis);
+            T result = reader.read(firstByteTimeoutMillis);
             success = true;
             return result;
         } catch (TimeoutException e) {
@@ -85,7 +103,7 @@ class EventSegmentReaderImpl implements EventSegmentReader {
             log.warn("Timeout observed while trying to read data from Segment store, the read request will be retransmitted");
             return null;
         } finally {
-            LoggerHelpers.traceLeave(log, "read", traceId, in.getSegmentId(), originalOffset, firstByteTimeoutMillis, success);
+            LoggerHelpers.traceLeave(log, methodName, traceId, in.getSegmentId(), originalOffset, firstByteTimeoutMillis, success);
             if (!success) {
                 // Reading failed, reset the offset to the original offset.
                 // The read request is retransmitted only in the case of a timeout.
@@ -93,34 +111,71 @@ class EventSegmentReaderImpl implements EventSegmentReader {
             }
         }
     }
-        
+
     private ByteBuffer readEvent(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
+        if (!readHeader(firstByteTimeoutMillis)) {
+            return null;
+        }
+        return readPayload();
+    }
+
+    private BufferView readEventView(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
+        if (!readHeader(firstByteTimeoutMillis)) {
+            return null;
+        }
+        if (headerReadingBuffer.getInt(0) == WireCommandType.EVENT.getCode()) {
+            // Uncompressed events that are already fully buffered can be handed out in place.
+            BufferView result = in.readBuffered(headerReadingBuffer.getInt(Integer.BYTES));
+            if (result != null) {
+                return result;
+            }
+        }
+        return new ByteArraySegment(readPayload());
+    }
+
+    /**
+     * Reads and validates the next event header into {@link #headerReadingBuffer}.
+     *
+     * @return True if a header was read, false if no data was available within the given timeout.
+     */
+    private boolean readHeader(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
         headerReadingBuffer.clear();
         int read = in.read(headerReadingBuffer, firstByteTimeoutMillis);
         if (read == 0) {
             log.debug("Empty read for segment id {}.", in.getSegmentId());
             // a resend will not be triggered in-case of a firstByteTimeout.
-            return null;
+            return false;
         }
         while (headerReadingBuffer.hasRemaining()) {
             readEventDataFromSegmentInputStream(headerReadingBuffer);
         }
         headerReadingBuffer.flip();
-        int type = headerReadingBuffer.getInt();
-        int length = headerReadingBuffer.getInt();
-        if (type != WireCommandType.EVENT.getCode()) {
+        int type = headerReadingBuffer.getInt(0);
+        int length = headerReadingBuffer.getInt(Integer.BYTES);
+        if (type != WireCommandType.EVENT.getCode() && type != WireCommandType.COMPRESSED_EVENT.getCode()) {
             throw new InvalidMessageException("Event was of wrong type: " + type);
         }
         if (length < 0) {
             throw new InvalidMessageException("Event of invalid length: " + length);
         }
-        ByteBuffer result = ByteBuffer.allocate(length);
+        return true;
+    }
+
+    /**
+     * Reads the payload of the event whose header is in {@link #headerReadingBuffer} into a new buffer.
+     */
+    private ByteBuffer readPayload() throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
+        int type = headerReadingBuffer.getInt(0);
+        ByteBuffer result = ByteBuffer.allocate(headerReadingBuffer.getInt(Integer.BYTES));
 
         readEventDataFromSegmentInputStream(result);
         while (result.hasRemaining()) {
             readEventDataFromSegmentInputStream(result);
         }
         result.flip();
+        if (type == WireCommandType.COMPRESSED_EVENT.getCode()) {
+            return EventCompressor.decompress(result);
+        }
         return result;
     }
 
@@ -152,9 +207,29 @@ class EventSegmentReaderImpl implements EventSegmentReader {
         return bytesInBuffer != 0;
     }
 
+    @Override
+    @Synchronized
+    public boolean isEventReady() {
+        int bytesInBuffer = in.bytesInBuffer();
+        if (bytesInBuffer < 0) {
+            // The read will fail right away.
+            return true;
+        }
+        if (bytesInBuffer < WireCommands.TYPE_PLUS_LENGTH_SIZE) {
+            return false;
+        }
+        OptionalInt length = in.peekInt(Integer.BYTES);
+        // A negative length is also "ready": the read will fail right away with an InvalidMessageException.
+        return length.isPresent() && bytesInBuffer - WireCommands.TYPE_PLUS_LENGTH_SIZE >= length.getAsInt();
+    }
+
     @Override
     public Segment getSegmentId() {
         return in.getSegmentId();
     }
 
+    @FunctionalInterface
+    private interface EventReader<T> {
+        T read(long firstByteTimeoutMillis) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException;
+    }
 }
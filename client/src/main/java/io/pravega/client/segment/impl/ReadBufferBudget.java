@@ -0,0 +1,78 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.segment.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * Tracks the memory used by the read buffers of all the segments read by a single reader, so that buffers can be
+ * resized to follow the consumption rate of each segment without the total exceeding a configured limit.
+ */
+public final class ReadBufferBudget {
+    @Getter
+    private final long limit;
+    private final AtomicLong allocated = new AtomicLong();
+
+    /**
+     * Creates a new instance of the ReadBufferBudget class.
+     *
+     * @param limit The maximum number of bytes that may be allocated to read buffers.
+     */
+    public ReadBufferBudget(long limit) {
+        Preconditions.checkArgument(limit > 0, "limit must be a positive number.");
+        this.limit = limit;
+    }
+
+    /**
+     * Allocates up to the given number of bytes from this budget.
+     *
+     * @param desired The number of bytes wanted.
+     * @param minimum The number of bytes that will be allocated even if that exceeds the limit. This allows every
+     *                segment to always have some buffer to make progress with.
+     * @return The number of bytes allocated. This will be between minimum and desired (inclusive).
+     */
+    int allocate(int desired, int minimum) {
+        Preconditions.checkArgument(minimum >= 0 && minimum <= desired, "minimum must be between 0 and desired.");
+        while (true) {
+            long current = allocated.get();
+            int granted = (int) Math.max(minimum, Math.min(desired, limit - current));
+            if (granted == 0 || allocated.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Returns the given number of bytes to this budget.
+     *
+     * @param bytes The number of bytes previously obtained from {@link #allocate} that are no longer in use.
+     */
+    void release(int bytes) {
+        Preconditions.checkArgument(bytes >= 0, "bytes must be a non-negative number.");
+        allocated.addAndGet(-bytes);
+    }
+
+    /**
+     * Gets the number of bytes currently allocated from this budget.
+     *
+     * @return The number of bytes allocated.
+     */
+    public long getAllocated() {
+        return allocated.get();
+    }
+}
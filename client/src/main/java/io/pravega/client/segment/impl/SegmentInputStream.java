@@ -15,7 +15,9 @@
  */
 package io.pravega.client.segment.impl;
 
+import io.pravega.common.util.BufferView;
 import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -70,6 +72,30 @@ public interface SegmentInputStream extends AutoCloseable {
      *             and data cannot be read.
      */
     public abstract int read(ByteBuffer toFill, long timeout) throws EndOfSegmentException, SegmentTruncatedException;
+
+    /**
+     * If at least length bytes are already buffered, consumes them and returns a view over the internal buffer
+     * containing them, without copying. The returned view is only valid until the next call to any other method on this
+     * object, as the space it refers to may then be reused. This never blocks.
+     *
+     * @param length The number of bytes to read.
+     * @return A {@link BufferView} of the requested length, or null if that many bytes are not buffered (in which case
+     * nothing is consumed and {@link #read(ByteBuffer, long)} should be used instead).
+     */
+    default BufferView readBuffered(int length) {
+        return null;
+    }
+
+    /**
+     * If the 4 bytes at the given position past the current offset are already buffered, returns them as a (big-endian)
+     * int. Nothing is consumed and this never blocks.
+     *
+     * @param position The position of the int, relative to the current offset.
+     * @return The int, or an empty {@link OptionalInt} if those bytes are not buffered.
+     */
+    default OptionalInt peekInt(int position) {
+        return OptionalInt.empty();
+    }
     
     /**
      * Issue a request to asynchronously fill the buffer. To hopefully prevent future {@link #read(ByteBuffer, long)} calls from blocking.
@@ -91,6 +91,22 @@ public interface SegmentInputStreamFactory {
      */
     EventSegmentReader createEventReaderForSegment(Segment segment, int bufferSize, Semaphore hasData, long endOffset);
 
+    /**
+     * Open an existing segment for reading up to the provided end offset, with a read buffer that is resized based on how
+     * fast the segment is being read. This operation will fail if the segment does not exist.
+     *
+     * @param segment The segment to create an input for.
+     * @param bufferSize The initial size of the buffer to hold for data incoming on this segment.
+     * @param hasData A Semaphore that will have `release` called when data is available.
+     * @param endOffset The offset up to which the segment can be read.
+     * @param budget The {@link ReadBufferBudget} shared by the buffers of all the segments of the reader.
+     * @return New instance of the EventSegmentReader for reading.
+     */
+    default EventSegmentReader createEventReaderForSegment(Segment segment, int bufferSize, Semaphore hasData, long endOffset,
+                                                           ReadBufferBudget budget) {
+        return createEventReaderForSegment(segment, bufferSize, hasData, endOffset);
+    }
+
     /**
      * Opens an existing segment for reading. This operation will fail if the
      * segment does not exist.
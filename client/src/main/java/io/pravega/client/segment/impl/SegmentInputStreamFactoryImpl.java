@@ -39,31 +39,44 @@ public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment, long startOffset, long endOffset) {
-        return getEventSegmentReader(segment, null, startOffset,  endOffset, SegmentInputStreamImpl.DEFAULT_BUFFER_SIZE);
+        return getEventSegmentReader(segment, null, startOffset,  endOffset, SegmentInputStreamImpl.DEFAULT_BUFFER_SIZE, null);
     }
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment, int bufferSize) {
-        return getEventSegmentReader(segment, null, 0, Long.MAX_VALUE, bufferSize);
+        return getEventSegmentReader(segment, null, 0, Long.MAX_VALUE, bufferSize, null);
     }
     
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment, int bufferSize, Semaphore hasData, long endOffset) {
-        return getEventSegmentReader(segment, hasData, 0, endOffset, bufferSize);
+        return getEventSegmentReader(segment, hasData, 0, endOffset, bufferSize, null);
+    }
+
+    @Override
+    public EventSegmentReader createEventReaderForSegment(Segment segment, int bufferSize, Semaphore hasData, long endOffset,
+                                                          ReadBufferBudget budget) {
+        return getEventSegmentReader(segment, hasData, 0, endOffset, bufferSize, budget);
     }
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment, long startOffset, int lengthToRead) {
-        return getEventSegmentReader(segment, null, startOffset, startOffset + lengthToRead, lengthToRead);
+        return getEventSegmentReader(segment, null, startOffset, startOffset + lengthToRead, lengthToRead, null);
     }
 
-    private EventSegmentReader getEventSegmentReader(Segment segment, Semaphore hasData, long startOffset, long endOffset, int bufferSize) {
+    private EventSegmentReader getEventSegmentReader(Segment segment, Semaphore hasData, long startOffset, long endOffset, int bufferSize,
+                                                     ReadBufferBudget budget) {
         DelegationTokenProvider tokenProvider = DelegationTokenProviderFactory.create(controller, segment, AccessOperation.READ);
         tokenProvider.retrieveToken();
         AsyncSegmentInputStreamImpl async = new AsyncSegmentInputStreamImpl(controller, cp, segment, tokenProvider, hasData);
         async.getConnection();                      //Sanity enforcement
         bufferSize = MathHelpers.minMax(bufferSize, SegmentInputStreamImpl.MIN_BUFFER_SIZE, SegmentInputStreamImpl.MAX_BUFFER_SIZE);
-        return getEventSegmentReader(async, startOffset, endOffset, bufferSize);
+        return getEventSegmentReader(async, startOffset, endOffset, bufferSize, budget);
+    }
+
+    @VisibleForTesting
+    static EventSegmentReaderImpl getEventSegmentReader(AsyncSegmentInputStream async, long startOffset,
+                                                        long endOffset, int bufferSize, ReadBufferBudget budget) {
+        return new EventSegmentReaderImpl(new SegmentInputStreamImpl(async, startOffset, endOffset, bufferSize, budget));
     }
 
     @VisibleForTesting
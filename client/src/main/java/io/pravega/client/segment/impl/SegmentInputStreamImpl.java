@@ -18,12 +18,17 @@ package io.pravega.client.segment.impl;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.BufferView;
 import io.pravega.common.util.CircularBuffer;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.concurrent.GuardedBy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Synchronized;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +39,10 @@ import static io.pravega.client.segment.impl.EndOfSegmentException.ErrorType.END
 /**
  * Manages buffering and provides a synchronous to {@link AsyncSegmentInputStream}
  * 
+ * If created with a {@link ReadBufferBudget}, the buffer is resized based on how the segment is being consumed: it grows
+ * (within the budget) when reads have to wait on the network while there is more data in the segment, shrinks when reads
+ * are keeping up with the end of the segment, and multiple read requests are kept in flight while catching up.
+ * 
  * @see SegmentInputStream
  */
 @Slf4j
@@ -42,13 +51,16 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     static final int MIN_BUFFER_SIZE = 1024;
     static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
     static final int MAX_BUFFER_SIZE = 10 * 1024 * 1024;
+    static final int MIN_ADAPTIVE_BUFFER_SIZE = 64 * 1024;
+    static final int MAX_OUTSTANDING_REQUESTS = 4;
     private static final int DEFAULT_READ_LENGTH = 256 * 1024;
     private static final long UNBOUNDED_END_OFFSET = Long.MAX_VALUE;
 
     private final AsyncSegmentInputStream asyncInput;
-    private final int minReadLength;
+    private final ReadBufferBudget budget;
+    private final int minBufferSize;
     @GuardedBy("$lock")
-    private final CircularBuffer buffer;
+    private CircularBuffer buffer;
     @GuardedBy("$lock")
     private long offset;
     @GuardedBy("$lock")
@@ -59,12 +71,26 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     private boolean receivedTruncated = false;
     @GuardedBy("$lock")
     private CompletableFuture<SegmentRead> outstandingRequest = null;
+    @GuardedBy("$lock")
+    private long outstandingRequestEnd;
+    @GuardedBy("$lock")
+    private final ArrayDeque<PrefetchRequest> prefetchRequests = new ArrayDeque<>();
+    /**
+     * Whether the last completed read returned less data than requested (meaning it reached the end of the data
+     * currently in the segment), or null if no read has completed yet.
+     */
+    @GuardedBy("$lock")
+    private Boolean caughtUp = null;
 
     SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset) {
         this(asyncInput, startOffset, UNBOUNDED_END_OFFSET, DEFAULT_BUFFER_SIZE);
     }
 
     SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize) {
+        this(asyncInput, startOffset, endOffset, bufferSize, null);
+    }
+
+    SegmentInputStreamImpl(AsyncSegmentInputStream asyncInput, long startOffset, long endOffset, int bufferSize, ReadBufferBudget budget) {
         Preconditions.checkArgument(startOffset >= 0);
         Preconditions.checkNotNull(asyncInput);
         Preconditions.checkNotNull(endOffset, "endOffset");
@@ -72,8 +98,13 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         this.asyncInput = asyncInput;
         this.offset = startOffset;
         this.endOffset = endOffset;
-        // Reads should not be so large they cannot fit into the buffer.
-        this.minReadLength = Math.min(DEFAULT_READ_LENGTH, bufferSize);
+        this.budget = budget;
+        if (budget == null) {
+            this.minBufferSize = bufferSize;
+        } else {
+            this.minBufferSize = Math.min(bufferSize, MIN_ADAPTIVE_BUFFER_SIZE);
+            bufferSize = budget.allocate(bufferSize, this.minBufferSize);
+        }
         this.buffer = new CircularBuffer(bufferSize);
         issueRequestIfNeeded();
     }
@@ -125,6 +156,9 @@ class SegmentInputStreamImpl implements SegmentInputStream {
             if (receivedEndOfSegment) {
                 throw new EndOfSegmentException();
             }
+            if (!outstandingRequest.isDone()) {
+                resizeBufferIfNeeded();
+            }
             Futures.await(outstandingRequest, timeout);
             if (!outstandingRequest.isDone()) {
                 return 0;
@@ -137,6 +171,34 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         return read;
     }
 
+    /**
+     * @see SegmentInputStream#readBuffered(int)
+     */
+    @Override
+    @Synchronized
+    public BufferView readBuffered(int length) {
+        Exceptions.checkNotClosed(asyncInput.isClosed(), this);
+        if (receivedTruncated || buffer.dataAvailable() < length || this.offset + length > this.endOffset) {
+            return null;
+        }
+        BufferView result = buffer.readView(length);
+        offset += length;
+        return result;
+    }
+
+    /**
+     * @see SegmentInputStream#peekInt(int)
+     */
+    @Override
+    @Synchronized
+    public OptionalInt peekInt(int position) {
+        Exceptions.checkNotClosed(asyncInput.isClosed(), this);
+        if (receivedTruncated || position < 0 || buffer.dataAvailable() - Integer.BYTES < position) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(buffer.peekInt(position));
+    }
+
     private boolean dataWaitingToGoInBuffer() {
         return outstandingRequest != null && Futures.isSuccessful(outstandingRequest) && buffer.capacityAvailable() > 0;
     }
@@ -147,6 +209,7 @@ class SegmentInputStreamImpl implements SegmentInputStream {
             segmentRead = outstandingRequest.join();
         } catch (Exception e) {
             outstandingRequest = null;
+            cancelPrefetchRequests();
             if (Exceptions.unwrap(e) instanceof SegmentTruncatedException) {
                 receivedTruncated = true;
                 throw new SegmentTruncatedException(e);
@@ -162,8 +225,13 @@ class SegmentInputStreamImpl implements SegmentInputStream {
             receivedEndOfSegment = true;
         }
         if (segmentRead.getData().readableBytes() == 0) {
+            long readEnd = segmentRead.getOffset() + segmentRead.getData().readerIndex();
+            // A short read may only mean that the server returned what it had readily available, so rely on the server
+            // telling us we reached the tail. If it does not know, we assume we are behind.
+            caughtUp = segmentRead.isAtTail() || segmentRead.isEndOfSegment();
             segmentRead.release();
             outstandingRequest = null;
+            promotePrefetchRequest(readEnd);
             issueRequestIfNeeded();
         }
     }
@@ -175,6 +243,26 @@ class SegmentInputStreamImpl implements SegmentInputStream {
                    expectedOffset);
     }
 
+    /**
+     * Makes the next prefetched request (if any) the outstanding one, provided it starts where the last read ended.
+     * If the last read returned less data than requested, none of the prefetched requests line up with it anymore, so
+     * they are all cancelled.
+     */
+    @GuardedBy("$lock")
+    private void promotePrefetchRequest(long expectedOffset) {
+        PrefetchRequest next = prefetchRequests.poll();
+        if (next == null) {
+            return;
+        }
+        if (receivedEndOfSegment || next.getOffset() != expectedOffset) {
+            cancelRequest(next.getRequest());
+            cancelPrefetchRequests();
+            return;
+        }
+        outstandingRequest = next.getRequest();
+        outstandingRequestEnd = next.getOffset() + next.getLength();
+    }
+
     /**
      * Issues a request
      *  - if there is enough room for another request, and we aren't already waiting on one and
@@ -182,13 +270,38 @@ class SegmentInputStreamImpl implements SegmentInputStream {
      */
     private void issueRequestIfNeeded() {
         //compute read length based on current offset up to which the events are read.
-        int updatedReadLength = computeReadLength(offset + buffer.dataAvailable());
+        long fetchOffset = offset + buffer.dataAvailable();
+        int updatedReadLength = computeReadLength(fetchOffset);
         if (!receivedEndOfSegment && !receivedTruncated && updatedReadLength > 0 && outstandingRequest == null) {
             if (log.isTraceEnabled()) {
                 log.trace("Issuing read request for segment {} of {} bytes", getSegmentId(), updatedReadLength);
             }
-            CompletableFuture<SegmentRead> r = asyncInput.read(offset + buffer.dataAvailable(), updatedReadLength);
+            CompletableFuture<SegmentRead> r = asyncInput.read(fetchOffset, updatedReadLength);
             outstandingRequest = Futures.cancellableFuture(r, SegmentRead::release);
+            outstandingRequestEnd = fetchOffset + updatedReadLength;
+        }
+        issuePrefetchRequestsIfNeeded();
+    }
+
+    /**
+     * If using an adaptive buffer and the reader is behind the end of the segment, keeps up to
+     * {@link #MAX_OUTSTANDING_REQUESTS} read requests in flight, as long as the data requested and not yet buffered
+     * fits in the buffer.
+     */
+    private void issuePrefetchRequestsIfNeeded() {
+        if (budget == null || outstandingRequest == null || !Boolean.FALSE.equals(caughtUp) || receivedEndOfSegment || receivedTruncated) {
+            return;
+        }
+        long fetchOffset = offset + buffer.dataAvailable();
+        while (prefetchRequests.size() < MAX_OUTSTANDING_REQUESTS - 1) {
+            long requestOffset = prefetchRequests.isEmpty() ? outstandingRequestEnd : prefetchRequests.peekLast().getEnd();
+            int length = (int) Math.min(getPrefetchLength(), endOffset - requestOffset);
+            if (length <= 0 || requestOffset + length - fetchOffset > buffer.getCapacity()) {
+                break;
+            }
+            log.trace("Issuing prefetch request for segment {} at offset {} of {} bytes", getSegmentId(), requestOffset, length);
+            CompletableFuture<SegmentRead> r = asyncInput.read(requestOffset, length);
+            prefetchRequests.add(new PrefetchRequest(requestOffset, length, Futures.cancellableFuture(r, SegmentRead::release)));
         }
     }
 
@@ -198,7 +311,13 @@ class SegmentInputStreamImpl implements SegmentInputStream {
     private int computeReadLength(long currentFetchOffset) {
         Preconditions.checkState(endOffset >= currentFetchOffset,
                 "Current offset up to to which events are fetched should be less than the configured end offset");
-        int currentReadLength = Math.max(minReadLength, buffer.capacityAvailable());
+        int currentReadLength;
+        if (budget != null && Boolean.FALSE.equals(caughtUp)) {
+            // Leave room in the buffer for the prefetch requests that will follow this one.
+            currentReadLength = getPrefetchLength();
+        } else {
+            currentReadLength = Math.max(Math.min(DEFAULT_READ_LENGTH, buffer.getCapacity()), buffer.capacityAvailable());
+        }
         if (UNBOUNDED_END_OFFSET == endOffset) { //endOffset is UNBOUNDED_END_OFFSET if the endOffset is not set.
             return currentReadLength;
         }
@@ -206,23 +325,61 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         return Math.toIntExact(Math.min(currentReadLength, numberOfBytesRemaining));
     }
 
+    private int getPrefetchLength() {
+        return Math.max(MIN_BUFFER_SIZE, buffer.getCapacity() / MAX_OUTSTANDING_REQUESTS);
+    }
+
+    /**
+     * Resizes an empty adaptive buffer: if reads were keeping up with the end of the segment it is halved (down to
+     * {@link #minBufferSize}), otherwise the reader is waiting on data that is already in the segment, so it is doubled
+     * (up to {@link #MAX_BUFFER_SIZE}, and as much as the {@link ReadBufferBudget} allows).
+     */
+    @GuardedBy("$lock")
+    private void resizeBufferIfNeeded() {
+        if (budget == null || caughtUp == null || buffer.dataAvailable() > 0) {
+            return;
+        }
+        int capacity = buffer.getCapacity();
+        int newCapacity;
+        if (caughtUp) {
+            newCapacity = Math.max(minBufferSize, capacity / 2);
+            budget.release(capacity - newCapacity);
+        } else {
+            newCapacity = capacity + budget.allocate(Math.max(0, Math.min(capacity, MAX_BUFFER_SIZE - capacity)), 0);
+        }
+        if (newCapacity != capacity) {
+            log.debug("Resizing read buffer for segment {} from {} to {} bytes", getSegmentId(), capacity, newCapacity);
+            buffer = new CircularBuffer(newCapacity);
+        }
+    }
+
     @GuardedBy("$lock")
     private void cancelOutstandingRequest() {
+        cancelRequest(outstandingRequest);
+        log.debug("Completed cancelling outstanding read request for segment {}", asyncInput.getSegmentId());
+        outstandingRequest = null;
+        cancelPrefetchRequests();
+    }
+
+    @GuardedBy("$lock")
+    private void cancelPrefetchRequests() {
+        while (!prefetchRequests.isEmpty()) {
+            cancelRequest(prefetchRequests.poll().getRequest());
+        }
+    }
+
+    private void cancelRequest(CompletableFuture<SegmentRead> request) {
         // We need to make sure that we release the ByteBuf held on to by WireCommands.SegmentRead.
         // We first attempt to cancel the request. If it has not already completed (and will complete successfully at one point),
         // it will automatically release the buffer.
-        outstandingRequest.cancel(true);
+        request.cancel(true);
 
         // If the request has already completed successfully, attempt to release it anyway. Doing so multiple times will
         // have no adverse effect. We do this after attempting to cancel (as opposed to before) since the request may very
         // well complete while we're executing this method and we want to ensure no SegmentRead instances are left hanging.
-        if (outstandingRequest.isDone() && !outstandingRequest.isCompletedExceptionally()) {
-            SegmentRead request = outstandingRequest.join();
-            request.release();
+        if (request.isDone() && !request.isCompletedExceptionally()) {
+            request.join().release();
         }
-
-        log.debug("Completed cancelling outstanding read request for segment {}", asyncInput.getSegmentId());
-        outstandingRequest = null;
     }
 
     @Override
@@ -233,6 +390,9 @@ class SegmentInputStreamImpl implements SegmentInputStream {
             log.debug("Cancel outstanding read request for segment {}", asyncInput.getSegmentId());
             cancelOutstandingRequest();
         }
+        if (budget != null && !asyncInput.isClosed()) {
+            budget.release(buffer.getCapacity());
+        }
         asyncInput.close();
     }
 
@@ -280,4 +440,15 @@ class SegmentInputStreamImpl implements SegmentInputStream {
         return buffer.getCapacity();
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    private static final class PrefetchRequest {
+        private final long offset;
+        private final int length;
+        private final CompletableFuture<SegmentRead> request;
+
+        long getEnd() {
+            return offset + length;
+        }
+    }
 }
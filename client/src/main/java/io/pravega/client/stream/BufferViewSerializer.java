@@ -0,0 +1,60 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Serializer} that can deserialize events directly from the reader's internal buffers, without first copying
+ * each event into its own {@link ByteBuffer}.
+ * <p>
+ * When an {@link EventStreamReader} is created with a {@link BufferViewSerializer}, it will invoke
+ * {@link #deserialize(BufferView)} with a read-only view over the data it has buffered for the segment. This view is only
+ * valid for the duration of that call: the space it refers to will be reused as soon as the reader fetches more data.
+ * Implementations must therefore not retain the {@link BufferView} (or any of its underlying buffers) after returning;
+ * anything that needs to outlive the call must be copied out of it.
+ *
+ * @param <T> The type of event that this serializes.
+ */
+public interface BufferViewSerializer<T> extends Serializer<T> {
+    /**
+     * Deserializes the given {@link BufferView} into an event.
+     *
+     * @param serializedValue A read-only view of an event that has been previously serialized. This view is only valid
+     *                        until this method returns.
+     * @return The event object.
+     */
+    T deserialize(BufferView serializedValue);
+
+    /**
+     * Deserializes the given ByteBuffer into an event by wrapping it in a {@link BufferView} and invoking
+     * {@link #deserialize(BufferView)}. Buffers that are not backed by an accessible array are copied first.
+     *
+     * @param serializedValue A event that has been previously serialized.
+     * @return The event object.
+     */
+    @Override
+    default T deserialize(ByteBuffer serializedValue) {
+        if (serializedValue.hasArray()) {
+            return deserialize(new ByteArraySegment(serializedValue));
+        }
+        byte[] copy = new byte[serializedValue.remaining()];
+        serializedValue.duplicate().get(copy);
+        return deserialize(new ByteArraySegment(copy));
+    }
+}
@@ -15,7 +15,10 @@
  */
 package io.pravega.client.stream;
 
+import com.google.common.base.Preconditions;
 import io.pravega.client.segment.impl.NoSuchEventException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A reader for a stream.
@@ -60,6 +63,32 @@ public interface EventStreamReader<T> extends AutoCloseable {
      */
     EventRead<T> readNextEvent(long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException;
 
+    /**
+     * Gets up to maxEvents events from the stream in a single call. This blocks for up to timeoutMillis waiting for the
+     * first event exactly like {@link #readNextEvent(long)}, and then returns it along with as many of the following
+     * events as are already buffered by the reader (without waiting for more data to arrive).
+     * <p>
+     * The returned list is never empty. Every element has the same meaning as if it was returned by a call to
+     * {@link #readNextEvent(long)}, so each carries its own {@link EventRead#getPosition()}. If no event was read the
+     * list contains a single EventRead with null for {@link EventRead#getEvent()}, which may be a checkpoint
+     * ({@link EventRead#isCheckpoint()}) or indicate that the end of the stream has been reached. A checkpoint is never
+     * returned along with events.
+     *
+     * @param maxEvents     The maximum number of events to return. Must be a positive number.
+     * @param timeoutMillis An upper bound on how long the call may block waiting for the first event.
+     * @return A list of up to maxEvents instances of {@link EventRead}, in the order in which they were read.
+     * @throws ReinitializationRequiredException Is thrown in the event that
+     *             {@link ReaderGroup#resetReaderGroup(ReaderGroupConfig)} was called
+     *             which requires readers to be reinitialized.
+     * @throws TruncatedDataException if the data that would be read next has been truncated away
+     *             and can no longer be read. (If following this readNextEvents is called again it
+     *             will resume from the next available event.)
+     */
+    default List<EventRead<T>> readNextEvents(int maxEvents, long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException {
+        Preconditions.checkArgument(maxEvents > 0, "maxEvents must be a positive number.");
+        return Collections.singletonList(readNextEvent(timeoutMillis));
+    }
+
     /**
      * Gets the configuration that this reader was created with.
      *
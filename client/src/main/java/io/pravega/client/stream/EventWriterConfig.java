@@ -27,6 +27,7 @@ import io.pravega.common.ObjectBuilder;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import lombok.SneakyThrows;
@@ -123,6 +124,64 @@ public class EventWriterConfig implements Serializable {
      */
     private final boolean enableLargeEvents;
 
+    /**
+     * The codec used to compress events before they are sent to the SegmentStore. The default value is
+     * {@link Compression#NONE}. Compression is applied to each event written by the {@link EventStreamWriter} (large
+     * events and transactions are not compressed), and events that do not shrink are stored as-is. Readers decompress
+     * events transparently, but readers running an older client version cannot read compressed events and will fail
+     * with an error, so this should only be enabled once all readers of the stream have been upgraded.
+     *
+     * @param compression The codec used to compress events.
+     * @return The codec used to compress events.
+     */
+    private final Compression compression;
+
+    /**
+     * Codecs that can be used to compress events.
+     */
+    public enum Compression {
+        /**
+         * Events are not compressed.
+         */
+        NONE(0),
+
+        /**
+         * Events are compressed using DEFLATE (zlib), favoring speed over compression ratio.
+         */
+        DEFLATE(1),
+
+        /**
+         * Events are compressed using Snappy. This is faster than {@link #DEFLATE}, but has a lower compression ratio.
+         */
+        SNAPPY(2);
+
+        /**
+         * The unique identifier of this codec, which is persisted along with compressed events.
+         */
+        @Getter
+        private final byte id;
+
+        Compression(int id) {
+            this.id = (byte) id;
+        }
+
+        /**
+         * Gets the {@link Compression} with the given {@link #getId()}.
+         *
+         * @param id The identifier.
+         * @return The {@link Compression}.
+         * @throws IllegalArgumentException If there is no {@link Compression} with the given identifier.
+         */
+        public static Compression fromId(byte id) {
+            for (Compression c : values()) {
+                if (c.id == id) {
+                    return c;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported compression codec: " + id);
+        }
+    }
+
     public static final class EventWriterConfigBuilder implements ObjectBuilder<EventWriterConfig> {
         private static final long MIN_TRANSACTION_TIMEOUT_TIME_MILLIS = 10000;
         private int initialBackoffMillis = 1;
@@ -134,6 +193,7 @@ public class EventWriterConfig implements Serializable {
         // connection pooling for event writers is disabled by default.
         private boolean enableConnectionPooling = false;
         private boolean enableLargeEvents = false;
+        private Compression compression = Compression.NONE;
 
         @Override
         public EventWriterConfig build() {
@@ -142,11 +202,13 @@ public class EventWriterConfig implements Serializable {
             Preconditions.checkArgument(backoffMultiple >= 0, "Backoff multiple must be positive numbers");
             Preconditions.checkArgument(maxBackoffMillis >= 0, "Backoff times must be positive numbers");
             Preconditions.checkArgument(retryAttempts >= 0, "Retry attempts must be a positive number");
+            Preconditions.checkNotNull(compression, "compression");
             return new EventWriterConfig(initialBackoffMillis, maxBackoffMillis, retryAttempts, backoffMultiple,
                                          enableConnectionPooling,
                                          transactionTimeoutTime,
                                          automaticallyNoteTime,
-                                         enableLargeEvents);
+                                         enableLargeEvents,
+                                         compression);
         }
     }
 
@@ -164,7 +226,8 @@ public class EventWriterConfig implements Serializable {
 
         @Override
         protected void declareVersions() {
-            version(0).revision(0, this::write00, this::read00);
+            version(0).revision(0, this::write00, this::read00)
+                      .revision(1, this::write01, this::read01);
         }
 
         private void read00(RevisionDataInput revisionDataInput, EventWriterConfigBuilder builder) throws IOException {
@@ -188,6 +251,14 @@ public class EventWriterConfig implements Serializable {
             revisionDataOutput.writeBoolean(object.automaticallyNoteTime);
             revisionDataOutput.writeBoolean(object.enableLargeEvents);
         }
+
+        private void read01(RevisionDataInput revisionDataInput, EventWriterConfigBuilder builder) throws IOException {
+            builder.compression(Compression.fromId(revisionDataInput.readByte()));
+        }
+
+        private void write01(EventWriterConfig object, RevisionDataOutput revisionDataOutput) throws IOException {
+            revisionDataOutput.writeByte(object.getCompression().getId());
+        }
     }
 
     @SneakyThrows(IOException.class)
@@ -28,11 +28,18 @@ public class ReaderConfig implements Serializable {
     private final long initialAllocationDelay;
     private final boolean disableTimeWindows;
     private final int bufferSize;
+    /**
+     * If positive, the read buffer of each segment starts at {@link #bufferSize} and is then grown or shrunk based on how
+     * fast that segment is being read, with the buffers of all segments read by the reader sharing this many bytes.
+     * Otherwise every segment has a fixed buffer of {@link #bufferSize} bytes.
+     */
+    private final long bufferMemoryLimit;
     
     public static class ReaderConfigBuilder {
         private long initialAllocationDelay = 0;
         private boolean disableTimeWindows = false;
         private int bufferSize = 1024 * 1024;
+        private long bufferMemoryLimit = 0;
     }
     
 }
@@ -0,0 +1,236 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.Snappy;
+import io.pravega.client.stream.EventWriterConfig.Compression;
+import io.pravega.client.stream.Serializer;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands.Event;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static io.pravega.shared.protocol.netty.WireCommands.TYPE_PLUS_LENGTH_SIZE;
+import static io.pravega.shared.protocol.netty.WireCommands.TYPE_SIZE;
+
+/**
+ * Compresses and decompresses events as they are stored in a Segment.
+ *
+ * A compressed event is stored as a {@link WireCommandType#COMPRESSED_EVENT} instead of a {@link WireCommandType#EVENT},
+ * so it occupies a single (shorter) position in the Segment and offset-based constructs (reader positions, EventPointers,
+ * StreamCuts) are unaffected. Its payload is laid out as follows:
+ * - Codec (1 byte): the {@link Compression#getId()} of the codec used.
+ * - Uncompressed Length (4 bytes).
+ * - Compressed Data: the DEFLATE (zlib) stream, or a sequence of length-prefixed Snappy blocks (Snappy blocks cannot
+ * exceed {@link #SNAPPY_BLOCK_SIZE} bytes of input).
+ */
+public final class EventCompressor {
+    /**
+     * Events smaller than this are never compressed, since the overhead would outweigh any savings.
+     */
+    private static final int MIN_COMPRESSIBLE_LENGTH = 64;
+    private static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    private static final int SNAPPY_BLOCK_SIZE = Short.MAX_VALUE;
+    private static final int DEFLATE_BUFFER_SIZE = 64 * 1024;
+
+    private EventCompressor() {
+    }
+
+    /**
+     * Serializes the given event so that it can be appended to a Segment, compressing it with the given codec. The result
+     * is a {@link WireCommandType#COMPRESSED_EVENT} if compression reduced its size, or a regular {@link WireCommandType#EVENT}
+     * otherwise.
+     *
+     * @param compression The codec to use.
+     * @param event       The event to serialize. Its position is not changed.
+     * @return A ByteBuf containing the serialized event, including its header.
+     */
+    public static ByteBuf compress(Compression compression, ByteBuffer event) {
+        int length = event.remaining();
+        if (compression != Compression.NONE && length >= MIN_COMPRESSIBLE_LENGTH) {
+            ByteBuf result = Unpooled.buffer(TYPE_PLUS_LENGTH_SIZE + HEADER_SIZE + length / 2);
+            result.writeInt(WireCommandType.COMPRESSED_EVENT.getCode());
+            result.writeInt(0); // Length placeholder.
+            result.writeByte(compression.getId());
+            result.writeInt(length);
+            boolean compressed;
+            switch (compression) {
+                case DEFLATE:
+                    compressed = deflate(event.duplicate(), result, TYPE_PLUS_LENGTH_SIZE + length);
+                    break;
+                case SNAPPY:
+                    compressed = snappy(event.duplicate(), result, TYPE_PLUS_LENGTH_SIZE + length);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported compression codec: " + compression);
+            }
+
+            if (compressed) {
+                result.setInt(TYPE_SIZE, result.readableBytes() - TYPE_PLUS_LENGTH_SIZE);
+                return result;
+            }
+        }
+
+        return new Event(Unpooled.wrappedBuffer(event)).getAsByteBuf();
+    }
+
+    /**
+     * Decompresses the payload of a {@link WireCommandType#COMPRESSED_EVENT}.
+     *
+     * @param payload The payload (excluding the type and length header).
+     * @return A ByteBuffer containing the original event.
+     * @throws InvalidMessageException If the payload is corrupted or uses an unknown codec.
+     */
+    public static ByteBuffer decompress(ByteBuffer payload) {
+        if (payload.remaining() < HEADER_SIZE) {
+            throw new InvalidMessageException("Compressed event of invalid length: " + payload.remaining());
+        }
+        byte codecId = payload.get();
+        int length = payload.getInt();
+        if (length < 0 || length > Serializer.MAX_EVENT_SIZE) {
+            throw new InvalidMessageException("Compressed event of invalid uncompressed length: " + length);
+        }
+        Compression compression;
+        try {
+            compression = Compression.fromId(codecId);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidMessageException(ex.getMessage());
+        }
+
+        switch (compression) {
+            case DEFLATE:
+                return inflate(payload, length);
+            case SNAPPY:
+                return unsnappy(payload, length);
+            default:
+                throw new InvalidMessageException("Unsupported compression codec: " + compression);
+        }
+    }
+
+    /**
+     * Compresses the given data using DEFLATE, giving up if the output exceeds the given limit.
+     */
+    private static boolean deflate(ByteBuffer data, ByteBuf out, int limit) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            setInput(deflater, data);
+            deflater.finish();
+            byte[] buffer = new byte[Math.min(DEFLATE_BUFFER_SIZE, limit)];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.writeBytes(buffer, 0, count);
+                if (out.readableBytes() >= limit) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void setInput(Deflater deflater, ByteBuffer data) {
+        if (data.hasArray()) {
+            deflater.setInput(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            byte[] array = new byte[data.remaining()];
+            data.get(array);
+            deflater.setInput(array);
+        }
+    }
+
+    private static ByteBuffer inflate(ByteBuffer payload, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            if (payload.hasArray()) {
+                inflater.setInput(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+            } else {
+                byte[] input = new byte[payload.remaining()];
+                payload.duplicate().get(input);
+                inflater.setInput(input);
+            }
+            byte[] result = new byte[length];
+            int offset = 0;
+            while (!inflater.finished()) {
+                int count = inflater.inflate(result, offset, result.length - offset);
+                if (count == 0 && !inflater.finished()) {
+                    // Either the input is truncated or the output is larger than declared.
+                    throw new InvalidMessageException(String.format("Compressed event length mismatch. Expected %s.", length));
+                }
+                offset += count;
+            }
+            if (offset != length || inflater.getRemaining() != 0) {
+                throw new InvalidMessageException(String.format("Compressed event length mismatch. Expected %s, found %s.", length, offset));
+            }
+            return ByteBuffer.wrap(result);
+        } catch (DataFormatException ex) {
+            throw new InvalidMessageException(ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Compresses the given data using Snappy, giving up if the output exceeds the given limit.
+     */
+    private static boolean snappy(ByteBuffer data, ByteBuf out, int limit) {
+        Snappy snappy = new Snappy();
+        ByteBuf in = Unpooled.wrappedBuffer(data);
+        while (in.isReadable()) {
+            int blockLength = Math.min(in.readableBytes(), SNAPPY_BLOCK_SIZE);
+            int lengthIndex = out.writerIndex();
+            out.writeInt(0); // Length placeholder.
+            snappy.encode(in.readSlice(blockLength), out, blockLength);
+            snappy.reset();
+            out.setInt(lengthIndex, out.writerIndex() - lengthIndex - Integer.BYTES);
+            if (out.readableBytes() >= limit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer unsnappy(ByteBuffer payload, int length) {
+        Snappy snappy = new Snappy();
+        ByteBuf in = Unpooled.wrappedBuffer(payload);
+        ByteBuf result = Unpooled.buffer(length, length);
+        try {
+            while (in.isReadable()) {
+                int blockLength = in.readInt();
+                Preconditions.checkElementIndex(blockLength, in.readableBytes() + 1, "blockLength");
+                ByteBuf block = in.readSlice(blockLength);
+                snappy.decode(block, result);
+                snappy.reset();
+                if (block.isReadable()) {
+                    throw new InvalidMessageException("Compressed event contains a truncated block.");
+                }
+            }
+        } catch (DecompressionException | IndexOutOfBoundsException ex) {
+            throw new InvalidMessageException(ex);
+        }
+        if (result.readableBytes() != length) {
+            throw new InvalidMessageException(String.format("Compressed event length mismatch. Expected %s, found %s.", length, result.readableBytes()));
+        }
+        return result.nioBuffer();
+    }
+}
@@ -25,11 +25,13 @@ import io.pravega.client.segment.impl.EndOfSegmentException;
 import io.pravega.client.segment.impl.EventSegmentReader;
 import io.pravega.client.segment.impl.NoSuchEventException;
 import io.pravega.client.segment.impl.NoSuchSegmentException;
+import io.pravega.client.segment.impl.ReadBufferBudget;
 import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.segment.impl.SegmentInputStreamFactory;
 import io.pravega.client.segment.impl.SegmentMetadataClient;
 import io.pravega.client.segment.impl.SegmentMetadataClientFactory;
 import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.client.stream.BufferViewSerializer;
 import io.pravega.client.stream.EventPointer;
 import io.pravega.client.stream.EventRead;
 import io.pravega.client.stream.EventStreamReader;
@@ -46,13 +48,14 @@ import io.pravega.client.stream.impl.SegmentWithRange.Range;
 import io.pravega.common.Exceptions;
 import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.BufferView;
 import io.pravega.shared.security.auth.AccessOperation;
 import io.pravega.common.util.CopyOnWriteHashMap;
-import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -79,11 +82,13 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
     private static final int MAX_BUFFERED_SEGMENT_OFFSET_UPDATES = 1000;
 
     private final Serializer<Type> deserializer;
+    private final BufferViewSerializer<Type> viewDeserializer;
     private final SegmentInputStreamFactory inputStreamFactory;
     private final SegmentMetadataClientFactory metadataClientFactory;
 
     private final Orderer orderer;
     private final ReaderConfig config;
+    private final ReadBufferBudget readBufferBudget;
    
     private final ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders;
     @GuardedBy("readers")
@@ -113,12 +118,14 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
             ReaderGroupStateManager groupState, Orderer orderer, Supplier<Long> clock, ReaderConfig config, 
             ImmutableMap<Stream, WatermarkReaderImpl> waterMarkReaders, Controller controller) {
         this.deserializer = deserializer;
+        this.viewDeserializer = deserializer instanceof BufferViewSerializer ? (BufferViewSerializer<Type>) deserializer : null;
         this.inputStreamFactory = inputStreamFactory;
         this.metadataClientFactory = metadataClientFactory;
         this.groupState = groupState;
         this.orderer = orderer;
         this.clock = clock;
         this.config = config;
+        this.readBufferBudget = config.getBufferMemoryLimit() > 0 ? new ReadBufferBudget(config.getBufferMemoryLimit()) : null;
         this.waterMarkReaders = waterMarkReaders;
         this.closed = false;
         this.controller = controller;
@@ -138,12 +145,66 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
         }
     }
     
+    @Override
+    public List<EventRead<Type>> readNextEvents(int maxEvents, long timeoutMillis) throws ReinitializationRequiredException, TruncatedDataException {
+        Preconditions.checkArgument(maxEvents > 0, "maxEvents must be a positive number.");
+        synchronized (readers) {
+            Preconditions.checkState(!closed, "Reader is closed");
+            try {
+                EventRead<Type> first = readNextEventInternal(timeoutMillis);
+                if (first.getEvent() == null || maxEvents == 1) {
+                    return Collections.singletonList(first);
+                }
+                List<EventRead<Type>> result = new ArrayList<>(Math.min(maxEvents, MAX_BUFFERED_SEGMENT_OFFSET_UPDATES));
+                result.add(first);
+                readBufferedEvents(result, maxEvents);
+                return result;
+            } catch (ReaderNotInReaderGroupException e) {
+                close();
+                throw new ReinitializationRequiredException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads events that are already buffered in any of the segments being read, without blocking, until either there
+     * are no more such events or the given list contains maxEvents events. A segment that only has part of its next event
+     * buffered ends the batch, since reading from it would wait for the rest of the event to arrive.
+     *
+     * The reader group state is deliberately not updated between these events (as {@link #readNextEvent} would do): that
+     * happens on the next call, which is also where checkpoints are observed. This is safe because every event is
+     * returned with its own position, and a checkpoint's position is the position after the last event returned.
+     */
+    @GuardedBy("readers")
+    private void readBufferedEvents(List<EventRead<Type>> result, int maxEvents) {
+        while (result.size() < maxEvents) {
+            EventSegmentReader segmentReader = orderer.nextSegment(readers);
+            if (segmentReader == null || !segmentReader.isEventReady()) {
+                return;
+            }
+            EventRead<Type> eventRead;
+            try {
+                eventRead = readEvent(segmentReader, 0);
+            } catch (EndOfSegmentException e) {
+                handleEndOfSegment(segmentReader, e.getErrorType().equals(END_OF_SEGMENT_REACHED));
+                refreshAndGetPosition();
+                continue;
+            } catch (SegmentTruncatedException e) {
+                // The segment reader is still at the same offset. Leave it for the next call to handle, so the
+                // events that were already read are not lost.
+                return;
+            }
+            if (eventRead == null) {
+                return;
+            }
+            result.add(eventRead);
+        }
+    }
+
     private EventRead<Type> readNextEventInternal(long timeoutMillis) throws ReaderNotInReaderGroupException, TruncatedDataException {
         long firstByteTimeoutMillis = Math.min(timeoutMillis, BASE_READER_WAITING_TIME_MS);
         Timer timer = new Timer();
-        Segment segment = null;
-        long offset = -1;
-        ByteBuffer buffer = null;
+        EventRead<Type> result = null;
         do {
             String checkpoint = updateGroupStateIfNeeded();
             if (checkpoint != null) {
@@ -160,35 +221,63 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
                 }
                 blockFor(firstByteTimeoutMillis);
                 segmentsWithData.drainPermits();
-                buffer = null;
             } else {
-                segment = segmentReader.getSegmentId();
-                offset = segmentReader.getOffset();
                 try {
-                    buffer = segmentReader.read(firstByteTimeoutMillis);
+                    result = readEvent(segmentReader, firstByteTimeoutMillis);
                 } catch (EndOfSegmentException e) {
                     boolean isSegmentSealed = e.getErrorType().equals(END_OF_SEGMENT_REACHED);
                     handleEndOfSegment(segmentReader, isSegmentSealed);
-                    buffer = null;
                 } catch (SegmentTruncatedException e) {
                     handleSegmentTruncated(segmentReader, timeoutMillis);
-                    buffer = null;
                 } finally {
-                    if (buffer == null) {
+                    if (result == null) {
                         refreshAndGetPosition();
                     }
                 }
             }
-        } while (buffer == null && timer.getElapsedMillis() < timeoutMillis);
+        } while (result == null && timer.getElapsedMillis() < timeoutMillis);
 
-        if (buffer == null) {
+        if (result == null) {
             log.debug("Empty event returned for reader {} ", groupState.getReaderId());
             return createEmptyEvent(null);
         } 
+        return result;
+    }
+
+    /**
+     * Reads and deserializes the next event from the given segment reader, or returns null if there is none within the
+     * given timeout.
+     */
+    @GuardedBy("readers")
+    private EventRead<Type> readEvent(EventSegmentReader segmentReader, long firstByteTimeoutMillis)
+            throws EndOfSegmentException, SegmentTruncatedException {
+        Segment segment = segmentReader.getSegmentId();
+        long offset = segmentReader.getOffset();
+        Type event;
+        if (viewDeserializer != null) {
+            // The view refers to the segment reader's internal buffer, so it must be deserialized before the next read.
+            BufferView view = segmentReader.readView(firstByteTimeoutMillis);
+            if (view == null) {
+                return null;
+            }
+            event = viewDeserializer.deserialize(view);
+        } else {
+            ByteBuffer buffer = segmentReader.read(firstByteTimeoutMillis);
+            if (buffer == null) {
+                return null;
+            }
+            event = deserializer.deserialize(buffer);
+        }
+        return createEventRead(segment, offset, segmentReader.getOffset(), event);
+    }
+
+    @GuardedBy("readers")
+    private EventRead<Type> createEventRead(Segment segment, long offset, long nextOffset, Type event) {
         lastRead = Sequence.create(segment.getSegmentId(), offset);
-        int length = buffer.remaining() + WireCommands.TYPE_PLUS_LENGTH_SIZE;
-        addSegmentOffsetUpdateIfNeeded(segment, offset + length);
-        return new EventReadImpl<>(deserializer.deserialize(buffer), getCurrentPosition(), new EventPointerImpl(segment, offset, length), null);
+        // The event may have been compressed, so its length in the segment cannot be inferred from the serialized data.
+        int length = (int) (nextOffset - offset);
+        addSegmentOffsetUpdateIfNeeded(segment, nextOffset);
+        return new EventReadImpl<>(event, getCurrentPosition(), new EventPointerImpl(segment, offset, length), null);
     }
 
     private void addSegmentOffsetUpdateIfNeeded(Segment segment, long offset) {
@@ -366,8 +455,13 @@ public final class EventStreamReaderImpl<Type> implements EventStreamReader<Type
                     ranges.put(newSegment.getKey().getSegment(), newSegment.getKey().getRange());
                 } else {
                     Segment segment = newSegment.getKey().getSegment();
-                    EventSegmentReader in = inputStreamFactory.createEventReaderForSegment(segment, config.getBufferSize(),
-                                                                                           segmentsWithData, endOffset);
+                    EventSegmentReader in;
+                    if (readBufferBudget == null) {
+                        in = inputStreamFactory.createEventReaderForSegment(segment, config.getBufferSize(), segmentsWithData, endOffset);
+                    } else {
+                        in = inputStreamFactory.createEventReaderForSegment(segment, config.getBufferSize(), segmentsWithData, endOffset,
+                                                                            readBufferBudget);
+                    }
                     in.setOffset(newSegment.getValue());
                     readers.add(in);
                     ranges.put(segment, newSegment.getKey().getRange());
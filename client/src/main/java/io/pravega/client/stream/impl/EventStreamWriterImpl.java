@@ -140,7 +140,7 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
             } else {
                 synchronized (writeSealLock) {
                     SegmentOutputStream segmentWriter = getSegmentWriter(routingKey);
-                    segmentWriter.write(PendingEvent.withHeader(routingKey, data, ackFuture));
+                    segmentWriter.write(PendingEvent.withHeader(routingKey, data, config.getCompression(), ackFuture));
                 }
             }
         }
@@ -160,7 +160,7 @@ public final class EventStreamWriterImpl<Type> implements EventStreamWriter<Type
             } else {
                 synchronized (writeSealLock) {
                     SegmentOutputStream segmentWriter = getSegmentWriter(routingKey);
-                    segmentWriter.write(PendingEvent.withHeader(routingKey, data, ackFuture));
+                    segmentWriter.write(PendingEvent.withHeader(routingKey, data, config.getCompression(), ackFuture));
                 }
             }
         }
@@ -18,6 +18,7 @@ package io.pravega.client.stream.impl;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.pravega.client.stream.EventWriterConfig.Compression;
 import io.pravega.client.stream.Serializer;
 import io.pravega.shared.protocol.netty.WireCommands.Event;
 import java.nio.ByteBuffer;
@@ -27,6 +28,8 @@ import java.util.concurrent.CompletableFuture;
 import lombok.Data;
 import lombok.NonNull;
 
+import static io.pravega.shared.protocol.netty.WireCommands.TYPE_PLUS_LENGTH_SIZE;
+
 /**
  * This is a internal wrapper object used in the writer to pass along the routing key and the future
  * with the actual event during write.
@@ -63,15 +66,24 @@ public class PendingEvent {
     }
     
     public static PendingEvent withHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
-        ByteBuf eventBuf = getByteBuf(data);
+        return withHeader(routingKey, data, Compression.NONE, ackFuture);
+    }
+
+    public static PendingEvent withHeader(String routingKey, ByteBuffer data, Compression compression, CompletableFuture<Void> ackFuture) {
+        ByteBuf eventBuf = getByteBuf(data, compression);
         return new PendingEvent(routingKey, eventBuf, 1, ackFuture);
     }
     
     public static PendingEvent withHeader(@NonNull String routingKey, @NonNull List<ByteBuffer> batch, @NonNull CompletableFuture<Void> ackFuture) {
+        return withHeader(routingKey, batch, Compression.NONE, ackFuture);
+    }
+
+    public static PendingEvent withHeader(@NonNull String routingKey, @NonNull List<ByteBuffer> batch, @NonNull Compression compression,
+                                          @NonNull CompletableFuture<Void> ackFuture) {
         Preconditions.checkArgument(!batch.isEmpty(), "Batch cannot be empty");
         ByteBuf[] buffers = new ByteBuf[batch.size()];
         for (int i = 0; i < batch.size(); i++) {
-            buffers[i] = getByteBuf(batch.get(i));
+            buffers[i] = getByteBuf(batch.get(i), compression);
         }
 
         ByteBuf batchBuff = Unpooled.wrappedUnmodifiableBuffer(buffers);
@@ -87,9 +99,10 @@ public class PendingEvent {
         return new PendingEvent(routingKey, dataBuf, 1, ackFuture);
     }
 
-    private static ByteBuf getByteBuf(ByteBuffer data) {
-        ByteBuf eventBuf = new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf();
-        Preconditions.checkArgument(eventBuf.readableBytes() <= MAX_WRITE_SIZE, "Write size too large: %s", eventBuf.readableBytes());
-        return eventBuf;
+    private static ByteBuf getByteBuf(ByteBuffer data, Compression compression) {
+        // The limit applies to the uncompressed event, whether it gets compressed or not.
+        Preconditions.checkArgument(data.remaining() + TYPE_PLUS_LENGTH_SIZE <= MAX_WRITE_SIZE, "Write size too large: %s",
+                data.remaining() + TYPE_PLUS_LENGTH_SIZE);
+        return EventCompressor.compress(compression, data);
     }
 }
@@ -33,19 +33,49 @@ public class KeyValueTableClientConfiguration implements Serializable {
     private final int maxBackoffMillis;
     private final int retryAttempts;
     private final int backoffMultiple;
+    /**
+     * The maximum number of Table Entries (including known-absent Keys) to cache locally for read-through lookups. If 0,
+     * no caching is done and every read is sent to the server.
+     *
+     * @param cacheMaxEntries Maximum number of entries to cache.
+     * @return Maximum number of entries to cache.
+     */
+    private final int cacheMaxEntries;
+    /**
+     * The amount of time, in milliseconds, that a cached Table Entry may be served without re-validating it with the server.
+     * This bounds how stale a cached entry can be with respect to updates made by other clients.
+     *
+     * @param cacheTtlMillis Cached entry time-to-live, in milliseconds.
+     * @return Cached entry time-to-live, in milliseconds.
+     */
+    private final long cacheTtlMillis;
+
+    /**
+     * Gets a value indicating whether client-side caching of Table Entries is enabled.
+     *
+     * @return True if {@link #getCacheMaxEntries()} is positive, false otherwise.
+     */
+    public boolean isCachingEnabled() {
+        return this.cacheMaxEntries > 0;
+    }
 
     public static final class KeyValueTableClientConfigurationBuilder {
         private int initialBackoffMillis = 10;
         private int maxBackoffMillis = 30000;
         private int retryAttempts = 10;
         private int backoffMultiple = 4;
+        private int cacheMaxEntries = 0;
+        private long cacheTtlMillis = 1000;
 
         public KeyValueTableClientConfiguration build() {
             Preconditions.checkArgument(this.initialBackoffMillis >= 0, "Initial backoff must be non-negative number.");
             Preconditions.checkArgument(this.backoffMultiple >= 0, "Backoff multiple must be a non-negative number.");
             Preconditions.checkArgument(this.maxBackoffMillis >= 0, "Max backoff time must be non-negative number.");
             Preconditions.checkArgument(this.retryAttempts > 0, "Retry attempts must be a positive number.");
-            return new KeyValueTableClientConfiguration(this.initialBackoffMillis, this.maxBackoffMillis, this.retryAttempts, this.backoffMultiple);
+            Preconditions.checkArgument(this.cacheMaxEntries >= 0, "Cache max entries must be a non-negative number.");
+            Preconditions.checkArgument(this.cacheTtlMillis > 0, "Cache TTL must be a positive number.");
+            return new KeyValueTableClientConfiguration(this.initialBackoffMillis, this.maxBackoffMillis, this.retryAttempts, this.backoffMultiple,
+                    this.cacheMaxEntries, this.cacheTtlMillis);
         }
     }
 }
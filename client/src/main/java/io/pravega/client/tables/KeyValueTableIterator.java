@@ -63,6 +63,39 @@ public interface KeyValueTableIterator {
          */
         KeyValueTableIterator.Builder maxIterationSize(int maxIterationSize);
 
+        /**
+         * Sets whether the iteration should proceed in reverse order (from the highest {@link TableKey} down to the
+         * lowest one). By default, iterations proceed in ascending order.
+         * <p>
+         * Reverse iterations require Segment Stores that support them. If a Segment Store does not, the iteration will
+         * fail with {@link UnsupportedOperationException}.
+         *
+         * @param reverse True if the iteration should proceed in reverse order, false otherwise.
+         * @return This instance.
+         */
+        KeyValueTableIterator.Builder reverse(boolean reverse);
+
+        /**
+         * Sets the maximum number of items to return over the whole iteration. Once this many items have been returned,
+         * {@link AsyncIterator#getNext()} will complete with null.
+         *
+         * @param limit The maximum number of items to return over the whole iteration.
+         * @return This instance.
+         */
+        KeyValueTableIterator.Builder limit(int limit);
+
+        /**
+         * Sets the {@link TableKey} to resume a previous iteration after. This should be the last {@link TableKey}
+         * returned by that iteration, which must have been configured with the same range and direction. The new
+         * iteration will exclude this {@link TableKey} and will only return {@link TableKey}s that follow it (or precede
+         * it, if {@link #reverse} is set).
+         *
+         * @param lastKey The last {@link TableKey} returned by a previous iteration. If null, the iteration will begin
+         *                at the start of the range.
+         * @return This instance.
+         */
+        KeyValueTableIterator.Builder continueAfter(@Nullable TableKey lastKey);
+
         /**
          * Creates a new {@link KeyValueTableIterator} that returns {@link TableKey}/{@link TableEntry} instances with
          * the same Primary Key (see {@link TableKey#getPrimaryKey()}. This will iterate through all
@@ -106,6 +139,23 @@ public interface KeyValueTableIterator {
          */
         KeyValueTableIterator forPrimaryKey(@NonNull ByteBuffer primaryKey, @Nullable ByteBuffer secondaryKeyPrefix);
 
+        /**
+         * Creates a new {@link KeyValueTableIterator} that returns {@link TableKey}/{@link TableEntry} instances with
+         * the same Primary Key (see {@link TableKey#getPrimaryKey()} and Secondary Keys (see {@link TableKey#getSecondaryKey()})
+         * in the half-open range [{@code fromSecondaryKey}, {@code toSecondaryKey}). The range is resolved server-side,
+         * so only the portion of the index that covers it is read.
+         *
+         * @param primaryKey       A {@link ByteBuffer} representing the full Primary Key to search.
+         * @param fromSecondaryKey A {@link ByteBuffer} that indicates the Secondary Key to begin the iteration at. If not
+         *                         provided (null), the iterator will begin with the first {@link TableKey}/{@link TableEntry}
+         *                         that has the given Primary Key. This argument is inclusive.
+         * @param toSecondaryKey   A {@link ByteBuffer} that indicates the Secondary Key to end the iteration at. If not
+         *                         provided (null), the iterator will end with the last {@link TableKey}/{@link TableEntry}
+         *                         that has the given Primary Key. This argument is exclusive.
+         * @return A new {@link KeyValueTableIterator} that can be used for the iteration.
+         */
+        KeyValueTableIterator forPrimaryKeyRange(@NonNull ByteBuffer primaryKey, @Nullable ByteBuffer fromSecondaryKey, @Nullable ByteBuffer toSecondaryKey);
+
         /**
          * Creates a new {@link KeyValueTableIterator} that returns {@link TableKey}/{@link TableEntry} instances with
          * Primary Keys (see {@link TableKey#getPrimaryKey()} between the two values. Depending on the arguments provided,
@@ -44,7 +44,7 @@ public class KeyValueTableFactoryImpl implements KeyValueTableFactory {
         val kvt = new KeyValueTableInfo(this.scope, keyValueTableName);
         val provider = DelegationTokenProviderFactory.create(this.controller, kvt.getScope(), kvt.getKeyValueTableName(), AccessOperation.READ_WRITE);
         val tsf = new TableSegmentFactoryImpl(this.controller, this.connectionPool, clientConfiguration, provider);
-        return new KeyValueTableImpl(kvt, tsf, this.controller, this.connectionPool.getInternalExecutor());
+        return new KeyValueTableImpl(kvt, tsf, this.controller, this.connectionPool.getInternalExecutor(), clientConfiguration);
     }
 
     @Override
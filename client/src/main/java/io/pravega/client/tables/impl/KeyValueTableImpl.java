@@ -18,10 +18,12 @@ package io.pravega.client.tables.impl;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterators;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.pravega.client.admin.KeyValueTableInfo;
 import io.pravega.client.control.impl.Controller;
 import io.pravega.client.tables.ConditionalTableUpdateException;
 import io.pravega.client.tables.KeyValueTable;
+import io.pravega.client.tables.KeyValueTableClientConfiguration;
 import io.pravega.client.tables.KeyValueTableConfiguration;
 import io.pravega.client.tables.Remove;
 import io.pravega.client.tables.TableEntry;
@@ -38,6 +40,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -63,6 +66,7 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
     private final KeyValueTableConfiguration config;
     private final TableEntryHelper entryHelper;
     private final Executor executor;
+    private final TableEntryCache cache;
 
     //endregion
 
@@ -78,7 +82,25 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
      */
     KeyValueTableImpl(@NonNull KeyValueTableInfo kvt, @NonNull TableSegmentFactory tableSegmentFactory,
                       @NonNull Controller controller, @NonNull Executor executor) {
+        this(kvt, tableSegmentFactory, controller, executor, KeyValueTableClientConfiguration.builder().build());
+    }
+
+    /**
+     * Creates a new instance of the {@link KeyValueTableImpl} class.
+     *
+     * @param kvt                 A {@link KeyValueTableInfo} containing information about the Key-Value Table.
+     * @param tableSegmentFactory Factory to create {@link TableSegment} instances.
+     * @param controller          Controller client.
+     * @param executor            An Executor for async operations.
+     * @param clientConfig        The {@link KeyValueTableClientConfiguration} to use. If caching is enabled, reads will
+     *                            be served from a local {@link TableEntryCache} whenever possible.
+     */
+    KeyValueTableImpl(@NonNull KeyValueTableInfo kvt, @NonNull TableSegmentFactory tableSegmentFactory,
+                      @NonNull Controller controller, @NonNull Executor executor, @NonNull KeyValueTableClientConfiguration clientConfig) {
         this.executor = executor;
+        this.cache = clientConfig.isCachingEnabled()
+                ? new TableEntryCache(clientConfig.getCacheMaxEntries(), clientConfig.getCacheTtlMillis())
+                : null;
         this.selector = new SegmentSelector(kvt, controller, tableSegmentFactory);
         this.config = getConfig(kvt, controller);
         this.entryHelper = new TableEntryHelper(this.selector, this.config);
@@ -86,7 +108,7 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
         this.closed = new AtomicBoolean(false);
         Preconditions.checkArgument(config.getPartitionCount() == this.selector.getSegmentCount(),
                 "Inconsistent Segment Count. Expected %s, actual %s.", config.getPartitionCount(), this.selector.getSegmentCount());
-        log.info("{}: Initialized. Config: {}.", this.logTraceId, this.config);
+        log.info("{}: Initialized. Config: {}. Cache: {}.", this.logTraceId, this.config, this.cache);
     }
 
     private KeyValueTableConfiguration getConfig(KeyValueTableInfo kvt, Controller controller) {
@@ -114,15 +136,19 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
     @Override
     public CompletableFuture<Version> update(@NonNull TableModification update) {
         val s = this.selector.getTableSegment(update.getKey().getPrimaryKey());
+        val modifiedKeys = new ArrayList<ModifiedKey>(1);
+        CompletableFuture<Version> result;
         if (update.isRemoval()) {
             val removeArgs = new UpdateArg<TableSegmentKey>(update.getKey().getPrimaryKey(), s,
-                    Iterators.singletonIterator(this.entryHelper.toTableSegmentKey(s, (Remove) update)));
-            return removeFromSegment(removeArgs.getTableSegment(), removeArgs.getAllArgs()).thenApply(r -> null);
+                    Iterators.singletonIterator(this.entryHelper.toTableSegmentKey(s, (Remove) trackModification(update, modifiedKeys))));
+            result = removeFromSegment(removeArgs.getTableSegment(), removeArgs.getAllArgs()).thenApply(r -> null);
         } else {
             val updateArgs = new UpdateArg<>(update.getKey().getPrimaryKey(), s,
-                    Iterators.singletonIterator(this.entryHelper.toTableSegmentEntry(s, (TableEntryUpdate) update)));
-            return updateToSegment(updateArgs.getTableSegment(), updateArgs.getAllArgs()).thenApply(r -> r.get(0));
+                    Iterators.singletonIterator(this.entryHelper.toTableSegmentEntry(s, (TableEntryUpdate) trackModification(update, modifiedKeys))));
+            result = updateToSegment(updateArgs.getTableSegment(), updateArgs.getAllArgs()).thenApply(r -> r.get(0));
         }
+
+        return result.whenComplete((r, ex) -> completeModifications(modifiedKeys, ex));
     }
 
     @Override
@@ -135,19 +161,28 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
 
         val firstInput = inputIterator.next();
         val ts = this.selector.getTableSegment(firstInput.getKey().getPrimaryKey());
+        val modifiedKeys = new ArrayList<ModifiedKey>();
+        CompletableFuture<List<Version>> result;
         if (firstInput.isRemoval()) {
             val args = toArg(firstInput, inputIterator, ts,
-                    u -> this.entryHelper.toTableSegmentKey(ts, (Remove) u));
-            return removeFromSegment(args.getTableSegment(), args.getAllArgs()).thenApply(r -> Collections.emptyList());
+                    u -> this.entryHelper.toTableSegmentKey(ts, (Remove) trackModification(u, modifiedKeys)));
+            result = removeFromSegment(args.getTableSegment(), args.getAllArgs()).thenApply(r -> Collections.emptyList());
         } else {
             val args = toArg(firstInput, inputIterator, ts,
-                    u -> this.entryHelper.toTableSegmentEntry(ts, (TableEntryUpdate) u));
-            return updateToSegment(args.getTableSegment(), args.getAllArgs());
+                    u -> this.entryHelper.toTableSegmentEntry(ts, (TableEntryUpdate) trackModification(u, modifiedKeys)));
+            result = updateToSegment(args.getTableSegment(), args.getAllArgs());
         }
+
+        return result.whenComplete((r, ex) -> completeModifications(modifiedKeys, ex));
     }
 
     @Override
     public CompletableFuture<Boolean> exists(@NonNull TableKey key) {
+        if (this.cache != null) {
+            // get(key) is served from the cache if possible; if not, its result is cached for future lookups.
+            return get(key).thenApply(Objects::nonNull);
+        }
+
         // We attempt a removal conditioned on the key not existing (no-op if key actual exists). This is preferred to
         // using get(key) because get() will also attempt to read and return the value (of no use in this case).
         return update(new Remove(key, Version.NOT_EXISTS))
@@ -174,12 +209,26 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
     public CompletableFuture<List<TableEntry>> getAll(@NonNull Iterable<TableKey> keys) {
         Exceptions.checkNotClosed(this.closed.get(), this);
 
+        val cacheStamp = this.cache == null ? 0L : this.cache.getStamp();
         val bySegment = new HashMap<TableSegment, KeyGroup>();
+        val cacheHits = new HashMap<Integer, TableEntry>();
         val count = new AtomicInteger(0);
         keys.forEach(k -> {
+            int ordinal = count.getAndIncrement();
             TableSegment ts = this.selector.getTableSegment(k.getPrimaryKey());
+            ByteBuf serializedKey = this.entryHelper.serializeKey(k);
+            ByteBuffer cacheKey = null;
+            if (this.cache != null) {
+                cacheKey = toCacheKey(serializedKey);
+                val cached = this.cache.get(cacheKey);
+                if (cached != null) {
+                    cacheHits.put(ordinal, cached.getEntry());
+                    return;
+                }
+            }
+
             KeyGroup g = bySegment.computeIfAbsent(ts, t -> new KeyGroup());
-            g.add(this.entryHelper.serializeKey(k), count.getAndIncrement());
+            g.add(serializedKey, cacheKey, ordinal);
         });
 
         val futures = new HashMap<TableSegment, CompletableFuture<List<TableSegmentEntry>>>();
@@ -187,6 +236,7 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
         return Futures.allOf(futures.values())
                 .thenApply(v -> {
                     val r = new TableEntry[count.get()];
+                    cacheHits.forEach((ordinal, e) -> r[ordinal] = e);
                     futures.forEach((ts, f) -> {
                         KeyGroup kg = bySegment.get(ts);
                         assert f.isDone() : "incomplete CompletableFuture returned by Futures.allOf";
@@ -194,7 +244,11 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
                         assert segmentResult.size() == kg.ordinals.size() : "segmentResult count mismatch";
                         for (int i = 0; i < kg.ordinals.size(); i++) {
                             assert r[kg.ordinals.get(i)] == null : "overlapping ordinals";
-                            r[kg.ordinals.get(i)] = this.entryHelper.fromTableSegmentEntry(ts, segmentResult.get(i));
+                            val e = this.entryHelper.fromTableSegmentEntry(ts, segmentResult.get(i));
+                            r[kg.ordinals.get(i)] = e;
+                            if (this.cache != null) {
+                                this.cache.put(kg.cacheKeys.get(i), e, cacheStamp);
+                            }
                         }
                     });
                     return Arrays.asList(r);
@@ -207,10 +261,51 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
         return new KeyValueTableIteratorImpl.Builder(this.config, this.entryHelper, this.executor);
     }
 
+    /**
+     * Gets a snapshot of the statistics for the local Table Entry cache.
+     *
+     * @return A {@link TableEntryCacheStats} instance, or null if caching is not enabled.
+     */
+    public TableEntryCacheStats getCacheStats() {
+        return this.cache == null ? null : this.cache.getStats();
+    }
+
     //endregion
 
     //region Helpers
 
+    private ByteBuffer toCacheKey(ByteBuf serializedKey) {
+        return ByteBuffer.wrap(ByteBufUtil.getBytes(serializedKey));
+    }
+
+    /**
+     * Invalidates the given {@link TableModification}'s Key from the cache (if enabled) before it is sent to the server,
+     * and records it so that {@link #completeModifications} can invalidate it again once the server has responded.
+     */
+    private TableModification trackModification(TableModification m, List<ModifiedKey> modifiedKeys) {
+        if (this.cache != null) {
+            val cacheKey = toCacheKey(this.entryHelper.serializeKey(m.getKey()));
+            this.cache.invalidate(cacheKey);
+            modifiedKeys.add(new ModifiedKey(cacheKey, m.getVersion()));
+        }
+        return m;
+    }
+
+    private void completeModifications(List<ModifiedKey> modifiedKeys, Throwable ex) {
+        if (this.cache == null) {
+            return;
+        }
+
+        boolean conditionFailed = ex != null && Exceptions.unwrap(ex) instanceof ConditionalTableUpdateException;
+        for (val k : modifiedKeys) {
+            if (conditionFailed) {
+                this.cache.invalidateStale(k.getCacheKey(), k.getExpectedVersion());
+            } else {
+                this.cache.invalidate(k.getCacheKey());
+            }
+        }
+    }
+
     private <T> UpdateArg<T> toArg(TableModification firstInput, Iterator<TableModification> inputIterator, TableSegment ts,
                                    Function<TableModification, T> convert) {
         val firstInputIterator = Iterators.singletonIterator(convert.apply(firstInput));
@@ -241,14 +336,22 @@ public class KeyValueTableImpl implements KeyValueTable, AutoCloseable {
 
     private static class KeyGroup {
         final ArrayList<ByteBuf> keys = new ArrayList<>();
+        final ArrayList<ByteBuffer> cacheKeys = new ArrayList<>();
         final ArrayList<Integer> ordinals = new ArrayList<>();
 
-        void add(ByteBuf key, int ordinal) {
+        void add(ByteBuf key, ByteBuffer cacheKey, int ordinal) {
             this.keys.add(key);
+            this.cacheKeys.add(cacheKey);
             this.ordinals.add(ordinal);
         }
     }
 
+    @Data
+    private static class ModifiedKey {
+        private final ByteBuffer cacheKey;
+        private final Version expectedVersion;
+    }
+
     @Data
     private static class UpdateArg<T> {
         private final ByteBuffer primaryKey;
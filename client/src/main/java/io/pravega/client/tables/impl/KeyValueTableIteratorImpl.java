@@ -51,6 +51,7 @@ import lombok.val;
 class KeyValueTableIteratorImpl implements KeyValueTableIterator {
     //region Members
 
+    private static final TableKeyComparator KEY_COMPARATOR = new TableKeyComparator();
     @Getter
     @NonNull
     private final ByteBuffer fromPrimaryKey;
@@ -64,6 +65,10 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
     @NonNull
     private final ByteBuffer toSecondaryKey;
     private final int maxIterationSize;
+    @Getter
+    private final boolean reverse;
+    @Getter
+    private final int limit;
     @NonNull
     private final TableEntryHelper entryConverter;
     @NonNull
@@ -83,14 +88,33 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
         return this.fromPrimaryKey.equals(this.toPrimaryKey);
     }
 
+    /**
+     * Gets a value indicating whether this {@link KeyValueTableIterator} has an empty range (i.e., its lower bound is
+     * greater than its upper bound), in which case there is nothing to iterate on.
+     *
+     * @return True if the range is empty, false otherwise.
+     */
+    boolean isEmptyRange() {
+        int r = KEY_COMPARATOR.compare(this.fromPrimaryKey, this.toPrimaryKey);
+        return r > 0 || (r == 0 && KEY_COMPARATOR.compare(this.fromSecondaryKey, this.toSecondaryKey) > 0);
+    }
+
     @Override
     public AsyncIterator<IteratorItem<TableKey>> keys() {
-        return isSingleSegment() ? singleSegmentKeys() : multiSegmentKeys();
+        if (isEmptyRange()) {
+            return () -> CompletableFuture.completedFuture(null);
+        }
+
+        return applyLimit(isSingleSegment() ? singleSegmentKeys() : multiSegmentKeys());
     }
 
     @Override
     public AsyncIterator<IteratorItem<TableEntry>> entries() {
-        return isSingleSegment() ? singleSegmentEntries() : multiSegmentEntries();
+        if (isEmptyRange()) {
+            return () -> CompletableFuture.completedFuture(null);
+        }
+
+        return applyLimit(isSingleSegment() ? singleSegmentEntries() : multiSegmentEntries());
     }
 
     private AsyncIterator<IteratorItem<TableKey>> singleSegmentKeys() {
@@ -136,15 +160,50 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
                 .iterator();
 
         // Return a MergeAsyncIterator with all of them.
-        return new MergeAsyncIterator<>(segmentIterators, getKey, this.maxIterationSize, this.executor)
+        return new MergeAsyncIterator<>(segmentIterators, getKey, getBatchSize(), this.reverse, this.executor)
                 .asSequential(this.executor); // Ensure that we won't get overlapping requests from the user.
     }
 
+    private <T> AsyncIterator<IteratorItem<T>> applyLimit(AsyncIterator<IteratorItem<T>> iterator) {
+        if (this.limit == Integer.MAX_VALUE) {
+            // No limit set.
+            return iterator;
+        }
+
+        val remaining = new AtomicInteger(this.limit);
+        AsyncIterator<IteratorItem<T>> result = () -> {
+            if (remaining.get() <= 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return iterator.getNext()
+                    .thenApply(item -> {
+                        if (item == null) {
+                            return null;
+                        }
+
+                        // Truncate the last batch so that we never return more than the limit.
+                        List<T> items = item.getItems();
+                        if (items.size() > remaining.get()) {
+                            items = items.subList(0, remaining.get());
+                        }
+                        remaining.addAndGet(-items.size());
+                        return new IteratorItem<>(items);
+                    });
+        };
+        return result.asSequential(this.executor);
+    }
+
+    private int getBatchSize() {
+        return Math.min(this.maxIterationSize, this.limit);
+    }
+
     private SegmentIteratorArgs getIteratorArgs() {
         return SegmentIteratorArgs.builder()
-                .maxItemsAtOnce(this.maxIterationSize)
+                .maxItemsAtOnce(getBatchSize())
                 .fromKey(this.entryConverter.serializeKey(this.fromPrimaryKey, this.fromSecondaryKey))
                 .toKey(this.entryConverter.serializeKey(this.toPrimaryKey, this.toSecondaryKey))
+                .reverse(this.reverse)
                 .build();
     }
 
@@ -158,7 +217,8 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
      * General algorithm:
      * 1. Initiate single-segment iterators (this is our input).
      * 2. Flatten them (one item at a time).
-     * 3. Fetch the initial batch from each iterators, exclude those with no data, and sort by TableKey (lowest to highest).
+     * 3. Fetch the initial batch from each iterators, exclude those with no data, and sort by TableKey (lowest to highest,
+     * or highest to lowest if reversed).
      * 4. With each call to {@link #getNext()}, retrieve first item from lowest-ordered iterator. Repeat until we fill our batch,
      * making sure to always keep the individual iterators sorted by TableKey (every retrieval may affect the order).
      * 5. When a single-segment iterator is done, remove from list of iterators.
@@ -168,15 +228,21 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
      */
     @VisibleForTesting
     static class MergeAsyncIterator<T> implements AsyncIterator<IteratorItem<T>> {
-        private static final TableKeyComparator COMPARATOR = new TableKeyComparator();
         private final CompletableFuture<PriorityQueue<PeekingIterator<T>>> segments;
         private final Function<T, TableKey> getKey;
+        private final Comparator<TableKey> order;
         private final int maxIterationSize;
         private final Executor executor;
 
         MergeAsyncIterator(Iterator<AsyncIterator<IteratorItem<T>>> iterators, Function<T, TableKey> getKey,
                            int maxIterationSize, Executor executor) {
+            this(iterators, getKey, maxIterationSize, false, executor);
+        }
+
+        MergeAsyncIterator(Iterator<AsyncIterator<IteratorItem<T>>> iterators, Function<T, TableKey> getKey,
+                           int maxIterationSize, boolean reverse, Executor executor) {
             this.getKey = getKey;
+            this.order = reverse ? KEY_COMPARATOR.reversed() : KEY_COMPARATOR;
             this.maxIterationSize = maxIterationSize;
             this.segments = initialize(iterators);
             this.executor = executor;
@@ -222,7 +288,7 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
                 moveFirst.put(ss, ss.advance());
             }
 
-            val result = new PriorityQueue<PeekingIterator<T>>((s1, s2) -> COMPARATOR.compare(s1.getCurrent().getKey(), s2.getCurrent().getKey()));
+            val result = new PriorityQueue<PeekingIterator<T>>((s1, s2) -> this.order.compare(s1.getCurrent().getKey(), s2.getCurrent().getKey()));
             return Futures.allOf(moveFirst.values())
                     .thenApply(v -> {
                         // Clear out those iterators with no values, and add the rest to the heap.
@@ -311,7 +377,7 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             int r;
             for (int i = 0; i < b1.remaining(); i++) {
                 // Unsigned comparison mimics bitwise comparison.
-                r = (b1.get(i) & 0xFF) - (b2.get(i) & 0xFF);
+                r = (b1.get(b1.position() + i) & 0xFF) - (b2.get(b2.position() + i) & 0xFF);
                 if (r != 0) {
                     return r;
                 }
@@ -341,6 +407,9 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
         @NonNull
         private final Executor executor;
         private int maxIterationSize = 10;
+        private boolean reverse = false;
+        private int limit = Integer.MAX_VALUE;
+        private TableKey continueAfter = null;
 
         @Override
         public KeyValueTableIterator.Builder maxIterationSize(int size) {
@@ -349,6 +418,32 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             return this;
         }
 
+        @Override
+        public KeyValueTableIterator.Builder reverse(boolean reverse) {
+            this.reverse = reverse;
+            return this;
+        }
+
+        @Override
+        public KeyValueTableIterator.Builder limit(int limit) {
+            Preconditions.checkArgument(limit > 0, "limit must be a positive integer");
+            this.limit = limit;
+            return this;
+        }
+
+        @Override
+        public KeyValueTableIterator.Builder continueAfter(TableKey lastKey) {
+            if (lastKey != null) {
+                validateExact(lastKey.getPrimaryKey(), this.kvtConfig.getPrimaryKeyLength(), "Primary Key");
+                if (this.kvtConfig.getSecondaryKeyLength() > 0) {
+                    Preconditions.checkArgument(lastKey.getSecondaryKey() != null, "Secondary Key must be provided.");
+                    validateExact(lastKey.getSecondaryKey(), this.kvtConfig.getSecondaryKeyLength(), "Secondary Key");
+                }
+            }
+            this.continueAfter = lastKey;
+            return this;
+        }
+
         @Override
         public KeyValueTableIteratorImpl forPrimaryKey(@NonNull ByteBuffer primaryKey) {
             return forPrimaryKey(primaryKey, null, null);
@@ -363,8 +458,7 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             // If these are null, pad() will replace them with appropriately sized buffers.
             fromSecondaryKey = pad(fromSecondaryKey, MIN_BYTE, this.kvtConfig.getSecondaryKeyLength());
             toSecondaryKey = pad(toSecondaryKey, MAX_BYTE, this.kvtConfig.getSecondaryKeyLength());
-            return new KeyValueTableIteratorImpl(primaryKey, fromSecondaryKey, primaryKey, toSecondaryKey,
-                    this.maxIterationSize, this.entryConverter, this.executor);
+            return newIterator(primaryKey, fromSecondaryKey, primaryKey, toSecondaryKey);
         }
 
         @Override
@@ -375,8 +469,29 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             // If secondaryKeyPrefix is null, pad() will replace it with the effective Min/Max values, as needed.
             val fromSecondaryKey = pad(secondaryKeyPrefix, (byte) 0, this.kvtConfig.getSecondaryKeyLength());
             val toSecondaryKey = pad(secondaryKeyPrefix, (byte) 0xFF, this.kvtConfig.getSecondaryKeyLength());
-            return new KeyValueTableIteratorImpl(primaryKey, fromSecondaryKey, primaryKey, toSecondaryKey,
-                    this.maxIterationSize, this.entryConverter, this.executor);
+            return newIterator(primaryKey, fromSecondaryKey, primaryKey, toSecondaryKey);
+        }
+
+        @Override
+        public KeyValueTableIteratorImpl forPrimaryKeyRange(@NonNull ByteBuffer primaryKey, ByteBuffer fromSecondaryKey, ByteBuffer toSecondaryKey) {
+            validateExact(primaryKey, this.kvtConfig.getPrimaryKeyLength(), "Primary Key");
+            validateExact(fromSecondaryKey, this.kvtConfig.getSecondaryKeyLength(), "From Secondary Key");
+            validateExact(toSecondaryKey, this.kvtConfig.getSecondaryKeyLength(), "To Secondary Key");
+
+            fromSecondaryKey = pad(fromSecondaryKey, MIN_BYTE, this.kvtConfig.getSecondaryKeyLength());
+            if (toSecondaryKey == null) {
+                toSecondaryKey = pad(null, MAX_BYTE, this.kvtConfig.getSecondaryKeyLength());
+            } else {
+                // The upper bound is exclusive, but the Table Segment ranges are inclusive; use its immediate predecessor.
+                val to = SegmentIteratorArgs.predecessor(toBytes(toSecondaryKey));
+                if (to == null) {
+                    // Nothing precedes this Secondary Key.
+                    return emptyIterator();
+                }
+                toSecondaryKey = ByteBuffer.wrap(to);
+            }
+
+            return newIterator(primaryKey, fromSecondaryKey, primaryKey, toSecondaryKey);
         }
 
         @Override
@@ -391,8 +506,7 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             // SecondaryKeys must be the full range in this case, otherwise the resulting iterator will have non-contiguous ranges.
             val fromSecondaryKey = pad(null, MIN_BYTE, this.kvtConfig.getSecondaryKeyLength());
             val toSecondaryKey = pad(null, MAX_BYTE, this.kvtConfig.getSecondaryKeyLength());
-            return new KeyValueTableIteratorImpl(fromPrimaryKey, fromSecondaryKey, toPrimaryKey, toSecondaryKey,
-                    this.maxIterationSize, this.entryConverter, this.executor);
+            return newIterator(fromPrimaryKey, fromSecondaryKey, toPrimaryKey, toSecondaryKey);
         }
 
         @Override
@@ -405,8 +519,7 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             // SecondaryKeys must be the full range in this case, otherwise the resulting iterator will have non-contiguous ranges.
             val fromSecondaryKey = pad(null, MIN_BYTE, this.kvtConfig.getSecondaryKeyLength());
             val toSecondaryKey = pad(null, MAX_BYTE, this.kvtConfig.getSecondaryKeyLength());
-            return new KeyValueTableIteratorImpl(fromPrimaryKey, fromSecondaryKey, toPrimaryKey, toSecondaryKey,
-                    this.maxIterationSize, this.entryConverter, this.executor);
+            return newIterator(fromPrimaryKey, fromSecondaryKey, toPrimaryKey, toSecondaryKey);
         }
 
         @Override
@@ -414,6 +527,61 @@ class KeyValueTableIteratorImpl implements KeyValueTableIterator {
             return forRange(null, null);
         }
 
+        private KeyValueTableIteratorImpl newIterator(ByteBuffer fromPrimaryKey, ByteBuffer fromSecondaryKey,
+                                                      ByteBuffer toPrimaryKey, ByteBuffer toSecondaryKey) {
+            if (this.continueAfter != null) {
+                // Narrow the range so that it begins (or ends, if reversed) right after the last returned key. Table
+                // Segment keys are made up of the Primary Key followed by the Secondary Key, so we can operate on both
+                // as a whole and split the result back.
+                val lastKey = new byte[this.kvtConfig.getTotalKeyLength()];
+                val pkLength = this.kvtConfig.getPrimaryKeyLength();
+                this.continueAfter.getPrimaryKey().duplicate().get(lastKey, 0, pkLength);
+                if (this.kvtConfig.getSecondaryKeyLength() > 0) {
+                    this.continueAfter.getSecondaryKey().duplicate().get(lastKey, pkLength, this.kvtConfig.getSecondaryKeyLength());
+                }
+
+                val next = this.reverse ? SegmentIteratorArgs.predecessor(lastKey) : SegmentIteratorArgs.successor(lastKey);
+                if (next == null) {
+                    // The last returned key was at the very end of the key space; there is nothing after it.
+                    return emptyIterator();
+                }
+
+                val nextPrimaryKey = ByteBuffer.wrap(next, 0, pkLength).slice();
+                val nextSecondaryKey = ByteBuffer.wrap(next, pkLength, next.length - pkLength).slice();
+                if (this.reverse) {
+                    if (compare(nextPrimaryKey, nextSecondaryKey, toPrimaryKey, toSecondaryKey) < 0) {
+                        toPrimaryKey = nextPrimaryKey;
+                        toSecondaryKey = nextSecondaryKey;
+                    }
+                } else if (compare(nextPrimaryKey, nextSecondaryKey, fromPrimaryKey, fromSecondaryKey) > 0) {
+                    fromPrimaryKey = nextPrimaryKey;
+                    fromSecondaryKey = nextSecondaryKey;
+                }
+            }
+
+            return new KeyValueTableIteratorImpl(fromPrimaryKey, fromSecondaryKey, toPrimaryKey, toSecondaryKey,
+                    this.maxIterationSize, this.reverse, this.limit, this.entryConverter, this.executor);
+        }
+
+        private KeyValueTableIteratorImpl emptyIterator() {
+            // A range whose lower bound is greater than its upper bound; see isEmptyRange().
+            return new KeyValueTableIteratorImpl(
+                    pad(null, MAX_BYTE, this.kvtConfig.getPrimaryKeyLength()), pad(null, MAX_BYTE, this.kvtConfig.getSecondaryKeyLength()),
+                    pad(null, MIN_BYTE, this.kvtConfig.getPrimaryKeyLength()), pad(null, MIN_BYTE, this.kvtConfig.getSecondaryKeyLength()),
+                    this.maxIterationSize, this.reverse, this.limit, this.entryConverter, this.executor);
+        }
+
+        private int compare(ByteBuffer pk1, ByteBuffer sk1, ByteBuffer pk2, ByteBuffer sk2) {
+            int r = KEY_COMPARATOR.compare(pk1, pk2);
+            return r == 0 ? KEY_COMPARATOR.compare(sk1, sk2) : r;
+        }
+
+        private byte[] toBytes(ByteBuffer key) {
+            val result = new byte[key.remaining()];
+            key.duplicate().get(result);
+            return result;
+        }
+
         private ByteBuffer pad(ByteBuffer key, byte value, int size) {
             byte[] result;
             int startOffset;
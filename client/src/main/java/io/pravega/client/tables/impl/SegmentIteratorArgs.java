@@ -19,15 +19,18 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.pravega.common.util.AsyncIterator;
 import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * Arguments to {@link TableSegment#keyIterator} and {@link TableSegment#entryIterator}.
  */
 @Data
 @Builder
+@AllArgsConstructor
 class SegmentIteratorArgs {
     /**
      * The Table Segment Key to begin iteration at (inclusive).
@@ -45,10 +48,19 @@ class SegmentIteratorArgs {
      * The maximum number of items to return with each call to {@link AsyncIterator#getNext()}.
      */
     private final int maxItemsAtOnce;
+    /**
+     * If true, the iteration will proceed from {@link #getToKey()} down to {@link #getFromKey()}.
+     */
+    private final boolean reverse;
+
+    SegmentIteratorArgs(@NonNull ByteBuf fromKey, @NonNull ByteBuf toKey, int maxItemsAtOnce) {
+        this(fromKey, toKey, maxItemsAtOnce, false);
+    }
 
     /**
      * Creates a new {@link SegmentIteratorArgs} that is identical to this instance, but has a {@link #getFromKey()}
-     * which is the immediate successor of the given {@code lastKey}.
+     * which is the immediate successor of the given {@code lastKey} (or, if {@link #isReverse()}, a {@link #getToKey()}
+     * which is the immediate predecessor of the given {@code lastKey}).
      *
      * @param lastKey The last returned key from an iteration of the {@link TableSegmentIterator}.
      * @return The next {@link SegmentIteratorArgs} to use, or null of {@code lastKey} is null or if, as a result of this
@@ -62,25 +74,59 @@ class SegmentIteratorArgs {
             return null;
         }
 
-        final byte[] result = lastKey.copy().array();
-        int index = result.length - 1;
-        ByteBuf resultBuf = null;
-        while (index >= 0) {
-            // Increment by 1, then take the last 8 bits. If we overflowed, then we have a carryover and need to iterate
-            // again, otherwise we found a proper value and we can return it.
-            int v = (result[index] + 1) & 0xFF;
-            result[index] = (byte) v;
-            if (v != 0) {
-                // Found one.
-                resultBuf = Unpooled.wrappedBuffer(result);
-                break;
-            }
-
-            index--;
+        final byte[] key = lastKey.copy().array();
+        if (this.reverse) {
+            val result = predecessor(key);
+            val resultBuf = result == null ? null : Unpooled.wrappedBuffer(result);
+            return resultBuf == null || resultBuf.compareTo(this.fromKey) < 0
+                    ? null
+                    : new SegmentIteratorArgs(this.fromKey.copy(), resultBuf, this.maxItemsAtOnce, true);
         }
 
+        val result = successor(key);
+        val resultBuf = result == null ? null : Unpooled.wrappedBuffer(result);
         return resultBuf == null || resultBuf.compareTo(this.toKey) > 0
                 ? null
-                : new SegmentIteratorArgs(resultBuf, this.toKey.copy(), this.maxItemsAtOnce);
+                : new SegmentIteratorArgs(resultBuf, this.toKey.copy(), this.maxItemsAtOnce, false);
+    }
+
+    /**
+     * Calculates the immediate successor of the given key, as a new array.
+     *
+     * @param key The key.
+     * @return The successor, or null if the key has no successor (it is made up of 0xFF only).
+     */
+    static byte[] successor(byte[] key) {
+        final byte[] result = key.clone();
+        for (int index = result.length - 1; index >= 0; index--) {
+            // Increment by 1. If we overflowed, then we have a carryover and need to iterate again, otherwise we found a
+            // proper value and we can return it.
+            result[index]++;
+            if (result[index] != 0) {
+                return result;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Calculates the immediate predecessor of the given key, as a new array.
+     *
+     * @param key The key.
+     * @return The predecessor, or null if all bytes in the key are 0.
+     */
+    static byte[] predecessor(byte[] key) {
+        final byte[] result = key.clone();
+        for (int index = result.length - 1; index >= 0; index--) {
+            // Decrement by 1. If we underflowed, then we have a borrow and need to iterate again, otherwise we found a
+            // proper value and we can return it.
+            result[index]--;
+            if (result[index] != (byte) 0xFF) {
+                return result;
+            }
+        }
+
+        return null;
     }
 }
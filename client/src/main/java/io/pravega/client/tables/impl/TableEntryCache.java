@@ -0,0 +1,251 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.tables.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.client.tables.TableEntry;
+import io.pravega.client.tables.TableKey;
+import io.pravega.client.tables.Version;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bounded, LRU read-through cache for {@link TableEntry} instances, used by {@link KeyValueTableImpl}.
+ *
+ * Entries are keyed by their serialized Table Segment Key and hold either the {@link TableEntry} (with its {@link Version})
+ * or a marker indicating that the Key was known not to exist. Entries are invalidated when:
+ * - They are older than the configured TTL (bounds staleness with respect to updates from other clients).
+ * - This client updates or removes the Key (successfully or not).
+ * - A conditional update from this client fails, which indicates the cached {@link Version} may be stale.
+ *
+ * In-flight reads are prevented from populating the cache with data that predates a concurrent local update by means of
+ * an invalidation stamp: {@link #getStamp()} must be invoked before issuing the read and passed to {@link #put}, which
+ * will ignore the result if any invalidation happened in between.
+ */
+@ThreadSafe
+class TableEntryCache {
+    //region Members
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier currentTimeNanos;
+    @GuardedBy("this")
+    private final LinkedHashMap<ByteBuffer, CachedEntry> entries;
+    @GuardedBy("this")
+    private long invalidationStamp;
+    @GuardedBy("this")
+    private long hitCount;
+    @GuardedBy("this")
+    private long missCount;
+    @GuardedBy("this")
+    private long expiredCount;
+    @GuardedBy("this")
+    private long evictedCount;
+    @GuardedBy("this")
+    private long staleCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link TableEntryCache} class.
+     *
+     * @param maxEntries The maximum number of entries to hold.
+     * @param ttlMillis  The maximum amount of time, in milliseconds, an entry can be served from the cache.
+     */
+    TableEntryCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance of the {@link TableEntryCache} class.
+     *
+     * @param maxEntries       The maximum number of entries to hold.
+     * @param ttlMillis        The maximum amount of time, in milliseconds, an entry can be served from the cache.
+     * @param currentTimeNanos A {@link LongSupplier} that returns the current time, in nanoseconds.
+     */
+    TableEntryCache(int maxEntries, long ttlMillis, @NonNull LongSupplier currentTimeNanos) {
+        Preconditions.checkArgument(maxEntries > 0, "maxEntries must be a positive number.");
+        Preconditions.checkArgument(ttlMillis > 0, "ttlMillis must be a positive number.");
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.currentTimeNanos = currentTimeNanos;
+        this.entries = new LinkedHashMap<ByteBuffer, CachedEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, CachedEntry> eldest) {
+                boolean evict = size() > TableEntryCache.this.maxEntries;
+                if (evict) {
+                    TableEntryCache.this.evictedCount++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets the current invalidation stamp. This should be invoked prior to issuing a server read whose result is to be
+     * cached using {@link #put}.
+     *
+     * @return The current invalidation stamp.
+     */
+    synchronized long getStamp() {
+        return this.invalidationStamp;
+    }
+
+    /**
+     * Looks up the given Key.
+     *
+     * @param key The serialized Key to look up.
+     * @return A {@link CachedEntry} if the Key is cached and not expired, or null otherwise.
+     */
+    synchronized CachedEntry get(ByteBuffer key) {
+        CachedEntry e = this.entries.get(key);
+        if (e != null && this.currentTimeNanos.getAsLong() - e.cachedAtNanos >= this.ttlNanos) {
+            this.entries.remove(key);
+            this.expiredCount++;
+            e = null;
+        }
+
+        if (e == null) {
+            this.missCount++;
+        } else {
+            this.hitCount++;
+        }
+        return e;
+    }
+
+    /**
+     * Caches the result of a server read, unless an invalidation occurred since the read was issued.
+     *
+     * @param key   The serialized Key.
+     * @param entry The {@link TableEntry} read from the server, or null if the Key does not exist.
+     * @param stamp The value of {@link #getStamp()} obtained before the read was issued.
+     */
+    synchronized void put(ByteBuffer key, TableEntry entry, long stamp) {
+        if (stamp != this.invalidationStamp) {
+            // A concurrent update may have changed this Key after our read was served. Don't risk caching stale data.
+            return;
+        }
+
+        this.entries.put(key, new CachedEntry(entry == null ? null : copy(entry), this.currentTimeNanos.getAsLong()));
+    }
+
+    /**
+     * Invalidates the given Key. This must be invoked both before an update for this Key is sent to the server and after
+     * the update completes.
+     *
+     * @param key The serialized Key to invalidate.
+     */
+    synchronized void invalidate(ByteBuffer key) {
+        this.invalidationStamp++;
+        this.entries.remove(key);
+    }
+
+    /**
+     * Invalidates the given Key following a failed conditional update. If the cache held a {@link Version} for this Key
+     * that matched the update's condition, the cached entry is counted as stale.
+     *
+     * @param key             The serialized Key to invalidate.
+     * @param expectedVersion The {@link Version} the failed conditional update was conditioned on.
+     */
+    synchronized void invalidateStale(ByteBuffer key, Version expectedVersion) {
+        CachedEntry e = this.entries.get(key);
+        if (e != null && expectedVersion != null && expectedVersion.equals(e.getVersion())) {
+            this.staleCount++;
+        }
+        invalidate(key);
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return A {@link TableEntryCacheStats} instance.
+     */
+    synchronized TableEntryCacheStats getStats() {
+        return new TableEntryCacheStats(this.entries.size(), this.hitCount, this.missCount, this.expiredCount, this.evictedCount, this.staleCount);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Size = %d, MaxEntries = %d, %s", this.entries.size(), this.maxEntries, getStats());
+    }
+
+    private static TableEntry copy(TableEntry e) {
+        return new TableEntry(copy(e.getKey()), e.getVersion(), duplicate(e.getValue()));
+    }
+
+    private static TableKey copy(TableKey k) {
+        return new TableKey(k.getPrimaryKey().duplicate(), duplicate(k.getSecondaryKey()));
+    }
+
+    private static ByteBuffer duplicate(ByteBuffer b) {
+        return b == null ? null : b.duplicate();
+    }
+
+    //endregion
+
+    //region Helper Classes
+
+    /**
+     * A cached lookup result.
+     */
+    @RequiredArgsConstructor
+    static class CachedEntry {
+        private final TableEntry entry;
+        private final long cachedAtNanos;
+
+        /**
+         * Gets a value indicating whether the Key was known to exist when this entry was cached.
+         *
+         * @return True if the Key exists, false otherwise.
+         */
+        boolean exists() {
+            return this.entry != null;
+        }
+
+        /**
+         * Gets a copy of the cached {@link TableEntry}, which the caller may freely consume.
+         *
+         * @return The {@link TableEntry}, or null if the Key did not exist.
+         */
+        TableEntry getEntry() {
+            return this.entry == null ? null : copy(this.entry);
+        }
+
+        /**
+         * Gets the {@link Version} of the cached Key.
+         *
+         * @return The {@link Version}, or {@link Version#NOT_EXISTS} if the Key did not exist.
+         */
+        Version getVersion() {
+            return this.entry == null ? Version.NOT_EXISTS : this.entry.getVersion();
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.tables.impl;
+
+import lombok.Data;
+
+/**
+ * Statistics for the local Table Entry cache of a {@link KeyValueTableImpl}.
+ */
+@Data
+public class TableEntryCacheStats {
+    /**
+     * Number of cached entries.
+     */
+    private final int size;
+    /**
+     * Number of lookups served from the cache.
+     */
+    private final long hitCount;
+    /**
+     * Number of lookups that had to be sent to the server.
+     */
+    private final long missCount;
+    /**
+     * Number of entries dropped because they exceeded their time-to-live.
+     */
+    private final long expiredCount;
+    /**
+     * Number of entries dropped to make room for newer ones.
+     */
+    private final long evictedCount;
+    /**
+     * Number of cached entries found to be stale by a failed conditional update.
+     */
+    private final long staleCount;
+
+    /**
+     * Gets the ratio of lookups that were served from the cache.
+     *
+     * @return A value between 0 and 1, or 0 if no lookups were made.
+     */
+    public double getHitRate() {
+        long total = this.hitCount + this.missCount;
+        return total == 0 ? 0 : (double) this.hitCount / total;
+    }
+}
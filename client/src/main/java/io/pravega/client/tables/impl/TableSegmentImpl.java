@@ -70,6 +70,10 @@ class TableSegmentImpl implements TableSegment {
 
     private static final int MAX_GET_KEY_BATCH_SIZE = TableSegment.MAXIMUM_BATCH_LENGTH / (TableSegment.MAXIMUM_KEY_LENGTH + TableSegment.MAXIMUM_VALUE_LENGTH);
     private static final int MAX_GET_CONCURRENT_REQUESTS = 5;
+    /**
+     * The oldest wire protocol version that supports {@link WireCommands.TableIteratorArgs#isReverse()}.
+     */
+    private static final int REVERSE_ITERATOR_WIRE_VERSION = 18;
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(TableSegmentImpl.class));
     private final String segmentName;
     @Getter
@@ -226,9 +230,15 @@ class TableSegmentImpl implements TableSegment {
     private <ItemT, RequestT extends Request & WireCommand, ReplyT extends Reply & WireCommand> CompletableFuture<IteratorItem<ItemT>> fetchIteratorItems(
             SegmentIteratorArgs args, CreateIteratorRequest<RequestT> newIteratorRequest,
             Class<ReplyT> replyClass, Function<ReplyT, List<ItemT>> getResult) {
-        return this.readContext.execute((state, requestId) -> {
+        return this.readContext.execute((state, requestId) -> state.getConnection().getWireProtocolVersion().thenCompose(version -> {
+            // Older Segment Stores ignore the reverse flag and would silently return the items in ascending order.
+            if (args.isReverse() && version < REVERSE_ITERATOR_WIRE_VERSION) {
+                throw new UnsupportedOperationException(String.format(
+                        "Reverse iteration of '%s' requires wire protocol version %s; negotiated version is %s.",
+                        this.segmentName, REVERSE_ITERATOR_WIRE_VERSION, version));
+            }
             val request = newIteratorRequest.apply(requestId, this.segmentName, state.getToken(), args.getMaxItemsAtOnce(),
-                    new WireCommands.TableIteratorArgs(Unpooled.EMPTY_BUFFER, Unpooled.EMPTY_BUFFER, args.getFromKey(), args.getToKey()));
+                    new WireCommands.TableIteratorArgs(Unpooled.EMPTY_BUFFER, Unpooled.EMPTY_BUFFER, args.getFromKey(), args.getToKey(), args.isReverse()));
             return sendRequest(request, state, replyClass)
                     .thenApply(reply -> {
                         val items = getResult.apply(reply);
@@ -239,7 +249,7 @@ class TableSegmentImpl implements TableSegment {
                         }
                         return new IteratorItem<>(items);
                     });
-        });
+        }));
     }
 
     @FunctionalInterface
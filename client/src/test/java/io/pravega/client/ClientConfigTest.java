@@ -76,6 +76,17 @@ public class ClientConfigTest {
         assertEquals(1, config2.getMaxConnectionsPerSegmentStore());
     }
 
+    @Test
+    public void testNioConnections() {
+        ClientConfig defaultConfig = ClientConfig.builder().build();
+        assertFalse(defaultConfig.isEnableNioConnections());
+        assertEquals(0, defaultConfig.getNioThreadCount());
+        ClientConfig nioConfig = ClientConfig.builder().enableNioConnections(true).nioThreadCount(3).build();
+        assertTrue(nioConfig.isEnableNioConnections());
+        assertEquals(3, nioConfig.getNioThreadCount());
+        assertEquals(nioConfig, nioConfig.toBuilder().build());
+    }
+
     @Test
     public void testTlsIsEnabledForControllerURIContainingSchemeTls() {
         ClientConfig.ClientConfigBuilder builder = ClientConfig.builder();
@@ -0,0 +1,105 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.batch.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.batch.SegmentRange;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.stream.EventWriterConfig;
+import io.pravega.client.stream.impl.EventCompressor;
+import io.pravega.client.stream.impl.JavaSerializer;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.test.common.AssertExtensions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class EventExporterTest {
+    private final JavaSerializer<String> serializer = new JavaSerializer<>();
+
+    @Test(timeout = 10000)
+    public void testExportEvents() {
+        Map<SegmentRange, byte[]> segments = new HashMap<>();
+        Map<Long, List<String>> expected = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            List<String> events = new ArrayList<>();
+            for (int j = 0; j < 20; j++) {
+                events.add(i + ":" + j);
+            }
+            // Make one of the events large enough to be compressed.
+            events.add(String.join("", Collections.nCopies(100, "compressible")));
+            byte[] data = serialize(events);
+            segments.put(SegmentRangeImpl.builder().segment(new Segment("scope", "stream", i)).endOffset(data.length).build(), data);
+            expected.put((long) i, events);
+        }
+
+        // Use reads shorter than an event so events span chunks.
+        @Cleanup
+        EventExporter<String> exporter = new EventExporter<>(new SegmentExporter(new ArrayList<>(segments.keySet()), 2, 7,
+                range -> new SegmentExporterTest.TestChunkReader(segments.get(range), new AtomicInteger())), serializer);
+        Map<Long, List<String>> actual = new HashMap<>();
+        int compressedEvents = 0;
+        String event = exporter.getNext().join();
+        while (event != null) {
+            if (event.contains(":")) {
+                actual.computeIfAbsent(Long.parseLong(event.substring(0, event.indexOf(':'))), id -> new ArrayList<>()).add(event);
+            } else {
+                compressedEvents++;
+            }
+            event = exporter.getNext().join();
+        }
+        assertNull(exporter.getNext().join());
+        for (int i = 0; i < 3; i++) {
+            // Events of the same segment are in order.
+            assertEquals(expected.get((long) i).subList(0, 20), actual.get((long) i));
+        }
+        assertEquals(3, compressedEvents);
+    }
+
+    @Test(timeout = 10000)
+    public void testPartialEvent() {
+        byte[] data = serialize(Arrays.asList("a", "b"));
+        SegmentRange range = SegmentRangeImpl.builder().segment(new Segment("scope", "stream", 0)).endOffset(data.length - 1).build();
+        @Cleanup
+        EventExporter<String> exporter = new EventExporter<>(new SegmentExporter(Collections.singletonList(range), 1, 100,
+                r -> new SegmentExporterTest.TestChunkReader(data, new AtomicInteger())), serializer);
+        assertEquals("a", exporter.getNext().join());
+        AssertExtensions.assertThrows(InvalidMessageException.class, () -> exporter.getNext().join());
+    }
+
+    private byte[] serialize(List<String> events) {
+        ByteBuffer result = ByteBuffer.allocate(1024 * 1024);
+        for (String event : events) {
+            ByteBuf frame = EventCompressor.compress(EventWriterConfig.Compression.DEFLATE, serializer.serialize(event));
+            result.put(frame.nioBuffer());
+            frame.release();
+        }
+        result.flip();
+        byte[] bytes = new byte[result.remaining()];
+        result.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.batch.impl;
+
+import io.pravega.client.batch.SegmentChunk;
+import io.pravega.client.batch.SegmentRange;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.test.common.AssertExtensions;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentExporterTest {
+    private static final int SEGMENT_COUNT = 5;
+
+    @Test(timeout = 10000)
+    public void testExport() {
+        Map<SegmentRange, byte[]> segments = createSegments();
+        AtomicInteger openReaders = new AtomicInteger();
+        AtomicInteger maxOpenReaders = new AtomicInteger();
+        @Cleanup
+        SegmentExporter exporter = new SegmentExporter(new ArrayList<>(segments.keySet()), 2, 64, range -> {
+            maxOpenReaders.accumulateAndGet(openReaders.incrementAndGet(), Math::max);
+            return new TestChunkReader(segments.get(range), openReaders);
+        });
+
+        Map<SegmentRange, ByteArrayOutputStream> exported = new HashMap<>();
+        SegmentChunk chunk = exporter.getNext().join();
+        while (chunk != null) {
+            ByteArrayOutputStream data = exported.computeIfAbsent(chunk.getSegmentRange(), r -> new ByteArrayOutputStream());
+            // The chunks of each segment are contiguous and in order.
+            assertEquals(chunk.getSegmentRange().getStartOffset() + data.size(), chunk.getOffset());
+            data.write(chunk.getData().array(), chunk.getData().arrayOffset() + chunk.getData().position(), chunk.getData().remaining());
+            chunk = exporter.getNext().join();
+        }
+        assertNull(exporter.getNext().join());
+
+        for (Map.Entry<SegmentRange, byte[]> e : segments.entrySet()) {
+            byte[] expected = Arrays.copyOfRange(e.getValue(), (int) e.getKey().getStartOffset(), (int) e.getKey().getEndOffset());
+            byte[] actual = exported.containsKey(e.getKey()) ? exported.get(e.getKey()).toByteArray() : new byte[0];
+            assertArrayEquals("Unexpected data for " + e.getKey(), expected, actual);
+        }
+        assertEquals(0, openReaders.get());
+        assertEquals(2, maxOpenReaders.get());
+    }
+
+    @Test(timeout = 10000)
+    public void testFlowControl() {
+        Map<SegmentRange, byte[]> segments = createSegments();
+        AtomicInteger reads = new AtomicInteger();
+        int concurrency = 2;
+        @Cleanup
+        SegmentExporter exporter = new SegmentExporter(new ArrayList<>(segments.keySet()), concurrency, 1,
+                range -> new TestChunkReader(segments.get(range), new AtomicInteger()) {
+                    @Override
+                    public CompletableFuture<ByteBuffer> read(long offset, int length) {
+                        reads.incrementAndGet();
+                        return super.read(offset, length);
+                    }
+                });
+
+        // Reads are only issued to replace the chunks that have been consumed.
+        for (int i = 0; i < 10; i++) {
+            exporter.getNext().join();
+            assertTrue("Too many reads: " + reads.get(), reads.get() <= i + 1 + 2 * concurrency);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testFailure() {
+        Map<SegmentRange, byte[]> segments = createSegments();
+        AtomicInteger openReaders = new AtomicInteger();
+        SegmentExporter exporter = new SegmentExporter(new ArrayList<>(segments.keySet()), 2, 64, range -> {
+            openReaders.incrementAndGet();
+            return new TestChunkReader(segments.get(range), openReaders) {
+                @Override
+                public CompletableFuture<ByteBuffer> read(long offset, int length) {
+                    return offset >= 200 ? Futures.failedFuture(new SegmentTruncatedException()) : super.read(offset, length);
+                }
+            };
+        });
+
+        AssertExtensions.assertThrows(SegmentTruncatedException.class, () -> {
+            while (exporter.getNext().join() != null) {
+                // Keep reading until the failure is encountered.
+            }
+        });
+        AssertExtensions.assertThrows(SegmentTruncatedException.class, () -> exporter.getNext().join());
+        exporter.close();
+        assertEquals(0, openReaders.get());
+        AssertExtensions.assertThrows(ObjectClosedException.class, () -> exporter.getNext().join());
+    }
+
+    @Test(timeout = 10000)
+    public void testClose() {
+        Map<SegmentRange, byte[]> segments = createSegments();
+        AtomicInteger openReaders = new AtomicInteger();
+        SegmentExporter exporter = new SegmentExporter(new ArrayList<>(segments.keySet()), 2, 64, range -> {
+            openReaders.incrementAndGet();
+            return new TestChunkReader(segments.get(range), openReaders) {
+                @Override
+                public CompletableFuture<ByteBuffer> read(long offset, int length) {
+                    return new CompletableFuture<>();
+                }
+            };
+        });
+
+        CompletableFuture<SegmentChunk> next = exporter.getNext();
+        assertEquals(2, openReaders.get());
+        exporter.close();
+        assertEquals(0, openReaders.get());
+        AssertExtensions.assertThrows(ObjectClosedException.class, () -> next.join());
+    }
+
+    /**
+     * Creates segments of different lengths, each filled with its own id, and some of which are only partially exported.
+     */
+    private Map<SegmentRange, byte[]> createSegments() {
+        Map<SegmentRange, byte[]> result = new HashMap<>();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            byte[] data = new byte[1000 + i * 100];
+            Arrays.fill(data, (byte) i);
+            SegmentRange range = SegmentRangeImpl.builder()
+                                                 .segment(new Segment("scope", "stream", i))
+                                                 .startOffset(i % 2 == 0 ? 0 : 10 * i)
+                                                 .endOffset(i == SEGMENT_COUNT - 1 ? 0 : data.length - i)
+                                                 .build();
+            result.put(range, data);
+        }
+        return result;
+    }
+
+    /**
+     * A {@link SegmentExporter.ChunkReader} over an in-memory array, which returns at most half of what is requested
+     * from every other read.
+     */
+    @RequiredArgsConstructor
+    static class TestChunkReader implements SegmentExporter.ChunkReader {
+        private final byte[] data;
+        private final AtomicInteger openReaders;
+        private final AtomicInteger readCount = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<ByteBuffer> read(long offset, int length) {
+            if (offset >= data.length) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (readCount.incrementAndGet() % 2 == 0) {
+                length = Math.max(1, length / 2);
+            }
+            length = (int) Math.min(length, data.length - offset);
+            return CompletableFuture.completedFuture(ByteBuffer.wrap(Arrays.copyOfRange(data, (int) offset, (int) offset + length)));
+        }
+
+        @Override
+        public void close() {
+            openReaders.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.pravega.client.ClientConfig;
+import io.pravega.shared.protocol.netty.FailingReplyProcessor;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.TestUtils;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark tests comparing {@link TcpClientConnection} (one reader thread per connection) with {@link NioClientConnection}
+ * (a fixed number of {@link SelectorLoopGroup} threads), as created by {@link SocketConnectionFactoryImpl}. For each
+ * connection count in {@link #CONNECTION_COUNTS}, this reports the number of live threads, the heap used after a GC and
+ * the round-trip latency percentiles of {@link WireCommands.KeepAlive} commands echoed back by a local server.
+ *
+ * The results are only comparable when executed on the same hardware. The OS limits on open files and threads may need
+ * to be raised to run the larger connection counts.
+ *
+ * Ignored by default: the largest runs open tens of thousands of sockets (and, for {@link TcpClientConnection}, as many
+ * threads), which exceeds the default limits of most build agents.
+ */
+@Ignore
+public class ConnectionBenchmarkTests {
+    private static final int[] CONNECTION_COUNTS = new int[]{1000, 5000, 10000};
+    private static final int SELECTOR_THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int ROUND_TRIP_COUNT = 100000;
+    private static final int WARMUP_ROUND_TRIP_COUNT = 10000;
+    private final Random random = new Random(0);
+
+    @Test
+    public void testBlockingConnections() throws Exception {
+        for (int count : CONNECTION_COUNTS) {
+            test("Blocking", count, 0);
+        }
+    }
+
+    @Test
+    public void testNioConnections() throws Exception {
+        for (int count : CONNECTION_COUNTS) {
+            test("NIO", count, SELECTOR_THREAD_COUNT);
+        }
+    }
+
+    private void test(String name, int connectionCount, int selectorThreadCount) throws Exception {
+        @Cleanup
+        EchoServer server = new EchoServer();
+        server.start();
+        val baseThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        val baseHeap = getUsedHeap();
+        @Cleanup
+        val factory = new SocketConnectionFactoryImpl(ClientConfig.builder().build(), null, selectorThreadCount);
+        val processors = new ArrayList<EchoReplyProcessor>(connectionCount);
+        val connections = new ArrayList<ClientConnection>(connectionCount);
+        try {
+            for (int i = 0; i < connectionCount; i++) {
+                val processor = new EchoReplyProcessor();
+                processors.add(processor);
+                connections.add(factory.establishConnection(server.getUri(), processor).join());
+            }
+
+            val threads = ManagementFactory.getThreadMXBean().getThreadCount() - baseThreads;
+            val heap = getUsedHeap() - baseHeap;
+            roundTrips(connections, processors, WARMUP_ROUND_TRIP_COUNT);
+            val latencies = roundTrips(connections, processors, ROUND_TRIP_COUNT);
+            Arrays.sort(latencies);
+            System.out.println(String.format("%s: Connections = %d, Threads = %d, Heap = %d KB, Latency (us): P50 = %.1f, P99 = %.1f, P99.9 = %.1f, Max = %.1f",
+                    name, connectionCount, threads, heap / 1024,
+                    percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999), percentile(latencies, 1.0)));
+        } finally {
+            connections.forEach(ClientConnection::close);
+        }
+    }
+
+    private long[] roundTrips(List<ClientConnection> connections, List<EchoReplyProcessor> processors, int count) throws Exception {
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            int index = this.random.nextInt(connections.size());
+            val processor = processors.get(index);
+            val reply = new CompletableFuture<Void>();
+            processor.pending.set(reply);
+            long start = System.nanoTime();
+            connections.get(index).send(new WireCommands.KeepAlive());
+            reply.get(30, TimeUnit.SECONDS);
+            result[i] = System.nanoTime() - start;
+        }
+        return result;
+    }
+
+    private double percentile(long[] sortedValues, double percentile) {
+        int index = Math.min(sortedValues.length - 1, (int) (sortedValues.length * percentile));
+        return sortedValues[index] / 1000.0;
+    }
+
+    private long getUsedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    //region Helper Classes
+
+    private static class EchoReplyProcessor extends FailingReplyProcessor {
+        final AtomicReference<CompletableFuture<Void>> pending = new AtomicReference<>();
+
+        @Override
+        public void keepAlive(WireCommands.KeepAlive keepAlive) {
+            val reply = pending.getAndSet(null);
+            if (reply != null) {
+                reply.complete(null);
+            }
+        }
+
+        @Override
+        public void connectionDropped() {
+            val reply = pending.getAndSet(null);
+            if (reply != null) {
+                reply.completeExceptionally(new IOException("Connection dropped."));
+            }
+        }
+
+        @Override
+        public void processingFailure(Exception error) {
+            val reply = pending.getAndSet(null);
+            if (reply != null) {
+                reply.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * A single-threaded server that echoes back everything it reads. Since {@link WireCommands.KeepAlive} is both a
+     * request and a reply, every KeepAlive sent by a client comes back to it as a reply.
+     */
+    private static class EchoServer implements AutoCloseable {
+        private final int port = TestUtils.getAvailableListenPort();
+        private final AtomicBoolean stop = new AtomicBoolean(false);
+        private final Selector selector;
+        private final ServerSocketChannel serverChannel;
+        private final Thread thread;
+
+        EchoServer() throws IOException {
+            this.selector = Selector.open();
+            this.serverChannel = ServerSocketChannel.open();
+            this.serverChannel.bind(new InetSocketAddress("localhost", this.port), 1024);
+            this.serverChannel.configureBlocking(false);
+            this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+            this.thread = new Thread(this::run, "Echo server");
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            this.thread.start();
+        }
+
+        PravegaNodeUri getUri() {
+            return new PravegaNodeUri("localhost", this.port);
+        }
+
+        private void run() {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            try {
+                while (!this.stop.get()) {
+                    this.selector.select();
+                    for (val key : this.selector.selectedKeys()) {
+                        if (key.isAcceptable()) {
+                            SocketChannel channel = this.serverChannel.accept();
+                            if (channel != null) {
+                                channel.configureBlocking(false);
+                                channel.socket().setTcpNoDelay(true);
+                                channel.register(this.selector, SelectionKey.OP_READ);
+                            }
+                        } else if (key.isReadable()) {
+                            echo((SocketChannel) key.channel(), key, buffer);
+                        }
+                    }
+                    this.selector.selectedKeys().clear();
+                }
+            } catch (IOException ex) {
+                System.err.println("Echo server failed: " + ex);
+            }
+        }
+
+        private void echo(SocketChannel channel, SelectionKey key, ByteBuffer buffer) {
+            try {
+                buffer.clear();
+                if (channel.read(buffer) < 0) {
+                    key.cancel();
+                    channel.close();
+                    return;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException ex) {
+                key.cancel();
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+            this.stop.set(true);
+            this.selector.wakeup();
+            this.thread.join();
+            for (val key : this.selector.keys()) {
+                key.channel().close();
+            }
+            this.selector.close();
+        }
+    }
+
+    //endregion
+}
@@ -20,9 +20,12 @@ import io.pravega.test.common.AssertExtensions;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class IoBufferTest {
 
@@ -44,6 +47,32 @@ public class IoBufferTest {
         }
     }
     
+    private static class TestChannel implements ReadableByteChannel {
+        int numAvailable = 0;
+        boolean atEof = false;
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (numAvailable == 0) {
+                return atEof ? -1 : 0;
+            }
+            int read = Math.min(numAvailable, dst.remaining());
+            dst.position(dst.position() + read);
+            numAvailable -= read;
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !atEof;
+        }
+
+        @Override
+        public void close() {
+            atEof = true;
+        }
+    }
+    
     @Test
     public void testShort() throws IOException {
         TestInputStream in = new TestInputStream();
@@ -120,5 +149,33 @@ public class IoBufferTest {
         in.atEof = true;
         AssertExtensions.assertThrows(EOFException.class, () -> buffer.getBuffOfSize(in, 4));  
     }
+
+    @Test
+    public void testChannel() throws IOException {
+        TestChannel in = new TestChannel();
+        IoBuffer buffer = new IoBuffer();
+        ByteBuffer readBuffer = ByteBuffer.allocate(8);
+        assertNull(buffer.getBuffOfSize(in, readBuffer, 4));
+        in.numAvailable = 10;
+        assertEquals(4, buffer.getBuffOfSize(in, readBuffer, 4).readableBytes());
+        assertEquals(4, buffer.getBuffOfSize(in, readBuffer, 4).readableBytes());
+
+        // Only 2 bytes left in the buffer and 2 in the channel; the chunk must be accumulated across calls.
+        assertNull(buffer.getBuffOfSize(in, readBuffer, 20));
+        assertEquals(0, in.numAvailable);
+        assertNull(buffer.getBuffOfSize(in, readBuffer, 20));
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> buffer.getBuffOfSize(in, readBuffer, 10));
+        in.numAvailable = 30;
+        ByteBuf buf = buffer.getBuffOfSize(in, readBuffer, 20);
+        assertEquals(20, buf.readableBytes());
+        assertEquals(12, in.numAvailable);
+
+        // Read the rest in chunks that straddle the read buffer.
+        assertEquals(6, buffer.getBuffOfSize(in, readBuffer, 6).readableBytes());
+        assertEquals(6, buffer.getBuffOfSize(in, readBuffer, 6).readableBytes());
+        assertNull(buffer.getBuffOfSize(in, readBuffer, 6));
+        in.atEof = true;
+        AssertExtensions.assertThrows(EOFException.class, () -> buffer.getBuffOfSize(in, readBuffer, 6));
+    }
     
 }
@@ -0,0 +1,327 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.netty.buffer.Unpooled;
+import io.pravega.client.ClientConfig;
+import io.pravega.shared.protocol.netty.Append;
+import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.EnhancedByteBufInputStream;
+import io.pravega.shared.protocol.netty.FailingReplyProcessor;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.shared.protocol.netty.WireCommands.Event;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.InlineExecutor;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.UUID;
+import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link NioClientConnection} class.
+ */
+public class NioClientConnectionTest {
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(30);
+
+    private static class ReplyProcessor extends FailingReplyProcessor {
+        final AtomicBoolean failure = new AtomicBoolean(false);
+        final AtomicInteger connectionDroppedCount = new AtomicInteger();
+        final List<Reply> replies = new Vector<>();
+
+        @Override
+        public void process(Reply reply) {
+            if (reply.isFailure()) {
+                failure.set(true);
+            }
+            replies.add(reply);
+        }
+
+        @Override
+        public void processingFailure(Exception error) {
+            failure.set(true);
+        }
+
+        @Override
+        public void connectionDropped() {
+            connectionDroppedCount.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void testConnectionSetup() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(1);
+        @Cleanup
+        ClientConnection clientConnection = NioClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, selectorGroup, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        LinkedBlockingQueue<WireCommand> messages = server.getReadCommands();
+        WireCommand wireCommand = messages.take();
+        assertEquals(WireCommandType.HELLO, wireCommand.getType());
+        assertNull(messages.poll());
+        clientConnection.send(new WireCommands.SetupAppend(1, new UUID(1, 2), "segment", ""));
+        wireCommand = messages.take();
+        assertEquals(WireCommandType.SETUP_APPEND, wireCommand.getType());
+        assertNull(messages.poll());
+        clientConnection.send(new Append("segment", new UUID(1, 2), 1, new Event(Unpooled.EMPTY_BUFFER), 2));
+        wireCommand = messages.take();
+        assertEquals(WireCommandType.APPEND_BLOCK, wireCommand.getType());
+        assertFalse(processor.failure.get());
+    }
+
+    @Test
+    public void testReplies() throws Exception {
+        byte[] payload = new byte[100];
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(2);
+        @Cleanup
+        ClientConnection clientConnection = NioClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, selectorGroup, executor, null)
+            .join();
+        UUID writerId = new UUID(1, 2);
+        clientConnection.send(new WireCommands.SetupAppend(1, writerId, "segment", ""));
+        for (int i = 0; i < 100; i++) {
+            clientConnection.send(new Append("segment", writerId, i, new Event(Unpooled.wrappedBuffer(payload)), 1));
+            server.sendReply(new WireCommands.DataAppended(i, writerId, i, i - 1, i * 100));
+        }
+
+        // A reply that is larger than the read buffer, so it must be accumulated across multiple reads.
+        byte[] largeData = new byte[TcpClientConnection.TCP_BUFFER_SIZE * 3];
+        server.sendReply(new WireCommands.SegmentRead("segment", 0, false, false, Unpooled.wrappedBuffer(largeData), 100));
+        AssertExtensions.assertEventuallyEquals(101, () -> processor.replies.size(), 5000);
+        WireCommands.SegmentRead segmentRead = (WireCommands.SegmentRead) processor.replies.get(100);
+        assertEquals(largeData.length, segmentRead.getData().readableBytes());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ((WireCommands.DataAppended) processor.replies.get(i)).getEventNumber());
+        }
+        assertFalse(processor.failure.get());
+        assertEquals(0, processor.connectionDroppedCount.get());
+    }
+
+    /**
+     * Writing more than the socket buffers can hold to a peer that is not reading must not block the
+     * {@link SelectorLoopGroup} thread. The writer is held back once {@link NioClientConnection.ChannelOutputStream#MAX_PENDING_BYTES}
+     * are queued, and all the data must be delivered once the peer starts reading.
+     */
+    @Test
+    public void testWriteToSlowPeer() throws Exception {
+        @Cleanup
+        ServerSocket slowServer = new ServerSocket(0);
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(1);
+        ReplyProcessor slowProcessor = new ReplyProcessor();
+        @Cleanup
+        NioClientConnection slowConnection = NioClientConnection
+            .connect(new PravegaNodeUri("localhost", slowServer.getLocalPort()), ClientConfig.builder().build(), slowProcessor,
+                     selectorGroup, executor, null)
+            .join();
+        @Cleanup
+        Socket slowPeer = slowServer.accept();
+
+        // Many times the size of the send and receive buffers and of the write queue.
+        int commandCount = 16;
+        byte[] data = new byte[TcpClientConnection.TCP_BUFFER_SIZE * 2];
+        CompletableFuture<Void> sendFuture = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < commandCount; i++) {
+                    slowConnection.send(new WireCommands.SegmentRead("segment", i, false, false, Unpooled.wrappedBuffer(data), i));
+                }
+            } catch (ConnectionFailedException e) {
+                throw new CompletionException(e);
+            }
+        });
+
+        // Another connection serviced by the same (single) selector thread is not affected.
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        NioClientConnection clientConnection = NioClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, selectorGroup, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        assertEquals(WireCommandType.HELLO, server.getReadCommands().take().getType());
+        server.sendReply(new WireCommands.Hello(0, 1));
+        AssertExtensions.assertEventuallyEquals(1, () -> processor.replies.size(), 5000);
+        assertFalse("Expected the writer to be held back while the peer is not reading.", sendFuture.isDone());
+
+        // Once the peer starts reading, everything that was queued is flushed, in order.
+        DataInputStream in = new DataInputStream(slowPeer.getInputStream());
+        for (int i = 0; i < commandCount; i++) {
+            assertEquals(WireCommandType.SEGMENT_READ.getCode(), in.readInt());
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            WireCommands.SegmentRead read = (WireCommands.SegmentRead) WireCommandType.SEGMENT_READ.readFrom(
+                    new EnhancedByteBufInputStream(Unpooled.wrappedBuffer(payload)), payload.length);
+            assertEquals(i, read.getOffset());
+            assertEquals(data.length, read.getData().readableBytes());
+        }
+        sendFuture.join();
+        assertFalse(slowProcessor.failure.get());
+        assertEquals(0, slowProcessor.connectionDroppedCount.get());
+        assertFalse(slowConnection.isClosed());
+    }
+
+    /**
+     * Writers must be held back once the write queue is full, and released as the peer drains it.
+     */
+    @Test
+    public void testPendingWritesBounded() throws Exception {
+        @Cleanup
+        ServerSocket server = new ServerSocket(0);
+        @Cleanup
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getLocalPort()));
+        channel.configureBlocking(false);
+        @Cleanup
+        Socket peer = server.accept();
+        @Cleanup
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(1);
+        int maxPendingBytes = 1024;
+        NioClientConnection.ChannelOutputStream out = new NioClientConnection.ChannelOutputStream(channel, maxPendingBytes);
+        NioClientConnection.ConnectionReader reader = new NioClientConnection.ConnectionReader("test", channel, out,
+                new ReplyProcessor(), new FlowToBatchSizeTracker());
+        out.setRegistration(selectorGroup.register(channel, reader));
+
+        // Write much more than the socket buffers can hold, while the peer is not reading.
+        byte[] data = new byte[100];
+        int writeCount = 8 * TcpClientConnection.TCP_BUFFER_SIZE * 4 / data.length;
+        CompletableFuture<Void> writeFuture = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < writeCount; i++) {
+                    out.write(data);
+                }
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+        AssertExtensions.assertEventuallyEquals(true, out::hasPending, 5000);
+        for (int i = 0; i < 10; i++) {
+            AssertExtensions.assertLessThanOrEqual("Too much data queued.", maxPendingBytes, out.getPendingBytes());
+            Thread.sleep(10);
+        }
+        assertFalse("Expected the writer to be held back while the peer is not reading.", writeFuture.isDone());
+
+        // Once the peer reads, the writer is released.
+        byte[] readBuffer = new byte[writeCount * data.length];
+        new DataInputStream(peer.getInputStream()).readFully(readBuffer);
+        writeFuture.join();
+        assertFalse(out.hasPending());
+        assertEquals(0, out.getPendingBytes());
+    }
+
+    @Test
+    public void testServerClosed() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        @Cleanup
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(1);
+        @Cleanup
+        NioClientConnection clientConnection = NioClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, selectorGroup, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        server.getReadCommands().take();
+        server.getOutputStream().join().close();
+        AssertExtensions.assertEventuallyEquals(1, () -> processor.connectionDroppedCount.get(), 5000);
+        AssertExtensions.assertThrows(ConnectionFailedException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                clientConnection.send(new WireCommands.KeepAlive());
+                Thread.sleep(100);
+            }
+        });
+        assertTrue(clientConnection.toString(), clientConnection.isClosed());
+        assertEquals(1, processor.connectionDroppedCount.get());
+    }
+
+    @Test
+    public void testSelectorGroupClosed() throws Exception {
+        ReplyProcessor processor = new ReplyProcessor();
+        @Cleanup
+        MockServer server = new MockServer();
+        server.start();
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(1);
+        @Cleanup
+        NioClientConnection clientConnection = NioClientConnection
+            .connect(server.getUri(), ClientConfig.builder().build(), processor, selectorGroup, executor, null)
+            .join();
+        clientConnection.send(new WireCommands.Hello(0, 1));
+        server.getReadCommands().take();
+
+        // Closing the SelectorLoopGroup should drop all the connections it services.
+        selectorGroup.close();
+        AssertExtensions.assertEventuallyEquals(1, () -> processor.connectionDroppedCount.get(), 5000);
+        AssertExtensions.assertThrows(ConnectionFailedException.class,
+                () -> NioClientConnection.connect(server.getUri(), ClientConfig.builder().build(), processor, selectorGroup, executor, null).join());
+    }
+
+    @Test
+    public void testTlsNotSupported() {
+        @Cleanup
+        SelectorLoopGroup selectorGroup = new SelectorLoopGroup(1);
+        @Cleanup
+        InlineExecutor executor = new InlineExecutor();
+        AssertExtensions.assertThrows(IllegalArgumentException.class,
+                () -> NioClientConnection.connect(new MockServer().getUri(), ClientConfig.builder().controllerURI(URI.create("tls://localhost:9090")).build(),
+                        new ReplyProcessor(), selectorGroup, executor, null));
+    }
+}
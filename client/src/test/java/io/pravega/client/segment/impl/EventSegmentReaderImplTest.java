@@ -17,9 +17,14 @@
 package io.pravega.client.segment.impl;
 
 
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.stream.EventWriterConfig.Compression;
+import io.pravega.client.stream.impl.EventCompressor;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 import lombok.Cleanup;
 import org.junit.Rule;
@@ -27,8 +32,10 @@ import org.junit.Test;
 import org.junit.rules.Timeout;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -162,4 +169,66 @@ public class EventSegmentReaderImplTest {
         verify(segmentInputStream, times(1)).setOffset(0L, true);
         verify(segmentInputStream, times(0)).setOffset(0);
     }
+
+    @Test
+    public void testCompressedEvent() throws SegmentTruncatedException, EndOfSegmentException {
+        byte[] event = new byte[1000];
+        Arrays.fill(event, (byte) 7);
+        ByteBuf serialized = EventCompressor.compress(Compression.DEFLATE, ByteBuffer.wrap(event));
+        ByteBuffer header = serialized.nioBuffer(0, WireCommands.TYPE_PLUS_LENGTH_SIZE);
+        ByteBuffer payload = serialized.nioBuffer(WireCommands.TYPE_PLUS_LENGTH_SIZE, serialized.readableBytes() - WireCommands.TYPE_PLUS_LENGTH_SIZE);
+        assertEquals(WireCommandType.COMPRESSED_EVENT.getCode(), header.getInt(0));
+
+        // Setup Mocks
+        SegmentInputStream segmentInputStream = mock(SegmentInputStream.class);
+        @Cleanup
+        EventSegmentReaderImpl segmentReader = new EventSegmentReaderImpl(segmentInputStream);
+        doAnswer(i -> {
+            ByteBuffer headerReadingBuffer = i.getArgument(0);
+            headerReadingBuffer.put(header.duplicate());
+            return WireCommands.TYPE_PLUS_LENGTH_SIZE;
+        }).when(segmentInputStream).read(any(ByteBuffer.class), eq(1000L));
+        doAnswer(i -> {
+            ByteBuffer buffer = i.getArgument(0);
+            buffer.put(payload.duplicate());
+            return payload.remaining();
+        }).when(segmentInputStream).read(any(ByteBuffer.class), eq(EventSegmentReaderImpl.PARTIAL_DATA_TIMEOUT));
+        when(segmentInputStream.getSegmentId()).thenReturn(new Segment("scope", "stream", 0L));
+
+        // Invoke read.
+        ByteBuffer readData = segmentReader.read(1000);
+        assertEquals(ByteBuffer.wrap(event), readData);
+    }
+
+    @Test
+    public void testIsEventReady() {
+        SegmentInputStream segmentInputStream = mock(SegmentInputStream.class);
+        @Cleanup
+        EventSegmentReaderImpl segmentReader = new EventSegmentReaderImpl(segmentInputStream);
+        when(segmentInputStream.peekInt(Integer.BYTES)).thenReturn(OptionalInt.of(100));
+
+        // Nothing, or only part of the header, is buffered.
+        when(segmentInputStream.bytesInBuffer()).thenReturn(0);
+        assertFalse(segmentReader.isEventReady());
+        when(segmentInputStream.bytesInBuffer()).thenReturn(WireCommands.TYPE_PLUS_LENGTH_SIZE - 1);
+        assertFalse(segmentReader.isEventReady());
+
+        // The header is buffered, but only part of the payload.
+        when(segmentInputStream.bytesInBuffer()).thenReturn(WireCommands.TYPE_PLUS_LENGTH_SIZE + 99);
+        assertTrue(segmentReader.isSegmentReady());
+        assertFalse(segmentReader.isEventReady());
+
+        // The header is only available in a response that has not been copied into the buffer yet.
+        when(segmentInputStream.bytesInBuffer()).thenReturn(WireCommands.TYPE_PLUS_LENGTH_SIZE + 100);
+        when(segmentInputStream.peekInt(Integer.BYTES)).thenReturn(OptionalInt.empty());
+        assertFalse(segmentReader.isEventReady());
+
+        // The whole event is buffered.
+        when(segmentInputStream.peekInt(Integer.BYTES)).thenReturn(OptionalInt.of(100));
+        assertTrue(segmentReader.isEventReady());
+
+        // At the end of the segment, reads fail right away.
+        when(segmentInputStream.bytesInBuffer()).thenReturn(-1);
+        assertTrue(segmentReader.isEventReady());
+    }
 }
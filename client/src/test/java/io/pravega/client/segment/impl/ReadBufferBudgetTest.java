@@ -0,0 +1,47 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.segment.impl;
+
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReadBufferBudgetTest {
+
+    @Test
+    public void testAllocateAndRelease() {
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> new ReadBufferBudget(0));
+        ReadBufferBudget budget = new ReadBufferBudget(100);
+        assertEquals(60, budget.allocate(60, 10));
+        assertEquals(60, budget.getAllocated());
+
+        // Only what is left is granted.
+        assertEquals(40, budget.allocate(60, 10));
+        assertEquals(0, budget.allocate(10, 0));
+        assertEquals(100, budget.getAllocated());
+
+        // The minimum is always granted.
+        assertEquals(10, budget.allocate(60, 10));
+        assertEquals(110, budget.getAllocated());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> budget.allocate(10, 20));
+
+        budget.release(30);
+        assertEquals(80, budget.getAllocated());
+        assertEquals(20, budget.allocate(60, 0));
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> budget.release(-1));
+    }
+}
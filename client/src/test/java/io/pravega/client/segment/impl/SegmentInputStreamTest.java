@@ -22,6 +22,7 @@ import io.pravega.client.stream.impl.Orderer;
 import io.pravega.client.stream.mock.MockConnectionFactoryImpl;
 import io.pravega.client.stream.mock.MockController;
 import io.pravega.common.ObjectClosedException;
+import io.pravega.common.util.BufferView;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
@@ -29,7 +30,9 @@ import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.LeakDetectorTestSuite;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -40,11 +43,14 @@ import org.junit.Test;
 
 import static io.pravega.test.common.AssertExtensions.assertBlocks;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -152,6 +158,35 @@ public class SegmentInputStreamTest extends LeakDetectorTestSuite {
         assertEquals(ByteBuffer.wrap(data), read);
     }
 
+    @Test
+    public void testReadView() throws EndOfSegmentException, SegmentTruncatedException {
+        byte[] data = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        val wireData = createEventFromData(data);
+        int eventLength = wireData.capacity();
+        ByteBuf twoEvents = Unpooled.wrappedBuffer(createEventFromData(data), createEventFromData(data));
+        TestAsyncSegmentInputStream fakeNetwork = new TestAsyncSegmentInputStream(segment, 5);
+        @Cleanup
+        EventSegmentReaderImpl stream = SegmentInputStreamFactoryImpl.getEventSegmentReader(fakeNetwork, 0);
+
+        // Fully buffered events are returned in place.
+        fakeNetwork.complete(0, new WireCommands.SegmentRead(segment.getScopedName(), 0, false, false, twoEvents, requestId));
+        BufferView view = stream.readView(Long.MAX_VALUE);
+        assertArrayEquals(data, view.getCopy());
+        assertEquals(eventLength, stream.getOffset());
+        view = stream.readView(Long.MAX_VALUE);
+        assertArrayEquals(data, view.getCopy());
+        assertEquals(2 * eventLength, stream.getOffset());
+
+        // Events split across reads are copied.
+        fakeNetwork.complete(1, new WireCommands.SegmentRead(segment.getScopedName(), 2 * eventLength, false, false, wireData.slice(0, 12), requestId));
+        fakeNetwork.complete(2, new WireCommands.SegmentRead(segment.getScopedName(), 2 * eventLength + 12, false, false,
+                wireData.slice(12, eventLength - 12), requestId));
+        view = stream.readView(Long.MAX_VALUE);
+        assertArrayEquals(data, view.getCopy());
+        assertEquals(3 * eventLength, stream.getOffset());
+        assertNull(stream.readView(0));
+    }
+
     @Test
     public void testLongerThanRequestedRead() throws EndOfSegmentException, SegmentTruncatedException {
         byte[] data = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
@@ -565,4 +600,91 @@ public class SegmentInputStreamTest extends LeakDetectorTestSuite {
         verify(mockAsyncInputStream, times(1)).read(0L, 100);
     }
 
+    @Test
+    public void testAdaptiveBuffer() throws EndOfSegmentException, SegmentTruncatedException {
+        int k = 1024;
+        ReadBufferBudget budget = new ReadBufferBudget(1024 * k);
+        Map<Long, CompletableFuture<SegmentRead>> requests = new HashMap<>();
+        AsyncSegmentInputStream mockAsyncInputStream = mock(AsyncSegmentInputStream.class);
+        when(mockAsyncInputStream.getSegmentId()).thenReturn(segment);
+        when(mockAsyncInputStream.read(anyLong(), anyInt())).thenAnswer(invocation -> {
+            CompletableFuture<SegmentRead> result = new CompletableFuture<>();
+            requests.put(invocation.getArgument(0), result);
+            return result;
+        });
+        SegmentInputStreamImpl stream = new SegmentInputStreamImpl(mockAsyncInputStream, 0, Long.MAX_VALUE, 128 * k, budget);
+        assertEquals(128 * k, budget.getAllocated());
+        verify(mockAsyncInputStream).read(0, 128 * k);
+
+        // A read that returns everything requested means the reader is behind, so more requests are kept in flight.
+        requests.get(0L).complete(new SegmentRead(segment.getScopedName(), 0, false, false, Unpooled.wrappedBuffer(new byte[128 * k]), requestId));
+        assertEquals(128 * k, stream.read(ByteBuffer.allocate(128 * k), 0));
+        verify(mockAsyncInputStream).read(128 * k, 32 * k);
+        verify(mockAsyncInputStream).read(160 * k, 32 * k);
+        verify(mockAsyncInputStream).read(192 * k, 32 * k);
+        verify(mockAsyncInputStream).read(224 * k, 32 * k);
+
+        // Having to wait for data while behind grows the buffer.
+        assertEquals(0, stream.read(ByteBuffer.allocate(64 * k), 0));
+        assertEquals(256 * k, stream.getBufferSize());
+        assertEquals(256 * k, budget.getAllocated());
+
+        // Prefetched reads are consumed in order.
+        requests.get(128L * k).complete(new SegmentRead(segment.getScopedName(), 128 * k, false, false, Unpooled.wrappedBuffer(new byte[32 * k]), requestId));
+        requests.get(160L * k).complete(new SegmentRead(segment.getScopedName(), 160 * k, false, false, Unpooled.wrappedBuffer(new byte[32 * k]), requestId));
+        assertEquals(32 * k, stream.read(ByteBuffer.allocate(64 * k), 0));
+        assertEquals(32 * k, stream.read(ByteBuffer.allocate(64 * k), 0));
+        assertEquals(192 * k, stream.getOffset());
+
+        // A short read at the tail means the reader caught up, so the remaining prefetched reads are discarded.
+        requests.get(192L * k).complete(new SegmentRead(segment.getScopedName(), 192 * k, true, false, Unpooled.wrappedBuffer(new byte[10]), requestId));
+        assertEquals(10, stream.read(ByteBuffer.allocate(64 * k), 0));
+        verify(mockAsyncInputStream).read(192 * k + 10, 256 * k);
+
+        // Having to wait for data after catching up shrinks the buffer.
+        assertEquals(0, stream.read(ByteBuffer.allocate(64 * k), 0));
+        assertEquals(128 * k, stream.getBufferSize());
+        assertEquals(128 * k, budget.getAllocated());
+
+        stream.close();
+        assertEquals(0, budget.getAllocated());
+    }
+
+    @Test
+    public void testAdaptiveBufferShortReadsNotAtTail() throws EndOfSegmentException, SegmentTruncatedException {
+        int k = 1024;
+        ReadBufferBudget budget = new ReadBufferBudget(1024 * k);
+        Map<Long, CompletableFuture<SegmentRead>> requests = new HashMap<>();
+        AsyncSegmentInputStream mockAsyncInputStream = mock(AsyncSegmentInputStream.class);
+        when(mockAsyncInputStream.getSegmentId()).thenReturn(segment);
+        when(mockAsyncInputStream.read(anyLong(), anyInt())).thenAnswer(invocation -> {
+            CompletableFuture<SegmentRead> result = new CompletableFuture<>();
+            requests.put(invocation.getArgument(0), result);
+            return result;
+        });
+        SegmentInputStreamImpl stream = new SegmentInputStreamImpl(mockAsyncInputStream, 0, Long.MAX_VALUE, 128 * k, budget);
+        requests.get(0L).complete(new SegmentRead(segment.getScopedName(), 0, false, false, Unpooled.wrappedBuffer(new byte[128 * k]), requestId));
+        assertEquals(128 * k, stream.read(ByteBuffer.allocate(128 * k), 0));
+        verify(mockAsyncInputStream).read(128 * k, 32 * k);
+
+        // Short reads that are not at the tail only discard the prefetched reads that no longer line up; the reader is
+        // still behind, so prefetching continues from where the short read ended.
+        long offset = 128 * k;
+        for (int i = 0; i < 2; i++) {
+            requests.get(offset).complete(new SegmentRead(segment.getScopedName(), offset, false, false, Unpooled.wrappedBuffer(new byte[10]), requestId));
+            assertEquals(10, stream.read(ByteBuffer.allocate(64 * k), 0));
+            offset += 10;
+            verify(mockAsyncInputStream).read(offset, 32 * k);
+            verify(mockAsyncInputStream).read(offset + 32 * k, 32 * k);
+            verify(mockAsyncInputStream).read(offset + 64 * k, 32 * k);
+            verify(mockAsyncInputStream).read(offset + 96 * k, 32 * k);
+        }
+
+        // Waiting for data while behind keeps growing the buffer.
+        assertEquals(0, stream.read(ByteBuffer.allocate(64 * k), 0));
+        assertEquals(256 * k, stream.getBufferSize());
+
+        stream.close();
+        assertEquals(0, budget.getAllocated());
+    }
 }
@@ -42,6 +42,7 @@ public class EventWriterConfigTest {
                 .maxBackoffMillis(1000)
                 .retryAttempts(3)
                 .transactionTimeoutTime(100000)
+                .compression(EventWriterConfig.Compression.SNAPPY)
                 .build();
 
         EventWriterConfig.EventWriterConfigSerializer serializer = new EventWriterConfig.EventWriterConfigSerializer();
@@ -67,6 +68,7 @@ public class EventWriterConfigTest {
         assertEquals(1000, result1.getMaxBackoffMillis());
         assertEquals(3, result1.getRetryAttempts());
         assertEquals(100000, result1.getTransactionTimeoutTime());
+        assertEquals(EventWriterConfig.Compression.SNAPPY, result1.getCompression());
 
         assertEquals(true, result2.isAutomaticallyNoteTime());
         assertEquals(2, result2.getBackoffMultiple());
@@ -75,6 +77,17 @@ public class EventWriterConfigTest {
         assertEquals(1000, result2.getMaxBackoffMillis());
         assertEquals(3, result2.getRetryAttempts());
         assertEquals(100000, result2.getTransactionTimeoutTime());
+        assertEquals(EventWriterConfig.Compression.SNAPPY, result2.getCompression());
+    }
+
+    @Test
+    public void testCompression() {
+        assertEquals(EventWriterConfig.Compression.NONE, EventWriterConfig.builder().build().getCompression());
+        for (EventWriterConfig.Compression c : EventWriterConfig.Compression.values()) {
+            assertEquals(c, EventWriterConfig.Compression.fromId(c.getId()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> EventWriterConfig.Compression.fromId((byte) 100));
+        assertThrows(NullPointerException.class, () -> EventWriterConfig.builder().compression(null).build());
     }
 
     @Test
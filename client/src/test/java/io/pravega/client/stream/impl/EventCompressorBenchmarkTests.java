@@ -0,0 +1,93 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.stream.EventWriterConfig.Compression;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark tests for {@link EventCompressor}, comparing the compression ratio, throughput and CPU usage of each
+ * {@link Compression} codec for various event sizes. Since the results may vary significantly based on the hardware used,
+ * outcomes are not comparable across environments.
+ *
+ * Ignored by default: each codec compresses {@link #TOTAL_BYTES} per event size and iteration, which takes minutes and
+ * is only meaningful on an otherwise idle machine.
+ */
+@Ignore
+public class EventCompressorBenchmarkTests {
+    private static final int[] EVENT_SIZES = new int[]{256, 4 * 1024, 64 * 1024, 1024 * 1024};
+    private static final long TOTAL_BYTES = 1024 * 1024 * 1024L;
+    private static final int ITERATION_COUNT = 3;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    @Test
+    public void testCompression() {
+        for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+            System.out.println(String.format("Iteration %d", iteration));
+            for (int eventSize : EVENT_SIZES) {
+                for (Compression c : Compression.values()) {
+                    test(c, eventSize);
+                }
+            }
+        }
+    }
+
+    private void test(Compression compression, int eventSize) {
+        ByteBuffer event = ByteBuffer.wrap(EventCompressorTest.generateCompressible(eventSize));
+        int count = (int) Math.max(1, TOTAL_BYTES / eventSize);
+
+        List<ByteBuf> serialized = new ArrayList<>(count);
+        long startCpu = this.threadBean.getCurrentThreadCpuTime();
+        long startNanos = System.nanoTime();
+        long compressedBytes = 0;
+        for (int i = 0; i < count; i++) {
+            ByteBuf s = EventCompressor.compress(compression, event);
+            compressedBytes += s.readableBytes();
+            if (i < 1000) {
+                serialized.add(s);
+            }
+        }
+        long compressCpu = this.threadBean.getCurrentThreadCpuTime() - startCpu;
+        long compressNanos = System.nanoTime() - startNanos;
+
+        startCpu = this.threadBean.getCurrentThreadCpuTime();
+        startNanos = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            ByteBuf s = serialized.get(i % serialized.size()).duplicate();
+            if (s.getInt(s.readerIndex()) == WireCommandType.COMPRESSED_EVENT.getCode()) {
+                s.skipBytes(WireCommands.TYPE_PLUS_LENGTH_SIZE);
+                EventCompressor.decompress(s.nioBuffer());
+            }
+        }
+        long decompressCpu = this.threadBean.getCurrentThreadCpuTime() - startCpu;
+        long decompressNanos = System.nanoTime() - startNanos;
+
+        double totalMb = (double) count * eventSize / 1024 / 1024;
+        System.out.println(String.format("%s: EventSize = %d, Ratio = %.3f, Compress: %.1f MB/s (CPU %.1f ms), Decompress: %.1f MB/s (CPU %.1f ms)",
+                compression, eventSize, (double) compressedBytes / ((long) count * (eventSize + WireCommands.TYPE_PLUS_LENGTH_SIZE)),
+                totalMb * 1e9 / compressNanos, compressCpu / 1e6,
+                totalMb * 1e9 / Math.max(1, decompressNanos), decompressCpu / 1e6));
+    }
+}
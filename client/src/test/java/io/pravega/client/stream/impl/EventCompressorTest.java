@@ -0,0 +1,145 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.stream.EventWriterConfig.Compression;
+import io.pravega.shared.protocol.netty.InvalidMessageException;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link EventCompressor} class.
+ */
+public class EventCompressorTest {
+    private static final Compression[] CODECS = new Compression[]{Compression.DEFLATE, Compression.SNAPPY};
+
+    /**
+     * Tests compressing and decompressing compressible events of various sizes with all the codecs.
+     */
+    @Test
+    public void testRoundTrip() {
+        for (Compression c : CODECS) {
+            for (int length : new int[]{1000, 100 * 1024}) {
+                byte[] event = generateCompressible(length);
+                ByteBuf serialized = EventCompressor.compress(c, ByteBuffer.wrap(event));
+                Assert.assertEquals(WireCommandType.COMPRESSED_EVENT.getCode(), serialized.readInt());
+                int payloadLength = serialized.readInt();
+                Assert.assertEquals(payloadLength, serialized.readableBytes());
+                Assert.assertTrue("Expected event to be compressed for " + c, payloadLength < length);
+
+                ByteBuffer result = EventCompressor.decompress(serialized.nioBuffer());
+                Assert.assertEquals("Unexpected result for " + c, ByteBuffer.wrap(event), result);
+            }
+        }
+    }
+
+    /**
+     * Tests that events are stored as regular events when they are not compressed.
+     */
+    @Test
+    public void testNotCompressed() {
+        byte[] small = generateCompressible(63);
+        byte[] random = new byte[10000];
+        new Random(0).nextBytes(random);
+        checkNotCompressed(Compression.NONE, generateCompressible(10000));
+        for (Compression c : CODECS) {
+            checkNotCompressed(c, small);
+            checkNotCompressed(c, random);
+        }
+    }
+
+    /**
+     * Tests that the input buffer is not modified.
+     */
+    @Test
+    public void testInputNotModified() {
+        for (Compression c : CODECS) {
+            ByteBuffer event = ByteBuffer.wrap(generateCompressible(1000));
+            event.position(10);
+            ByteBuf serialized = EventCompressor.compress(c, event);
+            Assert.assertEquals(10, event.position());
+            serialized.skipBytes(WireCommands.TYPE_PLUS_LENGTH_SIZE);
+            Assert.assertEquals(event, EventCompressor.decompress(serialized.nioBuffer()));
+        }
+    }
+
+    /**
+     * Tests that corrupted payloads are rejected.
+     */
+    @Test
+    public void testInvalidPayload() {
+        for (Compression c : CODECS) {
+            ByteBuf serialized = EventCompressor.compress(c, ByteBuffer.wrap(generateCompressible(10000)));
+            serialized.skipBytes(WireCommands.TYPE_PLUS_LENGTH_SIZE);
+            ByteBuffer payload = serialized.nioBuffer();
+
+            // Truncated.
+            ByteBuffer truncated = payload.duplicate();
+            truncated.limit(truncated.limit() - 10);
+            AssertExtensions.assertThrows("Truncated payload accepted for " + c,
+                    () -> EventCompressor.decompress(truncated), ex -> ex instanceof InvalidMessageException);
+
+            // Wrong uncompressed length.
+            ByteBuffer wrongLength = copy(payload);
+            wrongLength.putInt(1, 9999);
+            AssertExtensions.assertThrows("Wrong length accepted for " + c,
+                    () -> EventCompressor.decompress(wrongLength), ex -> ex instanceof InvalidMessageException);
+            wrongLength.putInt(1, -1);
+            AssertExtensions.assertThrows("Negative length accepted for " + c,
+                    () -> EventCompressor.decompress(wrongLength), ex -> ex instanceof InvalidMessageException);
+        }
+
+        // Unknown codec.
+        ByteBuffer unknown = ByteBuffer.allocate(10);
+        unknown.put(0, (byte) 123);
+        AssertExtensions.assertThrows("Unknown codec accepted.",
+                () -> EventCompressor.decompress(unknown), ex -> ex instanceof InvalidMessageException);
+
+        // Too short.
+        AssertExtensions.assertThrows("Short payload accepted.",
+                () -> EventCompressor.decompress(ByteBuffer.allocate(3)), ex -> ex instanceof InvalidMessageException);
+    }
+
+    private void checkNotCompressed(Compression c, byte[] event) {
+        ByteBuf serialized = EventCompressor.compress(c, ByteBuffer.wrap(event));
+        Assert.assertEquals(WireCommandType.EVENT.getCode(), serialized.readInt());
+        Assert.assertEquals(event.length, serialized.readInt());
+        Assert.assertEquals(ByteBuffer.wrap(event), serialized.nioBuffer());
+    }
+
+    private ByteBuffer copy(ByteBuffer buffer) {
+        ByteBuffer result = ByteBuffer.allocate(buffer.remaining());
+        result.put(buffer.duplicate());
+        result.flip();
+        return result;
+    }
+
+    static byte[] generateCompressible(int length) {
+        StringBuilder sb = new StringBuilder();
+        Random rnd = new Random(length);
+        while (sb.length() < length) {
+            sb.append(String.format("{\"id\":%d,\"name\":\"sensor-%d\",\"value\":%.2f},", sb.length(), rnd.nextInt(100), rnd.nextDouble()));
+        }
+        return sb.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.client.control.impl.Controller;
+import io.pravega.client.security.auth.DelegationTokenProviderFactory;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentOutputStream;
+import io.pravega.client.stream.EventRead;
+import io.pravega.client.stream.EventWriterConfig;
+import io.pravega.client.stream.ReaderConfig;
+import io.pravega.client.stream.Stream;
+import io.pravega.client.stream.mock.MockSegmentStreamFactory;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.Cleanup;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Benchmark tests for {@link EventStreamReaderImpl#readNextEvent} and {@link EventStreamReaderImpl#readNextEvents},
+ * measuring the per-event overhead of the reader (segment selection, reader group state checks, position tracking
+ * and deserialization) at various batch sizes. The segment data is served from memory, so only the client-side
+ * overhead is measured. Since the results may vary significantly based on the hardware used, outcomes are not
+ * comparable across environments.
+ *
+ * Ignored by default: every batch size reads {@link #EVENT_COUNT} events {@link #ITERATION_COUNT} times, and the timings are
+ * dominated by JIT and GC noise unless the benchmark runs alone.
+ */
+@Ignore
+public class EventStreamReaderBenchmarkTests {
+    private static final int EVENT_COUNT = 2000000;
+    private static final int EVENT_SIZE = 16;
+    private static final int[] BATCH_SIZES = new int[]{1, 2, 5, 10, 50, 100, 500, 1000};
+    private static final int ITERATION_COUNT = 3;
+    private static final Segment SEGMENT = Segment.fromScopedName("Foo/Bar/0");
+
+    @Test
+    public void testReadNextEvents() {
+        MockSegmentStreamFactory segmentStreamFactory = new MockSegmentStreamFactory();
+        @Cleanup
+        SegmentOutputStream stream = segmentStreamFactory.createOutputStreamForSegment(SEGMENT, s -> { }, EventWriterConfig.builder().build(),
+                DelegationTokenProviderFactory.createWithEmptyToken());
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            stream.write(PendingEvent.withHeader(null, ByteBuffer.allocate(EVENT_SIZE), new CompletableFuture<>()));
+        }
+
+        for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+            System.out.println(String.format("Iteration %d", iteration));
+            long baseline = readAll(segmentStreamFactory, 0);
+            System.out.println(String.format("readNextEvent: %.1f ns/event", (double) baseline / EVENT_COUNT));
+            for (int batchSize : BATCH_SIZES) {
+                long elapsed = readAll(segmentStreamFactory, batchSize);
+                System.out.println(String.format("readNextEvents(%d): %.1f ns/event (%.2fx)",
+                        batchSize, (double) elapsed / EVENT_COUNT, (double) baseline / elapsed));
+            }
+        }
+    }
+
+    /**
+     * Reads all the events in the segment and returns the elapsed time, in nanoseconds. A batchSize of 0 indicates
+     * {@link EventStreamReaderImpl#readNextEvent} should be used.
+     */
+    private long readAll(MockSegmentStreamFactory segmentStreamFactory, int batchSize) {
+        ReaderGroupStateManager groupState = Mockito.mock(ReaderGroupStateManager.class);
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any()))
+               .thenReturn(ImmutableMap.of(new SegmentWithRange(SEGMENT, 0, 1), 0L))
+               .thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+        @Cleanup
+        EventStreamReaderImpl<ByteBuffer> reader = new EventStreamReaderImpl<>(segmentStreamFactory, segmentStreamFactory,
+                new ByteBufferSerializer(), groupState, new Orderer(), System::currentTimeMillis, ReaderConfig.builder().build(),
+                ImmutableMap.of(Stream.of("Foo/Bar"), Mockito.mock(WatermarkReaderImpl.class)), Mockito.mock(Controller.class));
+
+        int count = 0;
+        long start = System.nanoTime();
+        while (count < EVENT_COUNT) {
+            if (batchSize == 0) {
+                EventRead<ByteBuffer> e = reader.readNextEvent(1000);
+                count += e.getEvent() == null ? 0 : 1;
+            } else {
+                List<EventRead<ByteBuffer>> events = reader.readNextEvents(batchSize, 1000);
+                count += events.get(0).getEvent() == null ? 0 : events.size();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -39,6 +39,7 @@ import io.pravega.client.segment.impl.SegmentTruncatedException;
 import io.pravega.client.state.RevisionedStreamClient;
 import io.pravega.client.state.StateSynchronizer;
 import io.pravega.client.state.SynchronizerConfig;
+import io.pravega.client.stream.BufferViewSerializer;
 import io.pravega.client.stream.EventRead;
 import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.client.stream.ReaderConfig;
@@ -58,6 +59,7 @@ import io.pravega.client.watermark.WatermarkSerializer;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.common.util.BufferView;
 import io.pravega.shared.watermarks.Watermark;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.InlineExecutor;
@@ -68,6 +70,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import lombok.Cleanup;
@@ -285,6 +288,111 @@ public class EventStreamReaderTest {
         reader.close();
     }
 
+    @Test(timeout = 10000)
+    public void testReadNextEvents() throws SegmentSealedException, ReaderNotInReaderGroupException {
+        AtomicLong clock = new AtomicLong();
+        MockSegmentStreamFactory segmentStreamFactory = new MockSegmentStreamFactory();
+        Orderer orderer = new Orderer();
+        ReaderGroupStateManager groupState = Mockito.mock(ReaderGroupStateManager.class);
+        @Cleanup
+        EventStreamReaderImpl<byte[]> reader = new EventStreamReaderImpl<>(segmentStreamFactory, segmentStreamFactory,
+                                                                           new ByteArraySerializer(), groupState,
+                                                                           orderer, clock::get,
+                                                                           ReaderConfig.builder().build(),
+                                                                           createWatermarkReaders(),
+                                                                           Mockito.mock(Controller.class));
+        Segment segment = Segment.fromScopedName("Foo/Bar/0");
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any()))
+               .thenReturn(ImmutableMap.of(new SegmentWithRange(segment, 0, 1), 0L))
+               .thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+        @Cleanup
+        SegmentOutputStream stream = segmentStreamFactory.createOutputStreamForSegment(segment, segmentSealedCallback, writerConfig,
+                DelegationTokenProviderFactory.createWithEmptyToken());
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            buffers.add(writeInt(stream, i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> reader.readNextEvents(0, 0));
+
+        List<EventRead<byte[]>> events = reader.readNextEvents(3, 0);
+        assertEquals(3, events.size());
+        List<EventRead<byte[]>> remaining = reader.readNextEvents(10, 0);
+        assertEquals(2, remaining.size());
+        events = new ArrayList<>(events);
+        events.addAll(remaining);
+        for (int i = 0; i < events.size(); i++) {
+            EventRead<byte[]> e = events.get(i);
+            assertEquals(buffers.get(i), ByteBuffer.wrap(e.getEvent()));
+            long offset = i * (WireCommands.TYPE_PLUS_LENGTH_SIZE + Integer.BYTES);
+            assertEquals(offset, e.getEventPointer().asImpl().getEventStartOffset());
+            assertEquals(WireCommands.TYPE_PLUS_LENGTH_SIZE + Integer.BYTES, e.getEventPointer().asImpl().getEventLength());
+            assertEquals(Long.valueOf(offset + WireCommands.TYPE_PLUS_LENGTH_SIZE + Integer.BYTES),
+                    e.getPosition().asImpl().getOffsetForOwnedSegment(segment));
+        }
+
+        // No more events.
+        events = reader.readNextEvents(10, 0);
+        assertEquals(1, events.size());
+        assertNull(events.get(0).getEvent());
+
+        // Checkpoints are returned on their own.
+        Mockito.when(groupState.getCheckpoint()).thenReturn("CP1").thenReturn(null);
+        events = reader.readNextEvents(10, 0);
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).isCheckpoint());
+        assertEquals("CP1", events.get(0).getCheckpointName());
+        reader.close();
+    }
+
+    @Test(timeout = 10000)
+    public void testReadWithBufferViewSerializer() throws SegmentSealedException, ReinitializationRequiredException {
+        AtomicLong clock = new AtomicLong();
+        MockSegmentStreamFactory segmentStreamFactory = new MockSegmentStreamFactory();
+        AtomicInteger viewReads = new AtomicInteger();
+        BufferViewSerializer<Integer> serializer = new BufferViewSerializer<Integer>() {
+            @Override
+            public ByteBuffer serialize(Integer value) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Integer deserialize(BufferView serializedValue) {
+                viewReads.incrementAndGet();
+                return ByteBuffer.wrap(serializedValue.getCopy()).getInt();
+            }
+        };
+        Orderer orderer = new Orderer();
+        ReaderGroupStateManager groupState = Mockito.mock(ReaderGroupStateManager.class);
+        @Cleanup
+        EventStreamReaderImpl<Integer> reader = new EventStreamReaderImpl<>(segmentStreamFactory, segmentStreamFactory,
+                                                                            serializer, groupState,
+                                                                            orderer, clock::get,
+                                                                            ReaderConfig.builder().build(),
+                                                                            createWatermarkReaders(),
+                                                                            Mockito.mock(Controller.class));
+        Segment segment = Segment.fromScopedName("Foo/Bar/0");
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any()))
+               .thenReturn(ImmutableMap.of(new SegmentWithRange(segment, 0, 1), 0L))
+               .thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+        @Cleanup
+        SegmentOutputStream stream = segmentStreamFactory.createOutputStreamForSegment(segment, segmentSealedCallback, writerConfig,
+                DelegationTokenProviderFactory.createWithEmptyToken());
+        for (int i = 0; i < 3; i++) {
+            writeInt(stream, i);
+        }
+
+        assertEquals(Integer.valueOf(0), reader.readNextEvent(0).getEvent());
+        List<EventRead<Integer>> events = reader.readNextEvents(10, 0);
+        assertEquals(2, events.size());
+        assertEquals(Integer.valueOf(1), events.get(0).getEvent());
+        assertEquals(Integer.valueOf(2), events.get(1).getEvent());
+        assertEquals(3, viewReads.get());
+        assertNull(reader.readNextEvent(0).getEvent());
+        reader.close();
+    }
+
     @Test(timeout = 10000)
     public void testReleaseSegment() throws SegmentSealedException, ReaderNotInReaderGroupException {
         AtomicLong clock = new AtomicLong();
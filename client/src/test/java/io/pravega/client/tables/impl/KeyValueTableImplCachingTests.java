@@ -0,0 +1,82 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.tables.impl;
+
+import io.pravega.client.tables.BadKeyVersionException;
+import io.pravega.client.tables.Insert;
+import io.pravega.client.tables.KeyValueTableClientConfiguration;
+import io.pravega.client.tables.Put;
+import io.pravega.client.tables.TableKey;
+import io.pravega.client.tables.Version;
+import io.pravega.test.common.AssertExtensions;
+import java.nio.ByteBuffer;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs all {@link KeyValueTableImplTests} with the client-side {@link TableEntryCache} enabled, and verifies cache-specific
+ * behavior.
+ */
+public class KeyValueTableImplCachingTests extends KeyValueTableImplTests {
+    @Override
+    protected KeyValueTableClientConfiguration getClientConfig() {
+        return KeyValueTableClientConfiguration.builder()
+                .cacheMaxEntries(getPrimaryKeyCount() * getSecondaryKeyCount() / 2)
+                .cacheTtlMillis(60000)
+                .build();
+    }
+
+    /**
+     * Tests that reads and existence checks are served from the cache and that local updates invalidate it.
+     */
+    @Test
+    public void testCacheHits() {
+        @Cleanup
+        val kvt = (KeyValueTableImpl) createKeyValueTable();
+        val key = new TableKey(getPrimaryKeys().get(0), ByteBuffer.allocate(getSecondaryKeyLength()));
+        val value = ByteBuffer.wrap(new byte[]{1, 2, 3});
+
+        // Non-existent keys are cached too.
+        Assert.assertFalse(kvt.exists(key).join());
+        Assert.assertFalse(kvt.exists(key).join());
+        Assert.assertNull(kvt.get(key).join());
+        checkStats(kvt, 2, 1);
+
+        // Local updates invalidate the cache.
+        val v1 = kvt.update(new Insert(key, value)).join();
+        Assert.assertTrue(kvt.exists(key).join());
+        val e1 = kvt.get(key).join();
+        Assert.assertEquals(v1, e1.getVersion());
+        Assert.assertEquals(value, e1.getValue());
+        checkStats(kvt, 3, 2);
+
+        // A failed conditional update invalidates the cached entry.
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Conditional update did not fail.",
+                () -> kvt.update(new Put(key, value, Version.NOT_EXISTS)),
+                ex -> ex instanceof BadKeyVersionException);
+        Assert.assertEquals(v1, kvt.get(key).join().getVersion());
+        checkStats(kvt, 3, 3);
+    }
+
+    private void checkStats(KeyValueTableImpl kvt, long expectedHits, long expectedMisses) {
+        val stats = kvt.getCacheStats();
+        Assert.assertEquals("Unexpected hit count.", expectedHits, stats.getHitCount());
+        Assert.assertEquals("Unexpected miss count.", expectedMisses, stats.getMissCount());
+    }
+}
@@ -19,6 +19,7 @@ import io.pravega.client.admin.KeyValueTableInfo;
 import io.pravega.client.stream.mock.MockConnectionFactoryImpl;
 import io.pravega.client.stream.mock.MockController;
 import io.pravega.client.tables.KeyValueTable;
+import io.pravega.client.tables.KeyValueTableClientConfiguration;
 import io.pravega.client.tables.KeyValueTableConfiguration;
 import lombok.val;
 import org.junit.After;
@@ -51,7 +52,11 @@ public class KeyValueTableImplTests extends KeyValueTableTestBase {
         this.controller.createKeyValueTable(kvt.getScope(), kvt.getKeyValueTableName(), config);
         int segmentKeyLength = config.getTotalKeyLength();
         val segmentFactory = new MockTableSegmentFactory(getSegmentCount(), segmentKeyLength, executorService());
-        return new KeyValueTableImpl(kvt, segmentFactory, this.controller, executorService());
+        return new KeyValueTableImpl(kvt, segmentFactory, this.controller, executorService(), getClientConfig());
+    }
+
+    protected KeyValueTableClientConfiguration getClientConfig() {
+        return KeyValueTableClientConfiguration.builder().build();
     }
 
     @Override
@@ -241,13 +241,25 @@ public class KeyValueTableIteratorImplTests extends LeakDetectorTestSuite {
      */
     @Test
     public void testMergeAsyncIterator() {
+        testMergeAsyncIterator(false);
+    }
+
+    /**
+     * Tests the {@link KeyValueTableIteratorImpl.MergeAsyncIterator} class when the segment iterators are in reverse order.
+     */
+    @Test
+    public void testMergeAsyncIteratorReverse() {
+        testMergeAsyncIterator(true);
+    }
+
+    private void testMergeAsyncIterator(boolean reverse) {
         val segmentCount = 5;
         val minItemsPerSegment = 11;
         val maxItemsPerSegment = 101;
         val iterationSize = 3;
 
         // Generate test data.
-        val c = new KeyValueTableIteratorImpl.TableKeyComparator();
+        val c = reverse ? new KeyValueTableIteratorImpl.TableKeyComparator().reversed() : new KeyValueTableIteratorImpl.TableKeyComparator();
         val segmentIterators = new ArrayList<AsyncIterator<IteratorItem<TableKey>>>(); // Sorted.
         val expectedData = new ArrayList<TableKey>(); // Sorted.
         for (int i = 0; i < segmentCount; i++) {
@@ -274,7 +286,7 @@ public class KeyValueTableIteratorImplTests extends LeakDetectorTestSuite {
         expectedData.sort(c);
 
         // Create a merge iterator and collect its contents.
-        val mergeIterator = new KeyValueTableIteratorImpl.MergeAsyncIterator<>(segmentIterators.iterator(), k -> k, iterationSize, executorService());
+        val mergeIterator = new KeyValueTableIteratorImpl.MergeAsyncIterator<>(segmentIterators.iterator(), k -> k, iterationSize, reverse, executorService());
         val actualData = new ArrayList<TableKey>();
         mergeIterator.collectRemaining(ii -> {
             val expected = Math.min(iterationSize, expectedData.size() - actualData.size());
@@ -459,6 +471,106 @@ public class KeyValueTableIteratorImplTests extends LeakDetectorTestSuite {
         Assert.assertTrue(i2.isSingleSegment());
     }
 
+    /**
+     * Tests {@link KeyValueTableIterator.Builder#forPrimaryKeyRange}.
+     */
+    @Test
+    public void testBuilderForPrimaryKeyRangeExclusive() {
+        val config = DEFAULT_CONFIG;
+        val b = builder(config);
+        val pk = newBuffer(config.getPrimaryKeyLength());
+
+        // Upper bound is exclusive.
+        val i1 = b.forPrimaryKeyRange(pk, ByteBuffer.wrap(new byte[]{0, 0, 1, 5}), ByteBuffer.wrap(new byte[]{0, 0, 2, 0}));
+        Assert.assertEquals(pk, i1.getFromPrimaryKey());
+        Assert.assertEquals(pk, i1.getToPrimaryKey());
+        Assert.assertEquals(ByteBuffer.wrap(new byte[]{0, 0, 1, 5}), i1.getFromSecondaryKey());
+        Assert.assertEquals(ByteBuffer.wrap(new byte[]{0, 0, 1, (byte) 0xFF}), i1.getToSecondaryKey());
+        Assert.assertTrue(i1.isSingleSegment());
+        Assert.assertFalse(i1.isEmptyRange());
+
+        // No upper bound.
+        val i2 = b.forPrimaryKeyRange(pk, null, null);
+        checkKey(null, config.getSecondaryKeyLength(), KeyValueTableIteratorImpl.Builder.MIN_BYTE, i2.getFromSecondaryKey());
+        checkKey(null, config.getSecondaryKeyLength(), KeyValueTableIteratorImpl.Builder.MAX_BYTE, i2.getToSecondaryKey());
+        Assert.assertFalse(i2.isEmptyRange());
+
+        // Empty ranges.
+        val i3 = b.forPrimaryKeyRange(pk, ByteBuffer.wrap(new byte[]{0, 0, 1, 5}), ByteBuffer.wrap(new byte[]{0, 0, 1, 5}));
+        Assert.assertTrue(i3.isEmptyRange());
+        Assert.assertNull(i3.keys().getNext().join());
+        Assert.assertNull(i3.entries().getNext().join());
+        val i4 = b.forPrimaryKeyRange(pk, null, ByteBuffer.wrap(new byte[config.getSecondaryKeyLength()]));
+        Assert.assertTrue(i4.isEmptyRange());
+        Assert.assertNull(i4.keys().getNext().join());
+    }
+
+    /**
+     * Tests {@link KeyValueTableIterator.Builder#continueAfter}.
+     */
+    @Test
+    public void testBuilderContinueAfter() {
+        val config = DEFAULT_CONFIG;
+        val pk = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        val lastKey = new TableKey(pk, ByteBuffer.wrap(new byte[]{0, 0, 1, (byte) 0xFF}));
+
+        // Forward: the range begins right after the last key.
+        val b1 = builder(config);
+        b1.continueAfter(lastKey);
+        val i1 = b1.forPrimaryKey(pk);
+        Assert.assertEquals(pk, i1.getFromPrimaryKey());
+        Assert.assertEquals(ByteBuffer.wrap(new byte[]{0, 0, 2, 0}), i1.getFromSecondaryKey());
+        checkKey(null, config.getSecondaryKeyLength(), KeyValueTableIteratorImpl.Builder.MAX_BYTE, i1.getToSecondaryKey());
+        Assert.assertFalse(i1.isReverse());
+
+        // Reverse: the range ends right before the last key.
+        val b2 = builder(config);
+        b2.reverse(true).continueAfter(lastKey);
+        val i2 = b2.forPrimaryKey(pk);
+        checkKey(null, config.getSecondaryKeyLength(), KeyValueTableIteratorImpl.Builder.MIN_BYTE, i2.getFromSecondaryKey());
+        Assert.assertEquals(pk, i2.getToPrimaryKey());
+        Assert.assertEquals(ByteBuffer.wrap(new byte[]{0, 0, 1, (byte) 0xFE}), i2.getToSecondaryKey());
+        Assert.assertTrue(i2.isReverse());
+
+        // A last key outside of the range does not widen it.
+        val from = ByteBuffer.wrap(new byte[]{0, 0, 5, 0});
+        val b3 = builder(config);
+        b3.continueAfter(lastKey);
+        val i3 = b3.forPrimaryKey(pk, from, null);
+        Assert.assertEquals(from, i3.getFromSecondaryKey());
+
+        // Continuing after the last key in the range.
+        val b4 = builder(config);
+        b4.continueAfter(new TableKey(pk, ByteBuffer.wrap(new byte[]{0, 0, 5, 0})));
+        val i4 = b4.forPrimaryKeyRange(pk, null, ByteBuffer.wrap(new byte[]{0, 0, 5, 1}));
+        Assert.assertTrue(i4.isEmptyRange());
+
+        // Continuing (in reverse) after the first possible key.
+        val minKey = new TableKey(ByteBuffer.wrap(new byte[config.getPrimaryKeyLength()]), ByteBuffer.wrap(new byte[config.getSecondaryKeyLength()]));
+        val b5 = builder(config);
+        b5.reverse(true).continueAfter(minKey);
+        val i5 = b5.all();
+        Assert.assertTrue(i5.isEmptyRange());
+
+        AssertExtensions.assertThrows("continueAfter accepted a key with the wrong length.",
+                () -> builder(config).continueAfter(new TableKey(newBuffer(config.getPrimaryKeyLength() + 1), newBuffer(config.getSecondaryKeyLength()))),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests the {@link SegmentIteratorArgs#successor} and {@link SegmentIteratorArgs#predecessor}
+     * methods.
+     */
+    @Test
+    public void testSuccessorPredecessor() {
+        Assert.assertArrayEquals(new byte[]{0, 2}, SegmentIteratorArgs.successor(new byte[]{0, 1}));
+        Assert.assertArrayEquals(new byte[]{1, 0}, SegmentIteratorArgs.successor(new byte[]{0, (byte) 0xFF}));
+        Assert.assertNull(SegmentIteratorArgs.successor(new byte[]{(byte) 0xFF, (byte) 0xFF}));
+        Assert.assertArrayEquals(new byte[]{0, 0}, SegmentIteratorArgs.predecessor(new byte[]{0, 1}));
+        Assert.assertArrayEquals(new byte[]{0, (byte) 0xFF}, SegmentIteratorArgs.predecessor(new byte[]{1, 0}));
+        Assert.assertNull(SegmentIteratorArgs.predecessor(new byte[]{0, 0}));
+    }
+
     /**
      * Tests {@link KeyValueTableIterator.Builder#forPrimaryKey(ByteBuffer, ByteBuffer)}.
      */
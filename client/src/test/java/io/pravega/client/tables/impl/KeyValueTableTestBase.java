@@ -33,6 +33,7 @@ import io.pravega.test.common.LeakDetectorTestSuite;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -617,10 +618,71 @@ public abstract class KeyValueTableTestBase extends LeakDetectorTestSuite {
         // Check the Primary Key iterator.
         checkPrimaryKeyIterator(kvt, versions, iteration.get());
 
+        // Check the Primary Key range scans.
+        checkPrimaryKeyRangeIterator(kvt);
+
         // Check the Global iterators.
         checkGlobalIterator(kvt, versions, iteration.get());
     }
 
+    private void checkPrimaryKeyRangeIterator(KeyValueTable keyValueTable) {
+        val itemsAtOnce = getSecondaryKeyCount() / 5;
+
+        forEveryPrimaryKey((pk, secondaryKeys) -> {
+            val allKeys = secondaryKeys.stream()
+                    .map(sk -> new TableKey(pk, sk))
+                    .sorted(KEY_COMPARATOR)
+                    .collect(Collectors.toList());
+
+            // Range is [from, to).
+            val fromIndex = allKeys.size() / 4;
+            val toIndex = allKeys.size() - fromIndex;
+            val fromSecondaryKey = allKeys.get(fromIndex).getSecondaryKey();
+            val toSecondaryKey = allKeys.get(toIndex).getSecondaryKey();
+            for (boolean reverse : new boolean[]{false, true}) {
+                val expectedKeys = new ArrayList<TableKey>(allKeys.subList(fromIndex, toIndex));
+                if (reverse) {
+                    Collections.reverse(expectedKeys);
+                }
+
+                // Scan the whole range at once.
+                val iterator = keyValueTable.iterator()
+                        .maxIterationSize(itemsAtOnce)
+                        .reverse(reverse)
+                        .forPrimaryKeyRange(pk, fromSecondaryKey, toSecondaryKey);
+                val iteratorKeys = new ArrayList<TableKey>();
+                iterator.keys().collectRemaining(ii -> iteratorKeys.addAll(ii.getItems())).join();
+                AssertExtensions.assertListEquals("Unexpected keys returned from range iterator.keys() (reverse=" + reverse + ").",
+                        expectedKeys, iteratorKeys, this::areEqual);
+
+                // Scan the range in pages, using a limit and resuming after the last returned key.
+                val pageSize = Math.max(1, expectedKeys.size() / 3);
+                val pagedKeys = new ArrayList<TableKey>();
+                TableKey lastKey = null;
+                while (true) {
+                    val pageIterator = keyValueTable.iterator()
+                            .maxIterationSize(itemsAtOnce)
+                            .reverse(reverse)
+                            .limit(pageSize)
+                            .continueAfter(lastKey)
+                            .forPrimaryKeyRange(pk, fromSecondaryKey, toSecondaryKey);
+                    val page = new ArrayList<TableKey>();
+                    pageIterator.keys().collectRemaining(ii -> page.addAll(ii.getItems())).join();
+                    AssertExtensions.assertLessThanOrEqual("Page exceeds limit.", pageSize, page.size());
+                    if (page.isEmpty()) {
+                        break;
+                    }
+
+                    pagedKeys.addAll(page);
+                    lastKey = page.get(page.size() - 1);
+                }
+
+                AssertExtensions.assertListEquals("Unexpected keys returned from paged range iterators (reverse=" + reverse + ").",
+                        expectedKeys, pagedKeys, this::areEqual);
+            }
+        });
+    }
+
     private void checkPrimaryKeyIterator(KeyValueTable keyValueTable, Versions versions, int iteration) {
         val itemsAtOnce = getSecondaryKeyCount() / 5;
 
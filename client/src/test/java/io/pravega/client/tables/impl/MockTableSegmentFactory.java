@@ -212,7 +212,8 @@ class MockTableSegmentFactory implements TableSegmentFactory {
                         // the Table Segment contract as it makes no guarantees about whether (or when) concurrent updates
                         // will make it into an ongoing iteration.
                         synchronized (this.data) {
-                            val iteratorItems = this.data.subMap(args.getFromKey(), true, args.getToKey(), true)
+                            val range = this.data.subMap(args.getFromKey(), true, args.getToKey(), true);
+                            val iteratorItems = (args.isReverse() ? range.descendingMap() : range)
                                     .entrySet().stream()
                                     .map(e -> converter.apply(e.getKey().copy(), e.getValue().value.copy(), e.getValue().version))
                                     .limit(args.getMaxItemsAtOnce())
@@ -0,0 +1,149 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.tables.impl;
+
+import io.pravega.client.tables.TableEntry;
+import io.pravega.client.tables.TableKey;
+import io.pravega.client.tables.Version;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TableEntryCache} class.
+ */
+public class TableEntryCacheTests {
+    private static final int MAX_ENTRIES = 10;
+    private static final long TTL_MILLIS = 1000;
+
+    /**
+     * Tests {@link TableEntryCache#get} and {@link TableEntryCache#put}, including caching of non-existent keys.
+     */
+    @Test
+    public void testGetPut() {
+        val cache = new TableEntryCache(MAX_ENTRIES, TTL_MILLIS, new AtomicLong()::get);
+        val stamp = cache.getStamp();
+        Assert.assertNull(cache.get(key(1)));
+
+        val entry = entry(1, 1L);
+        cache.put(key(1), entry, stamp);
+        cache.put(key(2), null, stamp);
+
+        val e1 = cache.get(key(1));
+        Assert.assertTrue(e1.exists());
+        Assert.assertEquals(entry, e1.getEntry());
+        Assert.assertEquals(entry.getVersion(), e1.getVersion());
+
+        // Consuming the returned entry must not affect the cached one.
+        e1.getEntry().getValue().position(1);
+        Assert.assertEquals(entry, cache.get(key(1)).getEntry());
+
+        val e2 = cache.get(key(2));
+        Assert.assertFalse(e2.exists());
+        Assert.assertNull(e2.getEntry());
+        Assert.assertEquals(Version.NOT_EXISTS, e2.getVersion());
+
+        val stats = cache.getStats();
+        Assert.assertEquals(2, stats.getSize());
+        Assert.assertEquals(3, stats.getHitCount());
+        Assert.assertEquals(1, stats.getMissCount());
+        Assert.assertEquals(0.75, stats.getHitRate(), 0.0001);
+    }
+
+    /**
+     * Tests that entries expire after their TTL.
+     */
+    @Test
+    public void testExpiration() {
+        val time = new AtomicLong();
+        val cache = new TableEntryCache(MAX_ENTRIES, TTL_MILLIS, time::get);
+        cache.put(key(1), entry(1, 1L), cache.getStamp());
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS) - 1);
+        Assert.assertNotNull(cache.get(key(1)));
+        time.incrementAndGet();
+        Assert.assertNull(cache.get(key(1)));
+
+        val stats = cache.getStats();
+        Assert.assertEquals(0, stats.getSize());
+        Assert.assertEquals(1, stats.getExpiredCount());
+    }
+
+    /**
+     * Tests that the least recently used entries are evicted when the cache is full.
+     */
+    @Test
+    public void testEviction() {
+        val cache = new TableEntryCache(MAX_ENTRIES, TTL_MILLIS, new AtomicLong()::get);
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            cache.put(key(i), entry(i, i), cache.getStamp());
+        }
+
+        // Touch the first key so that the second one becomes the eldest.
+        Assert.assertNotNull(cache.get(key(0)));
+        cache.put(key(MAX_ENTRIES), entry(MAX_ENTRIES, MAX_ENTRIES), cache.getStamp());
+        Assert.assertNotNull(cache.get(key(0)));
+        Assert.assertNull(cache.get(key(1)));
+
+        val stats = cache.getStats();
+        Assert.assertEquals(MAX_ENTRIES, stats.getSize());
+        Assert.assertEquals(1, stats.getEvictedCount());
+    }
+
+    /**
+     * Tests {@link TableEntryCache#invalidate} and {@link TableEntryCache#invalidateStale}, and that reads issued before
+     * an invalidation are not cached.
+     */
+    @Test
+    public void testInvalidation() {
+        val cache = new TableEntryCache(MAX_ENTRIES, TTL_MILLIS, new AtomicLong()::get);
+        val entry = entry(1, 1L);
+        cache.put(key(1), entry, cache.getStamp());
+        cache.put(key(2), null, cache.getStamp());
+
+        // Reads that started before an invalidation must not be cached.
+        val oldStamp = cache.getStamp();
+        cache.invalidate(key(1));
+        Assert.assertNull(cache.get(key(1)));
+        cache.put(key(1), entry, oldStamp);
+        Assert.assertNull(cache.get(key(1)));
+
+        // A failed condition that doesn't match what we have cached is not a stale entry.
+        cache.put(key(1), entry, cache.getStamp());
+        cache.invalidateStale(key(1), new VersionImpl(0L, 2L));
+        Assert.assertNull(cache.get(key(1)));
+        Assert.assertEquals(0, cache.getStats().getStaleCount());
+
+        // A failed condition that matches what we have cached is a stale entry.
+        cache.put(key(1), entry, cache.getStamp());
+        cache.invalidateStale(key(1), entry.getVersion());
+        cache.invalidateStale(key(2), Version.NOT_EXISTS);
+        Assert.assertNull(cache.get(key(1)));
+        Assert.assertNull(cache.get(key(2)));
+        Assert.assertEquals(2, cache.getStats().getStaleCount());
+    }
+
+    private ByteBuffer key(int id) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(0, id);
+    }
+
+    private TableEntry entry(int keyId, long version) {
+        return new TableEntry(new TableKey(key(keyId)), new VersionImpl(0L, version), ByteBuffer.wrap(new byte[]{1, 2, 3}));
+    }
+}
@@ -278,6 +278,42 @@ public class TableSegmentImplTest extends ThreadPooledTestSuite {
                 this::entryEquals);
     }
 
+    /**
+     * Tests that reverse iterations are refused by Segment Stores that would ignore {@link WireCommands.TableIteratorArgs#isReverse()}
+     * and that forward iterations are unaffected.
+     */
+    @Test
+    public void testReverseIteratorOlderServer() throws Exception {
+        @Cleanup
+        val context = new TestContext();
+        context.connectionFactory.provideConnection(URI, context.getConnection(),
+                new WireCommands.Hello(WireCommands.WIRE_VERSION - 1, WireCommands.OLDEST_COMPATIBLE_VERSION));
+        val args = SegmentIteratorArgs.builder()
+                .fromKey(buf(0))
+                .toKey(buf(100))
+                .maxItemsAtOnce(3)
+                .reverse(true)
+                .build();
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Reverse key iteration allowed with older server.",
+                () -> context.segment.keyIterator(args).getNext(),
+                ex -> ex instanceof UnsupportedOperationException);
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Reverse entry iteration allowed with older server.",
+                () -> context.segment.entryIterator(args).getNext(),
+                ex -> ex instanceof UnsupportedOperationException);
+        Assert.assertNull("Not expecting any request to be sent.", context.getConnection().getLastSentWireCommand());
+
+        // Forward iterations are still allowed.
+        val forwardArgs = new SegmentIteratorArgs(args.getFromKey(), args.getToKey(), args.getMaxItemsAtOnce());
+        val iteratorFuture = context.segment.keyIterator(forwardArgs).getNext();
+        val request = (WireCommands.ReadTableKeys) context.getConnection().getLastSentWireCommand();
+        Assert.assertFalse("Unexpected reverse flag sent.", request.getArgs().isReverse());
+        context.sendReply(new WireCommands.TableKeysRead(request.getRequestId(), SEGMENT.getScopedName(),
+                Collections.emptyList(), Unpooled.EMPTY_BUFFER));
+        Assert.assertNull(iteratorFuture.get(SHORT_TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
     private <T> void testIterator(Function<SegmentIteratorArgs, AsyncIterator<IteratorItem<T>>> newIterator,
                                   Supplier<ByteBuf> getLastRequestFromKey,
                                   Supplier<ByteBuf> getLastRequestToKey,
@@ -15,9 +15,11 @@
  */
 package io.pravega.common.util;
 
+import com.google.common.base.Preconditions;
 import lombok.Getter;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * Convenience class wrapping byteBuffer to provide a circular buffer. This works by maintaining
@@ -77,6 +79,63 @@ public class CircularBuffer {
         }
     }
 
+    /**
+     * Reads the given number of bytes without copying them. The returned {@link BufferView} is a view over this buffer's
+     * backing array, so it is only valid until the next call to {@link #fill} or {@link #clear}, since the space it
+     * occupies is made available for new data.
+     *
+     * @param length The number of bytes to read. Must not exceed {@link #dataAvailable()}.
+     * @return A {@link BufferView} of the given length.
+     */
+    public BufferView readView(int length) {
+        Preconditions.checkArgument(length >= 0 && length <= dataAvailable(), "length must be non-negative and at most dataAvailable().");
+        if (length == 0) {
+            return BufferView.empty();
+        }
+        int start = readBuffer.position();
+        int read = skipHelper(length);
+        BufferView first = new ByteArraySegment(readBuffer.array(), start, read);
+        if (read == length) {
+            return first;
+        }
+
+        // The data wraps around the end of the array.
+        start = readBuffer.position();
+        skipHelper(length - read);
+        return BufferView.wrap(Arrays.asList(first, new ByteArraySegment(readBuffer.array(), start, length - read)));
+    }
+
+    private int skipHelper(int length) {
+        int toSkip = Math.min(length, readBuffer.remaining());
+        readBuffer.position(readBuffer.position() + toSkip);
+        if (readBuffer.position() == capacity) {
+            readBuffer.position(0);
+            readBuffer.limit(fillBuffer.position());
+            fillBuffer.limit(capacity);
+        }
+        if (fillBuffer.position() < readBuffer.position()) {
+            fillBuffer.limit(readBuffer.position());
+        }
+        return toSkip;
+    }
+
+    /**
+     * Gets the (big-endian) int located at the given index past the current read position, without consuming any data.
+     *
+     * @param index The index of the first byte of the int, relative to the current read position. The int must be fully
+     *              contained within the first {@link #dataAvailable()} bytes.
+     * @return The int.
+     */
+    public int peekInt(int index) {
+        Preconditions.checkArgument(index >= 0 && index <= dataAvailable() - Integer.BYTES, "index must be non-negative and the int must be readable.");
+        byte[] array = readBuffer.array();
+        int result = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            result = (result << 8) | (array[(readBuffer.position() + index + i) % capacity] & 0xFF);
+        }
+        return result;
+    }
+
     /**
      * Copies from the given ByteBuffer.
      *
@@ -16,8 +16,10 @@
 package io.pravega.common.util;
 
 import java.nio.ByteBuffer;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class CircularBufferTests {
@@ -177,4 +179,56 @@ public class CircularBufferTests {
             assertEquals(pattern[i], out.get(i));
         }
     }
+
+    @Test
+    public void testReadView() {
+        int capacity = 10;
+        byte[] pattern = new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        CircularBuffer buffer = new CircularBuffer(capacity);
+        assertEquals(0, buffer.readView(0).getLength());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> buffer.readView(1));
+
+        // Contiguous read.
+        assertEquals(6, buffer.fill(ByteBuffer.wrap(pattern, 0, 6)));
+        BufferView view = buffer.readView(4);
+        assertArrayEquals(new byte[]{0, 1, 2, 3}, view.getCopy());
+        assertEquals(2, buffer.dataAvailable());
+        assertEquals(8, buffer.capacityAvailable());
+
+        // Data now wraps around the end of the backing array.
+        assertEquals(8, buffer.fill(new ByteBuffer[]{ByteBuffer.wrap(pattern, 6, 4), ByteBuffer.wrap(pattern, 0, 4)}));
+        assertEquals(10, buffer.dataAvailable());
+        view = buffer.readView(7);
+        assertArrayEquals(new byte[]{4, 5, 6, 7, 8, 9, 0}, view.getCopy());
+        assertEquals(3, buffer.dataAvailable());
+
+        // Views and regular reads interleave correctly.
+        ByteBuffer out = ByteBuffer.allocate(3);
+        assertEquals(3, buffer.read(out));
+        assertArrayEquals(new byte[]{1, 2, 3}, out.array());
+        assertEquals(0, buffer.dataAvailable());
+        assertEquals(capacity, buffer.capacityAvailable());
+    }
+
+    @Test
+    public void testPeekInt() {
+        CircularBuffer buffer = new CircularBuffer(10);
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> buffer.peekInt(0));
+        ByteBuffer data = ByteBuffer.allocate(8).putInt(0x01020304).putInt(-2);
+        data.flip();
+        assertEquals(8, buffer.fill(data));
+        assertEquals(0x01020304, buffer.peekInt(0));
+        assertEquals(-2, buffer.peekInt(4));
+        assertEquals(0x020304FF, buffer.peekInt(1));
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> buffer.peekInt(5));
+        assertEquals("Peeking should not consume any data.", 8, buffer.dataAvailable());
+
+        // An int that wraps around the end of the backing array.
+        buffer.readView(6);
+        data = ByteBuffer.allocate(4).putInt(0x0A0B0C0D);
+        data.flip();
+        assertEquals(4, buffer.fill(data));
+        assertEquals(0xFFFE0A0B, buffer.peekInt(0));
+        assertEquals(0x0A0B0C0D, buffer.peekInt(2));
+    }
 }
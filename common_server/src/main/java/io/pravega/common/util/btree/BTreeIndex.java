@@ -99,7 +99,9 @@ import lombok.val;
  *
  * Versioning:
  * * BTreePages have built-in versioning; please refer to the BTreePage class for details. It is possible to mix different
- * BTreePage versions in the same BTreeIndex structure.
+ * BTreePage versions in the same BTreeIndex structure. If compactPages is set, BTreePages that are modified will be written
+ * using the (prefix-compressed) Compact Format; unmodified BTreePages keep their format until they are rewritten. See
+ * {@link BTreePage} for the compatibility of the Compact Format.
  * * BTreeIndex has no built-in versioning, as we would not be able to mix different versions of the BTreeIndex in the same
  * data source - that is, we cannot begin writing at version X, then after a while we switch to version Y in the same file.
  * * For BTreeIndex versioning (when it will be needed), a suggested approach is to pass in the version via the constructor
@@ -142,12 +144,15 @@ public class BTreeIndex {
      * @param writePages         A Function that writes contents of one or more contiguous pages to an external data source.
      * @param getLength          A Function that returns the length of the index, in bytes, as stored in an external data source.
      * @param maintainStatistics If true, the BTreeIndex will maintain {@link Statistics} about its contents.
+     * @param compactPages       If true, BTreePages will be written using the Compact Format (see {@link BTreePage}) if
+     *                           doing so results in a shorter serialization.
      * @param executor           Executor for async operations.
      * @param traceObjectId      An identifier to add to all log entries.
      */
     @Builder
     public BTreeIndex(int maxPageSize, int keyLength, int valueLength, @NonNull ReadPage readPage, @NonNull WritePages writePages,
-                      @NonNull GetLength getLength, boolean maintainStatistics, @NonNull Executor executor, String traceObjectId) {
+                      @NonNull GetLength getLength, boolean maintainStatistics, boolean compactPages,
+                      @NonNull Executor executor, String traceObjectId) {
         this.read = readPage;
         this.write = writePages;
         this.getLength = getLength;
@@ -156,8 +161,8 @@ public class BTreeIndex {
         this.traceObjectId = traceObjectId;
 
         // BTreePage.Config validates the arguments so we don't need to.
-        this.indexPageConfig = new BTreePage.Config(keyLength, INDEX_VALUE_LENGTH, maxPageSize, true);
-        this.leafPageConfig = new BTreePage.Config(keyLength, valueLength, maxPageSize, false);
+        this.indexPageConfig = new BTreePage.Config(keyLength, INDEX_VALUE_LENGTH, maxPageSize, true, compactPages);
+        this.leafPageConfig = new BTreePage.Config(keyLength, valueLength, maxPageSize, false, compactPages);
         this.state = null;
     }
 
@@ -361,8 +366,30 @@ public class BTreeIndex {
      */
     public AsyncIterator<List<PageEntry>> iterator(@NonNull ByteArraySegment firstKey, boolean firstKeyInclusive,
                                                    @NonNull ByteArraySegment lastKey, boolean lastKeyInclusive, Duration fetchTimeout) {
+        return iterator(firstKey, firstKeyInclusive, lastKey, lastKeyInclusive, false, fetchTimeout);
+    }
+
+    /**
+     * Returns an {@link AsyncIterator} that will iterate through all the keys within the specified bounds, in either
+     * ascending or descending lexicographic order. See {@link BufferViewComparator} for ordering details. Only those
+     * pages which may contain keys within the specified bounds will be loaded.
+     *
+     * @param firstKey          A ByteArraySegment representing the lower bound of the iteration.
+     * @param firstKeyInclusive If true, firstKey will be included in the iteration (if it exists in the index), otherwise
+     *                          it will not.
+     * @param lastKey           A ByteArraySegment representing the upper bound of the iteration.
+     * @param lastKeyInclusive  If true, lastKey will be included in the iteration (if it exists in the index), otherwise
+     *                          it will not.
+     * @param reverse           If true, the keys will be returned in descending order (largest to smallest), beginning
+     *                          with lastKey. If false, they will be returned in ascending order, beginning with firstKey.
+     * @param fetchTimeout      Timeout for each invocation of AsyncIterator.getNext().
+     * @return A new AsyncIterator instance.
+     */
+    public AsyncIterator<List<PageEntry>> iterator(@NonNull ByteArraySegment firstKey, boolean firstKeyInclusive,
+                                                   @NonNull ByteArraySegment lastKey, boolean lastKeyInclusive,
+                                                   boolean reverse, Duration fetchTimeout) {
         ensureInitialized();
-        return new EntryIterator(firstKey, firstKeyInclusive, lastKey, lastKeyInclusive, this::locatePage, this.state.length, fetchTimeout);
+        return new EntryIterator(firstKey, firstKeyInclusive, lastKey, lastKeyInclusive, reverse, this::locatePage, this.state.length, fetchTimeout);
     }
 
     //endregion
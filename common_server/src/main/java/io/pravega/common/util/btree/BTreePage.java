@@ -51,6 +51,19 @@ import lombok.val;
  * * The same Page Identifier as in the Header. When wrapping an existing ByteArraySegment, this value is matched to the
  * one in the Header to ensure the Page was loaded correctly.
  *
+ * Compact Format (Version 1): Header|Data|Footer, where Header and Footer are the same as above, and
+ * * Data: RestartInterval(1)|Values{Value(VL)}|RestartOffsets{Offset(2)}|Keys
+ * * Values: All the Values, in the same order as their Keys.
+ * * Keys: All the Keys, front-coded (prefix-compressed) in groups of RestartInterval Keys. The first Key in each group (a
+ * restart point) is stored in full; every other Key is stored as SharedPrefixLength(1)|Suffix(KL-SharedPrefixLength),
+ * where SharedPrefixLength is the number of leading bytes it shares with the previous Key.
+ * * RestartOffsets: The offset (within Keys) of each restart point. These enable binary searches over the restart points,
+ * followed by a scan of at most RestartInterval Keys.
+ *
+ * Pages in the Compact Format are searched and read directly from their serialization. They are only expanded (into the
+ * original format) when they need to be modified. Pages are only serialized in the Compact Format if {@link Config#isCompact()}
+ * is set and the result is smaller than the original format. The Compact Format has its own version, which code that
+ * predates it cannot read; once written, such pages remain in that format until they are modified again.
  */
 @NotThreadSafe
 class BTreePage {
@@ -63,6 +76,7 @@ class BTreePage {
      * page contents itself, as it would force us to load everything in memory (as objects) and then reserialize them.
      */
     private static final byte CURRENT_VERSION = 0;
+    private static final byte COMPACT_VERSION = 1;
     private static final int VERSION_OFFSET = 0;
     private static final int VERSION_LENGTH = 1; // Maximum 256 versions.
 
@@ -97,6 +111,14 @@ class BTreePage {
      */
     private static final int FOOTER_LENGTH = ID_LENGTH;
 
+    /**
+     * Compact Format: number of Keys in each front-coded group, and the maximum shared prefix length that can be encoded.
+     */
+    private static final int COMPACT_RESTART_INTERVAL = 16;
+    private static final int COMPACT_RESTART_INTERVAL_LENGTH = 1;
+    private static final int COMPACT_RESTART_OFFSET_LENGTH = Short.BYTES;
+    private static final int COMPACT_MAX_SHARED_PREFIX = 0xFF;
+
     //endregion
 
     //region Members
@@ -107,7 +129,6 @@ class BTreePage {
     /**
      * The entire ByteArraySegment that makes up this BTreePage. This includes Header, Data and Footer.
      */
-    @Getter
     private ByteArraySegment contents;
     /**
      * The Footer section of the BTreePage ByteArraySegment.
@@ -128,6 +149,16 @@ class BTreePage {
      */
     @Getter
     private int count;
+    /**
+     * If this BTreePage wraps a Compact Format serialization (and has not been modified since), the layout of that
+     * serialization. If null, {@link #data} contains the Page's entries in the original format.
+     */
+    private CompactLayout compactLayout;
+    /**
+     * Cached result of {@link #getContents()} if {@link Config#isCompact()}, or the wrapped Compact Format serialization.
+     * Cleared on every modification.
+     */
+    private ByteArraySegment serialization;
 
     //endregion
 
@@ -195,6 +226,15 @@ class BTreePage {
 
         // Cache the count value. It's used a lot.
         this.count = this.header.getInt(COUNT_OFFSET);
+        if (validate) {
+            byte version = this.header.get(VERSION_OFFSET);
+            if (version == COMPACT_VERSION) {
+                this.compactLayout = new CompactLayout(this.data, this.count, config);
+                this.serialization = contents;
+            } else if (version != CURRENT_VERSION) {
+                throw new IllegalDataFormatException("Unsupported Page Format Version %s.", version);
+            }
+        }
     }
 
     /**
@@ -238,12 +278,33 @@ class BTreePage {
     }
 
     /**
-     * Gets a value representing the number of bytes in this BTreePage (header and footer included).
+     * Gets a ByteArraySegment containing the serialization of this BTreePage (header and footer included). This is in
+     * the Compact Format if {@link Config#isCompact()} is set and doing so results in a shorter serialization, or if
+     * this BTreePage wraps an unmodified Compact Format serialization.
+     *
+     * @return The serialization. Changes to this BTreePage may or may not be reflected in it.
+     */
+    ByteArraySegment getContents() {
+        if (this.compactLayout == null && this.config.isCompact()) {
+            if (this.serialization == null) {
+                ByteArraySegment compact = serializeCompact();
+                this.serialization = compact != null && compact.getLength() < this.contents.getLength() ? compact : this.contents;
+            }
+
+            return this.serialization;
+        }
+
+        return this.compactLayout == null ? this.contents : this.serialization;
+    }
+
+    /**
+     * Gets a value representing the number of bytes in this BTreePage (header and footer included), as serialized by
+     * {@link #getContents()}.
      *
      * @return The number of bytes.
      */
     int getLength() {
-        return this.contents.getLength();
+        return getContents().getLength();
     }
 
     /**
@@ -256,6 +317,10 @@ class BTreePage {
      */
     ByteArraySegment getValueAt(int pos) {
         Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
+        if (this.compactLayout != null) {
+            return this.compactLayout.getValue(pos);
+        }
+
         return this.data.slice(pos * this.config.entryLength + this.config.keyLength, this.config.valueLength);
     }
 
@@ -263,12 +328,16 @@ class BTreePage {
      * Gets the Key at the given Position.
      *
      * @param pos The Position to get the Key at.
-     * @return A ByteArraySegment containing the Key at the given Position. Note that this is a view inside a larger array
+     * @return A ByteArraySegment containing the Key at the given Position. Note that this may be a view inside a larger array
      * and any modifications to that array will be reflected in this. If this value needs to be held for
      * longer then it is recommended to get a copy of it (use getCopy()).
      */
     ByteArraySegment getKeyAt(int pos) {
         Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
+        if (this.compactLayout != null) {
+            return this.compactLayout.getKey(pos);
+        }
+
         return this.data.slice(pos * this.config.entryLength, this.config.keyLength);
     }
 
@@ -284,7 +353,9 @@ class BTreePage {
         Preconditions.checkArgument(KEY_COMPARATOR.compare(newKey, getKeyAt(0)) <= 0,
                 "Replacement first Key must be smaller than or equal to the existing first key.");
 
+        expand();
         this.data.copyFrom(newKey, 0, newKey.getLength());
+        this.serialization = null;
     }
 
     /**
@@ -297,6 +368,10 @@ class BTreePage {
      */
     PageEntry getEntryAt(int pos) {
         Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
+        if (this.compactLayout != null) {
+            return new PageEntry(this.compactLayout.getKey(pos), this.compactLayout.getValue(pos));
+        }
+
         return new PageEntry(
                 this.data.slice(pos * this.config.entryLength, this.config.keyLength),
                 this.data.slice(pos * this.config.entryLength + this.config.keyLength, this.config.valueLength));
@@ -311,6 +386,11 @@ class BTreePage {
      */
     List<PageEntry> getEntries(int firstIndex, int lastIndex) {
         Preconditions.checkArgument(firstIndex <= lastIndex, "firstIndex must be smaller than or equal to lastIndex.");
+        if (this.compactLayout != null) {
+            Preconditions.checkElementIndex(lastIndex, getCount(), "lastIndex must be non-negative and smaller than the number of items.");
+            return this.compactLayout.getEntries(firstIndex, lastIndex);
+        }
+
         ArrayList<PageEntry> result = new ArrayList<>();
         for (int i = firstIndex; i <= lastIndex; i++) {
             result.add(getEntryAt(i));
@@ -327,22 +407,45 @@ class BTreePage {
      * as this BTreePage, in the same order.
      *
      * Split Conditions:
-     * * Length > MaxPageSize
+     * * Length > MaxPageSize (Length is the length of {@link #getContents()}).
      *
      * @return If a split is made, an ordered List of BTreePage instances. If no split is necessary (condition is not met),
      * returns null.
      */
     List<BTreePage> splitIfNecessary() {
-        if (this.contents.getLength() <= this.config.getMaxPageSize()) {
+        if (getLength() <= this.config.getMaxPageSize()) {
             // Nothing to do.
             return null;
         }
 
         // Calculate how many pages to split into. While doing so, take care to account that we may only have whole entries
         // in each page, and not partial ones.
+        expand();
         int maxDataLength = (this.config.getMaxPageSize() - this.header.getLength() - this.footer.getLength()) / this.config.entryLength * this.config.entryLength;
-        int remainingPageCount = (int) Math.ceil((double) this.data.getLength() / maxDataLength);
+        int maxPageCount = (int) Math.ceil((double) this.data.getLength() / maxDataLength);
+        if (this.config.isCompact()) {
+            // Compact pages may fit more entries than their original format would. Find the smallest number of pages
+            // that fit; splitting into maxPageCount pages is guaranteed to fit (as their original format does).
+            int minPageCount = Math.max(2, (int) Math.ceil((double) getLength() / this.config.getMaxPageSize()));
+            for (int pageCount = minPageCount; pageCount < maxPageCount; pageCount++) {
+                val result = split(pageCount);
+                if (result.stream().allMatch(p -> p.getLength() <= this.config.getMaxPageSize())) {
+                    return result;
+                }
+            }
+        }
 
+        return split(maxPageCount);
+    }
+
+    /**
+     * Splits the contents of this BTreePage instance into the given number of BTreePages, each having approximately the
+     * same number of entries.
+     *
+     * @param remainingPageCount The number of pages to split into.
+     * @return An ordered List of BTreePage instances.
+     */
+    private List<BTreePage> split(int remainingPageCount) {
         ArrayList<BTreePage> result = new ArrayList<>(remainingPageCount);
         int readIndex = 0;
         int remainingItems = getCount();
@@ -386,6 +489,8 @@ class BTreePage {
         }
 
         // Apply the in-place updates and collect the new entries to be added.
+        expand();
+        this.serialization = null;
         val ci = applyUpdates(entries);
         if (ci.changes.isEmpty()) {
             // Nothing else to change. We've already updated the keys in-place.
@@ -436,6 +541,10 @@ class BTreePage {
         // to adjust by using entryLength.
         int endPos = getCount();
         Preconditions.checkArgument(startPos <= endPos, "startPos must be non-negative and smaller than the number of items.");
+        if (this.compactLayout != null) {
+            return this.compactLayout.search(key, startPos);
+        }
+
         while (startPos < endPos) {
             // Locate the Key in the middle.
             int midPos = startPos + (endPos - startPos) / 2;
@@ -560,6 +669,105 @@ class BTreePage {
         return newPage;
     }
 
+    /**
+     * If this BTreePage wraps a Compact Format serialization, decodes it into the original format so it can be modified.
+     * The resulting BTreePage has the same Id, Count and Entries.
+     */
+    private void expand() {
+        if (this.compactLayout == null) {
+            return;
+        }
+
+        val newPage = new BTreePage(this.config, new ByteArraySegment(new byte[DATA_OFFSET + this.count * this.config.entryLength + FOOTER_LENGTH]), false);
+        newPage.formatHeaderAndFooter(this.count, getHeaderId());
+        int dataIndex = 0;
+        for (val e : this.compactLayout.getEntries(0, this.count - 1)) {
+            newPage.setEntryAtIndex(dataIndex, e);
+            dataIndex += this.config.entryLength;
+        }
+
+        this.header = newPage.header;
+        this.data = newPage.data;
+        this.contents = newPage.contents;
+        this.footer = newPage.footer;
+        this.compactLayout = null;
+        this.serialization = null;
+    }
+
+    /**
+     * Serializes this BTreePage (which must not wrap a Compact Format serialization) using the Compact Format.
+     *
+     * @return A ByteArraySegment containing the serialization, or null if this BTreePage cannot be serialized using the
+     * Compact Format (i.e., its Keys are too long to be referenced by the restart point offsets).
+     */
+    private ByteArraySegment serializeCompact() {
+        assert this.compactLayout == null : "cannot serialize an unexpanded page";
+        final int keyLength = this.config.keyLength;
+        final int valueLength = this.config.valueLength;
+        final byte[] source = this.data.array();
+        final int sourceOffset = this.data.arrayOffset();
+
+        // Calculate the shared prefix lengths first; we need them to determine the length of the serialization.
+        int[] sharedLengths = new int[this.count];
+        int keysLength = 0;
+        for (int pos = 0; pos < this.count; pos++) {
+            if (pos % COMPACT_RESTART_INTERVAL != 0) {
+                int prevKeyOffset = sourceOffset + (pos - 1) * this.config.entryLength;
+                int keyOffset = prevKeyOffset + this.config.entryLength;
+                int maxShared = Math.min(keyLength, COMPACT_MAX_SHARED_PREFIX);
+                int shared = 0;
+                while (shared < maxShared && source[prevKeyOffset + shared] == source[keyOffset + shared]) {
+                    shared++;
+                }
+
+                sharedLengths[pos] = shared;
+                keysLength += 1;
+            }
+
+            keysLength += keyLength - sharedLengths[pos];
+        }
+
+        if (keysLength > 0xFFFF) {
+            return null;
+        }
+
+        int restartCount = getRestartCount(this.count);
+        int valuesOffset = DATA_OFFSET + COMPACT_RESTART_INTERVAL_LENGTH;
+        int restartsOffset = valuesOffset + this.count * valueLength;
+        int keysOffset = restartsOffset + restartCount * COMPACT_RESTART_OFFSET_LENGTH;
+        val result = new ByteArraySegment(new byte[keysOffset + keysLength + FOOTER_LENGTH]);
+        final byte[] target = result.array();
+
+        // Header (same as ours, except for Version), Restart Interval and Footer.
+        result.copyFrom(this.header, 0, this.header.getLength());
+        result.set(VERSION_OFFSET, COMPACT_VERSION);
+        result.set(DATA_OFFSET, (byte) COMPACT_RESTART_INTERVAL);
+        result.copyFrom(this.footer, result.getLength() - FOOTER_LENGTH, FOOTER_LENGTH);
+
+        // Values, Restart Offsets and Keys.
+        int keyIndex = keysOffset;
+        for (int pos = 0; pos < this.count; pos++) {
+            int entryOffset = sourceOffset + pos * this.config.entryLength;
+            System.arraycopy(source, entryOffset + keyLength, target, valuesOffset + pos * valueLength, valueLength);
+            int shared = sharedLengths[pos];
+            if (pos % COMPACT_RESTART_INTERVAL == 0) {
+                result.setShort(restartsOffset + pos / COMPACT_RESTART_INTERVAL * COMPACT_RESTART_OFFSET_LENGTH, (short) (keyIndex - keysOffset));
+            } else {
+                target[keyIndex++] = (byte) shared;
+            }
+
+            System.arraycopy(source, entryOffset + shared, target, keyIndex, keyLength - shared);
+            keyIndex += keyLength - shared;
+        }
+
+        assert keyIndex == result.getLength() - FOOTER_LENGTH;
+        return result;
+    }
+
+    private static int getRestartCount(int count) {
+        return (count + COMPACT_RESTART_INTERVAL - 1) / COMPACT_RESTART_INTERVAL;
+    }
+
     /**
      * Updates the Header of this BTreePage to reflect that it contains the given number of items. This does not perform
      * any resizing.
@@ -654,6 +862,160 @@ class BTreePage {
 
     //endregion
 
+    //region CompactLayout
+
+    /**
+     * Layout of a BTreePage serialized in the Compact Format. Provides read-only access to its Keys and Values without
+     * decoding the whole serialization.
+     */
+    private static class CompactLayout {
+        /**
+         * The Data section of the BTreePage (between Header and Footer).
+         */
+        private final ByteArraySegment data;
+        private final int count;
+        private final int keyLength;
+        private final int valueLength;
+        private final int restartInterval;
+        private final int restartCount;
+        /**
+         * Offsets (within data) of the Values, Restart Offsets and Keys sections.
+         */
+        private final int valuesOffset;
+        private final int restartsOffset;
+        private final int keysOffset;
+
+        CompactLayout(ByteArraySegment data, int count, Config config) {
+            if (data.getLength() < COMPACT_RESTART_INTERVAL_LENGTH) {
+                throw new IllegalDataFormatException("Invalid Page Format (no restart interval).");
+            }
+
+            this.data = data;
+            this.count = count;
+            this.keyLength = config.keyLength;
+            this.valueLength = config.valueLength;
+            this.restartInterval = data.get(0) & 0xFF;
+            if (this.restartInterval == 0) {
+                throw new IllegalDataFormatException("Invalid Page Format (restart interval is 0).");
+            }
+
+            this.restartCount = (count + this.restartInterval - 1) / this.restartInterval;
+            this.valuesOffset = COMPACT_RESTART_INTERVAL_LENGTH;
+            this.restartsOffset = this.valuesOffset + count * this.valueLength;
+            this.keysOffset = this.restartsOffset + this.restartCount * COMPACT_RESTART_OFFSET_LENGTH;
+            if (this.keysOffset > data.getLength()) {
+                throw new IllegalDataFormatException("Invalid Page Format (data too short). Count=%s, DataLength=%s.", count, data.getLength());
+            }
+        }
+
+        ByteArraySegment getValue(int pos) {
+            return this.data.slice(this.valuesOffset + pos * this.valueLength, this.valueLength);
+        }
+
+        ByteArraySegment getKey(int pos) {
+            byte[] key = new byte[this.keyLength];
+            int restartPos = pos / this.restartInterval * this.restartInterval;
+            int offset = getRestartOffset(pos / this.restartInterval);
+            for (int p = restartPos; p <= pos; p++) {
+                offset = decodeKey(key, p, offset);
+            }
+
+            return new ByteArraySegment(key);
+        }
+
+        List<PageEntry> getEntries(int firstIndex, int lastIndex) {
+            ArrayList<PageEntry> result = new ArrayList<>();
+            if (lastIndex < firstIndex) {
+                return result;
+            }
+
+            byte[] key = new byte[this.keyLength];
+            int restartPos = firstIndex / this.restartInterval * this.restartInterval;
+            int offset = getRestartOffset(firstIndex / this.restartInterval);
+            for (int p = restartPos; p <= lastIndex; p++) {
+                offset = decodeKey(key, p, offset);
+                if (p >= firstIndex) {
+                    result.add(new PageEntry(new ByteArraySegment(key.clone()), getValue(p)));
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Same semantics as {@link BTreePage#search}. Performs a binary search over the restart points (which are stored
+         * in full, so they can be compared in-place), followed by a sequential scan of the Keys in the selected group.
+         */
+        SearchResult search(ByteArraySegment key, int startPos) {
+            if (startPos >= this.count) {
+                return new SearchResult(startPos, false);
+            }
+
+            // Locate the last group (at or after the one containing startPos) whose restart Key is smaller than or equal
+            // to the sought key. If there is no such group, the result (if any) will be in the first group.
+            int group = startPos / this.restartInterval;
+            int low = group + 1;
+            int high = this.restartCount - 1;
+            while (low <= high) {
+                int mid = low + (high - low) / 2;
+                int c = KEY_COMPARATOR.compare(key.array(), key.arrayOffset(),
+                        this.data.array(), this.data.arrayOffset() + getRestartOffset(mid), this.keyLength);
+                if (c == 0) {
+                    return new SearchResult(mid * this.restartInterval, true);
+                } else if (c < 0) {
+                    high = mid - 1;
+                } else {
+                    group = mid;
+                    low = mid + 1;
+                }
+            }
+
+            // Scan the group. All Keys in subsequent groups are larger than the sought key.
+            byte[] current = new byte[this.keyLength];
+            int offset = getRestartOffset(group);
+            int endPos = Math.min(this.count, (group + 1) * this.restartInterval);
+            for (int pos = group * this.restartInterval; pos < endPos; pos++) {
+                offset = decodeKey(current, pos, offset);
+                if (pos < startPos) {
+                    continue;
+                }
+
+                int c = KEY_COMPARATOR.compare(key.array(), key.arrayOffset(), current, 0, this.keyLength);
+                if (c == 0) {
+                    return new SearchResult(pos, true);
+                } else if (c < 0) {
+                    return new SearchResult(pos, false);
+                }
+            }
+
+            return new SearchResult(endPos, false);
+        }
+
+        private int getRestartOffset(int restartIndex) {
+            return this.keysOffset + (this.data.getShort(this.restartsOffset + restartIndex * COMPACT_RESTART_OFFSET_LENGTH) & 0xFFFF);
+        }
+
+        /**
+         * Decodes the Key at the given position into the given array, which must contain the previous Key (unless pos is
+         * a restart point).
+         *
+         * @return The offset of the next Key.
+         */
+        private int decodeKey(byte[] key, int pos, int offset) {
+            int shared = 0;
+            if (pos % this.restartInterval != 0) {
+                shared = this.data.get(offset) & 0xFF;
+                offset++;
+            }
+
+            int length = this.keyLength - shared;
+            System.arraycopy(this.data.array(), this.data.arrayOffset() + offset, key, shared, length);
+            return offset + length;
+        }
+    }
+
+    //endregion
+
     //region Config
 
     /**
@@ -683,6 +1045,10 @@ class BTreePage {
          * Whether this is an Index Page or not.
          */
         private final boolean isIndexPage;
+        /**
+         * Whether to serialize BTreePages using the Compact Format (if it results in a shorter serialization).
+         */
+        private final boolean compact;
 
         /**
          * Creates a new instance of the BTreePage.Config class.
@@ -693,6 +1059,19 @@ class BTreePage {
          * @param isIndexPage Whether this is an Index Page or not.
          */
         Config(int keyLength, int valueLength, int maxPageSize, boolean isIndexPage) {
+            this(keyLength, valueLength, maxPageSize, isIndexPage, false);
+        }
+
+        /**
+         * Creates a new instance of the BTreePage.Config class.
+         *
+         * @param keyLength   The length, in bytes, of all Keys.
+         * @param valueLength The length, in bytes, of all Values.
+         * @param maxPageSize Maximum length, in bytes, of any BTreePage.
+         * @param isIndexPage Whether this is an Index Page or not.
+         * @param compact     Whether to serialize BTreePages using the Compact Format.
+         */
+        Config(int keyLength, int valueLength, int maxPageSize, boolean isIndexPage, boolean compact) {
             Preconditions.checkArgument(maxPageSize <= MAX_PAGE_SIZE, "maxPageSize must be at most %s, given %s.", MAX_PAGE_SIZE, maxPageSize);
             Preconditions.checkArgument(keyLength > 0, "keyLength must be a positive integer.");
             Preconditions.checkArgument(valueLength > 0, "valueLength must be a positive integer.");
@@ -703,6 +1082,7 @@ class BTreePage {
             this.entryLength = this.keyLength + this.valueLength;
             this.maxPageSize = maxPageSize;
             this.isIndexPage = isIndexPage;
+            this.compact = compact;
         }
     }
 
@@ -16,6 +16,7 @@
 package io.pravega.common.util.btree;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.BufferViewComparator;
@@ -31,7 +32,8 @@ import lombok.NonNull;
 import lombok.val;
 
 /**
- * Iterator for keys in a BTreeIndex.
+ * Iterator for keys in a BTreeIndex. Keys can be iterated either in ascending order (smallest to largest) or in descending
+ * order (largest to smallest).
  */
 class EntryIterator implements AsyncIterator<List<PageEntry>> {
     //region Members
@@ -41,6 +43,7 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
     private final boolean firstKeyInclusive;
     private final ByteArraySegment lastKey;
     private final boolean lastKeyInclusive;
+    private final boolean reverse;
     private final LocatePage locatePage;
     private final Duration fetchTimeout;
     private final AtomicBoolean finished;
@@ -61,12 +64,14 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
      * @param lastKey           A ByteArraySegment indicating the last Key to iterate to.
      * @param lastKeyInclusive  If true, lastKey will be included in the iteration (provided it exists), otherwise it will
      *                          be excluded.
+     * @param reverse           If true, Keys will be iterated from lastKey down to firstKey, otherwise from firstKey up to
+     *                          lastKey.
      * @param locatePage        A Function that can be used to locate a specific BTreePage.
      * @param indexLength       The current index length.
      * @param fetchTimeout      Timeout for each invocation of locatePage.
      */
     EntryIterator(@NonNull ByteArraySegment firstKey, boolean firstKeyInclusive, @NonNull ByteArraySegment lastKey, boolean lastKeyInclusive,
-                  @NonNull LocatePage locatePage, long indexLength, @NonNull Duration fetchTimeout) {
+                  boolean reverse, @NonNull LocatePage locatePage, long indexLength, @NonNull Duration fetchTimeout) {
         // First, verify correctness.
         int c = KEY_COMPARATOR.compare(firstKey, lastKey);
         if (firstKeyInclusive && lastKeyInclusive) {
@@ -80,6 +85,7 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
         this.firstKeyInclusive = firstKeyInclusive;
         this.lastKey = lastKey;
         this.lastKeyInclusive = lastKeyInclusive;
+        this.reverse = reverse;
         this.locatePage = locatePage;
         this.fetchTimeout = fetchTimeout;
         this.pageCollection = new PageCollection(indexLength);
@@ -112,14 +118,16 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
                 .thenApply(pageWrapper -> {
                     // Remember this page (for next time).
                     this.lastPage.set(pageWrapper);
-                    List<PageEntry> result = null;
-                    if (pageWrapper != null) {
-                        // Extract the intermediate results from the page.
-                        result = extractFromPage(pageWrapper);
-                        this.processedPageCount.incrementAndGet();
+                    if (pageWrapper == null) {
+                        // No more pages.
+                        this.finished.set(true);
+                        return null;
                     }
 
-                    // Check if we have reached the last page that could possibly contain some result.
+                    // Extract the intermediate results from the page. This will also determine if this is the last page
+                    // that could possibly contain some result.
+                    List<PageEntry> result = this.reverse ? extractFromPageReverse(pageWrapper) : extractFromPage(pageWrapper);
+                    this.processedPageCount.incrementAndGet();
                     if (result == null) {
                         this.finished.set(true);
                     }
@@ -134,11 +142,11 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
 
     private CompletableFuture<PageWrapper> locateNextPage(TimeoutTimer timer) {
         if (this.lastPage.get() == null) {
-            // This is our very first invocation. Find the page containing the first key.
-            return this.locatePage.apply(this.firstKey, this.pageCollection, timer);
+            // This is our very first invocation. Find the page containing the first key (or last key, if reversed).
+            return this.locatePage.apply(this.reverse ? this.lastKey : this.firstKey, this.pageCollection, timer);
         } else {
             // We already have a pointer to a page; find next page.
-            return getNextLeafPage(timer);
+            return this.reverse ? getPreviousLeafPage(timer) : getNextLeafPage(timer);
         }
     }
 
@@ -170,6 +178,36 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
         return this.locatePage.apply(referenceKey, this.pageCollection, timer);
     }
 
+    private CompletableFuture<PageWrapper> getPreviousLeafPage(TimeoutTimer timer) {
+        // Walk up the parent chain as long as the page's Key is the first key in that parent key list.
+        // Once we found a Page which has a previous key, look up the last Leaf page that exists down that path. Since
+        // Index Pages always begin with the smallest possible key, the Key immediately preceding the found Page Key will
+        // always be located in that Leaf page.
+        PageWrapper lastPage = this.lastPage.get();
+        assert lastPage != null;
+        int pageKeyPos;
+        do {
+            PageWrapper parentPage = lastPage.getParent();
+            if (parentPage == null) {
+                // We have reached the beginning. No more pages.
+                return CompletableFuture.completedFuture(null);
+            }
+
+            // Look up the current page's PageKey in the parent and make note of its position.
+            ByteArraySegment pageKey = lastPage.getPointer().getKey();
+            val pos = parentPage.getPage().search(pageKey, 0);
+            assert pos.isExactMatch() : "expecting exact match";
+            pageKeyPos = pos.getPosition();
+
+            // We no longer need this page. Remove it from the PageCollection.
+            this.pageCollection.remove(lastPage);
+            lastPage = parentPage;
+        } while (pageKeyPos == 0);
+
+        ByteArraySegment referenceKey = predecessor(lastPage.getPage().getKeyAt(pageKeyPos));
+        return this.locatePage.apply(referenceKey, this.pageCollection, timer);
+    }
+
     private List<PageEntry> extractFromPage(PageWrapper pageWrapper) {
         BTreePage page = pageWrapper.getPage();
         assert !page.getConfig().isIndexPage() : "expecting leaf page";
@@ -198,20 +236,91 @@ class EntryIterator implements AsyncIterator<List<PageEntry>> {
             lastIndex--;
         }
 
-        if (firstIndex > lastIndex) {
+        if (lastIndex < 0) {
+            // The last key is smaller than anything in this page (hence in any page that follows). We are done. Return
+            // null to indicate that we should stop.
+            return null;
+        } else if (firstIndex > lastIndex) {
             // Either the first key is the last in this page but firstKeyInclusive is false or the first key would
             // have belonged in this page but it is not. Return an empty list to indicate that we should continue
             // iterating on next pages.
             return Collections.emptyList();
-        } else if (lastIndex < 0) {
-            // The last key is not to be found in this page. We are done. Return null to indicate that we should stop.
-            return null;
         } else {
-            // Construct the result. Based on firstIndex and lastIndex, this may turn out to be empty.
+            if (lastIndex < page.getCount() - 1) {
+                // This page contains keys beyond the last key, hence no subsequent page may contain anything of interest.
+                // There is no need to fetch it.
+                this.finished.set(true);
+            }
+
             return page.getEntries(firstIndex, lastIndex);
         }
     }
 
+    private List<PageEntry> extractFromPageReverse(PageWrapper pageWrapper) {
+        BTreePage page = pageWrapper.getPage();
+        assert !page.getConfig().isIndexPage() : "expecting leaf page";
+
+        // Search for the last and first keys' positions. Note that they may not exist in our Key collection.
+        int lastIndex;
+        if (this.processedPageCount.get() == 0) {
+            // This is the first page we are searching in. The last Key we are looking for may be in the middle. If we
+            // don't have an exact match, the position points to the next key, so we need to step back.
+            val endPos = page.search(this.lastKey, 0);
+            lastIndex = endPos.getPosition();
+            if (!endPos.isExactMatch() || !this.lastKeyInclusive) {
+                lastIndex--;
+            }
+        } else {
+            // This is not the first page we are searching in. We should include any results up to the very end.
+            lastIndex = page.getCount() - 1;
+        }
+
+        // Adjust the first index if we were requested not to include the first key.
+        val startPos = page.search(this.firstKey, 0);
+        int firstIndex = startPos.getPosition();
+        if (startPos.isExactMatch() && !this.firstKeyInclusive) {
+            firstIndex++;
+        }
+
+        if (firstIndex >= page.getCount()) {
+            // The first key is greater than anything in this page (hence in any page that precedes). We are done. Return
+            // null to indicate that we should stop.
+            return null;
+        } else if (firstIndex > lastIndex) {
+            // The last key would have belonged in this page before any of its keys. Return an empty list to indicate
+            // that we should continue iterating on previous pages.
+            return Collections.emptyList();
+        } else {
+            if (firstIndex > 0) {
+                // This page contains keys before the first key, hence no preceding page may contain anything of interest.
+                this.finished.set(true);
+            }
+
+            return Lists.reverse(page.getEntries(firstIndex, lastIndex));
+        }
+    }
+
+    /**
+     * Calculates the key that immediately precedes the given one. The given key must not be the smallest possible key.
+     */
+    private static ByteArraySegment predecessor(ByteArraySegment key) {
+        byte[] result = key.getCopy();
+        int index = result.length - 1;
+        while (index >= 0) {
+            // Decrement by 1. If we underflowed, then we have a borrow and need to decrement the preceding byte as well.
+            int v = (result[index] & 0xFF) - 1;
+            result[index] = (byte) v;
+            if (v >= 0) {
+                break;
+            }
+
+            index--;
+        }
+
+        assert index >= 0 : "key has no predecessor";
+        return new ByteArraySegment(result);
+    }
+
     //endregion
 
     @FunctionalInterface
@@ -242,6 +242,91 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the {@link BTreeIndex#iterator} method with reverse iteration.
+     */
+    @Test
+    public void testReverseIterator() {
+        final int count = 1000;
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+        val entries = generate(count);
+        index.update(entries, TIMEOUT).join();
+        sort(entries);
+
+        for (int i = 0; i < entries.size() / 2; i++) {
+            int startIndex = i;
+            int endIndex = entries.size() - i - 1;
+            ByteArraySegment firstKey = entries.get(startIndex).getKey();
+            ByteArraySegment lastKey = entries.get(endIndex).getKey();
+            boolean firstInclusive = i % 2 == 0;
+            boolean lastInclusive = i % 4 < 2;
+
+            val iterator = index.iterator(firstKey, firstInclusive, lastKey, lastInclusive, true, TIMEOUT);
+            val actualEntries = new ArrayList<PageEntry>();
+            iterator.forEachRemaining(actualEntries::addAll, executorService()).join();
+
+            // Determine expected keys.
+            if (!firstInclusive) {
+                startIndex++;
+            }
+            if (!lastInclusive) {
+                endIndex--;
+            }
+
+            val expectedEntries = new ArrayList<PageEntry>(entries.subList(startIndex, endIndex + 1));
+            Collections.reverse(expectedEntries);
+            AssertExtensions.assertListEquals("Wrong result for " + i + ".", expectedEntries, actualEntries,
+                    (e, a) -> KEY_COMPARATOR.compare(e.getKey(), a.getKey()) == 0 && KEY_COMPARATOR.compare(e.getValue(), a.getValue()) == 0);
+        }
+
+        // Bounds that do not exist in the index.
+        val minKey = new ByteArraySegment(new byte[KEY_LENGTH]);
+        val maxKey = new ByteArraySegment(new byte[KEY_LENGTH]);
+        Arrays.fill(maxKey.array(), (byte) 0xFF);
+        val allEntries = new ArrayList<PageEntry>();
+        index.iterator(minKey, true, maxKey, true, true, TIMEOUT).forEachRemaining(allEntries::addAll, executorService()).join();
+        val expectedEntries = new ArrayList<PageEntry>(entries);
+        Collections.reverse(expectedEntries);
+        AssertExtensions.assertListEquals("Wrong result for full reverse iteration.", expectedEntries, allEntries,
+                (e, a) -> KEY_COMPARATOR.compare(e.getKey(), a.getKey()) == 0);
+    }
+
+    /**
+     * Verifies that {@link BTreeIndex#iterator} does not load pages beyond its bounds.
+     */
+    @Test
+    public void testIteratorPageReads() {
+        final int count = 1000;
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+        val entries = generate(count);
+        index.update(entries, TIMEOUT).join();
+        sort(entries);
+
+        val firstKey = entries.get(0).getKey();
+        val lastKey = entries.get(entries.size() - 1).getKey();
+        for (boolean reverse : new boolean[]{false, true}) {
+            ds.resetReadCount();
+            val fullResult = new ArrayList<PageEntry>();
+            index.iterator(firstKey, true, lastKey, true, reverse, TIMEOUT).forEachRemaining(fullResult::addAll, executorService()).join();
+            Assert.assertEquals(count, fullResult.size());
+            int fullReadCount = ds.getReadCount();
+
+            // Iterate over a range at one end of the index. This should only touch a handful of pages.
+            ds.resetReadCount();
+            val rangeResult = new ArrayList<PageEntry>();
+            val rangeFirst = reverse ? entries.get(entries.size() - 2).getKey() : firstKey;
+            val rangeLast = reverse ? lastKey : entries.get(1).getKey();
+            index.iterator(rangeFirst, true, rangeLast, true, reverse, TIMEOUT).forEachRemaining(rangeResult::addAll, executorService()).join();
+            Assert.assertEquals(2, rangeResult.size());
+            AssertExtensions.assertLessThan("Expected range iteration to load fewer pages (reverse=" + reverse + ").",
+                    fullReadCount / 4, ds.getReadCount());
+        }
+    }
+
     /**
      * Tests the behavior of the index when there are data source write errors.
      */
@@ -416,6 +501,73 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         Assert.assertNull(index4.getStatistics());
     }
 
+    /**
+     * Tests the behavior of {@link BTreeIndex.BTreeIndexBuilder#compactPages(boolean)}, including enabling it on an existing
+     * index (which will then contain pages of both formats) and disabling it afterwards.
+     */
+    @Test
+    public void testCompactPages() {
+        final int count = 10000;
+        final int batchSize = 100;
+        val entries = new ArrayList<PageEntry>(count);
+        for (int i = 0; i < count; i++) {
+            // Sequential keys share long prefixes, which is what the compact pages are good at.
+            val key = new ByteArraySegment(new byte[KEY_LENGTH]);
+            key.setInt(0, i);
+            val value = new ByteArraySegment(new byte[VALUE_LENGTH]);
+            value.setShort(0, (short) i);
+            entries.add(new PageEntry(key, value));
+        }
+
+        // Original format.
+        val ds1 = new DataSource();
+        val index1 = defaultBuilder(ds1).build();
+        index1.initialize(TIMEOUT).join();
+        for (int i = 0; i < count; i += batchSize) {
+            index1.update(entries.subList(i, i + batchSize), TIMEOUT).join();
+        }
+
+        check("original format", index1, entries, 0);
+        val originalPageCount = index1.getStatistics().getPageCount();
+
+        // Enable compact pages on the existing index and update some of the entries.
+        val index2 = defaultBuilder(ds1).compactPages(true).build();
+        index2.initialize(TIMEOUT).join();
+        check("after enabling compact pages", index2, entries, 0);
+        val toUpdate = new ArrayList<PageEntry>();
+        for (int i = 0; i < count; i += 7) {
+            val newValue = new ByteArraySegment(new byte[VALUE_LENGTH]);
+            newValue.setShort(0, (short) -i);
+            val e = new PageEntry(entries.get(i).getKey(), newValue);
+            toUpdate.add(e);
+            entries.set(i, e);
+        }
+
+        index2.update(toUpdate, TIMEOUT).join();
+        check("after update with compact pages", index2, entries, 0);
+
+        // Disable compact pages; the index must still be readable.
+        val index3 = defaultBuilder(ds1).build();
+        index3.initialize(TIMEOUT).join();
+        check("after disabling compact pages", index3, entries, 0);
+        Assert.assertEquals("Unexpected key count.", count, getKeyCount(index3));
+
+        // A new index with compact pages should require fewer pages.
+        val ds2 = new DataSource();
+        val index4 = defaultBuilder(ds2).compactPages(true).build();
+        index4.initialize(TIMEOUT).join();
+        for (int i = 0; i < count; i += batchSize) {
+            index4.update(entries.subList(i, i + batchSize), TIMEOUT).join();
+        }
+
+        check("compact pages", index4, entries, 0);
+        AssertExtensions.assertLessThan("Expected fewer compact pages.", originalPageCount, index4.getStatistics().getPageCount());
+        val recoveredIndex = defaultBuilder(ds2).compactPages(true).build();
+        recoveredIndex.initialize(TIMEOUT).join();
+        check("compact pages after recovery", recoveredIndex, entries, 0);
+        Assert.assertEquals("Unexpected key count after recovery.", count, getKeyCount(recoveredIndex));
+    }
+
     private void testDelete(int count, int deleteBatchSize) {
         final int checkEvery = count / 10; // checking is very expensive; we don't want to do it every time.
         val ds = new DataSource();
@@ -574,6 +726,7 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         private final HashMap<Long, Boolean> offsets; // Key: Offset, Value: valid(true), obsolete(false).
         private final AtomicReference<CompletableFuture<Void>> writeInterceptor = new AtomicReference<>();
         private final AtomicBoolean checkOffsets = new AtomicBoolean(true);
+        private final AtomicInteger readCount = new AtomicInteger();
 
         DataSource() {
             this.data = new ByteBufferOutputStream();
@@ -603,7 +756,16 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
             }, executorService());
         }
 
+        void resetReadCount() {
+            this.readCount.set(0);
+        }
+
+        int getReadCount() {
+            return this.readCount.get();
+        }
+
         CompletableFuture<ByteArraySegment> read(long offset, int length, boolean shouldCache, Duration timeout) {
+            this.readCount.incrementAndGet();
             return CompletableFuture.supplyAsync(() -> {
                 synchronized (this.data) {
                     if (this.checkOffsets.get()) {
@@ -38,6 +38,8 @@ import org.junit.Test;
 public class BTreePageTests {
     private static final int ITEM_COUNT = 1000;
     private static final BTreePage.Config CONFIG = new BTreePage.Config(Integer.BYTES, Long.BYTES, 512, true);
+    private static final BTreePage.Config COMPACT_CONFIG = new BTreePage.Config(Integer.BYTES, Long.BYTES, 512, true, true);
+    private static final int HEADER_FOOTER_LENGTH = new BTreePage(CONFIG).getLength(); // An empty page only has a Header and a Footer.
     private static final BufferViewComparator KEY_COMPARATOR = BufferViewComparator.create();
     private final Random rnd = new Random(0);
 
@@ -415,6 +417,128 @@ public class BTreePageTests {
         checkPage(page1, entries2);
     }
 
+    /**
+     * Tests the Compact Format: serialization, reading (directly from the serialization) and modifying such pages, as well
+     * as reading pages of either format regardless of {@link BTreePage.Config#isCompact()}.
+     */
+    @Test
+    public void testCompactFormat() {
+        int count = 1000;
+
+        // Keys are all even, so that we can search for inexistent (odd) keys.
+        val entries = IntStream.range(0, count).boxed().collect(Collectors.toMap(i -> i * 2, i -> (long) (i + 1) * (i + 1)));
+        val serializedEntries = serialize(entries, true);
+        val originalPage = new BTreePage(CONFIG);
+        originalPage.update(serializedEntries);
+        val compactPage = new BTreePage(COMPACT_CONFIG);
+        compactPage.update(serializedEntries);
+        AssertExtensions.assertLessThan("Expected Compact Format to be shorter.", originalPage.getLength(), compactPage.getLength());
+        Assert.assertEquals("Unexpected length of non-compact page.", HEADER_FOOTER_LENGTH + count * CONFIG.getEntryLength(), originalPage.getLength());
+        checkPage(compactPage, entries);
+
+        // Wrap the serializations, using both configs.
+        for (val config : new BTreePage.Config[]{CONFIG, COMPACT_CONFIG}) {
+            val wrappedCompact = new BTreePage(config, compactPage.getContents());
+            val wrappedOriginal = new BTreePage(config, originalPage.getContents());
+            Assert.assertEquals("Unexpected header id.", compactPage.getHeaderId(), wrappedCompact.getHeaderId());
+            Assert.assertEquals("Unexpected length for wrapped compact page.", compactPage.getLength(), wrappedCompact.getLength());
+            checkPage(wrappedCompact, entries);
+            checkPage(wrappedOriginal, entries);
+
+            // Search for existing and inexistent keys, with various start positions, and compare with the original.
+            for (int key = -1; key <= count * 2; key += 7) {
+                val searchKey = serializeInt(key);
+                for (int startPos = 0; startPos <= count; startPos += 37) {
+                    val expected = originalPage.search(searchKey, startPos);
+                    val actual = wrappedCompact.search(searchKey, startPos);
+                    Assert.assertEquals("Unexpected search result (exact) for " + key + " from " + startPos, expected.isExactMatch(), actual.isExactMatch());
+                    Assert.assertEquals("Unexpected search result (position) for " + key + " from " + startPos, expected.getPosition(), actual.getPosition());
+                }
+            }
+
+            for (int i = 0; i < count; i += 13) {
+                int j = Math.min(count - 1, i + 50);
+                AssertExtensions.assertListEquals("Unexpected result from getEntries(" + i + ", " + j + ").",
+                        serializedEntries.subList(i, j + 1), wrappedCompact.getEntries(i, j),
+                        (e, a) -> KEY_COMPARATOR.compare(e.getKey(), a.getKey()) == 0 && KEY_COMPARATOR.compare(e.getValue(), a.getValue()) == 0);
+            }
+
+            // Modify the wrapped page and verify it is correctly re-serialized.
+            val updatedEntries = new HashMap<Integer, Long>(entries);
+            val updates = new HashMap<Integer, Long>();
+            for (int i = 0; i < count * 2; i += 3) {
+                updates.put(i, (long) i);
+            }
+
+            updatedEntries.putAll(updates);
+            wrappedCompact.update(serialize(updates, true));
+            checkPage(wrappedCompact, updatedEntries);
+            checkPage(new BTreePage(config, wrappedCompact.getContents()), updatedEntries);
+            Assert.assertEquals("Unexpected length after modification.",
+                    config.isCompact(), wrappedCompact.getLength() < HEADER_FOOTER_LENGTH + updatedEntries.size() * config.getEntryLength());
+
+            // Remove the first key, then replace the new first key (on a freshly wrapped page) with the removed one.
+            val firstKey = serializeInt(0);
+            wrappedCompact.update(toDelete(Collections.singletonList(firstKey)));
+            val rewrapped = new BTreePage(config, wrappedCompact.getContents());
+            rewrapped.setFirstKey(firstKey);
+            val replaced = new BTreePage(config, rewrapped.getContents());
+            assertEquals("First key was not replaced.", firstKey, replaced.getKeyAt(0));
+            assertEquals("Unexpected second key.", serializeInt(3), replaced.getKeyAt(1));
+            Assert.assertEquals("Unexpected count after replacing first key.", updatedEntries.size() - 1, replaced.getCount());
+        }
+
+        // Pages that cannot be compacted efficiently are serialized in the original format.
+        val singleEntryPage = new BTreePage(COMPACT_CONFIG);
+        singleEntryPage.update(serializedEntries.subList(0, 1));
+        Assert.assertEquals("Unexpected length for single-entry page.", HEADER_FOOTER_LENGTH + COMPACT_CONFIG.getEntryLength(), singleEntryPage.getLength());
+        checkPage(new BTreePage(COMPACT_CONFIG, singleEntryPage.getContents()), Collections.singletonMap(0, 1L));
+    }
+
+    /**
+     * Tests the ability to split pages that use the Compact Format.
+     */
+    @Test
+    public void testCompactSplit() {
+        int count = 1000;
+        val page = new BTreePage(COMPACT_CONFIG);
+        int maxOriginalCount = (COMPACT_CONFIG.getMaxPageSize() - HEADER_FOOTER_LENGTH) / COMPACT_CONFIG.getEntryLength();
+        int firstSplitCount = -1;
+        val entries = new HashMap<Integer, Long>();
+        for (int item = 0; item < count; item++) {
+            page.update(Collections.singletonList(new PageEntry(serializeInt(item), serializeLong(item + 1))));
+            entries.put(item, (long) item + 1);
+
+            boolean expectedSplit = page.getLength() > COMPACT_CONFIG.getMaxPageSize();
+            val splitResult = page.splitIfNecessary();
+            if (expectedSplit) {
+                if (firstSplitCount < 0) {
+                    firstSplitCount = page.getCount();
+                }
+
+                int originalPos = 0;
+                for (BTreePage sp : splitResult) {
+                    AssertExtensions.assertLessThanOrEqual("Split page size too large.", COMPACT_CONFIG.getMaxPageSize(), sp.getLength());
+                    AssertExtensions.assertGreaterThan("Not expecting any empty pages.", 0, sp.getCount());
+                    val wrapped = new BTreePage(COMPACT_CONFIG, sp.getContents());
+                    Assert.assertEquals("Unexpected count for wrapped split page.", sp.getCount(), wrapped.getCount());
+                    for (int si = 0; si < sp.getCount(); si++) {
+                        assertEquals("Unexpected split page key.", page.getKeyAt(originalPos), wrapped.getKeyAt(si));
+                        assertEquals("Unexpected split page value.", page.getValueAt(originalPos), wrapped.getValueAt(si));
+                        originalPos++;
+                    }
+                }
+
+                Assert.assertEquals("Not all entries were included in the split.", page.getCount(), originalPos);
+            } else {
+                Assert.assertNull("Not expecting any split result", splitResult);
+            }
+        }
+
+        AssertExtensions.assertGreaterThan("Expected Compact Format to fit more entries per page.", maxOriginalCount, firstSplitCount);
+        checkPage(page, entries);
+    }
+
     /**
      * Tests the static method isIndexPage().
      */
@@ -91,6 +91,29 @@ public interface ReadResult extends Iterator<ReadResultEntry>, AutoCloseable {
      */
     void setCopyOnRead(boolean value);
 
+    /**
+     * Gets a value indicating whether "Retain-on-Read" is enabled for Cache retrievals. See {@link #setRetainOnRead} for
+     * more details.
+     *
+     * @return True if retain-on-read is enabled for this {@link ReadResult}, false otherwise.
+     */
+    boolean isRetainOnRead();
+
+    /**
+     * Sets a value indicating whether "Retain-on-Read" is to be enabled for any Cache entry retrievals
+     * ({@link ReadResultEntry#getType()} equals {@link ReadResultEntryType#Cache}). If true, any data extracted from the
+     * Cache will not be copied; instead it will be retained (pinned) in the Cache until released, so that it is not
+     * invalidated by an eventual cache eviction. This takes precedence over {@link #setCopyOnRead}. Use this option to
+     * avoid copying data that is to be handed off to an asynchronous consumer (such as a network write).
+     *
+     * If enabled, the caller must invoke {@link io.pravega.common.util.BufferView#release()} exactly once on the contents
+     * of every {@link ReadResultEntryType#Cache} entry obtained from this {@link ReadResult}, after it is done with it.
+     * Failing to do so will prevent the Cache from reusing that memory.
+     *
+     * @param value True if enabling retain-on-read for this {@link ReadResult}, false otherwise.
+     */
+    void setRetainOnRead(boolean value);
+
     /**
      * Gets a value indicating the maximum number of bytes to read at once with every invocation of {@link #next()}.
      *
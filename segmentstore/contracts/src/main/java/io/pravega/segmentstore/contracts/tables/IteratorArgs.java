@@ -43,6 +43,11 @@ public class IteratorArgs {
      * Fixed-Key-Length Table Segments.
      */
     private final BufferView to;
+    /**
+     * If true, items are returned in descending Key order (beginning at {@link #getTo()}). This is only supported for
+     * Fixed-Key-Length Table Segments.
+     */
+    private final boolean reverse;
     /**
      * Timeout for each invocation to {@link AsyncIterator#getNext()}.
      */
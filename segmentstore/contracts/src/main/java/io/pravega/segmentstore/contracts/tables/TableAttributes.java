@@ -63,6 +63,20 @@ public class TableAttributes extends Attributes {
      */
     public static final AttributeId RETIRED_1 = AttributeId.uuid(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 6);
 
+    /**
+     * Defines an attribute that is used to store the version of the hash algorithm used to hash the Keys of a (Table)
+     * Segment. This is set when the Segment is created and must never be changed afterwards. Segments that do not have
+     * this attribute set use the original (SHA-256) hash algorithm.
+     */
+    public static final AttributeId KEY_HASH_VERSION = AttributeId.uuid(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 7);
+
+    /**
+     * Defines an attribute that is used to store the size (in bits) of the Key Hash Bloom Filter of a (Table) Segment.
+     * This is set when the Segment is created and must never be changed afterwards. Segments that do not have this
+     * attribute set (or have it set to 0) do not maintain such a filter.
+     */
+    public static final AttributeId BLOOM_FILTER_SIZE = AttributeId.uuid(CORE_ATTRIBUTE_ID_PREFIX, TABLE_ATTRIBUTES_START_OFFSET + 8);
+
     /**
      * Defines a Map that contains all Table Attributes along with their default values.
      */
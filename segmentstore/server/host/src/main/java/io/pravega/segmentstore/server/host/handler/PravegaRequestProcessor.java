@@ -19,7 +19,9 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.pravega.auth.TokenException;
 import io.pravega.auth.TokenExpiredException;
@@ -64,6 +66,7 @@ import io.pravega.segmentstore.server.host.stat.TableSegmentStatsRecorder;
 import io.pravega.segmentstore.server.tables.DeltaIteratorState;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.protocol.netty.ByteBufWrapper;
+import io.pravega.shared.protocol.netty.CallbackCompositeByteBuf;
 import io.pravega.shared.protocol.netty.FailingRequestProcessor;
 import io.pravega.shared.protocol.netty.RequestProcessor;
 import io.pravega.shared.protocol.netty.WireCommands;
@@ -269,10 +272,14 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
      * Otherwise the call will request the data and setup a callback to return the data when it is available.
      * If no data is available but it was detected that the Segment had been truncated beyond the current offset,
      * an appropriate message is sent back over the connection.
+     *
+     * Cached data is retained in the cache (see {@link ReadResult#setRetainOnRead}) rather than copied out of it. It is
+     * sent as-is over the connection and released once the reply has been written out.
      */
     private void handleReadResult(ReadSegment request, ReadResult result) {
         String segment = request.getSegment();
         ArrayList<BufferView> cachedEntries = new ArrayList<>();
+        result.setRetainOnRead(true);
         ReadResultEntry nonCachedEntry = collectCachedEntries(request.getOffset(), result, cachedEntries);
         final String operation = "readSegment";
 
@@ -281,11 +288,18 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         boolean atTail = nonCachedEntry != null && nonCachedEntry.getType() == Future;
 
         if (!cachedEntries.isEmpty() || endOfSegment) {
-            // We managed to collect some data. Send it.
-            ByteBuf data = toByteBuf(cachedEntries);
+            // We managed to collect some data. Send it. The reply owns the retained data and will release it once written.
+            ByteBuf data = toRetainedByteBuf(cachedEntries);
+            int dataLength = data.readableBytes();
             SegmentRead reply = new SegmentRead(segment, request.getOffset(), atTail, endOfSegment, data, request.getRequestId());
-            connection.send(reply);
-            this.statsRecorder.read(segment, reply.getData().readableBytes());
+            reply.requireRelease();
+            try {
+                connection.send(reply);
+            } catch (Throwable ex) {
+                reply.release();
+                throw ex;
+            }
+            this.statsRecorder.read(segment, dataLength);
         } else if (truncated) {
             // We didn't collect any data, instead we determined that the current read offset was truncated.
             // Determine the current Start Offset and send that back.
@@ -349,21 +363,38 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
      */
     private ReadResultEntry collectCachedEntries(long initialOffset, ReadResult readResult, ArrayList<BufferView> cachedEntries) {
         long expectedOffset = initialOffset;
-        while (readResult.hasNext()) {
-            ReadResultEntry entry = readResult.next();
-            if (entry.getType() == Cache) {
-                Preconditions.checkState(entry.getStreamSegmentOffset() == expectedOffset,
-                        "Data returned from read was not contiguous.");
-                BufferView content = entry.getContent().getNow(null);
-                expectedOffset += content.getLength();
-                cachedEntries.add(content);
-            } else {
-                return entry;
+        try {
+            while (readResult.hasNext()) {
+                ReadResultEntry entry = readResult.next();
+                if (entry.getType() == Cache) {
+                    BufferView content = entry.getContent().getNow(null);
+                    cachedEntries.add(content);
+                    Preconditions.checkState(entry.getStreamSegmentOffset() == expectedOffset,
+                            "Data returned from read was not contiguous.");
+                    expectedOffset += content.getLength();
+                } else {
+                    return entry;
+                }
             }
+        } catch (Throwable ex) {
+            // Cached entries are retained (see handleReadResult); release them since we're not going to use them.
+            cachedEntries.forEach(BufferView::release);
+            cachedEntries.clear();
+            throw ex;
         }
         return null;
     }
 
+    /**
+     * Wraps all the data from the given (retained) contents into a {@link ByteBuf} without copying it. The contents will
+     * be released when the returned {@link ByteBuf} is deallocated.
+     */
+    private ByteBuf toRetainedByteBuf(List<BufferView> contents) {
+        val iterators = Iterators.concat(Iterators.transform(contents.iterator(), BufferView::iterateBuffers));
+        val buffers = Lists.newArrayList(Iterators.transform(iterators, Unpooled::wrappedBuffer));
+        return new CallbackCompositeByteBuf(ByteBufAllocator.DEFAULT, buffers, () -> contents.forEach(BufferView::release));
+    }
+
     /**
      * Collect all the data from the given contents into a {@link ByteBuf}.
      */
@@ -1017,6 +1048,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 .continuationToken(wrap(rawArgs.getContinuationToken()))
                 .from(wrap(rawArgs.getFromKey()))
                 .to(wrap(rawArgs.getToKey()))
+                .reverse(rawArgs.isReverse())
                 .build();
     }
 
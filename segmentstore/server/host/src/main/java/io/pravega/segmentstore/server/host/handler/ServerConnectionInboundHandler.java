@@ -82,12 +82,30 @@ public class ServerConnectionInboundHandler extends ChannelInboundHandlerAdapter
         Channel c = getChannel();
         // Work around for https://github.com/netty/netty/issues/3246
         EventLoop eventLoop = c.eventLoop();
-        eventLoop.execute(() -> write(c, cmd));
+        try {
+            eventLoop.execute(() -> write(c, cmd));
+        } catch (Throwable ex) {
+            // The write will never happen (i.e., the event loop is shutting down). Release any buffers held by the command.
+            release(cmd);
+            throw ex;
+        }
     }
 
     private static void write(Channel channel, WireCommand data) {
-        channel.write(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
-    }  
+        channel.write(data).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                // The command may not have reached the encoder (i.e., the channel is closed), which would otherwise release
+                // it once written. Make sure we do not leak any buffers held by it.
+                release(data);
+            }
+        }).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
+    private static void release(WireCommand cmd) {
+        if (cmd instanceof WireCommands.ReleasableCommand) {
+            ((WireCommands.ReleasableCommand) cmd).release(); // Idempotent. Invoking multiple times has no side effects.
+        }
+    }
     
     @Override
     public void setRequestProcessor(RequestProcessor rp) {
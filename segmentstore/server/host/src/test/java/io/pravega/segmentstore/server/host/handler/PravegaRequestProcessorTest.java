@@ -2022,6 +2022,26 @@ public class PravegaRequestProcessorTest {
         assertTrue(reply instanceof WireCommands.AuthTokenCheckFailed);
     }
 
+    /**
+     * Verifies that replies which hold buffers (i.e., retained cache data) are released if they cannot be written because
+     * the connection has been closed in the meantime.
+     */
+    @Test(timeout = 10000)
+    public void testSendReleasesReplyOnClosedChannel() {
+        @Cleanup
+        EmbeddedChannel channel = createChannel(mock(StreamSegmentStore.class));
+        ServerConnectionInboundHandler connection = channel.pipeline().get(ServerConnectionInboundHandler.class);
+        channel.close();
+
+        ByteBuf data = Unpooled.wrappedBuffer(new byte[10]);
+        WireCommands.SegmentRead reply = new WireCommands.SegmentRead("segment", 0, false, false, data, requestId);
+        reply.requireRelease();
+        connection.send(reply);
+        channel.runPendingTasks();
+        assertTrue("Expected reply to be released.", reply.isReleased());
+        assertEquals("Expected reply data to be released.", 0, data.refCnt());
+    }
+
     private ArrayView generateData(int length, Random rnd) {
         byte[] keyData = new byte[length];
         rnd.nextBytes(keyData);
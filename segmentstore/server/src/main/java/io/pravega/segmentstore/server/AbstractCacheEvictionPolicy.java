@@ -0,0 +1,50 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Base class for {@link CacheEvictionPolicy} implementations which keeps track of cache hits and misses.
+ */
+@ThreadSafe
+abstract class AbstractCacheEvictionPolicy implements CacheEvictionPolicy {
+    private final AtomicLongArray hits = new AtomicLongArray(EntryType.values().length);
+    private final AtomicLongArray misses = new AtomicLongArray(EntryType.values().length);
+
+    @Override
+    public void recordHit(EntryType entryType) {
+        this.hits.incrementAndGet(entryType.ordinal());
+    }
+
+    @Override
+    public void recordMiss(EntryType entryType) {
+        this.misses.incrementAndGet(entryType.ordinal());
+    }
+
+    @Override
+    public double getHitRatio(EntryType entryType) {
+        long hitCount = this.hits.get(entryType.ordinal());
+        long total = hitCount + this.misses.get(entryType.ordinal());
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return getType().toString();
+    }
+}
@@ -70,7 +70,22 @@ public interface AttributeIndex {
      * @param fetchTimeout Timeout for every index fetch.
      * @return A new {@link AttributeIterator} that will iterate through the given Attribute range.
      */
-    AttributeIterator iterator(AttributeId fromId, AttributeId toId, Duration fetchTimeout);
+    default AttributeIterator iterator(AttributeId fromId, AttributeId toId, Duration fetchTimeout) {
+        return iterator(fromId, toId, false, fetchTimeout);
+    }
+
+    /**
+     * Returns an {@link AttributeIterator} that will iterate through all Attributes between the given ranges. The
+     * Attributes will be returned in ascending or descending order, based on the {@link AttributeId#compareTo} ordering.
+     *
+     * @param fromId       An AttributeId representing the smallest Attribute Id to include. This is an inclusive value.
+     * @param toId         An AttributeId representing the largest Attribute Id to include. This is an inclusive value.
+     * @param reverse      If true, the Attributes will be returned in descending order (beginning at toId), otherwise
+     *                     they will be returned in ascending order (beginning at fromId).
+     * @param fetchTimeout Timeout for every index fetch.
+     * @return A new {@link AttributeIterator} that will iterate through the given Attribute range.
+     */
+    AttributeIterator iterator(AttributeId fromId, AttributeId toId, boolean reverse, Duration fetchTimeout);
 
     /**
      * Gets the number of Attributes stored in this index.
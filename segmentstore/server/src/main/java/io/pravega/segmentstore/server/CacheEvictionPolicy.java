@@ -0,0 +1,131 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+/**
+ * Defines a strategy that {@link CacheManager.Client}s use to assign Cache Generations to their entries.
+ *
+ * The {@link CacheManager} evicts entries purely based on their generation (see {@link CacheManager.Client#updateGenerations}).
+ * By deciding which generation an entry is placed in when it is inserted into the cache and every time it is accessed,
+ * a {@link CacheEvictionPolicy} determines the order in which entries are evicted from the cache.
+ *
+ * Implementations must be thread-safe, as the same instance is shared by all the {@link CacheManager.Client}s registered
+ * with a {@link CacheManager}.
+ */
+public interface CacheEvictionPolicy {
+    /**
+     * Gets the {@link Type} of this policy.
+     *
+     * @return The {@link Type}.
+     */
+    Type getType();
+
+    /**
+     * Determines the generation that a new cache entry should be assigned when inserted into the cache.
+     *
+     * @param ownerId           An id uniquely identifying the owner of the entry (i.e., a Segment Id).
+     * @param entryId           An id uniquely identifying the entry within its owner (i.e., an offset).
+     * @param currentGeneration The current Cache Generation.
+     * @param oldestGeneration  The oldest Cache Generation. Entries with generations below this value are evicted.
+     * @return The generation to assign to the entry. This value will be in the interval [oldestGeneration, currentGeneration].
+     */
+    int getInsertGeneration(long ownerId, long entryId, int currentGeneration, int oldestGeneration);
+
+    /**
+     * Determines the generation that an existing cache entry should be assigned when it is accessed.
+     *
+     * @param ownerId           An id uniquely identifying the owner of the entry (i.e., a Segment Id).
+     * @param entryId           An id uniquely identifying the entry within its owner (i.e., an offset).
+     * @param entryGeneration   The generation the entry is currently assigned.
+     * @param currentGeneration The current Cache Generation.
+     * @param oldestGeneration  The oldest Cache Generation. Entries with generations below this value are evicted.
+     * @return The generation to assign to the entry. This value will be in the interval [entryGeneration, currentGeneration].
+     */
+    int getAccessGeneration(long ownerId, long entryId, int entryGeneration, int currentGeneration, int oldestGeneration);
+
+    /**
+     * Records a cache hit for an entry of the given type.
+     *
+     * @param entryType The {@link EntryType} of the entry that was found in the cache.
+     */
+    void recordHit(EntryType entryType);
+
+    /**
+     * Records a cache miss for an entry of the given type.
+     *
+     * @param entryType The {@link EntryType} of the entry that was not found in the cache.
+     */
+    void recordMiss(EntryType entryType);
+
+    /**
+     * Gets the ratio of cache hits to total cache requests for entries of the given type, since this policy was created.
+     *
+     * @param entryType The {@link EntryType} to get the hit ratio for.
+     * @return A number between 0.0 and 1.0, or 0.0 if there were no requests for entries of this type.
+     */
+    double getHitRatio(EntryType entryType);
+
+    /**
+     * Creates a new {@link CacheEvictionPolicy} of the given type.
+     *
+     * @param type The {@link Type} of the policy to create.
+     * @return A new {@link CacheEvictionPolicy} instance.
+     */
+    static CacheEvictionPolicy create(Type type) {
+        switch (type) {
+            case GENERATIONAL:
+                return new GenerationalEvictionPolicy();
+            case FREQUENCY:
+                return new FrequencyEvictionPolicy();
+            default:
+                throw new IllegalArgumentException("Unsupported CacheEvictionPolicy type: " + type);
+        }
+    }
+
+    /**
+     * Defines the available {@link CacheEvictionPolicy} implementations.
+     */
+    enum Type {
+        /**
+         * Every inserted or accessed entry is moved to the current generation. Entries are evicted in least-recently-used
+         * order, at generation granularity.
+         */
+        GENERATIONAL,
+        /**
+         * Scan-resistant, frequency-aware policy. Only entries that have been requested frequently enough are moved to
+         * the current generation; the others are placed in the oldest generation and are evicted first.
+         */
+        FREQUENCY
+    }
+
+    /**
+     * Defines the types of cache entries for which hit ratios are tracked.
+     */
+    enum EntryType {
+        /**
+         * Data belonging to Stream Segments.
+         */
+        STREAM,
+        /**
+         * Data belonging to Table Segments.
+         */
+        TABLE,
+        /**
+         * Attribute Index pages.
+         */
+        ATTRIBUTE
+    }
+}
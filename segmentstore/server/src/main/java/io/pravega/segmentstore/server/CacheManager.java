@@ -27,8 +27,10 @@ import io.pravega.common.concurrent.Services;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.FileCacheStorage;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.concurrent.ScheduledExecutorService;
@@ -57,6 +59,15 @@ import lombok.extern.slf4j.Slf4j;
  * (in the clients) that is generated or updated gets assigned the current generation. As the CacheManager determines that
  * there are too many Cache Entries or that the maximum size has been exceeded, it will increment the oldest generation.
  * The CacheManager Clients can use this information to evict those Cache Entries that have a generation below the oldest generation number.
+ *
+ * Optionally, the CacheManager may also maintain a spill {@link CacheStorage} (typically a {@link FileCacheStorage} on local
+ * SSD). Clients may demote entries that would otherwise be evicted into it, and they are managed using a separate oldest
+ * generation number (see {@link Client#getSpillStatus()} and {@link Client#updateSpillGenerations}) which is incremented
+ * whenever the spill storage exceeds its eviction threshold.
+ *
+ * Which generation a Cache Entry is assigned upon insertion or access is decided by the {@link CacheEvictionPolicy}
+ * configured via {@link CachePolicy#getEvictionPolicyType()}, which is shared with every Client upon registration
+ * (see {@link Client#setEvictionPolicy}).
  */
 @Slf4j
 @ThreadSafe
@@ -69,16 +80,28 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     private final ScheduledExecutorService executorService;
     private final AtomicInteger currentGeneration;
     private final AtomicInteger oldestGeneration;
+    private final AtomicInteger oldestSpillGeneration;
     private final AtomicBoolean essentialEntriesOnly;
     private final AtomicReference<CacheState> lastCacheState;
     private final AtomicBoolean running;
+    private final AtomicBoolean spillRunning;
     private final CachePolicy policy;
     private final AtomicBoolean closed;
     private final SegmentStoreMetrics.CacheManager metrics;
     @Getter
     private final CacheStorage cacheStorage;
+    /**
+     * The spill {@link CacheStorage} that Clients may demote entries to, or null if no such storage is configured.
+     */
+    @Getter
+    private final CacheStorage spillStorage;
     @Getter
     private final CacheUtilizationProvider utilizationProvider;
+    /**
+     * The {@link CacheEvictionPolicy} that all registered Clients use to assign generations to their entries.
+     */
+    @Getter
+    private final CacheEvictionPolicy evictionPolicy;
     private final Object lock = new Object();
 
     //endregion
@@ -104,19 +127,42 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
      */
     @VisibleForTesting
     public CacheManager(CachePolicy policy, CacheStorage cacheStorage, ScheduledExecutorService executorService) {
+        this(policy, cacheStorage, null, executorService);
+    }
+
+    /**
+     * Creates a new instance of the CacheManager class.
+     *
+     * @param policy          The policy to use with this CacheManager.
+     * @param cacheStorage    The CacheStorage to maintain.
+     * @param spillStorage    (Optional) The CacheStorage that Clients may demote evicted entries to. If null, evicted
+     *                        entries are discarded.
+     * @param executorService An executorService to use for scheduled tasks.
+     */
+    public CacheManager(CachePolicy policy, CacheStorage cacheStorage, CacheStorage spillStorage, ScheduledExecutorService executorService) {
         this.policy = Preconditions.checkNotNull(policy, "policy");
         this.executorService = Preconditions.checkNotNull(executorService, "executorService");
         this.cacheStorage = Preconditions.checkNotNull(cacheStorage, "cacheStorage");
         this.cacheStorage.setCacheFullCallback(this::cacheFullCallback, CACHE_FULL_RETRY_BASE_MILLIS);
+        this.spillStorage = spillStorage;
+        if (this.spillStorage != null) {
+            // Demotions into the spill storage are done from within the cache policy (on the CacheManager's thread).
+            // Do not wait between cleanup retries, as that would stall the eviction of the main cache.
+            this.spillStorage.setCacheFullCallback(this::spillFullCallback, 0);
+        }
+
         this.clients = new HashSet<>();
         this.oldestGeneration = new AtomicInteger(0);
+        this.oldestSpillGeneration = new AtomicInteger(0);
         this.currentGeneration = new AtomicInteger(0);
         this.essentialEntriesOnly = new AtomicBoolean(false);
         this.running = new AtomicBoolean();
+        this.spillRunning = new AtomicBoolean();
         this.closed = new AtomicBoolean();
         this.lastCacheState = new AtomicReference<>();
         this.metrics = new SegmentStoreMetrics.CacheManager();
         this.utilizationProvider = new CacheUtilizationProvider(this.policy, this::getStoredBytes);
+        this.evictionPolicy = CacheEvictionPolicy.create(this.policy.getEvictionPolicyType());
         fetchCacheState();
     }
 
@@ -136,6 +182,10 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
             }
 
             this.cacheStorage.close();
+            if (this.spillStorage != null) {
+                this.spillStorage.close();
+            }
+
             long pendingBytes = this.utilizationProvider.getPendingBytes();
             if (pendingBytes > 0) {
                 log.error("{}: Closing with {} outstanding bytes. This indicates a leak somewhere.",
@@ -160,6 +210,8 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     @Override
     protected void runOneIteration() {
         boolean anythingEvicted = applyCachePolicy();
+        applySpillPolicy();
+        this.metrics.reportHitRatios(this.evictionPolicy);
         if (anythingEvicted) {
             this.utilizationProvider.notifyCleanupListeners();
         }
@@ -190,6 +242,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
             }
         }
 
+        client.setEvictionPolicy(this.evictionPolicy);
         client.updateGenerations(this.currentGeneration.get(), this.oldestGeneration.get(), this.essentialEntriesOnly.get());
         log.info("{} Registered {}.", TRACE_OBJECT_ID, client);
     }
@@ -232,11 +285,112 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         return this.currentGeneration.get();
     }
 
+    @VisibleForTesting
+    int getOldestSpillGeneration() {
+        return this.oldestSpillGeneration.get();
+    }
+
     private boolean cacheFullCallback() {
         log.info("{}: Cache full. Forcing cache policy.", TRACE_OBJECT_ID);
         return applyCachePolicy();
     }
 
+    private boolean spillFullCallback() {
+        log.info("{}: Spill storage full. Forcing spill policy.", TRACE_OBJECT_ID);
+        return applySpillPolicy();
+    }
+
+    /**
+     * Evicts entries from the spill {@link CacheStorage} (if any), oldest generation first, until its utilization drops
+     * below the eviction threshold (as defined by {@link CachePolicy#getTargetUtilization()} applied to its max size).
+     *
+     * This is safe for concurrent invocation (only one invocation will execute at any given time) and handles all
+     * exceptions by logging them. It is independent of {@link #applyCachePolicy()} since it may be invoked while that
+     * one is executing (i.e., when demoting entries fills up the spill storage).
+     *
+     * @return True if anything was evicted, false otherwise.
+     */
+    @VisibleForTesting
+    protected boolean applySpillPolicy() {
+        if (this.spillStorage == null || this.closed.get()) {
+            return false;
+        }
+
+        if (this.spillRunning.compareAndSet(false, true)) {
+            try {
+                return applySpillPolicyInternal();
+            } catch (Throwable ex) {
+                if (Exceptions.mustRethrow(ex)) {
+                    throw ex;
+                }
+
+                log.error("{}: Error while applying spill policy.", TRACE_OBJECT_ID, ex);
+            } finally {
+                this.spillRunning.set(false);
+            }
+        }
+
+        return false;
+    }
+
+    private boolean applySpillPolicyInternal() {
+        CacheState spillState = this.spillStorage.getState();
+        long evictionThreshold = (long) Math.floor(spillState.getMaxBytes() * this.policy.getTargetUtilization());
+        boolean reducedOverall = false;
+        while (spillState.getUsedBytes() > evictionThreshold) {
+            CacheStatus status = CacheStatus.combine(getClients().stream().map(this::getSpillStatus).iterator());
+            if (status.isEmpty()) {
+                break;
+            }
+
+            // Evict the oldest generation we know of.
+            int newOldest = Math.max(this.oldestSpillGeneration.get(), status.getOldestGeneration()) + 1;
+            this.oldestSpillGeneration.set(newOldest);
+            if (!updateSpillClients(newOldest)) {
+                break;
+            }
+
+            reducedOverall = true;
+            spillState = this.spillStorage.getState();
+        }
+
+        this.metrics.reportSpill(spillState);
+        if (reducedOverall) {
+            log.info("{}: SpillGen: {}; Spill: {}.", TRACE_OBJECT_ID, this.oldestSpillGeneration, spillState);
+        }
+
+        return reducedOverall;
+    }
+
+    private CacheStatus getSpillStatus(Client c) {
+        try {
+            return c.getSpillStatus();
+        } catch (ObjectClosedException ex) {
+            // Will be unregistered by the next cache policy iteration.
+            return CacheStatus.fromGenerations(Collections.emptyIterator());
+        }
+    }
+
+    private boolean updateSpillClients(int oldestSpillGeneration) {
+        boolean reduced = false;
+        for (Client c : getClients()) {
+            try {
+                reduced = c.updateSpillGenerations(oldestSpillGeneration) | reduced;
+            } catch (ObjectClosedException ex) {
+                // Will be unregistered by the next cache policy iteration.
+                log.debug("{} Detected closed client {}.", TRACE_OBJECT_ID, c);
+            } catch (Throwable ex) {
+                if (Exceptions.mustRethrow(ex)) {
+                    throw ex;
+                }
+
+                log.warn("{} Unable to update spill generations for client {}.", TRACE_OBJECT_ID, c, ex);
+            }
+        }
+
+        return reduced;
+    }
+
     /**
      * Same as {@link #applyCachePolicyInternal()}, but this is safe for concurrent invocation and handles all exceptions by
      * logging them.
@@ -508,6 +662,36 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
          * @return If any cache data was trimmed with this update.
          */
         boolean updateGenerations(int currentGeneration, int oldestGeneration, boolean essentialOnly);
+
+        /**
+         * Gets the current status of the entries this Client has demoted to the CacheManager's spill storage.
+         *
+         * @return The current spill status. By default, this is an empty status.
+         */
+        default CacheStatus getSpillStatus() {
+            return CacheStatus.fromGenerations(Collections.emptyIterator());
+        }
+
+        /**
+         * Called by the CacheManager to notify that the oldest generation of the spill storage has changed. Entries
+         * that were demoted to the spill storage and whose generation is below this value should be removed from it.
+         *
+         * @param oldestSpillGeneration The value of the oldest spill generation.
+         * @return If any data was removed from the spill storage with this update. By default, this returns false.
+         */
+        default boolean updateSpillGenerations(int oldestSpillGeneration) {
+            return false;
+        }
+
+        /**
+         * Called by the CacheManager upon registration to set the {@link CacheEvictionPolicy} that this Client should
+         * use when assigning generations to its entries and to which it should report cache hits and misses. By default,
+         * this does nothing (the Client assigns the current generation to every inserted or accessed entry).
+         *
+         * @param evictionPolicy The {@link CacheEvictionPolicy} to use.
+         */
+        default void setEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+        }
     }
 
     //endregion
@@ -18,6 +18,7 @@ package io.pravega.segmentstore.server;
 import com.google.common.base.Preconditions;
 import java.time.Duration;
 import lombok.Getter;
+import lombok.NonNull;
 
 /**
  * Represents a Policy for a CacheManager.
@@ -75,6 +76,11 @@ public class CachePolicy {
      */
     @Getter
     private final Duration generationDuration;
+    /**
+     * The type of {@link CacheEvictionPolicy} to use when assigning generations to cache entries.
+     */
+    @Getter
+    private final CacheEvictionPolicy.Type evictionPolicyType;
 
     //endregion
 
@@ -102,6 +108,21 @@ public class CachePolicy {
      * @param generationDuration The amount of time one Cache generation spans.
      */
     public CachePolicy(long maxSize, double targetUtilization, double maxUtilization, Duration maxTime, Duration generationDuration) {
+        this(maxSize, targetUtilization, maxUtilization, maxTime, generationDuration, CacheEvictionPolicy.Type.GENERATIONAL);
+    }
+
+    /**
+     * Creates a new instance of the CachePolicy class.
+     *
+     * @param maxSize            The maximum size of the cache.
+     * @param targetUtilization  The target cache utilization to set. See {@link #getTargetUtilization()} ()}.
+     * @param maxUtilization     The maximum cache utilization to set. See {@link #getMaxUtilization()}.
+     * @param maxTime            The maximum amount of time a cache entry can live in the cache.
+     * @param generationDuration The amount of time one Cache generation spans.
+     * @param evictionPolicyType The type of {@link CacheEvictionPolicy} to use.
+     */
+    public CachePolicy(long maxSize, double targetUtilization, double maxUtilization, Duration maxTime, Duration generationDuration,
+                       @NonNull CacheEvictionPolicy.Type evictionPolicyType) {
         Preconditions.checkArgument(maxSize > 0, "maxSize must be a positive integer");
         Preconditions.checkArgument(targetUtilization > 0 && targetUtilization <= 1.0,
                 "targetUtilization must be a number in the range (0.0, 1.0].");
@@ -114,13 +135,15 @@ public class CachePolicy {
         this.criticalThreshold = (long) Math.floor(this.maxSize * this.maxUtilization);
         this.generationDuration = generationDuration;
         this.maxGenerations = Math.max(1, (int) ((double) maxTime.toMillis() / generationDuration.toMillis()));
+        this.evictionPolicyType = evictionPolicyType;
     }
 
     //endregion
 
     @Override
     public String toString() {
-        return String.format("MaxSize = %d, UsableSize = %d, CriticalSize = %d, MaxGen = %d, Generation = %s",
-                this.maxSize, this.evictionThreshold, this.criticalThreshold, this.maxGenerations, this.generationDuration);
+        return String.format("MaxSize = %d, UsableSize = %d, CriticalSize = %d, MaxGen = %d, Generation = %s, EvictionPolicy = %s",
+                this.maxSize, this.evictionThreshold, this.criticalThreshold, this.maxGenerations, this.generationDuration,
+                this.evictionPolicyType);
     }
 }
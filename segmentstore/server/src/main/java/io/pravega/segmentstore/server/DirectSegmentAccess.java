@@ -168,7 +168,23 @@ public interface DirectSegmentAccess {
      * @return A CompletableFuture that, when completed, will return an {@link AttributeIterator} that can be used to iterate
      * through the Segment's Attributes.
      */
-    CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, Duration timeout);
+    default CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, Duration timeout) {
+        return attributeIterator(fromId, toId, false, timeout);
+    }
+
+    /**
+     * Gets an iterator for the Segment's Attributes in the given range, in either ascending or descending order (based on
+     * {@link AttributeId#compareTo}).
+     *
+     * @param fromId  An AttributeId representing the first (smallest) Attribute Id to include.
+     * @param toId    An AttributeId representing the last (largest) Attribute Id to include.
+     * @param reverse If true, Attributes will be returned in descending order, beginning with the largest one not exceeding
+     *                toId. If false, they will be returned in ascending order, beginning with the smallest one not below fromId.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will return an {@link AttributeIterator} that can be used to iterate
+     * through the Segment's Attributes.
+     */
+    CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, boolean reverse, Duration timeout);
 
     /**
      * Gets the number of Extended (non-Core) Attributes for this segment that have been persisted into the index.
@@ -0,0 +1,103 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Scan-resistant, frequency-aware {@link CacheEvictionPolicy} (modeled after W-TinyLFU).
+ *
+ * The {@link CacheManager} evicts entries by generation, so this policy expresses admission and eviction decisions in terms
+ * of generations:
+ * - Every time an entry is inserted or accessed, its key is recorded in a {@link FrequencySketch}.
+ * - Entries whose estimated frequency is below the admission threshold are placed in (or kept in) a probationary window:
+ * new entries are assigned the oldest generation and accessed entries keep their generation. These are the first to be
+ * evicted when the cache is under pressure, which means that a one-time scan of historical data will only displace other
+ * one-time data.
+ * - Entries whose estimated frequency is at or above the admission threshold are promoted to the current generation (the
+ * protected window), where they are evicted in least-recently-used order, same as with {@link GenerationalEvictionPolicy}.
+ */
+@ThreadSafe
+class FrequencyEvictionPolicy extends AbstractCacheEvictionPolicy {
+    //region Members
+
+    /**
+     * Default number of counters in each row of the {@link FrequencySketch}. Uses 1MB of heap.
+     */
+    @VisibleForTesting
+    static final int DEFAULT_SKETCH_WIDTH = 64 * 1024;
+    /**
+     * Default minimum estimated frequency for an entry to be admitted to the current generation.
+     */
+    @VisibleForTesting
+    static final int DEFAULT_ADMISSION_FREQUENCY = 2;
+    private final FrequencySketch sketch;
+    private final int admissionFrequency;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the FrequencyEvictionPolicy class using default settings.
+     */
+    FrequencyEvictionPolicy() {
+        this(DEFAULT_SKETCH_WIDTH, DEFAULT_ADMISSION_FREQUENCY);
+    }
+
+    /**
+     * Creates a new instance of the FrequencyEvictionPolicy class.
+     *
+     * @param sketchWidth        The number of counters in each row of the {@link FrequencySketch}. Must be a power of 2.
+     * @param admissionFrequency The minimum estimated frequency for an entry to be admitted to the current generation.
+     */
+    @VisibleForTesting
+    FrequencyEvictionPolicy(int sketchWidth, int admissionFrequency) {
+        Preconditions.checkArgument(admissionFrequency > 0 && admissionFrequency <= FrequencySketch.MAX_FREQUENCY,
+                "admissionFrequency must be a number in the interval [1, %s].", FrequencySketch.MAX_FREQUENCY);
+        this.sketch = new FrequencySketch(sketchWidth);
+        this.admissionFrequency = admissionFrequency;
+    }
+
+    //endregion
+
+    //region CacheEvictionPolicy Implementation
+
+    @Override
+    public Type getType() {
+        return Type.FREQUENCY;
+    }
+
+    @Override
+    public int getInsertGeneration(long ownerId, long entryId, int currentGeneration, int oldestGeneration) {
+        return isAdmitted(ownerId, entryId) ? currentGeneration : Math.min(oldestGeneration, currentGeneration);
+    }
+
+    @Override
+    public int getAccessGeneration(long ownerId, long entryId, int entryGeneration, int currentGeneration, int oldestGeneration) {
+        return isAdmitted(ownerId, entryId) ? currentGeneration : Math.min(entryGeneration, currentGeneration);
+    }
+
+    private boolean isAdmitted(long ownerId, long entryId) {
+        long key = (ownerId * 0x9e3779b97f4a7c15L) ^ entryId;
+        this.sketch.increment(key);
+        return this.sketch.getFrequency(key) >= this.admissionFrequency;
+    }
+
+    //endregion
+}
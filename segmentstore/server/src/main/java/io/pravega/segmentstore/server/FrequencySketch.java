@@ -0,0 +1,137 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A Count-Min Sketch that estimates how often a key has been seen recently (as used by TinyLFU).
+ *
+ * Each key maps to one counter in each of {@link #DEPTH} rows; its estimated frequency is the minimum of those counters.
+ * Counters saturate at {@link #MAX_FREQUENCY}. In order to favor recent activity, all counters are halved after every
+ * {@link #getSampleSize()} increments, which ages out keys that used to be popular but no longer are.
+ *
+ * Updates are lock-free; concurrent increments may occasionally be lost, which is acceptable for an estimate.
+ */
+@ThreadSafe
+class FrequencySketch {
+    //region Members
+
+    static final int MAX_FREQUENCY = 15;
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = new long[]{0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private final AtomicIntegerArray counters;
+    private final int width;
+    private final int sampleSize;
+    private final AtomicInteger additions;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the FrequencySketch class.
+     *
+     * @param width The number of counters in each row. Must be a power of 2. The sketch will be aged (halved) after
+     *              every 10 * width increments.
+     */
+    FrequencySketch(int width) {
+        this(width, 10 * width);
+    }
+
+    /**
+     * Creates a new instance of the FrequencySketch class.
+     *
+     * @param width      The number of counters in each row. Must be a power of 2.
+     * @param sampleSize The number of increments after which the sketch is aged (halved).
+     */
+    @VisibleForTesting
+    FrequencySketch(int width, int sampleSize) {
+        Preconditions.checkArgument(width > 0 && Integer.bitCount(width) == 1, "width must be a positive power of 2.");
+        Preconditions.checkArgument(sampleSize > 0, "sampleSize must be a positive number.");
+        this.width = width;
+        this.sampleSize = sampleSize;
+        this.counters = new AtomicIntegerArray(DEPTH * width);
+        this.additions = new AtomicInteger();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets the number of increments after which all counters are halved.
+     *
+     * @return The sample size.
+     */
+    int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * Records an occurrence of the given key.
+     *
+     * @param key The key.
+     */
+    void increment(long key) {
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(key, i);
+            int count = this.counters.get(index);
+            if (count < MAX_FREQUENCY) {
+                added |= this.counters.compareAndSet(index, count, count + 1);
+            }
+        }
+
+        if (added && this.additions.incrementAndGet() >= this.sampleSize) {
+            age();
+        }
+    }
+
+    /**
+     * Estimates the number of times the given key has been seen recently.
+     *
+     * @param key The key.
+     * @return The estimated frequency, between 0 and {@link #MAX_FREQUENCY}.
+     */
+    int getFrequency(long key) {
+        int result = MAX_FREQUENCY;
+        for (int i = 0; i < DEPTH; i++) {
+            result = Math.min(result, this.counters.get(indexOf(key, i)));
+        }
+
+        return result;
+    }
+
+    private void age() {
+        this.additions.set(0);
+        for (int i = 0; i < this.counters.length(); i++) {
+            this.counters.set(i, this.counters.get(i) >>> 1);
+        }
+    }
+
+    private int indexOf(long key, int row) {
+        long hash = (key + SEEDS[row]) * SEEDS[row];
+        hash += hash >>> 32;
+        return row * this.width + ((int) hash & (this.width - 1));
+    }
+
+    //endregion
+}
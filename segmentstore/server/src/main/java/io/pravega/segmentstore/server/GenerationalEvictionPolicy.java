@@ -0,0 +1,40 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * {@link CacheEvictionPolicy} that places every inserted or accessed entry in the current generation. This causes entries
+ * to be evicted in least-recently-used order (at generation granularity).
+ */
+@ThreadSafe
+class GenerationalEvictionPolicy extends AbstractCacheEvictionPolicy {
+    @Override
+    public Type getType() {
+        return Type.GENERATIONAL;
+    }
+
+    @Override
+    public int getInsertGeneration(long ownerId, long entryId, int currentGeneration, int oldestGeneration) {
+        return currentGeneration;
+    }
+
+    @Override
+    public int getAccessGeneration(long ownerId, long entryId, int entryGeneration, int currentGeneration, int oldestGeneration) {
+        return currentGeneration;
+    }
+}
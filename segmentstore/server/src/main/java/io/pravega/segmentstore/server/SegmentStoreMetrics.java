@@ -35,11 +35,14 @@ import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.val;
 
 import static io.pravega.shared.MetricsNames.globalMetricName;
+import static io.pravega.shared.MetricsTags.cacheTags;
 import static io.pravega.shared.MetricsTags.containerTag;
 import static io.pravega.shared.MetricsTags.eventProcessorTag;
+import static io.pravega.shared.MetricsTags.recoveryStageTag;
 import static io.pravega.shared.MetricsTags.throttlerTag;
 import static io.pravega.shared.MetricsTags.segmentTagDirect;
 
@@ -80,12 +83,31 @@ public final class SegmentStoreMetrics {
             cacheManagerIterationDuration.reportSuccessValue(iterationDuration);
         }
 
+        public void reportSpill(CacheState snapshot) {
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CACHE_FILE_STORED_SIZE_BYTES, snapshot.getStoredBytes());
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CACHE_FILE_USED_SIZE_BYTES, snapshot.getUsedBytes());
+        }
+
+        public void reportHitRatios(CacheEvictionPolicy evictionPolicy) {
+            for (CacheEvictionPolicy.EntryType entryType : CacheEvictionPolicy.EntryType.values()) {
+                DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CACHE_HIT_RATIO, evictionPolicy.getHitRatio(entryType),
+                        cacheTags(evictionPolicy.getType().toString(), entryType.toString()));
+            }
+        }
+
         @Override
         public void close() {
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_STORED_SIZE_BYTES);
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_USED_SIZE_BYTES);
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_ALLOC_SIZE_BYTES);
             DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_GENERATION_SPREAD);
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_FILE_STORED_SIZE_BYTES);
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_FILE_USED_SIZE_BYTES);
+            for (CacheEvictionPolicy.Type policyType : CacheEvictionPolicy.Type.values()) {
+                for (CacheEvictionPolicy.EntryType entryType : CacheEvictionPolicy.EntryType.values()) {
+                    DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.CACHE_HIT_RATIO, cacheTags(policyType.toString(), entryType.toString()));
+                }
+            }
             cacheManagerIterationDuration.close();
         }
     }
@@ -189,6 +211,16 @@ public final class SegmentStoreMetrics {
          */
         private final OpStatsLogger processOperationsLatency;
         private final OpStatsLogger processOperationsBatchSize;
+
+        /**
+         * Size of compressed DataFrames, as a percentage of their uncompressed size.
+         */
+        private final OpStatsLogger dataFrameCompressionRatio;
+
+        /**
+         * Amount of time (micros) spent compressing a DataFrame.
+         */
+        private final OpStatsLogger dataFrameCompressionLatency;
         private final int containerId;
         private final String[] containerTag;
         private final Set<String> throttlers = Collections.synchronizedSet(new HashSet<>());
@@ -205,6 +237,8 @@ public final class SegmentStoreMetrics {
             this.memoryCommitCount = STATS_LOGGER.createStats(MetricsNames.OPERATION_COMMIT_MEMORY_COUNT, this.containerTag);
             this.processOperationsLatency = STATS_LOGGER.createStats(MetricsNames.PROCESS_OPERATIONS_LATENCY, this.containerTag);
             this.processOperationsBatchSize = STATS_LOGGER.createStats(MetricsNames.PROCESS_OPERATIONS_BATCH_SIZE, this.containerTag);
+            this.dataFrameCompressionRatio = STATS_LOGGER.createStats(MetricsNames.OPERATION_DATA_FRAME_COMPRESSION_RATIO, this.containerTag);
+            this.dataFrameCompressionLatency = STATS_LOGGER.createStats(MetricsNames.OPERATION_DATA_FRAME_COMPRESSION_LATENCY, this.containerTag);
         }
 
         @Override
@@ -218,6 +252,8 @@ public final class SegmentStoreMetrics {
             this.memoryCommitCount.close();
             this.processOperationsLatency.close();
             this.processOperationsBatchSize.close();
+            this.dataFrameCompressionRatio.close();
+            this.dataFrameCompressionLatency.close();
             for (String throttler : throttlers) {
                 DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.OPERATION_PROCESSOR_DELAY_MILLIS, throttlerTag(containerId, throttler));
             }
@@ -252,6 +288,13 @@ public final class SegmentStoreMetrics {
             this.processOperationsLatency.reportSuccessValue(millis);
         }
 
+        public void dataFrameCompressed(int uncompressedLength, int compressedLength, long elapsedNanos) {
+            if (uncompressedLength > 0) {
+                this.dataFrameCompressionRatio.reportSuccessValue(100L * compressedLength / uncompressedLength);
+            }
+            this.dataFrameCompressionLatency.reportSuccessValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        }
+
         public void operationsCompleted(int operationCount, Duration commitElapsed) {
             this.operationCommitLatency.reportSuccessEvent(commitElapsed);
         }
@@ -489,6 +532,29 @@ public final class SegmentStoreMetrics {
         DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_TIME, duration, containerTag(containerId));
     }
 
+    /**
+     * Reports the throughput of the last recovery of a Container.
+     *
+     * @param operationsPerSecond Number of Operations recovered per second.
+     * @param bytesPerSecond      Number of bytes recovered per second.
+     * @param containerId         Container id related to the recovery process.
+     */
+    public static void recoveryThroughput(long operationsPerSecond, long bytesPerSecond, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_OPERATIONS_PER_SEC, operationsPerSecond, containerTag(containerId));
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_BYTES_PER_SEC, bytesPerSecond, containerTag(containerId));
+    }
+
+    /**
+     * Reports the amount of time spent in a stage of the last recovery of a Container.
+     *
+     * @param stage       The name of the recovery stage.
+     * @param duration    Time spent in the given stage (millis).
+     * @param containerId Container id related to the recovery process.
+     */
+    public static void recoveryStageTime(String stage, long duration, int containerId) {
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_STAGE_TIME, duration, recoveryStageTag(containerId, stage));
+    }
+
     //endregion
 
     //region ContainerEventProcessor
@@ -542,5 +608,55 @@ public final class SegmentStoreMetrics {
         DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_SEGMENT_USED_CREDITS, credits, segmentTagDirect(segmentName));
     }
 
+    /**
+     * Table Segment Key Hash (Bloom) Filter metrics.
+     */
+    public final static class TableBloomFilter implements AutoCloseable {
+        /**
+         * Number of Key Hash lookups that the filter determined to be absent, which did not need to consult the index.
+         */
+        private final Counter savedLookups;
+        /**
+         * Number of Key Hash lookups that the filter could not rule out, but which did not exist in the index.
+         */
+        private final Counter falsePositives;
+        private final AtomicLong totalSavedLookups = new AtomicLong();
+        private final AtomicLong totalFalsePositives = new AtomicLong();
+        private final String[] containerTag;
+
+        public TableBloomFilter(int containerId) {
+            this.containerTag = containerTag(containerId);
+            this.savedLookups = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_SAVED_LOOKUPS, this.containerTag);
+            this.falsePositives = STATS_LOGGER.createCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVES, this.containerTag);
+        }
+
+        @Override
+        public void close() {
+            this.savedLookups.close();
+            this.falsePositives.close();
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVE_RATE, this.containerTag);
+        }
+
+        /**
+         * Records the outcome of a filtered lookup.
+         *
+         * @param savedLookups   The number of Key Hashes that were ruled out by the filter.
+         * @param falsePositives The number of Key Hashes that passed the filter but did not exist in the index.
+         */
+        public void lookupsFiltered(int savedLookups, int falsePositives) {
+            if (savedLookups == 0 && falsePositives == 0) {
+                return;
+            }
+
+            this.savedLookups.add(savedLookups);
+            this.falsePositives.add(falsePositives);
+            long saved = this.totalSavedLookups.addAndGet(savedLookups);
+            long fp = this.totalFalsePositives.addAndGet(falsePositives);
+
+            // The filter only ever sees negatives as either saved lookups (true negatives) or false positives.
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVE_RATE, (double) fp / (fp + saved), this.containerTag);
+        }
+    }
+
     //endregion
 }
@@ -32,6 +32,7 @@ public class AttributeIndexConfig {
     private static final int MAX_INDEX_PAGE_SIZE_VALUE = Short.MAX_VALUE; // Max allowed by BTreeIndex.
     public static final Property<Integer> MAX_INDEX_PAGE_SIZE = Property.named("indexPage.size.bytes.max", MAX_INDEX_PAGE_SIZE_VALUE, "maxIndexPageSizeBytes");
     private static final int MIN_INDEX_PAGE_SIZE_VALUE = 1024;
+    public static final Property<Boolean> COMPACT_INDEX_PAGES = Property.named("indexPage.compact.enable", false);
     private static final String COMPONENT_CODE = "attributeindex";
 
     //endregion
@@ -44,6 +45,14 @@ public class AttributeIndexConfig {
     @Getter
     private final int maxIndexPageSize;
 
+    /**
+     * Whether to write index pages using the prefix-compressed (Compact) BTreePage format. This is a one-way change:
+     * Segment Stores that predate this format cannot read such pages, so it must only be enabled once all Segment Stores
+     * in the cluster have been upgraded. Disabling it does not convert existing pages back to the original format.
+     */
+    @Getter
+    private final boolean compactIndexPages;
+
     /**
      * The Attribute Segment Rolling Policy. If not explicitly defined in the configuration, it will be auto-calculated
      * based on the SnapshotTriggerSize and ReadBlockSize.
@@ -73,6 +82,8 @@ public class AttributeIndexConfig {
             throw new ConfigurationException(String.format("Property '%s' must be at least %s and at most %s; found '%d'.",
                     MAX_INDEX_PAGE_SIZE, MIN_INDEX_PAGE_SIZE_VALUE, MAX_INDEX_PAGE_SIZE_VALUE, this.maxIndexPageSize));
         }
+
+        this.compactIndexPages = properties.getBoolean(COMPACT_INDEX_PAGES);
     }
 
     /**
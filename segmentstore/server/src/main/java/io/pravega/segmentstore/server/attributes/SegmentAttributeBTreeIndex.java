@@ -39,6 +39,7 @@ import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
 import io.pravega.segmentstore.contracts.StreamSegmentTruncatedException;
 import io.pravega.segmentstore.server.AttributeIndex;
 import io.pravega.segmentstore.server.AttributeIterator;
+import io.pravega.segmentstore.server.CacheEvictionPolicy;
 import io.pravega.segmentstore.server.CacheManager;
 import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.SegmentMetadata;
@@ -110,6 +111,10 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
     @GuardedBy("cacheEntries")
     private int currentCacheGeneration;
     @GuardedBy("cacheEntries")
+    private int oldestCacheGeneration;
+    @GuardedBy("cacheEntries")
+    private CacheEvictionPolicy evictionPolicy;
+    @GuardedBy("cacheEntries")
     private final Map<Long, CacheEntry> cacheEntries;
     @GuardedBy("cacheEntries")
     private boolean cacheDisabled;
@@ -153,6 +158,7 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
                                .readPage(this::readPage)
                                .writePages(this::writePages)
                                .maintainStatistics(shouldMaintainStatistics(segmentMetadata))
+                               .compactPages(this.config.isCompactIndexPages())
                                .traceObjectId(this.traceObjectId)
                                .build();
 
@@ -160,6 +166,7 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
         this.pendingReads = new HashMap<>();
         this.closed = new AtomicBoolean();
         this.cacheDisabled = false;
+        this.evictionPolicy = CacheEvictionPolicy.create(CacheEvictionPolicy.Type.GENERATIONAL);
     }
 
     private KeySerializer getKeySerializer(SegmentMetadata segmentMetadata) {
@@ -279,6 +286,7 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
             // All of our data are non-essential as we only cache BTreeIndex pages that are already durable persisted.
             this.cacheDisabled = essentialOnly;
             this.currentCacheGeneration = currentGeneration;
+            this.oldestCacheGeneration = oldestGeneration;
             ArrayList<CacheEntry> toRemove = new ArrayList<>();
             for (val entry : this.cacheEntries.values()) {
                 if (entry.getGeneration() < oldestGeneration) {
@@ -293,6 +301,13 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
         return anyRemoved;
     }
 
+    @Override
+    public void setEvictionPolicy(@NonNull CacheEvictionPolicy evictionPolicy) {
+        synchronized (this.cacheEntries) {
+            this.evictionPolicy = evictionPolicy;
+        }
+    }
+
     //endregion
 
     //region AttributeIndex Implementation
@@ -365,10 +380,16 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
     }
 
     @Override
-    public AttributeIterator iterator(AttributeId fromId, AttributeId toId, Duration fetchTimeout) {
+    public AttributeIterator iterator(AttributeId fromId, AttributeId toId, boolean reverse, Duration fetchTimeout) {
         ensureInitialized();
-        return new AttributeIteratorImpl(fromId, (id, inclusive) ->
-                this.index.iterator(this.keySerializer.serialize(id), inclusive, this.keySerializer.serialize(toId), true, fetchTimeout));
+        if (reverse) {
+            // When iterating backwards, we resume from the last processed id and move towards fromId.
+            return new AttributeIteratorImpl(toId, (id, inclusive) ->
+                    this.index.iterator(this.keySerializer.serialize(fromId), true, this.keySerializer.serialize(id), inclusive, true, fetchTimeout));
+        } else {
+            return new AttributeIteratorImpl(fromId, (id, inclusive) ->
+                    this.index.iterator(this.keySerializer.serialize(id), inclusive, this.keySerializer.serialize(toId), true, fetchTimeout));
+        }
     }
 
     @Override
@@ -698,11 +719,15 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
                 if (data != null && data.getLength() == length) {
                     // We only deem a cache entry valid if it exists and has the expected length; otherwise it's best
                     // if we treat it as a cache miss and re-read it from Storage.
-                    entry.setGeneration(this.currentCacheGeneration);
+                    entry.setGeneration(this.evictionPolicy.getAccessGeneration(this.segmentMetadata.getId(), offset,
+                            entry.getGeneration(), this.currentCacheGeneration, this.oldestCacheGeneration));
+                    this.evictionPolicy.recordHit(CacheEvictionPolicy.EntryType.ATTRIBUTE);
                     // TODO: we do need a copy since we are making changes to this thing and we shouldn't modify the cache directly.
                     return data.getCopy();
                 }
             }
+
+            this.evictionPolicy.recordMiss(CacheEvictionPolicy.EntryType.ATTRIBUTE);
         }
 
         return null;
@@ -711,7 +736,11 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
     private void storeInCache(long offset, byte[] data) {
         synchronized (this.cacheEntries) {
             Exceptions.checkNotClosed(this.closed.get(), this);
-            storeInCache(offset, new ByteArraySegment(data));
+
+            // This page has been read from Storage; let the eviction policy decide its generation.
+            int generation = this.evictionPolicy.getInsertGeneration(this.segmentMetadata.getId(), offset,
+                    this.currentCacheGeneration, this.oldestCacheGeneration);
+            storeInCache(offset, new ByteArraySegment(data), generation);
         }
     }
 
@@ -728,14 +757,14 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
             // Add new ones.
             for (val p : toAdd) {
                 if (p.isCache()) {
-                    storeInCache(p.getOffset(), p.getContents());
+                    storeInCache(p.getOffset(), p.getContents(), this.currentCacheGeneration);
                 }
             }
         }
     }
 
     @GuardedBy("cacheEntries")
-    private void storeInCache(long entryOffset, ByteArraySegment data) {
+    private void storeInCache(long entryOffset, ByteArraySegment data, int generation) {
         CacheEntry entry = this.cacheEntries.getOrDefault(entryOffset, null);
         if (entry != null && entry.getSize() == data.getLength()) {
             // Already cached.
@@ -771,7 +800,7 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
         }
 
         // Create a new entry wrapper.
-        entry = new CacheEntry(entryOffset, data.getLength(), this.currentCacheGeneration, entryAddress);
+        entry = new CacheEntry(entryOffset, data.getLength(), generation, entryAddress);
         if (entry.isStored()) {
             this.cacheEntries.put(entryOffset, entry);
         } else {
@@ -930,6 +959,10 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
         }
     }
 
+    /**
+     * Creates a Page Entry Iterator that begins at the given Attribute Id (which is the lower bound for ascending iterators
+     * and the upper bound for descending iterators).
+     */
     @FunctionalInterface
     private interface CreatePageEntryIterator {
         AsyncIterator<List<PageEntry>> apply(AttributeId firstId, boolean firstIdInclusive);
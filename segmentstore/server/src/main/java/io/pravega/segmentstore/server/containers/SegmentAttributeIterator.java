@@ -22,6 +22,7 @@ import io.pravega.segmentstore.server.AttributeIterator;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -42,7 +43,8 @@ import lombok.val;
  * trickle down to the Attribute Index).
  *
  * Instances of this class iterate over the Attribute Index (within the specified bounds), and also include Attributes
- * from the Segment Metadata where appropriate.
+ * from the Segment Metadata where appropriate. Iteration may be in ascending or descending order, as long as the
+ * Attribute Index iterator follows the same order.
  */
 @ThreadSafe
 class SegmentAttributeIterator implements AttributeIterator {
@@ -53,6 +55,7 @@ class SegmentAttributeIterator implements AttributeIterator {
     private final ArrayDeque<Map.Entry<AttributeId, Long>> metadataAttributes;
     private final AttributeId fromId;
     private final AttributeId toId;
+    private final Comparator<AttributeId> order;
     private final AtomicReference<AttributeId> lastIndexAttribute;
 
     //endregion
@@ -67,7 +70,22 @@ class SegmentAttributeIterator implements AttributeIterator {
      * @param toId     The largest Attribute Id to include.
      */
     SegmentAttributeIterator(@NonNull AttributeIterator indexIterator, @NonNull SegmentMetadata metadata, @NonNull AttributeId fromId, @NonNull AttributeId toId) {
+        this(indexIterator, metadata, fromId, toId, false);
+    }
+
+    /**
+     * Creates a new instance of the SegmentAttributeIterator class.
+     *
+     * @param metadata The {@link SegmentMetadata} for the Segment.
+     * @param fromId   The smallest Attribute Id to include.
+     * @param toId     The largest Attribute Id to include.
+     * @param reverse  If true, Attributes are returned in descending order. The given indexIterator must return its
+     *                 Attributes in the same order.
+     */
+    SegmentAttributeIterator(@NonNull AttributeIterator indexIterator, @NonNull SegmentMetadata metadata, @NonNull AttributeId fromId,
+                             @NonNull AttributeId toId, boolean reverse) {
         this.indexIterator = indexIterator;
+        this.order = reverse ? Comparator.reverseOrder() : Comparator.naturalOrder();
 
         // Collect eligible attributes from the Metadata into a Dequeue (we need to be able to peek).
         // We need to use SegmentMetadata.getAttributes(BiPredicate) since that will perform the filtering while holding
@@ -76,7 +94,7 @@ class SegmentAttributeIterator implements AttributeIterator {
         this.metadataAttributes = metadata
                 .getAttributes((key, value) -> !Attributes.isCoreAttribute(key) && fromId.compareTo(key) <= 0 && toId.compareTo(key) >= 0)
                 .entrySet().stream()
-                .sorted(Map.Entry.comparingByKey(AttributeId::compareTo))
+                .sorted(Map.Entry.comparingByKey(this.order))
                 .collect(Collectors.toCollection(ArrayDeque::new));
         this.fromId = fromId;
         this.toId = toId;
@@ -100,14 +118,14 @@ class SegmentAttributeIterator implements AttributeIterator {
      *
      * The mixing algorithm works along these lines:
      * - Each entry (Attribute) in the given Iterator is considered.
-     * - All non-deleted Attributes from the {@link SegmentMetadata} that are smaller than the one from the current entry
-     * will be added.
+     * - All non-deleted Attributes from the {@link SegmentMetadata} that precede the one from the current entry (in
+     * iteration order) will be added.
      * - The entry will be added only if there is no corresponding updated value for its Attribute Id in the {@link SegmentMetadata},
      * If there is, then the updated value is used.
      *
      * @param indexAttributes A List containing pairs of AttributeId to Long representing the base Attributes (i.e., from the
-     *                        SegmentAttributeIndex. This iterator must return the pairs in their natural order based on
-     *                        the {@link AttributeId#compareTo} comparer.
+     *                        SegmentAttributeIndex. This iterator must return the pairs in iteration order (natural
+     *                        order based on the {@link AttributeId#compareTo} comparer, or its reverse).
      * @return A List of Map Entries (AttributeId to Long) containing all the Attributes from the index, mixed with the appropriate
      * Attributes from the {@link SegmentMetadata} passed to this class' constructor. This will return null if both
      * indexAttributes is null and there are no more Attributes to process from the {@link SegmentMetadata}.
@@ -129,12 +147,12 @@ class SegmentAttributeIterator implements AttributeIterator {
             for (val idxAttribute : indexAttributes) {
                 checkIndexAttribute(idxAttribute.getKey());
 
-                // Find all metadata attributes that are smaller or the same as the base attribute and include them all.
+                // Find all metadata attributes that precede or are the same as the base attribute and include them all.
                 // This also handles value overrides (metadata attributes, if present, always have the latest value).
                 AttributeId lastMetadataAttribute = null;
                 synchronized (this.metadataAttributes) {
                     while (!this.metadataAttributes.isEmpty()
-                            && this.metadataAttributes.peekFirst().getKey().compareTo(idxAttribute.getKey()) <= 0) {
+                            && this.order.compare(this.metadataAttributes.peekFirst().getKey(), idxAttribute.getKey()) <= 0) {
                         lastMetadataAttribute = include(this.metadataAttributes.removeFirst(), result);
                     }
                 }
@@ -161,8 +179,8 @@ class SegmentAttributeIterator implements AttributeIterator {
     private void checkIndexAttribute(AttributeId attributeId) {
         AttributeId prevId = this.lastIndexAttribute.get();
         if (prevId != null) {
-            Preconditions.checkArgument(prevId.compareTo(attributeId) < 0,
-                    "baseIterator did not return Attributes in order. Expected at greater than {%s}, found {%s}.", prevId, attributeId);
+            Preconditions.checkArgument(this.order.compare(prevId, attributeId) < 0,
+                    "baseIterator did not return Attributes in order. Expected after {%s}, found {%s}.", prevId, attributeId);
         }
 
         Preconditions.checkArgument(this.fromId.compareTo(attributeId) <= 0 && this.toId.compareTo(attributeId) >= 0,
@@ -1194,11 +1194,11 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
         });
     }
 
-    private CompletableFuture<AttributeIterator> attributeIterator(long segmentId, AttributeId fromId, AttributeId toId, Duration timeout) {
+    private CompletableFuture<AttributeIterator> attributeIterator(long segmentId, AttributeId fromId, AttributeId toId, boolean reverse, Duration timeout) {
         return this.attributeIndex.forSegment(segmentId, timeout)
                 .thenApplyAsync(index -> {
-                    AttributeIterator indexIterator = index.iterator(fromId, toId, timeout);
-                    return new SegmentAttributeIterator(indexIterator, this.metadata.getStreamSegmentMetadata(segmentId), fromId, toId);
+                    AttributeIterator indexIterator = index.iterator(fromId, toId, reverse, timeout);
+                    return new SegmentAttributeIterator(indexIterator, this.metadata.getStreamSegmentMetadata(segmentId), fromId, toId, reverse);
                 }, this.executor);
     }
 
@@ -1395,10 +1395,10 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
         }
 
         @Override
-        public CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, Duration timeout) {
+        public CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, boolean reverse, Duration timeout) {
             ensureRunning();
-            logRequest("attributeIterator", this.segmentId, fromId, toId);
-            return StreamSegmentContainer.this.attributeIterator(this.segmentId, fromId, toId, timeout);
+            logRequest("attributeIterator", this.segmentId, fromId, toId, reverse);
+            return StreamSegmentContainer.this.attributeIterator(this.segmentId, fromId, toId, reverse, timeout);
         }
 
         @Override
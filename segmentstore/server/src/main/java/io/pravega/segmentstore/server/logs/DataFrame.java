@@ -18,17 +18,21 @@ package io.pravega.segmentstore.server.logs;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
+import io.pravega.common.Timer;
 import io.pravega.common.io.BoundedInputStream;
 import io.pravega.common.io.SerializationException;
+import io.pravega.common.io.StreamHelpers;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.CloseableIterator;
 import io.pravega.common.util.CompositeArrayView;
 import io.pravega.common.util.CompositeByteArraySegment;
 import io.pravega.segmentstore.storage.LogAddress;
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +42,10 @@ import lombok.SneakyThrows;
 /**
  * Helps serialize entries into fixed-size batches. Allows writing multiple records per frame, as well as splitting a record
  * across multiple frames.
+ *
+ * The contents of a sealed frame may optionally be compressed (see {@link #compress}). The {@link DataFrameCompression}
+ * codec is recorded in the frame header flags, and compressed contents are prefixed by their uncompressed length. Frames
+ * that have no codec recorded (including all frames written before compression was supported) are read as-is.
  */
 @NotThreadSafe
 public class DataFrame {
@@ -59,6 +67,20 @@ public class DataFrame {
     @Setter
     private LogAddress address;
 
+    /**
+     * The length of the frame before compression. If the frame is not compressed, this is the same as {@link #getLength()}.
+     * This value is not serialized with the data frame.
+     */
+    @Getter
+    private int uncompressedLength;
+
+    /**
+     * The amount of time, in nanoseconds, spent compressing this frame (0 if the frame is not compressed).
+     * This value is not serialized with the data frame.
+     */
+    @Getter
+    private long compressionNanos;
+
     private int writeEntryStartIndex;
     private WriteEntryHeader writeEntryHeader;
     private int writePosition;
@@ -318,7 +340,48 @@ public class DataFrame {
             this.header.setContentLength(writePosition);
             this.header.commit();
             this.sealed = true;
+            this.uncompressedLength = getLength();
+        }
+    }
+
+    /**
+     * Creates a new DataFrame with the contents of this DataFrame compressed using the given codec. This DataFrame must
+     * be sealed and must not be compressed already.
+     *
+     * @param compression The {@link DataFrameCompression} to use.
+     * @return A new, sealed, DataFrame with the compressed contents, or null if the compressed frame would not be smaller
+     * than this one.
+     * @throws IllegalStateException If this DataFrame is not sealed or it is already compressed.
+     */
+    DataFrame compress(DataFrameCompression compression) {
+        Preconditions.checkState(this.sealed, "Cannot compress a non-sealed DataFrame.");
+        Preconditions.checkState(this.header.getCompression() == DataFrameCompression.NONE, "DataFrame is already compressed.");
+        Preconditions.checkArgument(compression != DataFrameCompression.NONE, "compression");
+        Timer timer = new Timer();
+
+        // The compressed contents are made of the uncompressed length, followed by the compressed data. We only accept
+        // the result if it is strictly smaller than the original contents.
+        int contentLength = this.header.getContentLength();
+        if (contentLength <= Integer.BYTES) {
+            return null;
+        }
+
+        byte[] target = new byte[FrameHeader.SERIALIZATION_LENGTH + contentLength - 1];
+        int compressedLength = compression.compress(this.contents.slice(0, contentLength), target,
+                FrameHeader.SERIALIZATION_LENGTH + Integer.BYTES);
+        if (compressedLength < 0) {
+            return null;
         }
+
+        DataFrame result = new DataFrame(new CompositeByteArraySegment(target));
+        result.contents.setInt(0, contentLength);
+        result.header.setCompression(compression);
+        result.header.setContentLength(Integer.BYTES + compressedLength);
+        result.header.commit();
+        result.sealed = true;
+        result.uncompressedLength = getLength();
+        result.compressionNanos = timer.getElapsedNanos();
+        return result;
     }
 
     /**
@@ -344,10 +407,12 @@ public class DataFrame {
      * @param source  The InputStream to read from.
      * @param length  The size of the inputStream.
      * @param address The DataFrame's address.
+     * @param maxFrameLength The maximum length of a DataFrame. Compressed frames that claim to have more contents than
+     *                       this are rejected as corrupt.
      * @return A new DataFrameEntryIterator.
      * @throws IOException If unable to parse the DataFrame's header from the InputStream.
      */
-    public static DataFrameEntryIterator read(InputStream source, int length, LogAddress address) throws IOException {
+    public static DataFrameEntryIterator read(InputStream source, int length, LogAddress address, int maxFrameLength) throws IOException {
         // Check to see that we have enough bytes in the InputStream.
         ReadFrameHeader header = new ReadFrameHeader(source);
         if (length < ReadFrameHeader.SERIALIZATION_LENGTH + header.getContentLength()) {
@@ -356,9 +421,34 @@ public class DataFrame {
         }
 
         BoundedInputStream contents = new BoundedInputStream(source, header.getContentLength());
+        if (header.getCompression() != DataFrameCompression.NONE) {
+            contents = decompress(contents, header.getCompression(), maxFrameLength);
+        }
+
         return new DataFrameEntryIterator(contents, address, ReadFrameHeader.SERIALIZATION_LENGTH);
     }
 
+    private static BoundedInputStream decompress(BoundedInputStream compressedContents, DataFrameCompression compression,
+                                                 int maxFrameLength) throws IOException {
+        if (compressedContents.getBound() < Integer.BYTES) {
+            throw new SerializationException(String.format("Compressed DataFrame has insufficient number of bytes (%d).",
+                    compressedContents.getBound()));
+        }
+
+        int uncompressedLength = BitConverter.readInt(compressedContents);
+        if (uncompressedLength < 0 || uncompressedLength > maxFrameLength) {
+            // Check before allocating the buffer, as a corrupted length may be as large as 2GB.
+            throw new SerializationException(String.format("Compressed DataFrame has invalid uncompressed length (%d). Maximum frame length is %d.",
+                    uncompressedLength, maxFrameLength));
+        }
+
+        byte[] compressed = StreamHelpers.readAll(compressedContents, compressedContents.getRemaining());
+        compressedContents.close();
+        byte[] uncompressed = new byte[uncompressedLength];
+        compression.decompress(ByteBuffer.wrap(compressed), uncompressed);
+        return new BoundedInputStream(new ByteArrayInputStream(uncompressed), uncompressedLength);
+    }
+
     //endregion
 
     //region EntryHeader
@@ -439,6 +529,7 @@ public class DataFrame {
      */
     private static abstract class FrameHeader {
         static final int SERIALIZATION_LENGTH = Byte.BYTES + Integer.BYTES + Byte.BYTES;
+        static final byte COMPRESSION_MASK = 0x0F;
         /**
          * The serialization Version for the frame.
          */
@@ -453,18 +544,24 @@ public class DataFrame {
         @Setter
         private int contentLength;
 
+        /**
+         * The {@link DataFrameCompression} codec used to compress the Frame's contents.
+         */
+        @Getter
+        @Setter
+        private DataFrameCompression compression = DataFrameCompression.NONE;
+
         byte encodeFlags() {
-            // Placeholder method. Nothing to do yet.
-            return 0;
+            return (byte) (getCompression().getId() & COMPRESSION_MASK);
         }
 
-        void decodeFlags(byte flags, byte version) {
-            // Placeholder method. Nothing to do yet.
+        void decodeFlags(byte flags, byte version) throws SerializationException {
+            setCompression(DataFrameCompression.fromId((byte) (flags & COMPRESSION_MASK)));
         }
 
         @Override
         public String toString() {
-            return String.format("Version = %d, ContentLength = %d", getVersion(), getContentLength());
+            return String.format("Version = %d, ContentLength = %d, Compression = %s", getVersion(), getContentLength(), getCompression());
         }
     }
 
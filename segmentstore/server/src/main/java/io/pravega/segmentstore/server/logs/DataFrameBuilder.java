@@ -33,7 +33,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -74,7 +74,8 @@ public class DataFrameBuilder<T extends SequencedElement> implements AutoCloseab
         this.args = Preconditions.checkNotNull(args, "args");
         Preconditions.checkNotNull(args.commitSuccess, "args.commitSuccess");
         Preconditions.checkNotNull(args.commitFailure, "args.commitFailure");
-        this.outputStream = new DataFrameOutputStream(targetLog.getWriteSettings().getMaxWriteLength(), this::handleDataFrameComplete);
+        this.outputStream = new DataFrameOutputStream(targetLog.getWriteSettings().getMaxWriteLength(), args.compression,
+                args.compressionMinFrameSize, this::handleDataFrameComplete);
         this.lastSerializedSequenceNumber = -1;
         this.lastStartedSequenceNumber = -1;
         this.failureCause = new AtomicReference<>();
@@ -184,7 +185,8 @@ public class DataFrameBuilder<T extends SequencedElement> implements AutoCloseab
         Exceptions.checkArgument(dataFrame.isSealed(), "dataFrame", "Cannot publish a non-sealed DataFrame.");
 
         // Write DataFrame to DataFrameLog.
-        CommitArgs commitArgs = new CommitArgs(this.lastSerializedSequenceNumber, this.lastStartedSequenceNumber, dataFrame.getLength());
+        CommitArgs commitArgs = new CommitArgs(this.lastSerializedSequenceNumber, this.lastStartedSequenceNumber, dataFrame.getLength(),
+                dataFrame.getUncompressedLength(), dataFrame.getCompressionNanos());
 
         try {
             this.args.beforeCommit.accept(commitArgs);
@@ -254,6 +256,19 @@ public class DataFrameBuilder<T extends SequencedElement> implements AutoCloseab
         @Getter
         private final int dataFrameLength;
 
+        /**
+         * The length of the DataFrame that was just committed, prior to compression. If the DataFrame was not compressed,
+         * this is the same as {@link #getDataFrameLength()}.
+         */
+        @Getter
+        private final int uncompressedDataFrameLength;
+
+        /**
+         * The amount of time, in nanoseconds, spent compressing the DataFrame that was just committed (0 if not compressed).
+         */
+        @Getter
+        private final long compressionNanos;
+
         @Getter
         @Setter
         private long metadataTransactionId;
@@ -268,14 +283,19 @@ public class DataFrameBuilder<T extends SequencedElement> implements AutoCloseab
          * @param lastFullySerializedSequenceNumber The Sequence Number of the last LogItem that was fully serialized (and committed).
          * @param lastStartedSequenceNumber         The Sequence Number of the last LogItem that was started (but not necessarily committed).
          * @param dataFrameLength                   The length of the DataFrame that is to be committed.
+         * @param uncompressedDataFrameLength       The length of the DataFrame that is to be committed, prior to compression.
+         * @param compressionNanos                  The time, in nanoseconds, spent compressing the DataFrame.
          */
-        private CommitArgs(long lastFullySerializedSequenceNumber, long lastStartedSequenceNumber, int dataFrameLength) {
+        private CommitArgs(long lastFullySerializedSequenceNumber, long lastStartedSequenceNumber, int dataFrameLength,
+                           int uncompressedDataFrameLength, long compressionNanos) {
             assert lastFullySerializedSequenceNumber <= lastStartedSequenceNumber : "lastFullySerializedSequenceNumber (" +
                     lastFullySerializedSequenceNumber + ") is greater than lastStartedSequenceNumber (" + lastStartedSequenceNumber + ")";
 
             this.lastFullySerializedSequenceNumber = lastFullySerializedSequenceNumber;
             this.lastStartedSequenceNumber = lastStartedSequenceNumber;
             this.dataFrameLength = dataFrameLength;
+            this.uncompressedDataFrameLength = uncompressedDataFrameLength;
+            this.compressionNanos = compressionNanos;
             this.logAddress = new AtomicReference<>();
         }
 
@@ -301,7 +321,6 @@ public class DataFrameBuilder<T extends SequencedElement> implements AutoCloseab
 
     //region Args
 
-    @RequiredArgsConstructor
     public static class Args {
         /**
          * A Callback that will be invoked synchronously upon a DataFrame's sealing, and right before it is about to be
@@ -326,6 +345,49 @@ public class DataFrameBuilder<T extends SequencedElement> implements AutoCloseab
         final BiConsumer<Throwable, CommitArgs> commitFailure;
         final Executor executor;
         final Duration writeTimeout = Duration.ofSeconds(30); // TODO: actual timeout.
+
+        /**
+         * The {@link DataFrameCompression} to apply to DataFrames before committing them.
+         */
+        final DataFrameCompression compression;
+
+        /**
+         * The minimum length of a DataFrame for it to be compressed.
+         */
+        final int compressionMinFrameSize;
+
+        /**
+         * Creates a new instance of the Args class, with no DataFrame compression.
+         *
+         * @param beforeCommit  A Callback that will be invoked right before a DataFrame is committed.
+         * @param commitSuccess A Callback that will be invoked upon every successful commit of a DataFrame.
+         * @param commitFailure A Callback that will be invoked upon a failed commit of a DataFrame.
+         * @param executor      An Executor to invoke callbacks on.
+         */
+        public Args(Consumer<CommitArgs> beforeCommit, Consumer<CommitArgs> commitSuccess, BiConsumer<Throwable, CommitArgs> commitFailure,
+                    Executor executor) {
+            this(beforeCommit, commitSuccess, commitFailure, executor, DataFrameCompression.NONE, 0);
+        }
+
+        /**
+         * Creates a new instance of the Args class.
+         *
+         * @param beforeCommit            A Callback that will be invoked right before a DataFrame is committed.
+         * @param commitSuccess           A Callback that will be invoked upon every successful commit of a DataFrame.
+         * @param commitFailure           A Callback that will be invoked upon a failed commit of a DataFrame.
+         * @param executor                An Executor to invoke callbacks on.
+         * @param compression             The {@link DataFrameCompression} to apply to DataFrames.
+         * @param compressionMinFrameSize The minimum length of a DataFrame for it to be compressed.
+         */
+        public Args(Consumer<CommitArgs> beforeCommit, Consumer<CommitArgs> commitSuccess, BiConsumer<Throwable, CommitArgs> commitFailure,
+                    Executor executor, @NonNull DataFrameCompression compression, int compressionMinFrameSize) {
+            this.beforeCommit = beforeCommit;
+            this.commitSuccess = commitSuccess;
+            this.commitFailure = commitFailure;
+            this.executor = executor;
+            this.compression = compression;
+            this.compressionMinFrameSize = compressionMinFrameSize;
+        }
     }
 
     //endregion
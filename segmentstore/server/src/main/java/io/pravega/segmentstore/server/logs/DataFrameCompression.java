@@ -0,0 +1,137 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.io.SerializationException;
+import io.pravega.common.util.BufferView;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.Getter;
+
+/**
+ * Defines the compression codecs that can be applied to the contents of a {@link DataFrame}. The codec used for a
+ * {@link DataFrame} is encoded in its header, so any {@link DataFrame} can be read back regardless of the codec
+ * currently configured.
+ */
+public enum DataFrameCompression {
+    /**
+     * No compression.
+     */
+    NONE((byte) 0, 0),
+    /**
+     * Deflate, tuned for speed.
+     */
+    DEFLATE_FAST((byte) 1, Deflater.BEST_SPEED),
+    /**
+     * Deflate, tuned for compression ratio.
+     */
+    DEFLATE((byte) 2, Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * The identifier of this codec, as serialized in the {@link DataFrame} header.
+     */
+    @Getter
+    private final byte id;
+    private final int level;
+
+    DataFrameCompression(byte id, int level) {
+        this.id = id;
+        this.level = level;
+    }
+
+    /**
+     * Gets the {@link DataFrameCompression} with the given identifier.
+     *
+     * @param id The identifier.
+     * @return The {@link DataFrameCompression}.
+     * @throws SerializationException If the identifier does not map to any known codec.
+     */
+    static DataFrameCompression fromId(byte id) throws SerializationException {
+        for (DataFrameCompression c : values()) {
+            if (c.id == id) {
+                return c;
+            }
+        }
+
+        throw new SerializationException(String.format("Unsupported DataFrame compression codec %d.", id));
+    }
+
+    /**
+     * Compresses the given {@link BufferView} into the given array.
+     *
+     * @param source       The {@link BufferView} to compress.
+     * @param target       The array to write the compressed data into.
+     * @param targetOffset The offset within the target array to begin writing at.
+     * @return The number of bytes written to target, or -1 if the compressed data did not fit into target.
+     */
+    int compress(BufferView source, byte[] target, int targetOffset) {
+        assert this != NONE;
+        Deflater deflater = new Deflater(this.level);
+        try {
+            int[] position = new int[]{targetOffset};
+            source.collect(buffer -> {
+                deflater.setInput(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                while (!deflater.needsInput() && position[0] < target.length) {
+                    position[0] += deflater.deflate(target, position[0], target.length - position[0]);
+                }
+            });
+
+            deflater.finish();
+            while (!deflater.finished() && position[0] < target.length) {
+                position[0] += deflater.deflate(target, position[0], target.length - position[0]);
+            }
+
+            return deflater.finished() ? position[0] - targetOffset : -1;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses the given data into the given array.
+     *
+     * @param source The data to decompress.
+     * @param target The array to decompress into. The decompressed data must fill this array exactly.
+     * @throws SerializationException If the data could not be decompressed or if the decompressed length differs from
+     *                                the length of target.
+     */
+    void decompress(ByteBuffer source, byte[] target) throws SerializationException {
+        assert this != NONE;
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            int length = 0;
+            while (length < target.length && !inflater.finished()) {
+                int count = inflater.inflate(target, length, target.length - length);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += count;
+            }
+
+            if (length != target.length || !inflater.finished()) {
+                throw new SerializationException(String.format("Unable to decompress DataFrame (%s). Expected %d bytes, decompressed %d.",
+                        this, target.length, length));
+            }
+        } catch (DataFormatException ex) {
+            throw new SerializationException(String.format("Unable to decompress DataFrame (%s).", this), ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class DataFrameInputStream extends InputStream {
 
     private final String traceObjectId;
     private final CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader;
+    private final int maxFrameLength;
     private DataFrame.DataFrameEntryIterator currentFrameContents;
     private DataFrame.DataFrameEntry currentEntry;
     private long lastReadFrameSequence;
@@ -73,11 +74,14 @@ public class DataFrameInputStream extends InputStream {
     /**
      * Creates a new instance of the DataFrameInputStream class.
      *
-     * @param reader        An Iterator that produces DurableDataLog.ReadItems, which are then interpreted as DataFrames.
-     * @param traceObjectId Used for logging.
+     * @param reader         An Iterator that produces DurableDataLog.ReadItems, which are then interpreted as DataFrames.
+     * @param maxFrameLength The maximum length of a DataFrame (the maximum write length of the DurableDataLog).
+     * @param traceObjectId  Used for logging.
      */
-    DataFrameInputStream(CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader, String traceObjectId) {
+    DataFrameInputStream(CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> reader, int maxFrameLength, String traceObjectId) {
         this.reader = Preconditions.checkNotNull(reader, "reader");
+        Preconditions.checkArgument(maxFrameLength > 0, "maxFrameLength must be a positive integer.");
+        this.maxFrameLength = maxFrameLength;
         this.traceObjectId = Exceptions.checkNotNullOrEmpty(traceObjectId, "traceObjectId");
         this.lastReadFrameSequence = -1;
         this.currentRecordBuilder = DataFrameRecord.RecordInfo.builder();
@@ -321,7 +325,7 @@ public class DataFrameInputStream extends InputStream {
 
         DataFrame.DataFrameEntryIterator frameContents;
         try {
-            frameContents = DataFrame.read(nextItem.getPayload(), nextItem.getLength(), nextItem.getAddress());
+            frameContents = DataFrame.read(nextItem.getPayload(), nextItem.getLength(), nextItem.getAddress(), this.maxFrameLength);
         } catch (SerializationException ex) {
             throw new SerializationException(String.format("Unable to deserialize DataFrame. LastReadFrameSequence =  %d.",
                     this.lastReadFrameSequence), ex);
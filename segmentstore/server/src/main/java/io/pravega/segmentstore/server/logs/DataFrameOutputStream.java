@@ -26,6 +26,7 @@ import java.io.OutputStream;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
+import lombok.NonNull;
 
 /**
  * An OutputStream that abstracts writing to Data Frames. Allows writing arbitrary bytes, and seamlessly transitions
@@ -43,6 +44,8 @@ class DataFrameOutputStream extends OutputStream implements DirectDataOutput {
     @Getter
     private boolean closed;
     private final int maxDataFrameSize;
+    private final DataFrameCompression compression;
+    private final int compressionMinFrameSize;
 
     //endregion
 
@@ -57,10 +60,29 @@ class DataFrameOutputStream extends OutputStream implements DirectDataOutput {
      * @throws NullPointerException     If any of the arguments are null.
      */
     DataFrameOutputStream(int maxDataFrameSize, Consumer<DataFrame> dataFrameCompleteCallback) {
+        this(maxDataFrameSize, DataFrameCompression.NONE, 0, dataFrameCompleteCallback);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameOutputStream class.
+     *
+     * @param maxDataFrameSize          The maximum size, in bytes, of a Data Frame.
+     * @param compression               The {@link DataFrameCompression} to apply to sealed Data Frames.
+     * @param compressionMinFrameSize   The minimum size, in bytes, of a Data Frame for it to be compressed. Smaller
+     *                                  Data Frames are passed on uncompressed.
+     * @param dataFrameCompleteCallback A callback that will be invoked when a Data Frame is full.
+     * @throws IllegalArgumentException If maxDataFrameSize is not a positive integer or compressionMinFrameSize is negative.
+     * @throws NullPointerException     If any of the arguments are null.
+     */
+    DataFrameOutputStream(int maxDataFrameSize, @NonNull DataFrameCompression compression, int compressionMinFrameSize,
+                          Consumer<DataFrame> dataFrameCompleteCallback) {
         Exceptions.checkArgument(maxDataFrameSize > DataFrame.MIN_ENTRY_LENGTH_NEEDED, "maxDataFrameSize",
                 "Must be a at least %s.", DataFrame.MIN_ENTRY_LENGTH_NEEDED);
+        Preconditions.checkArgument(compressionMinFrameSize >= 0, "compressionMinFrameSize must be a non-negative number.");
 
         this.maxDataFrameSize = maxDataFrameSize;
+        this.compression = compression;
+        this.compressionMinFrameSize = compressionMinFrameSize;
         this.dataFrameCompleteCallback = Preconditions.checkNotNull(dataFrameCompleteCallback, "dataFrameCompleteCallback");
     }
 
@@ -190,7 +212,7 @@ class DataFrameOutputStream extends OutputStream implements DirectDataOutput {
         // Invoke the callback. At the end of this, the frame is committed so we can get rid of it.
         if (!this.currentFrame.isEmpty()) {
             // Only flush something if it's not empty.
-            this.dataFrameCompleteCallback.accept(this.currentFrame);
+            this.dataFrameCompleteCallback.accept(compressIfNeeded(this.currentFrame));
         }
 
         reset();
@@ -277,6 +299,16 @@ class DataFrameOutputStream extends OutputStream implements DirectDataOutput {
         this.hasDataInCurrentFrame = false;
     }
 
+    private DataFrame compressIfNeeded(DataFrame frame) {
+        if (this.compression == DataFrameCompression.NONE || frame.getLength() < this.compressionMinFrameSize) {
+            return frame;
+        }
+
+        // If compression does not yield a smaller frame, write the original one out.
+        DataFrame compressed = frame.compress(this.compression);
+        return compressed == null ? frame : compressed;
+    }
+
     private void startNewRecordInCurrentFrame(boolean firstRecordEntry) throws SerializationException {
         if (!this.currentFrame.startNewEntry(firstRecordEntry)) {
             throw new SerializationException("Unable to start a new record.");
@@ -83,11 +83,27 @@ class DataFrameReader<T extends SequencedElement> implements CloseableIterator<D
      * @throws DurableDataLogException If the given log threw an exception while initializing a Reader.
      */
     DataFrameReader(DurableDataLog log, Serializer<T> serializer, int containerId, int maxOverlapToCheckForDuplicates) throws DurableDataLogException {
-        Preconditions.checkNotNull(log, "log");
+        this(Preconditions.checkNotNull(log, "log").getReader(), log.getWriteSettings().getMaxWriteLength(), serializer, containerId,
+                maxOverlapToCheckForDuplicates);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameReader class.
+     *
+     * @param logReader      An Iterator that produces DurableDataLog.ReadItems to read data frames from.
+     * @param maxFrameLength The maximum length of a data frame (the maximum write length of the DurableDataLog).
+     * @param serializer A Serializer to create LogItems upon deserialization.
+     * @param containerId    The Container Id for the DataFrameReader (used primarily for logging).
+     * @param maxOverlapToCheckForDuplicates Max number of log items to keep track of to check for duplicates.
+     * @throws NullPointerException    If any of the arguments are null.
+     */
+    DataFrameReader(CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> logReader, int maxFrameLength,
+                    Serializer<T> serializer, int containerId, int maxOverlapToCheckForDuplicates) {
+        Preconditions.checkNotNull(logReader, "logReader");
         Preconditions.checkNotNull(serializer, "serializer");
         this.lastReadSequenceNumber = Operation.NO_SEQUENCE_NUMBER;
         this.traceObjectId = String.format("DataFrameReader[%d]", containerId);
-        this.dataFrameInputStream = new DataFrameInputStream(log.getReader(), this.traceObjectId);
+        this.dataFrameInputStream = new DataFrameInputStream(logReader, maxFrameLength, this.traceObjectId);
         this.serializer = serializer;
         this.maxOverlapToCheckForDuplicates = maxOverlapToCheckForDuplicates;
     }
@@ -79,6 +79,7 @@ public class DurableLog extends AbstractService implements OperationLog {
     private final ScheduledExecutorService executor;
     private final AtomicReference<Throwable> stopException = new AtomicReference<>();
     private final AtomicBoolean closed;
+    private final int recoveryPipelineQueueSize;
     private final CompletableFuture<Void> delayedStart;
     private final Retry.RetryAndThrowConditionally delayedStartRetry;
 
@@ -111,9 +112,11 @@ public class DurableLog extends AbstractService implements OperationLog {
         this.memoryStateUpdater = new MemoryStateUpdater(this.inMemoryOperationLog, readIndex);
         MetadataCheckpointPolicy checkpointPolicy = new MetadataCheckpointPolicy(config, this::queueMetadataCheckpoint, this.executor);
         ThrottlerPolicy throttlerPolicy = new ThrottlerPolicy(config);
-        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy, throttlerPolicy, executor);
+        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy, throttlerPolicy,
+                config.getDataFrameCompression(), config.getDataFrameCompressionMinLength(), executor);
         Services.onStop(this.operationProcessor, this::queueStoppedHandler, this::queueFailedHandler, this.executor);
         this.closed = new AtomicBoolean();
+        this.recoveryPipelineQueueSize = config.getRecoveryPipelineQueueSize();
         this.delayedStart = new CompletableFuture<>();
         this.delayedStartRetry = Retry.withExpBackoff(config.getStartRetryDelay().toMillis(), 1, Integer.MAX_VALUE)
                                       .retryWhen(ex -> Exceptions.unwrap(ex) instanceof DataLogDisabledException);
@@ -221,7 +224,7 @@ public class DurableLog extends AbstractService implements OperationLog {
             this.durableDataLog.initialize(DEFAULT_TIMEOUT);
 
             // Initiate the recovery.
-            RecoveryProcessor p = new RecoveryProcessor(this.metadata, this.durableDataLog, this.memoryStateUpdater);
+            RecoveryProcessor p = new RecoveryProcessor(this.metadata, this.durableDataLog, this.memoryStateUpdater, this.recoveryPipelineQueueSize);
             int recoveredItemCount = p.performRecovery();
             this.operationProcessor.getMetrics().operationsCompleted(recoveredItemCount, timer.getElapsed());
             this.operationProcessor.getMetrics().reportOperationLogSize(recoveredItemCount, this.getId());
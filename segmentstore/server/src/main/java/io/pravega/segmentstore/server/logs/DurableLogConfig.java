@@ -34,9 +34,13 @@ public class DurableLogConfig {
     public static final Property<Long> CHECKPOINT_TOTAL_COMMIT_LENGTH = Property.named("checkpoint.commit.length.total", 256 * 1024 * 1024L, "checkpointTotalCommitLengthThreshold");
     public static final Property<Integer> START_RETRY_DELAY_MILLIS = Property.named("start.retry.delay.millis", 60 * 1000, "startRetryDelayMillis");
     public static final Property<Integer> MAX_BATCHING_DELAY_MILLIS = Property.named("throttler.max.batching.delay.millis", 50);
+    public static final Property<Integer> BATCHING_TARGET_LATENCY_MILLIS = Property.named("throttler.batching.latency.target.millis", 0);
     public static final Property<Integer> MAX_DELAY_MILLIS = Property.named("throttler.max.delay.millis", 25000);
     public static final Property<Integer> OPERATION_LOG_TARGET_SIZE = Property.named("throttler.operation.log.size.target", (int) (1_000_000 * 0.95));
     public static final Property<Integer> OPERATION_LOG_MAX_SIZE = Property.named("throttler.operation.log.size.max", 1_000_000);
+    public static final Property<DataFrameCompression> DATA_FRAME_COMPRESSION = Property.named("dataframe.compression", DataFrameCompression.NONE);
+    public static final Property<Integer> DATA_FRAME_COMPRESSION_MIN_LENGTH = Property.named("dataframe.compression.length.min", 4 * 1024);
+    public static final Property<Integer> RECOVERY_PIPELINE_QUEUE_SIZE = Property.named("recovery.pipeline.queue.size", 0);
     private static final String COMPONENT_CODE = "durablelog";
 
     //endregion
@@ -73,6 +77,13 @@ public class DurableLogConfig {
     @Getter
     private final int maxBatchingDelayMillis;
 
+    /**
+     * Target write latency (millis) for adaptive batching. If 0, adaptive batching is disabled and batching delays are
+     * based solely on DurableDataLog statistics (capped at {@link #getMaxBatchingDelayMillis()}).
+     */
+    @Getter
+    private final int batchingTargetLatencyMillis;
+
     /**
      * Maximum delay (millis) we are willing to introduce in order to throttle the incoming operations.
      */
@@ -91,6 +102,25 @@ public class DurableLogConfig {
     @Getter
     private final int operationLogTargetSize;
 
+    /**
+     * The {@link DataFrameCompression} to apply to DataFrames written to the DurableDataLog.
+     */
+    @Getter
+    private final DataFrameCompression dataFrameCompression;
+
+    /**
+     * The minimum length (in bytes) of a DataFrame for it to be compressed. Smaller DataFrames are written uncompressed.
+     */
+    @Getter
+    private final int dataFrameCompressionMinLength;
+
+    /**
+     * The maximum number of items each recovery stage (fetch, decode, apply) may get ahead of the next one. If 0,
+     * recovery stages are executed sequentially.
+     */
+    @Getter
+    private final int recoveryPipelineQueueSize;
+
     //endregion
 
     //region Constructor
@@ -118,6 +148,10 @@ public class DurableLogConfig {
 
         // Throttler configuration.
         this.maxBatchingDelayMillis = properties.getPositiveInt(MAX_BATCHING_DELAY_MILLIS);
+        this.batchingTargetLatencyMillis = properties.getInt(BATCHING_TARGET_LATENCY_MILLIS);
+        if (this.batchingTargetLatencyMillis < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", BATCHING_TARGET_LATENCY_MILLIS));
+        }
         this.maxDelayMillis = properties.getPositiveInt(MAX_DELAY_MILLIS);
         this.operationLogMaxSize = properties.getPositiveInt(OPERATION_LOG_MAX_SIZE);
         this.operationLogTargetSize = properties.getPositiveInt(OPERATION_LOG_TARGET_SIZE);
@@ -126,6 +160,19 @@ public class DurableLogConfig {
                     OPERATION_LOG_TARGET_SIZE, this.operationLogTargetSize,
                     OPERATION_LOG_MAX_SIZE, this.operationLogMaxSize));
         }
+
+        // DataFrame compression.
+        this.dataFrameCompression = properties.getEnum(DATA_FRAME_COMPRESSION, DataFrameCompression.class);
+        this.dataFrameCompressionMinLength = properties.getInt(DATA_FRAME_COMPRESSION_MIN_LENGTH);
+        if (this.dataFrameCompressionMinLength < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", DATA_FRAME_COMPRESSION_MIN_LENGTH));
+        }
+
+        // Recovery.
+        this.recoveryPipelineQueueSize = properties.getInt(RECOVERY_PIPELINE_QUEUE_SIZE);
+        if (this.recoveryPipelineQueueSize < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", RECOVERY_PIPELINE_QUEUE_SIZE));
+        }
     }
 
     /**
@@ -0,0 +1,133 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * Keeps track of the rate (bytes per millisecond) at which data is being ingested into the OperationProcessor, as observed
+ * by the lengths of the DataFrames that it seals. The rate is maintained as an exponentially weighted moving average over
+ * fixed-size sampling intervals and is reset if no data is recorded for a prolonged period of time.
+ */
+@ThreadSafe
+class IngestionRateCalculator {
+    //region Members
+
+    /**
+     * The weight given to every new sample when updating the moving average.
+     */
+    @VisibleForTesting
+    static final double NEW_SAMPLE_WEIGHT = 0.2;
+    /**
+     * The minimum duration of a sampling interval. Recordings are accumulated until at least this much time has elapsed.
+     */
+    @VisibleForTesting
+    static final long MIN_SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    /**
+     * If no data has been recorded for at least this long, the ingestion is considered idle and the rate is reset.
+     */
+    @VisibleForTesting
+    static final long IDLE_THRESHOLD_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private final Supplier<Long> getCurrentTimeNanos;
+    @GuardedBy("this")
+    private long sampleStartNanos;
+    @GuardedBy("this")
+    private long sampleLength;
+    @GuardedBy("this")
+    private long lastRecordNanos;
+    @GuardedBy("this")
+    private double bytesPerMillis;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the IngestionRateCalculator class.
+     */
+    IngestionRateCalculator() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance of the IngestionRateCalculator class.
+     *
+     * @param getCurrentTimeNanos A Supplier that returns the current time, in nanoseconds.
+     */
+    @VisibleForTesting
+    IngestionRateCalculator(@NonNull Supplier<Long> getCurrentTimeNanos) {
+        this.getCurrentTimeNanos = getCurrentTimeNanos;
+        this.sampleStartNanos = getCurrentTimeNanos.get();
+        this.lastRecordNanos = this.sampleStartNanos;
+        this.bytesPerMillis = 0;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records that the given number of bytes has been ingested.
+     *
+     * @param length The number of bytes.
+     */
+    synchronized void record(int length) {
+        long now = this.getCurrentTimeNanos.get();
+        if (now - this.lastRecordNanos >= IDLE_THRESHOLD_NANOS) {
+            // We've been idle for a while; whatever we had computed so far is no longer relevant.
+            this.sampleStartNanos = now;
+            this.sampleLength = 0;
+            this.bytesPerMillis = 0;
+        }
+
+        this.sampleLength += length;
+        this.lastRecordNanos = now;
+        long elapsedNanos = now - this.sampleStartNanos;
+        if (elapsedNanos >= MIN_SAMPLE_INTERVAL_NANOS) {
+            double sample = (double) this.sampleLength * TimeUnit.MILLISECONDS.toNanos(1) / elapsedNanos;
+            this.bytesPerMillis = this.bytesPerMillis == 0
+                    ? sample
+                    : sample * NEW_SAMPLE_WEIGHT + this.bytesPerMillis * (1 - NEW_SAMPLE_WEIGHT);
+            this.sampleStartNanos = now;
+            this.sampleLength = 0;
+        }
+    }
+
+    /**
+     * Gets the current ingestion rate.
+     *
+     * @return The ingestion rate, in bytes per millisecond, or 0 if idle or if there is not enough information yet.
+     */
+    synchronized double getBytesPerMillis() {
+        if (this.getCurrentTimeNanos.get() - this.lastRecordNanos >= IDLE_THRESHOLD_NANOS) {
+            return 0;
+        }
+
+        return this.bytesPerMillis;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Rate = %.2f B/ms", this.bytesPerMillis);
+    }
+
+    //endregion
+}
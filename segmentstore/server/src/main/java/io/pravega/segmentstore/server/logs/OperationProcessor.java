@@ -83,6 +83,7 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
     @Getter
     private final SegmentStoreMetrics.OperationProcessor metrics;
     private final Throttler throttler;
+    private final IngestionRateCalculator ingestionRate;
     private final CacheUtilizationProvider cacheUtilizationProvider;
 
     //endregion
@@ -102,6 +103,25 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
      */
     OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog,
                        MetadataCheckpointPolicy checkpointPolicy, ThrottlerPolicy throttlerPolicy, ScheduledExecutorService executor) {
+        this(metadata, stateUpdater, durableDataLog, checkpointPolicy, throttlerPolicy, DataFrameCompression.NONE, 0, executor);
+    }
+
+    /**
+     * Creates a new instance of the OperationProcessor class.
+     *
+     * @param metadata                The ContainerMetadata for the Container to process operations for.
+     * @param stateUpdater            A MemoryStateUpdater that is used to update in-memory structures upon successful Operation committal.
+     * @param durableDataLog          The DataFrameLog to write DataFrames to.
+     * @param checkpointPolicy        The Checkpoint Policy for Metadata.
+     * @param throttlerPolicy         Configuration parameters for ThrottlerCalculator.
+     * @param compression             The {@link DataFrameCompression} to apply to DataFrames written to the DataFrameLog.
+     * @param compressionMinFrameSize The minimum size of a DataFrame for it to be compressed.
+     * @param executor                An Executor to use for async operations.
+     * @throws NullPointerException If any of the arguments are null.
+     */
+    OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog,
+                       MetadataCheckpointPolicy checkpointPolicy, ThrottlerPolicy throttlerPolicy, DataFrameCompression compression,
+                       int compressionMinFrameSize, ScheduledExecutorService executor) {
         super(String.format("OperationProcessor[%d]", metadata.getContainerId()), executor);
         Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.metadata = metadata;
@@ -110,16 +130,25 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         this.operationQueue = new PriorityBlockingDrainingQueue<>(OperationPriority.getMaxPriorityValue());
         this.commitQueue = new BlockingDrainingQueue<>();
         this.state = new QueueProcessingState(checkpointPolicy);
-        val args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor);
+        val args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor,
+                compression, compressionMinFrameSize);
         this.dataFrameBuilder = new DataFrameBuilder<>(durableDataLog, OperationSerializer.DEFAULT, args);
         this.metrics = new SegmentStoreMetrics.OperationProcessor(this.metadata.getContainerId());
         this.cacheUtilizationProvider = stateUpdater.getCacheUtilizationProvider();
-        val throttlerCalculator = ThrottlerCalculator
+        this.ingestionRate = new IngestionRateCalculator();
+        val throttlerCalculatorBuilder = ThrottlerCalculator
                 .builder()
                 .maxDelayMillis(throttlerPolicy.getMaxDelayMillis())
                 .cacheThrottler(this.cacheUtilizationProvider::getCacheUtilization, this.cacheUtilizationProvider.getCacheTargetUtilization(),
-                        this.cacheUtilizationProvider.getCacheMaxUtilization(), throttlerPolicy.getMaxDelayMillis())
-                .batchingThrottler(durableDataLog::getQueueStatistics, throttlerPolicy.getMaxBatchingDelayMillis())
+                        this.cacheUtilizationProvider.getCacheMaxUtilization(), throttlerPolicy.getMaxDelayMillis());
+        if (throttlerPolicy.getBatchingTargetLatencyMillis() > 0) {
+            throttlerCalculatorBuilder.adaptiveBatchingThrottler(durableDataLog::getQueueStatistics, this.ingestionRate::getBytesPerMillis,
+                    throttlerPolicy.getBatchingTargetLatencyMillis(), throttlerPolicy.getMaxBatchingDelayMillis());
+        } else {
+            throttlerCalculatorBuilder.batchingThrottler(durableDataLog::getQueueStatistics, throttlerPolicy.getMaxBatchingDelayMillis());
+        }
+
+        val throttlerCalculator = throttlerCalculatorBuilder
                 .durableDataLogThrottler(durableDataLog.getWriteSettings(), durableDataLog::getQueueStatistics, throttlerPolicy.getMaxDelayMillis())
                 .operationLogThrottler(this.stateUpdater::getInMemoryOperationLogSize, throttlerPolicy.getMaxDelayMillis(),
                         throttlerPolicy.getOperationLogMaxSize(), throttlerPolicy.getOperationLogTargetSize())
@@ -607,6 +636,13 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 this.nextFrameOperations = new ArrayList<>();
                 this.metadataTransactions.addLast(commitArgs);
             }
+
+            OperationProcessor.this.ingestionRate.record(commitArgs.getUncompressedDataFrameLength());
+
+            if (commitArgs.getUncompressedDataFrameLength() != commitArgs.getDataFrameLength()) {
+                metrics.dataFrameCompressed(commitArgs.getUncompressedDataFrameLength(), commitArgs.getDataFrameLength(),
+                        commitArgs.getCompressionNanos());
+            }
         }
 
         /**
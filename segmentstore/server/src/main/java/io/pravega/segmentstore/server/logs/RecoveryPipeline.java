@@ -0,0 +1,384 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.io.StreamHelpers;
+import io.pravega.common.util.CloseableIterator;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.DurableDataLogException;
+import io.pravega.segmentstore.storage.LogAddress;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads Operations from a DurableDataLog for recovery purposes, by splitting the work into the following stages, each
+ * running concurrently with the others and connected to the next one via a bounded queue:
+ * 1. Fetch: reads entries from the DurableDataLog ahead of time and copies them out of the DurableDataLog's buffers.
+ * 2. Decode: assembles the fetched entries into DataFrames, deserializes the Operations in them and pre-computes any
+ * values that are needed for applying them (such as the content hashes of recovered appends).
+ * 3. Apply: this is executed by the caller, which invokes {@link #getNext()} to get the decoded Operations in the order in
+ * which they were written.
+ *
+ * The DataFrameRecords returned by this class are identical (and in the same order) as the ones returned by a
+ * {@link DataFrameReader} reading the same DurableDataLog.
+ */
+@Slf4j
+class RecoveryPipeline implements CloseableIterator<DataFrameRecord<Operation>, Exception> {
+    //region Members
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private final CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> logReader;
+    private final FetchedItemReader fetchedItemReader;
+    private final DataFrameReader<Operation> dataFrameReader;
+    private final BlockingQueue<Element<DurableDataLog.ReadItem>> fetchedItems;
+    private final BlockingQueue<Element<DataFrameRecord<Operation>>> decodedRecords;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean started;
+    private final AtomicBoolean closed;
+    private final AtomicLong fetchNanos;
+    private final AtomicLong decodeNanos;
+    private final AtomicLong fetchedBytes;
+    private final String traceObjectId;
+    private boolean reachedEnd;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the RecoveryPipeline class. The pipeline must be started using {@link #start()}.
+     *
+     * @param durableDataLog                 The DurableDataLog to read from.
+     * @param containerId                    The Id of the Container to recover.
+     * @param maxOverlapToCheckForDuplicates Max number of log items to keep track of to check for duplicates.
+     * @param queueSize                      The maximum number of items each stage may get ahead of the next one.
+     * @throws DurableDataLogException If the given log threw an exception while initializing a Reader.
+     */
+    RecoveryPipeline(DurableDataLog durableDataLog, int containerId, int maxOverlapToCheckForDuplicates, int queueSize) throws DurableDataLogException {
+        Preconditions.checkArgument(queueSize > 0, "queueSize must be a positive number.");
+        this.traceObjectId = String.format("RecoveryPipeline[%s]", containerId);
+        this.fetchedItems = new ArrayBlockingQueue<>(queueSize);
+        this.decodedRecords = new ArrayBlockingQueue<>(queueSize);
+        this.started = new AtomicBoolean();
+        this.closed = new AtomicBoolean();
+        this.fetchNanos = new AtomicLong();
+        this.decodeNanos = new AtomicLong();
+        this.fetchedBytes = new AtomicLong();
+        this.logReader = durableDataLog.getReader();
+        this.fetchedItemReader = new FetchedItemReader();
+        this.dataFrameReader = new DataFrameReader<>(this.fetchedItemReader, durableDataLog.getWriteSettings().getMaxWriteLength(),
+                OperationSerializer.DEFAULT, containerId, maxOverlapToCheckForDuplicates);
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "recovery-" + containerId);
+    }
+
+    /**
+     * Starts the Fetch and Decode stages.
+     */
+    void start() {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkState(this.started.compareAndSet(false, true), "RecoveryPipeline already started.");
+        this.executor.execute(this::fetchAll);
+        this.executor.execute(this::decodeAll);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            // Interrupt the Fetch and Decode stages (they may be blocked on a full queue) and wait for them to stop
+            // before closing the readers they use.
+            this.executor.shutdownNow();
+            try {
+                if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.warn("{}: Fetch and Decode stages did not stop within {}.", this.traceObjectId, SHUTDOWN_TIMEOUT);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            this.dataFrameReader.close();
+            this.logReader.close();
+            log.info("{}: Closed. FetchedBytes = {}, FetchTime = {}ms, DecodeTime = {}ms.", this.traceObjectId,
+                    getFetchedBytes(), getFetchMillis(), getDecodeMillis());
+        }
+    }
+
+    //endregion
+
+    //region Properties
+
+    /**
+     * Gets the amount of time (millis) the Fetch stage spent reading from the DurableDataLog.
+     */
+    long getFetchMillis() {
+        return Duration.ofNanos(this.fetchNanos.get()).toMillis();
+    }
+
+    /**
+     * Gets the amount of time (millis) the Decode stage spent decoding Operations, excluding the time spent waiting
+     * for the Fetch stage.
+     */
+    long getDecodeMillis() {
+        return Duration.ofNanos(this.decodeNanos.get()).toMillis();
+    }
+
+    /**
+     * Gets the number of bytes read from the DurableDataLog so far.
+     */
+    long getFetchedBytes() {
+        return this.fetchedBytes.get();
+    }
+
+    //endregion
+
+    //region CloseableIterator Implementation
+
+    /**
+     * Gets the next decoded DataFrameRecord, blocking until one is available.
+     *
+     * @return The next DataFrameRecord, or null if the end of the DurableDataLog has been reached.
+     * @throws Exception If the Fetch or Decode stages failed. This is the same exception that {@link DataFrameReader#getNext()}
+     *                   would have thrown.
+     */
+    @Override
+    public DataFrameRecord<Operation> getNext() throws Exception {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkState(this.started.get(), "RecoveryPipeline not started.");
+        if (this.reachedEnd) {
+            return null;
+        }
+
+        Element<DataFrameRecord<Operation>> e = Exceptions.handleInterruptedCall(this.decodedRecords::take);
+        this.reachedEnd = e.isEnd();
+        return e.get();
+    }
+
+    //endregion
+
+    //region Stages
+
+    /**
+     * Fetch stage. Reads all entries from the DurableDataLog and queues up copies of them for the Decode stage.
+     */
+    private void fetchAll() {
+        Element<DurableDataLog.ReadItem> last;
+        try {
+            while (true) {
+                Timer timer = new Timer();
+                DurableDataLog.ReadItem item = this.logReader.getNext();
+                if (item == null) {
+                    last = Element.end();
+                    break;
+                }
+
+                // The DurableDataLog may reuse the buffers backing this item once we read the next one, so we need to
+                // make a copy of it.
+                item = new FetchedItem(item);
+                this.fetchNanos.addAndGet(timer.getElapsedNanos());
+                this.fetchedBytes.addAndGet(item.getLength());
+                this.fetchedItems.put(Element.of(item));
+            }
+        } catch (InterruptedException ex) {
+            // We are shutting down.
+            return;
+        } catch (Throwable ex) {
+            log.warn("{}: Fetch stage failed.", this.traceObjectId, ex);
+            last = Element.failed(ex);
+        }
+
+        putLast(this.fetchedItems, last);
+    }
+
+    /**
+     * Decode stage. Decodes all DataFrameRecords from the items queued up by the Fetch stage and queues them up for the
+     * Apply stage.
+     */
+    private void decodeAll() {
+        Element<DataFrameRecord<Operation>> last;
+        try {
+            while (true) {
+                Timer timer = new Timer();
+                long waitNanos = this.fetchedItemReader.waitNanos;
+                DataFrameRecord<Operation> record = this.dataFrameReader.getNext();
+                if (record == null) {
+                    last = Element.end();
+                    break;
+                }
+
+                RecoveryProcessor.computeContentHash(record.getItem());
+                this.decodeNanos.addAndGet(timer.getElapsedNanos() - (this.fetchedItemReader.waitNanos - waitNanos));
+                this.decodedRecords.put(Element.of(record));
+            }
+        } catch (InterruptedException ex) {
+            // We are shutting down.
+            return;
+        } catch (Throwable ex) {
+            if (!this.closed.get()) {
+                log.warn("{}: Decode stage failed.", this.traceObjectId, ex);
+            }
+            last = Element.failed(ex);
+        }
+
+        putLast(this.decodedRecords, last);
+    }
+
+    private <T> void putLast(BlockingQueue<Element<T>> queue, Element<T> last) {
+        try {
+            queue.put(last);
+        } catch (InterruptedException ex) {
+            // We are shutting down; nobody will be reading from this queue anymore.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //endregion
+
+    //region FetchedItemReader
+
+    /**
+     * Feeds the items queued up by the Fetch stage to the {@link DataFrameReader} used by the Decode stage. This is only
+     * accessed from the Decode stage.
+     */
+    private class FetchedItemReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDataLogException> {
+        private boolean reachedEnd;
+        private long waitNanos;
+
+        @Override
+        public DurableDataLog.ReadItem getNext() throws DurableDataLogException {
+            if (this.reachedEnd) {
+                return null;
+            }
+
+            Element<DurableDataLog.ReadItem> e;
+            Timer timer = new Timer();
+            try {
+                e = fetchedItems.take();
+                this.waitNanos += timer.getElapsedNanos();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new DurableDataLogException("Interrupted while waiting for the next DurableDataLog entry.", ex);
+            }
+
+            this.reachedEnd = e.isEnd();
+            try {
+                return e.get();
+            } catch (DurableDataLogException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new DurableDataLogException("Unable to read from the DurableDataLog.", ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do. The underlying reader is closed by the RecoveryPipeline.
+        }
+    }
+
+    //endregion
+
+    //region FetchedItem
+
+    /**
+     * A copy of a {@link DurableDataLog.ReadItem} that does not depend on the DurableDataLog's buffers.
+     */
+    private static class FetchedItem implements DurableDataLog.ReadItem {
+        @Getter
+        private final LogAddress address;
+        private final byte[] payload;
+
+        FetchedItem(DurableDataLog.ReadItem source) throws IOException {
+            this.address = source.getAddress();
+            this.payload = StreamHelpers.readAll(source.getPayload(), source.getLength());
+        }
+
+        @Override
+        public InputStream getPayload() {
+            return new ByteArrayInputStream(this.payload);
+        }
+
+        @Override
+        public int getLength() {
+            return this.payload.length;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, Length = %d.", this.address, this.payload.length);
+        }
+    }
+
+    //endregion
+
+    //region Element
+
+    /**
+     * An element in one of the queues connecting the stages. May hold a value, a failure or indicate the end of the stream.
+     */
+    @RequiredArgsConstructor
+    private static class Element<T> {
+        private final T value;
+        private final Throwable failure;
+
+        static <T> Element<T> of(T value) {
+            return new Element<>(Preconditions.checkNotNull(value, "value"), null);
+        }
+
+        static <T> Element<T> failed(Throwable failure) {
+            return new Element<>(null, failure);
+        }
+
+        static <T> Element<T> end() {
+            return new Element<>(null, null);
+        }
+
+        boolean isEnd() {
+            return this.value == null;
+        }
+
+        T get() throws Exception {
+            if (this.failure instanceof Exception) {
+                throw (Exception) this.failure;
+            } else if (this.failure != null) {
+                throw (Error) this.failure;
+            }
+
+            return this.value;
+        }
+    }
+
+    //endregion
+}
@@ -18,6 +18,7 @@ package io.pravega.segmentstore.server.logs;
 import com.google.common.base.Preconditions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.util.CloseableIterator;
 import io.pravega.segmentstore.contracts.ContainerException;
 import io.pravega.segmentstore.contracts.StreamSegmentException;
 import io.pravega.segmentstore.server.DataCorruptionException;
@@ -32,8 +33,10 @@ import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperati
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.LogAddress;
+import java.time.Duration;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -46,12 +49,18 @@ class RecoveryProcessor {
     // Determines how many entries we keep track of in order to compare for duplicate log entries in the recent past
     // upon recovery. If there is a duplicate entry, but it is beyond that point, an exception will be thrown anyway.
     private final static int MAX_OVERLAP_TO_CHECK_DUPLICATES = 25;
+    private static final String STAGE_READ = "Read";
+    private static final String STAGE_FETCH = "Fetch";
+    private static final String STAGE_DECODE = "Decode";
+    private static final String STAGE_APPLY = "Apply";
+    private static final long MB = 1024 * 1024;
 
     @Getter (AccessLevel.PROTECTED)
     private final UpdateableContainerMetadata metadata;
     @Getter (AccessLevel.PROTECTED)
     private final DurableDataLog durableDataLog;
     private final MemoryStateUpdater stateUpdater;
+    private final int pipelineQueueSize;
     private final String traceObjectId;
 
     //endregion
@@ -66,9 +75,25 @@ class RecoveryProcessor {
      * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
      */
     RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater) {
+        this(metadata, durableDataLog, stateUpdater, 0);
+    }
+
+    /**
+     * Creates a new instance of the RecoveryProcessor class.
+     *
+     * @param metadata          The UpdateableContainerMetadata to use for recovery.
+     * @param durableDataLog    The (uninitialized) DurableDataLog to read data from for recovery.
+     * @param stateUpdater      A MemoryStateUpdater that can be used to apply the recovered operations.
+     * @param pipelineQueueSize If positive, recovery will fetch and decode Operations concurrently with applying them
+     *                          (see {@link RecoveryPipeline}), and this is the maximum number of items each stage may
+     *                          get ahead of the next one. If 0, all stages are executed sequentially.
+     */
+    RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater, int pipelineQueueSize) {
+        Preconditions.checkArgument(pipelineQueueSize >= 0, "pipelineQueueSize must be a non-negative number.");
         this.metadata = Preconditions.checkNotNull(metadata, "metadata");
         this.durableDataLog = Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.stateUpdater = Preconditions.checkNotNull(stateUpdater, "stateUpdater");
+        this.pipelineQueueSize = pipelineQueueSize;
         this.traceObjectId = String.format("RecoveryProcessor[%s]", this.metadata.getContainerId());
     }
 
@@ -142,10 +167,23 @@ class RecoveryProcessor {
         int skippedOperationCount = 0;
         int skippedDataFramesCount = 0;
         int recoveredItemCount = 0;
+        long recoveredBytes = 0;
+        long applyNanos = 0;
+        Timer timer = new Timer();
 
         // Read all entries from the DataFrameLog and append them to the InMemoryOperationLog.
         // Also update metadata along the way.
-        try (DataFrameReader<Operation> reader = createDataFrameReader()) {
+        RecoveryPipeline pipeline = null;
+        CloseableIterator<DataFrameRecord<Operation>, Exception> reader;
+        if (this.pipelineQueueSize > 0) {
+            pipeline = new RecoveryPipeline(this.durableDataLog, this.metadata.getContainerId(), MAX_OVERLAP_TO_CHECK_DUPLICATES, this.pipelineQueueSize);
+            pipeline.start();
+            reader = pipeline;
+        } else {
+            reader = createDataFrameReader();
+        }
+
+        try {
             DataFrameRecord<Operation> dataFrameRecord;
 
             // We can only recover starting from a MetadataCheckpointOperation; find the first one.
@@ -173,18 +211,24 @@ class RecoveryProcessor {
 
             // Now continue with the recovery from here.
             while (dataFrameRecord != null) {
+                Timer applyTimer = new Timer();
                 recordTruncationMarker(dataFrameRecord);
                 recoverOperation(dataFrameRecord, metadataUpdater);
+                applyNanos += applyTimer.getElapsedNanos();
                 recoveredItemCount++;
+                recoveredBytes += getSerializedLength(dataFrameRecord);
 
                 // Fetch the next operation.
                 dataFrameRecord = reader.getNext();
             }
+        } finally {
+            reader.close();
         }
 
         // Commit whatever changes we have in the metadata updater to the Container Metadata.
         // This code will only be invoked if we haven't encountered any exceptions during recovery.
         metadataUpdater.commitAll();
+        reportStatistics(recoveredItemCount, recoveredBytes, timer.getElapsedNanos(), applyNanos, pipeline);
         LoggerHelpers.traceLeave(log, this.traceObjectId, "recoverAllOperations", traceId, recoveredItemCount);
         return recoveredItemCount;
     }
@@ -203,10 +247,8 @@ class RecoveryProcessor {
         Operation operation = dataFrameRecord.getItem();
         metadataUpdater.setOperationSequenceNumber(operation.getSequenceNumber());
 
-        // Compute integrity check for recovered Appends.
-        if (operation instanceof StreamSegmentAppendOperation) {
-            ((StreamSegmentAppendOperation) operation).setContentHash(((StreamSegmentAppendOperation) operation).getData().hash());
-        }
+        // Compute integrity check for recovered Appends (unless already done while decoding).
+        computeContentHash(operation);
 
         // Update the metadata with the information from the Operation.
         try {
@@ -227,6 +269,54 @@ class RecoveryProcessor {
         }
     }
 
+    /**
+     * Computes the content hash of the given Operation, if it is a {@link StreamSegmentAppendOperation} and its hash has
+     * not already been computed.
+     *
+     * @param operation The Operation.
+     */
+    static void computeContentHash(Operation operation) {
+        if (operation instanceof StreamSegmentAppendOperation) {
+            val append = (StreamSegmentAppendOperation) operation;
+            if (append.getContentHash() == StreamSegmentAppendOperation.NO_HASH) {
+                append.setContentHash(append.getData().hash());
+            }
+        }
+    }
+
+    private long getSerializedLength(DataFrameRecord<Operation> dataFrameRecord) {
+        long length = 0;
+        for (val entry : dataFrameRecord.getFrameEntries()) {
+            length += entry.getLength();
+        }
+
+        return length;
+    }
+
+    private void reportStatistics(int recoveredItemCount, long recoveredBytes, long elapsedNanos, long applyNanos, RecoveryPipeline pipeline) {
+        long elapsedMillis = Math.max(1, Duration.ofNanos(elapsedNanos).toMillis());
+        long operationsPerSecond = recoveredItemCount * 1000L / elapsedMillis;
+        long bytesPerSecond = recoveredBytes * 1000L / elapsedMillis;
+        long applyMillis = Duration.ofNanos(applyNanos).toMillis();
+        int containerId = this.metadata.getContainerId();
+        SegmentStoreMetrics.recoveryThroughput(operationsPerSecond, bytesPerSecond, containerId);
+        SegmentStoreMetrics.recoveryStageTime(STAGE_APPLY, applyMillis, containerId);
+        if (pipeline == null) {
+            // Fetching and decoding are done inline with applying the Operations; whatever was not spent applying was
+            // spent reading.
+            SegmentStoreMetrics.recoveryStageTime(STAGE_READ, elapsedMillis - applyMillis, containerId);
+            log.info("{}: Recovered {} Operations ({} bytes) at {} ops/s, {} MB/s. ReadTime = {}ms, ApplyTime = {}ms.",
+                    this.traceObjectId, recoveredItemCount, recoveredBytes, operationsPerSecond, bytesPerSecond / MB,
+                    elapsedMillis - applyMillis, applyMillis);
+        } else {
+            SegmentStoreMetrics.recoveryStageTime(STAGE_FETCH, pipeline.getFetchMillis(), containerId);
+            SegmentStoreMetrics.recoveryStageTime(STAGE_DECODE, pipeline.getDecodeMillis(), containerId);
+            log.info("{}: Recovered {} Operations ({} bytes) at {} ops/s, {} MB/s. FetchTime = {}ms, DecodeTime = {}ms, ApplyTime = {}ms.",
+                    this.traceObjectId, recoveredItemCount, recoveredBytes, operationsPerSecond, bytesPerSecond / MB,
+                    pipeline.getFetchMillis(), pipeline.getDecodeMillis(), applyMillis);
+        }
+    }
+
     private void recordTruncationMarker(DataFrameRecord<Operation> dataFrameRecord) {
         // Truncation Markers are stored directly in the ContainerMetadata. There is no need for an OperationMetadataUpdater
         // to do this.
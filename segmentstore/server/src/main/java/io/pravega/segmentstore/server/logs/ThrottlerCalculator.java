@@ -206,6 +206,66 @@ class ThrottlerCalculator {
         }
     }
 
+    /**
+     * Calculates the amount of time to wait before processing more operations from the queue in order to aggregate them
+     * into larger writes, while keeping the end-to-end write latency within a configured target. This is a group-commit
+     * controller that is based on the observed DurableDataLog write latency and the observed ingestion rate:
+     * - If there are no outstanding writes, or if the outstanding writes are already (almost) full, there is nothing to
+     * gain by waiting, so no delay is introduced (similar to Nagle's algorithm, which only holds back data while there is
+     * unacknowledged data in flight).
+     * - The latency budget is the difference between the target latency and the observed DurableDataLog write latency.
+     * If the ingestion rate is high enough to fill up a full write within this budget, we wait for exactly as long as that
+     * takes (bulk ingestion gets full writes).
+     * - If the budget would only allow accumulating a small fraction of a full write, no delay is introduced (low-rate
+     * ingestion gets near-immediate writes). Otherwise we wait for the whole budget.
+     */
+    @RequiredArgsConstructor
+    private static class AdaptiveBatchingThrottler extends Throttler {
+        @NonNull
+        private final Supplier<QueueStats> getQueueStats;
+        @NonNull
+        private final Supplier<Double> getIngestionRate;
+        private final int targetLatencyMillis;
+        private final int maxBatchingDelayMillis;
+
+        @Override
+        boolean isThrottlingRequired() {
+            // Same as BatchingThrottler, there is never an immediate need for throttling due to this reason.
+            return false;
+        }
+
+        @Override
+        int getDelayMillis() {
+            QueueStats stats = this.getQueueStats.get();
+            if (stats.getSize() == 0 || stats.getAverageItemFillRatio() >= ThrottlerPolicy.ADAPTIVE_BATCHING_FULL_WRITE_FILL_RATIO) {
+                return 0;
+            }
+
+            int budgetMillis = this.targetLatencyMillis - stats.getExpectedProcessingTimeMillis();
+            double bytesPerMillis = this.getIngestionRate.get();
+            if (budgetMillis <= 0 || bytesPerMillis <= 0) {
+                return 0;
+            }
+
+            double fillMillis = stats.getMaxWriteLength() / bytesPerMillis;
+            int delayMillis;
+            if (fillMillis <= budgetMillis) {
+                delayMillis = (int) Math.ceil(fillMillis);
+            } else if (bytesPerMillis * budgetMillis >= stats.getMaxWriteLength() * ThrottlerPolicy.ADAPTIVE_BATCHING_MIN_FILL_RATIO) {
+                delayMillis = budgetMillis;
+            } else {
+                delayMillis = 0;
+            }
+
+            return Math.min(delayMillis, this.maxBatchingDelayMillis);
+        }
+
+        @Override
+        ThrottlerName getName() {
+            return ThrottlerName.Batching;
+        }
+    }
+
     /**
      * Calculates the amount of time to wait before processing more operations from the queue in order to relieve pressure
      * from the DurableDataLog. This is based on static information from the DurableDataLog's {@link WriteSettings} and dynamic
@@ -336,6 +396,21 @@ class ThrottlerCalculator {
             return throttler(new BatchingThrottler(getQueueStats, maxBatchingDelayMillis));
         }
 
+        /**
+         * Includes an Adaptive Batching Throttler. This should be used instead of {@link #batchingThrottler}.
+         *
+         * @param getQueueStats          A Supplier that, when invoked, returns a QueueStats object representing the most recent
+         *                               statistics about the DurableDataLog write queue.
+         * @param getIngestionRate       A Supplier that, when invoked, returns the current ingestion rate (bytes/millis).
+         * @param targetLatencyMillis    The target write latency (millis) the batching delay should fit into.
+         * @param maxBatchingDelayMillis The maximum batching delay (millis).
+         * @return This builder.
+         */
+        ThrottlerCalculatorBuilder adaptiveBatchingThrottler(Supplier<QueueStats> getQueueStats, Supplier<Double> getIngestionRate,
+                                                             int targetLatencyMillis, int maxBatchingDelayMillis) {
+            return throttler(new AdaptiveBatchingThrottler(getQueueStats, getIngestionRate, targetLatencyMillis, maxBatchingDelayMillis));
+        }
+
         ThrottlerCalculatorBuilder durableDataLogThrottler(WriteSettings writeSettings, Supplier<QueueStats> getQueueStats,
                                                            int maxDelayMillis) {
             return throttler(new DurableDataLogThrottler(writeSettings, getQueueStats, maxDelayMillis));
@@ -50,11 +50,26 @@ class ThrottlerPolicy {
      */
     @VisibleForTesting
     static final double DURABLE_DATALOG_THROTTLE_THRESHOLD_FRACTION = 0.1;
+    /**
+     * Average fill ratio of the DurableDataLog's outstanding writes at or above which the adaptive batching throttler
+     * considers them full (and will not introduce any batching delay).
+     */
+    static final double ADAPTIVE_BATCHING_FULL_WRITE_FILL_RATIO = 0.9;
+    /**
+     * Minimum fraction of a full DurableDataLog write that must be accumulated within the latency budget for the adaptive
+     * batching throttler to introduce a delay.
+     */
+    @VisibleForTesting
+    static final double ADAPTIVE_BATCHING_MIN_FILL_RATIO = 0.1;
 
     /**
      * Maximum delay (millis) we are willing to introduce in order to perform batching.
      */
     private final int maxBatchingDelayMillis;
+    /**
+     * Target write latency (millis) for adaptive batching. If 0, adaptive batching is disabled.
+     */
+    private final int batchingTargetLatencyMillis;
     /**
      * Maximum delay (millis) we are willing to introduce in order to throttle the incoming operations.
      */
@@ -73,6 +88,7 @@ class ThrottlerPolicy {
     public ThrottlerPolicy(DurableLogConfig config) {
         Preconditions.checkNotNull(config, "config");
         this.maxBatchingDelayMillis = config.getMaxBatchingDelayMillis();
+        this.batchingTargetLatencyMillis = config.getBatchingTargetLatencyMillis();
         this.maxDelayMillis = config.getMaxDelayMillis();
         this.operationLogMaxSize = config.getOperationLogMaxSize();
         this.operationLogTargetSize = config.getOperationLogTargetSize();
@@ -0,0 +1,36 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.reading;
+
+import io.pravega.common.util.BufferView;
+
+/**
+ * Defines how data retrieved from the Cache is handed to the caller.
+ */
+public enum CacheReadMode {
+    /**
+     * The data is copied into a heap buffer. The result is decoupled from the Cache.
+     */
+    Copy,
+    /**
+     * The data is a view of the Cache memory. It is only valid until the Cache entry is evicted or replaced.
+     */
+    Direct,
+    /**
+     * The data is a view of the Cache memory which is retained (pinned) until {@link BufferView#release()} is invoked on it.
+     */
+    Retain
+}
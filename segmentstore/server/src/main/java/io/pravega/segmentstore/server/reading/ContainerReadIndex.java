@@ -414,7 +414,8 @@ public class ContainerReadIndex implements ReadIndex {
     @VisibleForTesting
     StreamSegmentReadIndex createSegmentIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage,
                                               ReadOnlyStorage storage, ScheduledExecutorService executor, boolean recoveryMode) {
-        return new StreamSegmentReadIndex(config, metadata, cacheStorage, storage, executor, recoveryMode);
+        return new StreamSegmentReadIndex(config, metadata, cacheStorage, this.cacheManager.getSpillStorage(), storage,
+                this.cacheManager.getUtilizationProvider()::getCacheInsertionCapacity, executor, recoveryMode);
     }
 
     @GuardedBy("lock")
@@ -28,6 +28,7 @@ import lombok.Getter;
 public class ReadIndexConfig {
     //region Config Names
     public static final Property<Integer> STORAGE_READ_ALIGNMENT = Property.named("storageRead.alignment", 1024 * 1024, "storageReadAlignment");
+    public static final Property<Integer> STORAGE_READ_PREFETCH_MAX_BLOCKS = Property.named("storageRead.prefetch.blocks.max", 0);
     public static final Property<Integer> MEMORY_READ_MIN_LENGTH = Property.named("memoryRead.length.min", 4 * 1024, "memoryReadMinLength");
     public static final Property<Integer> STORAGE_READ_DEFAULT_TIMEOUT = Property.named("storageRead.timeout.default.millis", 30 * 1000, "storageReadDefaultTimeoutMillis");
     private static final String COMPONENT_CODE = "readindex";
@@ -43,6 +44,13 @@ public class ReadIndexConfig {
     @Getter
     private final int storageReadAlignment;
 
+    /**
+     * The maximum number of Storage Read blocks (each of length {@link #getStorageReadAlignment()}) to read ahead once a
+     * sequential Storage read pattern is detected on a Segment. Setting this to 0 will disable read-ahead.
+     */
+    @Getter
+    private final int storageReadPrefetchMaxBlocks;
+
     /**
      * The minimum number of bytes to serve from memory during reads. The ReadIndex will try to coalesce data from multiple
      * contiguous index entries, as long as they are all referring to cached data, when serving individual ReadResultEntries
@@ -74,6 +82,10 @@ public class ReadIndexConfig {
      */
     private ReadIndexConfig(TypedProperties properties) throws ConfigurationException {
         this.storageReadAlignment = properties.getInt(STORAGE_READ_ALIGNMENT);
+        this.storageReadPrefetchMaxBlocks = properties.getInt(STORAGE_READ_PREFETCH_MAX_BLOCKS);
+        if (this.storageReadPrefetchMaxBlocks < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", STORAGE_READ_PREFETCH_MAX_BLOCKS));
+        }
         this.memoryReadMinLength = properties.getInt(MEMORY_READ_MIN_LENGTH);
         this.storageReadDefaultTimeout = Duration.ofMillis(properties.getInt(STORAGE_READ_DEFAULT_TIMEOUT));
     }
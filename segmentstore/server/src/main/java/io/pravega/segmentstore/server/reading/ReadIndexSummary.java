@@ -33,6 +33,10 @@ class ReadIndexSummary {
     private int currentGeneration;
     @GuardedBy("this")
     private final HashMap<Integer, Integer> generations;
+    @GuardedBy("this")
+    private long prefetchCount;
+    @GuardedBy("this")
+    private long prefetchHitCount;
 
     //endregion
 
@@ -107,6 +111,30 @@ class ReadIndexSummary {
         return addOne();
     }
 
+    /**
+     * Records that an element pertaining to the given generation has been moved to another generation.
+     *
+     * @param generation    The original generation of the element to touch.
+     * @param newGeneration The generation to move the element to.
+     * @return The value of newGeneration.
+     */
+    synchronized int touchOne(int generation, int newGeneration) {
+        if (generation != newGeneration) {
+            removeOne(generation);
+            addOne(newGeneration);
+        }
+        return newGeneration;
+    }
+
+    /**
+     * Gets the value of the current generation.
+     *
+     * @return The current generation.
+     */
+    synchronized int getCurrentGeneration() {
+        return this.currentGeneration;
+    }
+
     /**
      * Generates a CacheManager.CacheStatus object with the information in this ReadIndexSummary object.
      */
@@ -114,6 +142,40 @@ class ReadIndexSummary {
         return CacheManager.CacheStatus.fromGenerations(this.generations.keySet().iterator());
     }
 
+    /**
+     * Records that the given number of blocks have been read ahead (prefetched) from Storage.
+     *
+     * @param count The number of blocks.
+     */
+    synchronized void recordPrefetch(int count) {
+        this.prefetchCount += count;
+    }
+
+    /**
+     * Records that a block that has been read ahead (prefetched) from Storage has been read from the cache.
+     */
+    synchronized void recordPrefetchHit() {
+        this.prefetchHitCount++;
+    }
+
+    /**
+     * Gets the number of blocks that have been read ahead (prefetched) from Storage.
+     *
+     * @return The number of prefetched blocks.
+     */
+    synchronized long getPrefetchCount() {
+        return this.prefetchCount;
+    }
+
+    /**
+     * Gets the ratio of blocks read ahead (prefetched) from Storage that have subsequently been read from the cache.
+     *
+     * @return A value in the interval [0, 1], or 0 if nothing has been prefetched.
+     */
+    synchronized double getPrefetchHitRatio() {
+        return this.prefetchCount == 0 ? 0 : (double) this.prefetchHitCount / this.prefetchCount;
+    }
+
     @VisibleForTesting
     synchronized int size() {
         return this.generations.values().stream().mapToInt(i -> i).sum();
@@ -0,0 +1,68 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.reading;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+/**
+ * A ReadIndexEntry that points to data that has been demoted from the main CacheStorage into the spill CacheStorage.
+ * These entries are not Data Entries (they do not point to anything in the main CacheStorage) and need to be promoted
+ * back before they can be served as regular cache reads.
+ */
+class SpilledIndexEntry extends ReadIndexEntry {
+    /**
+     * The address of this entry's data in the spill CacheStorage.
+     */
+    @Getter
+    private final int spillAddress;
+    private final int length;
+
+    /**
+     * Creates a new instance of the SpilledIndexEntry class.
+     *
+     * @param streamSegmentOffset The StreamSegment offset for this entry.
+     * @param length              The Length of this entry.
+     * @param spillAddress        The address of this entry in the spill CacheStorage.
+     * @throws IllegalArgumentException if the offset or length are negative numbers.
+     */
+    SpilledIndexEntry(long streamSegmentOffset, int length, int spillAddress) {
+        super(streamSegmentOffset);
+        Preconditions.checkArgument(length >= 0, "length must be a non-negative number.");
+        this.length = length;
+        this.spillAddress = spillAddress;
+    }
+
+    @Override
+    long getLength() {
+        return this.length;
+    }
+
+    @Override
+    boolean isDataEntry() {
+        return false;
+    }
+
+    @Override
+    int getCacheAddress() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s, SpillAddress = %d", super.toString(), this.spillAddress);
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.reading;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * Detects sequential read patterns on a Segment and determines which Storage blocks to read ahead (prefetch) into the
+ * cache so that subsequent reads can be served from memory.
+ * <p>
+ * The Segment is divided into fixed-length blocks (aligned to {@link ReadIndexConfig#getStorageReadAlignment()}). A read
+ * is sequential if it begins at or after the previous read, and within one block of it. Once a sequential read is
+ * detected, this class requests the blocks following the one being read, up to a window that starts at one block and
+ * doubles every time the reader advances sequentially into a new block (so it grows faster for faster readers), up to a configured
+ * maximum. Any non-sequential read resets the window. The window is scaled down by the cache insertion capacity, so that
+ * no read-ahead is performed when the cache is full.
+ */
+@ThreadSafe
+class StorageReadPrefetcher {
+    //region Members
+
+    private final int blockLength;
+    private final int maxBlocks;
+    private final ReadIndexSummary summary;
+    @GuardedBy("this")
+    private long lastReadOffset;
+    @GuardedBy("this")
+    private int windowBlocks;
+    @GuardedBy("this")
+    private long prefetchedUntilOffset;
+    /**
+     * Start offsets of the blocks that have been prefetched and not yet read.
+     */
+    @GuardedBy("this")
+    private final TreeSet<Long> pendingBlocks;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the StorageReadPrefetcher class.
+     *
+     * @param blockLength The length of a block. All blocks begin at multiples of this value.
+     * @param maxBlocks   The maximum number of blocks to read ahead.
+     * @param summary     A {@link ReadIndexSummary} to record prefetch statistics into.
+     */
+    StorageReadPrefetcher(int blockLength, int maxBlocks, @NonNull ReadIndexSummary summary) {
+        Preconditions.checkArgument(blockLength > 0, "blockLength must be a positive integer.");
+        Preconditions.checkArgument(maxBlocks > 0, "maxBlocks must be a positive integer.");
+        this.blockLength = blockLength;
+        this.maxBlocks = maxBlocks;
+        this.summary = summary;
+        this.lastReadOffset = -1;
+        this.windowBlocks = 0;
+        this.prefetchedUntilOffset = 0;
+        this.pendingBlocks = new TreeSet<>();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records a read and determines which blocks to prefetch as a result.
+     *
+     * @param offset                 The offset that was read.
+     * @param fromCache              Whether the read was served from the cache.
+     * @param cacheInsertionCapacity A value in the interval [0, 1] indicating the capacity of the cache for accepting new
+     *                               insertions (0 means no capacity, 1 means full capacity).
+     * @param storageLength          The current length of the Segment in Storage. No blocks at or beyond this offset will
+     *                               be prefetched.
+     * @return A List containing the start offsets of the blocks to prefetch, in order. Each block should be read up to
+     * the lesser of {@link #getBlockLength()} and the Storage length. May be empty.
+     */
+    synchronized List<Long> recordRead(long offset, boolean fromCache, double cacheInsertionCapacity, long storageLength) {
+        long block = offset - offset % this.blockLength;
+        if (this.pendingBlocks.remove(block) && fromCache) {
+            this.summary.recordPrefetchHit();
+        }
+
+        // The reader has moved past these blocks; if they haven't been read yet, they have been evicted or are not needed.
+        this.pendingBlocks.headSet(block).clear();
+
+        boolean sequential = this.lastReadOffset >= 0 && offset >= this.lastReadOffset && offset - this.lastReadOffset <= this.blockLength;
+        boolean advanced = sequential && block > this.lastReadOffset - this.lastReadOffset % this.blockLength;
+        this.lastReadOffset = offset;
+        if (!sequential) {
+            this.windowBlocks = 0;
+            this.prefetchedUntilOffset = block + this.blockLength;
+            return Collections.emptyList();
+        }
+
+        this.windowBlocks = Math.max(1, this.windowBlocks);
+        int window = (int) Math.floor(this.windowBlocks * Math.max(0, Math.min(1, cacheInsertionCapacity)));
+        long startOffset = Math.max(this.prefetchedUntilOffset, block + this.blockLength);
+        long endOffset = Math.min(block + (long) (window + 1) * this.blockLength, storageLength);
+        if (startOffset >= endOffset) {
+            return Collections.emptyList();
+        }
+
+        List<Long> result = new ArrayList<>();
+        for (long blockOffset = startOffset; blockOffset < endOffset; blockOffset += this.blockLength) {
+            result.add(blockOffset);
+        }
+
+        this.pendingBlocks.addAll(result);
+        this.prefetchedUntilOffset = result.get(result.size() - 1) + this.blockLength;
+        if (advanced) {
+            // Only grow the window when the reader moves into a new block, not for repeated reads within the same block.
+            this.windowBlocks = Math.min(this.maxBlocks, this.windowBlocks * 2);
+        }
+
+        this.summary.recordPrefetch(result.size());
+        return result;
+    }
+
+    /**
+     * Gets the length of a block.
+     *
+     * @return The block length.
+     */
+    int getBlockLength() {
+        return this.blockLength;
+    }
+
+    /**
+     * Gets the current read-ahead window, in blocks.
+     *
+     * @return The current read-ahead window.
+     */
+    synchronized int getWindowBlocks() {
+        return this.windowBlocks;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Window = %d, PrefetchedUntil = %d, Pending = %d", this.windowBlocks, this.prefetchedUntilOffset,
+                this.pendingBlocks.size());
+    }
+
+    //endregion
+}
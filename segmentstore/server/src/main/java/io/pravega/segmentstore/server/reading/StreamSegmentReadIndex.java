@@ -30,6 +30,7 @@ import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
 import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
+import io.pravega.segmentstore.server.CacheEvictionPolicy;
 import io.pravega.segmentstore.server.CacheManager;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
@@ -48,10 +49,12 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -64,6 +67,11 @@ import lombok.val;
  * <li> Future appends. If a read operation requests data from an offset in the future, the read operation will block until
  * data becomes available or until it gets canceled.
  * </ol>
+ * If a spill CacheStorage is provided, entries that are evicted due to their age are demoted to it (as {@link SpilledIndexEntry}
+ * instances) instead of being discarded, and they are promoted back into the main CacheStorage when read again.
+ * <p>
+ * If enabled (see {@link ReadIndexConfig#getStorageReadPrefetchMaxBlocks()}), sequential reads of data in Storage will
+ * trigger read-ahead of subsequent blocks into the cache (see {@link StorageReadPrefetcher}).
  */
 @Slf4j
 @ThreadSafe
@@ -76,17 +84,25 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     private final ReadIndexConfig config;
     @GuardedBy("lock")
     private final CacheStorage cacheStorage;
+    private final CacheStorage spillStorage; // May be null.
     private final FutureReadResultEntryCollection futureReads;
     @GuardedBy("lock")
     private final HashMap<Long, PendingMerge> pendingMergers; //Key = Source Segment Id, Value = Pending Merge Info.
     private final StorageReadManager storageReadManager;
+    private final StorageReadPrefetcher prefetcher; // May be null.
+    private final Supplier<Double> getCacheInsertionCapacity;
     @VisibleForTesting
     @Getter(AccessLevel.PACKAGE)
     private final ReadIndexSummary summary;
+    @VisibleForTesting
+    @Getter(AccessLevel.PACKAGE)
+    private final ReadIndexSummary spillSummary;
     private final ScheduledExecutorService executor;
     private SegmentMetadata metadata;
     private final AtomicLong lastAppendedOffset;
     private volatile boolean storageCacheDisabled; // True (Disabled): No Storage inserts; False (Enabled): all cache inserts.
+    private volatile CacheEvictionPolicy evictionPolicy;
+    private volatile int oldestGeneration;
     private boolean recoveryMode;
     private boolean closed;
     private boolean merged;
@@ -103,23 +119,30 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param config       Read Index Configuration.
      * @param metadata     The StreamSegmentMetadata to use.
      * @param cacheStorage    The CacheStorage to use to store, read and manage data entries.
+     * @param spillStorage (Optional) The CacheStorage to demote evicted data entries to. If null, no demotion will be done.
      * @param storage      A ReadOnlyStorage to fetch data if not in Cache.
+     * @param getCacheInsertionCapacity A Supplier that returns the capacity of the cache for accepting new insertions
+     *                                  (see {@link io.pravega.segmentstore.server.CacheUtilizationProvider#getCacheInsertionCapacity()}).
+     *                                  Used to scale down Storage read-ahead.
      * @param executor     An executor to run async operations.
      * @param recoveryMode Whether we are in recovery mode at the time of creation (this can change later on).
      * @throws NullPointerException If any of the arguments are null.
      */
-    StreamSegmentReadIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage, ReadOnlyStorage storage,
-                           ScheduledExecutorService executor, boolean recoveryMode) {
+    StreamSegmentReadIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage, CacheStorage spillStorage,
+                           ReadOnlyStorage storage, Supplier<Double> getCacheInsertionCapacity, ScheduledExecutorService executor,
+                           boolean recoveryMode) {
         Preconditions.checkNotNull(config, "config");
         Preconditions.checkNotNull(metadata, "metadata");
         Preconditions.checkNotNull(cacheStorage, "cacheStorage");
         Preconditions.checkNotNull(storage, "storage");
+        Preconditions.checkNotNull(getCacheInsertionCapacity, "getCacheInsertionCapacity");
         Preconditions.checkNotNull(executor, "executor");
 
         this.traceObjectId = String.format("ReadIndex[%d-%d]", metadata.getContainerId(), metadata.getId());
         this.config = config;
         this.metadata = metadata;
         this.cacheStorage = cacheStorage;
+        this.spillStorage = spillStorage;
         this.recoveryMode = recoveryMode;
         this.indexEntries = new AvlTreeIndex<>();
         this.futureReads = new FutureReadResultEntryCollection();
@@ -128,8 +151,15 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         this.storageReadManager = new StorageReadManager(metadata, storage, executor);
         this.executor = executor;
         this.summary = new ReadIndexSummary();
+        this.spillSummary = new ReadIndexSummary();
         this.storageReadAlignment = alignToCacheBlockSize(this.config.getStorageReadAlignment());
+        this.getCacheInsertionCapacity = getCacheInsertionCapacity;
+        this.prefetcher = this.config.getStorageReadPrefetchMaxBlocks() > 0
+                ? new StorageReadPrefetcher(this.storageReadAlignment, this.config.getStorageReadPrefetchMaxBlocks(), this.summary)
+                : null;
         this.storageCacheDisabled = false;
+        this.evictionPolicy = CacheEvictionPolicy.create(CacheEvictionPolicy.Type.GENERATIONAL);
+        this.oldestGeneration = 0;
     }
 
     private int alignToCacheBlockSize(int value) {
@@ -172,6 +202,11 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             }
             cancelFutureReads(Iterators.concat(futureReads.iterator()));
 
+            if (this.prefetcher != null && this.summary.getPrefetchCount() > 0) {
+                log.info("{}: Storage read-ahead: Blocks = {}, HitRatio = {}.", this.traceObjectId, this.summary.getPrefetchCount(),
+                        String.format("%.2f", this.summary.getPrefetchHitRatio()));
+            }
+
             if (cleanCache) {
                 this.executor.execute(() -> {
                     removeAllEntries();
@@ -233,7 +268,32 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
         // Update the current generation with the provided info.
         this.summary.setCurrentGeneration(currentGeneration);
-        return evictCacheEntries(entry -> isEvictable(entry, oldestGeneration)) > 0;
+        this.spillSummary.setCurrentGeneration(currentGeneration);
+        this.oldestGeneration = oldestGeneration;
+        long evicted = evictCacheEntries(entry -> isEvictable(entry, oldestGeneration), true);
+        if (this.spillStorage != null) {
+            // Spilled entries are not subject to the main generations, but we should not hold on to truncated data.
+            evictSpilledEntries(this::isTruncated);
+        }
+
+        return evicted > 0;
+    }
+
+    @Override
+    public void setEvictionPolicy(@NonNull CacheEvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    @Override
+    public CacheManager.CacheStatus getSpillStatus() {
+        Exceptions.checkNotClosed(this.closed, this);
+        return this.spillSummary.toCacheStatus();
+    }
+
+    @Override
+    public boolean updateSpillGenerations(int oldestSpillGeneration) {
+        Exceptions.checkNotClosed(this.closed, this);
+        return evictSpilledEntries(entry -> entry.getGeneration() < oldestSpillGeneration || isTruncated(entry)) > 0;
     }
 
     private boolean isEvictable(ReadIndexEntry entry, int oldestGeneration) {
@@ -245,16 +305,27 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         long lastOffset = entry.getLastStreamSegmentOffset();
         return entry.isDataEntry()
                 && lastOffset < this.metadata.getStorageLength()
-                && (entry.getGeneration() < oldestGeneration || lastOffset < this.metadata.getStartOffset());
+                && (entry.getGeneration() < oldestGeneration || isTruncated(entry));
+    }
+
+    private boolean isTruncated(ReadIndexEntry entry) {
+        return entry.getLastStreamSegmentOffset() < this.metadata.getStartOffset();
     }
 
-    private long evictCacheEntries(Predicate<ReadIndexEntry> isEvictable) {
-        // Identify & collect those entries that can be removed, then remove them from the index.
+    private long evictCacheEntries(Predicate<ReadIndexEntry> isEvictable, boolean canSpill) {
+        // Identify & collect those entries that can be removed, then remove them from the index. If we have a spill
+        // storage, entries that are not truncated are demoted to it instead.
         ArrayList<ReadIndexEntry> toRemove = new ArrayList<>();
+        ArrayList<CacheIndexEntry> toSpill = new ArrayList<>();
+        boolean spill = canSpill && this.spillStorage != null;
         synchronized (this.lock) {
             this.indexEntries.forEach(entry -> {
                 if (isEvictable.test(entry)) {
-                    toRemove.add(entry);
+                    if (spill && !isTruncated(entry)) {
+                        toSpill.add((CacheIndexEntry) entry);
+                    } else {
+                        toRemove.add(entry);
+                    }
                 }
             });
 
@@ -274,9 +345,100 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             log.debug("{}: Evicted {} entries totalling {} bytes.", this.traceObjectId, toRemove.size(), totalSize);
         }
 
+        if (!toSpill.isEmpty()) {
+            long spilledSize = 0;
+            for (CacheIndexEntry e : toSpill) {
+                spilledSize += spillEntry(e);
+            }
+
+            log.debug("{}: Demoted {} entries totalling {} bytes.", this.traceObjectId, toSpill.size(), spilledSize);
+            totalSize.addAndGet(spilledSize);
+        }
+
         return totalSize.get();
     }
 
+    /**
+     * Demotes the given {@link CacheIndexEntry} to the spill storage. If the spill storage is full, the entry is evicted
+     * instead.
+     *
+     * The data is copied into the spill storage without holding the {@link #lock} (as that involves I/O). The index is
+     * only updated if the entry has not been modified or removed in the meantime; otherwise the copy is discarded and
+     * the entry is left alone (it will be reconsidered upon the next eviction).
+     *
+     * @param entry The {@link CacheIndexEntry} to demote.
+     * @return The number of bytes that were removed from the main cache storage.
+     */
+    private long spillEntry(CacheIndexEntry entry) {
+        int length;
+        BufferView data;
+        synchronized (this.lock) {
+            length = (int) entry.getLength();
+            data = this.cacheStorage.get(entry.getCacheAddress());
+        }
+
+        int spillAddress = CacheStorage.NO_ADDRESS;
+        if (data != null) {
+            try {
+                spillAddress = this.spillStorage.insert(data.slice(0, length));
+            } catch (CacheFullException ex) {
+                log.debug("{}: Unable to demote entry ({}); evicting instead. {}", this.traceObjectId, entry, ex.getMessage());
+            }
+        }
+
+        boolean updated = false;
+        synchronized (this.lock) {
+            if (!this.closed && this.indexEntries.get(entry.key()) == entry && entry.getLength() == length) {
+                if (spillAddress == CacheStorage.NO_ADDRESS) {
+                    this.indexEntries.remove(entry.key());
+                } else {
+                    SpilledIndexEntry spilledEntry = new SpilledIndexEntry(entry.getStreamSegmentOffset(), length, spillAddress);
+                    this.indexEntries.put(spilledEntry);
+                    spilledEntry.setGeneration(this.spillSummary.addOne());
+                }
+
+                updated = true;
+            }
+        }
+
+        if (!updated) {
+            if (spillAddress != CacheStorage.NO_ADDRESS) {
+                this.spillStorage.delete(spillAddress);
+            }
+
+            return 0;
+        }
+
+        deleteData(entry);
+        this.summary.removeOne(entry.getGeneration());
+        return length;
+    }
+
+    private long evictSpilledEntries(Predicate<ReadIndexEntry> isEvictable) {
+        ArrayList<SpilledIndexEntry> toRemove = new ArrayList<>();
+        synchronized (this.lock) {
+            this.indexEntries.forEach(entry -> {
+                if (entry instanceof SpilledIndexEntry && isEvictable.test(entry)) {
+                    toRemove.add((SpilledIndexEntry) entry);
+                }
+            });
+
+            toRemove.forEach(e -> this.indexEntries.remove(e.key()));
+        }
+
+        long totalSize = 0;
+        for (SpilledIndexEntry e : toRemove) {
+            deleteData(e);
+            totalSize += e.getLength();
+        }
+
+        if (!toRemove.isEmpty()) {
+            log.debug("{}: Evicted {} spilled entries totalling {} bytes.", this.traceObjectId, toRemove.size(), totalSize);
+        }
+
+        return totalSize;
+    }
+
     //endregion
 
     //region Properties
@@ -364,7 +526,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     long trimCache() {
         Exceptions.checkNotClosed(this.closed, this);
         Preconditions.checkState(this.recoveryMode, "ReadIndex[%s] is not in recovery mode.", this.traceObjectId);
-        return evictCacheEntries(entry -> isEvictable(entry, Integer.MAX_VALUE)); // Evict anything we don't absolutely need.
+        return evictCacheEntries(entry -> isEvictable(entry, Integer.MAX_VALUE), false); // Evict anything we don't absolutely need.
     }
 
     //endregion
@@ -714,8 +876,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 // This entry has already existed in the cache for a while; do not change its generation.
                 this.summary.addOne(entry.getGeneration());
             } else {
-                // Update the Stats with the entry's length, and set the entry's generation as well.
-                entry.setGeneration(this.summary.addOne());
+                // This entry contains data that can be re-read (from Storage or the spill storage), so we let the eviction
+                // policy decide its generation. Update the Stats with the entry's length, and set the entry's generation as well.
+                int generation = this.evictionPolicy.getInsertGeneration(this.metadata.getId(), entry.getStreamSegmentOffset(),
+                        this.summary.getCurrentGeneration(), this.oldestGeneration);
+                this.summary.addOne(generation);
+                entry.setGeneration(generation);
             }
         }
 
@@ -774,7 +940,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      */
     private void triggerFutureReads(Collection<FutureReadResultEntry> futureReads) {
         for (FutureReadResultEntry r : futureReads) {
-            ReadResultEntry entry = getSingleReadResultEntry(r.getStreamSegmentOffset(), r.getRequestedReadLength(), false);
+            ReadResultEntry entry = getSingleReadResultEntry(r.getStreamSegmentOffset(), r.getRequestedReadLength(), CacheReadMode.Direct);
             assert entry != null : "Serving a FutureReadResultEntry with a null result";
             if (entry instanceof FutureReadResultEntry) {
                 // The only valid situation when we can complete a FutureReadResultEntry with another FutureReadResultEntry
@@ -844,7 +1010,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 return null;
             } else {
                 // Fetch data from the cache for the first entry, but do not update the cache hit stats.
-                nextEntry = createMemoryRead(indexEntry, startOffset, length, false, false);
+                nextEntry = createMemoryRead(indexEntry, startOffset, length, false, CacheReadMode.Direct);
             }
         }
 
@@ -946,11 +1112,11 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param resultStartOffset The Offset within the StreamSegment where to start returning data from.
      * @param maxLength         The maximum number of bytes to return.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param readMode          A {@link CacheReadMode} indicating how to return any data retrieved from the Cache.
      * @return A ReadResultEntry representing the data to return.
      */
     @VisibleForTesting
-    CompletableReadResultEntry getSingleReadResultEntry(long resultStartOffset, int maxLength, boolean makeCopy) {
+    CompletableReadResultEntry getSingleReadResultEntry(long resultStartOffset, int maxLength, CacheReadMode readMode) {
         Exceptions.checkNotClosed(this.closed, this);
 
         if (maxLength < 0) {
@@ -984,7 +1150,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                         result = createDataNotAvailableRead(resultStartOffset, maxLength);
                     } else if (indexEntry.isDataEntry()) {
                         // ResultStartOffset is after the StartOffset and before the End Offset of this entry.
-                        result = createMemoryRead(indexEntry, resultStartOffset, maxLength, true, makeCopy);
+                        result = createMemoryRead(indexEntry, resultStartOffset, maxLength, true, readMode);
+                    } else if (indexEntry instanceof SpilledIndexEntry) {
+                        // ResultStartOffset is within an entry that has been demoted to the spill storage.
+                        result = createSpilledRead((SpilledIndexEntry) indexEntry, resultStartOffset, maxLength, readMode);
                     } else if (indexEntry instanceof RedirectIndexEntry) {
                         // ResultStartOffset is after the StartOffset and before the End Offset of this entry, but this
                         // is a Redirect; reissue the request to the appropriate index.
@@ -996,13 +1165,17 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 }
             }
             if (redirect) {
-                result = createRedirectedRead(resultStartOffset, maxLength, (RedirectIndexEntry) indexEntry, makeCopy);
+                result = createRedirectedRead(resultStartOffset, maxLength, (RedirectIndexEntry) indexEntry, readMode);
             }
         }
 
         // Just before exiting, check we are returning something. We should always return something if we coded this correctly.
         assert result != null : String.format("Reached the end of getSingleReadResultEntry(id=%d, offset=%d, length=%d) "
                 + "with no plausible result in sight. This means we missed a case.", this.metadata.getId(), resultStartOffset, maxLength);
+        if (this.prefetcher != null && (result instanceof CacheReadResultEntry || result instanceof StorageReadResultEntry)) {
+            prefetch(resultStartOffset, result instanceof CacheReadResultEntry);
+        }
+
         return result;
     }
 
@@ -1017,13 +1190,13 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param resultStartOffset The Offset within the StreamSegment where to start returning data from.
      * @param maxLength         The maximum number of bytes to return.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param readMode          A {@link CacheReadMode} indicating how to return any data retrieved from the Cache.
      * @return A ReadResultEntry representing the data to return.
      */
-    private CompletableReadResultEntry getMultiReadResultEntry(long resultStartOffset, int maxLength, boolean makeCopy) {
+    private CompletableReadResultEntry getMultiReadResultEntry(long resultStartOffset, int maxLength, CacheReadMode readMode) {
         int readLength = 0;
 
-        CompletableReadResultEntry nextEntry = getSingleReadResultEntry(resultStartOffset, maxLength, makeCopy);
+        CompletableReadResultEntry nextEntry = getSingleReadResultEntry(resultStartOffset, maxLength, readMode);
         if (nextEntry == null || !(nextEntry instanceof CacheReadResultEntry)) {
             // We can only coalesce CacheReadResultEntries.
             return nextEntry;
@@ -1031,17 +1204,25 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
         // Collect the contents of congruent Index Entries into a list, as long as we still encounter data in the cache.
         ArrayList<BufferView> contents = new ArrayList<>();
-        do {
-            assert Futures.isSuccessful(nextEntry.getContent()) : "Found CacheReadResultEntry that is not completed yet: " + nextEntry;
-            val entryContents = nextEntry.getContent().join();
-            contents.add(entryContents);
-            readLength += entryContents.getLength();
-            if (readLength >= this.config.getMemoryReadMinLength() || readLength >= maxLength) {
-                break;
-            }
+        try {
+            do {
+                assert Futures.isSuccessful(nextEntry.getContent()) : "Found CacheReadResultEntry that is not completed yet: " + nextEntry;
+                val entryContents = nextEntry.getContent().join();
+                contents.add(entryContents);
+                readLength += entryContents.getLength();
+                if (readLength >= this.config.getMemoryReadMinLength() || readLength >= maxLength) {
+                    break;
+                }
 
-            nextEntry = getSingleMemoryReadResultEntry(resultStartOffset + readLength, maxLength - readLength, makeCopy);
-        } while (nextEntry != null);
+                nextEntry = getSingleMemoryReadResultEntry(resultStartOffset + readLength, maxLength - readLength, readMode);
+            } while (nextEntry != null);
+        } catch (Throwable ex) {
+            if (readMode == CacheReadMode.Retain) {
+                // Nobody will get to use what we collected so far, so release it.
+                contents.forEach(BufferView::release);
+            }
+            throw ex;
+        }
 
         // Coalesce the results into a single InputStream and return the result.
         return new CacheReadResultEntry(resultStartOffset, BufferView.wrap(contents));
@@ -1054,10 +1235,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param resultStartOffset The Offset within the StreamSegment where to start returning data from.
      * @param maxLength         The maximum number of bytes to return.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param readMode          A {@link CacheReadMode} indicating how to return any data retrieved from the Cache.
      * @return A CacheReadResultEntry representing the data to return.
      */
-    private CacheReadResultEntry getSingleMemoryReadResultEntry(long resultStartOffset, int maxLength, boolean makeCopy) {
+    private CacheReadResultEntry getSingleMemoryReadResultEntry(long resultStartOffset, int maxLength, CacheReadMode readMode) {
         Exceptions.checkNotClosed(this.closed, this);
 
         if (maxLength > 0 && checkReadAvailability(resultStartOffset, false) == ReadAvailability.Available) {
@@ -1066,7 +1247,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 ReadIndexEntry indexEntry = this.indexEntries.get(resultStartOffset);
                 if (indexEntry != null && indexEntry.isDataEntry()) {
                     // We found an entry; return a result for it.
-                    return createMemoryRead(indexEntry, resultStartOffset, maxLength, true, makeCopy);
+                    return createMemoryRead(indexEntry, resultStartOffset, maxLength, true, readMode);
                 }
             }
         }
@@ -1090,10 +1271,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param streamSegmentOffset This Segment's offset.
      * @param maxLength           Maximum read length.
      * @param entry               {@link RedirectIndexEntry} to read from.
-     * @param makeCopy            Whether to make a copy or not.
+     * @param readMode            A {@link CacheReadMode} indicating how to return any data retrieved from the Cache.
      * @return a {@link CompletableReadResultEntry}.
      */
-    private CompletableReadResultEntry createRedirectedRead(long streamSegmentOffset, int maxLength, RedirectIndexEntry entry, boolean makeCopy) {
+    private CompletableReadResultEntry createRedirectedRead(long streamSegmentOffset, int maxLength, RedirectIndexEntry entry, CacheReadMode readMode) {
         StreamSegmentReadIndex redirectedIndex = entry.getRedirectReadIndex();
         long redirectOffset = streamSegmentOffset - entry.getStreamSegmentOffset();
         long entryLength = entry.getLength(); // This is the source segment length - immutable since the segment must be sealed.
@@ -1112,7 +1293,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
         // Fetch the result from the other index - this method will acquire the other index' lock while executing.
         try {
-            CompletableReadResultEntry result = redirectedIndex.getSingleReadResultEntry(redirectOffset, maxLength, makeCopy);
+            CompletableReadResultEntry result = redirectedIndex.getSingleReadResultEntry(redirectOffset, maxLength, readMode);
             if (result != null) {
                 // Since this is a redirect to a (merged) Transaction, it is possible that between now and when the caller
                 // invokes the requestContent() on the entry the Transaction may be fully merged (in Storage). If that's the
@@ -1122,7 +1303,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 // a pointer to getSingleReadResultEntry to the RedirectedReadResultEntry in case it fails with such an exception;
                 // that class has logic in it to invoke it if needed and get the right entry.
                 result = new RedirectedReadResultEntry(result, entry.getStreamSegmentOffset(),
-                        (rso, ml, sourceSegmentId) -> getOrRegisterRedirectedRead(rso, ml, sourceSegmentId, makeCopy), redirectedIndex.metadata.getId());
+                        (rso, ml, sourceSegmentId) -> getOrRegisterRedirectedRead(rso, ml, sourceSegmentId, readMode), redirectedIndex.metadata.getId());
             }
 
             return result;
@@ -1135,12 +1316,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             if (!redirectedIndex.closed) {
                 throw ex;
             }
-            return getSingleReadResultEntry(streamSegmentOffset, maxLength, makeCopy);
+            return getSingleReadResultEntry(streamSegmentOffset, maxLength, readMode);
         }
     }
 
-    private CompletableReadResultEntry getOrRegisterRedirectedRead(long resultStartOffset, int maxLength, long sourceSegmentId, boolean makeCopy) {
-        CompletableReadResultEntry result = getSingleReadResultEntry(resultStartOffset, maxLength, makeCopy);
+    private CompletableReadResultEntry getOrRegisterRedirectedRead(long resultStartOffset, int maxLength, long sourceSegmentId, CacheReadMode readMode) {
+        CompletableReadResultEntry result = getSingleReadResultEntry(resultStartOffset, maxLength, readMode);
         if (result instanceof RedirectedReadResultEntry) {
             // The merger isn't completed yet. Register the read so that it is completed when the merger is done.
             PendingMerge pendingMerge;
@@ -1164,7 +1345,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                     log.debug("{}: Pending Merge for id {} was sealed for {}; re-issuing.", this.traceObjectId, sourceSegmentId, result);
                 }
 
-                result = getSingleReadResultEntry(resultStartOffset, maxLength, makeCopy);
+                result = getSingleReadResultEntry(resultStartOffset, maxLength, readMode);
             }
         }
 
@@ -1207,10 +1388,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param streamSegmentOffset The Offset in the StreamSegment where to the ReadResultEntry starts at.
      * @param maxLength           The maximum length of the Read, from the Offset of this ReadResultEntry.
      * @param updateStats         If true, the entry's cache generation is updated as a result of this call.
-     * @param makeCopy          If true, any data retrieved from the Cache will be copied into a Heap buffer before being returned.
+     * @param readMode          A {@link CacheReadMode} indicating how to return any data retrieved from the Cache.
      */
     @GuardedBy("lock")
-    private CacheReadResultEntry createMemoryRead(ReadIndexEntry entry, long streamSegmentOffset, int maxLength, boolean updateStats, boolean makeCopy) {
+    private CacheReadResultEntry createMemoryRead(ReadIndexEntry entry, long streamSegmentOffset, int maxLength, boolean updateStats, CacheReadMode readMode) {
         assert streamSegmentOffset >= entry.getStreamSegmentOffset() : String.format("streamSegmentOffset{%d} < entry.getStreamSegmentOffset{%d}", streamSegmentOffset, entry.getStreamSegmentOffset());
 
         int entryOffset = (int) (streamSegmentOffset - entry.getStreamSegmentOffset());
@@ -1219,21 +1400,90 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         assert length > 0 : String.format(
             "length{%d} <= 0. streamSegmentOffset = %d, maxLength = %d, entry.offset = %d, entry.length = %d", length,
             streamSegmentOffset, maxLength, entry.getStreamSegmentOffset(), entry.getLength());
-        BufferView data = this.cacheStorage.get(entry.getCacheAddress());
+        BufferView data = readMode == CacheReadMode.Retain
+                ? this.cacheStorage.getRetained(entry.getCacheAddress())
+                : this.cacheStorage.get(entry.getCacheAddress());
         assert data != null : String.format("No Cache Entry could be retrieved for entry %s", entry);
 
         if (updateStats) {
             // Update its generation before returning it.
-            entry.setGeneration(this.summary.touchOne(entry.getGeneration()));
+            val evictionPolicy = this.evictionPolicy;
+            int generation = evictionPolicy.getAccessGeneration(this.metadata.getId(), entry.getStreamSegmentOffset(),
+                    entry.getGeneration(), this.summary.getCurrentGeneration(), this.oldestGeneration);
+            entry.setGeneration(this.summary.touchOne(entry.getGeneration(), generation));
+            evictionPolicy.recordHit(getCacheEntryType());
         }
 
         data = data.slice(entryOffset, length);
-        if (makeCopy) {
+        if (readMode == CacheReadMode.Copy) {
             data = new ByteArraySegment(data.getCopy());
         }
         return new CacheReadResultEntry(entry.getStreamSegmentOffset() + entryOffset, data);
     }
 
+    /**
+     * Creates a ReadResultEntry for data that has been demoted to the spill storage. The data is promoted back into the
+     * main cache storage (if possible) and served from there; otherwise it is served directly from the spill storage.
+     *
+     * @param entry               The SpilledIndexEntry to use.
+     * @param streamSegmentOffset The Offset in the StreamSegment where to the ReadResultEntry starts at.
+     * @param maxLength           The maximum length of the Read, from the Offset of this ReadResultEntry.
+     * @param readMode            A {@link CacheReadMode} indicating how to return any data retrieved from the Cache.
+     */
+    @GuardedBy("lock")
+    private CacheReadResultEntry createSpilledRead(SpilledIndexEntry entry, long streamSegmentOffset, int maxLength, CacheReadMode readMode) {
+        BufferView data = this.spillStorage.get(entry.getSpillAddress());
+        assert data != null && data.getLength() == entry.getLength() : String.format("No Spill Entry could be retrieved for entry %s", entry);
+
+        CacheIndexEntry promotedEntry = promote(entry, data);
+        if (promotedEntry != null) {
+            return createMemoryRead(promotedEntry, streamSegmentOffset, maxLength, true, readMode);
+        }
+
+        // Unable to promote. Serve the data directly from what we read; this is already a copy so there is no need to
+        // copy it again.
+        this.evictionPolicy.recordHit(getCacheEntryType());
+        int entryOffset = (int) (streamSegmentOffset - entry.getStreamSegmentOffset());
+        int length = (int) Math.min(maxLength, entry.getLength() - entryOffset);
+        return new CacheReadResultEntry(streamSegmentOffset, data.slice(entryOffset, length));
+    }
+
+    /**
+     * Promotes the given {@link SpilledIndexEntry} back into the main cache storage.
+     *
+     * @param entry The {@link SpilledIndexEntry} to promote.
+     * @param data  The entry's data, as read from the spill storage.
+     * @return The {@link CacheIndexEntry} that replaced the given entry, or null if the entry could not be promoted (i.e.,
+     * only essential cache entries are allowed or the main cache storage is full).
+     */
+    @GuardedBy("lock")
+    private CacheIndexEntry promote(SpilledIndexEntry entry, BufferView data) {
+        if (this.storageCacheDisabled) {
+            // Same as data read from Storage, this is not essential.
+            return null;
+        }
+
+        int dataAddress;
+        try {
+            dataAddress = this.cacheStorage.insert(data);
+        } catch (CacheFullException ex) {
+            log.debug("{}: Unable to promote entry ({}). {}", this.traceObjectId, entry, ex.getMessage());
+            return null;
+        }
+
+        if (this.indexEntries.get(entry.key()) != entry) {
+            // The insert above may have triggered a cache cleanup which may have evicted this entry.
+            this.cacheStorage.delete(dataAddress);
+            return null;
+        }
+
+        CacheIndexEntry newEntry = new CacheIndexEntry(entry.getStreamSegmentOffset(), data.getLength(), dataAddress);
+        addToIndex(newEntry);
+        this.spillSummary.removeOne(entry.getGeneration());
+        this.spillStorage.delete(entry.getSpillAddress());
+        return newEntry;
+    }
+
     /**
      * Creates a ReadResultEntry that is a placeholder for data that is not in memory, but exists in Storage.
      *
@@ -1241,9 +1491,14 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param readLength          The maximum length of the Read, from the Offset of this ReadResultEntry.
      */
     private ReadResultEntryBase createStorageRead(long streamSegmentOffset, int readLength) {
+        this.evictionPolicy.recordMiss(getCacheEntryType());
         return new StorageReadResultEntry(streamSegmentOffset, readLength, this::queueStorageRead);
     }
 
+    private CacheEvictionPolicy.EntryType getCacheEntryType() {
+        return this.metadata.getType().isTableSegment() ? CacheEvictionPolicy.EntryType.TABLE : CacheEvictionPolicy.EntryType.STREAM;
+    }
+
     private void queueStorageRead(long offset, int length, Consumer<BufferView> successCallback, Consumer<Throwable> failureCallback, Duration timeout) {
         // Create a callback that inserts into the ReadIndex (and cache) and invokes the success callback.
         Consumer<StorageReadManager.Result> doneCallback = result -> {
@@ -1267,6 +1522,53 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         this.storageReadManager.execute(new StorageReadManager.Request(offset, length, doneCallback, failureCallback, timeout));
     }
 
+    /**
+     * Records a read with the {@link StorageReadPrefetcher} and issues Storage reads for any blocks that it determines
+     * should be read ahead. The data from these reads is inserted into the cache.
+     *
+     * @param offset    The offset that was read.
+     * @param fromCache Whether the read was served from the cache.
+     */
+    private void prefetch(long offset, boolean fromCache) {
+        long storageLength = this.metadata.getStorageLength();
+        if (offset >= storageLength) {
+            // Not a Storage read.
+            return;
+        }
+
+        double cacheCapacity = this.storageCacheDisabled ? 0 : this.getCacheInsertionCapacity.get();
+        List<Long> blocks = this.prefetcher.recordRead(offset, fromCache, cacheCapacity, storageLength);
+        for (long blockOffset : blocks) {
+            synchronized (this.lock) {
+                ReadIndexEntry existingEntry = this.indexEntries.getFloor(blockOffset);
+                if (existingEntry != null && existingEntry.getLastStreamSegmentOffset() >= blockOffset) {
+                    // Already in the index.
+                    continue;
+                }
+            }
+
+            int length = (int) Math.min(this.prefetcher.getBlockLength(), storageLength - blockOffset);
+            Consumer<StorageReadManager.Result> doneCallback = result -> {
+                try {
+                    if (!result.isDerived()) {
+                        insert(blockOffset, result.getData());
+                    }
+                } catch (Exception ex) {
+                    log.debug("{}: Unable to insert read-ahead data (Offset={}, Length={}). {}", this.traceObjectId, blockOffset, length, ex.getMessage());
+                }
+            };
+            Consumer<Throwable> failureCallback = ex ->
+                    log.debug("{}: Unable to read ahead (Offset={}, Length={}). {}", this.traceObjectId, blockOffset, length, ex.getMessage());
+            try {
+                this.storageReadManager.execute(new StorageReadManager.Request(blockOffset, length, doneCallback, failureCallback,
+                        this.config.getStorageReadDefaultTimeout()));
+            } catch (ObjectClosedException ex) {
+                // We have been closed in the meantime. Nothing else to do.
+                return;
+            }
+        }
+    }
+
     /**
      * Returns the length from the given offset until the beginning of the next index entry. If no such entry exists, or
      * if the length is greater than maxLength, then maxLength is returned.
@@ -1329,11 +1631,15 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         Exceptions.checkArgument(offsetAdjustment >= 0, "offsetAdjustment", "offsetAdjustment must be a non-negative number.");
 
         List<MergedIndexEntry> result;
+        List<SpilledIndexEntry> spilledEntries = new ArrayList<>();
         synchronized (this.lock) {
             result = new ArrayList<>(this.indexEntries.size());
             this.indexEntries.forEach(entry -> {
                 if (entry.isDataEntry()) {
                     result.add(new MergedIndexEntry(entry.getStreamSegmentOffset() + offsetAdjustment, this.metadata.getId(), (CacheIndexEntry) entry));
+                } else if (entry instanceof SpilledIndexEntry) {
+                    // These are not transferred to the target index. They are fully in Storage so they can be re-read.
+                    spilledEntries.add((SpilledIndexEntry) entry);
                 }
             });
 
@@ -1342,6 +1648,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             this.indexEntries.clear();
         }
 
+        spilledEntries.forEach(this::deleteData);
         return result;
     }
 
@@ -1350,6 +1657,9 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             synchronized (this.lock) {
                 this.cacheStorage.delete(entry.getCacheAddress());
             }
+        } else if (entry instanceof SpilledIndexEntry) {
+            this.spillStorage.delete(((SpilledIndexEntry) entry).getSpillAddress());
+            this.spillSummary.removeOne(entry.getGeneration());
         }
     }
 
@@ -50,6 +50,8 @@ public class StreamSegmentReadResult implements ReadResult {
     @GuardedBy("this")
     private boolean copyOnRead;
     @GuardedBy("this")
+    private boolean retainOnRead;
+    @GuardedBy("this")
     private int maxReadAtOnce;
 
     //endregion
@@ -113,6 +115,16 @@ public class StreamSegmentReadResult implements ReadResult {
         this.copyOnRead = value;
     }
 
+    @Override
+    public synchronized boolean isRetainOnRead() {
+        return this.retainOnRead;
+    }
+
+    @Override
+    public synchronized void setRetainOnRead(boolean value) {
+        this.retainOnRead = value;
+    }
+
     @Override
     public synchronized int getMaxReadAtOnce() {
         return this.maxReadAtOnce;
@@ -205,7 +217,8 @@ public class StreamSegmentReadResult implements ReadResult {
         // Retrieve the next item.
         long startOffset = this.streamSegmentStartOffset + this.consumedLength;
         int remainingLength = Math.min(this.maxReadAtOnce, this.maxResultLength - this.consumedLength);
-        CompletableReadResultEntry entry = this.getNextItem.apply(startOffset, remainingLength, this.copyOnRead);
+        CacheReadMode readMode = this.retainOnRead ? CacheReadMode.Retain : (this.copyOnRead ? CacheReadMode.Copy : CacheReadMode.Direct);
+        CompletableReadResultEntry entry = this.getNextItem.apply(startOffset, remainingLength, readMode);
 
         if (entry == null) {
             assert remainingLength <= 0 : String.format("No ReadResultEntry received when one was expected. Offset %d, MaxLen %d.", startOffset, remainingLength);
@@ -244,12 +257,12 @@ public class StreamSegmentReadResult implements ReadResult {
     //region NextEntrySupplier
 
     /**
-     * Defines a Function that given a startOffset (long), remainingLength (int) and whether to make a copy of any returned
-     * cached data, returns the next entry to be consumed (CompletableReadResultEntry).
+     * Defines a Function that given a startOffset (long), remainingLength (int) and how to return any cached data
+     * ({@link CacheReadMode}), returns the next entry to be consumed (CompletableReadResultEntry).
      */
     @FunctionalInterface
     public interface NextEntrySupplier {
-        CompletableReadResultEntry apply(Long startOffset, Integer remainingLength, Boolean makeCopy);
+        CompletableReadResultEntry apply(Long startOffset, Integer remainingLength, CacheReadMode readMode);
     }
 
     //endregion
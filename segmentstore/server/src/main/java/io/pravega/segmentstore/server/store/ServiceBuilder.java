@@ -52,10 +52,14 @@ import io.pravega.segmentstore.storage.ConfigSetup;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.DurableDataLogFactory;
 import io.pravega.segmentstore.storage.StorageFactory;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.FileCacheStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkedSegmentStorageConfig;
 import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
 import io.pravega.segmentstore.storage.mocks.InMemorySimpleStorageFactory;
 import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -139,7 +143,17 @@ public class ServiceBuilder implements AutoCloseable {
                 instancePrefix + "low-priority-cleanup", Thread.MIN_PRIORITY);
         this.threadPoolMetrics = new SegmentStoreMetrics.ThreadPool(this.coreExecutor, this.storageExecutor);
 
-        this.cacheManager = new CacheManager(serviceConfig.getCachePolicy(), this.coreExecutor);
+        this.cacheManager = createCacheManager(serviceConfig, this.coreExecutor);
+    }
+
+    private static CacheManager createCacheManager(ServiceConfig serviceConfig, ScheduledExecutorService executor) {
+        if (serviceConfig.getCacheSpillMaxSize() <= 0) {
+            return new CacheManager(serviceConfig.getCachePolicy(), executor);
+        }
+
+        CacheStorage spillStorage = new FileCacheStorage(Paths.get(serviceConfig.getCacheSpillPath()), serviceConfig.getCacheSpillMaxSize());
+        return new CacheManager(serviceConfig.getCachePolicy(), new DirectMemoryCache(serviceConfig.getCachePolicy().getMaxSize()),
+                spillStorage, executor);
     }
 
     private String getInstanceIdPrefix(ServiceConfig serviceConfig) {
@@ -21,6 +21,7 @@ import io.pravega.common.util.ConfigBuilder;
 import io.pravega.common.util.ConfigurationException;
 import io.pravega.common.util.Property;
 import io.pravega.common.util.TypedProperties;
+import io.pravega.segmentstore.server.CacheEvictionPolicy;
 import io.pravega.segmentstore.server.CachePolicy;
 import io.pravega.segmentstore.storage.StorageLayoutType;
 import io.pravega.shared.rest.RESTServerConfig;
@@ -79,6 +80,9 @@ public class ServiceConfig {
         "cache.utilization.percent.max", (int) (100 * CachePolicy.DEFAULT_MAX_UTILIZATION), "cacheMaxUtilizationPercent");
     public static final Property<Integer> CACHE_POLICY_MAX_TIME = Property.named("cache.time.seconds.max", 30 * 60, "cacheMaxTimeSeconds");
     public static final Property<Integer> CACHE_POLICY_GENERATION_TIME = Property.named("cache.generation.duration.seconds", 1, "cacheGenerationTimeSeconds");
+    public static final Property<CacheEvictionPolicy.Type> CACHE_POLICY_EVICTION_POLICY = Property.named("cache.eviction.policy", CacheEvictionPolicy.Type.GENERATIONAL);
+    public static final Property<String> CACHE_SPILL_PATH = Property.named("cache.spill.path", "");
+    public static final Property<Long> CACHE_SPILL_MAX_SIZE = Property.named("cache.spill.size.max", 0L);
     public static final Property<Boolean> REPLY_WITH_STACK_TRACE_ON_ERROR = Property.named("request.replyWithStackTraceOnError.enable", false, "replyWithStackTraceOnError");
     public static final Property<String> INSTANCE_ID = Property.named("instance.id", "");
 
@@ -316,6 +320,19 @@ public class ServiceConfig {
     @Getter
     private final CachePolicy cachePolicy;
 
+    /**
+     * The path to the file that backs the spill cache storage. Only used if {@link #getCacheSpillMaxSize()} is positive.
+     */
+    @Getter
+    private final String cacheSpillPath;
+
+    /**
+     * The maximum size of the spill cache storage. Entries evicted from the (in-memory) cache are demoted to this
+     * file-backed storage instead of being discarded. If 0, this is disabled.
+     */
+    @Getter
+    private final long cacheSpillMaxSize;
+
     /**
      * Defines whether server-side stack traces should be send to clients as part of an error response.
      */
@@ -424,7 +441,15 @@ public class ServiceConfig {
         int cachePolicyMaxTime = properties.getInt(CACHE_POLICY_MAX_TIME);
         int cachePolicyGenerationTime = properties.getInt(CACHE_POLICY_GENERATION_TIME);
         this.cachePolicy = new CachePolicy(cachePolicyMaxSize, cachePolicyTargetUtilization, cachePolicyMaxUtilization,
-                Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime));
+                Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime),
+                properties.getEnum(CACHE_POLICY_EVICTION_POLICY, CacheEvictionPolicy.Type.class));
+        this.cacheSpillPath = properties.get(CACHE_SPILL_PATH);
+        this.cacheSpillMaxSize = properties.getLong(CACHE_SPILL_MAX_SIZE);
+        if (this.cacheSpillMaxSize < 0 || (this.cacheSpillMaxSize > 0 && Strings.isNullOrEmpty(this.cacheSpillPath))) {
+            throw new ConfigurationException(String.format("Property '%s' must be non-negative and '%s' must be set if it is positive.",
+                    CACHE_SPILL_MAX_SIZE, CACHE_SPILL_PATH));
+        }
+
         this.replyWithStackTraceOnError = properties.getBoolean(REPLY_WITH_STACK_TRACE_ON_ERROR);
         this.instanceId = properties.get(INSTANCE_ID);
         this.restListeningIPAddress = properties.get(REST_LISTENING_HOST);
@@ -491,6 +516,8 @@ public class ServiceConfig {
                         Strings.isNullOrEmpty(keyFile) ? "unspecified" : "specified"))
                 .append(String.format("enableTlsReload: %b, ", enableTlsReload))
                 .append(String.format("cachePolicy is %s, ", (cachePolicy != null) ? cachePolicy.toString() : "null"))
+                .append(String.format("cacheSpillPath: %s, ", cacheSpillPath))
+                .append(String.format("cacheSpillMaxSize: %d, ", cacheSpillMaxSize))
                 .append(String.format("replyWithStackTraceOnError: %b, ", replyWithStackTraceOnError))
                 .append(String.format("instanceId: %s", instanceId))
                 .append(String.format("enableAdminGateway: %b, ", enableAdminGateway))
@@ -0,0 +1,205 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Open-addressing hash map of source offsets to target offsets (backpointers), backed by a single long array.
+ *
+ * Each entry is stored as two consecutive longs, so no objects are allocated per entry. Collisions are resolved using
+ * linear probing. Entries are only ever removed in bulk (see {@link #removeSourcesBefore}), which rebuilds the backing
+ * array, so there are no tombstones.
+ */
+@NotThreadSafe
+class BackpointerMap {
+    //region Members
+
+    private static final int ENTRY_LENGTH = 2;
+    private static final int MIN_CAPACITY = 16;
+    /**
+     * Marks empty slots. Source offsets are never negative.
+     */
+    private static final long EMPTY = -1L;
+    private long[] table;
+    private int mask;
+    private int size;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new empty instance of the BackpointerMap class.
+     */
+    BackpointerMap() {
+        this.table = allocate(MIN_CAPACITY);
+        this.mask = MIN_CAPACITY - 1;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return The number of entries.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the target offset for the given source offset.
+     *
+     * @param sourceOffset The source offset.
+     * @param defaultValue The value to return if there is no backpointer from the source offset.
+     * @return The target offset, or defaultValue.
+     */
+    long getOrDefault(long sourceOffset, long defaultValue) {
+        int index = slot(sourceOffset, this.mask);
+        while (this.table[index] != EMPTY) {
+            if (this.table[index] == sourceOffset) {
+                return this.table[index + 1];
+            }
+
+            index = next(index, this.table.length);
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Records a backpointer from the given source offset to the given target offset, replacing any existing one.
+     *
+     * @param sourceOffset The source offset. Must be non-negative.
+     * @param targetOffset The target offset.
+     */
+    void put(long sourceOffset, long targetOffset) {
+        Preconditions.checkArgument(sourceOffset >= 0, "sourceOffset must be non-negative.");
+        if (this.size >= maxSize(this.table.length / ENTRY_LENGTH)) {
+            rebuild(this.table.length / ENTRY_LENGTH * 2, Long.MIN_VALUE);
+        }
+
+        if (insert(this.table, this.mask, sourceOffset, targetOffset)) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Removes all backpointers whose source offsets are smaller than the given offset. The backing array is resized
+     * to fit the remaining entries.
+     *
+     * @param offset The offset.
+     */
+    void removeSourcesBefore(long offset) {
+        int remaining = 0;
+        for (int index = 0; index < this.table.length; index += ENTRY_LENGTH) {
+            if (this.table[index] != EMPTY && this.table[index] >= offset) {
+                remaining++;
+            }
+        }
+
+        if (remaining == this.size) {
+            // Nothing to remove.
+            return;
+        }
+
+        int capacity = MIN_CAPACITY;
+        while (maxSize(capacity) / 2 < remaining) {
+            capacity *= 2;
+        }
+
+        rebuild(capacity, offset);
+        assert this.size == remaining;
+    }
+
+    /**
+     * Gets the number of bytes allocated for the backing array.
+     *
+     * @return The number of bytes.
+     */
+    long getAllocatedBytes() {
+        return (long) this.table.length * Long.BYTES;
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private static boolean insert(long[] table, int mask, long sourceOffset, long targetOffset) {
+        int index = slot(sourceOffset, mask);
+        while (table[index] != EMPTY) {
+            if (table[index] == sourceOffset) {
+                table[index + 1] = targetOffset;
+                return false;
+            }
+
+            index = next(index, table.length);
+        }
+
+        table[index] = sourceOffset;
+        table[index + 1] = targetOffset;
+        return true;
+    }
+
+    /**
+     * Moves all entries whose source offsets are at least minSourceOffset into a new array with the given capacity.
+     */
+    private void rebuild(int capacity, long minSourceOffset) {
+        long[] oldTable = this.table;
+        this.table = allocate(capacity);
+        this.mask = capacity - 1;
+        this.size = 0;
+        for (int index = 0; index < oldTable.length; index += ENTRY_LENGTH) {
+            if (oldTable[index] != EMPTY && oldTable[index] >= minSourceOffset) {
+                insert(this.table, this.mask, oldTable[index], oldTable[index + 1]);
+                this.size++;
+            }
+        }
+    }
+
+    private static long[] allocate(int capacity) {
+        long[] table = new long[capacity * ENTRY_LENGTH];
+        for (int index = 0; index < table.length; index += ENTRY_LENGTH) {
+            table[index] = EMPTY;
+        }
+        return table;
+    }
+
+    private static int maxSize(int capacity) {
+        return capacity / 4 * 3;
+    }
+
+    private static int slot(long sourceOffset, int mask) {
+        long h = sourceOffset * 0x9E3779B97F4A7C15L;
+        return ((int) (h >>> 32) & mask) * ENTRY_LENGTH;
+    }
+
+    private static int next(int index, int length) {
+        index += ENTRY_LENGTH;
+        return index == length ? 0 : index;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Size = %s, Capacity = %s.", this.size, this.table.length / ENTRY_LENGTH);
+    }
+
+    //endregion
+}
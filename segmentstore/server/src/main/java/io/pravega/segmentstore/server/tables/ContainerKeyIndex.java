@@ -92,6 +92,9 @@ class ContainerKeyIndex implements AutoCloseable {
     private final String traceObjectId;
     private final int containerId;
     private final TableExtensionConfig config;
+    @GuardedBy("keyHashFilters")
+    private final HashMap<Long, CompletableFuture<KeyHashFilter>> keyHashFilters;
+    private final SegmentStoreMetrics.TableBloomFilter keyHashFilterMetrics;
 
     //endregion
 
@@ -103,7 +106,8 @@ class ContainerKeyIndex implements AutoCloseable {
      * @param containerId  Id of the SegmentContainer this instance is associated with.
      * @param config       Configuration.
      * @param cacheManager A {@link CacheManager} that can be used to manage Cache instances.
-     * @param keyHasher    A {@link KeyHasher} that can be used to hash keys.
+     * @param keyHasher    A {@link KeyHasher} that can be used to hash keys. {@link KeyHasher#forSegment} will be used to
+     *                     select the {@link KeyHasher} for each Table Segment.
      * @param executor     Executor for async operations.
      */
     ContainerKeyIndex(int containerId, @NonNull TableExtensionConfig config, @NonNull CacheManager cacheManager,
@@ -120,6 +124,8 @@ class ContainerKeyIndex implements AutoCloseable {
         this.traceObjectId = String.format("KeyIndex[%d]", containerId);
         this.containerId = containerId;
         this.config = config;
+        this.keyHashFilters = new HashMap<>();
+        this.keyHashFilterMetrics = new SegmentStoreMetrics.TableBloomFilter(containerId);
     }
 
     //endregion
@@ -133,6 +139,13 @@ class ContainerKeyIndex implements AutoCloseable {
             this.cacheManager.unregister(this.cache);
             this.cache.close();
             this.segmentTracker.close();
+            List<CompletableFuture<KeyHashFilter>> filters;
+            synchronized (this.keyHashFilters) {
+                filters = new ArrayList<>(this.keyHashFilters.values());
+                this.keyHashFilters.clear();
+            }
+            filters.forEach(ContainerKeyIndex::closeKeyHashFilter);
+            this.keyHashFilterMetrics.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -247,8 +260,99 @@ class ContainerKeyIndex implements AutoCloseable {
             val result = new HashMap<UUID, Long>();
             val toLookup = new ArrayList<UUID>();
             getFromTailCache(segment, hashes, result, toLookup);
-            return toLookup.isEmpty() ? CompletableFuture.completedFuture(result) :
-                    getBucketOffsetFromSegment(segment, result, toLookup, cacheUpdated, timer); // No luck, lookup the actual index.
+            if (toLookup.isEmpty()) {
+                return CompletableFuture.completedFuture(result);
+            } else if (cacheUpdated) {
+                // The cache has been updated while we were waiting; it must be consulted again for any missing Key Hashes,
+                // so we cannot rule them out using the KeyHashFilter.
+                return getBucketOffsetFromSegment(segment, result, toLookup, true, timer);
+            }
+
+            // No luck, lookup the actual index (after excluding those Key Hashes that are definitely not indexed).
+            return getKeyHashFilterForLookup(segment, timer)
+                    .thenCompose(keyHashFilter -> getBucketOffsetFromSegmentFiltered(segment, result, toLookup, keyHashFilter, timer));
+        });
+    }
+
+    private CompletableFuture<Map<UUID, Long>> getBucketOffsetFromSegmentFiltered(DirectSegmentAccess segment, HashMap<UUID, Long> result,
+                                                                                  List<UUID> toLookup, KeyHashFilter keyHashFilter, TimeoutTimer timer) {
+        if (keyHashFilter == null) {
+            return getBucketOffsetFromSegment(segment, result, toLookup, false, timer);
+        }
+
+        // Anything excluded by the filter is not indexed; result already has TableKey.NOT_EXISTS for them.
+        val filtered = toLookup.stream().filter(keyHashFilter::mightContain).collect(Collectors.toList());
+        int savedLookups = toLookup.size() - filtered.size();
+        if (filtered.isEmpty()) {
+            this.keyHashFilterMetrics.lookupsFiltered(savedLookups, 0);
+            return CompletableFuture.completedFuture(result);
+        }
+
+        return getBucketOffsetFromSegment(segment, result, filtered, false, timer)
+                .thenApply(r -> {
+                    int falsePositives = (int) filtered.stream().filter(h -> r.get(h) == TableKey.NOT_EXISTS).count();
+                    this.keyHashFilterMetrics.lookupsFiltered(savedLookups, falsePositives);
+                    return r;
+                });
+    }
+
+    /**
+     * Gets the {@link KeyHashFilter} for the given Segment. The filter will be loaded from the Segment if not already
+     * loaded; a single instance is used for both lookups and updates (via {@link TableWriterConnector#getKeyHashFilter}).
+     *
+     * @param segment The Segment to get the {@link KeyHashFilter} for.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the {@link KeyHashFilter}, or null if the Segment
+     * does not have one or it is stale. A stale filter will remain stale (it is not updated without being loaded), so
+     * that result is kept; a failed load (including one that kept racing with index updates) is not, and the next call
+     * will retry it.
+     */
+    CompletableFuture<KeyHashFilter> getKeyHashFilter(DirectSegmentAccess segment, Duration timeout) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        if (KeyHashFilter.getSizeBits(segment.getInfo()) == 0) {
+            // This Segment does not have a filter.
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<KeyHashFilter> result;
+        boolean load = false;
+        synchronized (this.keyHashFilters) {
+            result = this.keyHashFilters.get(segment.getSegmentId());
+            if (result == null) {
+                result = new CompletableFuture<>();
+                this.keyHashFilters.put(segment.getSegmentId(), result);
+                load = true;
+            }
+        }
+
+        if (load) {
+            val loadResult = result;
+            loadResult.whenComplete((filter, ex) -> {
+                if (ex != null) {
+                    log.warn("{}: Unable to load KeyHashFilter for Segment {}.", this.traceObjectId, segment.getSegmentId(), ex);
+                    synchronized (this.keyHashFilters) {
+                        this.keyHashFilters.remove(segment.getSegmentId(), loadResult);
+                    }
+                } else {
+                    log.debug("{}: Loaded KeyHashFilter for Segment {}: {}.", this.traceObjectId, segment.getSegmentId(), filter);
+                }
+            });
+            Futures.completeAfter(() -> KeyHashFilter.load(segment, this.cacheManager.getCacheStorage(), this.executor, timeout), loadResult);
+        }
+
+        return result;
+    }
+
+    private CompletableFuture<KeyHashFilter> getKeyHashFilterForLookup(DirectSegmentAccess segment, TimeoutTimer timer) {
+        // Lookups do not depend on the filter; if we cannot load it, we will just search the index.
+        return Futures.exceptionallyExpecting(getKeyHashFilter(segment, timer.getRemaining()), ex -> true, null);
+    }
+
+    private static void closeKeyHashFilter(CompletableFuture<KeyHashFilter> filterFuture) {
+        filterFuture.thenAccept(filter -> {
+            if (filter != null) {
+                filter.close();
+            }
         });
     }
 
@@ -554,7 +658,7 @@ class ContainerKeyIndex implements AutoCloseable {
                         // because the cache points to a truncated offset or because we are unable to determine
                         // if the TableBucket has been rearranged due to a compaction. The rearrangement is a rare
                         // occurrence and can only happen if more than one Key is mapped to a bucket (collision).
-                        return getBucketOffsetDirect(segment, this.keyHasher.hash(key), timer)
+                        return getBucketOffsetDirect(segment, this.keyHasher.forSegment(segment.getInfo()).hash(key), timer)
                                 .thenComposeAsync(newOffset -> bucketReader.find(key, newOffset, timer), this.executor);
                     }
                 }, this.executor);
@@ -572,6 +676,16 @@ class ContainerKeyIndex implements AutoCloseable {
     void notifyIndexOffsetChanged(long segmentId, long indexOffset, int processedBytes) {
         this.cache.updateSegmentIndexOffset(segmentId, indexOffset);
         this.segmentTracker.updateSegmentIndexOffset(segmentId, indexOffset, processedBytes);
+        if (indexOffset < 0) {
+            CompletableFuture<KeyHashFilter> filter;
+            synchronized (this.keyHashFilters) {
+                filter = this.keyHashFilters.remove(segmentId);
+            }
+
+            if (filter != null) {
+                closeKeyHashFilter(filter);
+            }
+        }
     }
 
     /**
@@ -693,12 +807,13 @@ class ContainerKeyIndex implements AutoCloseable {
         log.debug("{}: Tail-caching batch started for Table Segment {}. StartOffset={}, MaxLength={}.",
                 this.traceObjectId, segment.getSegmentId(), startOffset, maxLength);
         val timer = new Timer();
+        val segmentHasher = this.keyHasher.forSegment(segment.getInfo());
         ReadResult rr = segment.read(startOffset, maxLength, this.config.getRecoveryTimeout());
         return AsyncReadResultProcessor
                 .processAll(rr, this.executor, this.config.getRecoveryTimeout())
                 .thenApplyAsync(inputData -> {
                     // Parse out all Table Keys and collect their latest offsets, as well as whether they were deleted.
-                    collectEntriesWithHighestVersion(inputData, startOffset, maxLength, updates, tailCachePreIndexVersionTracker, lastIndexedOffset);
+                    collectEntriesWithHighestVersion(inputData, startOffset, maxLength, segmentHasher, updates, tailCachePreIndexVersionTracker, lastIndexedOffset);
 
                     log.debug("{}: Tail-caching batch complete for Table Segment {}. StartOffset={}, EndOffset={}, Updated Keys Count={}, Key Updates Count={}, Elapsed={}ms.",
                             this.traceObjectId, segment.getSegmentId(), startOffset, updates.getMaxOffset(), updates.byBucket.size(), updates.getKeyUpdateCount(), timer.getElapsedMillis());
@@ -714,11 +829,12 @@ class ContainerKeyIndex implements AutoCloseable {
      * @param input Input data to read Table Entries from.
      * @param startOffset Start offset from which the input data refers to in the Segment.
      * @param maxLength Max amount of data to process in this batch.
+     * @param segmentHasher The {@link KeyHasher} to use for this Table Segment.
      * @param result Table Entries processed with max version.
      * @param tailCachePreIndexVersionTracker Helps to track versions of entries to select the highest ones.
      */
     @SneakyThrows(IOException.class)
-    private void collectEntriesWithHighestVersion(BufferView input, long startOffset, int maxLength, TailUpdates result,
+    private void collectEntriesWithHighestVersion(BufferView input, long startOffset, int maxLength, KeyHasher segmentHasher, TailUpdates result,
                                                   Map<UUID, Long> tailCachePreIndexVersionTracker, long lastIndexedOffset) {
         EntrySerializer serializer = new EntrySerializer();
         long nextOffset = startOffset;
@@ -727,7 +843,7 @@ class ContainerKeyIndex implements AutoCloseable {
         try {
             while (nextOffset < maxOffset) {
                 val e = AsyncTableEntryReader.readEntryComponents(inputReader, nextOffset, serializer);
-                val hash = this.keyHasher.hash(e.getKey());
+                val hash = segmentHasher.hash(e.getKey());
                 // Consider for the tail cache the new entries or the entries whose version is higher than the observed one.
                 if (!tailCachePreIndexVersionTracker.containsKey(hash) || tailCachePreIndexVersionTracker.get(hash) < e.getVersion()) {
                     tailCachePreIndexVersionTracker.put(hash, e.getVersion());
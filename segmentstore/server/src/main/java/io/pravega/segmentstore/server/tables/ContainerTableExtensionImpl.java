@@ -79,7 +79,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
      * @param executor         An Executor to use for async tasks.
      */
     public ContainerTableExtensionImpl(TableExtensionConfig config, SegmentContainer segmentContainer, CacheManager cacheManager, ScheduledExecutorService executor) {
-        this(config, segmentContainer, cacheManager, KeyHasher.sha256(), executor);
+        this(config, segmentContainer, cacheManager, KeyHasher.versioned(config.getDefaultKeyHashVersion()), executor);
     }
 
     /**
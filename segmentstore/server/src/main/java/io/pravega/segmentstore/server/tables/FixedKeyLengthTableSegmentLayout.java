@@ -365,7 +365,7 @@ class FixedKeyLengthTableSegmentLayout extends TableSegmentLayout {
                 ? AttributeId.Variable.maxValue(segmentKeyLength)
                 : AttributeId.from(args.getTo().getCopy());
         val timer = new TimeoutTimer(args.getFetchTimeout());
-        return segment.attributeIterator(fromId, toId, timer.getRemaining())
+        return segment.attributeIterator(fromId, toId, args.isReverse(), timer.getRemaining())
                 .thenApply(ai -> new TableIterator<>(ai, segment, getItems, timer));
     }
 
@@ -0,0 +1,273 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.base.Preconditions;
+import java.util.UUID;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Open-addressing hash map of Key Hashes to {@link CacheBucketOffset}s, backed by a single long array.
+ *
+ * Each entry is stored as three consecutive longs (the two halves of the Key Hash and the encoded {@link CacheBucketOffset}),
+ * so no objects are allocated per entry. Collisions are resolved using linear probing and removals use backward shift
+ * deletion, so there are no tombstones and lookups never degrade after many removals.
+ */
+@NotThreadSafe
+class HashOffsetMap {
+    //region Members
+
+    private static final int ENTRY_LENGTH = 3;
+    private static final int VALUE_OFFSET = 2;
+    private static final int MIN_CAPACITY = 16;
+    /**
+     * Marks empty slots. {@link CacheBucketOffset#encode()} never produces this value, as that would be a removal at
+     * offset {@link Long#MAX_VALUE}.
+     */
+    private static final long EMPTY = -1L;
+    private long[] table;
+    private int mask;
+    private int size;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new empty instance of the HashOffsetMap class.
+     */
+    HashOffsetMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return The number of entries.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of entries in this map whose {@link CacheBucketOffset} is a removal.
+     *
+     * @return The number of removals.
+     */
+    int getRemovalCount() {
+        int count = 0;
+        for (int index = VALUE_OFFSET; index < this.table.length; index += ENTRY_LENGTH) {
+            if (this.table[index] != EMPTY && this.table[index] < 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the {@link CacheBucketOffset} associated with the given Key Hash.
+     *
+     * @param keyHash The Key Hash to look up.
+     * @return The {@link CacheBucketOffset}, or null if the Key Hash is not in this map.
+     */
+    CacheBucketOffset get(UUID keyHash) {
+        int index = find(keyHash.getMostSignificantBits(), keyHash.getLeastSignificantBits());
+        return index < 0 ? null : CacheBucketOffset.decode(this.table[index + VALUE_OFFSET]);
+    }
+
+    /**
+     * Associates the given {@link CacheBucketOffset} with the given Key Hash, replacing any existing association.
+     *
+     * @param keyHash The Key Hash.
+     * @param offset  The {@link CacheBucketOffset} to associate.
+     */
+    void put(UUID keyHash, CacheBucketOffset offset) {
+        long encoded = offset.encode();
+        Preconditions.checkArgument(encoded != EMPTY, "Invalid offset %s.", offset);
+        if (this.size >= maxSize(this.table.length / ENTRY_LENGTH)) {
+            rehash(this.table.length / ENTRY_LENGTH * 2);
+        }
+
+        if (insert(this.table, this.mask, keyHash.getMostSignificantBits(), keyHash.getLeastSignificantBits(), encoded)) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Removes the association for the given Key Hash, but only if it is currently associated with the given
+     * {@link CacheBucketOffset}.
+     *
+     * @param keyHash The Key Hash.
+     * @param offset  The expected {@link CacheBucketOffset}.
+     * @return True if the entry was removed, false otherwise.
+     */
+    boolean remove(UUID keyHash, CacheBucketOffset offset) {
+        int index = find(keyHash.getMostSignificantBits(), keyHash.getLeastSignificantBits());
+        if (index < 0 || this.table[index + VALUE_OFFSET] != offset.encode()) {
+            return false;
+        }
+
+        delete(index);
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Invokes the given consumer for every entry in this map. The map must not be modified while this is in progress.
+     *
+     * @param consumer The consumer to invoke.
+     */
+    void forEach(EntryConsumer consumer) {
+        for (int index = 0; index < this.table.length; index += ENTRY_LENGTH) {
+            if (this.table[index + VALUE_OFFSET] != EMPTY) {
+                consumer.accept(new UUID(this.table[index], this.table[index + 1]), CacheBucketOffset.decode(this.table[index + VALUE_OFFSET]));
+            }
+        }
+    }
+
+    /**
+     * Shrinks the backing array if it is mostly empty, such as after most entries have been removed.
+     */
+    void trimToSize() {
+        int capacity = this.table.length / ENTRY_LENGTH;
+        int newCapacity = capacity;
+        while (newCapacity > MIN_CAPACITY && this.size < maxSize(newCapacity / 2) / 2) {
+            newCapacity /= 2;
+        }
+
+        if (newCapacity < capacity) {
+            rehash(newCapacity);
+        }
+    }
+
+    /**
+     * Gets the number of bytes allocated for the backing array.
+     *
+     * @return The number of bytes.
+     */
+    long getAllocatedBytes() {
+        return (long) this.table.length * Long.BYTES;
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private int find(long msb, long lsb) {
+        int index = slot(msb, lsb, this.mask);
+        while (this.table[index + VALUE_OFFSET] != EMPTY) {
+            if (this.table[index] == msb && this.table[index + 1] == lsb) {
+                return index;
+            }
+
+            index = next(index, this.table.length);
+        }
+
+        return -1;
+    }
+
+    private static boolean insert(long[] table, int mask, long msb, long lsb, long value) {
+        int index = slot(msb, lsb, mask);
+        while (table[index + VALUE_OFFSET] != EMPTY) {
+            if (table[index] == msb && table[index + 1] == lsb) {
+                table[index + VALUE_OFFSET] = value;
+                return false;
+            }
+
+            index = next(index, table.length);
+        }
+
+        table[index] = msb;
+        table[index + 1] = lsb;
+        table[index + VALUE_OFFSET] = value;
+        return true;
+    }
+
+    /**
+     * Empties the entry at the given index and shifts back any following entries in the same probe sequence.
+     */
+    private void delete(int index) {
+        int gap = index;
+        int current = next(index, this.table.length);
+        while (this.table[current + VALUE_OFFSET] != EMPTY) {
+            int home = slot(this.table[current], this.table[current + 1], this.mask);
+            // The entry can be moved to the gap if the gap is not before its home slot (cyclically).
+            if (distance(home, current) >= distance(gap, current)) {
+                System.arraycopy(this.table, current, this.table, gap, ENTRY_LENGTH);
+                gap = current;
+            }
+
+            current = next(current, this.table.length);
+        }
+
+        this.table[gap + VALUE_OFFSET] = EMPTY;
+    }
+
+    private int distance(int from, int to) {
+        return Math.floorMod(to - from, this.table.length);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldTable = this.table;
+        allocate(newCapacity);
+        for (int index = 0; index < oldTable.length; index += ENTRY_LENGTH) {
+            if (oldTable[index + VALUE_OFFSET] != EMPTY) {
+                insert(this.table, this.mask, oldTable[index], oldTable[index + 1], oldTable[index + VALUE_OFFSET]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.table = new long[capacity * ENTRY_LENGTH];
+        this.mask = capacity - 1;
+        for (int index = VALUE_OFFSET; index < this.table.length; index += ENTRY_LENGTH) {
+            this.table[index] = EMPTY;
+        }
+    }
+
+    private static int maxSize(int capacity) {
+        return capacity / 4 * 3;
+    }
+
+    private static int slot(long msb, long lsb, int mask) {
+        long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return ((int) (h >>> 32) & mask) * ENTRY_LENGTH;
+    }
+
+    private static int next(int index, int length) {
+        index += ENTRY_LENGTH;
+        return index == length ? 0 : index;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Size = %s, Capacity = %s.", this.size, this.table.length / ENTRY_LENGTH);
+    }
+
+    //endregion
+
+    /**
+     * Consumer for entries in a {@link HashOffsetMap}.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(UUID keyHash, CacheBucketOffset offset);
+    }
+}
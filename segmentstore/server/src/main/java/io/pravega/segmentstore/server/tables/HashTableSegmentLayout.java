@@ -111,6 +111,13 @@ class HashTableSegmentLayout extends TableSegmentLayout {
         if (config.getRolloverSizeBytes() > 0) {
             result.put(Attributes.ROLLOVER_SIZE, config.getRolloverSizeBytes());
         }
+        val hashVersion = this.hasher.getHashVersion();
+        if (hashVersion != null) {
+            result.put(TableAttributes.KEY_HASH_VERSION, hashVersion);
+        }
+        if (this.config.getDefaultBloomFilterSize() > 0) {
+            result.put(TableAttributes.BLOOM_FILTER_SIZE, this.config.getDefaultBloomFilterSize());
+        }
         return result;
     }
 
@@ -134,7 +141,7 @@ class HashTableSegmentLayout extends TableSegmentLayout {
 
         // Generate an Update Batch for all the entries (since we need to know their Key Hashes and relative
         // offsets in the batch itself).
-        val updateBatch = batch(entries, TableEntry::getKey, this.serializer::getUpdateLength, TableKeyBatch.update());
+        val updateBatch = batch(entries, TableEntry::getKey, this.serializer::getUpdateLength, this.hasher.forSegment(segmentInfo), TableKeyBatch.update());
         logRequest("put", segmentInfo.getName(), updateBatch.isConditional(), tableSegmentOffset, entries.size(), updateBatch.getLength());
         return this.keyIndex.update(segment, updateBatch,
                 () -> commit(entries, this.serializer::serializeUpdate, segment, tableSegmentOffset, timer.getRemaining()), timer);
@@ -144,7 +151,7 @@ class HashTableSegmentLayout extends TableSegmentLayout {
     CompletableFuture<Void> remove(@NonNull DirectSegmentAccess segment, @NonNull Collection<TableKey> keys, long tableSegmentOffset, TimeoutTimer timer) {
         val segmentInfo = segment.getInfo();
         ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
-        val removeBatch = batch(keys, key -> key, this.serializer::getRemovalLength, TableKeyBatch.removal());
+        val removeBatch = batch(keys, key -> key, this.serializer::getRemovalLength, this.hasher.forSegment(segmentInfo), TableKeyBatch.removal());
         logRequest("remove", segmentInfo.getName(), removeBatch.isConditional(), removeBatch.isRemoval(),
                 keys.size(), removeBatch.getLength());
         return this.keyIndex.update(segment, removeBatch,
@@ -157,7 +164,7 @@ class HashTableSegmentLayout extends TableSegmentLayout {
         val segmentInfo = segment.getInfo();
         ensureSegmentType(segmentInfo.getName(), segmentInfo.getType());
         logRequest("get", segmentInfo.getName(), keys.size());
-        val resultBuilder = new GetResultBuilder(keys, this.hasher);
+        val resultBuilder = new GetResultBuilder(keys, this.hasher.forSegment(segmentInfo));
         return this.keyIndex.getBucketOffsets(segment, resultBuilder.getHashes(), timer)
                 .thenComposeAsync(offsets -> get(segment, resultBuilder, offsets, timer), this.executor);
     }
@@ -279,11 +286,12 @@ class HashTableSegmentLayout extends TableSegmentLayout {
                         .build(), this.executor);
     }
 
-    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength, TableKeyBatch batch) {
+    private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength,
+                                    KeyHasher segmentHasher, TableKeyBatch batch) {
         for (T item : toBatch) {
             val length = getLength.apply(item);
             val key = getKey.apply(item);
-            batch.add(key, this.hasher.hash(key.getKey()), length);
+            batch.add(key, segmentHasher.hash(key.getKey()), length);
         }
 
         if (batch.getLength() > this.config.getMaxBatchSize()) {
@@ -323,7 +331,7 @@ class HashTableSegmentLayout extends TableSegmentLayout {
 
         @Override
         public KeyHasher getKeyHasher() {
-            return HashTableSegmentLayout.this.hasher;
+            return HashTableSegmentLayout.this.hasher.forSegment(this.metadata);
         }
 
         @Override
@@ -341,6 +349,11 @@ class HashTableSegmentLayout extends TableSegmentLayout {
             return HashTableSegmentLayout.this.config.getMaxCompactionSize();
         }
 
+        @Override
+        public CompletableFuture<KeyHashFilter> getKeyHashFilter(DirectSegmentAccess segment, Duration timeout) {
+            return HashTableSegmentLayout.this.keyIndex.getKeyHashFilter(segment, timeout);
+        }
+
         @Override
         public void close() {
             // Tell the KeyIndex that it's ok to clear any tail-end cache.
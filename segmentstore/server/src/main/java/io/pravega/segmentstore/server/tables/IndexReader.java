@@ -205,14 +205,15 @@ class IndexReader {
     }
 
     /**
-     * Determines if the given Attribute Key is Backpointer.
+     * Determines if the given Attribute Key is Backpointer. Backpointers originate from non-negative offsets, so any
+     * Attribute Key with a negative LSB (such as those used by {@link KeyHashFilter}) is not a Backpointer.
      *
      * @param key The Key to test.
      * @return True if backpointer, false otherwise.
      */
     @VisibleForTesting
     static boolean isBackpointerAttributeKey(AttributeId key) {
-        return key.getBitGroup(0) == TableBucket.BACKPOINTER_PREFIX;
+        return key.getBitGroup(0) == TableBucket.BACKPOINTER_PREFIX && key.getBitGroup(1) >= 0;
     }
 
     //endregion
@@ -26,14 +26,18 @@ import io.pravega.segmentstore.contracts.BadAttributeUpdateException;
 import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -118,6 +122,26 @@ class IndexWriter extends IndexReader {
      */
     CompletableFuture<Integer> updateBuckets(DirectSegmentAccess segment, Collection<BucketUpdate> bucketUpdates,
                                              long firstIndexedOffset, long lastIndexedOffset, int processedCount, Duration timeout) {
+        return updateBuckets(segment, bucketUpdates, firstIndexedOffset, lastIndexedOffset, processedCount, null, timeout);
+    }
+
+    /**
+     * Same as {@link #updateBuckets(DirectSegmentAccess, Collection, long, long, int, Duration)}, but it also includes
+     * any newly created {@link TableBucket}s into the given {@link KeyHashFilter} and atomically persists the filter's
+     * changes along with the other updates.
+     *
+     * @param segment            A {@link DirectSegmentAccess} representing the Segment to apply the updates to.
+     * @param bucketUpdates      A Collection of {@link BucketUpdate} instances to apply.
+     * @param firstIndexedOffset The first offset in the Segment that is indexed.
+     * @param lastIndexedOffset  The last offset in the Segment that is indexed.
+     * @param processedCount     The total number of Table Entry updates processed.
+     * @param keyHashFilter      (Optional) The {@link KeyHashFilter} for the Segment.
+     * @param timeout            Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the number attribute updates.
+     */
+    CompletableFuture<Integer> updateBuckets(DirectSegmentAccess segment, Collection<BucketUpdate> bucketUpdates,
+                                             long firstIndexedOffset, long lastIndexedOffset, int processedCount,
+                                             @Nullable KeyHashFilter keyHashFilter, Duration timeout) {
         UpdateInstructions update = new UpdateInstructions();
 
         // Process each Key in the given Map.
@@ -126,6 +150,14 @@ class IndexWriter extends IndexReader {
             generateAttributeUpdates(bucketUpdate, update);
         }
 
+        if (keyHashFilter != null) {
+            // The new buckets must be visible in the filter before they are visible in the index (or else lookups may
+            // incorrectly conclude they do not exist). The filter is persisted atomically with the index.
+            keyHashFilter.include(update.getAddedBuckets());
+            keyHashFilter.getPendingUpdates(lastIndexedOffset > firstIndexedOffset ? lastIndexedOffset : -1)
+                         .forEach(update::withAttribute);
+        }
+
         if (lastIndexedOffset > firstIndexedOffset) {
             // Atomically update the Table-related attributes in the Segment's metadata, once we apply these changes.
             generateTableAttributeUpdates(firstIndexedOffset, lastIndexedOffset, processedCount, update);
@@ -140,7 +172,12 @@ class IndexWriter extends IndexReader {
                     segment.getSegmentId(), firstIndexedOffset, lastIndexedOffset, update.getAttributes().size(),
                     processedCount, update.getEntryCountDelta(), update.getBucketCountDelta());
             return segment.updateAttributes(update.getAttributes(), timeout)
-                    .thenApply(v -> update.getAttributes().size());
+                    .thenApply(v -> {
+                        if (keyHashFilter != null) {
+                            keyHashFilter.markPersisted();
+                        }
+                        return update.getAttributes().size();
+                    });
         }
     }
 
@@ -203,7 +240,7 @@ class IndexWriter extends IndexReader {
         assert bucketOffset >= 0;
         update.withAttribute(new AttributeUpdate(AttributeId.fromUUID(bucket.getHash()), AttributeUpdateType.Replace, bucketOffset));
         if (!bucket.exists()) {
-            update.bucketAdded();
+            update.bucketAdded(bucket.getHash());
         }
     }
 
@@ -342,13 +379,16 @@ class IndexWriter extends IndexReader {
         private int bucketCountDelta = 0;
         @Getter
         private int entryCountDelta = 0;
+        @Getter
+        private final List<UUID> addedBuckets = new ArrayList<>();
 
         void withAttribute(AttributeUpdate au) {
             this.attributes.add(au);
         }
 
-        void bucketAdded() {
+        void bucketAdded(UUID keyHash) {
             this.bucketCountDelta++;
+            this.addedBuckets.add(keyHash);
         }
 
         void bucketRemoved() {
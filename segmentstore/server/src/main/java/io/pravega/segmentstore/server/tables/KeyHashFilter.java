@@ -0,0 +1,366 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.AttributeId;
+import io.pravega.segmentstore.contracts.AttributeUpdate;
+import io.pravega.segmentstore.contracts.AttributeUpdateType;
+import io.pravega.segmentstore.contracts.Attributes;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * A persisted, incrementally maintained Bloom Filter over the Key Hashes (Table Buckets) that are indexed in a Table Segment.
+ * It can be used to determine (with certainty) that a Key Hash is not indexed, without consulting the index itself.
+ *
+ * This is a Blocked Bloom Filter: the filter is split into 64-bit words and each Key Hash maps to exactly one word (based
+ * on its MSB), in which it sets {@link #BITS_PER_HASH} bits (based on its LSB). As such, including any number of Key Hashes
+ * requires at most one word update per Key Hash and looking up a Key Hash requires reading a single word. Only the lower
+ * 63 bits of each word are used, so a word can never equal {@link Attributes#NULL_ATTRIBUTE_VALUE}. Bits are never cleared
+ * (removed Table Buckets remain in the filter), which can only increase the false positive rate.
+ *
+ * The filter is persisted as Extended Attributes in a range that cannot be used by any Key Hash or Backpointer (MSB is
+ * {@link TableBucket#BACKPOINTER_PREFIX}, LSB is negative):
+ * - {@link #HEADER_ID} contains the value of {@link TableAttributes#INDEX_OFFSET} when the filter was last updated. It is
+ * updated atomically with {@link TableAttributes#INDEX_OFFSET} by the {@link IndexWriter}. If these two do not match when
+ * the filter is loaded (and the index has not been updated while loading it), the filter is deemed stale and will not
+ * be used.
+ * - Word i is stored at {@link #getWordId}(i).
+ *
+ * While loaded, the filter is stored in the {@link CacheStorage} as a single entry.
+ */
+@ThreadSafe
+@Slf4j
+class KeyHashFilter implements AutoCloseable {
+    //region Members
+
+    /**
+     * The maximum size of a filter, in bits (1MB).
+     */
+    static final long MAX_SIZE_BITS = 8 * 1024 * 1024;
+    @VisibleForTesting
+    static final AttributeId HEADER_ID = AttributeId.uuid(TableBucket.BACKPOINTER_PREFIX, Long.MIN_VALUE);
+    private static final int BITS_PER_HASH = 4;
+    private static final int BITS_PER_WORD = Long.SIZE - 1;
+    private static final int HASH_SLICE_BITS = Long.SIZE / BITS_PER_HASH;
+    private static final int CLOSED_ADDRESS = -1;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final long segmentId;
+    @Getter
+    private final int wordCount;
+    private final CacheStorage cacheStorage;
+    @GuardedBy("this")
+    private int cacheAddress;
+    @GuardedBy("this")
+    private final TreeSet<Integer> unpersistedWords;
+    @GuardedBy("this")
+    private boolean valid;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the KeyHashFilter class.
+     *
+     * @param segmentId    The Id of the Segment this filter is for.
+     * @param data         The contents of the filter. Must have a length that is a multiple of {@link Long#BYTES}.
+     * @param cacheStorage The {@link CacheStorage} to store the filter contents in.
+     */
+    @VisibleForTesting
+    KeyHashFilter(long segmentId, ByteArraySegment data, CacheStorage cacheStorage) {
+        Preconditions.checkArgument(data.getLength() > 0 && data.getLength() % Long.BYTES == 0, "data must have a positive length that is a multiple of %s.", Long.BYTES);
+        this.segmentId = segmentId;
+        this.wordCount = data.getLength() / Long.BYTES;
+        this.cacheStorage = cacheStorage;
+        this.unpersistedWords = new TreeSet<>();
+        this.cacheAddress = cacheStorage.insert(data);
+        this.valid = true;
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        int address;
+        synchronized (this) {
+            address = this.cacheAddress;
+            this.cacheAddress = CLOSED_ADDRESS;
+            this.valid = false;
+        }
+
+        if (address >= 0) {
+            this.cacheStorage.delete(address);
+        }
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Determines if the given filter size is acceptable.
+     *
+     * @param sizeBits The size, in bits.
+     * @return True if valid (0 means no filter), false otherwise.
+     */
+    static boolean isValidSize(long sizeBits) {
+        return sizeBits >= 0 && sizeBits <= MAX_SIZE_BITS && sizeBits % Long.SIZE == 0;
+    }
+
+    /**
+     * Gets the size of the filter (in bits) that the given Segment has been created with.
+     *
+     * @param segmentInfo A {@link SegmentProperties} representing the Segment.
+     * @return The size of the filter, in bits, or 0 if the Segment does not have a (valid) filter.
+     */
+    static long getSizeBits(SegmentProperties segmentInfo) {
+        long size = segmentInfo.getAttributes().getOrDefault(TableAttributes.BLOOM_FILTER_SIZE, 0L);
+        return isValidSize(size) ? size : 0;
+    }
+
+    /**
+     * Loads the KeyHashFilter for the given Segment.
+     *
+     * @param segment      A {@link DirectSegmentAccess} representing the Segment to load the filter for.
+     * @param cacheStorage The {@link CacheStorage} to store the filter contents in.
+     * @param executor     Executor for async operations.
+     * @param timeout      Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the loaded KeyHashFilter, or null if the Segment does
+     * not have a filter or if the filter is not in sync with the Segment's {@link TableAttributes#INDEX_OFFSET}. If the
+     * index keeps being updated while loading the filter, the Future will be failed with a
+     * {@link ConcurrentModificationException}.
+     */
+    static CompletableFuture<KeyHashFilter> load(DirectSegmentAccess segment, CacheStorage cacheStorage, Executor executor, Duration timeout) {
+        val sizeBits = getSizeBits(segment.getInfo());
+        if (sizeBits == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return load(segment, (int) (sizeBits / Long.SIZE), cacheStorage, executor, timeout, 1);
+    }
+
+    private static CompletableFuture<KeyHashFilter> load(DirectSegmentAccess segment, int wordCount, CacheStorage cacheStorage,
+                                                         Executor executor, Duration timeout, int attempt) {
+        val initialIndexOffset = IndexReader.getLastIndexedOffset(segment.getInfo());
+        val data = new ByteArraySegment(new byte[wordCount * Long.BYTES]);
+        val header = new long[]{0L};
+        return segment.attributeIterator(HEADER_ID, getWordId(wordCount - 1), timeout)
+                .thenCompose(iterator -> iterator.forEachRemaining(batch -> {
+                    for (val e : batch) {
+                        if (e.getKey().equals(HEADER_ID)) {
+                            header[0] = e.getValue();
+                        } else {
+                            int wordIndex = getWordIndex(e.getKey());
+                            if (wordIndex >= 0 && wordIndex < wordCount) {
+                                data.setLong(wordIndex * Long.BYTES, e.getValue());
+                            }
+                        }
+                    }
+                }, executor))
+                .thenCompose(v -> {
+                    // We check the INDEX_OFFSET after we read the filter. If the filter is in sync with it, then we have
+                    // loaded a snapshot of the filter that reflects at least what has been indexed up to that point.
+                    long indexOffset = IndexReader.getLastIndexedOffset(segment.getInfo());
+                    if (header[0] == indexOffset) {
+                        return CompletableFuture.completedFuture(new KeyHashFilter(segment.getSegmentId(), data, cacheStorage));
+                    } else if (indexOffset == initialIndexOffset) {
+                        log.info("KeyHashFilter[{}]: Not using filter since it is not in sync with the index (FilterOffset={}, IndexOffset={}).",
+                                segment.getSegmentId(), header[0], indexOffset);
+                        return CompletableFuture.completedFuture(null);
+                    } else if (attempt >= MAX_LOAD_ATTEMPTS) {
+                        return Futures.failedFuture(new ConcurrentModificationException(String.format(
+                                "KeyHashFilter[%s]: Index updated while loading the filter %s times.", segment.getSegmentId(), attempt)));
+                    }
+
+                    // The index has been updated while we were reading the filter, so we may have read the filter before
+                    // that update was applied. This does not mean it is stale; try again.
+                    log.debug("KeyHashFilter[{}]: Index updated while loading filter (FilterOffset={}, IndexOffset={}); retrying.",
+                            segment.getSegmentId(), header[0], indexOffset);
+                    return load(segment, wordCount, cacheStorage, executor, timeout, attempt + 1);
+                });
+    }
+
+    /**
+     * Determines whether the given Key Hash may have been included in this filter.
+     *
+     * @param keyHash The Key Hash to check.
+     * @return False if the Key Hash has definitely not been included (and therefore it is not indexed), true otherwise.
+     * This will always return true if the filter is no longer valid.
+     */
+    synchronized boolean mightContain(UUID keyHash) {
+        if (!this.valid) {
+            return true;
+        }
+
+        val data = this.cacheStorage.get(this.cacheAddress);
+        if (data == null) {
+            this.valid = false;
+            return true;
+        }
+
+        long word = data.slice(getWordIndex(keyHash) * Long.BYTES, Long.BYTES).getBufferViewReader().readLong();
+        long mask = getMask(keyHash);
+        return (word & mask) == mask;
+    }
+
+    /**
+     * Includes the given Key Hashes in this filter. Their effects are visible in {@link #mightContain} immediately, but
+     * they will not be persisted until the result of {@link #getPendingUpdates} is applied to the Segment.
+     *
+     * If the in-memory filter cannot be updated, it will be invalidated (and all subsequent calls to {@link #mightContain}
+     * will return true).
+     *
+     * @param keyHashes The Key Hashes to include.
+     */
+    synchronized void include(Collection<UUID> keyHashes) {
+        if (!this.valid || keyHashes.isEmpty()) {
+            return;
+        }
+
+        try {
+            val data = new ByteArraySegment(this.cacheStorage.get(this.cacheAddress).getCopy());
+            for (UUID keyHash : keyHashes) {
+                int wordIndex = getWordIndex(keyHash);
+                int offset = wordIndex * Long.BYTES;
+                long word = data.getLong(offset);
+                long newWord = word | getMask(keyHash);
+                if (newWord != word) {
+                    data.setLong(offset, newWord);
+                    this.unpersistedWords.add(wordIndex);
+                }
+            }
+
+            this.cacheAddress = this.cacheStorage.replace(this.cacheAddress, data);
+        } catch (Throwable ex) {
+            if (Exceptions.mustRethrow(ex)) {
+                throw ex;
+            }
+
+            log.warn("KeyHashFilter[{}]: Unable to update filter; invalidating it.", this.segmentId, ex);
+            this.valid = false;
+        }
+    }
+
+    /**
+     * Gets the {@link AttributeUpdate}s that need to be applied to the Segment in order to persist all changes made via
+     * {@link #include} since the last call to {@link #markPersisted}.
+     *
+     * @param indexOffset The value of {@link TableAttributes#INDEX_OFFSET} that will be set along with these updates, or
+     *                    a negative value if {@link TableAttributes#INDEX_OFFSET} is not changed.
+     * @return A List of {@link AttributeUpdate}s. This will be empty if the filter is no longer valid, in which case it
+     * will be deemed stale the next time it is loaded.
+     */
+    synchronized List<AttributeUpdate> getPendingUpdates(long indexOffset) {
+        if (!this.valid) {
+            return Collections.emptyList();
+        }
+
+        val data = this.cacheStorage.get(this.cacheAddress);
+        if (data == null) {
+            this.valid = false;
+            return Collections.emptyList();
+        }
+
+        val result = new ArrayList<AttributeUpdate>(this.unpersistedWords.size() + 1);
+        for (int wordIndex : this.unpersistedWords) {
+            long word = data.slice(wordIndex * Long.BYTES, Long.BYTES).getBufferViewReader().readLong();
+            result.add(new AttributeUpdate(getWordId(wordIndex), AttributeUpdateType.Replace, word));
+        }
+
+        if (indexOffset >= 0) {
+            result.add(new AttributeUpdate(HEADER_ID, AttributeUpdateType.Replace, indexOffset));
+        }
+
+        return result;
+    }
+
+    /**
+     * Indicates that the result of the last call to {@link #getPendingUpdates} has been successfully applied to the Segment.
+     */
+    synchronized void markPersisted() {
+        this.unpersistedWords.clear();
+    }
+
+    /**
+     * Gets a value indicating whether this filter is still valid.
+     *
+     * @return True if valid, false otherwise.
+     */
+    synchronized boolean isValid() {
+        return this.valid;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("SegmentId = %s, Words = %s, Unpersisted = %s, Valid = %s", this.segmentId, this.wordCount,
+                this.unpersistedWords.size(), this.valid);
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private int getWordIndex(UUID keyHash) {
+        return (int) Long.remainderUnsigned(keyHash.getMostSignificantBits(), this.wordCount);
+    }
+
+    private static long getMask(UUID keyHash) {
+        long lsb = keyHash.getLeastSignificantBits();
+        long mask = 0;
+        for (int i = 0; i < BITS_PER_HASH; i++) {
+            long slice = (lsb >>> (i * HASH_SLICE_BITS)) & ((1L << HASH_SLICE_BITS) - 1);
+            mask |= 1L << (slice % BITS_PER_WORD);
+        }
+        return mask;
+    }
+
+    @VisibleForTesting
+    static AttributeId getWordId(int wordIndex) {
+        return AttributeId.uuid(TableBucket.BACKPOINTER_PREFIX, HEADER_ID.getBitGroup(1) + 1 + wordIndex);
+    }
+
+    private static int getWordIndex(AttributeId wordId) {
+        return (int) (wordId.getBitGroup(1) - HEADER_ID.getBitGroup(1) - 1);
+    }
+
+    //endregion
+}
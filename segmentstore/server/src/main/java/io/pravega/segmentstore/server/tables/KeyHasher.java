@@ -22,6 +22,8 @@ import com.google.common.hash.Hashing;
 import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import java.util.UUID;
 import java.util.function.Function;
 import lombok.NonNull;
@@ -30,6 +32,10 @@ import lombok.val;
 
 /**
  * Defines a Hasher for a Table Key.
+ *
+ * The hash algorithm used by a Table Segment is recorded in its {@link TableAttributes#KEY_HASH_VERSION} attribute when
+ * the Segment is created, and it cannot be changed afterwards (the Key Hashes are persisted in the Segment's index).
+ * Use {@link #forSegment} to get the {@link KeyHasher} that must be used with a particular Table Segment.
  */
 abstract class KeyHasher {
     /**
@@ -47,6 +53,17 @@ abstract class KeyHasher {
      */
     static final UUID MAX_HASH = new UUID(TableBucket.BACKPOINTER_PREFIX - 1, Long.MAX_VALUE);
 
+    /**
+     * {@link TableAttributes#KEY_HASH_VERSION} for Table Segments that use {@link #sha256()}. This also applies to all
+     * Table Segments created before {@link TableAttributes#KEY_HASH_VERSION} was introduced.
+     */
+    static final long HASH_VERSION_SHA256 = 0;
+
+    /**
+     * {@link TableAttributes#KEY_HASH_VERSION} for Table Segments that use {@link #murmur3()}.
+     */
+    static final long HASH_VERSION_MURMUR3 = 1;
+
     /**
      * Generates a new Key Hash for the given Key.
      *
@@ -65,6 +82,24 @@ abstract class KeyHasher {
      */
     public abstract UUID hash(@NonNull BufferView key);
 
+    /**
+     * Gets the value of {@link TableAttributes#KEY_HASH_VERSION} that identifies the hash algorithm used by this instance.
+     *
+     * @return The hash version, or null if this instance does not use a versioned hash algorithm (i.e., {@link #custom}).
+     */
+    abstract Long getHashVersion();
+
+    /**
+     * Gets the {@link KeyHasher} to use for the given Table Segment. Unless this instance was created using {@link #versioned},
+     * this returns this instance, regardless of the Segment's {@link TableAttributes#KEY_HASH_VERSION}.
+     *
+     * @param segmentInfo A {@link SegmentProperties} for the Table Segment.
+     * @return The {@link KeyHasher} to use.
+     */
+    KeyHasher forSegment(SegmentProperties segmentInfo) {
+        return this;
+    }
+
     protected UUID toUUID(byte[] rawHash) {
         assert rawHash.length == HASH_SIZE_BYTES;
         long msb = BitConverter.readLong(rawHash, 0);
@@ -124,6 +159,39 @@ abstract class KeyHasher {
         return new Sha256Hasher();
     }
 
+    /**
+     * Creates a new instance of the KeyHasher class that generates hashes using the (non-cryptographic) 128-bit Murmur3
+     * algorithm. This is significantly cheaper to compute than {@link #sha256()}.
+     *
+     * @return A new instance of the KeyHasher class.
+     */
+    static KeyHasher murmur3() {
+        return new Murmur3Hasher();
+    }
+
+    /**
+     * Creates a new instance of the KeyHasher class that selects the hash algorithm based on each Table Segment's
+     * {@link TableAttributes#KEY_HASH_VERSION} (see {@link #forSegment}).
+     *
+     * @param newSegmentHashVersion The hash version to use for new Table Segments. {@link #hash} and {@link #getHashVersion()}
+     *                              on the returned instance will use this version.
+     * @return A new instance of the KeyHasher class.
+     * @throws IllegalArgumentException If newSegmentHashVersion is not a supported hash version.
+     */
+    static KeyHasher versioned(long newSegmentHashVersion) {
+        return new VersionedHasher(newSegmentHashVersion);
+    }
+
+    /**
+     * Determines whether the given value of {@link TableAttributes#KEY_HASH_VERSION} is supported.
+     *
+     * @param hashVersion The hash version to test.
+     * @return True if supported, false otherwise.
+     */
+    static boolean isSupportedVersion(long hashVersion) {
+        return hashVersion == HASH_VERSION_SHA256 || hashVersion == HASH_VERSION_MURMUR3;
+    }
+
     /**
      * Creates a new instance of the KeyHasher class that generates custom hashes, based on the given Function.
      *
@@ -135,14 +203,15 @@ abstract class KeyHasher {
         return new CustomHasher(hashFunction);
     }
 
-    //region Sha256Hasher
+    //region HashFunctionHasher
 
-    private static class Sha256Hasher extends KeyHasher {
-        private static final HashFunction HASH = Hashing.sha256();
+    @RequiredArgsConstructor
+    private abstract static class HashFunctionHasher extends KeyHasher {
+        private final HashFunction hashFunction;
 
         @Override
         public UUID hash(@NonNull BufferView key) {
-            val h = HASH.newHasher();
+            val h = this.hashFunction.newHasher();
             key.collect(h::putBytes);
             byte[] rawHash = new byte[HASH_SIZE_BYTES];
             int c = h.hash().writeBytesTo(rawHash, 0, rawHash.length);
@@ -153,6 +222,75 @@ abstract class KeyHasher {
 
     //endregion
 
+    //region Sha256Hasher
+
+    private static class Sha256Hasher extends HashFunctionHasher {
+        Sha256Hasher() {
+            super(Hashing.sha256());
+        }
+
+        @Override
+        Long getHashVersion() {
+            return HASH_VERSION_SHA256;
+        }
+    }
+
+    //endregion
+
+    //region Murmur3Hasher
+
+    private static class Murmur3Hasher extends HashFunctionHasher {
+        Murmur3Hasher() {
+            super(Hashing.murmur3_128());
+        }
+
+        @Override
+        Long getHashVersion() {
+            return HASH_VERSION_MURMUR3;
+        }
+    }
+
+    //endregion
+
+    //region VersionedHasher
+
+    private static class VersionedHasher extends KeyHasher {
+        private final KeyHasher sha256 = new Sha256Hasher();
+        private final KeyHasher murmur3 = new Murmur3Hasher();
+        private final KeyHasher newSegmentHasher;
+
+        VersionedHasher(long newSegmentHashVersion) {
+            this.newSegmentHasher = forVersion(newSegmentHashVersion);
+        }
+
+        @Override
+        public UUID hash(@NonNull BufferView key) {
+            return this.newSegmentHasher.hash(key);
+        }
+
+        @Override
+        Long getHashVersion() {
+            return this.newSegmentHasher.getHashVersion();
+        }
+
+        @Override
+        KeyHasher forSegment(SegmentProperties segmentInfo) {
+            return forVersion(segmentInfo.getAttributes().getOrDefault(TableAttributes.KEY_HASH_VERSION, HASH_VERSION_SHA256));
+        }
+
+        private KeyHasher forVersion(long hashVersion) {
+            if (hashVersion == HASH_VERSION_SHA256) {
+                return this.sha256;
+            } else if (hashVersion == HASH_VERSION_MURMUR3) {
+                return this.murmur3;
+            } else {
+                throw new IllegalArgumentException(String.format("Unsupported Key Hash Version %s.", hashVersion));
+            }
+        }
+    }
+
+    //endregion
+
     //region CustomHasher
 
     @RequiredArgsConstructor
@@ -166,6 +304,11 @@ abstract class KeyHasher {
             Preconditions.checkState(rawHash.length == HASH_SIZE_BYTES, "Resulting KeyHash has incorrect length.");
             return toUUID(rawHash);
         }
+
+        @Override
+        Long getHashVersion() {
+            return null;
+        }
     }
 
     //endregion
@@ -73,11 +73,11 @@ class SegmentKeyCache {
     @GuardedBy("this")
     private long lastIndexedOffset;
     @GuardedBy("this")
-    private final HashMap<Long, Long> backpointers = new HashMap<>();
+    private final BackpointerMap backpointers = new BackpointerMap();
     @GuardedBy("this")
     private final HashMap<Short, CacheEntry> cacheEntries = new HashMap<>(); // Index Cache: KeyHashGroup -> CacheEntry
     @GuardedBy("this")
-    private final HashMap<UUID, CacheBucketOffset> tailOffsets = new HashMap<>(); // Tail Cache: Key Hash -> Hash Offset
+    private final HashOffsetMap tailOffsets = new HashOffsetMap(); // Tail Cache: Key Hash -> Hash Offset
 
     //endregion
 
@@ -275,16 +275,15 @@ class SegmentKeyCache {
             this.lastIndexedOffset = currentLastIndexedOffset;
 
             // Remove obsolete backpointers. They now exist in the index.
-            this.backpointers.keySet().removeIf(sourceOffset -> sourceOffset < currentLastIndexedOffset);
-            for (val tailHash : this.tailOffsets.entrySet()) {
-                val offset = tailHash.getValue();
+            this.backpointers.removeSourcesBefore(currentLastIndexedOffset);
+            this.tailOffsets.forEach((keyHash, offset) -> {
                 if (offset.getSegmentOffset() < currentLastIndexedOffset) {
                     // This entry has already been indexed, so it should be removed from the tail cache.
-                    CacheEntry cacheEntry = this.cacheEntries.computeIfAbsent(getHashGroup(tailHash.getKey()),
+                    CacheEntry cacheEntry = this.cacheEntries.computeIfAbsent(getHashGroup(keyHash),
                             hg -> new CacheEntry(hg, cacheGeneration));
-                    candidates.add(new MigrationCandidate(tailHash.getKey(), cacheEntry, offset));
+                    candidates.add(new MigrationCandidate(keyHash, cacheEntry, offset));
                 }
-            }
+            });
         }
 
         candidates.forEach(mc -> commitMigrationCandidate(mc, cacheGeneration));
@@ -292,6 +291,7 @@ class SegmentKeyCache {
             // Finally, remove tail hashes, but ONLY if they haven't changed - it's possible that since we released the lock
             // above a newer value was recorded; we shouldn't be removing it then. We use Map.remove(Key, Value) for this.
             candidates.forEach(c -> this.tailOffsets.remove(c.keyHash, c.offset));
+            this.tailOffsets.trimToSize();
         }
     }
 
@@ -321,7 +321,9 @@ class SegmentKeyCache {
      * Gets a list of all Tail Entry Hashes mapped to their offsets.
      */
     synchronized Map<UUID, CacheBucketOffset> getTailBucketOffsets() {
-        return new HashMap<>(this.tailOffsets);
+        val result = new HashMap<UUID, CacheBucketOffset>(this.tailOffsets.size());
+        this.tailOffsets.forEach(result::put);
+        return result;
     }
 
     /**
@@ -331,13 +333,15 @@ class SegmentKeyCache {
      * @return The tail entry update count delta.
      */
     synchronized int getTailEntryCountDelta() {
-        return this.tailOffsets.values().stream().mapToInt(o -> o.isRemoval() ? -1 : 1).sum();
+        // Each update adds an entry and each removal takes one away.
+        return this.tailOffsets.size() - 2 * this.tailOffsets.getRemovalCount();
     }
 
     @Override
     public synchronized String toString() {
-        return String.format("LIO = %s, Entries = %s, Backpointers = %s, BucketOffsets = %s.",
-                this.lastIndexedOffset, this.cacheEntries.size(), this.backpointers.size(), this.tailOffsets.size());
+        return String.format("LIO = %s, Entries = %s, Backpointers = %s, BucketOffsets = %s, TailBytes = %s.",
+                this.lastIndexedOffset, this.cacheEntries.size(), this.backpointers.size(), this.tailOffsets.size(),
+                this.backpointers.getAllocatedBytes() + this.tailOffsets.getAllocatedBytes());
     }
 
     private short getHashGroup(UUID keyHash) {
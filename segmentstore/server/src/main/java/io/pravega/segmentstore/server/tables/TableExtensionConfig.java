@@ -49,6 +49,8 @@ public class TableExtensionConfig {
     public static final Property<Integer> DEFAULT_MIN_UTILIZATION = Property.named("utilization.min", 75);
     public static final Property<Long> DEFAULT_ROLLOVER_SIZE = Property.named("rollover.size.bytes", (long) EntrySerializer.MAX_SERIALIZATION_LENGTH * 4 * 4);
     public static final Property<Integer> MAX_BATCH_SIZE = Property.named("batch.size.bytes", EntrySerializer.MAX_BATCH_SIZE);
+    public static final Property<Integer> DEFAULT_KEY_HASH_VERSION = Property.named("key.hash.version", (int) KeyHasher.HASH_VERSION_SHA256);
+    public static final Property<Integer> DEFAULT_BLOOM_FILTER_SIZE = Property.named("bloom.filter.size.bits", 0);
     private static final String COMPONENT_CODE = "tables";
 
     /**
@@ -115,6 +117,20 @@ public class TableExtensionConfig {
      */
     private final Duration recoveryTimeout;
 
+    /**
+     * Default value to set for the {@link TableAttributes#KEY_HASH_VERSION} for every new Table Segment. This has no
+     * effect on existing Table Segments, which will continue using the hash algorithm they were created with. Segment
+     * Stores that predate {@link KeyHasher#HASH_VERSION_MURMUR3} cannot handle Table Segments that use it, so it must
+     * only be enabled once all Segment Stores have been upgraded (and doing so prevents rolling back).
+     */
+    private final long defaultKeyHashVersion;
+
+    /**
+     * Default value to set for the {@link TableAttributes#BLOOM_FILTER_SIZE} for every new Table Segment. If 0, no new
+     * Table Segments will maintain a {@link KeyHashFilter}. This has no effect on existing Table Segments.
+     */
+    private final long defaultBloomFilterSize;
+
     private TableExtensionConfig(TypedProperties properties) throws ConfigurationException {
         this.maxTailCachePreIndexLength = properties.getPositiveLong(MAX_TAIL_CACHE_PREINDEX_LENGTH);
         this.maxTailCachePreIndexBatchLength = properties.getPositiveInt(MAX_TAIL_CACHE_PREINDEX_BATCH_SIZE);
@@ -132,6 +148,16 @@ public class TableExtensionConfig {
             throw new ConfigurationException(String.format("Property '%s' must be a value within [0, %s].", DEFAULT_MIN_UTILIZATION, EntrySerializer.MAX_BATCH_SIZE));
         }
         this.recoveryTimeout = properties.getDuration(RECOVERY_TIMEOUT, ChronoUnit.MILLIS);
+        this.defaultKeyHashVersion = properties.getNonNegativeInt(DEFAULT_KEY_HASH_VERSION);
+        if (!KeyHasher.isSupportedVersion(this.defaultKeyHashVersion)) {
+            throw new ConfigurationException(String.format("Property '%s' must be a supported Key Hash Version (%s or %s).",
+                    DEFAULT_KEY_HASH_VERSION, KeyHasher.HASH_VERSION_SHA256, KeyHasher.HASH_VERSION_MURMUR3));
+        }
+        this.defaultBloomFilterSize = properties.getNonNegativeInt(DEFAULT_BLOOM_FILTER_SIZE);
+        if (!KeyHashFilter.isValidSize(this.defaultBloomFilterSize)) {
+            throw new ConfigurationException(String.format("Property '%s' must be 0 or a multiple of %s no larger than %s.",
+                    DEFAULT_BLOOM_FILTER_SIZE, Long.SIZE, KeyHashFilter.MAX_SIZE_BITS));
+        }
     }
 
     /**
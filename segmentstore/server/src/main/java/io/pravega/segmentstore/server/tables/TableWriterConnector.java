@@ -80,6 +80,18 @@ interface TableWriterConnector extends AutoCloseable {
         return 134217728; // 128MB
     }
 
+    /**
+     * Gets the {@link KeyHashFilter} for this Table Segment, which must be updated whenever new Table Buckets are indexed.
+     *
+     * @param segment A {@link DirectSegmentAccess} for the Table Segment.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the {@link KeyHashFilter} for the Table Segment, or
+     * null if the Table Segment does not maintain one (or it could not be loaded).
+     */
+    default CompletableFuture<KeyHashFilter> getKeyHashFilter(DirectSegmentAccess segment, Duration timeout) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * This method will be invoked by the {@link WriterTableProcessor} when it is closed.
      */
@@ -303,18 +303,20 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
                 keyUpdates.getUpdates().size(), keyUpdates.getTotalUpdateCount(), keyUpdates.getHighestCopiedOffset(), keyUpdates.getLastIndexedOffset());
 
         // Group keys by their assigned TableBucket (whether existing or not), then fetch all existing keys
-        // for each such bucket and finally (reindex) update the bucket.
-        return this.indexWriter
-                .groupByBucket(segment, keyUpdates.getUpdates(), timer)
-                .thenComposeAsync(builders -> fetchExistingKeys(builders, segment, timer)
-                                .thenComposeAsync(v -> {
-                                    val bucketUpdates = builders.stream().map(BucketUpdate.Builder::build).collect(Collectors.toList());
-                                    logBucketUpdates(bucketUpdates);
-                                    return this.indexWriter.updateBuckets(segment, bucketUpdates,
-                                            this.aggregator.getLastIndexedOffset(), keyUpdates.getLastIndexedOffset(),
-                                            keyUpdates.getTotalUpdateCount(), timer.getRemaining());
-                                }, this.executor),
-                        this.executor)
+        // for each such bucket and finally (reindex) update the bucket (and the KeyHashFilter, if the segment has one).
+        // If the filter cannot be loaded, we still index the keys; the filter will then be stale and no longer be used.
+        return Futures.exceptionallyExpecting(this.connector.getKeyHashFilter(segment, timer.getRemaining()), ex -> true, null)
+                .thenCompose(keyHashFilter -> this.indexWriter
+                        .groupByBucket(segment, keyUpdates.getUpdates(), timer)
+                        .thenComposeAsync(builders -> fetchExistingKeys(builders, segment, timer)
+                                        .thenComposeAsync(v -> {
+                                            val bucketUpdates = builders.stream().map(BucketUpdate.Builder::build).collect(Collectors.toList());
+                                            logBucketUpdates(bucketUpdates);
+                                            return this.indexWriter.updateBuckets(segment, bucketUpdates,
+                                                    this.aggregator.getLastIndexedOffset(), keyUpdates.getLastIndexedOffset(),
+                                                    keyUpdates.getTotalUpdateCount(), keyHashFilter, timer.getRemaining());
+                                        }, this.executor),
+                                this.executor))
                 .thenApply(updateCount -> new TableWriterFlushResult(keyUpdates, updateCount));
     }
 
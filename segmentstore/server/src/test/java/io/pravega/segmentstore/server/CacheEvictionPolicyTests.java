@@ -0,0 +1,144 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+import io.pravega.test.common.AssertExtensions;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link CacheEvictionPolicy} implementations.
+ */
+public class CacheEvictionPolicyTests {
+    private static final double COMPARE_ERROR = 0.001;
+    private static final int CURRENT_GENERATION = 10;
+    private static final int OLDEST_GENERATION = 5;
+    private static final long SEGMENT_ID = 123L;
+
+    /**
+     * Tests {@link CacheEvictionPolicy#create}.
+     */
+    @Test
+    public void testCreate() {
+        for (val type : CacheEvictionPolicy.Type.values()) {
+            val p = CacheEvictionPolicy.create(type);
+            Assert.assertEquals("Unexpected policy type.", type, p.getType());
+        }
+    }
+
+    /**
+     * Tests the {@link GenerationalEvictionPolicy} class.
+     */
+    @Test
+    public void testGenerational() {
+        val p = new GenerationalEvictionPolicy();
+        for (long offset = 0; offset < 10; offset++) {
+            Assert.assertEquals("Unexpected insert generation.", CURRENT_GENERATION,
+                    p.getInsertGeneration(SEGMENT_ID, offset, CURRENT_GENERATION, OLDEST_GENERATION));
+            Assert.assertEquals("Unexpected access generation.", CURRENT_GENERATION,
+                    p.getAccessGeneration(SEGMENT_ID, offset, OLDEST_GENERATION, CURRENT_GENERATION, OLDEST_GENERATION));
+        }
+    }
+
+    /**
+     * Tests the admission logic in {@link FrequencyEvictionPolicy}.
+     */
+    @Test
+    public void testFrequencyAdmission() {
+        AssertExtensions.assertThrows("Accepted invalid admission frequency.",
+                () -> new FrequencyEvictionPolicy(1024, 0), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Accepted invalid admission frequency.",
+                () -> new FrequencyEvictionPolicy(1024, FrequencySketch.MAX_FREQUENCY + 1), ex -> ex instanceof IllegalArgumentException);
+
+        val p = new FrequencyEvictionPolicy(1024, 2);
+
+        // First time we see an entry: it goes into the oldest generation.
+        Assert.assertEquals("Unexpected generation for first insert.", OLDEST_GENERATION,
+                p.getInsertGeneration(SEGMENT_ID, 0, CURRENT_GENERATION, OLDEST_GENERATION));
+
+        // Accessed again: it gets promoted to the current generation.
+        Assert.assertEquals("Unexpected generation for first access.", CURRENT_GENERATION,
+                p.getAccessGeneration(SEGMENT_ID, 0, OLDEST_GENERATION, CURRENT_GENERATION, OLDEST_GENERATION));
+
+        // A previously evicted entry that is re-inserted is admitted directly to the current generation.
+        Assert.assertEquals("Unexpected generation for re-insert.", CURRENT_GENERATION + 1,
+                p.getInsertGeneration(SEGMENT_ID, 0, CURRENT_GENERATION + 1, OLDEST_GENERATION));
+
+        // An entry that has not been seen enough times keeps its generation on access.
+        Assert.assertEquals("Unexpected generation for access of infrequent entry.", OLDEST_GENERATION + 1,
+                p.getAccessGeneration(SEGMENT_ID, 1, OLDEST_GENERATION + 1, CURRENT_GENERATION, OLDEST_GENERATION));
+    }
+
+    /**
+     * Tests that {@link FrequencyEvictionPolicy} prevents a one-time scan from displacing frequently accessed entries.
+     */
+    @Test
+    public void testFrequencyScanResistance() {
+        final int hotCount = 10;
+        final int scanCount = 1000;
+        val p = new FrequencyEvictionPolicy(FrequencyEvictionPolicy.DEFAULT_SKETCH_WIDTH, FrequencyEvictionPolicy.DEFAULT_ADMISSION_FREQUENCY);
+        int generation = 0;
+
+        // Hot entries are inserted and read a few times.
+        for (int i = 0; i < hotCount; i++) {
+            p.getInsertGeneration(SEGMENT_ID, i, generation, 0);
+        }
+        for (int i = 0; i < hotCount; i++) {
+            Assert.assertEquals("Expected hot entry to be promoted.", generation,
+                    p.getAccessGeneration(SEGMENT_ID, i, 0, generation, 0));
+        }
+
+        // A large scan on a different segment: every entry is read once and must be placed in the oldest generation so
+        // that it is evicted before the hot entries.
+        generation++;
+        int oldestGeneration = generation - 1;
+        for (int i = 0; i < scanCount; i++) {
+            Assert.assertEquals("Expected scan entry to be placed in the oldest generation.", oldestGeneration,
+                    p.getInsertGeneration(SEGMENT_ID + 1, i, generation, oldestGeneration));
+        }
+
+        // Hot entries continue to be promoted to the current generation.
+        for (int i = 0; i < hotCount; i++) {
+            Assert.assertEquals("Expected hot entry to remain in the current generation.", generation,
+                    p.getAccessGeneration(SEGMENT_ID, i, generation - 1, generation, oldestGeneration));
+        }
+    }
+
+    /**
+     * Tests {@link CacheEvictionPolicy#recordHit}, {@link CacheEvictionPolicy#recordMiss} and {@link CacheEvictionPolicy#getHitRatio}.
+     */
+    @Test
+    public void testHitRatio() {
+        for (val type : CacheEvictionPolicy.Type.values()) {
+            val p = CacheEvictionPolicy.create(type);
+            for (val entryType : CacheEvictionPolicy.EntryType.values()) {
+                Assert.assertEquals("Expected no hit ratio without requests.", 0.0, p.getHitRatio(entryType), COMPARE_ERROR);
+            }
+
+            p.recordHit(CacheEvictionPolicy.EntryType.STREAM);
+            p.recordMiss(CacheEvictionPolicy.EntryType.STREAM);
+            p.recordHit(CacheEvictionPolicy.EntryType.ATTRIBUTE);
+            p.recordMiss(CacheEvictionPolicy.EntryType.TABLE);
+            p.recordMiss(CacheEvictionPolicy.EntryType.TABLE);
+            p.recordMiss(CacheEvictionPolicy.EntryType.TABLE);
+            p.recordHit(CacheEvictionPolicy.EntryType.TABLE);
+            Assert.assertEquals("Unexpected STREAM hit ratio.", 0.5, p.getHitRatio(CacheEvictionPolicy.EntryType.STREAM), COMPARE_ERROR);
+            Assert.assertEquals("Unexpected TABLE hit ratio.", 0.25, p.getHitRatio(CacheEvictionPolicy.EntryType.TABLE), COMPARE_ERROR);
+            Assert.assertEquals("Unexpected ATTRIBUTE hit ratio.", 1.0, p.getHitRatio(CacheEvictionPolicy.EntryType.ATTRIBUTE), COMPARE_ERROR);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import io.pravega.test.common.ThreadPooledTestSuite;
 import io.pravega.segmentstore.server.CacheManager.CacheManagerHealthContributor;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Random;
@@ -37,6 +38,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.Cleanup;
 import lombok.Getter;
@@ -414,6 +416,28 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         cm.applyCachePolicy();
     }
 
+    /**
+     * Tests that the {@link CacheEvictionPolicy} configured via the {@link CachePolicy} is passed to every registered client.
+     */
+    @Test
+    public void testEvictionPolicy() {
+        for (val policyType : CacheEvictionPolicy.Type.values()) {
+            final CachePolicy policy = new CachePolicy(1024, 1.0, 1.0, Duration.ofHours(1), Duration.ofHours(1), policyType);
+            @Cleanup
+            val cache = new TestCache(policy.getMaxSize());
+            @Cleanup
+            TestCacheManager cm = new TestCacheManager(policy, cache, executorService());
+            Assert.assertEquals("Unexpected eviction policy type.", policyType, cm.getEvictionPolicy().getType());
+
+            TestClient client1 = new TestClient();
+            TestClient client2 = new TestClient();
+            cm.register(client1);
+            cm.register(client2);
+            Assert.assertSame("Unexpected eviction policy for first client.", cm.getEvictionPolicy(), client1.getEvictionPolicy());
+            Assert.assertSame("Unexpected eviction policy for second client.", cm.getEvictionPolicy(), client2.getEvictionPolicy());
+        }
+    }
+
     /**
      * Tests the case where the CacheManager deals with clients that have no data in them.
      */
@@ -498,6 +522,60 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         Assert.assertEquals("Unexpected number of stored bytes.", length2, cache.getState().getStoredBytes());
     }
 
+    /**
+     * Tests the ability to evict generations from the spill CacheStorage, independently of the main CacheStorage.
+     */
+    @Test
+    public void testSpillPolicy() {
+        final int maxSpillSize = 1000;
+        final CachePolicy policy = new CachePolicy(1024, 0.5, 1.0, Duration.ofHours(1), Duration.ofHours(1));
+        @Cleanup
+        val cache = new TestCache(policy.getMaxSize());
+        @Cleanup
+        val spill = new TestCache(maxSpillSize);
+
+        @Cleanup
+        TestCacheManager cm = new TestCacheManager(policy, cache, spill, executorService());
+        Assert.assertSame("Unexpected spill storage.", spill, cm.getSpillStorage());
+        TestClient client = new TestClient();
+        cm.register(client);
+
+        // Spill is empty; nothing to do.
+        Assert.assertFalse("Not expecting any spill eviction when spill storage is empty.", cm.applySpillPolicy());
+        Assert.assertEquals("Unexpected oldest spill generation.", 0, cm.getOldestSpillGeneration());
+
+        // Spill is over the target utilization (50%). Each generation holds 200 bytes, so we expect generations 0, 1 and
+        // 2 to be evicted (leaving 400 bytes) and the remaining ones to be kept.
+        spill.setUsedBytes(maxSpillSize);
+        spill.setStoredBytes(maxSpillSize);
+        val oldestRequested = new ArrayList<Integer>();
+        client.setSpillStatus(0, 4);
+        client.setUpdateSpillGenerationsImpl(oldest -> {
+            oldestRequested.add(oldest);
+            spill.setUsedBytes(spill.getUsedBytes() - 200);
+            client.setSpillStatus(oldest, 4);
+            return true;
+        });
+
+        Assert.assertTrue("Expected spill eviction when spill storage is over capacity.", cm.applySpillPolicy());
+        AssertExtensions.assertListEquals("Unexpected spill generations requested.", Arrays.asList(1, 2, 3), oldestRequested, Integer::equals);
+        Assert.assertEquals("Unexpected oldest spill generation.", 3, cm.getOldestSpillGeneration());
+        Assert.assertEquals("Unexpected spill used bytes.", 400, spill.getUsedBytes());
+
+        // The main cache generations should not have been touched.
+        Assert.assertEquals("Not expecting any main cache generation changes.", 0, cache.getUsedBytes());
+
+        // Clients that report nothing evicted should not cause an infinite loop.
+        oldestRequested.clear();
+        spill.setUsedBytes(maxSpillSize);
+        client.setUpdateSpillGenerationsImpl(oldest -> {
+            oldestRequested.add(oldest);
+            return false;
+        });
+        Assert.assertFalse("Not expecting any spill eviction if clients cannot evict anything.", cm.applySpillPolicy());
+        Assert.assertEquals("Expected a single spill eviction attempt.", 1, oldestRequested.size());
+    }
+
     /**
      * Tests the ability to handle concurrent requests to {@link  CacheManager#applyCachePolicy()}.
      */
@@ -644,6 +722,10 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
     private static class TestClient implements CacheManager.Client {
         private CacheManager.CacheStatus currentStatus;
         private UpdateGenerations updateGenerationsImpl = (current, oldest, essentialOnly) -> false;
+        private CacheManager.CacheStatus spillStatus = CacheManager.CacheStatus.fromGenerations(Collections.emptyIterator());
+        private Function<Integer, Boolean> updateSpillGenerationsImpl = oldest -> false;
+        @Getter
+        private CacheEvictionPolicy evictionPolicy;
 
         void setCacheStatus(int oldestGeneration, int newestGeneration) {
             this.currentStatus = new CacheManager.CacheStatus(oldestGeneration, newestGeneration);
@@ -653,6 +735,14 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
             this.updateGenerationsImpl = function;
         }
 
+        void setSpillStatus(int oldestGeneration, int newestGeneration) {
+            this.spillStatus = new CacheManager.CacheStatus(oldestGeneration, newestGeneration);
+        }
+
+        void setUpdateSpillGenerationsImpl(Function<Integer, Boolean> function) {
+            this.updateSpillGenerationsImpl = function;
+        }
+
         @Override
         public CacheManager.CacheStatus getCacheStatus() {
             return this.currentStatus;
@@ -662,6 +752,21 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         public boolean updateGenerations(int currentGeneration, int oldestGeneration, boolean essentialOnly) {
             return this.updateGenerationsImpl.apply(currentGeneration, oldestGeneration, essentialOnly);
         }
+
+        @Override
+        public CacheManager.CacheStatus getSpillStatus() {
+            return this.spillStatus;
+        }
+
+        @Override
+        public boolean updateSpillGenerations(int oldestSpillGeneration) {
+            return this.updateSpillGenerationsImpl.apply(oldestSpillGeneration);
+        }
+
+        @Override
+        public void setEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+        }
     }
 
     private static class EmptyCacheClient extends TestClient {
@@ -0,0 +1,88 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server;
+
+import io.pravega.test.common.AssertExtensions;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link FrequencySketch} class.
+ */
+public class FrequencySketchTests {
+    private static final int WIDTH = 1024;
+
+    /**
+     * Tests the constructor with invalid arguments.
+     */
+    @Test
+    public void testInvalidArguments() {
+        AssertExtensions.assertThrows("Accepted non-positive width.", () -> new FrequencySketch(0), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Accepted non-power-of-2 width.", () -> new FrequencySketch(1000), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Accepted non-positive sample size.", () -> new FrequencySketch(WIDTH, 0), ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests {@link FrequencySketch#increment} and {@link FrequencySketch#getFrequency}.
+     */
+    @Test
+    public void testIncrement() {
+        val s = new FrequencySketch(WIDTH);
+        Assert.assertEquals("Unexpected frequency for unseen key.", 0, s.getFrequency(1));
+        for (int i = 1; i <= FrequencySketch.MAX_FREQUENCY; i++) {
+            s.increment(1);
+            Assert.assertEquals("Unexpected frequency after increment.", i, s.getFrequency(1));
+        }
+
+        // Counters saturate.
+        s.increment(1);
+        Assert.assertEquals("Not expecting frequency to exceed the maximum.", FrequencySketch.MAX_FREQUENCY, s.getFrequency(1));
+
+        // Estimates are never below the actual frequency.
+        for (long key = 100; key < 200; key++) {
+            for (int i = 0; i < key % 5; i++) {
+                s.increment(key);
+            }
+        }
+        for (long key = 100; key < 200; key++) {
+            AssertExtensions.assertGreaterThanOrEqual("Frequency underestimated for key " + key, key % 5, s.getFrequency(key));
+        }
+    }
+
+    /**
+     * Tests the ability to age (halve) all the counters after a number of increments.
+     */
+    @Test
+    public void testAging() {
+        final int sampleSize = 100;
+        final int hotCount = 10;
+        val s = new FrequencySketch(WIDTH, sampleSize);
+        for (int i = 0; i < hotCount; i++) {
+            s.increment(1);
+        }
+        Assert.assertEquals("Unexpected frequency before aging.", hotCount, s.getFrequency(1));
+
+        // Add enough distinct keys to trigger an aging of the sketch.
+        for (int i = 0; i < sampleSize - hotCount; i++) {
+            s.increment(1000 + i);
+        }
+
+        int frequency = s.getFrequency(1);
+        AssertExtensions.assertGreaterThanOrEqual("Unexpected frequency after aging.", hotCount / 2, frequency);
+        AssertExtensions.assertLessThan("Expected frequency to be halved after aging.", hotCount, frequency);
+    }
+}
@@ -23,6 +23,7 @@ import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
 import io.pravega.segmentstore.contracts.StreamSegmentTruncatedException;
+import io.pravega.segmentstore.server.reading.CacheReadMode;
 import io.pravega.segmentstore.server.reading.CompletableReadResultEntry;
 import io.pravega.segmentstore.server.reading.StreamSegmentReadResult;
 import java.time.Duration;
@@ -54,7 +55,7 @@ public class ReadResultMock extends StreamSegmentReadResult implements ReadResul
         this.entryLength = entryLength;
     }
 
-    private static CompletableReadResultEntry noopSupplier(long startOffset, int remainingLength, boolean copy) {
+    private static CompletableReadResultEntry noopSupplier(long startOffset, int remainingLength, CacheReadMode readMode) {
         throw new UnsupportedOperationException();
     }
 
@@ -191,8 +191,8 @@ public class SegmentMock implements DirectSegmentAccess {
     }
 
     @Override
-    public CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, Duration timeout) {
-        return CompletableFuture.supplyAsync(() -> new AttributeIteratorImpl(this.metadata, fromId, toId), this.executor);
+    public CompletableFuture<AttributeIterator> attributeIterator(AttributeId fromId, AttributeId toId, boolean reverse, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> new AttributeIteratorImpl(this.metadata, fromId, toId, reverse), this.executor);
     }
 
     @Override
@@ -273,12 +273,13 @@ public class SegmentMock implements DirectSegmentAccess {
         @GuardedBy("attributes")
         private final ArrayDeque<Map.Entry<AttributeId, Long>> attributes;
 
-        AttributeIteratorImpl(SegmentMetadata metadata, AttributeId fromId, AttributeId toId) {
+        AttributeIteratorImpl(SegmentMetadata metadata, AttributeId fromId, AttributeId toId, boolean reverse) {
+            Comparator<AttributeId> order = reverse ? Comparator.<AttributeId>reverseOrder() : Comparator.<AttributeId>naturalOrder();
             this.attributes = metadata
                     .getAttributes().entrySet().stream()
                     .filter(e -> !Attributes.isCoreAttribute(e.getKey()))
                     .filter(e -> fromId.compareTo(e.getKey()) <= 0 && toId.compareTo(e.getKey()) >= 0)
-                    .sorted(Comparator.comparing(Map.Entry::getKey, AttributeId::compareTo))
+                    .sorted(Comparator.comparing(Map.Entry::getKey, order))
                     .collect(Collectors.toCollection(ArrayDeque::new));
         }
 
@@ -72,6 +72,21 @@ public class SegmentStoreMetricsTests {
         assertEquals(500, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_TIME, containerTag(containerId)).value());
     }
 
+    /**
+     * Verify that the Segment Store recovery throughput and stage times are properly reported.
+     */
+    @Test
+    public void testContainerRecoveryStatisticsMetrics() {
+        int containerId = new Random().nextInt(Integer.MAX_VALUE);
+        SegmentStoreMetrics.recoveryThroughput(2000, 3000, containerId);
+        assertEquals(2000, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_OPERATIONS_PER_SEC, containerTag(containerId)).value());
+        assertEquals(3000, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_BYTES_PER_SEC, containerTag(containerId)).value());
+        SegmentStoreMetrics.recoveryStageTime("Fetch", 100, containerId);
+        SegmentStoreMetrics.recoveryStageTime("Apply", 200, containerId);
+        assertEquals(100, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_STAGE_TIME, recoveryStageTag(containerId, "Fetch")).value());
+        assertEquals(200, (long) MetricRegistryUtils.getGauge(MetricsNames.CONTAINER_RECOVERY_STAGE_TIME, recoveryStageTag(containerId, "Apply")).value());
+    }
+
     @Test
     public void testContainerMetrics() {
         int containerId = new Random().nextInt(Integer.MAX_VALUE);
@@ -116,6 +131,28 @@ public class SegmentStoreMetricsTests {
         assertNull(MetricRegistryUtils.getMeter(MetricsNames.CONTAINER_TRUNCATE_COUNT, containerTag(containerId)));
     }
 
+    @Test
+    public void testTableBloomFilterMetrics() {
+        final int containerId = new Random().nextInt(Integer.MAX_VALUE);
+        final String[] containerTag = containerTag(containerId);
+        @Cleanup
+        SegmentStoreMetrics.TableBloomFilter m = new SegmentStoreMetrics.TableBloomFilter(containerId);
+
+        m.lookupsFiltered(3, 1);
+        assertEquals(3, (long) MetricRegistryUtils.getCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_SAVED_LOOKUPS, containerTag).count());
+        assertEquals(1, (long) MetricRegistryUtils.getCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVES, containerTag).count());
+        assertEquals(0.25, MetricRegistryUtils.getGauge(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVE_RATE, containerTag).value(), 0.0001);
+
+        m.lookupsFiltered(5, 1);
+        assertEquals(8, (long) MetricRegistryUtils.getCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_SAVED_LOOKUPS, containerTag).count());
+        assertEquals(2, (long) MetricRegistryUtils.getCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVES, containerTag).count());
+        assertEquals(0.2, MetricRegistryUtils.getGauge(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVE_RATE, containerTag).value(), 0.0001);
+
+        m.close();
+        assertNull(MetricRegistryUtils.getCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_SAVED_LOOKUPS, containerTag));
+        assertNull(MetricRegistryUtils.getCounter(MetricsNames.TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVES, containerTag));
+    }
+
     @Test
     public void testStorageWriterMetrics() {
         final int readCount = 123;
@@ -189,6 +226,17 @@ public class SegmentStoreMetricsTests {
         assertEquals(generationSpread, (int) MetricRegistryUtils.getGauge(MetricsNames.CACHE_GENERATION_SPREAD).value());
         assertEquals(managerIterationDuration, (long) MetricRegistryUtils.getTimer(MetricsNames.CACHE_MANAGER_ITERATION_DURATION).mean(TimeUnit.MILLISECONDS));
 
+        val evictionPolicy = CacheEvictionPolicy.create(CacheEvictionPolicy.Type.FREQUENCY);
+        evictionPolicy.recordHit(CacheEvictionPolicy.EntryType.TABLE);
+        evictionPolicy.recordHit(CacheEvictionPolicy.EntryType.TABLE);
+        evictionPolicy.recordHit(CacheEvictionPolicy.EntryType.TABLE);
+        evictionPolicy.recordMiss(CacheEvictionPolicy.EntryType.TABLE);
+        cache.reportHitRatios(evictionPolicy);
+        val tableTags = cacheTags(CacheEvictionPolicy.Type.FREQUENCY.toString(), CacheEvictionPolicy.EntryType.TABLE.toString());
+        val streamTags = cacheTags(CacheEvictionPolicy.Type.FREQUENCY.toString(), CacheEvictionPolicy.EntryType.STREAM.toString());
+        assertEquals(0.75, MetricRegistryUtils.getGauge(MetricsNames.CACHE_HIT_RATIO, tableTags).value(), 0.0001);
+        assertEquals(0.0, MetricRegistryUtils.getGauge(MetricsNames.CACHE_HIT_RATIO, streamTags).value(), 0.0001);
+
         cache.close();
 
         assertNull(MetricRegistryUtils.getGauge(MetricsNames.CACHE_STORED_SIZE_BYTES));
@@ -196,6 +244,7 @@ public class SegmentStoreMetricsTests {
         assertNull(MetricRegistryUtils.getGauge(MetricsNames.CACHE_ALLOC_SIZE_BYTES));
         assertNull(MetricRegistryUtils.getGauge(MetricsNames.CACHE_GENERATION_SPREAD));
         assertNull(MetricRegistryUtils.getTimer(MetricsNames.CACHE_MANAGER_ITERATION_DURATION));
+        assertNull(MetricRegistryUtils.getGauge(MetricsNames.CACHE_HIT_RATIO, tableTags));
     }
 
     @Test
@@ -230,6 +279,9 @@ public class SegmentStoreMetricsTests {
                 new TestCompletableOperation(30));
         op.operationsFailed(opf);
         assertEquals(20, (int) MetricRegistryUtils.getTimer(MetricsNames.OPERATION_LATENCY, containerTag).totalTime(TimeUnit.MILLISECONDS));
+        op.dataFrameCompressed(1000, 250, TimeUnit.MICROSECONDS.toNanos(30));
+        assertEquals(25, (int) MetricRegistryUtils.getTimer(MetricsNames.OPERATION_DATA_FRAME_COMPRESSION_RATIO, containerTag).totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(30, (int) MetricRegistryUtils.getTimer(MetricsNames.OPERATION_DATA_FRAME_COMPRESSION_LATENCY, containerTag).totalTime(TimeUnit.MILLISECONDS));
         op.reportOperationLogSize(1000, containerId);
         AssertExtensions.assertEventuallyEquals(true, () -> MetricRegistryUtils.getGauge(MetricsNames.OPERATION_LOG_SIZE, containerTag(containerId)).value() == 1000, 2000);
         op.close();
@@ -21,7 +21,7 @@ import java.util.function.Consumer;
 import lombok.Setter;
 
 /**
- * Exposes the applyCachePolicy method in the CacheManager.
+ * Exposes the applyCachePolicy and applySpillPolicy methods in the CacheManager.
  */
 public class TestCacheManager extends CacheManager {
     @Setter
@@ -31,11 +31,20 @@ public class TestCacheManager extends CacheManager {
         super(policy, cacheStorage, executorService);
     }
 
+    public TestCacheManager(CachePolicy policy, CacheStorage cacheStorage, CacheStorage spillStorage, ScheduledExecutorService executorService) {
+        super(policy, cacheStorage, spillStorage, executorService);
+    }
+
     @Override
     public boolean applyCachePolicy() {
         return super.applyCachePolicy();
     }
 
+    @Override
+    public boolean applySpillPolicy() {
+        return super.applySpillPolicy();
+    }
+
     @Override
     public void unregister(Client client) {
         Consumer<Client> interceptor = this.unregisterInterceptor;
@@ -77,6 +77,15 @@ public class SegmentAttributeIteratorTests extends ThreadPooledTestSuite {
         test(testData);
     }
 
+    /**
+     * Test a scenario where attributes come both from the base iterators and from the metadata, iterating in descending order.
+     */
+    @Test
+    public void testAllSourcesReverse() {
+        val testData = createTestData(ITERATOR_COUNT, METADATA_COUNT);
+        test(testData, true);
+    }
+
     /**
      * Tests a scenario where the base iterators returned attributes out of order.
      */
@@ -125,10 +134,15 @@ public class SegmentAttributeIteratorTests extends ThreadPooledTestSuite {
     }
 
     private void test(TestData testData) {
+        test(testData, false);
+    }
+
+    private void test(TestData testData, boolean reverse) {
         for (int i = 0; i < testData.sortedAttributeIds.size() / 2; i++) {
             AttributeId fromId = testData.sortedAttributeIds.get(i);
             AttributeId toId = testData.sortedAttributeIds.get(testData.sortedAttributeIds.size() - i - 1);
-            val iterator = new SegmentAttributeIterator(testData.getAttributeIterator(fromId, toId), testData.segmentMetadata, fromId, toId);
+            val iterator = new SegmentAttributeIterator(testData.getAttributeIterator(fromId, toId, reverse), testData.segmentMetadata,
+                    fromId, toId, reverse);
             val finalResult = new ArrayList<Map.Entry<AttributeId, Long>>();
             val ids = new HashSet<AttributeId>();
             iterator.forEachRemaining(intermediateResult -> {
@@ -142,6 +156,9 @@ public class SegmentAttributeIteratorTests extends ThreadPooledTestSuite {
                     .stream()
                     .filter(e -> isBetween(e.getKey(), fromId, toId))
                     .collect(Collectors.toList());
+            if (reverse) {
+                Collections.reverse(expectedResult);
+            }
 
             AssertExtensions.assertListEquals("Unexpected final result.", expectedResult, finalResult,
                     (e1, e2) -> e1.getKey().equals(e2.getKey()) && e1.getValue().equals(e2.getValue()));
@@ -212,11 +229,24 @@ public class SegmentAttributeIteratorTests extends ThreadPooledTestSuite {
         private final List<Map.Entry<AttributeId, Long>> expectedResult;
 
         AttributeIterator getAttributeIterator(AttributeId fromId, AttributeId toId) {
-            val baseIterator = baseIteratorAttributes.iterator();
-            return () -> CompletableFuture.completedFuture(
-                    baseIterator.hasNext()
-                            ? baseIterator.next().stream().filter(e -> isBetween(e.getKey(), fromId, toId)).collect(Collectors.toList())
-                            : null);
+            return getAttributeIterator(fromId, toId, false);
+        }
+
+        AttributeIterator getAttributeIterator(AttributeId fromId, AttributeId toId, boolean reverse) {
+            val base = new ArrayList<List<Map.Entry<AttributeId, Long>>>();
+            for (val list : baseIteratorAttributes) {
+                val filtered = list.stream().filter(e -> isBetween(e.getKey(), fromId, toId)).collect(Collectors.toList());
+                if (reverse) {
+                    Collections.reverse(filtered);
+                }
+                base.add(filtered);
+            }
+            if (reverse) {
+                Collections.reverse(base);
+            }
+
+            val baseIterator = base.iterator();
+            return () -> CompletableFuture.completedFuture(baseIterator.hasNext() ? baseIterator.next() : null);
         }
     }
 }
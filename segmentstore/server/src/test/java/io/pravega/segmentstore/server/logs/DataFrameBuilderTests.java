@@ -126,7 +126,7 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
             TestUtils.await(() -> commitFrames.size() >= order.size(), 20, TIMEOUT.toMillis());
 
             List<DataFrame.DataFrameEntryIterator> frames = dataLog.getAllEntries(readItem ->
-                    DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress()));
+                    DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress(), FRAME_SIZE));
             Assert.assertEquals("Unexpected number of frames generated.", commitFrames.size(), frames.size());
 
             // Check the correctness of the commit callback.
@@ -216,7 +216,7 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
         AssertExtensions.assertListEquals("Items read back do not match expected values.", expectedItems, readItems, TestLogItem::equals);
 
         // Read all entries in the Log and interpret them as DataFrames, then verify the records can be reconstructed.
-        val frames = dataLog.getAllEntries(ri -> DataFrame.read(ri.getPayload(), ri.getLength(), ri.getAddress()));
+        val frames = dataLog.getAllEntries(ri -> DataFrame.read(ri.getPayload(), ri.getLength(), ri.getAddress(), FRAME_SIZE));
 
         // Check the correctness of the commit callback.
         AssertExtensions.assertGreaterThan("Not enough Data Frames were generated.", 1, frames.size());
@@ -263,7 +263,7 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
             Assert.assertEquals("Exactly one Data Frame was expected so far.", 1, commitFrames.size());
 
             //Read all entries in the Log and interpret them as DataFrames, then verify the records can be reconstructed.
-            val frames = dataLog.getAllEntries(readItem -> DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress()));
+            val frames = dataLog.getAllEntries(readItem -> DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress(), FRAME_SIZE));
             Assert.assertEquals("Unexpected number of frames generated.", commitFrames.size(), frames.size());
             DataFrameTestHelpers.checkReadRecords(frames, records, r -> new ByteArraySegment(r.getFullSerialization()));
         }
@@ -317,7 +317,7 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
             }
 
             //Read all entries in the Log and interpret them as DataFrames, then verify the records can be reconstructed.
-            val frames = dataLog.getAllEntries(readItem -> DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress()));
+            val frames = dataLog.getAllEntries(readItem -> DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress(), FRAME_SIZE));
             DataFrameTestHelpers.checkReadRecords(frames, records, r -> new ByteArraySegment(r.getFullSerialization()));
         }
     }
@@ -50,7 +50,7 @@ public class DataFrameInputStreamTests {
     public void testReadsNoFailure() throws Exception {
         val items = generateData();
         try (val reader = toReader(toDataFrames(items));
-             val inputStream = new DataFrameInputStream(reader, TRACE_ID)) {
+             val inputStream = new DataFrameInputStream(reader, FRAME_SIZE, TRACE_ID)) {
             check(items, inputStream, Collections.emptySet());
         }
     }
@@ -62,7 +62,7 @@ public class DataFrameInputStreamTests {
     public void testReadsIncompleteRecords() throws Exception {
         val items = generateData();
         try (val reader = toReader(toDataFrames(items));
-             val inputStream = new DataFrameInputStream(reader, TRACE_ID)) {
+             val inputStream = new DataFrameInputStream(reader, FRAME_SIZE, TRACE_ID)) {
             int readLength = 0;
             for (val item : items) {
                 readLength = (readLength + 1) % RECORD_SIZE;
@@ -88,7 +88,7 @@ public class DataFrameInputStreamTests {
         val dataFrames = toDataFrames(items);
         LogItem removedFrame = dataFrames.remove(0);
         try (val reader = toReader(dataFrames, 0, dataFrames.size() - 1);
-             val inputStream = new DataFrameInputStream(reader, TRACE_ID)) {
+             val inputStream = new DataFrameInputStream(reader, FRAME_SIZE, TRACE_ID)) {
             // We expect the first two records to be dropped since they are either entirely (#0) or partially (#1) in the
             // first frame, which we skip.
             val expectedMissing = getExpectedMissingItemIndices(items, removedFrame);
@@ -119,7 +119,7 @@ public class DataFrameInputStreamTests {
 
         Assert.assertNotNull("Unable to locate a frame worthy of removal.", removedFrame);
         try (val reader = toReader(dataFrames, 0, dataFrames.size() - 1);
-             val inputStream = new DataFrameInputStream(reader, TRACE_ID)) {
+             val inputStream = new DataFrameInputStream(reader, FRAME_SIZE, TRACE_ID)) {
             // We expect the first two records to be dropped since they are either entirely (#0) or partially (#1) in the
             // first frame, which we skip.
             val expectedMissing = getExpectedMissingItemIndices(items, removedFrame);
@@ -135,7 +135,7 @@ public class DataFrameInputStreamTests {
         val items = generateData();
         val dataFrames = toDataFrames(items);
         try (val reader = toReader(dataFrames, 0, dataFrames.size() - 2);
-             val inputStream = new DataFrameInputStream(reader, TRACE_ID)) {
+             val inputStream = new DataFrameInputStream(reader, FRAME_SIZE, TRACE_ID)) {
             // We expect the first two records to be dropped since they are either entirely (#0) or partially (#1) in the
             // first frame, which we skip.
             val expectedMissing = getExpectedMissingItemIndices(items, dataFrames.get(dataFrames.size() - 1));
@@ -365,9 +365,47 @@ public class DataFrameOutputStreamTests {
         }
     }
 
+    /**
+     * Tests the ability to compress DataFrames upon flushing them, honoring the minimum frame size for compression.
+     */
+    @Test
+    public void testCompression() throws Exception {
+        int maxFrameSize = 10 * 1024;
+        int minCompressionSize = 1024;
+        val writtenFrames = new ArrayList<DataFrame>();
+        val smallRecords = DataFrameTestHelpers.generateCompressibleRecords(1, 100, 200);
+        val largeRecords = DataFrameTestHelpers.generateCompressibleRecords(5, 1024, 2048);
+        try (DataFrameOutputStream s = new DataFrameOutputStream(maxFrameSize, DataFrameCompression.DEFLATE_FAST, minCompressionSize, writtenFrames::add)) {
+            // A frame smaller than the minimum size should not be compressed.
+            for (byte[] record : smallRecords) {
+                s.startNewRecord();
+                s.write(record);
+                s.endRecord();
+            }
+            s.flush();
+
+            // A frame larger than the minimum size should be compressed.
+            for (byte[] record : largeRecords) {
+                s.startNewRecord();
+                s.write(record);
+                s.endRecord();
+            }
+            s.flush();
+        }
+
+        Assert.assertEquals("Unexpected number of frames written.", 2, writtenFrames.size());
+        val smallFrame = writtenFrames.get(0);
+        Assert.assertEquals("Not expecting a small frame to be compressed.", smallFrame.getUncompressedLength(), smallFrame.getLength());
+        DataFrameTestHelpers.checkReadRecords(readFrame(smallFrame), smallRecords, ByteArraySegment::new);
+
+        val largeFrame = writtenFrames.get(1);
+        AssertExtensions.assertLessThan("Expected a large frame to be compressed.", largeFrame.getUncompressedLength(), largeFrame.getLength());
+        DataFrameTestHelpers.checkReadRecords(readFrame(largeFrame), largeRecords, ByteArraySegment::new);
+    }
+
     @SneakyThrows(IOException.class)
     private DataFrame.DataFrameEntryIterator readFrame(DataFrame dataFrame) {
-        return DataFrame.read(dataFrame.getData().getReader(), dataFrame.getLength(), dataFrame.getAddress());
+        return DataFrame.read(dataFrame.getData().getReader(), dataFrame.getLength(), dataFrame.getAddress(), Integer.MAX_VALUE);
     }
 
     @FunctionalInterface
@@ -53,6 +53,26 @@ class DataFrameTestHelpers {
         return generateRecords(count, minSize, maxSize, r -> r);
     }
 
+    /**
+     * Generates a collection of byte[] records made of short repeating patterns, which compress well.
+     */
+    static ArrayList<byte[]> generateCompressibleRecords(int count, int minSize, int maxSize) {
+        assert minSize <= maxSize;
+        Random random = new Random(0);
+        ArrayList<byte[]> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int size = (maxSize != minSize ? random.nextInt(maxSize - minSize) : 0) + minSize;
+            byte[] record = new byte[size];
+            int period = random.nextInt(16) + 1;
+            for (int j = 0; j < size; j++) {
+                record[j] = (byte) (i + j % period);
+            }
+            result.add(record);
+        }
+
+        return result;
+    }
+
     /**
      * Generates a collection of records and converts them to a custom data type (i.e. ByteArraySegment).
      */
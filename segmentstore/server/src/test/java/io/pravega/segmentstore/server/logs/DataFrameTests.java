@@ -15,9 +15,13 @@
  */
 package io.pravega.segmentstore.server.logs;
 
+import io.pravega.common.io.SerializationException;
+import io.pravega.common.util.BitConverter;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.storage.LogAddress;
 import io.pravega.test.common.AssertExtensions;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.val;
 import org.junit.Assert;
@@ -30,6 +34,7 @@ import org.junit.rules.Timeout;
  */
 public class DataFrameTests {
     private static final int ENTRY_HEADER_SIZE = 5; // This is a copy of DataFrame.EntryHeader.HeaderSize, but that's not accessible from here.
+    private static final int FRAME_HEADER_SIZE = 6; // This is a copy of DataFrame.FrameHeader.SERIALIZATION_LENGTH.
     @Rule
     public Timeout globalTimeout = Timeout.seconds(10);
 
@@ -55,10 +60,110 @@ public class DataFrameTests {
         Assert.assertEquals("Unexpected length from getData().", writeFrame.getLength(), frameData.getLength());
 
         // Read them back, by deserializing the frame.
-        val contents = DataFrame.read(frameData.getReader(), frameData.getLength(), writeFrame.getAddress());
+        val contents = DataFrame.read(frameData.getReader(), frameData.getLength(), writeFrame.getAddress(), maxFrameSize);
         DataFrameTestHelpers.checkReadRecords(contents, allRecords, b -> b);
     }
 
+    /**
+     * Tests the ability to compress a DataFrame, serialize it, deserialize it, and then read its records back.
+     */
+    @Test
+    public void testCompression() throws Exception {
+        int maxFrameSize = 1024 * 1024;
+        val allRecords = DataFrameTestHelpers.generateCompressibleRecords(1000, 0, 1024);
+        for (val compression : DataFrameCompression.values()) {
+            if (compression == DataFrameCompression.NONE) {
+                continue;
+            }
+
+            DataFrame writeFrame = DataFrame.ofSize(maxFrameSize);
+            val records = new ArrayList<ByteArraySegment>();
+            for (byte[] r : allRecords) {
+                val record = new ByteArraySegment(r);
+                writeFrame.startNewEntry(true);
+                if (writeFrame.append(record.getBufferViewReader()) < record.getLength()) {
+                    writeFrame.discardEntry();
+                    break;
+                }
+
+                writeFrame.endEntry(true);
+                records.add(record);
+            }
+
+            writeFrame.seal();
+            val compressedFrame = writeFrame.compress(compression);
+            Assert.assertNotNull("Expected compressible data to be compressed.", compressedFrame);
+            Assert.assertTrue("Expected the compressed frame to be sealed.", compressedFrame.isSealed());
+            AssertExtensions.assertLessThan("Expected the compressed frame to be smaller.", writeFrame.getLength(), compressedFrame.getLength());
+            Assert.assertEquals("Unexpected uncompressed length.", writeFrame.getLength(), compressedFrame.getUncompressedLength());
+            AssertExtensions.assertThrows(
+                    "compress() worked on an already compressed frame.",
+                    () -> compressedFrame.compress(compression),
+                    ex -> ex instanceof IllegalStateException);
+
+            val frameData = compressedFrame.getData();
+            Assert.assertEquals("Unexpected length from getData().", compressedFrame.getLength(), frameData.getLength());
+            val contents = DataFrame.read(frameData.getReader(), frameData.getLength(), writeFrame.getAddress(), maxFrameSize);
+            DataFrameTestHelpers.checkReadRecords(contents, records, b -> b);
+        }
+    }
+
+    /**
+     * Tests that a compressed DataFrame with a corrupted uncompressed length is rejected before its contents are decompressed.
+     */
+    @Test
+    public void testCompressionCorruptedLength() throws Exception {
+        int maxFrameSize = 64 * 1024;
+        DataFrame writeFrame = DataFrame.ofSize(maxFrameSize);
+        for (byte[] r : DataFrameTestHelpers.generateCompressibleRecords(10, 100, 1024)) {
+            writeFrame.startNewEntry(true);
+            writeFrame.append(new ByteArraySegment(r).getBufferViewReader());
+            writeFrame.endEntry(true);
+        }
+
+        writeFrame.seal();
+        val compressedFrame = writeFrame.compress(DataFrameCompression.DEFLATE);
+        Assert.assertNotNull("Expected compressible data to be compressed.", compressedFrame);
+        byte[] frameData = compressedFrame.getData().getCopy();
+
+        // The uncompressed length immediately follows the frame header.
+        BitConverter.writeInt(frameData, FRAME_HEADER_SIZE, Integer.MAX_VALUE);
+        AssertExtensions.assertThrows(
+                "read() accepted an uncompressed length larger than the maximum frame size.",
+                () -> DataFrame.read(new ByteArrayInputStream(frameData), frameData.length, writeFrame.getAddress(), maxFrameSize),
+                ex -> ex instanceof SerializationException);
+
+        BitConverter.writeInt(frameData, FRAME_HEADER_SIZE, -1);
+        AssertExtensions.assertThrows(
+                "read() accepted a negative uncompressed length.",
+                () -> DataFrame.read(new ByteArrayInputStream(frameData), frameData.length, writeFrame.getAddress(), maxFrameSize),
+                ex -> ex instanceof SerializationException);
+    }
+
+    /**
+     * Tests the behavior of {@link DataFrame#compress} when the frame is not sealed or its contents cannot be compressed.
+     */
+    @Test
+    public void testCompressionNotApplicable() {
+        val records = DataFrameTestHelpers.generateRecords(10, 100, 1024, ByteArraySegment::new);
+        DataFrame df = DataFrame.ofSize(64 * 1024);
+        for (val record : records) {
+            df.startNewEntry(true);
+            df.append(record.getBufferViewReader());
+            df.endEntry(true);
+        }
+
+        AssertExtensions.assertThrows(
+                "compress() worked on a non-sealed frame.",
+                () -> df.compress(DataFrameCompression.DEFLATE),
+                ex -> ex instanceof IllegalStateException);
+
+        // Random data does not compress, so we expect to be told to use the original frame.
+        df.seal();
+        Assert.assertNull("Not expecting incompressible data to be compressed.", df.compress(DataFrameCompression.DEFLATE));
+        Assert.assertEquals("Unexpected uncompressed length for a non-compressed frame.", df.getLength(), df.getUncompressedLength());
+    }
+
     /**
      * Tests the ability to Start/End/Discard an entry.
      */
@@ -641,11 +641,24 @@ public class DurableLogTests extends OperationLogTestBase {
 
     //region Recovery
 
+    /**
+     * Tests the DurableLog recovery process, with recovery stages pipelined, in a scenario when there are no failures
+     * during the process.
+     */
+    @Test
+    public void testPipelinedRecoveryWithNoFailures() throws Exception {
+        testRecoveryWithNoFailures(ContainerSetup.createDurableLogConfig(null, null, 4));
+    }
+
     /**
      * Tests the DurableLog recovery process in a scenario when there are no failures during the process.
      */
     @Test
     public void testRecoveryWithNoFailures() throws Exception {
+        testRecoveryWithNoFailures(ContainerSetup.defaultDurableLogConfig());
+    }
+
+    private void testRecoveryWithNoFailures(DurableLogConfig recoveryConfig) throws Exception {
         int streamSegmentCount = 50;
         int transactionsPerStreamSegment = 2;
         int appendsPerStreamSegment = 20;
@@ -696,7 +709,7 @@ public class DurableLogTests extends OperationLogTestBase {
         metadata = new MetadataBuilder(CONTAINER_ID).build();
         try (
                 ReadIndex readIndex = new ContainerReadIndex(DEFAULT_READ_INDEX_CONFIG, metadata, storage, cacheManager, executorService());
-                DurableLog durableLog = new DurableLog(ContainerSetup.defaultDurableLogConfig(), metadata, dataLogFactory, readIndex, executorService())) {
+                DurableLog durableLog = new DurableLog(recoveryConfig, metadata, dataLogFactory, readIndex, executorService())) {
             durableLog.startAsync().awaitRunning();
 
             List<Operation> recoveredOperations = readUpToSequenceNumber(durableLog, metadata.getOperationSequenceNumber());
@@ -709,12 +722,25 @@ public class DurableLogTests extends OperationLogTestBase {
         }
     }
 
+    /**
+     * Tests the DurableLog recovery process, with recovery stages pipelined, in a scenario when there are failures
+     * during the process (these may or may not be DataCorruptionExceptions).
+     */
+    @Test
+    public void testPipelinedRecoveryFailures() throws Exception {
+        testRecoveryFailures(ContainerSetup.createDurableLogConfig(null, null, 4));
+    }
+
     /**
      * Tests the DurableLog recovery process in a scenario when there are failures during the process
      * (these may or may not be DataCorruptionExceptions).
      */
     @Test
     public void testRecoveryFailures() throws Exception {
+        testRecoveryFailures(ContainerSetup.defaultDurableLogConfig());
+    }
+
+    private void testRecoveryFailures(DurableLogConfig recoveryConfig) throws Exception {
         int streamSegmentCount = 50;
         int appendsPerStreamSegment = 20;
         int failReadAfter = 2; // Fail DataLog reads after X reads.
@@ -757,7 +783,7 @@ public class DurableLogTests extends OperationLogTestBase {
         metadata = new MetadataBuilder(CONTAINER_ID).build();
         dataLog.set(null);
         try (ReadIndex readIndex = new ContainerReadIndex(DEFAULT_READ_INDEX_CONFIG, metadata, storage, cacheManager, executorService());
-             DurableLog durableLog = new DurableLog(ContainerSetup.defaultDurableLogConfig(), metadata, dataLogFactory, readIndex, executorService())) {
+             DurableLog durableLog = new DurableLog(recoveryConfig, metadata, dataLogFactory, readIndex, executorService())) {
 
             // Inject some artificial error into the DataLogRead after a few reads.
             ErrorInjector<Exception> readNextInjector = new ErrorInjector<>(
@@ -792,7 +818,7 @@ public class DurableLogTests extends OperationLogTestBase {
         metadata = new MetadataBuilder(CONTAINER_ID).build();
         dataLog.set(null);
         try (ReadIndex readIndex = new ContainerReadIndex(DEFAULT_READ_INDEX_CONFIG, metadata, storage, cacheManager, executorService());
-             DurableLog durableLog = new DurableLog(ContainerSetup.defaultDurableLogConfig(), metadata, dataLogFactory, readIndex, executorService())) {
+             DurableLog durableLog = new DurableLog(recoveryConfig, metadata, dataLogFactory, readIndex, executorService())) {
 
             // Reset error injectors to nothing.
             dataLog.get().setReadErrorInjectors(null, null);
@@ -1741,6 +1767,10 @@ public class DurableLogTests extends OperationLogTestBase {
         }
 
         static DurableLogConfig createDurableLogConfig(Integer checkpointMinCommitCount, Long checkpointMinTotalCommitLength) {
+            return createDurableLogConfig(checkpointMinCommitCount, checkpointMinTotalCommitLength, 0);
+        }
+
+        static DurableLogConfig createDurableLogConfig(Integer checkpointMinCommitCount, Long checkpointMinTotalCommitLength, int recoveryPipelineQueueSize) {
             if (checkpointMinCommitCount == null) {
                 checkpointMinCommitCount = Integer.MAX_VALUE;
             }
@@ -1755,6 +1785,7 @@ public class DurableLogTests extends OperationLogTestBase {
                     .with(DurableLogConfig.CHECKPOINT_COMMIT_COUNT, checkpointMinCommitCount)
                     .with(DurableLogConfig.CHECKPOINT_TOTAL_COMMIT_LENGTH, checkpointMinTotalCommitLength)
                     .with(DurableLogConfig.START_RETRY_DELAY_MILLIS, START_RETRY_DELAY_MILLIS)
+                    .with(DurableLogConfig.RECOVERY_PIPELINE_QUEUE_SIZE, recoveryPipelineQueueSize)
                     .build();
         }
     }
@@ -0,0 +1,89 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.test.common.AssertExtensions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the IngestionRateCalculator class.
+ */
+public class IngestionRateCalculatorTests {
+    private static final double EPSILON = 0.0001;
+
+    /**
+     * Tests the calculation of the ingestion rate under steady and changing ingestion rates.
+     */
+    @Test
+    public void testRate() {
+        val time = new AtomicLong(0);
+        val c = new IngestionRateCalculator(time::get);
+        Assert.assertEquals("Unexpected initial rate.", 0, c.getBytesPerMillis(), EPSILON);
+
+        // Recordings within the same sampling interval should not be reflected until the interval is complete.
+        c.record(1000);
+        time.addAndGet(IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS / 2);
+        c.record(1000);
+        Assert.assertEquals("Not expecting a rate before the sampling interval ends.", 0, c.getBytesPerMillis(), EPSILON);
+
+        // First complete sample: 3000 bytes over the sampling interval.
+        time.addAndGet(IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS / 2);
+        c.record(1000);
+        val intervalMillis = (double) IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS / TimeUnit.MILLISECONDS.toNanos(1);
+        double expected = 3000 / intervalMillis;
+        Assert.assertEquals("Unexpected rate after first sample.", expected, c.getBytesPerMillis(), EPSILON);
+
+        // Subsequent samples are weighted.
+        for (int i = 0; i < 10; i++) {
+            time.addAndGet(IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS);
+            c.record(10000);
+            double sample = 10000 / intervalMillis;
+            expected = sample * IngestionRateCalculator.NEW_SAMPLE_WEIGHT + expected * (1 - IngestionRateCalculator.NEW_SAMPLE_WEIGHT);
+            Assert.assertEquals("Unexpected rate after sample " + i, expected, c.getBytesPerMillis(), EPSILON);
+        }
+    }
+
+    /**
+     * Tests the ability to reset the rate when idle.
+     */
+    @Test
+    public void testIdle() {
+        val time = new AtomicLong(0);
+        val c = new IngestionRateCalculator(time::get);
+        for (int i = 0; i < 10; i++) {
+            time.addAndGet(IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS);
+            c.record(10000);
+        }
+
+        AssertExtensions.assertGreaterThan("Expected a rate to be computed.", 0, (long) c.getBytesPerMillis());
+
+        // No recordings for a while.
+        time.addAndGet(IngestionRateCalculator.IDLE_THRESHOLD_NANOS);
+        Assert.assertEquals("Expected no rate when idle.", 0, c.getBytesPerMillis(), EPSILON);
+
+        // A recording after idle should start afresh, without taking into account the old rate or the idle period.
+        c.record(1000);
+        Assert.assertEquals("Not expecting a rate before the sampling interval ends.", 0, c.getBytesPerMillis(), EPSILON);
+        time.addAndGet(IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS);
+        c.record(1000);
+        val intervalMillis = (double) IngestionRateCalculator.MIN_SAMPLE_INTERVAL_NANOS / TimeUnit.MILLISECONDS.toNanos(1);
+        Assert.assertEquals("Unexpected rate after idle.", 2000 / intervalMillis, c.getBytesPerMillis(), EPSILON);
+    }
+}
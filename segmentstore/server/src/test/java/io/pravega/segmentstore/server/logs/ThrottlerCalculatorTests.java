@@ -105,6 +105,64 @@ public class ThrottlerCalculatorTests {
               });
     }
 
+    /**
+     * Tests the ability to properly calculate adaptive batching delays, based on DurableDataLog latency and ingestion rate.
+     */
+    @Test
+    public void testAdaptiveBatching() {
+        val targetLatency = 20;
+        val maxBatchingDelay = DurableLogConfig.MAX_BATCHING_DELAY_MILLIS.getDefaultValue();
+        val logLatency = 5;
+        val budget = targetLatency - logLatency;
+        val queueStats = new AtomicReference<QueueStats>(createStats(1, 0.1, logLatency));
+        val ingestionRate = new AtomicReference<Double>((double) MAX_APPEND_LENGTH);
+        val tc = ThrottlerCalculator.builder()
+                .maxDelayMillis(DurableLogConfig.MAX_DELAY_MILLIS.getDefaultValue())
+                .adaptiveBatchingThrottler(queueStats::get, ingestionRate::get, targetLatency, maxBatchingDelay)
+                .build();
+
+        // High ingestion rate (can fill a full write in 1ms): wait just enough for a full write.
+        Assert.assertFalse(tc.isThrottlingRequired());
+        Assert.assertEquals("Expected a delay sufficient to fill a full write.", 1, tc.getThrottlingDelay().getDurationMillis());
+        Assert.assertEquals(ThrottlerCalculator.ThrottlerName.Batching, tc.getThrottlingDelay().getThrottlerName());
+
+        // Moderate ingestion rate (can fill a full write in 8ms, which is within the budget).
+        ingestionRate.set((double) MAX_APPEND_LENGTH / 8);
+        Assert.assertEquals("Expected a delay sufficient to fill a full write.", 8, tc.getThrottlingDelay().getDurationMillis());
+
+        // Lower ingestion rate (can fill half a write within the budget): wait for the whole budget.
+        ingestionRate.set((double) MAX_APPEND_LENGTH / budget / 2);
+        Assert.assertEquals("Expected the whole latency budget to be used.", budget, tc.getThrottlingDelay().getDurationMillis());
+
+        // Very low ingestion rate (cannot fill a meaningful fraction of a write within the budget): no delay.
+        ingestionRate.set(MAX_APPEND_LENGTH * ThrottlerPolicy.ADAPTIVE_BATCHING_MIN_FILL_RATIO / budget / 2);
+        Assert.assertEquals("Not expecting a delay for low ingestion rates.", 0, tc.getThrottlingDelay().getDurationMillis());
+        ingestionRate.set(0.0);
+        Assert.assertEquals("Not expecting a delay when idle.", 0, tc.getThrottlingDelay().getDurationMillis());
+
+        // No outstanding writes: no delay, regardless of ingestion rate.
+        ingestionRate.set((double) MAX_APPEND_LENGTH / 8);
+        queueStats.set(createStats(0, 0, logLatency));
+        Assert.assertEquals("Not expecting a delay with no outstanding writes.", 0, tc.getThrottlingDelay().getDurationMillis());
+
+        // Outstanding writes are full: no delay.
+        queueStats.set(createStats(10, 1.0, logLatency));
+        Assert.assertEquals("Not expecting a delay with full outstanding writes.", 0, tc.getThrottlingDelay().getDurationMillis());
+
+        // DurableDataLog latency exceeds the target: no delay.
+        queueStats.set(createStats(1, 0.1, targetLatency));
+        Assert.assertEquals("Not expecting a delay if there is no latency budget.", 0, tc.getThrottlingDelay().getDurationMillis());
+
+        // Capped at the max batching delay.
+        val tc2 = ThrottlerCalculator.builder()
+                .maxDelayMillis(DurableLogConfig.MAX_DELAY_MILLIS.getDefaultValue())
+                .adaptiveBatchingThrottler(queueStats::get, ingestionRate::get, maxBatchingDelay * 10, maxBatchingDelay)
+                .build();
+        queueStats.set(createStats(1, 0.1, logLatency));
+        ingestionRate.set((double) MAX_APPEND_LENGTH / (maxBatchingDelay * 2));
+        Assert.assertEquals("Expected batching to be capped.", (int) maxBatchingDelay, tc2.getThrottlingDelay().getDurationMillis());
+    }
+
     /**
      * Tests the ability to properly calculate DurableDataLog-related delays.
      */
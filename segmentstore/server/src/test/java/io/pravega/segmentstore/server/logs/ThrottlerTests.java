@@ -438,6 +438,7 @@ public class ThrottlerTests extends ThreadPooledTestSuite {
         DurableLogConfig durableLogConfig = DurableLogConfig.builder().build();
         ThrottlerPolicy throttlerPolicy = new ThrottlerPolicy(durableLogConfig);
         Assert.assertEquals((int) DurableLogConfig.MAX_BATCHING_DELAY_MILLIS.getDefaultValue(), throttlerPolicy.getMaxBatchingDelayMillis());
+        Assert.assertEquals((int) DurableLogConfig.BATCHING_TARGET_LATENCY_MILLIS.getDefaultValue(), throttlerPolicy.getBatchingTargetLatencyMillis());
         Assert.assertEquals((int) DurableLogConfig.MAX_DELAY_MILLIS.getDefaultValue(), throttlerPolicy.getMaxDelayMillis());
         Assert.assertEquals((int) DurableLogConfig.OPERATION_LOG_MAX_SIZE.getDefaultValue(), throttlerPolicy.getOperationLogMaxSize());
         Assert.assertEquals((int) DurableLogConfig.OPERATION_LOG_TARGET_SIZE.getDefaultValue(), throttlerPolicy.getOperationLogTargetSize());
@@ -445,12 +446,14 @@ public class ThrottlerTests extends ThreadPooledTestSuite {
         // Set non-default values and verify that ThrottlerConfig stores these correctly.
         durableLogConfig = DurableLogConfig.builder()
                 .with(DurableLogConfig.MAX_BATCHING_DELAY_MILLIS, 10)
+                .with(DurableLogConfig.BATCHING_TARGET_LATENCY_MILLIS, 20)
                 .with(DurableLogConfig.MAX_DELAY_MILLIS, 10000)
                 .with(DurableLogConfig.OPERATION_LOG_MAX_SIZE, 1234)
                 .with(DurableLogConfig.OPERATION_LOG_TARGET_SIZE, 123)
                 .build();
         throttlerPolicy = new ThrottlerPolicy(durableLogConfig);
         Assert.assertEquals(10, throttlerPolicy.getMaxBatchingDelayMillis());
+        Assert.assertEquals(20, throttlerPolicy.getBatchingTargetLatencyMillis());
         Assert.assertEquals(10000, throttlerPolicy.getMaxDelayMillis());
         Assert.assertEquals(1234, throttlerPolicy.getOperationLogMaxSize());
         Assert.assertEquals(123, throttlerPolicy.getOperationLogTargetSize());
@@ -460,6 +463,11 @@ public class ThrottlerTests extends ThreadPooledTestSuite {
                 .with(DurableLogConfig.OPERATION_LOG_MAX_SIZE, 10)
                 .with(DurableLogConfig.OPERATION_LOG_TARGET_SIZE, 20)
                 .build());
+
+        // Check that we cannot set a negative batching target latency.
+        AssertExtensions.assertThrows(ConfigurationException.class, () -> DurableLogConfig.builder()
+                .with(DurableLogConfig.BATCHING_TARGET_LATENCY_MILLIS, -1)
+                .build());
     }
 
     //region Helper Classes
@@ -44,6 +44,7 @@ import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.FileCacheStorage;
 import io.pravega.segmentstore.storage.mocks.InMemoryStorage;
 import io.pravega.shared.NameUtils;
 import io.pravega.test.common.AssertExtensions;
@@ -52,6 +53,7 @@ import io.pravega.test.common.TestUtils;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -879,6 +881,63 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         checkReadIndex("CacheReads", segmentContents, context);
     }
 
+    /**
+     * Tests the ability to read ahead (prefetch) data from Storage when sequential reads are detected.
+     */
+    @Test
+    public void testStorageReadPrefetch() throws Exception {
+        final int blockLength = 1024;
+        final int blockCount = 16;
+        val config = ReadIndexConfig
+                .builder()
+                .with(ReadIndexConfig.MEMORY_READ_MIN_LENGTH, 0)
+                .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, blockLength)
+                .with(ReadIndexConfig.STORAGE_READ_PREFETCH_MAX_BLOCKS, 4)
+                .build();
+
+        @Cleanup
+        TestContext context = new TestContext(config, CachePolicy.INFINITE);
+
+        // Create the segment and write some data to it in Storage.
+        val segmentId = createSegment(0, context);
+        val metadata = context.metadata.getStreamSegmentMetadata(segmentId);
+        context.storage.create(metadata.getName(), TIMEOUT).join();
+        val segmentData = new ByteArraySegment(new byte[blockLength * blockCount]);
+        new Random(0).nextBytes(segmentData.array());
+        context.storage.openWrite(metadata.getName())
+                .thenCompose(handle -> context.storage.write(handle, 0, segmentData.getReader(), segmentData.getLength(), TIMEOUT))
+                .join();
+        metadata.setLength(segmentData.getLength());
+        metadata.setStorageLength(segmentData.getLength());
+
+        // Read the first 3 blocks sequentially. This should cause the following blocks to be read ahead.
+        for (int i = 0; i < 3; i++) {
+            byte[] readData = new byte[blockLength];
+            @Cleanup
+            val readResult = context.readIndex.read(segmentId, (long) i * blockLength, blockLength, TIMEOUT);
+            readResult.readRemaining(readData, TIMEOUT);
+            Assert.assertArrayEquals("Unexpected data read at block " + i, segmentData.slice(i * blockLength, blockLength).getCopy(), readData);
+        }
+
+        val summary = context.readIndex.getIndex(segmentId).getSummary();
+        Assert.assertEquals("Unexpected number of prefetched blocks.", 3, summary.getPrefetchCount());
+
+        // Wait for the prefetched blocks (up to and including block 4) to be inserted into the cache.
+        TestUtils.await(() -> context.cacheStorage.getState().getStoredBytes() >= 5L * blockLength, 10, TIMEOUT.toMillis());
+
+        // Read blocks 3 and 4. These should now be served from the cache.
+        for (int i = 3; i < 5; i++) {
+            @Cleanup
+            val readResult = context.readIndex.read(segmentId, (long) i * blockLength, blockLength, TIMEOUT);
+            val entry = readResult.next();
+            Assert.assertEquals("Expected block " + i + " to be read from the cache.", ReadResultEntryType.Cache, entry.getType());
+            Assert.assertArrayEquals("Unexpected data read at block " + i, segmentData.slice(i * blockLength, blockLength).getCopy(),
+                    entry.getContent().join().getCopy());
+        }
+
+        AssertExtensions.assertGreaterThan("Expected some prefetched blocks to be read.", 0, (long) (summary.getPrefetchHitRatio() * 100));
+    }
+
     /**
      * Tests a scenario where two concurrent Storage reads for the same offset execute, and the second ends up overwriting
      * the first one.
@@ -1549,6 +1608,75 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the ability to demote evicted entries into a spill {@link CacheStorage} and to serve (and promote) them
+     * from there without reading from Storage.
+     */
+    @Test
+    public void testCacheEvictionWithSpill() throws Exception {
+        final int appendSize = 100;
+        final int appendsPerSegment = 10;
+        final int totalSize = SEGMENT_COUNT * appendsPerSegment * appendSize;
+
+        // Everything we add exceeds the eviction threshold, but not the critical threshold (so we don't enter
+        // essential-only mode and the spilled entries can be promoted back).
+        CachePolicy cachePolicy = new CachePolicy(2 * totalSize, 0.25, 1.0, Duration.ofHours(1), Duration.ofHours(1));
+        @Cleanup("delete")
+        File spillFile = File.createTempFile("pravega-", "-readindexspill");
+        val spillStorage = new FileCacheStorage(spillFile.toPath(), 16 * 1024 * 1024);
+        @Cleanup
+        TestContext context = new TestContext(DEFAULT_CONFIG, cachePolicy, spillStorage);
+        context.cacheStorage.usedBytesSameAsStoredBytes = true;
+        context.cacheStorage.disableAppends = true;
+        val storageReadCount = new AtomicInteger();
+        context.storage.setReadInterceptor((segment, wrappedStorage) -> storageReadCount.incrementAndGet());
+        val rnd = new Random(0);
+
+        // Add data to the ReadIndex and mark it as persisted in Storage (otherwise it can't be evicted).
+        ArrayList<Long> segmentIds = createSegments(context);
+        createSegmentsInStorage(context);
+        val segmentContents = new HashMap<Long, ByteArrayOutputStream>();
+        for (long segmentId : segmentIds) {
+            UpdateableSegmentMetadata sm = context.metadata.getStreamSegmentMetadata(segmentId);
+            val contents = new ByteArrayOutputStream();
+            for (int i = 0; i < appendsPerSegment; i++) {
+                byte[] data = new byte[appendSize];
+                rnd.nextBytes(data);
+                long offset = sm.getLength();
+                sm.setLength(offset + data.length);
+                context.readIndex.append(segmentId, offset, new ByteArraySegment(data));
+                contents.write(data);
+            }
+
+            sm.setStorageLength(sm.getLength());
+            segmentContents.put(segmentId, contents);
+        }
+
+        // Evict everything. The data should end up in the spill storage.
+        context.cacheManager.applyCachePolicy();
+        Assert.assertEquals("Expected everything to be evicted from the main cache.", 0, context.cacheStorage.getState().getStoredBytes());
+        Assert.assertEquals("Expected everything to be demoted to the spill cache.", totalSize, spillStorage.getState().getStoredBytes());
+
+        // Read everything back. This should be served from the spill cache and promoted back into the main cache.
+        for (long segmentId : segmentIds) {
+            byte[] expected = segmentContents.get(segmentId).toByteArray();
+            @Cleanup
+            ReadResult result = context.readIndex.read(segmentId, 0, expected.length, TIMEOUT);
+            val actual = new ByteArrayOutputStream();
+            while (result.hasNext()) {
+                ReadResultEntry entry = result.next();
+                Assert.assertEquals("Unexpected ReadResultEntry type for spilled data.", ReadResultEntryType.Cache, entry.getType());
+                entry.getContent().join().copyTo(actual);
+            }
+
+            Assert.assertArrayEquals("Unexpected data read for segment " + segmentId, expected, actual.toByteArray());
+        }
+
+        Assert.assertEquals("Not expecting any Storage reads.", 0, storageReadCount.get());
+        Assert.assertEquals("Expected everything to be promoted out of the spill cache.", 0, spillStorage.getState().getStoredBytes());
+        Assert.assertEquals("Expected everything to be promoted into the main cache.", totalSize, context.cacheStorage.getState().getStoredBytes());
+    }
+
     /**
      * Tests the {@link ContainerReadIndex#trimCache()} method.
      */
@@ -2108,7 +2236,7 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
             spiedIndex.completeMerge(targetSegmentId, sourceSegmentId);
 
             return arg2.callRealMethod();
-        }).when(spiedIndices.get(sourceSegmentId)).getSingleReadResultEntry(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyBoolean());
+        }).when(spiedIndices.get(sourceSegmentId)).getSingleReadResultEntry(Mockito.anyLong(), Mockito.anyInt(), Mockito.any(CacheReadMode.class));
 
         // Setup a Read Result, verify that it is indeed returning a RedirectedReadResultEntry, and immediately close it.
         // Then verify that the entry itself has been cancelled.
@@ -2766,11 +2894,19 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         }
 
         TestContext(ReadIndexConfig readIndexConfig, CachePolicy cachePolicy, int actualCacheSize) {
+            this(readIndexConfig, cachePolicy, actualCacheSize, null);
+        }
+
+        TestContext(ReadIndexConfig readIndexConfig, CachePolicy cachePolicy, CacheStorage spillStorage) {
+            this(readIndexConfig, cachePolicy, Integer.MAX_VALUE, spillStorage);
+        }
+
+        TestContext(ReadIndexConfig readIndexConfig, CachePolicy cachePolicy, int actualCacheSize, CacheStorage spillStorage) {
             this.cacheStorage = new TestCacheStorage(Math.min(Integer.MAX_VALUE, actualCacheSize));
             this.metadata = new MetadataBuilder(CONTAINER_ID).build();
             this.storage = new TestStorage(new InMemoryStorage(), executorService());
             this.storage.initialize(1);
-            this.cacheManager = new TestCacheManager(cachePolicy, this.cacheStorage, executorService());
+            this.cacheManager = new TestCacheManager(cachePolicy, this.cacheStorage, spillStorage, executorService());
             this.readIndex = new ContainerReadIndex(readIndexConfig, this.metadata, this.storage, this.cacheManager, executorService());
             this.maxExpectedStorageReadLength = calculateMaxStorageReadLength();
         }
@@ -157,4 +157,33 @@ public class ReadIndexSummaryTests {
         currentStatus = s.toCacheStatus();
         Assert.assertTrue("Expected cache to be empty after removing all items.", currentStatus.isEmpty());
     }
+
+    /**
+     * Tests the {@link ReadIndexSummary#touchOne(int, int)} method, which moves an element to an explicit generation.
+     */
+    @Test
+    public void testTouchOneExplicitGeneration() {
+        ReadIndexSummary s = new ReadIndexSummary();
+        s.setCurrentGeneration(10);
+        Assert.assertEquals("Unexpected current generation.", 10, s.getCurrentGeneration());
+        s.addOne(2);
+        s.addOne(2);
+
+        // Moving to the same generation should have no effect.
+        Assert.assertEquals("Unexpected return value from touchOne().", 2, s.touchOne(2, 2));
+        Assert.assertEquals("Unexpected size.", 2, s.size());
+
+        // Move one element to a generation that is neither the oldest nor the current one.
+        Assert.assertEquals("Unexpected return value from touchOne().", 5, s.touchOne(2, 5));
+        CacheManager.CacheStatus currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation.", 2, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Unexpected newest generation.", 5, currentStatus.getNewestGeneration());
+
+        // Move the other one as well.
+        s.touchOne(2, 5);
+        currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation.", 5, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Unexpected newest generation.", 5, currentStatus.getNewestGeneration());
+        Assert.assertEquals("Unexpected size.", 2, s.size());
+    }
 }
@@ -0,0 +1,134 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.reading;
+
+import java.util.Arrays;
+import java.util.Collections;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link StorageReadPrefetcher} class.
+ */
+public class StorageReadPrefetcherTests {
+    private static final int BLOCK_LENGTH = 100;
+    private static final int MAX_BLOCKS = 4;
+    private static final long STORAGE_LENGTH = 100 * BLOCK_LENGTH;
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(10);
+
+    /**
+     * Tests the growth of the read-ahead window as sequential reads are made.
+     */
+    @Test
+    public void testSequentialReads() {
+        val summary = new ReadIndexSummary();
+        val p = new StorageReadPrefetcher(BLOCK_LENGTH, MAX_BLOCKS, summary);
+
+        // The first read cannot be determined to be sequential.
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(0, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(0, p.getWindowBlocks());
+
+        // Each subsequent sequential read doubles the window, up to the max.
+        Assert.assertEquals(Collections.singletonList(2L * BLOCK_LENGTH), p.recordRead(BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(2, p.getWindowBlocks());
+        Assert.assertEquals(Arrays.asList(3L * BLOCK_LENGTH, 4L * BLOCK_LENGTH), p.recordRead(2 * BLOCK_LENGTH, true, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(4, p.getWindowBlocks());
+        Assert.assertEquals(Arrays.asList(5L * BLOCK_LENGTH, 6L * BLOCK_LENGTH, 7L * BLOCK_LENGTH), p.recordRead(3 * BLOCK_LENGTH, true, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(MAX_BLOCKS, p.getWindowBlocks());
+
+        // Reads within the same block do not prefetch anything new.
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(3 * BLOCK_LENGTH + 10, true, 1.0, STORAGE_LENGTH));
+
+        Assert.assertEquals("Unexpected prefetch count.", 6, summary.getPrefetchCount());
+        Assert.assertEquals("Unexpected prefetch hit ratio.", 2.0 / 6, summary.getPrefetchHitRatio(), 0.0001);
+    }
+
+    /**
+     * Tests the fact that the read-ahead window only grows when the reader advances into a new block.
+     */
+    @Test
+    public void testReadsWithinBlock() {
+        val p = new StorageReadPrefetcher(BLOCK_LENGTH, MAX_BLOCKS, new ReadIndexSummary());
+        p.recordRead(0, false, 1.0, STORAGE_LENGTH);
+        Assert.assertEquals(Collections.singletonList(2L * BLOCK_LENGTH), p.recordRead(BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(2, p.getWindowBlocks());
+
+        // Repeated reads within the same block do not grow the window, even if they prefetch something.
+        Assert.assertEquals(Collections.singletonList(3L * BLOCK_LENGTH), p.recordRead(BLOCK_LENGTH + 10, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(2, p.getWindowBlocks());
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(BLOCK_LENGTH + 20, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(2, p.getWindowBlocks());
+
+        // Moving into the next block does.
+        Assert.assertEquals(Collections.singletonList(4L * BLOCK_LENGTH), p.recordRead(2 * BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(4, p.getWindowBlocks());
+    }
+
+    /**
+     * Tests the fact that a non-sequential read resets the read-ahead window.
+     */
+    @Test
+    public void testRandomReads() {
+        val summary = new ReadIndexSummary();
+        val p = new StorageReadPrefetcher(BLOCK_LENGTH, MAX_BLOCKS, summary);
+        p.recordRead(0, false, 1.0, STORAGE_LENGTH);
+        p.recordRead(BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH);
+        p.recordRead(2 * BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH);
+        Assert.assertEquals(4, p.getWindowBlocks());
+
+        // Jump forward.
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(50 * BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(0, p.getWindowBlocks());
+
+        // Jump backward.
+        Assert.assertEquals(Collections.singletonList(52L * BLOCK_LENGTH), p.recordRead(51 * BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(10 * BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(0, p.getWindowBlocks());
+
+        // None of the prefetched blocks were read.
+        Assert.assertEquals("Unexpected prefetch hit ratio.", 0, summary.getPrefetchHitRatio(), 0);
+    }
+
+    /**
+     * Tests the fact that the read-ahead window is scaled by the cache insertion capacity and capped by the Storage length.
+     */
+    @Test
+    public void testLimits() {
+        val p = new StorageReadPrefetcher(BLOCK_LENGTH, MAX_BLOCKS, new ReadIndexSummary());
+        p.recordRead(0, false, 1.0, STORAGE_LENGTH);
+
+        // No capacity: nothing to prefetch.
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(BLOCK_LENGTH, false, 0.0, STORAGE_LENGTH));
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(2 * BLOCK_LENGTH, false, 0.0, STORAGE_LENGTH));
+        Assert.assertEquals(1, p.getWindowBlocks());
+
+        // Full capacity: the whole window is used.
+        Assert.assertEquals(Collections.singletonList(4L * BLOCK_LENGTH), p.recordRead(3 * BLOCK_LENGTH, false, 1.0, STORAGE_LENGTH));
+        Assert.assertEquals(2, p.getWindowBlocks());
+
+        // Partial capacity: only part of the window is used.
+        Assert.assertEquals(Collections.singletonList(5L * BLOCK_LENGTH), p.recordRead(4 * BLOCK_LENGTH, false, 0.5, STORAGE_LENGTH));
+        Assert.assertEquals(4, p.getWindowBlocks());
+
+        // Storage length: nothing beyond it may be prefetched.
+        Assert.assertEquals(Collections.singletonList(6L * BLOCK_LENGTH), p.recordRead(5 * BLOCK_LENGTH, false, 1.0, 6L * BLOCK_LENGTH + 1));
+        Assert.assertEquals(Collections.emptyList(), p.recordRead(6 * BLOCK_LENGTH, false, 1.0, 6L * BLOCK_LENGTH + 1));
+    }
+}
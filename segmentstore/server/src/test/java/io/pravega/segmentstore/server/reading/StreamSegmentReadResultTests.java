@@ -20,7 +20,6 @@ import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
 import io.pravega.test.common.AssertExtensions;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import lombok.Cleanup;
@@ -41,13 +40,13 @@ public class StreamSegmentReadResultTests {
     public Timeout globalTimeout = Timeout.seconds(10);
 
     /**
-     * Tests the ability to properly set Copy-on-Read.
+     * Tests the ability to properly set Copy-on-Read and Retain-on-Read.
      */
     @Test
     public void testCopyOnRead() {
-        AtomicBoolean expectedMakeCopy = new AtomicBoolean(true);
-        StreamSegmentReadResult.NextEntrySupplier nes = (offset, length, makeCopy) -> {
-            Assert.assertEquals(expectedMakeCopy.get(), makeCopy);
+        AtomicReference<CacheReadMode> expectedReadMode = new AtomicReference<>(CacheReadMode.Copy);
+        StreamSegmentReadResult.NextEntrySupplier nes = (offset, length, readMode) -> {
+            Assert.assertEquals(expectedReadMode.get(), readMode);
             return TestReadResultEntry.endOfSegment(offset, length);
         };
         @Cleanup
@@ -57,8 +56,16 @@ public class StreamSegmentReadResultTests {
         @Cleanup
         StreamSegmentReadResult r2 = new StreamSegmentReadResult(START_OFFSET, MAX_RESULT_LENGTH, nes, "");
         r2.setCopyOnRead(false);
-        expectedMakeCopy.set(false);
+        expectedReadMode.set(CacheReadMode.Direct);
         r2.next();
+
+        // Retain-on-Read takes precedence over Copy-on-Read.
+        @Cleanup
+        StreamSegmentReadResult r3 = new StreamSegmentReadResult(START_OFFSET, MAX_RESULT_LENGTH, nes, "");
+        r3.setRetainOnRead(true);
+        Assert.assertTrue(r3.isCopyOnRead());
+        expectedReadMode.set(CacheReadMode.Retain);
+        r3.next();
     }
 
     /**
@@ -0,0 +1,88 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.test.common.AssertExtensions;
+import java.util.HashMap;
+import java.util.Random;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link BackpointerMap} class.
+ */
+public class BackpointerMapTests {
+    private static final int OFFSET_COUNT = 10000;
+    private static final int OPERATION_COUNT = 100000;
+
+    /**
+     * Tests {@link BackpointerMap#put} and {@link BackpointerMap#getOrDefault} against a {@link HashMap}.
+     */
+    @Test
+    public void testPutGet() {
+        val rnd = new Random(0);
+        val expected = new HashMap<Long, Long>();
+        val map = new BackpointerMap();
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            long source = rnd.nextInt(OFFSET_COUNT) * 7L;
+            long target = rnd.nextInt(Integer.MAX_VALUE);
+            map.put(source, target);
+            expected.put(source, target);
+            Assert.assertEquals("Unexpected size.", expected.size(), map.size());
+        }
+
+        checkContents(expected, map);
+        AssertExtensions.assertThrows("put() accepted a negative source offset.",
+                () -> map.put(-1, 0),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests {@link BackpointerMap#removeSourcesBefore}.
+     */
+    @Test
+    public void testRemoveSourcesBefore() {
+        val expected = new HashMap<Long, Long>();
+        val map = new BackpointerMap();
+        for (long source = 0; source < OFFSET_COUNT; source++) {
+            map.put(source, source + 1);
+            expected.put(source, source + 1);
+        }
+
+        long allocatedBytes = map.getAllocatedBytes();
+        for (long offset = 0; offset <= OFFSET_COUNT; offset += OFFSET_COUNT / 4) {
+            final long removeBefore = offset;
+            map.removeSourcesBefore(removeBefore);
+            expected.keySet().removeIf(source -> source < removeBefore);
+            checkContents(expected, map);
+            AssertExtensions.assertLessThanOrEqual("Expected backing array not to grow.", allocatedBytes, map.getAllocatedBytes());
+            allocatedBytes = map.getAllocatedBytes();
+        }
+
+        Assert.assertEquals(0, map.size());
+        for (long source = 0; source < OFFSET_COUNT; source++) {
+            Assert.assertEquals(-1L, map.getOrDefault(source, -1L));
+        }
+    }
+
+    private void checkContents(HashMap<Long, Long> expected, BackpointerMap map) {
+        Assert.assertEquals("Unexpected size.", expected.size(), map.size());
+        for (val e : expected.entrySet()) {
+            Assert.assertEquals("Unexpected value for " + e.getKey(), (long) e.getValue(), map.getOrDefault(e.getKey(), -1L));
+        }
+    }
+}
@@ -338,6 +338,71 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         checkKeyOffsets(hashes, keysWithOffsets, result2);
     }
 
+    /**
+     * Tests the {@link ContainerKeyIndex#getBucketOffsets} method for a Segment that has a {@link KeyHashFilter}.
+     */
+    @Test
+    public void testGetBucketOffsetsWithKeyHashFilter() {
+        final long filterSizeBits = 64 * 1024;
+        @Cleanup
+        val context = new TestContext();
+        context.segment.updateAttributes(Collections.singletonMap(TableAttributes.BLOOM_FILTER_SIZE, filterSizeBits));
+        val iw = new IndexWriter(HASHER, executorService());
+
+        // Generate keys and index them by Hashes and assign offsets. Only half the keys exist; the others do not.
+        val keys = generateUnversionedKeys(BATCH_SIZE, context);
+        val offset = new AtomicLong();
+        val hashes = new ArrayList<UUID>();
+        val keysWithOffsets = new HashMap<UUID, KeyWithOffset>();
+        for (val k : keys) {
+            val hash = HASHER.hash(k.getKey());
+            hashes.add(hash);
+            boolean exists = hashes.size() % 2 == 0;
+            keysWithOffsets.put(hash, exists ? new KeyWithOffset(k.getKey(), offset.getAndAdd(k.getKey().getLength())) : null);
+        }
+
+        // Update the keys in the segment (via their buckets), along with the filter.
+        val filter = context.index.getKeyHashFilter(context.segment, TIMEOUT).join();
+        Assert.assertNotNull("Expected a KeyHashFilter to be loaded.", filter);
+        Assert.assertSame("Expected the same KeyHashFilter instance to be returned.", filter, context.index.getKeyHashFilter(context.segment, TIMEOUT).join());
+        val buckets = iw.locateBuckets(context.segment, keysWithOffsets.keySet(), context.timer).join();
+        Collection<BucketUpdate> bucketUpdates = buckets.entrySet().stream()
+                .map(e -> {
+                    val builder = BucketUpdate.forBucket(e.getValue());
+                    val ko = keysWithOffsets.get(e.getKey());
+                    if (ko != null) {
+                        builder.withKeyUpdate(new BucketUpdate.KeyUpdate(ko.key, ko.offset, ko.offset, false));
+                    }
+
+                    return builder.build();
+                })
+                .collect(Collectors.toList());
+        iw.updateBuckets(context.segment, bucketUpdates, 0L, 1L, 0, filter, TIMEOUT).join();
+        Assert.assertEquals("Unexpected KeyHashFilter header.", 1L,
+                (long) context.segment.getAttributes(Collections.singleton(KeyHashFilter.HEADER_ID), false, TIMEOUT).join().get(KeyHashFilter.HEADER_ID));
+
+        // No false negatives, and at least some of the inexistent keys must have been excluded by the filter.
+        val excluded = keysWithOffsets.entrySet().stream().filter(e -> !filter.mightContain(e.getKey())).collect(Collectors.toList());
+        Assert.assertTrue("Expected at least one Key Hash to be excluded.", excluded.size() > 0);
+        excluded.forEach(e -> Assert.assertNull("Filter excluded an indexed Key Hash.", e.getValue()));
+
+        val result1 = context.index.getBucketOffsets(context.segment, hashes, context.timer).join();
+        checkKeyOffsets(hashes, keysWithOffsets, result1);
+
+        // Reload the filter from the Segment (via a new index) and verify again.
+        @Cleanup
+        val index2 = context.createIndex(context.defaultConfig, executorService());
+        val result2 = index2.getBucketOffsets(context.segment, hashes, context.timer).join();
+        checkKeyOffsets(hashes, keysWithOffsets, result2);
+        val filter2 = index2.getKeyHashFilter(context.segment, TIMEOUT).join();
+        Assert.assertNotNull("Expected a KeyHashFilter to be reloaded.", filter2);
+        keysWithOffsets.forEach((hash, ko) -> Assert.assertEquals("Unexpected reloaded filter result.", filter.mightContain(hash), filter2.mightContain(hash)));
+
+        // Evicting the segment should discard the filter.
+        index2.notifyIndexOffsetChanged(context.segment.getSegmentId(), -1L, 0);
+        Assert.assertFalse("Expected the KeyHashFilter to be closed.", filter2.isValid());
+    }
+
     /**
      * Tests the {@link ContainerKeyIndex#getBucketOffsetDirect} method.
      */
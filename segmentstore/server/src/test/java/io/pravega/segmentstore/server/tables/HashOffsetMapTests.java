@@ -0,0 +1,125 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.UUID;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link HashOffsetMap} class.
+ */
+public class HashOffsetMapTests {
+    private static final int KEY_COUNT = 10000;
+    private static final int OPERATION_COUNT = 100000;
+
+    /**
+     * Tests {@link HashOffsetMap#put}, {@link HashOffsetMap#get} and {@link HashOffsetMap#remove} against a {@link HashMap}.
+     */
+    @Test
+    public void testOperations() {
+        val rnd = new Random(0);
+        val keys = new ArrayList<UUID>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys.add(new UUID(rnd.nextLong(), rnd.nextLong()));
+        }
+
+        // Colliding halves must still be distinct keys.
+        keys.add(new UUID(1, 2));
+        keys.add(new UUID(2, 1));
+
+        val expected = new HashMap<UUID, CacheBucketOffset>();
+        val map = new HashOffsetMap();
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            val key = keys.get(rnd.nextInt(keys.size()));
+            if (rnd.nextInt(3) == 0) {
+                val existing = expected.get(key);
+                if (existing != null) {
+                    Assert.assertFalse("Unexpected remove() result for wrong offset.",
+                            map.remove(key, new CacheBucketOffset(existing.getSegmentOffset() + 1, existing.isRemoval())));
+                    Assert.assertTrue("Unexpected remove() result.", map.remove(key, existing));
+                    expected.remove(key);
+                } else {
+                    Assert.assertFalse("Unexpected remove() result for missing key.", map.remove(key, new CacheBucketOffset(0, false)));
+                }
+            } else {
+                val offset = new CacheBucketOffset(rnd.nextInt(Integer.MAX_VALUE), rnd.nextBoolean());
+                map.put(key, offset);
+                expected.put(key, offset);
+            }
+
+            Assert.assertEquals("Unexpected size.", expected.size(), map.size());
+        }
+
+        checkContents(expected, map);
+
+        // Remove everything and shrink.
+        for (val e : expected.entrySet()) {
+            Assert.assertTrue(map.remove(e.getKey(), e.getValue()));
+        }
+        expected.clear();
+        val allocatedBytes = map.getAllocatedBytes();
+        map.trimToSize();
+        AssertExtensions.assertLessThan("Expected backing array to shrink.", allocatedBytes, map.getAllocatedBytes());
+        checkContents(expected, map);
+        for (val key : keys) {
+            Assert.assertNull(map.get(key));
+        }
+    }
+
+    /**
+     * Tests {@link HashOffsetMap#trimToSize} with remaining entries.
+     */
+    @Test
+    public void testTrimToSize() {
+        val expected = new HashMap<UUID, CacheBucketOffset>();
+        val map = new HashOffsetMap();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            val key = new UUID(i, i * 31L);
+            val offset = new CacheBucketOffset(i, i % 2 == 0);
+            map.put(key, offset);
+            expected.put(key, offset);
+        }
+
+        for (int i = 0; i < KEY_COUNT - 10; i++) {
+            val key = new UUID(i, i * 31L);
+            Assert.assertTrue(map.remove(key, expected.remove(key)));
+        }
+
+        val allocatedBytes = map.getAllocatedBytes();
+        map.trimToSize();
+        AssertExtensions.assertLessThan("Expected backing array to shrink.", allocatedBytes, map.getAllocatedBytes());
+        checkContents(expected, map);
+    }
+
+    private void checkContents(HashMap<UUID, CacheBucketOffset> expected, HashOffsetMap map) {
+        Assert.assertEquals("Unexpected size.", expected.size(), map.size());
+        Assert.assertEquals("Unexpected removal count.",
+                expected.values().stream().filter(CacheBucketOffset::isRemoval).count(), map.getRemovalCount());
+        for (val e : expected.entrySet()) {
+            Assert.assertEquals("Unexpected value for " + e.getKey(), e.getValue(), map.get(e.getKey()));
+        }
+
+        val actual = new HashMap<UUID, CacheBucketOffset>();
+        map.forEach(actual::put);
+        Assert.assertEquals("Unexpected forEach() result.", expected, actual);
+    }
+}
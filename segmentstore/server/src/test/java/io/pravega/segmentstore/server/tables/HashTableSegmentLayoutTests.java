@@ -64,7 +64,9 @@ public class HashTableSegmentLayoutTests extends TableSegmentLayoutTestBase {
 
     @Override
     protected Map<AttributeId, Long> getExpectedNewSegmentAttributes(TableContext context) {
-        return context.ext.getConfig().getDefaultCompactionAttributes();
+        val result = new HashMap<>(context.ext.getConfig().getDefaultCompactionAttributes());
+        result.put(TableAttributes.KEY_HASH_VERSION, context.hasher.getHashVersion());
+        return result;
     }
 
     @Override
@@ -152,6 +154,30 @@ public class HashTableSegmentLayoutTests extends TableSegmentLayoutTestBase {
         testBatchUpdates(KeyHashers.COLLISION_HASHER, this::toConditionalTableEntry, this::toConditionalKey);
     }
 
+    /**
+     * Tests the ability to perform conditional updates and removals on Table Segments that use {@link KeyHasher#murmur3()}.
+     */
+    @Test
+    public void testBatchUpdatesMurmur3() {
+        testBatchUpdates(KeyHasher.versioned(KeyHasher.HASH_VERSION_MURMUR3), this::toConditionalTableEntry, this::toConditionalKey);
+    }
+
+    /**
+     * Tests that new Table Segments record the {@link TableAttributes#KEY_HASH_VERSION} they were created with and that
+     * the appropriate {@link KeyHasher} is selected for them.
+     */
+    @Test
+    public void testKeyHashVersion() {
+        @Cleanup
+        val context = new TableContext(KeyHasher.versioned(KeyHasher.HASH_VERSION_MURMUR3), executorService());
+        createSegment(context, SEGMENT_NAME);
+        val segmentInfo = context.segment().getInfo();
+        Assert.assertEquals(KeyHasher.HASH_VERSION_MURMUR3, (long) segmentInfo.getAttributes().get(TableAttributes.KEY_HASH_VERSION));
+
+        val key = createRandomKey(context);
+        Assert.assertEquals(KeyHasher.murmur3().hash(key), context.hasher.forSegment(segmentInfo).hash(key));
+    }
+
     /**
      * Tests the ability to update and access entries when compaction occurs using a {@link KeyHasher} that is very prone
      * to collisions.
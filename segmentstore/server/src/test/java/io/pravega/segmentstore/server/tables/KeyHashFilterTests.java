@@ -0,0 +1,237 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
+import io.pravega.segmentstore.contracts.Attributes;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.server.SegmentMock;
+import io.pravega.segmentstore.storage.cache.CacheFullException;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for the {@link KeyHashFilter} class.
+ */
+public class KeyHashFilterTests extends ThreadPooledTestSuite {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final long SIZE_BITS = 16 * 1024;
+    private static final int KEY_COUNT = 1000;
+    private static final KeyHasher HASHER = KeyHashers.DEFAULT_HASHER;
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 2;
+    }
+
+    /**
+     * Tests {@link KeyHashFilter#isValidSize}.
+     */
+    @Test
+    public void testIsValidSize() {
+        Assert.assertTrue(KeyHashFilter.isValidSize(0));
+        Assert.assertTrue(KeyHashFilter.isValidSize(Long.SIZE));
+        Assert.assertTrue(KeyHashFilter.isValidSize(KeyHashFilter.MAX_SIZE_BITS));
+        Assert.assertFalse(KeyHashFilter.isValidSize(-Long.SIZE));
+        Assert.assertFalse(KeyHashFilter.isValidSize(Long.SIZE + 1));
+        Assert.assertFalse(KeyHashFilter.isValidSize(KeyHashFilter.MAX_SIZE_BITS + Long.SIZE));
+    }
+
+    /**
+     * Tests {@link KeyHashFilter#include} and {@link KeyHashFilter#mightContain}.
+     */
+    @Test
+    public void testIncludeMightContain() {
+        @Cleanup
+        val cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+        @Cleanup
+        val filter = new KeyHashFilter(1L, new ByteArraySegment(new byte[(int) SIZE_BITS / Byte.SIZE]), cacheStorage);
+        val included = generateHashes(KEY_COUNT, 0);
+        val excluded = generateHashes(KEY_COUNT, 1);
+        excluded.forEach(h -> Assert.assertFalse("Empty filter should not contain anything.", filter.mightContain(h)));
+
+        filter.include(included);
+        included.forEach(h -> Assert.assertTrue("False negative.", filter.mightContain(h)));
+
+        // With 1000 keys in 16Kbits, the expected false positive rate is well below 10%.
+        val falsePositives = excluded.stream().filter(filter::mightContain).count();
+        AssertExtensions.assertLessThan("Unexpected false positive count.", KEY_COUNT / 10, falsePositives);
+
+        // Pending updates: one per touched word, plus the header.
+        val updates = filter.getPendingUpdates(123L);
+        AssertExtensions.assertGreaterThan("Expected word updates.", 1, updates.size());
+        Assert.assertEquals("Unexpected header.", KeyHashFilter.HEADER_ID, updates.get(updates.size() - 1).getAttributeId());
+        Assert.assertEquals("Unexpected header value.", 123L, updates.get(updates.size() - 1).getValue());
+        updates.forEach(u -> Assert.assertNotEquals("Word must never be a deletion.", Attributes.NULL_ATTRIBUTE_VALUE, u.getValue()));
+
+        // Including existing hashes (or persisting) should not generate any word updates.
+        filter.markPersisted();
+        filter.include(included);
+        Assert.assertEquals("Not expecting any updates.", 0, filter.getPendingUpdates(-1L).size());
+    }
+
+    /**
+     * Tests {@link KeyHashFilter#load} along with persisting the filter's updates.
+     */
+    @Test
+    public void testLoad() {
+        @Cleanup
+        val cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+        val segment = new SegmentMock(executorService());
+        segment.updateAttributes(TableAttributes.DEFAULT_VALUES);
+
+        // No filter configured.
+        Assert.assertNull("Not expecting a filter.", KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT).join());
+
+        // Empty filter.
+        segment.updateAttributes(Collections.singletonMap(TableAttributes.BLOOM_FILTER_SIZE, SIZE_BITS));
+        @Cleanup
+        val filter1 = KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT).join();
+        Assert.assertNotNull("Expected a filter.", filter1);
+        Assert.assertEquals(SIZE_BITS / Long.SIZE, filter1.getWordCount());
+
+        // Include some hashes and persist them, along with the INDEX_OFFSET.
+        val hashes = generateHashes(KEY_COUNT, 0);
+        filter1.include(hashes);
+        val updates = AttributeUpdateCollection.from(filter1.getPendingUpdates(100L));
+        segment.updateAttributes(updates, TIMEOUT).join();
+        segment.updateAttributes(Collections.singletonMap(TableAttributes.INDEX_OFFSET, 100L));
+        filter1.markPersisted();
+
+        @Cleanup
+        val filter2 = KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT).join();
+        Assert.assertNotNull("Expected a filter.", filter2);
+        hashes.forEach(h -> Assert.assertTrue("False negative after reload.", filter2.mightContain(h)));
+        generateHashes(KEY_COUNT, 1).forEach(h -> Assert.assertEquals("Unexpected result after reload.", filter1.mightContain(h), filter2.mightContain(h)));
+
+        // INDEX_OFFSET advanced without the filter being updated.
+        segment.updateAttributes(Collections.singletonMap(TableAttributes.INDEX_OFFSET, 200L));
+        Assert.assertNull("Not expecting a stale filter.", KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT).join());
+    }
+
+    /**
+     * Tests {@link KeyHashFilter#load} when the index (and the filter) are updated while the filter is being loaded.
+     */
+    @Test
+    public void testLoadConcurrentIndexUpdate() {
+        @Cleanup
+        val cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+        val segment = Mockito.spy(new SegmentMock(executorService()));
+        segment.updateAttributes(TableAttributes.DEFAULT_VALUES);
+        segment.updateAttributes(Collections.singletonMap(TableAttributes.BLOOM_FILTER_SIZE, SIZE_BITS));
+        @Cleanup
+        val writerFilter = KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT).join();
+
+        // The first time the filter is read, update it (along with the index) after the reader has taken its snapshot.
+        // The reader will find a filter older than the INDEX_OFFSET, but it should not conclude that it is stale.
+        val hashes = generateHashes(KEY_COUNT, 0);
+        val readCount = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            val result = (CompletableFuture<?>) invocation.callRealMethod();
+            if (readCount.incrementAndGet() == 1) {
+                result.join();
+                writerFilter.include(hashes);
+                segment.updateAttributes(AttributeUpdateCollection.from(writerFilter.getPendingUpdates(100L)), TIMEOUT).join();
+                segment.updateAttributes(Collections.singletonMap(TableAttributes.INDEX_OFFSET, 100L));
+                writerFilter.markPersisted();
+            }
+            return result;
+        }).when(segment).attributeIterator(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any());
+
+        @Cleanup
+        val filter = KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT).join();
+        Assert.assertEquals("Expected the load to be retried.", 2, readCount.get());
+        Assert.assertNotNull("Expected a filter.", filter);
+        hashes.forEach(h -> Assert.assertTrue("False negative after concurrent update.", filter.mightContain(h)));
+
+        // The index is updated every time the filter is read; the load should eventually give up.
+        val indexOffset = new AtomicLong(100L);
+        Mockito.doAnswer(invocation -> {
+            val result = (CompletableFuture<?>) invocation.callRealMethod();
+            result.join();
+            segment.updateAttributes(Collections.singletonMap(TableAttributes.INDEX_OFFSET, indexOffset.addAndGet(100L)));
+            return result;
+        }).when(segment).attributeIterator(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.any());
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Expected the load to fail if the index keeps changing.",
+                () -> KeyHashFilter.load(segment, cacheStorage, executorService(), TIMEOUT),
+                ex -> ex instanceof ConcurrentModificationException);
+    }
+
+    /**
+     * Tests the behavior of a {@link KeyHashFilter} after it has been closed.
+     */
+    @Test
+    public void testClose() {
+        @Cleanup
+        val cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+        val filter = new KeyHashFilter(1L, new ByteArraySegment(new byte[(int) SIZE_BITS / Byte.SIZE]), cacheStorage);
+        Assert.assertEquals("Expected the filter to be stored in the cache.", SIZE_BITS / Byte.SIZE, cacheStorage.getState().getStoredBytes());
+        filter.close();
+        Assert.assertEquals("Expected the filter to be removed from the cache.", 0, cacheStorage.getState().getStoredBytes());
+        Assert.assertFalse(filter.isValid());
+
+        val hashes = generateHashes(KEY_COUNT, 0);
+        filter.include(hashes);
+        hashes.forEach(h -> Assert.assertTrue("Closed filter must not exclude anything.", filter.mightContain(h)));
+        Assert.assertEquals("Closed filter must not generate updates.", 0, filter.getPendingUpdates(1L).size());
+    }
+
+    /**
+     * Tests the behavior of a {@link KeyHashFilter} when the cache rejects its updates.
+     */
+    @Test
+    public void testCacheFailure() {
+        @Cleanup
+        val cacheStorage = Mockito.spy(new DirectMemoryCache(Integer.MAX_VALUE));
+        @Cleanup
+        val filter = new KeyHashFilter(1L, new ByteArraySegment(new byte[(int) SIZE_BITS / Byte.SIZE]), cacheStorage);
+        Mockito.doThrow(new CacheFullException("intentional")).when(cacheStorage).replace(Mockito.anyInt(), Mockito.any());
+        val hashes = generateHashes(KEY_COUNT, 0);
+        filter.include(hashes);
+        Assert.assertFalse("Expected the filter to be invalidated.", filter.isValid());
+        hashes.forEach(h -> Assert.assertTrue("Invalid filter must not exclude anything.", filter.mightContain(h)));
+        Assert.assertEquals("Invalid filter must not generate updates.", 0, filter.getPendingUpdates(1L).size());
+    }
+
+    private List<UUID> generateHashes(int count, int seed) {
+        val rnd = new Random(seed);
+        val result = new ArrayList<UUID>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[16];
+            rnd.nextBytes(key);
+            result.add(HASHER.hash(key));
+        }
+        return result;
+    }
+}
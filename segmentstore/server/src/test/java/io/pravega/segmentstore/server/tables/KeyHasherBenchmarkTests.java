@@ -0,0 +1,99 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.Timer;
+import io.pravega.common.util.ByteArraySegment;
+import java.util.Random;
+import java.util.UUID;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Benchmark tests for {@link KeyHasher} implementations. This measures the average cost of hashing a single key, for
+ * various key sizes. Since the results may vary significantly based on the hardware used, outcomes are not comparable
+ * across environments.
+ *
+ * The first {@link #WARMUP_ITERATION_COUNT} iterations are discarded in order to allow the JIT to compile the hashing code.
+ *
+ * Ignored by default: each key size runs {@code (WARMUP_ITERATION_COUNT + ITERATION_COUNT) * HASHES_PER_ITERATION}
+ * hashes per algorithm, and the printed timings are only meaningful when run in isolation on a quiet machine.
+ */
+@Ignore
+public class KeyHasherBenchmarkTests {
+    private static final int[] KEY_SIZES = new int[]{16, 64, 256, 1024, 8192};
+    private static final int KEY_COUNT = 1000;
+    private static final int HASHES_PER_ITERATION = 1000 * 1000;
+    private static final int WARMUP_ITERATION_COUNT = 3;
+    private static final int ITERATION_COUNT = 5;
+    /**
+     * Accumulates the hashes computed by {@link #measure} so that the JIT cannot optimize away the hash computation.
+     */
+    private static volatile long sink;
+    private final Random random = new Random(0);
+
+    /**
+     * Tests {@link KeyHasher#sha256()}.
+     */
+    @Test
+    public void testSha256() {
+        test("SHA-256", KeyHasher.sha256());
+    }
+
+    /**
+     * Tests {@link KeyHasher#murmur3()}.
+     */
+    @Test
+    public void testMurmur3() {
+        test("Murmur3", KeyHasher.murmur3());
+    }
+
+    private void test(String name, KeyHasher hasher) {
+        for (int keySize : KEY_SIZES) {
+            val keys = new ByteArraySegment[KEY_COUNT];
+            for (int i = 0; i < keys.length; i++) {
+                val key = new byte[keySize];
+                this.random.nextBytes(key);
+                keys[i] = new ByteArraySegment(key);
+            }
+
+            for (int i = 0; i < WARMUP_ITERATION_COUNT; i++) {
+                measure(hasher, keys);
+            }
+
+            double totalNanosPerHash = 0;
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                totalNanosPerHash += measure(hasher, keys);
+            }
+
+            System.out.println(String.format("%s: KeySize = %d, Hash = %.1f ns/key", name, keySize, totalNanosPerHash / ITERATION_COUNT));
+        }
+    }
+
+    private double measure(KeyHasher hasher, ByteArraySegment[] keys) {
+        val timer = new Timer();
+        long result = 0;
+        for (int i = 0; i < HASHES_PER_ITERATION; i++) {
+            UUID hash = hasher.hash(keys[i % keys.length]);
+            result ^= hash.getLeastSignificantBits();
+        }
+
+        long elapsedNanos = timer.getElapsedNanos();
+        sink ^= result;
+        return (double) elapsedNanos / HASHES_PER_ITERATION;
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.SegmentProperties;
+import io.pravega.segmentstore.contracts.StreamSegmentInformation;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.test.common.AssertExtensions;
+import java.util.Collections;
+import java.util.Random;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link KeyHasher} class.
+ */
+public class KeyHasherTests {
+    private static final int KEY_COUNT = 1000;
+    private static final int MAX_KEY_LENGTH = 512;
+
+    /**
+     * Tests the {@link KeyHasher#sha256()} and {@link KeyHasher#murmur3()} hashers.
+     */
+    @Test
+    public void testHash() {
+        val sha256 = KeyHasher.sha256();
+        val murmur3 = KeyHasher.murmur3();
+        Assert.assertEquals(KeyHasher.HASH_VERSION_SHA256, (long) sha256.getHashVersion());
+        Assert.assertEquals(KeyHasher.HASH_VERSION_MURMUR3, (long) murmur3.getHashVersion());
+        Assert.assertNull(KeyHasher.custom(b -> new byte[KeyHasher.HASH_SIZE_BYTES]).getHashVersion());
+
+        val rnd = new Random(0);
+        int sameHashCount = 0;
+        for (int i = 0; i < KEY_COUNT; i++) {
+            val key = new byte[rnd.nextInt(MAX_KEY_LENGTH) + 1];
+            rnd.nextBytes(key);
+            val sha256Hash = sha256.hash(key);
+            val murmur3Hash = murmur3.hash(key);
+            Assert.assertTrue("Invalid SHA-256 hash.", KeyHasher.isValid(sha256Hash));
+            Assert.assertTrue("Invalid Murmur3 hash.", KeyHasher.isValid(murmur3Hash));
+
+            // Hashes must be deterministic and not depend on how the key is stored.
+            Assert.assertEquals(sha256Hash, KeyHasher.sha256().hash(new ByteArraySegment(key)));
+            Assert.assertEquals(murmur3Hash, KeyHasher.murmur3().hash(new ByteArraySegment(key)));
+            if (sha256Hash.equals(murmur3Hash)) {
+                sameHashCount++;
+            }
+        }
+
+        Assert.assertEquals("Not expecting SHA-256 and Murmur3 to produce the same hashes.", 0, sameHashCount);
+    }
+
+    /**
+     * Tests the {@link KeyHasher#versioned} hasher and {@link KeyHasher#forSegment}.
+     */
+    @Test
+    public void testVersioned() {
+        val key = new ByteArraySegment(new byte[]{1, 2, 3, 4, 5});
+        val sha256Hash = KeyHasher.sha256().hash(key);
+        val murmur3Hash = KeyHasher.murmur3().hash(key);
+        AssertExtensions.assertThrows(
+                "versioned() accepted an unsupported version.",
+                () -> KeyHasher.versioned(KeyHasher.HASH_VERSION_MURMUR3 + 1),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // New segments use the given version.
+        val hasher = KeyHasher.versioned(KeyHasher.HASH_VERSION_MURMUR3);
+        Assert.assertEquals(KeyHasher.HASH_VERSION_MURMUR3, (long) hasher.getHashVersion());
+        Assert.assertEquals(murmur3Hash, hasher.hash(key));
+        Assert.assertEquals(sha256Hash, KeyHasher.versioned(KeyHasher.HASH_VERSION_SHA256).hash(key));
+
+        // Existing segments use whatever they have been created with (SHA-256 if no version is recorded).
+        Assert.assertEquals(sha256Hash, hasher.forSegment(segmentInfo(null)).hash(key));
+        Assert.assertEquals(sha256Hash, hasher.forSegment(segmentInfo(KeyHasher.HASH_VERSION_SHA256)).hash(key));
+        Assert.assertEquals(murmur3Hash, hasher.forSegment(segmentInfo(KeyHasher.HASH_VERSION_MURMUR3)).hash(key));
+        AssertExtensions.assertThrows(
+                "forSegment() accepted an unsupported version.",
+                () -> hasher.forSegment(segmentInfo(KeyHasher.HASH_VERSION_MURMUR3 + 1)),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Non-versioned hashers ignore the segment's version.
+        val sha256 = KeyHasher.sha256();
+        Assert.assertSame(sha256, sha256.forSegment(segmentInfo(KeyHasher.HASH_VERSION_MURMUR3)));
+    }
+
+    private SegmentProperties segmentInfo(Long hashVersion) {
+        return StreamSegmentInformation.builder()
+                .name("s")
+                .attributes(hashVersion == null ? Collections.emptyMap() : Collections.singletonMap(TableAttributes.KEY_HASH_VERSION, hashVersion))
+                .build();
+    }
+}
@@ -40,6 +40,8 @@ public class TableExtensionConfigTests {
         Assert.assertEquals(75, defaultConfig.getDefaultMinUtilization());
         Assert.assertEquals(EntrySerializer.MAX_SERIALIZATION_LENGTH * 4 * 4, defaultConfig.getDefaultRolloverSize());
         Assert.assertEquals(EntrySerializer.MAX_BATCH_SIZE, defaultConfig.getMaxBatchSize());
+        Assert.assertEquals(KeyHasher.HASH_VERSION_SHA256, defaultConfig.getDefaultKeyHashVersion());
+        Assert.assertEquals(0, defaultConfig.getDefaultBloomFilterSize());
     }
 
     @Test
@@ -49,6 +51,14 @@ public class TableExtensionConfigTests {
         AssertExtensions.assertThrows(ConfigurationException.class, b::build); // 101 is out of the range [0, 100]
 
         b.with(TableExtensionConfig.DEFAULT_MIN_UTILIZATION, 10);
+        b.with(TableExtensionConfig.DEFAULT_KEY_HASH_VERSION, 2);
+        AssertExtensions.assertThrows(ConfigurationException.class, b::build); // 2 is not a supported version.
+
+        b.with(TableExtensionConfig.DEFAULT_KEY_HASH_VERSION, (int) KeyHasher.HASH_VERSION_MURMUR3);
+        b.with(TableExtensionConfig.DEFAULT_BLOOM_FILTER_SIZE, 100);
+        AssertExtensions.assertThrows(ConfigurationException.class, b::build); // 100 is not a multiple of 64.
+
+        b.with(TableExtensionConfig.DEFAULT_BLOOM_FILTER_SIZE, 1024);
         b.with(TableExtensionConfig.MAX_TAIL_CACHE_PREINDEX_LENGTH, 11L);
         b.with(TableExtensionConfig.MAX_TAIL_CACHE_PREINDEX_BATCH_SIZE, 111);
         b.with(TableExtensionConfig.RECOVERY_TIMEOUT, 12);
@@ -70,5 +80,7 @@ public class TableExtensionConfigTests {
         Assert.assertEquals(16, c.getDefaultRolloverSize());
         Assert.assertEquals(17, c.getMaxBatchSize());
         Assert.assertEquals(18, c.getSystemCriticalMaxUnindexedLength());
+        Assert.assertEquals(KeyHasher.HASH_VERSION_MURMUR3, c.getDefaultKeyHashVersion());
+        Assert.assertEquals(1024, c.getDefaultBloomFilterSize());
     }
 }
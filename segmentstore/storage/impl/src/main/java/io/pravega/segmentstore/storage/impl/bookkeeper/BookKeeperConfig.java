@@ -47,6 +47,7 @@ public class BookKeeperConfig {
     public static final Property<Integer> BK_READ_BATCH_SIZE = Property.named("read.batch.size", 64, "readBatchSize");
     public static final Property<Integer> MAX_OUTSTANDING_BYTES = Property.named("write.outstanding.bytes.max", 256 * 1024 * 1024, "maxOutstandingBytes");
     public static final Property<Integer> BK_LEDGER_MAX_SIZE = Property.named("ledger.size.max", 1024 * 1024 * 1024, "bkLedgerMaxSize");
+    public static final Property<Boolean> BK_LEDGER_PRECREATE_ENABLED = Property.named("ledger.precreate.enable", true);
     public static final Property<String> BK_PASSWORD = Property.named("connect.security.auth.pwd", "", "bkPass");
     public static final Property<String> BK_LEDGER_PATH = Property.named("ledger.path", "", "bkLedgerPath");
     public static final Property<Boolean> BK_TLS_ENABLED = Property.named("connect.security.tls.enable", false, "tlsEnabled");
@@ -167,6 +168,13 @@ public class BookKeeperConfig {
      */
     @Getter
     private final int bkLedgerMaxSize;
+
+    /**
+     * Whether to create the next ledger ahead of time (once the current ledger has reached half of its maximum size), so
+     * that it is readily available when a rollover is needed.
+     */
+    @Getter
+    private final boolean bkLedgerPrecreateEnabled;
     private final byte[] bkPassword;
 
     @Getter
@@ -231,6 +239,7 @@ public class BookKeeperConfig {
 
         this.maxOutstandingBytes = properties.getInt(MAX_OUTSTANDING_BYTES);
         this.bkLedgerMaxSize = properties.getInt(BK_LEDGER_MAX_SIZE);
+        this.bkLedgerPrecreateEnabled = properties.getBoolean(BK_LEDGER_PRECREATE_ENABLED);
         this.bkPassword = properties.get(BK_PASSWORD).getBytes(StandardCharsets.UTF_8);
         this.isTLSEnabled = properties.getBoolean(BK_TLS_ENABLED);
         this.tlsTrustStore = properties.get(TLS_TRUST_STORE_PATH);
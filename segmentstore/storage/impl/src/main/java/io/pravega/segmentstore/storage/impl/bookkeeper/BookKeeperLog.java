@@ -65,6 +65,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.function.Function;
 
@@ -95,6 +96,11 @@ class BookKeeperLog implements DurableDataLog {
     //region Members
 
     private static final long REPORT_INTERVAL = 1000;
+    /**
+     * Fraction of {@link BookKeeperConfig#getBkLedgerMaxSize()} at or above which the next ledger will be pre-created
+     * (if {@link BookKeeperConfig#isBkLedgerPrecreateEnabled()}).
+     */
+    private static final double LEDGER_PRECREATE_THRESHOLD_FRACTION = 0.5;
     @Getter
     private final int logId;
     @Getter(AccessLevel.PACKAGE)
@@ -114,6 +120,10 @@ class BookKeeperLog implements DurableDataLog {
     private final WriteQueue writes;
     private final SequentialAsyncProcessor writeProcessor;
     private final SequentialAsyncProcessor rolloverProcessor;
+    /**
+     * The next ledger to roll over into, if it has been created ahead of time. Only set by the Rollover Processor.
+     */
+    private final AtomicReference<WriteHandle> nextLedger;
     private final BookKeeperMetrics.BookKeeperLog metrics;
     private final ScheduledFuture<?> metricReporter;
     private final ThrottlerSourceListenerCollection queueStateChangeListeners;
@@ -138,6 +148,7 @@ class BookKeeperLog implements DurableDataLog {
         this.config = Preconditions.checkNotNull(config, "config");
         this.executorService = Preconditions.checkNotNull(executorService, "executorService");
         this.closed = new AtomicBoolean();
+        this.nextLedger = new AtomicReference<>();
         this.logNodePath = HierarchyUtils.getPath(containerId, this.config.getZkHierarchyDepth());
         this.traceObjectId = String.format("Log[%d]", containerId);
         this.writes = new WriteQueue();
@@ -189,6 +200,9 @@ class BookKeeperLog implements DurableDataLog {
             // Close the write queue and cancel the pending writes.
             this.writes.close().forEach(w -> w.fail(new ObjectClosedException(this), true));
 
+            // Delete the pre-created ledger, if any. It has not been added to the metadata so nobody else knows about it.
+            deletePrecreatedLedger(this.nextLedger.getAndSet(null));
+
             if (writeLedger != null) {
                 try {
                     Ledgers.close(writeLedger.ledger);
@@ -918,7 +932,7 @@ class BookKeeperLog implements DurableDataLog {
     /**
      * Triggers an asynchronous rollover, if the current Write Ledger has exceeded its maximum length.
      * The rollover protocol is as follows:
-     * 1. Create a new ledger.
+     * 1. Create a new ledger (or use the one that has been pre-created, if any).
      * 2. Create an in-memory copy of the metadata and add the new ledger to it.
      * 3. Update the metadata in ZooKeeper using compare-and-set.
      * 3.1 If the update fails, the newly created ledger is deleted and the operation stops.
@@ -926,6 +940,9 @@ class BookKeeperLog implements DurableDataLog {
      * 5. Close the previous ledger (and implicitly seal it).
      * 5.1 If closing fails, there is nothing we can do. We've already opened a new ledger and new writes are going to it.
      *
+     * If the current Write Ledger has not yet exceeded its maximum length, but has exceeded a fraction of it, the next
+     * ledger is created ahead of time (see {@link #precreateLedger}), so that the rollover need not wait for it.
+     *
      * NOTE: this method is not thread safe and is not meant to be executed concurrently. It should only be invoked as
      * part of the Rollover Processor.
      */
@@ -942,14 +959,24 @@ class BookKeeperLog implements DurableDataLog {
             // Nothing to do. Trigger the write processor just in case this rollover was invoked because the write
             // processor got a pointer to a LedgerHandle that was just closed by a previous run of the rollover processor.
             this.writeProcessor.runAsync();
+            if (this.config.isBkLedgerPrecreateEnabled() && l.getLength() >= this.config.getBkLedgerMaxSize() * LEDGER_PRECREATE_THRESHOLD_FRACTION) {
+                precreateLedger();
+            }
+
             LoggerHelpers.traceLeave(log, this.traceObjectId, "rollover", traceId, false);
             return;
         }
 
+        val timer = new Timer();
         try {
-            // Create new ledger.
-            WriteHandle newLedger = Ledgers.create(this.bookKeeper, this.config, this.logId);
-            log.debug("{}: Rollover: created new ledger {}.", this.traceObjectId, newLedger.getId());
+            // Create new ledger, unless we already have one.
+            WriteHandle newLedger = this.nextLedger.getAndSet(null);
+            if (newLedger == null) {
+                newLedger = Ledgers.create(this.bookKeeper, this.config, this.logId);
+                log.debug("{}: Rollover: created new ledger {}.", this.traceObjectId, newLedger.getId());
+            } else {
+                log.debug("{}: Rollover: using pre-created ledger {}.", this.traceObjectId, newLedger.getId());
+            }
 
             // Update the metadata.
             LogMetadata metadata = getLogMetadata();
@@ -972,6 +999,9 @@ class BookKeeperLog implements DurableDataLog {
                 this.logMetadata = metadata;
             }
 
+            // New writes can now go to the new ledger; this is how long they may have been stalled for.
+            this.metrics.ledgerRollover(timer.getElapsed());
+
             // Close the old ledger. This must be done outside of the lock, otherwise the pending writes (and their callbacks)
             // will be invoked within the lock, thus likely candidates for deadlocks.
             Ledgers.close(oldLedger);
@@ -985,6 +1015,62 @@ class BookKeeperLog implements DurableDataLog {
         }
     }
 
+    /**
+     * Creates the next ledger ahead of time, if not already done. Any failure is logged and ignored, in which case the
+     * next rollover will create its own ledger.
+     *
+     * NOTE: this method is not thread safe and is not meant to be executed concurrently. It should only be invoked as
+     * part of the Rollover Processor.
+     */
+    private void precreateLedger() {
+        if (this.nextLedger.get() != null) {
+            return;
+        }
+
+        try {
+            WriteHandle newLedger = Ledgers.create(this.bookKeeper, this.config, this.logId);
+            this.nextLedger.set(newLedger);
+            log.debug("{}: Pre-created ledger {}.", this.traceObjectId, newLedger.getId());
+        } catch (DurableDataLogException ex) {
+            log.warn("{}: Unable to pre-create ledger; will create one upon rollover.", this.traceObjectId, ex);
+        }
+
+        if (this.closed.get()) {
+            // We've been closed while creating the ledger.
+            deletePrecreatedLedger(this.nextLedger.getAndSet(null));
+        }
+    }
+
+    /**
+     * Gets the Id of the ledger that has been created ahead of the next rollover, if any.
+     *
+     * @return The Id of the pre-created ledger, or {@link Ledgers#NO_LEDGER_ID} if there is no such ledger.
+     */
+    @VisibleForTesting
+    long getPrecreatedLedgerId() {
+        WriteHandle ledger = this.nextLedger.get();
+        return ledger == null ? Ledgers.NO_LEDGER_ID : ledger.getId();
+    }
+
+    /**
+     * Closes and deletes a ledger that has been created ahead of time but not used.
+     *
+     * @param ledger The ledger to delete. If null, nothing will be done.
+     */
+    private void deletePrecreatedLedger(WriteHandle ledger) {
+        if (ledger == null) {
+            return;
+        }
+
+        try {
+            Ledgers.close(ledger);
+            Ledgers.delete(ledger.getId(), this.bookKeeper);
+            log.debug("{}: Deleted unused pre-created ledger {}.", this.traceObjectId, ledger.getId());
+        } catch (DurableDataLogException ex) {
+            log.warn("{}: Unable to delete unused pre-created ledger {}.", this.traceObjectId, ledger.getId(), ex);
+        }
+    }
+
     @Override
     public void overrideEpoch(long epoch) throws DurableDataLogException {
         LogMetadata metadata = this.getLogMetadata();
@@ -41,6 +41,7 @@ final class BookKeeperMetrics {
         private final OpStatsLogger writeQueueFillRate;
         private final OpStatsLogger writeLatency;
         private final OpStatsLogger totalWriteLatency;
+        private final OpStatsLogger rolloverStallLatency;
         private final Counter bkWriteBytes;
         private final String[] containerTag;
 
@@ -50,6 +51,7 @@ final class BookKeeperMetrics {
             this.writeQueueFillRate = STATS_LOGGER.createStats(MetricsNames.BK_WRITE_QUEUE_FILL_RATE, this.containerTag);
             this.writeLatency = STATS_LOGGER.createStats(MetricsNames.BK_WRITE_LATENCY, this.containerTag);
             this.totalWriteLatency = STATS_LOGGER.createStats(MetricsNames.BK_TOTAL_WRITE_LATENCY, this.containerTag);
+            this.rolloverStallLatency = STATS_LOGGER.createStats(MetricsNames.BK_LEDGER_ROLLOVER_STALL_LATENCY, this.containerTag);
             this.bkWriteBytes = STATS_LOGGER.createCounter(MetricsNames.BK_WRITE_BYTES, this.containerTag);
         }
 
@@ -59,6 +61,7 @@ final class BookKeeperMetrics {
             this.writeQueueFillRate.close();
             this.writeLatency.close();
             this.totalWriteLatency.close();
+            this.rolloverStallLatency.close();
             this.bkWriteBytes.close();
         }
 
@@ -79,5 +82,9 @@ final class BookKeeperMetrics {
             this.writeLatency.reportSuccessEvent(elapsed);
             this.bkWriteBytes.add(length);
         }
+
+        void ledgerRollover(Duration stall) {
+            this.rolloverStallLatency.reportSuccessEvent(stall);
+        }
     }
 }
@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -491,6 +492,62 @@ public abstract class BookKeeperLogTests extends DurableDataLogTestBase {
         Assert.assertEquals("Unexpected ledgers in BK.", expectedLedgerIds, allLedgers);
     }
 
+    /**
+     * Verifies that ledgers pre-created ahead of rollovers are used by those rollovers and that an unused pre-created
+     * ledger is deleted when the log is closed.
+     */
+    @Test
+    public void testLedgerPrecreation() throws Exception {
+        @Cleanup
+        BookKeeperAdmin a = new BookKeeperAdmin((org.apache.bookkeeper.client.BookKeeper) this.factory.get().getBookKeeperClient());
+        val initialLedgers = Sets.newHashSet(a.listLedgers());
+        Assert.assertTrue(this.config.get().isBkLedgerPrecreateEnabled());
+
+        val expectedLedgerIds = new HashSet<Long>();
+        try (BookKeeperLog log = (BookKeeperLog) createDurableDataLog()) {
+            log.initialize(TIMEOUT);
+            int remainingWrites = 10 * getWriteCount();
+
+            // Write until a ledger is pre-created. This happens once the current ledger is half full.
+            long precreatedLedgerId = Ledgers.NO_LEDGER_ID;
+            int ledgerCount = log.loadMetadata().getLedgers().size();
+            while (precreatedLedgerId == Ledgers.NO_LEDGER_ID && remainingWrites-- > 0) {
+                log.append(new CompositeByteArraySegment(getWriteData()), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                precreatedLedgerId = log.getPrecreatedLedgerId();
+            }
+
+            Assert.assertNotEquals("No ledger was pre-created.", Ledgers.NO_LEDGER_ID, precreatedLedgerId);
+            Assert.assertEquals("Not expecting a rollover before the ledger was pre-created.", ledgerCount, log.loadMetadata().getLedgers().size());
+
+            // Write until the rollover happens. It must use the pre-created ledger.
+            List<LedgerMetadata> ledgers = log.loadMetadata().getLedgers();
+            while (ledgers.size() == ledgerCount && remainingWrites-- > 0) {
+                log.append(new CompositeByteArraySegment(getWriteData()), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                ledgers = log.loadMetadata().getLedgers();
+            }
+
+            Assert.assertEquals("Expected exactly one rollover.", ledgerCount + 1, ledgers.size());
+            Assert.assertEquals("Rollover did not use the pre-created ledger.", precreatedLedgerId, ledgers.get(ledgers.size() - 1).getLedgerId());
+
+            // Write until the next ledger is pre-created.
+            long nextPrecreatedLedgerId = Ledgers.NO_LEDGER_ID;
+            while (nextPrecreatedLedgerId == Ledgers.NO_LEDGER_ID && remainingWrites-- > 0) {
+                log.append(new CompositeByteArraySegment(getWriteData()), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                nextPrecreatedLedgerId = log.getPrecreatedLedgerId();
+            }
+
+            Assert.assertNotEquals("No ledger was pre-created after the rollover.", Ledgers.NO_LEDGER_ID, nextPrecreatedLedgerId);
+            Assert.assertNotEquals("Expected a new ledger to be pre-created after the rollover.", precreatedLedgerId, nextPrecreatedLedgerId);
+            log.loadMetadata().getLedgers().stream().map(LedgerMetadata::getLedgerId).forEach(expectedLedgerIds::add);
+            Assert.assertFalse("Pre-created ledger should not be in the metadata yet.", expectedLedgerIds.contains(nextPrecreatedLedgerId));
+        }
+
+        AssertExtensions.assertGreaterThan("Expected at least one rollover.", 1, expectedLedgerIds.size());
+
+        // The only ledgers created should be the ones in the metadata. Any pre-created ledger should have been deleted.
+        TestUtils.await(() -> expectedLedgerIds.equals(getNewLedgers(a, initialLedgers)), 10, TIMEOUT.toMillis());
+    }
+
     /**
      * Tests {@link BookKeeperLogFactory#createDebugLogWrapper}.
      */
@@ -863,6 +920,13 @@ public abstract class BookKeeperLogTests extends DurableDataLogTestBase {
         bkService.get().startBookie(0);
     }
 
+    @SneakyThrows
+    private Set<Long> getNewLedgers(BookKeeperAdmin admin, Set<Long> initialLedgers) {
+        val allLedgers = Sets.newHashSet(admin.listLedgers());
+        allLedgers.removeAll(initialLedgers);
+        return allLedgers;
+    }
+
     private static boolean isLedgerClosedException(Throwable ex) {
         return ex instanceof WriteFailureException && ex.getCause() instanceof BKLedgerClosedException;
     }
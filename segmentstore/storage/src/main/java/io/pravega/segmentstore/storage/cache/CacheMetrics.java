@@ -21,7 +21,7 @@ import io.pravega.shared.metrics.MetricsProvider;
 import io.pravega.shared.metrics.StatsLogger;
 
 /**
- * Metrics for {@link DirectMemoryCache}.
+ * Metrics for {@link DirectMemoryCache} and {@link FileCacheStorage}.
  */
 final class CacheMetrics implements AutoCloseable {
     private static final StatsLogger STATS_LOGGER = MetricsProvider.createStatsLogger("cache");
@@ -53,4 +53,45 @@ final class CacheMetrics implements AutoCloseable {
         this.readBytes.close();
         this.deleteBytes.close();
     }
+
+    /**
+     * Metrics for {@link FileCacheStorage}.
+     */
+    static final class FileTier implements AutoCloseable {
+        private final Counter writeBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_FILE_WRITE_BYTES);
+        private final Counter readBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_FILE_READ_BYTES);
+        private final Counter deleteBytes = STATS_LOGGER.createCounter(MetricsNames.CACHE_FILE_DELETE_BYTES);
+        private final Counter hits = STATS_LOGGER.createCounter(MetricsNames.CACHE_FILE_HIT_COUNT);
+        private final Counter misses = STATS_LOGGER.createCounter(MetricsNames.CACHE_FILE_MISS_COUNT);
+
+        void insert(int size) {
+            this.writeBytes.add(size);
+        }
+
+        void append(int size) {
+            this.writeBytes.add(size);
+        }
+
+        void hit(int size) {
+            this.hits.inc();
+            this.readBytes.add(size);
+        }
+
+        void miss() {
+            this.misses.inc();
+        }
+
+        void delete(int size) {
+            this.deleteBytes.add(size);
+        }
+
+        @Override
+        public void close() {
+            this.writeBytes.close();
+            this.readBytes.close();
+            this.deleteBytes.close();
+            this.hits.close();
+            this.misses.close();
+        }
+    }
 }
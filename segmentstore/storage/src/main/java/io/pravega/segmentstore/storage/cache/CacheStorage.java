@@ -16,6 +16,7 @@
 package io.pravega.segmentstore.storage.cache;
 
 import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.storage.CacheException;
 import java.util.function.Supplier;
 import lombok.NonNull;
@@ -110,6 +111,26 @@ public interface CacheStorage extends AutoCloseable {
      */
     BufferView get(int address);
 
+    /**
+     * Retrieves the contents of an entry with the given address and retains (pins) them, so that they remain valid even
+     * if the entry is deleted or replaced in the meantime. As opposed from {@link #get}, the returned {@link BufferView}
+     * may be safely used after this {@link CacheStorage} has been modified (i.e., asynchronously, by a network write).
+     *
+     * The caller must invoke {@link BufferView#release()} on the returned {@link BufferView} (or on any slice of it)
+     * exactly once when it is no longer needed. Failing to do so will prevent the memory used by this entry from being
+     * reused.
+     *
+     * The default implementation returns a copy of the data returned by {@link #get}.
+     *
+     * @param address An integer representing the address to retrieve.
+     * @return A read-only {@link BufferView} that can be used to access the data, or null if no entry is mapped to this
+     * address.
+     */
+    default BufferView getRetained(int address) {
+        BufferView data = get(address);
+        return data == null ? null : new ByteArraySegment(data.getCopy());
+    }
+
     /**
      * Returns a {@link CacheState} representing the current state of the {@link CacheStorage}.
      *
@@ -22,6 +22,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.pravega.common.Exceptions;
 import io.pravega.common.util.BufferView;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Stack;
 import javax.annotation.concurrent.GuardedBy;
@@ -49,6 +50,16 @@ class DirectMemoryBuffer implements AutoCloseable {
     private ByteBuf buf;
     @GuardedBy("this")
     private int usedBlockCount;
+    /**
+     * Number of outstanding pins for each Buffer-Block (see {@link #read(int, List, List)}). Lazily allocated.
+     */
+    @GuardedBy("this")
+    private int[] pinCounts;
+    /**
+     * Buffer-Blocks that have been deleted while pinned. These will be deallocated once their last pin is released.
+     */
+    @GuardedBy("this")
+    private final BitSet pendingDeallocation;
 
     //endregion
 
@@ -69,6 +80,7 @@ class DirectMemoryBuffer implements AutoCloseable {
         this.layout = layout;
         this.id = bufferId;
         this.usedBlockCount = 1; // Metadata Block.
+        this.pendingDeallocation = new BitSet();
     }
 
     //endregion
@@ -249,12 +261,28 @@ class DirectMemoryBuffer implements AutoCloseable {
      * reached the beginning of this entry.
      */
     synchronized int read(int blockId, List<ByteBuf> readBuffers) {
+        return read(blockId, readBuffers, null);
+    }
+
+    /**
+     * Same as {@link #read(int, List)}, but optionally pins every Buffer-Block that is read. A pinned Buffer-Block will
+     * not be reused (even if deleted) until {@link #unpin} is invoked for it, and the {@link ByteBuf}s added to readBuffers
+     * will hold a reference to the underlying memory (so they must be released when no longer needed).
+     *
+     * @param blockId        The id of the Buffer-Block to begin reading from.
+     * @param readBuffers    A list of {@link ByteBuf} to add read data to. See {@link #read(int, List)}.
+     * @param pinnedBlockIds If non-null, every Buffer-Block that is read will be pinned and its id added to this list.
+     *                       If null, no pinning will be performed.
+     * @return The address of the previous Buffer-Block in the sequence, or {@link CacheLayout#NO_ADDRESS} if we have
+     * reached the beginning of this entry.
+     */
+    synchronized int read(int blockId, List<ByteBuf> readBuffers, List<Integer> pinnedBlockIds) {
         validateBlockId(blockId, true);
         ByteBuf metadataBuf = getMetadataBlock();
         while (blockId != CacheLayout.NO_BLOCK_ID) {
             int bufIndex = blockId * this.layout.blockMetadataSize();
             long blockMetadata = metadataBuf.getLong(bufIndex);
-            if (this.layout.isUsedBlock(blockMetadata)) {
+            if (this.layout.isUsedBlock(blockMetadata) && !this.pendingDeallocation.get(blockId)) {
                 int blockLength = this.layout.getLength(blockMetadata);
                 if (!readBuffers.isEmpty() && blockLength < this.layout.blockSize()) {
                     throw new CacheCorruptedException(String.format("Buffer %s, Block %s: Non-full, non-terminal block (length=%s).",
@@ -262,7 +290,15 @@ class DirectMemoryBuffer implements AutoCloseable {
                 }
 
                 int predecessorAddress = this.layout.getPredecessorAddress(blockMetadata);
-                readBuffers.add(getReadOnlyDataBlock(blockId, Math.min(blockLength, this.layout.blockSize())));
+                blockLength = Math.min(blockLength, this.layout.blockSize());
+                if (pinnedBlockIds == null) {
+                    readBuffers.add(getReadOnlyDataBlock(blockId, blockLength));
+                } else {
+                    readBuffers.add(getRetainedReadOnlyDataBlock(blockId, blockLength));
+                    pin(blockId);
+                    pinnedBlockIds.add(blockId);
+                }
+
                 if (predecessorAddress == CacheLayout.NO_ADDRESS || this.layout.getBufferId(predecessorAddress) != this.id) {
                     // We are done.
                     return predecessorAddress;
@@ -295,13 +331,19 @@ class DirectMemoryBuffer implements AutoCloseable {
         Stack<Integer> freedBlocks = new Stack<>(); // We're traversing backwards, but need these later in ascending order.
         while (blockId != CacheLayout.NO_BLOCK_ID) {
             long blockMetadata = metadataBuf.getLong(blockId * this.layout.blockMetadataSize());
-            if (this.layout.isUsedBlock(blockMetadata)) {
-                // Clear metadata.
-                freedBlocks.push(blockId);
+            if (this.layout.isUsedBlock(blockMetadata) && !this.pendingDeallocation.get(blockId)) {
+                if (isPinned(blockId)) {
+                    // Someone is still reading from this block. Defer its deallocation (and accounting for it as deleted)
+                    // until it is unpinned.
+                    this.pendingDeallocation.set(blockId);
+                } else {
+                    // Clear metadata.
+                    freedBlocks.push(blockId);
+                    deletedLength += this.layout.getLength(blockMetadata);
+                }
 
                 // Find predecessor, if any.
                 predecessorAddress = this.layout.getPredecessorAddress(blockMetadata);
-                deletedLength += this.layout.getLength(blockMetadata);
                 if (predecessorAddress == CacheLayout.NO_ADDRESS || this.layout.getBufferId(predecessorAddress) != this.id) {
                     break;
                 } else {
@@ -317,6 +359,48 @@ class DirectMemoryBuffer implements AutoCloseable {
         return new DeleteResult(deletedLength, predecessorAddress);
     }
 
+    /**
+     * Releases a pin on a Buffer-Block that was acquired via {@link #read(int, List, List)}. If this was the last pin and
+     * the Buffer-Block has been deleted in the meantime, it will be deallocated and made available for re-writing.
+     *
+     * @param blockId The id of the Buffer-Block to unpin.
+     * @return The number of bytes freed as a result of this call (non-zero only if the Buffer-Block was deallocated).
+     */
+    synchronized int unpin(int blockId) {
+        if (this.usedBlockCount < 0) {
+            // Closed. Nothing to do.
+            return 0;
+        }
+
+        Preconditions.checkState(isPinned(blockId), "Buffer %s, Block %s: not pinned.", this.id, blockId);
+        this.pinCounts[blockId]--;
+        if (this.pinCounts[blockId] == 0 && this.pendingDeallocation.get(blockId)) {
+            this.pendingDeallocation.clear(blockId);
+            ByteBuf metadataBuf = getMetadataBlock();
+            int freedLength = this.layout.getLength(metadataBuf.getLong(blockId * this.layout.blockMetadataSize()));
+            Stack<Integer> freedBlocks = new Stack<>();
+            freedBlocks.push(blockId);
+            deallocateBlocks(freedBlocks, metadataBuf);
+            return freedLength;
+        }
+
+        return 0;
+    }
+
+    @GuardedBy("this")
+    private void pin(int blockId) {
+        if (this.pinCounts == null) {
+            this.pinCounts = new int[this.layout.blocksPerBuffer()];
+        }
+
+        this.pinCounts[blockId]++;
+    }
+
+    @GuardedBy("this")
+    private boolean isPinned(int blockId) {
+        return this.pinCounts != null && this.pinCounts[blockId] > 0;
+    }
+
     /**
      * Rolls back a partially executed call to {@link #write} that failed while being written to the buffer. This walks
      * back the chain of blocks that were written, marks them as free and re-chains them into the free block chain. This
@@ -414,6 +498,12 @@ class DirectMemoryBuffer implements AutoCloseable {
         return getBuf().slice(blockIndex * this.layout.blockSize(), blockLength).asReadOnly();
     }
 
+    @GuardedBy("this")
+    private ByteBuf getRetainedReadOnlyDataBlock(int blockIndex, int blockLength) {
+        assert blockLength <= this.layout.blockSize();
+        return getBuf().retainedSlice(blockIndex * this.layout.blockSize(), blockLength).asReadOnly();
+    }
+
     @GuardedBy("this")
     private ByteBuf getBuf() {
         if (this.buf == null) {
@@ -455,7 +545,7 @@ class DirectMemoryBuffer implements AutoCloseable {
     @Getter
     class DeleteResult {
         /**
-         * Number of bytes freed.
+         * Number of bytes freed. This excludes pinned Buffer-Blocks, which are accounted for when they are unpinned.
          */
         private final int deletedLength;
         /**
@@ -25,15 +25,16 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.pravega.common.Exceptions;
 import io.pravega.common.util.BufferView;
 import io.pravega.shared.protocol.netty.ByteBufWrapper;
-import java.util.ArrayDeque;
+import io.pravega.shared.protocol.netty.CallbackCompositeByteBuf;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.NonNull;
 import lombok.val;
@@ -47,8 +48,13 @@ import lombok.val;
  * - The first Block in a Buffer is reserved for metadata, the remaining Blocks are used to store Entry data.
  * - Each Block metadata requires {@link CacheLayout#blockMetadataSize()} bytes and its format is defined by {@link CacheLayout};
  * there are several methods in {@link CacheLayout} that allow manipulating it.
- * - A Buffer is considered full when all its Blocks are used. Non-full Buffers are kept in a FIFO queue; they are addded
- * at the end when they become non-full and taken from the beginning when we need to insert new Entries.
+ * - A Buffer is considered full when all its Blocks are used. Non-full Buffers are kept in a global, lock-free FIFO queue;
+ * they are added at the end when they become non-full and taken from the beginning when we need to insert new Entries.
+ * - Buffer allocation is striped. Each thread is mapped to a stripe, and each stripe holds on to one non-full Buffer that
+ * it inserts new Entries into. A stripe only goes back to the global queue (or allocates a new Buffer) when its Buffer
+ * fills up. Since each {@link DirectMemoryBuffer} is internally synchronized, this ensures that concurrent inserts from
+ * different threads are spread across different Buffers and do not contend on the same lock. If the global queue is
+ * empty and no more Buffers can be allocated, other stripes' Buffers are used before declaring the cache full.
  * - An Entry may be split across multiple Buffers. It is inserted in the first available Buffer and anything that doesn't
  * fit in it is inserted into the next available buffer(s).
  * - Entries
@@ -88,6 +94,14 @@ import lombok.val;
  * {@link CacheLayout#blockSize()} and 4095 is when an entry's length exceeds a multiple of {@link CacheLayout#blockSize()}
  * by 1 byte.
  * -- Use {@link #getState()} to get insights into memory usage.
+ *
+ * Retained reads:
+ * - {@link #get} returns a view of the cache memory; it is only valid until the entry is deleted or replaced.
+ * - {@link #getRetained} pins every Block it reads. A pinned Block that is deleted will not be reused until all its pins
+ * have been released (via {@link BufferView#release()} on the result), so the result may be safely used asynchronously
+ * (i.e., handed off to a network write) without making a copy of the data.
+ * - If this {@link DirectMemoryCache} is closed while there are outstanding retained reads, the memory backing them will
+ * only be freed once they are released.
  */
 @ThreadSafe
 public class DirectMemoryCache implements CacheStorage {
@@ -98,12 +112,12 @@ public class DirectMemoryCache implements CacheStorage {
      */
     @VisibleForTesting
     static final int MAX_CLEANUP_ATTEMPTS = 5;
+    private static final int NO_BUFFER_ID = -1;
     private final CacheLayout layout;
     private final DirectMemoryBuffer[] buffers;
-    @GuardedBy("availableBufferIds")
-    private final ArrayDeque<Integer> availableBufferIds;
-    @GuardedBy("availableBufferIds")
-    private final ArrayDeque<Integer> unallocatedBufferIds;
+    private final ConcurrentLinkedQueue<Integer> availableBufferIds;
+    private final ConcurrentLinkedQueue<Integer> unallocatedBufferIds;
+    private final AtomicIntegerArray stripeBufferIds;
     private final AtomicBoolean closed;
     private final AtomicLong storedBytes;
     private final AtomicReference<Supplier<Boolean>> tryCleanup;
@@ -136,8 +150,25 @@ public class DirectMemoryCache implements CacheStorage {
      */
     @VisibleForTesting
     DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes) {
+        this(layout, maxSizeBytes, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new instance of the {@link DirectMemoryCache} class.
+     *
+     * @param layout       The {@link CacheLayout} to use.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache. The actual capacity of the cache may be rounded up
+     *                     to the nearest buffer size alignment, which is a multiple of {@link CacheLayout#bufferSize()}
+     *                     when applied to layout.
+     * @param stripeCount  The number of allocation stripes. This will be capped to the number of buffers.
+     * @throws IllegalArgumentException If maxSizeBytes is less than or equal to 0 or greater than {@link CacheLayout#MAX_TOTAL_SIZE},
+     *                                  or if stripeCount is less than or equal to 0.
+     */
+    @VisibleForTesting
+    DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes, int stripeCount) {
         Preconditions.checkArgument(maxSizeBytes > 0 && maxSizeBytes <= CacheLayout.MAX_TOTAL_SIZE,
                 "maxSizeBytes must be a positive number less than %s.", CacheLayout.MAX_TOTAL_SIZE);
+        Preconditions.checkArgument(stripeCount > 0, "stripeCount must be a positive number.");
         maxSizeBytes = adjustMaxSizeIfNeeded(maxSizeBytes, layout);
 
         this.layout = layout;
@@ -146,19 +177,23 @@ public class DirectMemoryCache implements CacheStorage {
         this.storedBytes = new AtomicLong(0);
         this.closed = new AtomicBoolean(false);
         this.buffers = new DirectMemoryBuffer[(int) (maxSizeBytes / this.layout.bufferSize())];
-        this.availableBufferIds = new ArrayDeque<>(this.buffers.length);
-        this.unallocatedBufferIds = new ArrayDeque<>(this.buffers.length);
+        this.availableBufferIds = new ConcurrentLinkedQueue<>();
+        this.unallocatedBufferIds = new ConcurrentLinkedQueue<>();
+        this.stripeBufferIds = new AtomicIntegerArray(Math.min(stripeCount, this.buffers.length));
+        for (int i = 0; i < this.stripeBufferIds.length(); i++) {
+            this.stripeBufferIds.set(i, NO_BUFFER_ID);
+        }
+
         createBuffers();
     }
 
     /**
      * Creates all the {@link DirectMemoryBuffer} instances for this {@link DirectMemoryCache} instance.
      */
-    @GuardedBy("availableBufferIds")
     private void createBuffers() {
         ByteBufAllocator allocator = createAllocator();
         for (int i = 0; i < this.buffers.length; i++) {
-            this.unallocatedBufferIds.addLast(i);
+            this.unallocatedBufferIds.add(i);
             this.buffers[i] = new DirectMemoryBuffer(i, allocator, this.layout);
         }
     }
@@ -186,9 +221,10 @@ public class DirectMemoryCache implements CacheStorage {
     @Override
     public void close() {
         if (!this.closed.getAndSet(true)) {
-            synchronized (this.availableBufferIds) {
-                this.availableBufferIds.clear();
-                this.unallocatedBufferIds.clear();
+            this.availableBufferIds.clear();
+            this.unallocatedBufferIds.clear();
+            for (int i = 0; i < this.stripeBufferIds.length(); i++) {
+                this.stripeBufferIds.set(i, NO_BUFFER_ID);
             }
 
             for (DirectMemoryBuffer b : this.buffers) {
@@ -312,13 +348,10 @@ public class DirectMemoryCache implements CacheStorage {
             address = result.getPredecessorAddress();
             deletedLength += result.getDeletedLength();
             if (wasFull && b.hasCapacity()) {
-                synchronized (this.availableBufferIds) {
-                    // This block was full before, but it no longer is now. Add it to the pool of available buffer ids
-                    // so we can reuse it if we need to. There is a slim chance that this buffer becomes full in the
-                    // time before we checked above and entering this block, but #getNextAvailableBuffer() can handle
-                    // that situation.
-                    this.availableBufferIds.addLast(b.getId());
-                }
+                // This block was full before, but it no longer is now. Add it to the pool of available buffer ids
+                // so we can reuse it if we need to. There is a slim chance that this buffer becomes full in the
+                // time before we checked above and adding it, but #getNextAvailableBuffer() can handle that situation.
+                this.availableBufferIds.add(b.getId());
             }
         }
 
@@ -354,6 +387,43 @@ public class DirectMemoryCache implements CacheStorage {
         }
     }
 
+    @Override
+    public BufferView getRetained(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        List<ByteBuf> readBuffers = new ArrayList<>();
+        List<Integer> pinnedAddresses = new ArrayList<>();
+        try {
+            List<Integer> pinnedBlockIds = new ArrayList<>();
+            while (address != CacheLayout.NO_ADDRESS) {
+                int bufferId = this.layout.getBufferId(address);
+                DirectMemoryBuffer b = this.buffers[bufferId];
+
+                // Fetch (and pin) the read data, then set the address to the next in the chain.
+                pinnedBlockIds.clear();
+                try {
+                    address = b.read(this.layout.getBlockId(address), readBuffers, pinnedBlockIds);
+                } finally {
+                    pinnedBlockIds.forEach(blockId -> pinnedAddresses.add(this.layout.calculateAddress(bufferId, blockId)));
+                }
+            }
+        } catch (Throwable ex) {
+            readBuffers.forEach(ByteBuf::release);
+            unpin(pinnedAddresses);
+            throw ex;
+        }
+
+        if (readBuffers.isEmpty()) {
+            // Couldn't read anything, so this address must not point to anything.
+            return null;
+        }
+
+        // Compose the result. Its components hold references to the underlying memory and the blocks are unpinned when
+        // the last reference to it is released.
+        ByteBuf result = new CallbackCompositeByteBuf(readBuffers.get(0).alloc(), Lists.reverse(readBuffers), () -> unpin(pinnedAddresses));
+        this.metrics.get(result.readableBytes());
+        return new ByteBufWrapper(result);
+    }
+
     @Override
     public CacheState getState() {
         Exceptions.checkNotClosed(this.closed.get(), this);
@@ -385,29 +455,22 @@ public class DirectMemoryCache implements CacheStorage {
     //region Helpers
 
     private DirectMemoryBuffer getNextAvailableBuffer() {
+        final int stripe = getStripe();
         int attempts = 0;
         while (attempts < MAX_CLEANUP_ATTEMPTS) {
-            synchronized (this.availableBufferIds) {
-                while (!this.availableBufferIds.isEmpty() || !this.unallocatedBufferIds.isEmpty()) {
-                    while (!this.availableBufferIds.isEmpty()) {
-                        // We found a Buffer that is available.
-                        DirectMemoryBuffer b = this.buffers[this.availableBufferIds.peekFirst()];
-                        if (b.hasCapacity()) {
-                            // Reusing a buffer.
-                            return b;
-                        } else {
-                            // Buffer is actually full. Clean up. We lazily remove buffers from this pool, since we want
-                            // to introduce as little synchronization overhead in the insert() method so we delay this
-                            // as much as we can.
-                            this.availableBufferIds.removeFirst();
-                        }
-                    }
-
-                    if (!this.unallocatedBufferIds.isEmpty()) {
-                        // We can't reuse any existing buffers, but there are unallocated ones. Fetch one and use it.
-                        this.availableBufferIds.addLast(this.unallocatedBufferIds.removeFirst());
-                    }
-                }
+            // Try this stripe's buffer first, then get one from the global pool. If there's nothing there either, see
+            // if any other stripe has a buffer with some capacity left.
+            DirectMemoryBuffer b = getStripeBuffer(stripe);
+            if (b == null) {
+                b = refillStripe(stripe);
+            }
+
+            if (b == null) {
+                b = getAnyStripeBuffer();
+            }
+
+            if (b != null) {
+                return b;
             }
 
             // If we get here, there are no available buffers and we have allocated all the buffers we could. Notify
@@ -420,6 +483,100 @@ public class DirectMemoryCache implements CacheStorage {
         throw new CacheFullException(String.format("%s full: %s.", DirectMemoryCache.class.getSimpleName(), getState()));
     }
 
+    private int getStripe() {
+        return (int) (Thread.currentThread().getId() % this.stripeBufferIds.length());
+    }
+
+    /**
+     * Gets the {@link DirectMemoryBuffer} currently assigned to the given stripe, if it has any capacity left. If it is
+     * full, it is unassigned from the stripe ({@link #delete} will add it back to the global pool once it has capacity
+     * again).
+     */
+    private DirectMemoryBuffer getStripeBuffer(int stripe) {
+        int bufferId = this.stripeBufferIds.get(stripe);
+        if (bufferId == NO_BUFFER_ID) {
+            return null;
+        }
+
+        DirectMemoryBuffer b = this.buffers[bufferId];
+        if (b.hasCapacity()) {
+            return b;
+        }
+
+        this.stripeBufferIds.compareAndSet(stripe, bufferId, NO_BUFFER_ID);
+        return null;
+    }
+
+    /**
+     * Fetches a {@link DirectMemoryBuffer} with available capacity from the global pool (or allocates a new one) and
+     * assigns it to the given stripe.
+     */
+    private DirectMemoryBuffer refillStripe(int stripe) {
+        while (true) {
+            Integer bufferId = this.availableBufferIds.poll();
+            if (bufferId == null) {
+                // We can't reuse any existing buffers, but there may be unallocated ones.
+                bufferId = this.unallocatedBufferIds.poll();
+                if (bufferId == null) {
+                    return null;
+                }
+            }
+
+            DirectMemoryBuffer b = this.buffers[bufferId];
+            if (!b.hasCapacity()) {
+                // Buffer is actually full. We lazily remove buffers from the pool since we want to introduce as little
+                // synchronization overhead in the delete() method, so we delay this as much as we can.
+                continue;
+            }
+
+            if (!this.stripeBufferIds.compareAndSet(stripe, NO_BUFFER_ID, bufferId)) {
+                // Another thread mapped to the same stripe has already assigned it a buffer. Put this one back so it
+                // doesn't get lost; we can still use it for this write.
+                this.availableBufferIds.add(bufferId);
+            }
+
+            return b;
+        }
+    }
+
+    /**
+     * Gets any {@link DirectMemoryBuffer} that is assigned to a stripe and has available capacity. This is only used
+     * when there is nothing available in the global pool, so that we do not report the cache as full while there is
+     * still capacity in buffers held by other stripes.
+     */
+    private DirectMemoryBuffer getAnyStripeBuffer() {
+        for (int i = 0; i < this.stripeBufferIds.length(); i++) {
+            int bufferId = this.stripeBufferIds.get(i);
+            if (bufferId != NO_BUFFER_ID && this.buffers[bufferId].hasCapacity()) {
+                return this.buffers[bufferId];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Unpins the Buffer-Blocks at the given addresses, which have been pinned by {@link #getRetained}.
+     */
+    private void unpin(List<Integer> addresses) {
+        int freedLength = 0;
+        for (int address : addresses) {
+            DirectMemoryBuffer b = this.buffers[this.layout.getBufferId(address)];
+            boolean wasFull = !b.hasCapacity();
+            freedLength += b.unpin(this.layout.getBlockId(address));
+            if (wasFull && b.hasCapacity() && !this.closed.get()) {
+                // This buffer has regained capacity (a pinned block that was deleted in the meantime has been freed).
+                this.availableBufferIds.add(b.getId());
+            }
+        }
+
+        if (freedLength > 0) {
+            // Pinned blocks that were deleted are only accounted for as deleted once they have actually been freed.
+            this.storedBytes.addAndGet(-freedLength);
+            this.metrics.delete(freedLength);
+        }
+    }
+
     private void tryCleanup(int attempts) {
         val c = this.tryCleanup.get();
         if (c != null && !c.get()) {
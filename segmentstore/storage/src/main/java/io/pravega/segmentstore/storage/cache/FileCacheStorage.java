@@ -0,0 +1,456 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.storage.CacheException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Represents a block-based {@link CacheStorage} that stores data in a local file (typically on an SSD). This is meant
+ * to be used as a second (colder) tier behind a {@link DirectMemoryCache}: entries that would otherwise be evicted from
+ * memory can be demoted here and promoted back when accessed again, which is much cheaper than re-reading them from
+ * Tier-2.
+ *
+ * Data Organization:
+ * - The file is split into equal sized Blocks of length {@link #getBlockAlignment()}.
+ * - Block metadata (length and predecessor) is kept on the heap; only Entry data is stored in the file.
+ * - Entries are split into Blocks that form a singly-linked list with every block pointing to the previous block in the
+ * chain. The address returned by {@link #insert} or {@link #replace} points to the last block in this chain (same as
+ * {@link DirectMemoryCache}).
+ * - Block allocation and deallocation is done under a single lock; all file I/O is executed outside of it using positional
+ * reads and writes on a shared {@link FileChannel}.
+ * - The file is created when this instance is constructed and deleted when it is closed. Its contents do not survive
+ * a restart.
+ */
+@Slf4j
+@ThreadSafe
+public class FileCacheStorage implements CacheStorage {
+    //region Members
+
+    /**
+     * Default block size. Larger than {@link CacheLayout.DefaultLayout#blockSize()} in order to keep the heap metadata
+     * small for multi-GB files.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+    @VisibleForTesting
+    static final int MAX_CLEANUP_ATTEMPTS = 5;
+    private static final int FREE_BLOCK = -1;
+    private final Path filePath;
+    private final FileChannel channel;
+    private final int blockSize;
+    private final int blockCount;
+    @GuardedBy("lock")
+    private final int[] blockLengths;
+    @GuardedBy("lock")
+    private final int[] predecessors;
+    @GuardedBy("lock")
+    private final int[] freeBlocks;
+    @GuardedBy("lock")
+    private int freeBlockCount;
+    @GuardedBy("lock")
+    private int highWaterMark;
+    private final AtomicLong storedBytes;
+    private final AtomicBoolean closed;
+    private final AtomicReference<Supplier<Boolean>> tryCleanup;
+    private final AtomicInteger retryDelayBaseMillis;
+    private final CacheMetrics.FileTier metrics = new CacheMetrics.FileTier();
+    private final Object lock = new Object();
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link FileCacheStorage} class using {@link #DEFAULT_BLOCK_SIZE}.
+     *
+     * @param filePath     The path to the file to use. This file will be created (or truncated if it already exists).
+     * @param maxSizeBytes The maximum size (in bytes) of the file. This will be rounded down to a multiple of the block size.
+     * @throws CacheException If the file could not be created.
+     */
+    public FileCacheStorage(@NonNull Path filePath, long maxSizeBytes) {
+        this(filePath, maxSizeBytes, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a new instance of the {@link FileCacheStorage} class.
+     *
+     * @param filePath     The path to the file to use. This file will be created (or truncated if it already exists).
+     * @param maxSizeBytes The maximum size (in bytes) of the file. This will be rounded down to a multiple of blockSize.
+     * @param blockSize    The size of a Block.
+     * @throws CacheException If the file could not be created.
+     */
+    @VisibleForTesting
+    FileCacheStorage(@NonNull Path filePath, long maxSizeBytes, int blockSize) {
+        Preconditions.checkArgument(blockSize > 0, "blockSize must be a positive number.");
+        Preconditions.checkArgument(maxSizeBytes >= blockSize, "maxSizeBytes must be at least blockSize.");
+        long count = maxSizeBytes / blockSize;
+        Preconditions.checkArgument(count < Integer.MAX_VALUE, "maxSizeBytes/blockSize must be less than %s.", Integer.MAX_VALUE);
+        this.filePath = filePath;
+        this.blockSize = blockSize;
+        this.blockCount = (int) count;
+        this.blockLengths = new int[this.blockCount];
+        this.predecessors = new int[this.blockCount];
+        this.freeBlocks = new int[this.blockCount];
+        Arrays.fill(this.blockLengths, FREE_BLOCK);
+        this.freeBlockCount = 0;
+        this.highWaterMark = 0;
+        this.storedBytes = new AtomicLong(0);
+        this.closed = new AtomicBoolean(false);
+        this.tryCleanup = new AtomicReference<>(null);
+        this.retryDelayBaseMillis = new AtomicInteger(0);
+        try {
+            this.channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ex) {
+            this.metrics.close();
+            throw new CacheException(String.format("Unable to create cache file '%s'.", filePath), ex);
+        }
+
+        log.info("{}: Created (Blocks = {}, BlockSize = {}).", this, this.blockCount, this.blockSize);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            try {
+                this.channel.close();
+            } catch (IOException ex) {
+                log.warn("{}: Unable to close cache file.", this, ex);
+            }
+
+            this.metrics.close();
+            log.info("{}: Closed.", this);
+        }
+    }
+
+    //endregion
+
+    //region CacheStorage Implementation
+
+    @Override
+    public int getBlockAlignment() {
+        return this.blockSize;
+    }
+
+    @Override
+    public int getMaxEntryLength() {
+        return CacheLayout.MAX_ENTRY_SIZE;
+    }
+
+    @Override
+    public int insert(BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(data.getLength() <= CacheLayout.MAX_ENTRY_SIZE,
+                "Entry too long. Expected max %s, given %s.", CacheLayout.MAX_ENTRY_SIZE, data.getLength());
+
+        // Every entry takes up at least one block, even if empty.
+        int requiredBlocks = Math.max(1, (data.getLength() + this.blockSize - 1) / this.blockSize);
+        int[] blocks = allocateBlocks(requiredBlocks);
+        int lastBlockAddress = CacheLayout.NO_ADDRESS;
+        try {
+            for (int i = 0; i < blocks.length; i++) {
+                int offset = i * this.blockSize;
+                int length = Math.min(this.blockSize, data.getLength() - offset);
+                write(blocks[i], 0, data.slice(offset, length));
+                synchronized (this.lock) {
+                    this.blockLengths[blocks[i]] = length;
+                    this.predecessors[blocks[i]] = lastBlockAddress;
+                }
+
+                lastBlockAddress = toAddress(blocks[i]);
+            }
+        } catch (Throwable ex) {
+            if (!Exceptions.mustRethrow(ex)) {
+                // Release everything we allocated. Blocks that were never linked are still marked as allocated, so we
+                // need to release them explicitly.
+                releaseBlocks(blocks);
+            }
+
+            throw ex;
+        }
+
+        this.storedBytes.addAndGet(data.getLength());
+        this.metrics.insert(data.getLength());
+        return lastBlockAddress;
+    }
+
+    @Override
+    public int replace(int address, BufferView data) {
+        // Same as DirectMemoryCache: insert the new data first and only then remove the old one.
+        int newAddress = insert(data);
+        delete(address);
+        return newAddress;
+    }
+
+    @Override
+    public int getAppendableLength(int currentLength) {
+        int lastBlockLength = currentLength % this.blockSize;
+        return currentLength == 0 ? this.blockSize : (lastBlockLength == 0 ? 0 : this.blockSize - lastBlockLength);
+    }
+
+    @Override
+    public int append(int address, int expectedLength, BufferView data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(address != CacheLayout.NO_ADDRESS, "Invalid address.");
+        int expectedLastBlockLength = this.blockSize - getAppendableLength(expectedLength);
+        Preconditions.checkArgument(expectedLastBlockLength + data.getLength() <= this.blockSize,
+                "data is too long; use getAppendableLength() to determine how much data can be appended.");
+
+        int blockId = toBlockId(address);
+        synchronized (this.lock) {
+            int blockLength = this.blockLengths[blockId];
+            Preconditions.checkArgument(blockLength != FREE_BLOCK, "Given address is not allocated.");
+            if (blockLength != expectedLastBlockLength) {
+                throw new IncorrectCacheEntryLengthException(String.format(
+                        "Incorrect last block length. Expected %s, given %s.", blockLength, expectedLastBlockLength));
+            }
+
+            // Appends are rare for this tier (entries are usually demoted whole) so it's simpler to do the write while
+            // holding the lock rather than reserve the range.
+            write(blockId, blockLength, data);
+            this.blockLengths[blockId] = blockLength + data.getLength();
+        }
+
+        this.storedBytes.addAndGet(data.getLength());
+        this.metrics.append(data.getLength());
+        return data.getLength();
+    }
+
+    @Override
+    public void delete(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        int deletedLength = 0;
+        synchronized (this.lock) {
+            while (address != CacheLayout.NO_ADDRESS) {
+                int blockId = toBlockId(address);
+                int blockLength = this.blockLengths[blockId];
+                if (blockLength == FREE_BLOCK) {
+                    // Already deleted.
+                    break;
+                }
+
+                deletedLength += blockLength;
+                address = this.predecessors[blockId];
+                this.blockLengths[blockId] = FREE_BLOCK;
+                this.predecessors[blockId] = CacheLayout.NO_ADDRESS;
+                this.freeBlocks[this.freeBlockCount++] = blockId;
+            }
+        }
+
+        this.storedBytes.addAndGet(-deletedLength);
+        this.metrics.delete(deletedLength);
+    }
+
+    @Override
+    public BufferView get(int address) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+
+        // Collect the chain (in reverse order) while holding the lock, then read the data outside of it.
+        int[] blocks;
+        int[] lengths;
+        int totalLength = 0;
+        synchronized (this.lock) {
+            int count = 0;
+            int a = address;
+            while (a != CacheLayout.NO_ADDRESS && this.blockLengths[toBlockId(a)] != FREE_BLOCK) {
+                count++;
+                a = this.predecessors[toBlockId(a)];
+            }
+
+            blocks = new int[count];
+            lengths = new int[count];
+            a = address;
+            for (int i = count - 1; i >= 0; i--) {
+                blocks[i] = toBlockId(a);
+                lengths[i] = this.blockLengths[blocks[i]];
+                totalLength += lengths[i];
+                a = this.predecessors[blocks[i]];
+            }
+        }
+
+        if (blocks.length == 0) {
+            this.metrics.miss();
+            return null;
+        }
+
+        byte[] result = new byte[totalLength];
+        int resultOffset = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            read(blocks[i], ByteBuffer.wrap(result, resultOffset, lengths[i]));
+            resultOffset += lengths[i];
+        }
+
+        this.metrics.hit(totalLength);
+        return new ByteArraySegment(result);
+    }
+
+    @Override
+    public BufferView getRetained(int address) {
+        // The result of get() is already a copy of the data, so there is nothing to retain.
+        return get(address);
+    }
+
+    @Override
+    public CacheState getState() {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        long usedBlocks;
+        long allocatedBlocks;
+        synchronized (this.lock) {
+            usedBlocks = this.highWaterMark - this.freeBlockCount;
+            allocatedBlocks = this.highWaterMark;
+        }
+
+        return new CacheState(
+                this.storedBytes.get(),
+                usedBlocks * this.blockSize,
+                0,
+                allocatedBlocks * this.blockSize,
+                (long) this.blockCount * this.blockSize);
+    }
+
+    @Override
+    public void setCacheFullCallback(Supplier<Boolean> cacheFullCallback, int retryDelayBaseMillis) {
+        this.tryCleanup.set(cacheFullCallback);
+        this.retryDelayBaseMillis.set(retryDelayBaseMillis);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FileCacheStorage[%s]", this.filePath);
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private int[] allocateBlocks(int count) {
+        int attempts = 0;
+        while (attempts < MAX_CLEANUP_ATTEMPTS) {
+            synchronized (this.lock) {
+                if (this.freeBlockCount + (this.blockCount - this.highWaterMark) >= count) {
+                    int[] result = new int[count];
+                    for (int i = 0; i < count; i++) {
+                        // Prefer reusing freed blocks over extending the file.
+                        result[i] = this.freeBlockCount > 0 ? this.freeBlocks[--this.freeBlockCount] : this.highWaterMark++;
+                        this.blockLengths[result[i]] = 0;
+                        this.predecessors[result[i]] = CacheLayout.NO_ADDRESS;
+                    }
+
+                    return result;
+                }
+            }
+
+            attempts++;
+            tryCleanup(attempts);
+        }
+
+        throw new CacheFullException(String.format("%s full: %s.", this, getState()));
+    }
+
+    private void releaseBlocks(int[] blocks) {
+        int releasedLength = 0;
+        synchronized (this.lock) {
+            for (int blockId : blocks) {
+                if (this.blockLengths[blockId] != FREE_BLOCK) {
+                    releasedLength += this.blockLengths[blockId];
+                    this.blockLengths[blockId] = FREE_BLOCK;
+                    this.predecessors[blockId] = CacheLayout.NO_ADDRESS;
+                    this.freeBlocks[this.freeBlockCount++] = blockId;
+                }
+            }
+        }
+
+        log.debug("{}: Released {} blocks ({} bytes) after failed insert.", this, blocks.length, releasedLength);
+    }
+
+    private void tryCleanup(int attempts) {
+        val c = this.tryCleanup.get();
+        if (c != null && !c.get()) {
+            int sleepMillis = attempts * this.retryDelayBaseMillis.get();
+            if (sleepMillis > 0 && attempts < MAX_CLEANUP_ATTEMPTS) {
+                Exceptions.handleInterrupted(() -> Thread.sleep(sleepMillis));
+            }
+        }
+    }
+
+    private void write(int blockId, int blockOffset, BufferView data) {
+        long position = (long) blockId * this.blockSize + blockOffset;
+        try {
+            Iterator<ByteBuffer> buffers = data.iterateBuffers();
+            while (buffers.hasNext()) {
+                ByteBuffer bb = buffers.next();
+                while (bb.hasRemaining()) {
+                    position += this.channel.write(bb, position);
+                }
+            }
+        } catch (IOException ex) {
+            throw new CacheException(String.format("%s: Unable to write block %s.", this, blockId), ex);
+        }
+    }
+
+    private void read(int blockId, ByteBuffer target) {
+        long position = (long) blockId * this.blockSize;
+        try {
+            while (target.hasRemaining()) {
+                int count = this.channel.read(target, position);
+                if (count < 0) {
+                    throw new CacheCorruptedException(String.format("%s: Unexpected end of file while reading block %s.", this, blockId));
+                }
+
+                position += count;
+            }
+        } catch (IOException ex) {
+            throw new CacheException(String.format("%s: Unable to read block %s.", this, blockId), ex);
+        }
+    }
+
+    private int toAddress(int blockId) {
+        return blockId + 1;
+    }
+
+    private int toBlockId(int address) {
+        int blockId = address - 1;
+        Preconditions.checkArgument(blockId >= 0 && blockId < this.blockCount, "Invalid address %s.", address);
+        return blockId;
+    }
+
+    //endregion
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.concurrent.AsyncSemaphore;
+import io.pravega.common.concurrent.Futures;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Limits the number of concurrent chunk reads or writes issued by a single operation.
+ * Each chunk I/O requires a permit both from the operation's own budget and from the budget shared by all operations
+ * of a {@link ChunkedSegmentStorage} instance.
+ * This class also keeps track of the maximum number of chunk I/Os that were in flight at the same time.
+ */
+class ChunkIOLimiter {
+    private final AsyncSemaphore sharedLimiter;
+    private final AsyncSemaphore operationLimiter;
+    private final Executor executor;
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicInteger maxInFlightCount = new AtomicInteger();
+
+    /**
+     * Creates a new instance of ChunkIOLimiter.
+     *
+     * @param sharedLimiter  {@link AsyncSemaphore} shared by all operations.
+     * @param maxConcurrency Maximum number of chunk I/Os this operation may have in flight.
+     * @param executor       Executor to use.
+     * @param logId          Id to use for logging.
+     */
+    ChunkIOLimiter(@NonNull AsyncSemaphore sharedLimiter, int maxConcurrency, @NonNull Executor executor, String logId) {
+        Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency must be positive.");
+        this.sharedLimiter = sharedLimiter;
+        this.operationLimiter = new AsyncSemaphore(maxConcurrency, 0, logId);
+        this.executor = executor;
+    }
+
+    /**
+     * Acquires a permit to issue a chunk I/O.
+     * Each successful call must be followed by exactly one call to {@link #release()}.
+     *
+     * @return A CompletableFuture that completes when the permit is granted.
+     */
+    CompletableFuture<Void> acquire() {
+        return this.operationLimiter.run(() -> CompletableFuture.<Void>completedFuture(null), 1, false)
+                .thenComposeAsync(v -> this.sharedLimiter.run(() -> CompletableFuture.<Void>completedFuture(null), 1, false)
+                        .whenComplete((v1, ex) -> {
+                            if (null != ex) {
+                                this.operationLimiter.release(1);
+                            }
+                        }), this.executor)
+                .thenRun(() -> {
+                    int count = this.inFlightCount.incrementAndGet();
+                    this.maxInFlightCount.accumulateAndGet(count, Math::max);
+                });
+    }
+
+    /**
+     * Releases a permit previously granted by {@link #acquire()}.
+     */
+    void release() {
+        this.inFlightCount.decrementAndGet();
+        this.sharedLimiter.release(1);
+        this.operationLimiter.release(1);
+    }
+
+    /**
+     * Runs the given chunk I/O once a permit is granted and releases the permit when the I/O completes.
+     *
+     * @param task Supplier that issues the chunk I/O.
+     * @param <T>  Return type.
+     * @return A CompletableFuture that completes with the result of the task.
+     */
+    <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> task) {
+        return acquire().thenComposeAsync(v -> runAcquired(task), this.executor);
+    }
+
+    /**
+     * Runs the given chunk I/O using a permit that was already granted by {@link #acquire()} and releases the permit
+     * when the I/O completes. This method never throws; any failure is reported through the returned future.
+     *
+     * @param task Supplier that issues the chunk I/O.
+     * @param <T>  Return type.
+     * @return A CompletableFuture that completes with the result of the task.
+     */
+    <T> CompletableFuture<T> runAcquired(Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result;
+        try {
+            result = task.get();
+        } catch (Throwable ex) {
+            result = Futures.failedFuture(ex);
+        }
+        return result.whenComplete((r, ex) -> release());
+    }
+
+    /**
+     * Gets the maximum number of chunk I/Os that were in flight at the same time.
+     *
+     * @return Maximum number of concurrent chunk I/Os.
+     */
+    int getMaxInFlightCount() {
+        return this.maxInFlightCount.get();
+    }
+
+    /**
+     * Gets the number of chunk I/Os currently in flight.
+     *
+     * @return Number of chunk I/Os in flight.
+     */
+    int getInFlightCount() {
+        return this.inFlightCount.get();
+    }
+}
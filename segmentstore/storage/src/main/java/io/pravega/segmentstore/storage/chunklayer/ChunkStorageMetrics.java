@@ -72,6 +72,7 @@ public class ChunkStorageMetrics {
     static final Counter SLTS_GC_CHUNK_DELETED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_CHUNK_DELETED);
     static final Counter SLTS_GC_CHUNK_RETRY = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_CHUNK_RETRY);
     static final Counter SLTS_GC_CHUNK_FAILED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_CHUNK_FAILED);
+    static final Counter SLTS_GC_SLICE_RELEASED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SLICE_RELEASED);
 
     static final Counter SLTS_GC_SEGMENT_QUEUED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SEGMENT_QUEUED);
     static final Counter SLTS_GC_SEGMENT_PROCESSED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SEGMENT_PROCESSED);
@@ -84,6 +85,9 @@ public class ChunkStorageMetrics {
     static final OpStatsLogger SLTS_SYSTEM_NUM_CHUNKS_ADDED = STATS_LOGGER.createStats(MetricsNames.SLTS_SYSTEM_NUM_CHUNKS_ADDED);
 
     static final OpStatsLogger SLTS_READ_INSTANT_TPUT = STATS_LOGGER.createStats(MetricsNames.SLTS_READ_INSTANT_TPUT);
+    static final OpStatsLogger SLTS_READ_PARALLELISM = STATS_LOGGER.createStats(MetricsNames.SLTS_READ_PARALLELISM);
+    static final OpStatsLogger SLTS_WRITE_PARALLELISM = STATS_LOGGER.createStats(MetricsNames.SLTS_WRITE_PARALLELISM);
+    static final OpStatsLogger SLTS_NUM_WRITES_COALESCED = STATS_LOGGER.createStats(MetricsNames.SLTS_NUM_WRITES_COALESCED);
     static final OpStatsLogger SLTS_WRITE_INSTANT_TPUT = STATS_LOGGER.createStats(MetricsNames.SLTS_WRITE_INSTANT_TPUT);
 
     static final Counter SLTS_CREATE_COUNT = STATS_LOGGER.createCounter(MetricsNames.SLTS_CREATE_COUNT);
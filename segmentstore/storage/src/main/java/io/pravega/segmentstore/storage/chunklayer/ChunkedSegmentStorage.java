@@ -20,6 +20,7 @@ import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.concurrent.AsyncSemaphore;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.MultiKeySequentialProcessor;
 import io.pravega.common.util.ImmutableDate;
@@ -49,6 +50,7 @@ import lombok.val;
 import javax.annotation.concurrent.GuardedBy;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
@@ -153,6 +155,17 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
      */
     private final MultiKeySequentialProcessor<String> taskProcessor;
 
+    /**
+     * {@link AsyncSemaphore} that limits the number of chunk reads and writes in flight across all operations.
+     */
+    private final AsyncSemaphore chunkIOLimiter;
+
+    /**
+     * {@link WriteCoalescer} that packs small writes from different segments into shared chunks.
+     */
+    @Getter
+    private final WriteCoalescer writeCoalescer;
+
     @GuardedBy("activeSegments")
     private final HashSet<String> activeRequests = new HashSet<>();
 
@@ -185,13 +198,16 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
         this.readIndexCache = new ReadIndexCache(config.getMaxIndexedSegments(),
                 config.getMaxIndexedChunks());
         this.taskProcessor = new MultiKeySequentialProcessor<>(this.executor);
+        this.chunkIOLimiter = new AsyncSemaphore(config.getMaxConcurrentChunkIO(), 0, "ChunkedSegmentStorage-" + containerId);
+        this.writeCoalescer = new WriteCoalescer(this);
         this.garbageCollector = new GarbageCollector(containerId,
                 chunkStorage,
                 metadataStore,
                 config,
                 executor,
                 System::currentTimeMillis,
-                duration -> Futures.delayedFuture(duration, executor));
+                duration -> Futures.delayedFuture(duration, executor),
+                this::repackSlices);
 
         this.systemJournal = new SystemJournal(containerId,
                 chunkStorage,
@@ -534,6 +550,17 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
         return chunkStorage.supportsAppend() && config.isAppendEnabled();
     }
 
+    /**
+     * Creates a new {@link ChunkIOLimiter} for a single read or write operation.
+     * The returned instance draws from the budget shared by all operations of this instance.
+     *
+     * @param logId Id to use for logging.
+     * @return A new {@link ChunkIOLimiter}.
+     */
+    ChunkIOLimiter createChunkIOLimiter(String logId) {
+        return new ChunkIOLimiter(chunkIOLimiter, config.getMaxConcurrentChunkIOPerOperation(), executor, logId);
+    }
+
     /**
      * Defragments the list of chunks for a given segment.
      * It finds eligible consecutive chunks that can be merged together.
@@ -560,6 +587,44 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
         return new DefragmentOperation(this, txn, segmentMetadata, startChunkName, lastChunkName, chunksToDelete, newReadIndexEntries, defragOffset).call();
     }
 
+    /**
+     * Replaces all slices of the given segment with chunks owned by the segment, so that the shared chunks holding them
+     * can be deleted once no other segment references them. This is invoked by the {@link GarbageCollector} some time
+     * after the segment started writing slices.
+     *
+     * @param streamSegmentName Name of the segment.
+     * @return A CompletableFuture that, when completed, will indicate the operation succeeded.
+     * If the operation failed, it will contain the cause of the failure.
+     */
+    CompletableFuture<Void> repackSlices(String streamSegmentName) {
+        return executeSerialized(() -> tryWith(metadataStore.beginTransaction(false, streamSegmentName),
+                txn -> txn.get(streamSegmentName).thenComposeAsync(storageMetadata -> {
+                    val segmentMetadata = (SegmentMetadata) storageMetadata;
+                    // Nothing to do if the segment has since been deleted.
+                    if (null == segmentMetadata || !segmentMetadata.isActive() || null == segmentMetadata.getFirstChunk()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    val chunksToDelete = new ArrayList<String>();
+                    val newReadIndexEntries = new ArrayList<ChunkNameOffsetPair>();
+                    return new DefragmentOperation(this, txn, segmentMetadata, segmentMetadata.getFirstChunk(), null,
+                            chunksToDelete, newReadIndexEntries, segmentMetadata.getFirstChunkStartOffset())
+                            .repackAllSlices()
+                            .thenComposeAsync(v -> {
+                                if (chunksToDelete.isEmpty()) {
+                                    return CompletableFuture.completedFuture(null);
+                                }
+                                return garbageCollector.addChunksToGarbage(txn.getVersion(), chunksToDelete)
+                                        .thenComposeAsync(vv -> txn.commit(), executor)
+                                        .thenRunAsync(() -> {
+                                            // Cached entries may point to the slices that were just replaced.
+                                            readIndexCache.remove(streamSegmentName);
+                                            readIndexCache.addIndexEntries(streamSegmentName, newReadIndexEntries);
+                                            log.debug("{} repackSlices - finished segment={}, slices={}.", logPrefix, streamSegmentName, chunksToDelete.size());
+                                        }, executor);
+                            }, executor);
+                }, executor), executor), streamSegmentName);
+    }
+
     @Override
     public CompletableFuture<Void> delete(SegmentHandle handle, Duration timeout) {
         checkInitialized();
@@ -56,6 +56,13 @@ public class ChunkedSegmentStorageConfig {
 
     public static final Property<Integer> MAX_METADATA_ENTRIES_IN_BUFFER = Property.named("metadata.buffer.size.max", 1024);
     public static final Property<Integer> MAX_METADATA_ENTRIES_IN_CACHE = Property.named("metadata.cache.size.max", 5000);
+    public static final Property<Long> MAX_METADATA_CACHE_SIZE_BYTES = Property.named("metadata.cache.size.bytes.max", 0L);
+    public static final Property<Integer> MAX_METADATA_ENTRIES_TO_PREFETCH = Property.named("metadata.prefetch.count.max", 32);
+    public static final Property<Integer> MAX_CONCURRENT_CHUNK_IO_PER_OPERATION = Property.named("io.concurrency.operation.max", 8);
+    public static final Property<Integer> MAX_CONCURRENT_CHUNK_IO = Property.named("io.concurrency.max", 64);
+    public static final Property<Long> MAX_WRITE_PART_SIZE = Property.named("writes.part.size.bytes.max", 0L);
+    public static final Property<Integer> MAX_COALESCED_WRITE_SIZE = Property.named("writes.coalesce.size.bytes.max", 0);
+    public static final Property<Integer> MAX_COALESCED_CHUNK_SIZE = Property.named("writes.coalesce.chunk.size.bytes.max", 16 * 1024 * 1024);
 
     public static final Property<Integer> JOURNAL_SNAPSHOT_UPDATE_FREQUENCY = Property.named("journal.snapshot.update.frequency.minutes", 5);
     public static final Property<Integer> MAX_PER_SNAPSHOT_UPDATE_COUNT = Property.named("journal.snapshot.update.count.max", 100);
@@ -100,6 +107,13 @@ public class ChunkedSegmentStorageConfig {
             .garbageCollectionTransactionBatchSize(5000)
             .indexBlockSize(1024 * 1024 * 1024)
             .maxEntriesInCache(5000)
+            .maxCacheSizeInBytes(0)
+            .maxEntriesToPrefetch(32)
+            .maxConcurrentChunkIOPerOperation(8)
+            .maxConcurrentChunkIO(64)
+            .maxWritePartSize(0)
+            .maxCoalescedWriteSize(0)
+            .maxCoalescedChunkSize(16 * 1024 * 1024)
             .maxEntriesInTxnBuffer(1024)
             .journalSnapshotInfoUpdateFrequency(Duration.ofMinutes(5))
             .maxJournalUpdatesPerSnapshot(100)
@@ -258,6 +272,53 @@ public class ChunkedSegmentStorageConfig {
     @Getter
     final private int maxEntriesInCache;
 
+    /**
+     * Maximum estimated size in bytes of metadata entries to keep in cache.
+     * When set to a positive value this limit is used instead of {@link #maxEntriesInCache}.
+     */
+    @Getter
+    final private long maxCacheSizeInBytes;
+
+    /**
+     * Maximum number of metadata entries to load using a single batched read.
+     * Setting this to zero disables prefetching.
+     */
+    @Getter
+    final private int maxEntriesToPrefetch;
+
+    /**
+     * Maximum number of chunk reads or writes a single read or write operation may have in flight.
+     */
+    @Getter
+    final private int maxConcurrentChunkIOPerOperation;
+
+    /**
+     * Maximum number of chunk reads or writes that all operations together may have in flight.
+     */
+    @Getter
+    final private int maxConcurrentChunkIO;
+
+    /**
+     * Maximum size of each part when a large write is split into parts that are written in parallel.
+     * Parts are written only when appends are disabled, each part becomes a separate chunk.
+     * Setting this to zero splits writes only at rolling boundaries.
+     */
+    @Getter
+    final private long maxWritePartSize;
+
+    /**
+     * Maximum size of a write that is coalesced with writes to other segments into a shared chunk.
+     * Writes are coalesced only when appends are disabled. Setting this to zero disables coalescing.
+     */
+    @Getter
+    final private int maxCoalescedWriteSize;
+
+    /**
+     * Maximum size of a shared chunk that contains coalesced writes.
+     */
+    @Getter
+    final private int maxCoalescedChunkSize;
+
     /**
      * Duration between two system journal snapshot.
      */
@@ -360,6 +421,13 @@ public class ChunkedSegmentStorageConfig {
         this.indexBlockSize = properties.getPositiveLong(READ_INDEX_BLOCK_SIZE);
         this.maxEntriesInTxnBuffer = properties.getPositiveInt(MAX_METADATA_ENTRIES_IN_BUFFER);
         this.maxEntriesInCache = properties.getPositiveInt(MAX_METADATA_ENTRIES_IN_CACHE);
+        this.maxCacheSizeInBytes = properties.getLong(MAX_METADATA_CACHE_SIZE_BYTES);
+        this.maxEntriesToPrefetch = properties.getNonNegativeInt(MAX_METADATA_ENTRIES_TO_PREFETCH);
+        this.maxConcurrentChunkIOPerOperation = properties.getPositiveInt(MAX_CONCURRENT_CHUNK_IO_PER_OPERATION);
+        this.maxConcurrentChunkIO = properties.getPositiveInt(MAX_CONCURRENT_CHUNK_IO);
+        this.maxWritePartSize = properties.getLong(MAX_WRITE_PART_SIZE);
+        this.maxCoalescedWriteSize = properties.getNonNegativeInt(MAX_COALESCED_WRITE_SIZE);
+        this.maxCoalescedChunkSize = properties.getPositiveInt(MAX_COALESCED_CHUNK_SIZE);
         this.maxSafeStorageSize = properties.getPositiveLong(MAX_SAFE_SIZE);
         this.safeStorageSizeCheckEnabled = properties.getBoolean(ENABLE_SAFE_SIZE_CHECK);
         this.safeStorageSizeCheckFrequencyInSeconds = properties.getPositiveInt(SAFE_SIZE_CHECK_FREQUENCY);
@@ -21,9 +21,11 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.segmentstore.storage.metadata.ChunkMetadata;
 import io.pravega.segmentstore.storage.metadata.MetadataTransaction;
 import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
 import java.util.concurrent.Callable;
@@ -65,6 +67,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * <li>
  * Defrag operation will respect max rolling size and will not create chunks greater than that size.
  * </li>
+ * <li>
+ * Slices of shared chunks (see {@link ChunkMetadata#isSlice()}) can not be concatenated. Instead, before anything else,
+ * each run of consecutive slices is copied into a new chunk owned by the segment. The slices are then garbage collected,
+ * which releases the space they reference in their shared chunks. A shared chunk is deleted once all of its slices are released.
+ * Segments that are never concatenated have their slices repacked by the {@link GarbageCollector} instead, some time after
+ * they were written (see {@link #repackAllSlices()}).
+ * </li>
  * </ul>
  * <ul>
  * What controls whether we invoke concat or simulate through appends?
@@ -125,6 +134,9 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
     private final AtomicLong bytesToRead = new AtomicLong();
     private final AtomicInteger currentArgIndex = new AtomicInteger();
     private final AtomicLong currentIndexOffset = new AtomicLong();
+    private final AtomicInteger chunksAdded = new AtomicInteger();
+    private volatile ChunkMetadata lastRepackedSlice;
+    private volatile ChunkMetadata lastRepackedChunk;
 
     DefragmentOperation(ChunkedSegmentStorage chunkedSegmentStorage,
                         MetadataTransaction txn,
@@ -157,7 +169,7 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
 
         // Iterate through chunk list
         // Make sure no invariants are broken.
-        return Futures.loop(
+        return repackSlices(false).thenComposeAsync(v0 -> Futures.loop(
                 () -> null != targetChunkName && !targetChunkName.equals(lastChunkName),
                 () -> gatherChunks()
                         .thenComposeAsync(v -> {
@@ -204,16 +216,164 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
                                 useAppend.set(!useAppend.get());
                             }, chunkedSegmentStorage.getExecutor());
                         }, chunkedSegmentStorage.getExecutor()),
-                chunkedSegmentStorage.getExecutor())
+                chunkedSegmentStorage.getExecutor()), chunkedSegmentStorage.getExecutor())
                 .thenComposeAsync(vvv -> {
-                    Preconditions.checkState(oldChunkCount - chunksToDelete.size() == segmentMetadata.getChunkCount(),
-                            "Number of chunks do not match. old value (%s) - number of chunks deleted (%s) must match current chunk count(%s)",
-                            oldChunkCount, chunksToDelete.size(), segmentMetadata.getChunkCount());
+                    Preconditions.checkState(oldChunkCount - chunksToDelete.size() + chunksAdded.get() == segmentMetadata.getChunkCount(),
+                            "Number of chunks do not match. old value (%s) - number of chunks deleted (%s) + number of chunks added (%s) must match current chunk count(%s)",
+                            oldChunkCount, chunksToDelete.size(), chunksAdded.get(), segmentMetadata.getChunkCount());
                     segmentMetadata.checkInvariants();
                     return updateReadIndex();
                 }, chunkedSegmentStorage.getExecutor());
     }
 
+    /**
+     * Replaces every slice of the segment with chunks owned by the segment, without concatenating any other chunks.
+     * Unlike {@link #call()}, this also replaces single slices and the start chunk, which must be the first chunk of
+     * the segment. Read index entries are only added for the new chunks.
+     *
+     * @return A CompletableFuture that, when completed, will indicate the operation succeeded.
+     * If the operation failed, it will contain the cause of the failure.
+     */
+    CompletableFuture<Void> repackAllSlices() {
+        Preconditions.checkState(startChunkName.equals(segmentMetadata.getFirstChunk()),
+                "Start chunk (%s) must be the first chunk of the segment. Segment=%s", startChunkName, segmentMetadata);
+        val oldChunkCount = segmentMetadata.getChunkCount();
+        return repackSlices(true)
+                .thenRunAsync(() -> {
+                    Preconditions.checkState(oldChunkCount - chunksToDelete.size() + chunksAdded.get() == segmentMetadata.getChunkCount(),
+                            "Number of chunks do not match. old value (%s) - number of chunks deleted (%s) + number of chunks added (%s) must match current chunk count(%s)",
+                            oldChunkCount, chunksToDelete.size(), chunksAdded.get(), segmentMetadata.getChunkCount());
+                    segmentMetadata.checkInvariants();
+                }, chunkedSegmentStorage.getExecutor());
+    }
+
+    /**
+     * Replaces runs of consecutive slices with a new chunk that contains a copy of their data.
+     * Runs are limited to max rolling length and to the size of the buffer used to transfer chunk data.
+     *
+     * @param includeAll If false, only runs of two or more slices after the start chunk are replaced. The start chunk
+     *                   itself is not replaced then, since the chunk pointing to it is not known here.
+     *                   If true, every slice is replaced and the start chunk must be the first chunk of the segment.
+     */
+    private CompletableFuture<Void> repackSlices(boolean includeAll) {
+        val chunks = new Vector<ChunkMetadata>();
+        return new ChunkIterator(chunkedSegmentStorage.getExecutor(), txn, startChunkName, lastChunkName)
+                .forEach((metadata, name) -> chunks.add(metadata))
+                .thenComposeAsync(v -> {
+                    val maxRunLength = Math.min(segmentMetadata.getMaxRollinglength(),
+                            chunkedSegmentStorage.getConfig().getMaxBufferSizeForChunkDataTransfer());
+                    val minRunSize = includeAll ? 1 : 2;
+                    val runs = new ArrayList<SliceRun>();
+                    SliceRun run = null;
+                    long offset = currentIndexOffset.get();
+                    for (int i = 0; i < chunks.size(); i++) {
+                        val chunk = chunks.get(i);
+                        if (null != run && (!chunk.isSlice() || run.length + chunk.getLength() > maxRunLength)) {
+                            if (run.slices.size() >= minRunSize) {
+                                runs.add(run);
+                            }
+                            run = null;
+                        }
+                        if ((i > 0 || includeAll) && chunk.isSlice() && chunk.getLength() <= maxRunLength) {
+                            if (null == run) {
+                                run = new SliceRun(i > 0 ? chunks.get(i - 1) : null, offset);
+                            }
+                            run.slices.add(chunk);
+                            run.length += chunk.getLength();
+                        }
+                        offset += chunk.getLength();
+                    }
+                    if (null != run && run.slices.size() >= minRunSize) {
+                        runs.add(run);
+                    }
+                    return Futures.loop(runs, r -> repack(r, includeAll).thenApply(vv -> true), chunkedSegmentStorage.getExecutor());
+                }, chunkedSegmentStorage.getExecutor());
+    }
+
+    private CompletableFuture<Void> repack(SliceRun run, boolean addReadIndexEntries) {
+        // If the previous run ended right before this one, its last slice has already been replaced.
+        val previous = null != run.previous && run.previous == lastRepackedSlice ? lastRepackedChunk : run.previous;
+        val last = run.slices.get(run.slices.size() - 1);
+        val newChunkName = chunkedSegmentStorage.getNewChunkName(segmentMetadata.getName(), run.offset);
+        val buffer = new byte[Math.toIntExact(run.length)];
+        val bufferOffset = new AtomicInteger();
+        return Futures.loop(run.slices,
+                        slice -> readSlice(slice, buffer, bufferOffset.getAndAdd(Math.toIntExact(slice.getLength()))).thenApply(v -> true),
+                        chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(v -> chunkedSegmentStorage.getGarbageCollector().trackNewChunk(txn.getVersion(), newChunkName),
+                        chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(v -> chunkedSegmentStorage.getChunkStorage().createWithContent(newChunkName, buffer.length, new ByteArrayInputStream(buffer)),
+                        chunkedSegmentStorage.getExecutor())
+                .thenAcceptAsync(h -> {
+                    val newChunk = ChunkMetadata.builder()
+                            .name(newChunkName)
+                            .length(run.length)
+                            .nextChunk(last.getNextChunk())
+                            .build();
+                    newChunk.setActive(true);
+                    txn.create(newChunk);
+
+                    if (null == previous) {
+                        segmentMetadata.setFirstChunk(newChunkName);
+                    } else {
+                        previous.setNextChunk(newChunkName);
+                        txn.update(previous);
+                    }
+
+                    // The garbage collector releases the bytes referenced by these slices from their shared chunks.
+                    for (val slice : run.slices) {
+                        slice.setActive(false);
+                        txn.update(slice);
+                        chunksToDelete.add(slice.getName());
+                    }
+
+                    if (last.getName().equals(segmentMetadata.getLastChunk())) {
+                        segmentMetadata.setLastChunk(newChunkName);
+                        segmentMetadata.setLastChunkStartOffset(run.offset);
+                    }
+                    segmentMetadata.setChunkCount(segmentMetadata.getChunkCount() - run.slices.size() + 1);
+                    chunksAdded.incrementAndGet();
+                    txn.update(segmentMetadata);
+
+                    if (addReadIndexEntries) {
+                        newReadIndexEntries.add(ChunkNameOffsetPair.builder()
+                                .chunkName(newChunkName)
+                                .offset(run.offset)
+                                .build());
+                        if (!segmentMetadata.isStorageSystemSegment()) {
+                            chunkedSegmentStorage.addBlockIndexEntriesForChunk(txn,
+                                    segmentMetadata.getName(),
+                                    newChunkName,
+                                    run.offset,
+                                    Math.min(Math.max(run.offset, segmentMetadata.getStartOffset()), run.offset + run.length),
+                                    run.offset + run.length);
+                        }
+                    }
+
+                    lastRepackedSlice = last;
+                    lastRepackedChunk = newChunk;
+                    log.debug("{} defrag - repacked slices op={}, segment={}, chunk={}, slices={}, length={}.",
+                            chunkedSegmentStorage.getLogPrefix(), System.identityHashCode(this), segmentMetadata.getName(),
+                            newChunkName, run.slices.size(), run.length);
+                }, chunkedSegmentStorage.getExecutor());
+    }
+
+    private CompletableFuture<Void> readSlice(ChunkMetadata slice, byte[] buffer, int bufferOffset) {
+        val bytesRead = new AtomicLong();
+        return Futures.loop(
+                () -> bytesRead.get() < slice.getLength(),
+                () -> chunkedSegmentStorage.getChunkStorage().read(ChunkHandle.readHandle(slice.getStorageChunkName()),
+                                slice.getOffsetInSharedChunk() + bytesRead.get(),
+                                Math.toIntExact(slice.getLength() - bytesRead.get()),
+                                buffer,
+                                Math.toIntExact(bufferOffset + bytesRead.get()))
+                        .thenAcceptAsync(size -> {
+                            Preconditions.checkState(size > 0, "Unable to read slice %s.", slice);
+                            bytesRead.addAndGet(size);
+                        }, chunkedSegmentStorage.getExecutor()),
+                chunkedSegmentStorage.getExecutor());
+    }
+
     private CompletableFuture<Void> concatChunks() {
         val concatArgs = new ConcatArgument[chunksToConcat.size()];
         for (int i = 0; i < chunksToConcat.size(); i++) {
@@ -290,6 +450,11 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
 
                     nextChunkName = target.getNextChunk();
 
+                    // Slices of shared chunks can not be concatenated.
+                    if (target.isSlice()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+
                     // Skip over when first chunk is smaller than min concat size or is greater than max concat size.
                     if (!chunkedSegmentStorage.shouldAppend()) {
                         if (target.getLength() <= chunkedSegmentStorage.getConfig().getMinSizeLimitForConcat()
@@ -318,7 +483,7 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
     }
 
     private boolean shouldContinue() {
-        if (null == nextChunkName) {
+        if (null == nextChunkName || next.isSlice()) {
             return false;
         }
         // Make sure target size is below max rolling size.
@@ -418,4 +583,21 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
                     currentIndexOffset.addAndGet(metadata.getLength());
                 });
     }
+
+    /**
+     * Consecutive slices to be replaced with a single new chunk.
+     */
+    @RequiredArgsConstructor
+    private static class SliceRun {
+        /**
+         * Chunk right before the first slice, or null if the first slice is the first chunk of the segment.
+         */
+        private final ChunkMetadata previous;
+        /**
+         * Offset of the first slice within the segment.
+         */
+        private final long offset;
+        private final List<ChunkMetadata> slices = new ArrayList<>();
+        private long length;
+    }
 }
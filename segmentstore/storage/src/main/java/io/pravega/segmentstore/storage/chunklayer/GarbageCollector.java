@@ -66,6 +66,7 @@ import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLT
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SEGMENT_PROCESSED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SEGMENT_QUEUED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SEGMENT_RETRY;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SLICE_RELEASED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_TASK_PROCESSED;
 import static io.pravega.shared.MetricsNames.SLTS_GC_QUEUE_SIZE;
 
@@ -110,6 +111,11 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
 
     private final Function<Duration, CompletableFuture<Void>> delaySupplier;
 
+    /**
+     * Function that replaces the slices of given segment with chunks owned by the segment.
+     */
+    private final Function<String, CompletableFuture<Void>> sliceRepacker;
+
     private final ScheduledExecutorService storageExecutor;
 
     @Getter
@@ -163,11 +169,35 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
                             ScheduledExecutorService storageExecutor,
                             Supplier<Long> currentTimeSupplier,
                             Function<Duration, CompletableFuture<Void>> delaySupplier) {
+        this(containerId, chunkStorage, metadataStore, config, storageExecutor, currentTimeSupplier, delaySupplier,
+                segmentName -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param containerId         Container id of the owner container.
+     * @param chunkStorage        ChunkStorage instance to use for writing all logs.
+     * @param metadataStore       ChunkMetadataStore for owner container.
+     * @param config              Configuration options for this ChunkedSegmentStorage instance.
+     * @param storageExecutor     ScheduledExecutorService to use for storage operations.
+     * @param currentTimeSupplier Function that supplies current time.
+     * @param delaySupplier       Function that supplies delay future.
+     * @param sliceRepacker       Function that replaces the slices of given segment with chunks owned by the segment.
+     */
+    public GarbageCollector(int containerId, ChunkStorage chunkStorage,
+                            ChunkMetadataStore metadataStore,
+                            ChunkedSegmentStorageConfig config,
+                            ScheduledExecutorService storageExecutor,
+                            Supplier<Long> currentTimeSupplier,
+                            Function<Duration, CompletableFuture<Void>> delaySupplier,
+                            Function<String, CompletableFuture<Void>> sliceRepacker) {
         this.chunkStorage = Preconditions.checkNotNull(chunkStorage, "chunkStorage");
         this.metadataStore = Preconditions.checkNotNull(metadataStore, "metadataStore");
         this.config = Preconditions.checkNotNull(config, "config");
         this.currentTimeSupplier = Preconditions.checkNotNull(currentTimeSupplier, "currentTimeSupplier");
         this.delaySupplier = Preconditions.checkNotNull(delaySupplier, "delaySupplier");
+        this.sliceRepacker = Preconditions.checkNotNull(sliceRepacker, "sliceRepacker");
         this.storageExecutor = Preconditions.checkNotNull(storageExecutor, "storageExecutor");
         this.traceObjectId = String.format("GarbageCollector[%d]", containerId);
         this.taskQueueName = String.format("GC.queue.%d", containerId);
@@ -250,6 +280,26 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
                 }, this.storageExecutor);
     }
 
+    /**
+     * Schedules the slices of given segment to be repacked into chunks owned by the segment.
+     * Until then, each slice keeps its entire shared chunk from being deleted.
+     *
+     * @param transactionId Transaction id.
+     * @param segmentName   Name of the segment.
+     * @return A CompletableFuture that, when completed, will indicate the operation succeeded.
+     * If the operation failed, it will contain the cause of the failure.
+     */
+    CompletableFuture<Void> addSegmentToRepack(long transactionId, String segmentName) {
+        Preconditions.checkState(null != taskQueue, "taskQueue must not be null.");
+        val startTime = currentTimeSupplier.get() + config.getGarbageCollectionDelay().toMillis();
+        return addSegmentToRepack(new TaskInfo(segmentName, startTime, 0, TaskInfo.REPACK_SEGMENT, transactionId));
+    }
+
+    private CompletableFuture<Void> addSegmentToRepack(TaskInfo taskInfo) {
+        return taskQueue.addTask(taskQueueName, taskInfo)
+                .thenRunAsync(queueSize::incrementAndGet, this.storageExecutor);
+    }
+
     /**
      * Adds new chunk to track
      *
@@ -511,6 +561,9 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
         if (infoToDelete.taskType == TaskInfo.DELETE_JOURNAL) {
             return deleteChunk(infoToDelete);
         }
+        if (infoToDelete.taskType == TaskInfo.REPACK_SEGMENT) {
+            return repackSegment(infoToDelete);
+        }
         log.info("{}: processTask - Ignoring unknown type of task {}.", traceObjectId, infoToDelete);
         return CompletableFuture.completedFuture(null);
     }
@@ -522,6 +575,15 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
         return txn.get(infoToDelete.name)
                 .thenComposeAsync(metadata -> {
                     val chunkMetadata = (ChunkMetadata) metadata;
+                    // Slices do not have their own storage chunk, instead release the bytes they reference in the shared chunk.
+                    if (null != chunkMetadata && chunkMetadata.isSlice() && !chunkMetadata.isActive()) {
+                        return executeSerialized(() -> releaseSlice(chunkToDelete, chunkMetadata.getSharedChunkName()), chunkMetadata.getSharedChunkName())
+                                .exceptionally(e -> {
+                                    log.warn("{}: deleteGarbage - Could not release garbage slice={}.", traceObjectId, chunkToDelete);
+                                    failed.set(e);
+                                    return null;
+                                });
+                    }
                     // Delete if the chunk is not present at all in the metadata or is present but marked as inactive.
                     val shouldDeleteChunk = null == chunkMetadata || !chunkMetadata.isActive();
                     val shouldDeleteMetadata = new AtomicBoolean(null != metadata && !chunkMetadata.isActive());
@@ -592,6 +654,69 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
                 }, storageExecutor);
     }
 
+    /**
+     * Repacks the slices of the segment, retrying later if that fails.
+     */
+    private CompletableFuture<Void> repackSegment(TaskInfo taskInfo) {
+        val segmentName = taskInfo.getName();
+        return Futures.exceptionallyCompose(sliceRepacker.apply(segmentName)
+                        .thenRunAsync(() -> log.debug("{}: repackSegment - repacked slices of segment={}.", traceObjectId, segmentName), storageExecutor),
+                ex -> {
+                    log.warn("{}: repackSegment - Could not repack slices of segment={}.", traceObjectId, segmentName, ex);
+                    if (taskInfo.getAttempts() < config.getGarbageCollectionMaxAttempts()) {
+                        log.debug("{}: repackSegment - adding back segment={}.", traceObjectId, segmentName);
+                        return addSegmentToRepack(taskInfo.toBuilder()
+                                .scheduledTime(currentTimeSupplier.get() + config.getGarbageCollectionDelay().toMillis())
+                                .attempts(taskInfo.getAttempts() + 1)
+                                .build());
+                    } else {
+                        log.info("{}: repackSegment - could not repack after max attempts segment={}.", traceObjectId, segmentName);
+                        return failTask(taskInfo);
+                    }
+                });
+    }
+
+    /**
+     * Releases the bytes referenced by given inactive slice from its shared chunk and deletes the metadata for the slice.
+     * Once no bytes in the shared chunk are referenced, the shared chunk is marked inactive and queued for deletion.
+     * Calls for the same shared chunk must be serialized.
+     */
+    private CompletableFuture<Void> releaseSlice(String sliceName, String sharedChunkName) {
+        val txn = metadataStore.beginTransaction(false, sliceName, sharedChunkName);
+        val isSharedChunkGarbage = new AtomicBoolean();
+        return txn.get(sliceName)
+                .thenComposeAsync(metadata -> {
+                    val sliceMetadata = (ChunkMetadata) metadata;
+                    // Skip if the slice is possibly released in last attempt.
+                    if (null == sliceMetadata || sliceMetadata.isActive()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return txn.get(sharedChunkName)
+                            .thenComposeAsync(sharedMetadata -> {
+                                val sharedChunkMetadata = (ChunkMetadata) sharedMetadata;
+                                CompletableFuture<Void> retFuture = CompletableFuture.completedFuture(null);
+                                if (null != sharedChunkMetadata && sharedChunkMetadata.isActive()) {
+                                    sharedChunkMetadata.setLength(Math.max(0, sharedChunkMetadata.getLength() - sliceMetadata.getLength()));
+                                    if (0 == sharedChunkMetadata.getLength()) {
+                                        // Queue the shared chunk before commit, the task is only processed after this transaction completes.
+                                        sharedChunkMetadata.setActive(false);
+                                        isSharedChunkGarbage.set(true);
+                                        retFuture = addChunksToGarbage(txn.getVersion(), Collections.singletonList(sharedChunkName));
+                                    }
+                                    txn.update(sharedChunkMetadata);
+                                }
+                                txn.delete(sliceName);
+                                return retFuture.thenComposeAsync(v -> txn.commit(), storageExecutor);
+                            }, storageExecutor)
+                            .thenRunAsync(() -> {
+                                SLTS_GC_SLICE_RELEASED.inc();
+                                log.debug("{}: deleteGarbage - released slice={} sharedChunk={} isSharedChunkGarbage={}.",
+                                        traceObjectId, sliceName, sharedChunkName, isSharedChunkGarbage.get());
+                            }, storageExecutor);
+                }, storageExecutor)
+                .whenCompleteAsync((v, ex) -> txn.close(), storageExecutor);
+    }
+
     @Override
     public void close() throws Exception {
         if (!this.closed.get()) {
@@ -614,6 +739,7 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
         public static final int DELETE_CHUNK = 1;
         public static final int DELETE_SEGMENT = 2;
         public static final int DELETE_JOURNAL = 3;
+        public static final int REPACK_SEGMENT = 4;
 
         /**
          * Serializer that implements {@link VersionedSerializer}.
@@ -209,6 +209,31 @@ class ReadIndexCache implements StatsReporter {
         return null;
     }
 
+    /**
+     * Finds names of the chunks that are known to start within the given range of offsets.
+     *
+     * @param streamSegmentName Name of the segment.
+     * @param fromOffset        Start offset of the range (inclusive).
+     * @param toOffset          End offset of the range (exclusive).
+     * @param maxCount          Maximum number of chunk names to return.
+     * @return                  List of chunk names ordered by their start offsets.
+     */
+    public List<String> findChunks(String streamSegmentName, long fromOffset, long toOffset, int maxCount) {
+        Preconditions.checkArgument(null != streamSegmentName, "streamSegmentName");
+        Preconditions.checkArgument(fromOffset >= 0, "fromOffset must be non-negative. Segment=%s fromOffset=%s", streamSegmentName, fromOffset);
+        val chunkNames = new ArrayList<String>();
+        val segmentReadIndex = getSegmentReadIndex(streamSegmentName, false);
+        if (null != segmentReadIndex && fromOffset < toOffset) {
+            for (val indexEntry : segmentReadIndex.offsetToChunkNameIndex.subMap(fromOffset, toOffset).values()) {
+                if (chunkNames.size() >= maxCount) {
+                    break;
+                }
+                chunkNames.add(indexEntry.getChunkName());
+            }
+        }
+        return chunkNames;
+    }
+
     /**
      * Truncates the read index for given segment by removing all the chunks that are below given offset.
      *  @param streamSegmentName Name of the segment to truncate.
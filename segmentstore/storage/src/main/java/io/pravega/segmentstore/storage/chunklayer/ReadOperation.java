@@ -30,6 +30,8 @@ import io.pravega.shared.NameUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Vector;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +46,7 @@ import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLT
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_READ_INDEX_SCAN_LATENCY;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_READ_INSTANT_TPUT;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_READ_LATENCY;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_READ_PARALLELISM;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_SYSTEM_NUM_CHUNKS_READ;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_SYSTEM_READ_BYTES;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_SYSTEM_READ_LATENCY;
@@ -73,6 +76,7 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
     private final AtomicInteger cntScanned = new AtomicInteger();
     private volatile int bytesToRead;
     private final AtomicInteger cntChunksRead = new AtomicInteger();
+    private final ChunkIOLimiter chunkIOLimiter;
 
     ReadOperation(ChunkedSegmentStorage chunkedSegmentStorage, SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length) {
         this.handle = handle;
@@ -81,6 +85,7 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
         this.bufferOffset = bufferOffset;
         this.length = length;
         this.chunkedSegmentStorage = chunkedSegmentStorage;
+        this.chunkIOLimiter = chunkedSegmentStorage.createChunkIOLimiter(handle.getSegmentName());
         traceId = LoggerHelpers.traceEnter(log, "read", handle, offset, length);
         timer = new Timer();
     }
@@ -129,6 +134,7 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
         Duration elapsed = timer.getElapsed();
         SLTS_READ_LATENCY.reportSuccessEvent(elapsed);
         SLTS_NUM_CHUNKS_READ.reportSuccessValue(cntChunksRead.get());
+        SLTS_READ_PARALLELISM.reportSuccessValue(chunkIOLimiter.getMaxInFlightCount());
         SLTS_READ_BYTES.add(length);
         if (segmentMetadata.isStorageSystemSegment()) {
             SLTS_SYSTEM_READ_LATENCY.reportSuccessEvent(elapsed);
@@ -174,11 +180,14 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                         Preconditions.checkState(bytesToRead != 0, "bytesToRead is 0. Segment=%s", segmentMetadata.getName());
                         // Read data from the chunk.
                         return CompletableFuture.runAsync(() -> {
-                            // Create parallel requests to read each chunk.
-                            chunkReadFutures.add(readChunk(chunkToReadFrom.getName(),
-                                    currentOffset.get() - startOffsetForCurrentChunk.get(),
-                                    bytesToRead,
-                                    currentBufferOffset.get()));
+                            // Create parallel requests to read each chunk, bounded by the concurrency budget.
+                            // Each request copies into its own range of the buffer, so the data is assembled in order.
+                            // Slices of a shared chunk are read from the shared chunk at their offset within it.
+                            val chunkName = chunkToReadFrom.getStorageChunkName();
+                            val fromOffset = chunkToReadFrom.getOffsetInSharedChunk() + currentOffset.get() - startOffsetForCurrentChunk.get();
+                            val chunkBytesToRead = bytesToRead;
+                            val chunkBufferOffset = currentBufferOffset.get();
+                            chunkReadFutures.add(chunkIOLimiter.run(() -> readChunk(chunkName, fromOffset, chunkBytesToRead, chunkBufferOffset)));
                             log.trace("{} read - reading chunk - op={}, segment={}, chunk={} offset={} length={} bufferOffset={}",
                                     chunkedSegmentStorage.getLogPrefix(),
                                     System.identityHashCode(this), handle.getSegmentName(),
@@ -255,7 +264,9 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
         CompletableFuture<Void>  f;
         if (!shouldOnlyReadLastChunk && !segmentMetadata.isStorageSystemSegment() && startOffsetForCurrentChunk.get() < floorBlockStartOffset) {
             val indexLookupTimer = new Timer();
-            f = txn.get(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), floorBlockStartOffset))
+            f = prefetchIndexBlocks(floorBlockStartOffset)
+                    .thenComposeAsync(v -> txn.get(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), floorBlockStartOffset)),
+                            chunkedSegmentStorage.getExecutor())
                     .thenAcceptAsync(storageMetadata -> {
                         if (null != storageMetadata) {
                             ReadIndexBlockMetadata blockMetadata = (ReadIndexBlockMetadata) storageMetadata;
@@ -266,14 +277,16 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                                         chunkedSegmentStorage.getLogPrefix(), System.identityHashCode(this),
                                         handle.getSegmentName(), currentChunkName, startOffsetForCurrentChunk.get(), offset);
 
-                                // Note: This just is prefetch call. Do not wait.
-                                val nextBlock = getFloorBlockStartOffset(offset + length);
-                                if (nextBlock >  floorBlockStartOffset + chunkedSegmentStorage.getConfig().getIndexBlockSize()) {
-                                    // We read multiple blocks already
-                                    txn.get(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), nextBlock));
-                                } else {
-                                    // Prefetch next block index entry.
-                                    txn.get(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), floorBlockStartOffset + chunkedSegmentStorage.getConfig().getIndexBlockSize()));
+                                if (!isPrefetchEnabled()) {
+                                    // Note: This just is prefetch call. Do not wait.
+                                    val nextBlock = getFloorBlockStartOffset(offset + length);
+                                    if (nextBlock >  floorBlockStartOffset + chunkedSegmentStorage.getConfig().getIndexBlockSize()) {
+                                        // We read multiple blocks already
+                                        txn.get(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), nextBlock));
+                                    } else {
+                                        // Prefetch next block index entry.
+                                        txn.get(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), floorBlockStartOffset + chunkedSegmentStorage.getConfig().getIndexBlockSize()));
+                                    }
                                 }
                             } else {
                                 log.warn("{} read - block entry offset must be floor to requested offset. op={} segment={} offset={} length={} block={}",
@@ -329,7 +342,7 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                     }
 
                     // Prefetch possible chunks for next read.
-                    if (chunkToReadFrom.getNextChunk() != null) {
+                    if (chunkToReadFrom.getNextChunk() != null && !isPrefetchEnabled()) {
                         // Do not wait.
                         txn.get(chunkToReadFrom.getNextChunk());
                     }
@@ -337,10 +350,61 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                     log.debug("{} read - chunk lookup - op={}, segment={}, offset={}, scanned={}, latency={}.",
                             chunkedSegmentStorage.getLogPrefix(), System.identityHashCode(this),
                             handle.getSegmentName(), offset, cntScanned.get(), elapsed.toMillis());
-                }, chunkedSegmentStorage.getExecutor()),
+                }, chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(v -> prefetchChunks(), chunkedSegmentStorage.getExecutor()),
         chunkedSegmentStorage.getExecutor());
     }
 
+    private boolean isPrefetchEnabled() {
+        return chunkedSegmentStorage.getConfig().getMaxEntriesToPrefetch() > 0;
+    }
+
+    /**
+     * Loads all read index block entries from the given block up to the one following the end of this read in a single batch.
+     */
+    private CompletableFuture<Void> prefetchIndexBlocks(long floorBlockStartOffset) {
+        if (!isPrefetchEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        val blockSize = chunkedSegmentStorage.getConfig().getIndexBlockSize();
+        val lastBlockStartOffset = getFloorBlockStartOffset(offset + length) + blockSize;
+        val keys = new ArrayList<String>();
+        for (long blockStartOffset = floorBlockStartOffset;
+             blockStartOffset <= lastBlockStartOffset && keys.size() < chunkedSegmentStorage.getConfig().getMaxEntriesToPrefetch();
+             blockStartOffset += blockSize) {
+            keys.add(NameUtils.getSegmentReadIndexBlockName(segmentMetadata.getName(), blockStartOffset));
+        }
+        return prefetch(keys);
+    }
+
+    /**
+     * Loads metadata for the chunks following the current chunk in a single batch.
+     * Apart from the next chunk, only the chunks already present in the read index cache can be known in advance.
+     * Waits for the prefetch only if those chunks are needed to complete this read.
+     */
+    private CompletableFuture<Void> prefetchChunks() {
+        if (!isPrefetchEnabled() || null == chunkToReadFrom.getNextChunk()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        val nextChunkStartOffset = startOffsetForCurrentChunk.get() + chunkToReadFrom.getLength();
+        val keys = new ArrayList<String>();
+        keys.add(chunkToReadFrom.getNextChunk());
+        keys.addAll(chunkedSegmentStorage.getReadIndexCache().findChunks(handle.getSegmentName(), nextChunkStartOffset + 1, offset + length,
+                chunkedSegmentStorage.getConfig().getMaxEntriesToPrefetch() - 1));
+        val future = prefetch(keys);
+        return nextChunkStartOffset < offset + length ? future : CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> prefetch(List<String> keys) {
+        return chunkedSegmentStorage.getMetadataStore().prefetch(keys)
+                .exceptionally(ex -> {
+                    // Prefetch is only an optimization, any real problem is reported when the metadata is actually read.
+                    log.debug("{} read - prefetch failed - op={}, segment={}, keys={}.", chunkedSegmentStorage.getLogPrefix(),
+                            System.identityHashCode(this), handle.getSegmentName(), keys, ex);
+                    return null;
+                });
+    }
+
     private long getFloorBlockStartOffset(long offsetToRead) {
         val floorBlock = offsetToRead / chunkedSegmentStorage.getConfig().getIndexBlockSize();
         val floorBlockStartOffset = floorBlock * chunkedSegmentStorage.getConfig().getIndexBlockSize();
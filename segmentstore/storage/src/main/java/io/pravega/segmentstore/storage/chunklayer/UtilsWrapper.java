@@ -22,6 +22,7 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.storage.metadata.BaseMetadataStore;
 
+import io.pravega.segmentstore.storage.metadata.ChunkMetadata;
 import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -148,6 +150,7 @@ public class UtilsWrapper {
 
     /**
      * Copy the contents of given chunk to provided {@link OutputStream}.
+     * If the chunk is a slice of a shared chunk, only the range of the shared chunk that belongs to the slice is copied.
      *
      * @param chunkName Name of the chunk.
      * @param outputStream Instance of {@link OutputStream} to copy to.
@@ -158,38 +161,60 @@ public class UtilsWrapper {
         Preconditions.checkNotNull(chunkName, "chunkName");
         Preconditions.checkNotNull(outputStream, "outputStream");
 
-        byte[] buffer = new byte[bufferSize];
-
-        return chunkedSegmentStorage.getChunkStorage().getInfo(chunkName)
-                .thenComposeAsync(info -> {
-                    val bytesRemaining = new AtomicLong(info.getLength());
-                    val offsetToRead = new AtomicLong(0);
-                    return chunkedSegmentStorage.getChunkStorage().openRead(chunkName)
-                            .thenComposeAsync(handle -> Futures.loop(
-                                    () -> bytesRemaining.get() > 0,
-                                    () -> chunkedSegmentStorage.getChunkStorage().read(handle,
-                                                    offsetToRead.get(),
-                                                    Math.toIntExact(Math.min(bytesRemaining.get(), buffer.length)),
-                                                    buffer,
-                                                    0)
-                                            .thenComposeAsync(bytesRead -> {
-                                                bytesRemaining.addAndGet(-bytesRead);
-                                                offsetToRead.addAndGet(bytesRead);
-                                                try {
-                                                    outputStream.write(buffer, 0, bytesRead);
-                                                    return completedFuture(null);
-                                                } catch (Exception e) {
-                                                    return CompletableFuture.failedFuture(e);
-                                                }
-                                            }, chunkedSegmentStorage.getExecutor()),
-                                        chunkedSegmentStorage.getExecutor()),
+        return getChunkMetadata(chunkName)
+                .thenComposeAsync(chunkMetadata -> {
+                    if (null != chunkMetadata && chunkMetadata.isSlice()) {
+                        return copyFromStorageChunk(chunkMetadata.getSharedChunkName(), chunkMetadata.getOffsetInSharedChunk(),
+                                chunkMetadata.getLength(), outputStream);
+                    }
+                    return chunkedSegmentStorage.getChunkStorage().getInfo(chunkName)
+                            .thenComposeAsync(info -> copyFromStorageChunk(chunkName, 0, info.getLength(), outputStream),
                                     chunkedSegmentStorage.getExecutor());
                 }, chunkedSegmentStorage.getExecutor());
+    }
 
+    private CompletableFuture<Void> copyFromStorageChunk(String chunkName, long fromOffset, long length, OutputStream outputStream) {
+        byte[] buffer = new byte[bufferSize];
+        val bytesRemaining = new AtomicLong(length);
+        val offsetToRead = new AtomicLong(fromOffset);
+        return chunkedSegmentStorage.getChunkStorage().openRead(chunkName)
+                .thenComposeAsync(handle -> Futures.loop(
+                        () -> bytesRemaining.get() > 0,
+                        () -> chunkedSegmentStorage.getChunkStorage().read(handle,
+                                        offsetToRead.get(),
+                                        Math.toIntExact(Math.min(bytesRemaining.get(), buffer.length)),
+                                        buffer,
+                                        0)
+                                .thenComposeAsync(bytesRead -> {
+                                    bytesRemaining.addAndGet(-bytesRead);
+                                    offsetToRead.addAndGet(bytesRead);
+                                    try {
+                                        outputStream.write(buffer, 0, bytesRead);
+                                        return completedFuture(null);
+                                    } catch (Exception e) {
+                                        return CompletableFuture.failedFuture(e);
+                                    }
+                                }, chunkedSegmentStorage.getExecutor()),
+                            chunkedSegmentStorage.getExecutor()),
+                        chunkedSegmentStorage.getExecutor());
+    }
+
+    /**
+     * Gets the metadata for the given chunk.
+     *
+     * @param chunkName Name of the chunk.
+     * @return A CompletableFuture that, when completed, will contain the {@link ChunkMetadata}, or null if there is none.
+     */
+    private CompletableFuture<ChunkMetadata> getChunkMetadata(String chunkName) {
+        return ChunkedSegmentStorage.tryWith(
+                chunkedSegmentStorage.getMetadataStore().beginTransaction(true, chunkName),
+                txn -> txn.get(chunkName).thenApplyAsync(metadata -> (ChunkMetadata) metadata, chunkedSegmentStorage.getExecutor()),
+                chunkedSegmentStorage.getExecutor());
     }
 
     /**
      * Overwrites the given chunk on the storage with given data.
+     * Slices of shared chunks can not be overwritten, since that would also overwrite the data of other slices.
      *
      * @param chunkName Name of the chunk to overwrite.
      * @param inputStream {@link InputStream} which contains data to write.
@@ -200,7 +225,14 @@ public class UtilsWrapper {
     public CompletableFuture<Void> overwriteChunk(String chunkName, InputStream inputStream, int length) {
         Preconditions.checkNotNull(chunkName, "chunkName");
         Preconditions.checkNotNull(inputStream, "inputStream");
-        return chunkedSegmentStorage.getChunkStorage().openWrite(chunkName)
+        return getChunkMetadata(chunkName)
+                .thenComposeAsync(chunkMetadata -> {
+                    if (null != chunkMetadata && chunkMetadata.isSlice()) {
+                        throw new CompletionException(new IllegalArgumentException(String.format(
+                                "Chunk %s is a slice of shared chunk %s and can not be overwritten.", chunkName, chunkMetadata.getSharedChunkName())));
+                    }
+                    return chunkedSegmentStorage.getChunkStorage().openWrite(chunkName);
+                }, chunkedSegmentStorage.getExecutor())
                 .thenComposeAsync(deleteHandle -> chunkedSegmentStorage.getChunkStorage().delete(deleteHandle), chunkedSegmentStorage.getExecutor())
                 .thenRunAsync(() -> chunkedSegmentStorage.getChunkStorage().createWithContent(chunkName, length, inputStream), chunkedSegmentStorage.getExecutor());
 
@@ -208,6 +240,7 @@ public class UtilsWrapper {
 
     /**
      * Returns the list of {@link ExtendedChunkInfo} which contain data about all chunks for the segment.
+     * For slices of shared chunks, the storage information is that of the range of the shared chunk that belongs to the slice.
      *
      * @param streamSegmentName Name of the segment.
      * @param checkStorage Whether to retrieve information from underlying {@link ChunkStorage}.
@@ -217,6 +250,7 @@ public class UtilsWrapper {
     public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfoList(String streamSegmentName, boolean checkStorage) {
         Preconditions.checkNotNull(streamSegmentName, "streamSegmentName");
         val infoList = new Vector<ExtendedChunkInfo>();
+        val slices = new ConcurrentHashMap<String, ChunkMetadata>();
         return chunkedSegmentStorage.executeSerialized(() -> ChunkedSegmentStorage.tryWith(
                 chunkedSegmentStorage.getMetadataStore().beginTransaction(true, streamSegmentName),
                 txn ->  txn.get(streamSegmentName)
@@ -226,6 +260,9 @@ public class UtilsWrapper {
                                 val iterator = new ChunkIterator(chunkedSegmentStorage.getExecutor(), txn, segmentMetadata);
                                 val startOffset = new AtomicLong(segmentMetadata.getFirstChunkStartOffset());
                                 iterator.forEach((metadata, name) -> {
+                                    if (metadata.isSlice()) {
+                                        slices.put(name, metadata);
+                                    }
                                     infoList.add(ExtendedChunkInfo.builder()
                                                     .chunkName(name)
                                                     .startOffset(startOffset.get())
@@ -239,13 +276,15 @@ public class UtilsWrapper {
                                     val futures = new ArrayList<CompletableFuture<Void>>();
                                     if (checkStorage) {
                                         for (val info : infoList) {
+                                            val slice = slices.get(info.getChunkName());
+                                            val storageChunkName = null == slice ? info.getChunkName() : slice.getSharedChunkName();
                                             futures.add(
-                                                chunkedSegmentStorage.getChunkStorage().exists(info.getChunkName())
+                                                chunkedSegmentStorage.getChunkStorage().exists(storageChunkName)
                                                     .thenComposeAsync(doesExist -> {
                                                         if (doesExist) {
-                                                            return chunkedSegmentStorage.getChunkStorage().getInfo(info.getChunkName())
+                                                            return chunkedSegmentStorage.getChunkStorage().getInfo(storageChunkName)
                                                                     .thenAcceptAsync(chunkInfo -> {
-                                                                        info.setLengthInStorage(chunkInfo.getLength());
+                                                                        info.setLengthInStorage(getLengthInStorage(slice, chunkInfo.getLength()));
                                                                         info.setExistsInStorage(true);
                                                                     }, chunkedSegmentStorage.getExecutor());
                                                         } else {
@@ -260,6 +299,17 @@ public class UtilsWrapper {
                 chunkedSegmentStorage.getExecutor()), streamSegmentName);
     }
 
+    /**
+     * Gets the number of bytes available in storage for the given slice, given the length of its shared chunk in storage.
+     * For regular chunks (slice is null), this is the length of the chunk in storage.
+     */
+    private static long getLengthInStorage(ChunkMetadata slice, long storageChunkLength) {
+        if (null == slice) {
+            return storageChunkLength;
+        }
+        return Math.max(0, Math.min(slice.getLength(), storageChunkLength - slice.getOffsetInSharedChunk()));
+    }
+
     /**
      * Performs sanity operations on chunk like create chunk, write to the chunk, check if the chunk exists, read back contents to the chunk and delete the chunk.
      *
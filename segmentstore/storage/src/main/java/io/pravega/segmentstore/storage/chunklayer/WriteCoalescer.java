@@ -0,0 +1,189 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.segmentstore.storage.metadata.ChunkMetadata;
+import io.pravega.shared.NameUtils;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.slf4j.Slf4j;
+
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_NUM_WRITES_COALESCED;
+
+/**
+ * Packs small writes to different segments into shared chunks.
+ * This is used when appends are disabled, where otherwise every write to a lightly loaded segment would create a new tiny chunk.
+ *
+ * Writes are committed as a group. While a shared chunk is being written, new writes are queued and all of them are
+ * written together into the next shared chunk, up to the configured maximum size of shared chunk.
+ * For each shared chunk following metadata is committed in a single transaction.
+ * <ul>
+ * <li>Metadata for the shared chunk itself, whose length is the number of bytes that are still referenced by slices.</li>
+ * <li>Metadata for each slice, which records the name of the shared chunk and offset within it. Slices are created as
+ * inactive and the caller is responsible for linking them into the segment and marking them active.</li>
+ * </ul>
+ * Slices that are never linked or are later removed from segment are released by the {@link GarbageCollector}, which
+ * deletes the shared chunk once no bytes in it are referenced.
+ */
+@Slf4j
+class WriteCoalescer {
+    private final ChunkedSegmentStorage chunkedSegmentStorage;
+
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private final ArrayDeque<PendingWrite> pendingWrites = new ArrayDeque<>();
+
+    @GuardedBy("lock")
+    private boolean isFlushing;
+
+    /**
+     * Creates a new instance of WriteCoalescer.
+     *
+     * @param chunkedSegmentStorage {@link ChunkedSegmentStorage} instance.
+     */
+    WriteCoalescer(@NonNull ChunkedSegmentStorage chunkedSegmentStorage) {
+        this.chunkedSegmentStorage = chunkedSegmentStorage;
+    }
+
+    /**
+     * Writes given data as a slice of a shared chunk.
+     * The caller must track the slice with {@link GarbageCollector} before calling this method.
+     *
+     * @param sliceName Name of the slice.
+     * @param data      Data to write.
+     * @return A CompletableFuture that, when completed, indicates that the data is written and metadata for the slice is committed.
+     * If the operation failed, it will contain the cause of the failure.
+     */
+    CompletableFuture<Void> write(@NonNull String sliceName, @NonNull byte[] data) {
+        Preconditions.checkArgument(data.length > 0, "data must not be empty.");
+        val pendingWrite = new PendingWrite(sliceName, data);
+        boolean shouldFlush;
+        synchronized (lock) {
+            pendingWrites.add(pendingWrite);
+            shouldFlush = !isFlushing;
+            isFlushing = true;
+        }
+        if (shouldFlush) {
+            chunkedSegmentStorage.getExecutor().execute(this::flushNext);
+        }
+        return pendingWrite.future;
+    }
+
+    /**
+     * Writes the next batch of queued writes, if any.
+     */
+    private void flushNext() {
+        val batch = new ArrayList<PendingWrite>();
+        synchronized (lock) {
+            long batchSize = 0;
+            while (!pendingWrites.isEmpty()
+                    && (batch.isEmpty() || batchSize + pendingWrites.peek().data.length <= chunkedSegmentStorage.getConfig().getMaxCoalescedChunkSize())) {
+                val pendingWrite = pendingWrites.poll();
+                batch.add(pendingWrite);
+                batchSize += pendingWrite.data.length;
+            }
+            if (batch.isEmpty()) {
+                isFlushing = false;
+                return;
+            }
+        }
+        // flush() may throw before it returns a future; make sure that neither the batch nor the queue is left hanging.
+        CompletableFuture.completedFuture(null)
+                .thenCompose(v -> flush(batch))
+                .whenCompleteAsync((v, ex) -> {
+                    if (null != ex) {
+                        val cause = Exceptions.unwrap(ex);
+                        batch.forEach(pendingWrite -> pendingWrite.future.completeExceptionally(cause));
+                    }
+                    flushNext();
+                }, chunkedSegmentStorage.getExecutor());
+    }
+
+    /**
+     * Writes given batch to a new shared chunk and commits metadata for it.
+     */
+    private CompletableFuture<Void> flush(List<PendingWrite> batch) {
+        val sharedChunkName = NameUtils.getCoalescedChunkName(chunkedSegmentStorage.getContainerId(), chunkedSegmentStorage.getEpoch());
+        val streams = new ArrayList<InputStream>();
+        long totalLength = 0;
+        for (val pendingWrite : batch) {
+            streams.add(new ByteArrayInputStream(pendingWrite.data));
+            totalLength += pendingWrite.data.length;
+        }
+        val sharedChunkLength = totalLength;
+        val txn = chunkedSegmentStorage.getMetadataStore().beginTransaction(false, sharedChunkName);
+        return chunkedSegmentStorage.getGarbageCollector().trackNewChunk(txn.getVersion(), sharedChunkName)
+                .thenComposeAsync(v -> chunkedSegmentStorage.getChunkStorage().createWithContent(sharedChunkName,
+                        Math.toIntExact(sharedChunkLength), new SequenceInputStream(Collections.enumeration(streams))),
+                        chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(h -> {
+                    val sharedChunkMetadata = ChunkMetadata.builder()
+                            .name(sharedChunkName)
+                            .length(sharedChunkLength)
+                            .build()
+                            .setActive(true);
+                    txn.create(sharedChunkMetadata);
+                    long offset = 0;
+                    for (val pendingWrite : batch) {
+                        // Slices are inactive until they are linked into segment.
+                        txn.create(ChunkMetadata.builder()
+                                .name(pendingWrite.sliceName)
+                                .length(pendingWrite.data.length)
+                                .sharedChunkName(sharedChunkName)
+                                .offsetInSharedChunk(offset)
+                                .build());
+                        offset += pendingWrite.data.length;
+                    }
+                    return txn.commit();
+                }, chunkedSegmentStorage.getExecutor())
+                .whenCompleteAsync((v, ex) -> {
+                    txn.close();
+                    if (null != ex) {
+                        log.warn("{} coalesce - failed to write shared chunk={} writes={}.",
+                                chunkedSegmentStorage.getLogPrefix(), sharedChunkName, batch.size(), ex);
+                        batch.forEach(pendingWrite -> pendingWrite.future.completeExceptionally(ex));
+                    } else {
+                        log.debug("{} coalesce - wrote shared chunk={} writes={} length={}.",
+                                chunkedSegmentStorage.getLogPrefix(), sharedChunkName, batch.size(), sharedChunkLength);
+                        SLTS_NUM_WRITES_COALESCED.reportSuccessValue(batch.size());
+                        batch.forEach(pendingWrite -> pendingWrite.future.complete(null));
+                    }
+                }, chunkedSegmentStorage.getExecutor());
+    }
+
+    /**
+     * Write waiting to be written to a shared chunk.
+     */
+    @RequiredArgsConstructor
+    private static class PendingWrite {
+        private final String sliceName;
+        private final byte[] data;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+    }
+}
@@ -51,6 +51,7 @@ import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLT
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_WRITE_BYTES;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_WRITE_INSTANT_TPUT;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_WRITE_LATENCY;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_WRITE_PARALLELISM;
 
 /**
  * Implements the write operation.
@@ -86,6 +87,9 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
 
     private volatile boolean didSegmentLayoutChange = false;
 
+    // Maximum number of chunk writes that were in flight at the same time.
+    private volatile int writeParallelism = 1;
+
     WriteOperation(ChunkedSegmentStorage chunkedSegmentStorage, SegmentHandle handle, long offset, InputStream data, int length) {
         this.handle = handle;
         this.offset = offset;
@@ -176,6 +180,7 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
         SLTS_WRITE_LATENCY.reportSuccessEvent(elapsed);
         SLTS_WRITE_BYTES.add(length);
         SLTS_NUM_CHUNKS_ADDED.reportSuccessValue(chunksAddedCount.get());
+        SLTS_WRITE_PARALLELISM.reportSuccessValue(writeParallelism);
         if (segmentMetadata.isStorageSystemSegment()) {
             SLTS_SYSTEM_WRITE_LATENCY.reportSuccessEvent(elapsed);
             SLTS_SYSTEM_WRITE_BYTES.add(length);
@@ -223,6 +228,16 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
             inputStream = data;
         }
 
+        if (shouldCoalesce()) {
+            return writeCoalesced(txn, inputStream)
+                    .thenRunAsync(() -> checkInvariants(oldChunkCount, oldLength), chunkedSegmentStorage.getExecutor());
+        }
+
+        if (shouldWritePartsInParallel()) {
+            return writePartsInParallel(txn, inputStream)
+                    .thenRunAsync(() -> checkInvariants(oldChunkCount, oldLength), chunkedSegmentStorage.getExecutor());
+        }
+
         return Futures.loop(
                 () -> bytesRemaining.get() > 0,
                 () -> {
@@ -233,7 +248,8 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
                                 // Calculate the data that needs to be written.
                                 val oldOffset = currentOffset.get();
                                 val offsetToWriteAt = currentOffset.get() - segmentMetadata.getLastChunkStartOffset();
-                                val writeSize = (int) Math.min(bytesRemaining.get(), segmentMetadata.getMaxRollinglength() - offsetToWriteAt);
+                                val maxWriteSize = chunkedSegmentStorage.shouldAppend() ? segmentMetadata.getMaxRollinglength() - offsetToWriteAt : getPartSize();
+                                val writeSize = (int) Math.min(bytesRemaining.get(), maxWriteSize);
 
                                 // Write data to last chunk.
                                 return writeToChunk(txn,
@@ -257,25 +273,192 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
                                 }, chunkedSegmentStorage.getExecutor());
                             }, chunkedSegmentStorage.getExecutor());
                 }, chunkedSegmentStorage.getExecutor())
-                .thenRunAsync(() -> {
-                    // Check invariants.
-                    segmentMetadata.checkInvariants();
-                    Preconditions.checkState(totalBytesRead.get() == length, "totalBytesRead (%s) must match length(%s)",
-                            totalBytesRead.get(), length);
-                    Preconditions.checkState(oldChunkCount + chunksAddedCount.get() == segmentMetadata.getChunkCount(),
-                            "Number of chunks do not match. old value (%s) + number of chunks added (%s) must match current chunk count(%s)",
-                            oldChunkCount, chunksAddedCount.get(), segmentMetadata.getChunkCount());
-                    Preconditions.checkState(oldLength + length == segmentMetadata.getLength(),
-                            "New length must match. old value (%s) + length (%s) must match current chunk count(%s)",
-                            oldLength, length, segmentMetadata.getLength());
-                    if (null != lastChunkMetadata.get()) {
-                        Preconditions.checkState(segmentMetadata.getLastChunkStartOffset() + lastChunkMetadata.get().getLength() == segmentMetadata.getLength(),
-                                "Last chunk start offset (%s) + Last chunk length (%s) must match segment length (%s)",
-                                segmentMetadata.getLastChunkStartOffset(), lastChunkMetadata.get().getLength(), segmentMetadata.getLength());
-                    }
+                .thenRunAsync(() -> checkInvariants(oldChunkCount, oldLength), chunkedSegmentStorage.getExecutor());
+    }
+
+    private void checkInvariants(int oldChunkCount, long oldLength) {
+        segmentMetadata.checkInvariants();
+        Preconditions.checkState(totalBytesRead.get() == length, "totalBytesRead (%s) must match length(%s)",
+                totalBytesRead.get(), length);
+        Preconditions.checkState(oldChunkCount + chunksAddedCount.get() == segmentMetadata.getChunkCount(),
+                "Number of chunks do not match. old value (%s) + number of chunks added (%s) must match current chunk count(%s)",
+                oldChunkCount, chunksAddedCount.get(), segmentMetadata.getChunkCount());
+        Preconditions.checkState(oldLength + length == segmentMetadata.getLength(),
+                "New length must match. old value (%s) + length (%s) must match current chunk count(%s)",
+                oldLength, length, segmentMetadata.getLength());
+        if (null != lastChunkMetadata.get()) {
+            Preconditions.checkState(segmentMetadata.getLastChunkStartOffset() + lastChunkMetadata.get().getLength() == segmentMetadata.getLength(),
+                    "Last chunk start offset (%s) + Last chunk length (%s) must match segment length (%s)",
+                    segmentMetadata.getLastChunkStartOffset(), lastChunkMetadata.get().getLength(), segmentMetadata.getLength());
+        }
+    }
+
+    /**
+     * Whether the data should be written as a slice of a shared chunk together with small writes to other segments.
+     * This is only possible when appends are disabled and the write fits in a single chunk.
+     * System segments and self checks rely on each write creating its own chunk, so they are never coalesced.
+     */
+    private boolean shouldCoalesce() {
+        val config = chunkedSegmentStorage.getConfig();
+        return !chunkedSegmentStorage.shouldAppend()
+                && !isSystemSegment
+                && !config.isSelfCheckForMetadataEnabled()
+                && !shouldValidateData()
+                && length > 0
+                && length <= config.getMaxCoalescedWriteSize()
+                && length <= getPartSize();
+    }
+
+    /**
+     * Writes the data using {@link WriteCoalescer} and links the resulting slice into the segment as its new last chunk.
+     * The slice is tracked by the garbage collector before it is written so that it is released if this operation fails.
+     * If this slice starts a new run of slices in the segment, the garbage collector is also asked to later repack the
+     * segment's slices into a chunk owned by the segment, so that they do not keep their shared chunks alive.
+     */
+    private CompletableFuture<Void> writeCoalesced(MetadataTransaction txn, InputStream inputStream) {
+        val sliceName = chunkedSegmentStorage.getNewChunkName(handle.getSegmentName(), segmentMetadata.getLength());
+        val sliceData = readNBytes(inputStream, length);
+        Preconditions.checkState(sliceData.length == length,
+                "Bytes read from input (%s) must equal length (%s). Segment=%s", sliceData.length, length, segmentMetadata);
+        val previousChunk = lastChunkMetadata.get();
+        val isFirstSliceInRun = null == previousChunk || !previousChunk.isSlice();
+
+        val garbageCollector = chunkedSegmentStorage.getGarbageCollector();
+        return garbageCollector.trackNewChunk(txn.getVersion(), sliceName)
+                .thenComposeAsync(v -> isFirstSliceInRun
+                                ? garbageCollector.addSegmentToRepack(txn.getVersion(), handle.getSegmentName())
+                                : CompletableFuture.completedFuture(null),
+                        chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(v -> chunkedSegmentStorage.getWriteCoalescer().write(sliceName, sliceData), chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(v -> txn.get(sliceName), chunkedSegmentStorage.getExecutor())
+                .thenAcceptAsync(storageMetadata -> {
+                    val sliceMetadata = (ChunkMetadata) storageMetadata;
+                    Preconditions.checkState(null != sliceMetadata && sliceMetadata.isSlice() && sliceMetadata.getLength() == length,
+                            "Slice must be committed with the written length. Segment=%s Slice=%s", segmentMetadata, sliceMetadata);
+                    val oldOffset = currentOffset.get();
+                    sliceMetadata.setActive(true);
+                    linkNewChunk(txn, segmentMetadata, sliceMetadata, isFirstWriteAfterFailover, lastChunkMetadata.get());
+                    lastChunkMetadata.set(sliceMetadata);
+
+                    // Update the metadata for segment and slice.
+                    segmentMetadata.setLength(segmentMetadata.getLength() + length);
+                    txn.update(sliceMetadata);
+                    txn.update(segmentMetadata);
+
+                    // Update read index.
+                    newReadIndexEntries.add(new ChunkNameOffsetPair(oldOffset, sliceName));
+
+                    // Update iteration state
+                    isFirstWriteAfterFailover = false;
+                    skipOverFailedChunk = false;
+                    didSegmentLayoutChange = true;
+                    chunksAddedCount.incrementAndGet();
+                    bytesRemaining.addAndGet(-length);
+                    currentOffset.addAndGet(length);
+                    totalBytesRead.addAndGet(length);
+
+                    // Update block index.
+                    chunkedSegmentStorage.addBlockIndexEntriesForChunk(txn,
+                            segmentMetadata.getName(),
+                            sliceName,
+                            segmentMetadata.getLastChunkStartOffset(),
+                            oldOffset,
+                            segmentMetadata.getLength());
+
+                    log.debug("{} write - New slice added - op={}, segment={}, chunk={}, sharedChunk={}, offset={}.",
+                            chunkedSegmentStorage.getLogPrefix(), System.identityHashCode(this), handle.getSegmentName(),
+                            sliceName, sliceMetadata.getSharedChunkName(), oldOffset);
                 }, chunkedSegmentStorage.getExecutor());
     }
 
+    /**
+     * Whether the data should be split into parts that are written to new chunks concurrently.
+     * This is only possible when appends are disabled, as every write then creates a new chunk anyway.
+     * System segments and self checks rely on each write being applied in order, so they always write sequentially.
+     */
+    private boolean shouldWritePartsInParallel() {
+        val config = chunkedSegmentStorage.getConfig();
+        return !chunkedSegmentStorage.shouldAppend()
+                && !isSystemSegment
+                && !config.isSelfCheckForMetadataEnabled()
+                && !shouldValidateData()
+                && length > getPartSize();
+    }
+
+    /**
+     * Gets the maximum number of bytes written to a single new chunk when appends are disabled.
+     */
+    private int getPartSize() {
+        long partSize = segmentMetadata.getMaxRollinglength();
+        val maxWritePartSize = chunkedSegmentStorage.getConfig().getMaxWritePartSize();
+        if (maxWritePartSize > 0) {
+            partSize = Math.min(partSize, maxWritePartSize);
+        }
+        return (int) Math.min(partSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Splits the data into parts and writes each part to a new chunk.
+     * The metadata for each part is updated in order when its write is issued, while the writes themselves run
+     * concurrently up to the concurrency budget. The transaction is committed only after all parts are written,
+     * chunks written by a failed operation are tracked by the garbage collector.
+     */
+    private CompletableFuture<Void> writePartsInParallel(MetadataTransaction txn, InputStream inputStream) {
+        val partSize = getPartSize();
+        val chunkIOLimiter = chunkedSegmentStorage.createChunkIOLimiter(handle.getSegmentName());
+        val partWriteFutures = new Vector<CompletableFuture<Void>>();
+        return Futures.loop(
+                () -> bytesRemaining.get() > 0,
+                () -> chunkIOLimiter.acquire()
+                        .thenComposeAsync(v -> addNewChunk(txn)
+                                .thenRunAsync(() -> partWriteFutures.add(writePart(txn, inputStream, chunkIOLimiter, Math.min(bytesRemaining.get(), partSize))),
+                                        chunkedSegmentStorage.getExecutor())
+                                .whenComplete((vv, ex) -> {
+                                    if (null != ex) {
+                                        // The permit was not handed over to the part write.
+                                        chunkIOLimiter.release();
+                                    }
+                                }), chunkedSegmentStorage.getExecutor()),
+                chunkedSegmentStorage.getExecutor())
+                .thenComposeAsync(v -> Futures.allOf(partWriteFutures), chunkedSegmentStorage.getExecutor())
+                .thenRunAsync(() -> writeParallelism = chunkIOLimiter.getMaxInFlightCount(), chunkedSegmentStorage.getExecutor());
+    }
+
+    /**
+     * Updates the metadata for the next part and issues the write to the last chunk using an already acquired permit.
+     */
+    private CompletableFuture<Void> writePart(MetadataTransaction txn, InputStream inputStream, ChunkIOLimiter chunkIOLimiter, int partLength) {
+        val partChunkMetadata = lastChunkMetadata.get();
+        val partOffset = currentOffset.get();
+        val partData = readNBytes(inputStream, partLength);
+        Preconditions.checkState(partData.length == partLength,
+                "Bytes read from input (%s) must equal part length (%s). Segment=%s Chunk=%s",
+                partData.length, partLength, segmentMetadata, partChunkMetadata);
+
+        // Update the metadata for segment and chunk.
+        segmentMetadata.setLength(segmentMetadata.getLength() + partLength);
+        partChunkMetadata.setLength(partLength);
+        txn.update(partChunkMetadata);
+        txn.update(segmentMetadata);
+
+        // Update iteration state
+        bytesRemaining.addAndGet(-partLength);
+        currentOffset.addAndGet(partLength);
+        totalBytesRead.addAndGet(partLength);
+
+        // Update block index.
+        chunkedSegmentStorage.addBlockIndexEntriesForChunk(txn,
+                segmentMetadata.getName(),
+                partChunkMetadata.getName(),
+                segmentMetadata.getLastChunkStartOffset(),
+                partOffset,
+                segmentMetadata.getLength());
+
+        // Finally write the data.
+        return chunkIOLimiter.runAcquired(() -> Futures.toVoid(chunkedSegmentStorage.getChunkStorage()
+                .createWithContent(partChunkMetadata.getName(), partLength, new ByteArrayInputStream(partData))));
+    }
+
     private CompletableFuture<Void> openChunkToWrite(MetadataTransaction txn) {
         if (null == lastChunkMetadata.get()
                 || (lastChunkMetadata.get().getLength() >= segmentMetadata.getMaxRollinglength())
@@ -370,6 +553,23 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
                 .name(newChunkName)
                 .build();
         newChunkMetadata.setActive(true);
+        linkNewChunk(txn, segmentMetadata, newChunkMetadata, isFirstWriteAfterFailover, lastChunkMetadata);
+
+        // Update the transaction.
+        txn.create(newChunkMetadata);
+        txn.update(segmentMetadata);
+        return newChunkMetadata;
+    }
+
+    /**
+     * Updates the segment metadata so that given chunk becomes its last chunk.
+     */
+    private void linkNewChunk(MetadataTransaction txn,
+                              SegmentMetadata segmentMetadata,
+                              ChunkMetadata newChunkMetadata,
+                              boolean isFirstWriteAfterFailover,
+                              ChunkMetadata lastChunkMetadata) {
+        val newChunkName = newChunkMetadata.getName();
         segmentMetadata.setLastChunk(newChunkName);
         if (lastChunkMetadata == null) {
             segmentMetadata.setFirstChunk(newChunkName);
@@ -386,11 +586,6 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
             log.debug("{} write - First write after failover - op={}, segment={}.", chunkedSegmentStorage.getLogPrefix(), System.identityHashCode(this), segmentMetadata.getName());
         }
         segmentMetadata.setChunkCount(segmentMetadata.getChunkCount() + 1);
-
-        // Update the transaction.
-        txn.create(newChunkMetadata);
-        txn.update(segmentMetadata);
-        return newChunkMetadata;
     }
 
     /**
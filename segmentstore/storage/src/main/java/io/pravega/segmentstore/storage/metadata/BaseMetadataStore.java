@@ -62,6 +62,7 @@ import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.ME
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_FOUND_IN_BUFFER;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_FOUND_IN_CACHE;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_FOUND_IN_TXN;
+import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_PREFETCHED_COUNT;
 import static io.pravega.shared.MetricsNames.STORAGE_METADATA_BUFFER_SIZE;
 import static io.pravega.shared.MetricsNames.STORAGE_METADATA_CACHE_MISS_RATE;
 import static io.pravega.shared.MetricsNames.STORAGE_METADATA_CACHE_SIZE;
@@ -134,6 +135,11 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      */
     private static final int CACHE_EVICTION_RATIO = 10;
 
+    /**
+     * Approximate heap footprint of a cached {@link TransactionData} record excluding its strings.
+     */
+    private static final int CACHE_ENTRY_OVERHEAD = 256;
+
     /**
      * Indicates whether this instance is fenced or not.
      */
@@ -226,9 +232,17 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
         activeKeys = ConcurrentHashMultiset.create();
         maxEntriesInTxnBuffer = config.getMaxEntriesInTxnBuffer();
         maxEntriesInCache = config.getMaxEntriesInCache();
-        cache = CacheBuilder.newBuilder()
-                .maximumSize(maxEntriesInCache)
-                .build();
+        if (config.getMaxCacheSizeInBytes() > 0) {
+            // Records vary in size a lot (Eg. absent keys vs segment records), so bound the cache by their estimated size.
+            cache = CacheBuilder.newBuilder()
+                    .maximumWeight(config.getMaxCacheSizeInBytes())
+                    .<String, TransactionData>weigher(BaseMetadataStore::estimateSize)
+                    .build();
+        } else {
+            cache = CacheBuilder.newBuilder()
+                    .maximumSize(maxEntriesInCache)
+                    .build();
+        }
     }
 
     /**
@@ -639,6 +653,43 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
                 }, executor);
     }
 
+    /**
+     * Loads the metadata for given keys into the cache using a single batched read from the underlying store.
+     * Keys that are already in the buffer or in the cache are skipped. Keys that do not exist are cached as absent records.
+     *
+     * @param keys keys to load.
+     * @return A CompletableFuture that, when completed, will indicate that the operation completed.
+     * @throws CompletionException If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     *                             {@link StorageMetadataException} Exception related to storage metadata operations.
+     */
+    @Override
+    public CompletableFuture<Void> prefetch(Collection<String> keys) {
+        Preconditions.checkArgument(null != keys, "keys must not be null");
+        val keysToLoad = keys.stream()
+                .filter(key -> null != key && !bufferedTxnData.containsKey(key) && null == cache.getIfPresent(key))
+                .distinct()
+                .collect(Collectors.toList());
+        if (keysToLoad.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.trace("Prefetching keys from the store keys = {}", keysToLoad);
+        // Keep the keys from being evicted from the buffer while they are read. Any commit on these keys in the meantime
+        // leaves its newer copy in the buffer, which is how the stale copies read here are recognized and discarded below.
+        keysToLoad.forEach(this::addToActiveKeySet);
+        return readAll(keysToLoad)
+                .thenAcceptAsync(dataList -> {
+                    for (val data : dataList) {
+                        Preconditions.checkState(null != data.getDbObject(), "Missing tracking object. key=%s", data.getKey());
+                        // Buffered and already cached copies are never older than what was just read, so never overwrite them.
+                        if (!bufferedTxnData.containsKey(data.getKey())) {
+                            cache.asMap().putIfAbsent(data.getKey(), data);
+                        }
+                    }
+                    METADATA_PREFETCHED_COUNT.add(dataList.size());
+                }, executor)
+                .whenCompleteAsync((v, ex) -> keysToLoad.forEach(this::removeFromActiveKeySet), executor);
+    }
+
     private StorageMetadata copyToTransaction(MetadataTransaction txn, String key, TransactionData transactionData) {
         final TransactionData txnLocalCopy = getDeepCopy(transactionData);
         txn.getData().put(key, txnLocalCopy);
@@ -763,6 +814,21 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
         return bufferCount.get();
     }
 
+    @VisibleForTesting
+    boolean isCached(String key) {
+        return null != cache.getIfPresent(key);
+    }
+
+    /**
+     * Estimates the heap footprint in bytes of the given cached record.
+     * Apart from the key, records typically hold their own name and one or two related chunk names of similar length.
+     */
+    @VisibleForTesting
+    static int estimateSize(String key, TransactionData data) {
+        int keySize = 2 * key.length();
+        return CACHE_ENTRY_OVERHEAD + (null == data.getValue() ? keySize : 4 * keySize);
+    }
+
     /**
      * Reads a metadata record for the given key.
      *
@@ -771,6 +837,19 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      */
     abstract protected CompletableFuture<TransactionData> read(String key);
 
+    /**
+     * Reads metadata records for all the given keys.
+     * The default implementation issues one {@link BaseMetadataStore#read(String)} per key. Derived classes should
+     * override this if the underlying key value store supports reading multiple keys in a single request.
+     *
+     * @param keys Keys for the metadata records.
+     * @return A CompletableFuture that, when completed, will contain list of associated
+     * {@link io.pravega.segmentstore.storage.metadata.BaseMetadataStore.TransactionData} in the same order as the given keys.
+     */
+    protected CompletableFuture<List<TransactionData>> readAll(List<String> keys) {
+        return Futures.allOfWithResults(keys.stream().map(this::read).collect(Collectors.toList()));
+    }
+
     /**
      * Writes transaction data from a given list to the metadata store.
      *
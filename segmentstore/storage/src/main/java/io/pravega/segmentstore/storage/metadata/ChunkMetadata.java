@@ -37,6 +37,7 @@ import static com.google.common.base.Strings.nullToEmpty;
  * <li>Length of the chunk.</li>
  * <li>Name of the next chunk in list.</li>
  * <li>Status flags.</li>
+ * <li>Name of the shared chunk and offset within it, when the chunk is a slice of a shared chunk.</li>
  * </ul>
  */
 @Builder(toBuilder = true)
@@ -64,6 +65,17 @@ public class ChunkMetadata extends StorageMetadata {
      */
     private volatile int status;
 
+    /**
+     * Name of the shared chunk in storage that contains the data for this chunk.
+     * Null if the data for this chunk is stored in the chunk with the same name.
+     */
+    private final String sharedChunkName;
+
+    /**
+     * Offset within the shared chunk at which the data for this chunk starts.
+     */
+    private final long offsetInSharedChunk;
+
     /**
      * Retrieves the key associated with the metadata, which is the name of the chunk.
      *
@@ -116,6 +128,22 @@ public class ChunkMetadata extends StorageMetadata {
         return getFlag(StatusFlags.ACTIVE);
     }
 
+    /**
+     * Gets whether this chunk is a slice of a shared chunk.
+     * @return True if the data for this chunk is stored inside a shared chunk, false otherwise.
+     */
+    public boolean isSlice() {
+        return null != sharedChunkName;
+    }
+
+    /**
+     * Gets the name of the chunk in storage that contains the data for this chunk.
+     * @return Name of the shared chunk for slices, name of this chunk otherwise.
+     */
+    public String getStorageChunkName() {
+        return isSlice() ? sharedChunkName : name;
+    }
+
     /**
      * Builder that implements {@link ObjectBuilder}.
      */
@@ -139,6 +167,7 @@ public class ChunkMetadata extends StorageMetadata {
         @Override
         protected void declareVersions() {
             version(0).revision(0, this::write00, this::read00);
+            version(0).revision(1, this::write01, this::read01);
         }
 
         private void write00(ChunkMetadata object, RevisionDataOutput output) throws IOException {
@@ -154,5 +183,15 @@ public class ChunkMetadata extends StorageMetadata {
             b.nextChunk(emptyToNull(input.readUTF()));
             b.status(input.readCompactInt());
         }
+
+        private void write01(ChunkMetadata object, RevisionDataOutput output) throws IOException {
+            output.writeUTF(nullToEmpty(object.sharedChunkName));
+            output.writeCompactLong(object.offsetInSharedChunk);
+        }
+
+        private void read01(RevisionDataInput input, ChunkMetadataBuilder b) throws IOException {
+            b.sharedChunkName(emptyToNull(input.readUTF()));
+            b.offsetInSharedChunk(input.readCompactLong());
+        }
     }
 }
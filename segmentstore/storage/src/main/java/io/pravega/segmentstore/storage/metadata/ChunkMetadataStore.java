@@ -18,6 +18,7 @@ package io.pravega.segmentstore.storage.metadata;
 import com.google.common.annotations.Beta;
 import io.pravega.segmentstore.storage.chunklayer.StatsReporter;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
@@ -118,6 +119,18 @@ public interface ChunkMetadataStore extends AutoCloseable, StatsReporter {
      */
     CompletableFuture<StorageMetadata> get(MetadataTransaction txn, String key);
 
+    /**
+     * Loads the metadata for given keys so that subsequent calls to {@link #get(MetadataTransaction, String)} for these
+     * keys do not need to read from underlying storage one key at a time.
+     * The keys that need loading are read using a single request when underlying storage supports it.
+     *
+     * @param keys keys to load.
+     * @return A CompletableFuture that, when completed, will indicate that the operation completed.
+     * @throws CompletionException If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link StorageMetadataException} Exception related to storage metadata operations.
+     */
+    CompletableFuture<Void> prefetch(Collection<String> keys);
+
     /**
      * Updates existing metadata.
      *
@@ -40,13 +40,16 @@ import lombok.val;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -97,34 +100,33 @@ public class TableBasedMetadataStore extends BaseMetadataStore {
      */
     @Override
     protected CompletableFuture<TransactionData> read(String key) {
-        val keys = new ArrayList<BufferView>();
-        keys.add(new ByteArraySegment(key.getBytes(Charsets.UTF_8)));
+        return readAll(Collections.singletonList(key))
+                .thenApply(dataList -> dataList.get(0));
+    }
+
+    /**
+     * Reads metadata records for all the given keys using a single table segment lookup.
+     *
+     * @param keys Keys for the metadata records.
+     * @return List of associated {@link io.pravega.segmentstore.storage.metadata.BaseMetadataStore.TransactionData}
+     * in the same order as the given keys.
+     */
+    @Override
+    protected CompletableFuture<List<TransactionData>> readAll(List<String> keys) {
+        val tableKeys = keys.stream()
+                .map(key -> (BufferView) new ByteArraySegment(key.getBytes(Charsets.UTF_8)))
+                .collect(Collectors.toList());
         val t = new Timer();
         return ensureInitialized()
-                .thenComposeAsync(v -> this.tableStore.get(tableName, keys, timeout)
+                .thenComposeAsync(v -> this.tableStore.get(tableName, tableKeys, timeout)
                         .thenApplyAsync(entries -> {
-                            try {
-                                Preconditions.checkState(entries.size() == 1, "Unexpected number of values returned.");
-                                val entry = entries.get(0);
-                                if (null != entry) {
-                                    val arr = entry.getValue();
-                                    TransactionData txnData = SERIALIZER.deserialize(arr);
-                                    txnData.setDbObject(entry.getKey().getVersion());
-                                    txnData.setPersisted(true);
-                                    TABLE_GET_LATENCY.reportSuccessEvent(t.getElapsed());
-                                    METADATA_FOUND_IN_STORE.inc();
-                                    return txnData;
-                                }
-                            } catch (Exception e) {
-                                throw new CompletionException(new StorageMetadataException("Error while reading", e));
+                            Preconditions.checkState(entries.size() == keys.size(), "Unexpected number of values returned.");
+                            val result = new ArrayList<TransactionData>(entries.size());
+                            for (int i = 0; i < entries.size(); i++) {
+                                result.add(toTransactionData(keys.get(i), entries.get(i)));
                             }
                             TABLE_GET_LATENCY.reportSuccessEvent(t.getElapsed());
-                            METADATA_NOT_FOUND.inc();
-                            return TransactionData.builder()
-                                    .key(key)
-                                    .persisted(true)
-                                    .dbObject(TableKey.NOT_EXISTS)
-                                    .build();
+                            return result;
                         }, getExecutor())
                         .exceptionally(e -> {
                                 val ex = Exceptions.unwrap(e);
@@ -132,6 +134,27 @@ public class TableBasedMetadataStore extends BaseMetadataStore {
                         }), getExecutor());
     }
 
+    private TransactionData toTransactionData(String key, TableEntry entry) {
+        if (null != entry) {
+            try {
+                val arr = entry.getValue();
+                TransactionData txnData = SERIALIZER.deserialize(arr);
+                txnData.setDbObject(entry.getKey().getVersion());
+                txnData.setPersisted(true);
+                METADATA_FOUND_IN_STORE.inc();
+                return txnData;
+            } catch (Exception e) {
+                throw new CompletionException(new StorageMetadataException("Error while reading", e));
+            }
+        }
+        METADATA_NOT_FOUND.inc();
+        return TransactionData.builder()
+                .key(key)
+                .persisted(true)
+                .dbObject(TableKey.NOT_EXISTS)
+                .build();
+    }
+
     /**
      * Writes transaction data from a given list to the metadata store.
      *
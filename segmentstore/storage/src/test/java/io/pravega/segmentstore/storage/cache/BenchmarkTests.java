@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import lombok.Cleanup;
 import lombok.Data;
@@ -50,6 +51,7 @@ public class BenchmarkTests {
     private static final int ITERATION_COUNT = 5;
     private static final int RANDOM_OPERATIONS_THREAD_COUNT = 1;
     private static final int RANDOM_OPERATIONS_INSERT_PERCENTAGE = 60; // Must be 0-100.
+    private static final int MAX_CONCURRENT_THREAD_COUNT = 64;
     private final Random random = new Random(0);
 
     /**
@@ -182,6 +184,59 @@ public class BenchmarkTests {
         return new RandomResult(elapsed, insertCount.get(), getCount.get(), deleteCount.get());
     }
 
+    /**
+     * Tests how throughput scales with the number of threads. For each thread count (1, 2, 4, ..., {@link #MAX_CONCURRENT_THREAD_COUNT}),
+     * {@link #ENTRY_COUNT} operations of each type are evenly split across all threads, and each phase is timed separately:
+     * - {@link CacheStorage#insert} (with an entry of size {@link #ENTRY_SIZE}).
+     * - {@link CacheStorage#append} (with data of size {@link CacheStorage#getAppendableLength}).
+     * - {@link CacheStorage#get}.
+     * - {@link CacheStorage#delete}.
+     */
+    @Test
+    public void testConcurrentOperations() {
+        for (int threadCount = 1; threadCount <= MAX_CONCURRENT_THREAD_COUNT; threadCount *= 2) {
+            final int tc = threadCount;
+            System.out.println(String.format("Threads: %d", tc));
+            test(s -> testConcurrentOperations(s, tc));
+        }
+    }
+
+    private ConcurrentResult testConcurrentOperations(CacheStorage s, int threadCount) {
+        val writeBuffer = new ByteArraySegment(new byte[ENTRY_SIZE]);
+        val appendBuffer = new ByteArraySegment(writeBuffer.array(), 0, s.getAppendableLength(ENTRY_SIZE));
+        this.random.nextBytes(writeBuffer.array());
+        int[] ids = new int[ENTRY_COUNT];
+        int entriesPerThread = ENTRY_COUNT / threadCount;
+
+        val insert = measureConcurrent(threadCount, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                ids[i] = s.insert(writeBuffer);
+            }
+        });
+
+        val append = measureConcurrent(threadCount, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                s.append(ids[i], writeBuffer.getLength(), appendBuffer);
+            }
+        });
+
+        val get = measureConcurrent(threadCount, (start, end) -> {
+            val readBuffer = new byte[ENTRY_SIZE * 2];
+            for (int i = start; i < end; i++) {
+                BufferView result = s.get(ids[i]);
+                result.copyTo(ByteBuffer.wrap(readBuffer));
+            }
+        });
+
+        val delete = measureConcurrent(threadCount, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                s.delete(ids[i]);
+            }
+        });
+
+        return new ConcurrentResult(entriesPerThread * threadCount, insert, append, get, delete);
+    }
+
     private <T> void test(Function<CacheStorage, T> toTest) {
         @Cleanup
         val s = new DirectMemoryCache(MAX_CACHE_SIZE);
@@ -198,6 +253,26 @@ public class BenchmarkTests {
         return timer.getElapsed();
     }
 
+    /**
+     * Splits [0, {@link #ENTRY_COUNT}) into threadCount equal ranges and executes toRun on each range in its own thread.
+     */
+    private Duration measureConcurrent(int threadCount, BiConsumer<Integer, Integer> toRun) {
+        int entriesPerThread = ENTRY_COUNT / threadCount;
+        return measure(() -> {
+            val threads = new ArrayList<Thread>();
+            for (int threadId = 0; threadId < threadCount; threadId++) {
+                int start = threadId * entriesPerThread;
+                val t = new Thread(() -> toRun.accept(start, start + entriesPerThread));
+                t.start();
+                threads.add(t);
+            }
+
+            for (val t : threads) {
+                Exceptions.handleInterrupted(t::join);
+            }
+        });
+    }
+
     @Data
     private static class RandomResult {
         final Duration elapsed;
@@ -212,6 +287,25 @@ public class BenchmarkTests {
         }
     }
 
+    @Data
+    private static class ConcurrentResult {
+        final int count;
+        final Duration insert;
+        final Duration append;
+        final Duration get;
+        final Duration delete;
+
+        @Override
+        public String toString() {
+            return String.format("Insert: %d ops/s, Append: %d ops/s, Get: %d ops/s, Delete: %d ops/s",
+                    opsPerSecond(insert), opsPerSecond(append), opsPerSecond(get), opsPerSecond(delete));
+        }
+
+        private long opsPerSecond(Duration d) {
+            return this.count * 1000L / Math.max(1, d.toMillis());
+        }
+    }
+
     @Data
     private static class SequentialResult {
         final Duration insert;
@@ -24,11 +24,13 @@ import io.pravega.test.common.IntentionalException;
 import java.util.AbstractMap;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.Cleanup;
 import lombok.val;
 import org.junit.Assert;
@@ -347,6 +349,157 @@ public class DirectMemoryCacheTests {
         checkData(c, address, firstWrite, 0, firstWrite.length);
     }
 
+    /**
+     * Tests {@link DirectMemoryCache#getRetained}: the returned data must remain valid (and its blocks must not be reused)
+     * after the entry has been deleted, until it is released.
+     */
+    @Test
+    public void testGetRetained() {
+        final int entryBlocks = 3;
+        final int entryLength = LAYOUT.blockSize() * (entryBlocks - 1) + 1;
+        @Cleanup
+        val c = new TestCache();
+        Assert.assertNull("Not expecting anything for an invalid address.", c.getRetained(CacheLayout.NO_ADDRESS));
+
+        val data1 = new byte[entryLength];
+        rnd.nextBytes(data1);
+        val address1 = c.insert(new ByteArraySegment(data1));
+        val retained = c.getRetained(address1);
+        Assert.assertArrayEquals("Unexpected retained data.", data1, retained.getCopy());
+
+        // Delete the entry. Its blocks are pinned so they should still be in use (and accounted for).
+        c.delete(address1);
+        checkSnapshot(c, (long) entryLength, (long) LAYOUT.blockSize() * (entryBlocks + 1), null, null, null);
+
+        // Insert a new entry. It must not overwrite the pinned blocks.
+        val data2 = new byte[entryLength];
+        rnd.nextBytes(data2);
+        val address2 = c.insert(new ByteArraySegment(data2));
+        checkSnapshot(c, 2L * entryLength, (long) LAYOUT.blockSize() * (2 * entryBlocks + 1), null, null, null);
+        Assert.assertArrayEquals("Retained data modified after delete and insert.", data1, retained.getCopy());
+        checkData(c, address2, data2, 0, data2.length);
+
+        // Release the retained data. The pinned blocks should now be freed.
+        retained.release();
+        checkSnapshot(c, (long) entryLength, (long) LAYOUT.blockSize() * (entryBlocks + 1), null, null, null);
+        checkData(c, address2, data2, 0, data2.length);
+
+        // Retaining an entry that is not deleted should not have any effect on it when released.
+        val retained2 = c.getRetained(address2);
+        retained2.release();
+        checkSnapshot(c, (long) entryLength, (long) LAYOUT.blockSize() * (entryBlocks + 1), null, null, null);
+        checkData(c, address2, data2, 0, data2.length);
+    }
+
+    /**
+     * Tests the ability to use buffers that are assigned to other allocation stripes when there is no other capacity
+     * available.
+     */
+    @Test
+    public void testStripedAllocation() throws Exception {
+        final int maxSize = 2 * LAYOUT.bufferSize();
+        final int fullBufferLength = (LAYOUT.blocksPerBuffer() - 1) * LAYOUT.blockSize();
+        @Cleanup
+        val c = new TestCache(maxSize, 2);
+
+        // Insert a small entry from a thread on stripe 0. That stripe now holds on to the first buffer.
+        val address1 = new AtomicInteger();
+        runOnStripe(0, 2, () -> address1.set(c.insert(new ByteArraySegment(new byte[1]))));
+
+        // Fill up a second buffer from a thread on stripe 1, then insert one more entry. There is no capacity left
+        // other than in the buffer held by stripe 0, so that is where it should go.
+        val address2 = new AtomicInteger();
+        val address3 = new AtomicInteger();
+        runOnStripe(1, 2, () -> {
+            address2.set(c.insert(new ByteArraySegment(new byte[fullBufferLength])));
+            address3.set(c.insert(new ByteArraySegment(new byte[1])));
+        });
+
+        Assert.assertNotEquals("Expected the large entry to be in a different buffer.",
+                LAYOUT.getBufferId(address1.get()), LAYOUT.getBufferId(address2.get()));
+        Assert.assertEquals("Expected the last entry to be in the buffer held by the other stripe.",
+                LAYOUT.getBufferId(address1.get()), LAYOUT.getBufferId(address3.get()));
+        checkSnapshot(c, 2L + fullBufferLength, (long) maxSize - (LAYOUT.blocksPerBuffer() - 3) * LAYOUT.blockSize(),
+                2L * LAYOUT.blockSize(), (long) maxSize, (long) maxSize);
+    }
+
+    /**
+     * Tests the ability to execute operations concurrently from multiple threads (which map to multiple allocation stripes).
+     */
+    @Test
+    public void testConcurrentOperations() throws Exception {
+        final int threadCount = 8;
+        final int iterations = 500;
+        final int maxLength = 2 * LAYOUT.blockSize();
+        @Cleanup
+        val c = new TestCache(REQUESTED_MAX_SIZE, threadCount);
+        val threads = new ArrayList<Thread>();
+        val failure = new AtomicReference<Throwable>();
+        for (int t = 0; t < threadCount; t++) {
+            final byte fill = (byte) t;
+            final Random threadRnd = new Random(t);
+            val thread = new Thread(() -> {
+                try {
+                    val contents = new HashMap<Integer, Integer>(); // Key=Address, Value=Length.
+                    for (int i = 0; i < iterations; i++) {
+                        if (contents.isEmpty() || threadRnd.nextBoolean()) {
+                            byte[] data = new byte[threadRnd.nextInt(maxLength)];
+                            Arrays.fill(data, fill);
+                            contents.put(c.insert(new ByteArraySegment(data)), data.length);
+                        } else {
+                            int address = contents.keySet().iterator().next();
+                            c.delete(address);
+                            contents.remove(address);
+                        }
+
+                        for (val e : contents.entrySet()) {
+                            byte[] expected = new byte[e.getValue()];
+                            Arrays.fill(expected, fill);
+                            Assert.assertArrayEquals("Unexpected data for address " + e.getKey(), expected, c.get(e.getKey()).getCopy());
+                        }
+                    }
+
+                    contents.keySet().forEach(c::delete);
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (val t : threads) {
+            t.join();
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError("Concurrent operations failed.", failure.get());
+        }
+
+        checkSnapshot(c, 0L, null, null, null, null);
+    }
+
+    private void runOnStripe(int stripe, int stripeCount, Runnable toRun) throws Exception {
+        // DirectMemoryCache maps threads to stripes using their ids. Keep creating threads until we get one that maps to
+        // the stripe we want.
+        val failure = new AtomicReference<Throwable>();
+        Thread t;
+        do {
+            t = new Thread(() -> {
+                try {
+                    toRun.run();
+                } catch (Throwable ex) {
+                    failure.set(ex);
+                }
+            });
+        } while (t.getId() % stripeCount != stripe);
+        t.start();
+        t.join();
+        if (failure.get() != null) {
+            throw new AssertionError("Unexpected failure.", failure.get());
+        }
+    }
+
     private void checkData(TestCache c, HashMap<Integer, Map.Entry<Integer, Integer>> entryData, byte[] data) {
         for (val e : entryData.entrySet()) {
             int address = e.getKey();
@@ -392,6 +545,10 @@ public class DirectMemoryCacheTests {
             super(LAYOUT, requestedMaxSize);
         }
 
+        TestCache(long requestedMaxSize, int stripeCount) {
+            super(LAYOUT, requestedMaxSize, stripeCount);
+        }
+
         @Override
         public void close() {
             super.close();
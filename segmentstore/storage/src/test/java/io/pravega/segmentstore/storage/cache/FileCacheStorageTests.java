@@ -0,0 +1,243 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link FileCacheStorage} class.
+ */
+public class FileCacheStorageTests {
+    private static final int BLOCK_SIZE = 1024;
+    private static final int BLOCK_COUNT = 64;
+    private static final long MAX_SIZE = (long) BLOCK_SIZE * BLOCK_COUNT;
+    private final Random rnd = new Random(0);
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        this.file = File.createTempFile("pravega-", "-filecachetest");
+    }
+
+    @After
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    /**
+     * Tests {@link FileCacheStorage#insert}, {@link FileCacheStorage#get} and {@link FileCacheStorage#delete}.
+     */
+    @Test
+    public void testInsertGetDelete() {
+        @Cleanup
+        val c = createCache();
+        val entries = new HashMap<Integer, byte[]>();
+        long storedBytes = 0;
+        int usedBlocks = 0;
+
+        // Insert entries of various sizes, including empty ones and ones spanning multiple blocks.
+        for (int length : new int[]{0, 1, BLOCK_SIZE - 1, BLOCK_SIZE, BLOCK_SIZE + 1, 3 * BLOCK_SIZE + 17}) {
+            byte[] data = randomData(length);
+            int address = c.insert(new ByteArraySegment(data));
+            Assert.assertNotEquals("Unexpected address.", CacheStorage.NO_ADDRESS, address);
+            entries.put(address, data);
+            storedBytes += length;
+            usedBlocks += Math.max(1, (length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+            checkSnapshot(c, storedBytes, (long) usedBlocks * BLOCK_SIZE);
+        }
+
+        entries.forEach((address, data) -> checkData(c, address, data));
+
+        // Delete every other entry and verify the rest are unaffected.
+        val addresses = entries.keySet().toArray(new Integer[0]);
+        for (int i = 0; i < addresses.length; i += 2) {
+            byte[] data = entries.remove(addresses[i]);
+            c.delete(addresses[i]);
+            storedBytes -= data.length;
+            usedBlocks -= Math.max(1, (data.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+            checkSnapshot(c, storedBytes, (long) usedBlocks * BLOCK_SIZE);
+            Assert.assertNull("Not expecting a deleted entry to be retrievable.", c.get(addresses[i]));
+
+            // Deleting twice should have no effect.
+            c.delete(addresses[i]);
+            checkSnapshot(c, storedBytes, (long) usedBlocks * BLOCK_SIZE);
+        }
+
+        entries.forEach((address, data) -> checkData(c, address, data));
+
+        // Reinsert and verify we are reusing the freed blocks (allocated size should not change).
+        long allocatedBytes = c.getState().getAllocatedBytes();
+        byte[] data = randomData(BLOCK_SIZE);
+        int address = c.insert(new ByteArraySegment(data));
+        checkData(c, address, data);
+        Assert.assertEquals("Not expecting the file to grow when there are free blocks.", allocatedBytes, c.getState().getAllocatedBytes());
+
+        // Cleanup.
+        c.delete(address);
+        entries.keySet().forEach(c::delete);
+        checkSnapshot(c, 0, 0);
+    }
+
+    /**
+     * Tests {@link FileCacheStorage#append} and {@link FileCacheStorage#getAppendableLength}.
+     */
+    @Test
+    public void testAppend() {
+        @Cleanup
+        val c = createCache();
+        Assert.assertEquals("Unexpected appendable length for empty entry.", BLOCK_SIZE, c.getAppendableLength(0));
+        Assert.assertEquals("Unexpected appendable length for full block.", 0, c.getAppendableLength(BLOCK_SIZE));
+        Assert.assertEquals("Unexpected appendable length for partial block.", BLOCK_SIZE - 10, c.getAppendableLength(BLOCK_SIZE + 10));
+
+        byte[] expected = randomData(BLOCK_SIZE + 10);
+        int address = c.insert(new ByteArraySegment(expected, 0, BLOCK_SIZE + 1));
+        int length = BLOCK_SIZE + 1;
+
+        // Incorrect expected length.
+        AssertExtensions.assertThrows(
+                "append() accepted an incorrect expected length.",
+                () -> c.append(address, length + 1, new ByteArraySegment(expected, length, 1)),
+                ex -> ex instanceof IncorrectCacheEntryLengthException);
+
+        // Data too long.
+        AssertExtensions.assertThrows(
+                "append() accepted data longer than the appendable length.",
+                () -> c.append(address, length, new ByteArraySegment(new byte[c.getAppendableLength(length) + 1])),
+                ex -> ex instanceof IllegalArgumentException);
+
+        int appended = c.append(address, length, new ByteArraySegment(expected, length, expected.length - length));
+        Assert.assertEquals("Unexpected number of bytes appended.", expected.length - length, appended);
+        checkData(c, address, expected);
+        checkSnapshot(c, expected.length, 2 * BLOCK_SIZE);
+    }
+
+    /**
+     * Tests {@link FileCacheStorage#replace}.
+     */
+    @Test
+    public void testReplace() {
+        @Cleanup
+        val c = createCache();
+        byte[] data1 = randomData(2 * BLOCK_SIZE);
+        int address1 = c.insert(new ByteArraySegment(data1));
+        byte[] data2 = randomData(BLOCK_SIZE / 2);
+        int address2 = c.replace(address1, new ByteArraySegment(data2));
+        checkData(c, address2, data2);
+        checkSnapshot(c, data2.length, BLOCK_SIZE);
+    }
+
+    /**
+     * Tests the behavior of the {@link FileCacheStorage} when it is full.
+     */
+    @Test
+    public void testCacheFull() {
+        @Cleanup
+        val c = createCache();
+        int entryLength = 4 * BLOCK_SIZE;
+        val addresses = new int[BLOCK_COUNT / 4];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = c.insert(new ByteArraySegment(new byte[entryLength]));
+        }
+
+        checkSnapshot(c, MAX_SIZE, MAX_SIZE);
+
+        // No callback: should fail right away.
+        AssertExtensions.assertThrows(
+                "insert() worked when the cache was full.",
+                () -> c.insert(new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof CacheFullException);
+
+        // Callback that cannot free anything.
+        val callbackCount = new AtomicInteger();
+        c.setCacheFullCallback(() -> {
+            callbackCount.incrementAndGet();
+            return false;
+        }, 0);
+        AssertExtensions.assertThrows(
+                "insert() worked when the cache was full and no cleanup was possible.",
+                () -> c.insert(new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof CacheFullException);
+        Assert.assertEquals("Unexpected number of cleanup attempts.", FileCacheStorage.MAX_CLEANUP_ATTEMPTS, callbackCount.get());
+
+        // Callback that frees up an entry.
+        callbackCount.set(0);
+        c.setCacheFullCallback(() -> {
+            c.delete(addresses[callbackCount.getAndIncrement()]);
+            return true;
+        }, 0);
+        byte[] data = randomData(entryLength);
+        int address = c.insert(new ByteArraySegment(data));
+        Assert.assertEquals("Unexpected number of cleanup attempts.", 1, callbackCount.get());
+        checkData(c, address, data);
+        checkSnapshot(c, MAX_SIZE, MAX_SIZE);
+    }
+
+    /**
+     * Tests the ability to close the {@link FileCacheStorage} and that it deletes the underlying file.
+     */
+    @Test
+    public void testClose() {
+        val c = createCache();
+        int address = c.insert(new ByteArraySegment(randomData(10)));
+        c.close();
+        Assert.assertFalse("Expected the file to be deleted on close.", this.file.exists());
+        AssertExtensions.assertThrows(
+                "get() worked after close.",
+                () -> c.get(address),
+                ex -> ex instanceof ObjectClosedException);
+        AssertExtensions.assertThrows(
+                "insert() worked after close.",
+                () -> c.insert(new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    private FileCacheStorage createCache() {
+        return new FileCacheStorage(this.file.toPath(), MAX_SIZE, BLOCK_SIZE);
+    }
+
+    private byte[] randomData(int length) {
+        byte[] data = new byte[length];
+        this.rnd.nextBytes(data);
+        return data;
+    }
+
+    private void checkData(FileCacheStorage c, int address, byte[] expected) {
+        BufferView data = c.get(address);
+        Assert.assertNotNull("No data returned for address " + address, data);
+        Assert.assertArrayEquals("Unexpected data for address " + address, expected, data.getCopy());
+    }
+
+    private void checkSnapshot(FileCacheStorage c, long storedBytes, long usedBytes) {
+        val s = c.getState();
+        Assert.assertEquals("Unexpected Snapshot.StoredBytes.", storedBytes, s.getStoredBytes());
+        Assert.assertEquals("Unexpected Snapshot.UsedBytes.", usedBytes, s.getUsedBytes());
+        Assert.assertEquals("Unexpected Snapshot.ReservedBytes.", 0, s.getReservedBytes());
+        Assert.assertEquals("Unexpected Snapshot.MaxBytes.", MAX_SIZE, s.getMaxBytes());
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import io.pravega.common.concurrent.AsyncSemaphore;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Tests for {@link ChunkIOLimiter}.
+ */
+public class ChunkIOLimiterTests {
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @Test
+    public void testOperationLimit() {
+        val sharedLimiter = new AsyncSemaphore(100, 0, "test");
+        val limiter = new ChunkIOLimiter(sharedLimiter, 3, DIRECT_EXECUTOR, "test");
+        val tasks = new ArrayList<CompletableFuture<Void>>();
+        val results = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < 10; i++) {
+            val task = new CompletableFuture<Void>();
+            tasks.add(task);
+            results.add(limiter.run(() -> task));
+        }
+        Assert.assertEquals(3, limiter.getInFlightCount());
+        Assert.assertEquals(3, sharedLimiter.getUsedCredits());
+
+        // Complete tasks one at a time and check that the limit is never exceeded.
+        for (int i = 0; i < 10; i++) {
+            tasks.get(i).complete(null);
+            Assert.assertTrue(results.get(i).isDone());
+            AssertExtensions.assertLessThanOrEqual("Too many tasks in flight.", 3, limiter.getInFlightCount());
+        }
+        Assert.assertEquals(0, limiter.getInFlightCount());
+        Assert.assertEquals(0, sharedLimiter.getUsedCredits());
+        Assert.assertEquals(3, limiter.getMaxInFlightCount());
+    }
+
+    @Test
+    public void testSharedLimit() {
+        val sharedLimiter = new AsyncSemaphore(4, 0, "test");
+        val limiter1 = new ChunkIOLimiter(sharedLimiter, 3, DIRECT_EXECUTOR, "test1");
+        val limiter2 = new ChunkIOLimiter(sharedLimiter, 3, DIRECT_EXECUTOR, "test2");
+        val tasks = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < 3; i++) {
+            val task1 = new CompletableFuture<Void>();
+            val task2 = new CompletableFuture<Void>();
+            tasks.add(task1);
+            tasks.add(task2);
+            limiter1.run(() -> task1);
+            limiter2.run(() -> task2);
+        }
+        Assert.assertEquals(4, sharedLimiter.getUsedCredits());
+        Assert.assertEquals(4, limiter1.getInFlightCount() + limiter2.getInFlightCount());
+
+        tasks.forEach(t -> t.complete(null));
+        Assert.assertEquals(0, sharedLimiter.getUsedCredits());
+        Assert.assertEquals(0, limiter1.getInFlightCount() + limiter2.getInFlightCount());
+        AssertExtensions.assertLessThanOrEqual("Too many tasks in flight.", 4, limiter1.getMaxInFlightCount() + limiter2.getMaxInFlightCount());
+    }
+
+    @Test
+    public void testFailures() {
+        val sharedLimiter = new AsyncSemaphore(2, 0, "test");
+        val limiter = new ChunkIOLimiter(sharedLimiter, 2, DIRECT_EXECUTOR, "test");
+
+        // Synchronous failure.
+        val result1 = limiter.<Void>run(() -> {
+            throw new IntentionalException();
+        });
+        AssertExtensions.assertFutureThrows("Expected exception.", result1, ex -> ex instanceof IntentionalException);
+        Assert.assertEquals(0, sharedLimiter.getUsedCredits());
+
+        // Asynchronous failure.
+        val task = new CompletableFuture<Void>();
+        val result2 = limiter.run(() -> task);
+        Assert.assertEquals(1, sharedLimiter.getUsedCredits());
+        task.completeExceptionally(new IntentionalException());
+        AssertExtensions.assertFutureThrows("Expected exception.", result2, ex -> ex instanceof IntentionalException);
+        Assert.assertEquals(0, sharedLimiter.getUsedCredits());
+        Assert.assertEquals(0, limiter.getInFlightCount());
+    }
+
+    @Test
+    public void testAcquireAndRelease() {
+        val sharedLimiter = new AsyncSemaphore(10, 0, "test");
+        val limiter = new ChunkIOLimiter(sharedLimiter, 1, DIRECT_EXECUTOR, "test");
+        val first = limiter.acquire();
+        Assert.assertTrue(first.isDone());
+        val second = limiter.acquire();
+        Assert.assertFalse(second.isDone());
+
+        limiter.release();
+        Assert.assertTrue(second.isDone());
+        Assert.assertEquals(1, sharedLimiter.getUsedCredits());
+
+        val task = new CompletableFuture<Void>();
+        val result = limiter.runAcquired(() -> task);
+        Assert.assertEquals(1, limiter.getInFlightCount());
+        task.complete(null);
+        Assert.assertTrue(result.isDone());
+        Assert.assertEquals(0, limiter.getInFlightCount());
+        Assert.assertEquals(0, sharedLimiter.getUsedCredits());
+        Assert.assertEquals(1, limiter.getMaxInFlightCount());
+
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> new ChunkIOLimiter(sharedLimiter, 0, DIRECT_EXECUTOR, "test"));
+    }
+}
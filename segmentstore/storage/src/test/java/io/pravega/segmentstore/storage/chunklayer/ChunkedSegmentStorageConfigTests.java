@@ -59,6 +59,13 @@ public class ChunkedSegmentStorageConfigTests {
         props.setProperty(ChunkedSegmentStorageConfig.MAX_TRUNCATE_RELOCATION_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "22");
         props.setProperty(ChunkedSegmentStorageConfig.SELF_CHECK_DATA_INTEGRITY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
         props.setProperty(ChunkedSegmentStorageConfig.SELF_CHECK_METADATA_INTEGRITY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_METADATA_CACHE_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "23");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_METADATA_ENTRIES_TO_PREFETCH.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "24");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_CONCURRENT_CHUNK_IO_PER_OPERATION.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "25");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_CONCURRENT_CHUNK_IO.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "26");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_WRITE_PART_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "27");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_COALESCED_WRITE_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "28");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_COALESCED_CHUNK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "29");
 
         TypedProperties typedProperties = new TypedProperties(props, "storage");
         ChunkedSegmentStorageConfig config = new ChunkedSegmentStorageConfig(typedProperties);
@@ -90,6 +97,13 @@ public class ChunkedSegmentStorageConfigTests {
         Assert.assertEquals(config.getMaxSizeForTruncateRelocationInbytes(), 22);
         Assert.assertEquals(config.isSelfCheckForDataEnabled(), true);
         Assert.assertEquals(config.isSelfCheckForMetadataEnabled(), true);
+        Assert.assertEquals(config.getMaxCacheSizeInBytes(), 23);
+        Assert.assertEquals(config.getMaxEntriesToPrefetch(), 24);
+        Assert.assertEquals(config.getMaxConcurrentChunkIOPerOperation(), 25);
+        Assert.assertEquals(config.getMaxConcurrentChunkIO(), 26);
+        Assert.assertEquals(config.getMaxWritePartSize(), 27);
+        Assert.assertEquals(config.getMaxCoalescedWriteSize(), 28);
+        Assert.assertEquals(config.getMaxCoalescedChunkSize(), 29);
     }
 
     @Test
@@ -130,6 +144,13 @@ public class ChunkedSegmentStorageConfigTests {
         Assert.assertEquals(config.getMinPercentForTruncateRelocation(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMinPercentForTruncateRelocation());
         Assert.assertEquals(config.isSelfCheckForDataEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isSelfCheckForDataEnabled());
         Assert.assertEquals(config.isSelfCheckForMetadataEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isSelfCheckForMetadataEnabled());
+        Assert.assertEquals(config.getMaxCacheSizeInBytes(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxCacheSizeInBytes());
+        Assert.assertEquals(config.getMaxEntriesToPrefetch(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxEntriesToPrefetch());
+        Assert.assertEquals(config.getMaxConcurrentChunkIOPerOperation(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxConcurrentChunkIOPerOperation());
+        Assert.assertEquals(config.getMaxConcurrentChunkIO(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxConcurrentChunkIO());
+        Assert.assertEquals(config.getMaxWritePartSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxWritePartSize());
+        Assert.assertEquals(config.getMaxCoalescedWriteSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxCoalescedWriteSize());
+        Assert.assertEquals(config.getMaxCoalescedChunkSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxCoalescedChunkSize());
     }
 
     @Test
@@ -142,6 +163,8 @@ public class ChunkedSegmentStorageConfigTests {
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_SAFE_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
 
         testGetNonNegativeValue(ChunkedSegmentStorageConfig.MAX_INDEXED_SEGMENTS.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetNonNegativeValue(ChunkedSegmentStorageConfig.MAX_METADATA_ENTRIES_TO_PREFETCH.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetNonNegativeValue(ChunkedSegmentStorageConfig.MAX_COALESCED_WRITE_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_INDEXED_CHUNKS_PER_SEGMENTS.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_INDEXED_CHUNKS.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_DELAY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
@@ -160,6 +183,9 @@ public class ChunkedSegmentStorageConfigTests {
         testGetPositiveValue(ChunkedSegmentStorageConfig.MIN_TRUNCATE_RELOCATION_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MIN_TRUNCATE_RELOCATION_PERCENT.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.SELF_CHECK_LATE_WARNING_THRESHOLD.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_CONCURRENT_CHUNK_IO_PER_OPERATION.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_CONCURRENT_CHUNK_IO.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_COALESCED_CHUNK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
     }
 
     /**
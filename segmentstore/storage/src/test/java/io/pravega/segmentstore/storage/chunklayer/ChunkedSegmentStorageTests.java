@@ -1098,6 +1098,216 @@ public class ChunkedSegmentStorageTests extends ThreadPooledTestSuite {
         checkDataRead(testSegmentName, testContext, 0, bytes.length, bytes);
     }
 
+    /**
+     * Test that large writes are split into parts that are written in parallel when appends are disabled.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testParallelWritesNoAppends() throws Exception {
+        String testSegmentName = "foo";
+        ChunkedSegmentStorageConfig config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .appendEnabled(false)
+                .maxWritePartSize(10)
+                .maxConcurrentChunkIOPerOperation(2)
+                .build();
+        @Cleanup
+        TestContext testContext = getTestContext(config);
+        SegmentRollingPolicy policy = new SegmentRollingPolicy(100);
+
+        // Create
+        val hWrite = testContext.chunkedSegmentStorage.create(testSegmentName, policy, null).get();
+
+        // Write data that spans several parts.
+        val bytes = populate(75);
+        testContext.chunkedSegmentStorage.write(hWrite, 0, new ByteArrayInputStream(bytes, 0, 45), 45, null).join();
+        TestUtils.checkSegmentLayout(testContext.metadataStore, testSegmentName, new long[]{10, 10, 10, 10, 5});
+
+        // Write data that fits in a single part.
+        testContext.chunkedSegmentStorage.write(hWrite, 45, new ByteArrayInputStream(bytes, 45, 10), 10, null).join();
+        testContext.chunkedSegmentStorage.write(hWrite, 55, new ByteArrayInputStream(bytes, 55, 20), 20, null).join();
+        TestUtils.checkSegmentLayout(testContext.metadataStore, testSegmentName, new long[]{10, 10, 10, 10, 5, 10, 10, 10});
+        TestUtils.checkChunksExistInStorage(testContext.chunkStorage, testContext.metadataStore, testSegmentName);
+        checkDataRead(testSegmentName, testContext, 0, bytes.length, bytes);
+    }
+
+    /**
+     * Test that small writes to different segments are coalesced into shared chunks when appends are disabled.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testCoalescedWritesNoAppends() throws Exception {
+        ChunkedSegmentStorageConfig config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .appendEnabled(false)
+                .maxCoalescedWriteSize(10)
+                .build();
+        @Cleanup
+        TestContext testContext = getTestContext(config);
+        SegmentRollingPolicy policy = new SegmentRollingPolicy(100);
+        val isCoalescingExpected = !testContext.chunkedSegmentStorage.getConfig().isSelfCheckForMetadataEnabled();
+
+        // Create
+        int segmentCount = 5;
+        val handles = new ArrayList<SegmentHandle>();
+        for (int i = 0; i < segmentCount; i++) {
+            handles.add(testContext.chunkedSegmentStorage.create("segment" + i, policy, null).get());
+        }
+
+        // Write small data to all segments concurrently.
+        val bytes = populate(30);
+        for (int offset = 0; offset < 10; offset += 5) {
+            val futures = new ArrayList<CompletableFuture<Void>>();
+            for (val hWrite : handles) {
+                futures.add(testContext.chunkedSegmentStorage.write(hWrite, offset, new ByteArrayInputStream(bytes, offset, 5), 5, null));
+            }
+            Futures.allOf(futures).join();
+        }
+
+        // Write data that is too large to be coalesced.
+        for (val hWrite : handles) {
+            testContext.chunkedSegmentStorage.write(hWrite, 10, new ByteArrayInputStream(bytes, 10, 20), 20, null).join();
+        }
+
+        for (val hWrite : handles) {
+            val segmentName = hWrite.getSegmentName();
+            TestUtils.checkSegmentLayout(testContext.metadataStore, segmentName, new long[]{5, 5, 20});
+            val chunkList = TestUtils.getChunkList(testContext.metadataStore, segmentName);
+            Assert.assertEquals(isCoalescingExpected, chunkList.get(0).isSlice());
+            Assert.assertEquals(isCoalescingExpected, chunkList.get(1).isSlice());
+            Assert.assertFalse(chunkList.get(2).isSlice());
+            TestUtils.checkChunksExistInStorage(testContext.chunkStorage, testContext.metadataStore, segmentName);
+            checkDataRead(segmentName, testContext, 0, bytes.length, bytes);
+        }
+    }
+
+    /**
+     * Test that defrag during concat replaces slices with chunks owned by the target and that shared chunks are
+     * reclaimed once none of their slices are referenced.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testConcatWithSlices() throws Exception {
+        ChunkedSegmentStorageConfig config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .appendEnabled(false)
+                .maxCoalescedWriteSize(10)
+                .garbageCollectionDelay(Duration.ZERO)
+                .build();
+        @Cleanup
+        TestContext testContext = getTestContext(config);
+        ((AbstractInMemoryChunkStorage) testContext.chunkStorage).setShouldSupportConcat(true);
+        SegmentRollingPolicy policy = new SegmentRollingPolicy(100);
+
+        val hTarget = testContext.chunkedSegmentStorage.create("target", policy, null).get();
+        val hSource = testContext.chunkedSegmentStorage.create("source", policy, null).get();
+        val hOther = testContext.chunkedSegmentStorage.create("other", policy, null).get();
+
+        // Write small data to source and other concurrently so that they share chunks.
+        val bytes = populate(30);
+        for (int offset = 0; offset < 10; offset += 5) {
+            Futures.allOf(Arrays.asList(
+                    testContext.chunkedSegmentStorage.write(hSource, offset, new ByteArrayInputStream(bytes, 20 + offset, 5), 5, null),
+                    testContext.chunkedSegmentStorage.write(hOther, offset, new ByteArrayInputStream(bytes, 20 + offset, 5), 5, null))).join();
+        }
+        testContext.chunkedSegmentStorage.write(hTarget, 0, new ByteArrayInputStream(bytes, 0, 20), 20, null).join();
+        val sourceChunks = TestUtils.getChunkList(testContext.metadataStore, "source");
+
+        // Concat.
+        testContext.chunkedSegmentStorage.seal(hSource, null).join();
+        testContext.chunkedSegmentStorage.concat(hTarget, 20, "source", null).join();
+
+        val chunkList = TestUtils.getChunkList(testContext.metadataStore, "target");
+        Assert.assertTrue(chunkList.stream().noneMatch(ChunkMetadata::isSlice));
+        Assert.assertEquals(30, chunkList.stream().mapToLong(ChunkMetadata::getLength).sum());
+        TestUtils.checkChunksExistInStorage(testContext.chunkStorage, testContext.metadataStore, "target");
+        checkDataRead("target", testContext, 0, bytes.length, bytes);
+
+        // Run garbage collection till there is nothing left to collect.
+        val garbageCollector = testContext.chunkedSegmentStorage.getGarbageCollector();
+        val taskQueue = (InMemoryTaskQueueManager) testContext.taskQueue;
+        while (!taskQueue.getTaskQueueMap().get(garbageCollector.getTaskQueueName()).isEmpty()) {
+            garbageCollector.processBatch(taskQueue.drain(garbageCollector.getTaskQueueName(), 100)).join();
+        }
+
+        // The slices of the other segment are repacked by the garbage collector too, so no shared chunk is left.
+        val otherChunks = TestUtils.getChunkList(testContext.metadataStore, "other");
+        Assert.assertTrue(otherChunks.stream().noneMatch(ChunkMetadata::isSlice));
+        for (val slice : sourceChunks) {
+            if (!slice.isSlice()) {
+                continue;
+            }
+            Assert.assertNull(TestUtils.getChunkMetadata(testContext.metadataStore, slice.getName()));
+            Assert.assertNull(TestUtils.getChunkMetadata(testContext.metadataStore, slice.getSharedChunkName()));
+            Assert.assertFalse(testContext.chunkStorage.exists(slice.getSharedChunkName()).get());
+        }
+        TestUtils.checkChunksExistInStorage(testContext.chunkStorage, testContext.metadataStore, "other");
+        checkDataRead("other", testContext, 0, 10, Arrays.copyOfRange(bytes, 20, 30));
+    }
+
+    /**
+     * Test that the garbage collector repacks the slices of segments that are never concatenated, and that shared chunks
+     * are deleted once all of their slices are repacked.
+     *
+     * @throws Exception Exception if any.
+     */
+    @Test
+    public void testRepackSlices() throws Exception {
+        ChunkedSegmentStorageConfig config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .appendEnabled(false)
+                .maxCoalescedWriteSize(10)
+                .garbageCollectionDelay(Duration.ZERO)
+                .build();
+        @Cleanup
+        TestContext testContext = getTestContext(config);
+        SegmentRollingPolicy policy = new SegmentRollingPolicy(100);
+        val isCoalescingExpected = !testContext.chunkedSegmentStorage.getConfig().isSelfCheckForMetadataEnabled();
+
+        val hFirst = testContext.chunkedSegmentStorage.create("first", policy, null).get();
+        val hSecond = testContext.chunkedSegmentStorage.create("second", policy, null).get();
+
+        // Write small data to both segments concurrently so that they share chunks. The first segment gets two runs
+        // of slices, separated by a chunk of its own.
+        val bytes = populate(35);
+        for (int offset = 0; offset < 10; offset += 5) {
+            Futures.allOf(Arrays.asList(
+                    testContext.chunkedSegmentStorage.write(hFirst, offset, new ByteArrayInputStream(bytes, offset, 5), 5, null),
+                    testContext.chunkedSegmentStorage.write(hSecond, offset, new ByteArrayInputStream(bytes, offset, 5), 5, null))).join();
+        }
+        testContext.chunkedSegmentStorage.write(hFirst, 10, new ByteArrayInputStream(bytes, 10, 20), 20, null).join();
+        testContext.chunkedSegmentStorage.write(hFirst, 30, new ByteArrayInputStream(bytes, 30, 5), 5, null).join();
+        TestUtils.checkSegmentLayout(testContext.metadataStore, "first", new long[]{5, 5, 20, 5});
+        val slices = new ArrayList<ChunkMetadata>();
+        slices.addAll(TestUtils.getChunkList(testContext.metadataStore, "first"));
+        slices.addAll(TestUtils.getChunkList(testContext.metadataStore, "second"));
+        slices.removeIf(c -> !c.isSlice());
+        Assert.assertEquals(isCoalescingExpected ? 5 : 0, slices.size());
+
+        // Run garbage collection till there is nothing left to collect.
+        val garbageCollector = testContext.chunkedSegmentStorage.getGarbageCollector();
+        val taskQueue = (InMemoryTaskQueueManager) testContext.taskQueue;
+        while (!taskQueue.getTaskQueueMap().get(garbageCollector.getTaskQueueName()).isEmpty()) {
+            garbageCollector.processBatch(taskQueue.drain(garbageCollector.getTaskQueueName(), 100)).join();
+        }
+
+        // Each run of slices is replaced with a single chunk.
+        TestUtils.checkSegmentLayout(testContext.metadataStore, "first", isCoalescingExpected ? new long[]{10, 20, 5} : new long[]{5, 5, 20, 5});
+        TestUtils.checkSegmentLayout(testContext.metadataStore, "second", isCoalescingExpected ? new long[]{10} : new long[]{5, 5});
+        for (val segmentName : Arrays.asList("first", "second")) {
+            Assert.assertTrue(TestUtils.getChunkList(testContext.metadataStore, segmentName).stream().noneMatch(ChunkMetadata::isSlice));
+            TestUtils.checkChunksExistInStorage(testContext.chunkStorage, testContext.metadataStore, segmentName);
+        }
+        checkDataRead("first", testContext, 0, bytes.length, bytes);
+        checkDataRead("second", testContext, 0, 10, Arrays.copyOfRange(bytes, 0, 10));
+
+        // Neither the slices nor the shared chunks holding them are left.
+        for (val slice : slices) {
+            Assert.assertNull(TestUtils.getChunkMetadata(testContext.metadataStore, slice.getName()));
+            Assert.assertNull(TestUtils.getChunkMetadata(testContext.metadataStore, slice.getSharedChunkName()));
+            Assert.assertFalse(testContext.chunkStorage.exists(slice.getSharedChunkName()).get());
+        }
+    }
+
     /**
      * Test write with invalid arguments.
      *
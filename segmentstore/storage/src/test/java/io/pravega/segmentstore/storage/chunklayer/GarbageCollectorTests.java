@@ -318,6 +318,67 @@ public class GarbageCollectorTests extends ThreadPooledTestSuite {
         Assert.assertNull(getChunkMetadata(metadataStore, "deletedChunk"));
     }
 
+    /**
+     * Test for slices of a shared chunk that are marked inactive and added as garbage.
+     */
+    @Test
+    public void testDeletedSlices() throws Exception {
+        @Cleanup
+        ChunkStorage chunkStorage = getChunkStorage();
+        @Cleanup
+        ChunkMetadataStore metadataStore = getMetadataStore();
+        int containerId = CONTAINER_ID;
+
+        insertChunk(chunkStorage, "sharedChunk", 10);
+        insertChunkMetadata(metadataStore, "sharedChunk", 10, 1);
+        insertSliceMetadata(metadataStore, "slice1", "sharedChunk", 0, 4);
+        insertSliceMetadata(metadataStore, "slice2", "sharedChunk", 4, 6);
+
+        Function<Duration, CompletableFuture<Void>> noDelay = d -> CompletableFuture.completedFuture(null);
+        val testTaskQueue = new InMemoryTaskQueueManager();
+
+        @Cleanup
+        GarbageCollector garbageCollector = new GarbageCollector(containerId,
+                chunkStorage,
+                metadataStore,
+                ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                        .garbageCollectionDelay(Duration.ofMillis(1))
+                        .garbageCollectionSleep(Duration.ofMillis(1))
+                        .build(),
+                executorService(),
+                System::currentTimeMillis,
+                noDelay);
+
+        // Now actually start run
+        garbageCollector.initialize(testTaskQueue).join();
+
+        // Release first slice, shared chunk is still referenced.
+        garbageCollector.addChunksToGarbage(TXN_ID, Collections.singleton("slice1")).join();
+        garbageCollector.processBatch(testTaskQueue.drain(garbageCollector.getTaskQueueName(), 1)).join();
+
+        Assert.assertNull(getChunkMetadata(metadataStore, "slice1"));
+        Assert.assertEquals(6, getChunkMetadata(metadataStore, "sharedChunk").getLength());
+        Assert.assertTrue(getChunkMetadata(metadataStore, "sharedChunk").isActive());
+        Assert.assertTrue(chunkStorage.exists("sharedChunk").get());
+        Assert.assertEquals(0, garbageCollector.getQueueSize().get());
+
+        // Release second slice, shared chunk is no longer referenced.
+        garbageCollector.addChunksToGarbage(TXN_ID, Collections.singleton("slice2")).join();
+        garbageCollector.processBatch(testTaskQueue.drain(garbageCollector.getTaskQueueName(), 1)).join();
+
+        Assert.assertNull(getChunkMetadata(metadataStore, "slice2"));
+        Assert.assertFalse(getChunkMetadata(metadataStore, "sharedChunk").isActive());
+        Assert.assertEquals(1, garbageCollector.getQueueSize().get());
+        Assert.assertEquals("sharedChunk", testTaskQueue.getTaskQueueMap().get(garbageCollector.getTaskQueueName()).peek().getName());
+
+        // Shared chunk is deleted.
+        garbageCollector.processBatch(testTaskQueue.drain(garbageCollector.getTaskQueueName(), 1)).join();
+
+        Assert.assertEquals(0, garbageCollector.getQueueSize().get());
+        Assert.assertFalse(chunkStorage.exists("sharedChunk").get());
+        Assert.assertNull(getChunkMetadata(metadataStore, "sharedChunk"));
+    }
+
     /**
      * Test for chunk that is marked inactive, added as garbage but missing from storage.
      */
@@ -1334,6 +1395,18 @@ public class GarbageCollectorTests extends ThreadPooledTestSuite {
         Assert.assertTrue(chunkStorage.exists(chunkName).get());
     }
 
+    private void insertSliceMetadata(ChunkMetadataStore metadataStore, String sliceName, String sharedChunkName, long offset, int dataSize) throws Exception {
+        try (val txn = metadataStore.beginTransaction(false, sliceName)) {
+            txn.create(ChunkMetadata.builder()
+                    .name(sliceName)
+                    .length(dataSize)
+                    .sharedChunkName(sharedChunkName)
+                    .offsetInSharedChunk(offset)
+                    .build());
+            txn.commit().get();
+        }
+    }
+
     private void insertChunkMetadata(ChunkMetadataStore metadataStore, String chunkName, int dataSize, int status) throws Exception {
         try (val txn = metadataStore.beginTransaction(false, chunkName)) {
             txn.create(ChunkMetadata.builder()
@@ -25,6 +25,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -171,6 +172,23 @@ public class ReadIndexCacheTests {
         Assert.assertEquals(1, cache.getIndexEntryCache().asMap().size());
     }
 
+    @Test
+    public void testFindChunks() {
+        String segmentName = "testSegment";
+        ReadIndexCache cache = new ReadIndexCache(10, 10);
+        Assert.assertEquals(0, cache.findChunks(segmentName, 0, 100, 10).size());
+        for (int i = 0; i < 5; i++) {
+            cache.addIndexEntry(segmentName, "chunk" + i, 10 * i);
+        }
+
+        Assert.assertEquals(Arrays.asList("chunk1", "chunk2", "chunk3"), cache.findChunks(segmentName, 1, 31, 10));
+        Assert.assertEquals(Arrays.asList("chunk1", "chunk2"), cache.findChunks(segmentName, 10, 30, 10));
+        Assert.assertEquals(Arrays.asList("chunk1", "chunk2"), cache.findChunks(segmentName, 1, 100, 2));
+        Assert.assertEquals(0, cache.findChunks(segmentName, 11, 19, 10).size());
+        Assert.assertEquals(0, cache.findChunks(segmentName, 30, 10, 10).size());
+        Assert.assertEquals(0, cache.findChunks("nonExistent", 0, 100, 10).size());
+    }
+
     @Test
     public void testRemoveNonExistent() {
         String segmentName = "testSegment";
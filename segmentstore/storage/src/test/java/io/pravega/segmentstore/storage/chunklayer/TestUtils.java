@@ -316,6 +316,16 @@ public class TestUtils {
         HashSet<String> visited = new HashSet<>();
         val chunkList = getChunkList(metadataStore, segmentName);
         for (ChunkMetadata chunkMetadata : chunkList) {
+            if (chunkMetadata.isSlice()) {
+                // Slices share the storage chunk with slices of other segments.
+                Assert.assertTrue(chunkStorage.exists(chunkMetadata.getSharedChunkName()).get());
+                val sharedInfo = chunkStorage.getInfo(chunkMetadata.getSharedChunkName()).get();
+                Assert.assertTrue(String.format("Actual %s, Expected %d", chunkMetadata, sharedInfo.getLength()),
+                        chunkMetadata.getOffsetInSharedChunk() + chunkMetadata.getLength() <= sharedInfo.getLength());
+                chunkCount++;
+                dataSize += chunkMetadata.getLength();
+                continue;
+            }
             Assert.assertTrue(chunkStorage.exists(chunkMetadata.getName()).get());
             val info = chunkStorage.getInfo(chunkMetadata.getName()).get();
             Assert.assertTrue(String.format("Actual %s, Expected %d", chunkMetadata, info.getLength()),
@@ -16,11 +16,13 @@
 package io.pravega.segmentstore.storage.chunklayer;
 
 import io.pravega.common.Exceptions;
+import io.pravega.segmentstore.storage.SegmentRollingPolicy;
 import io.pravega.segmentstore.storage.metadata.BaseMetadataStore;
 import io.pravega.segmentstore.storage.metadata.ChunkMetadata;
 import io.pravega.segmentstore.storage.metadata.StatusFlags;
 import io.pravega.segmentstore.storage.mocks.InMemoryChunkStorage;
 import io.pravega.segmentstore.storage.mocks.InMemoryMetadataStore;
+import io.pravega.segmentstore.storage.mocks.InMemoryTaskQueueManager;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import lombok.Cleanup;
@@ -32,6 +34,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -200,6 +203,66 @@ public class UtilsWrapperTests extends ThreadPooledTestSuite {
         }
     }
 
+    @Test
+    public void testSlices() throws Exception {
+        val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .appendEnabled(false)
+                .maxCoalescedWriteSize(10)
+                .build();
+        val segmentName = "test";
+        // Set up
+        @Cleanup
+        ChunkStorage chunkStorage = new InMemoryChunkStorage(executorService());
+        @Cleanup
+        BaseMetadataStore metadataStore = new InMemoryMetadataStore(config, executorService());
+        @Cleanup
+        ChunkedSegmentStorage chunkedSegmentStorage = new ChunkedSegmentStorage(CONTAINER_ID, chunkStorage, metadataStore, executorService(), config);
+        chunkedSegmentStorage.initialize(CONTAINER_EPOCH);
+        chunkedSegmentStorage.getGarbageCollector().initialize(new InMemoryTaskQueueManager()).join();
+
+        // Small writes are coalesced into slices of shared chunks.
+        val h = chunkedSegmentStorage.create(segmentName, new SegmentRollingPolicy(100), null).join();
+        val data = new byte[10];
+        random.nextBytes(data);
+        for (int offset = 0; offset < data.length; offset += 5) {
+            chunkedSegmentStorage.write(h, offset, new ByteArrayInputStream(data, offset, 5), 5, null).join();
+        }
+        val chunkMetadataList = TestUtils.getChunkList(metadataStore, segmentName);
+        Assert.assertEquals(2, chunkMetadataList.size());
+
+        // Test
+        UtilsWrapper wrapper = new UtilsWrapper(chunkedSegmentStorage, BUFFER_SIZE, Duration.ZERO);
+
+        val infoList = wrapper.getExtendedChunkInfoList(segmentName, true).join();
+        Assert.assertEquals(chunkMetadataList.size(), infoList.size());
+        for (int i = 0; i < chunkMetadataList.size(); i++) {
+            val slice = chunkMetadataList.get(i);
+            Assert.assertTrue(slice.isSlice());
+
+            // Only the range referenced by the slice is copied.
+            val actual = new ByteArrayOutputStream(5);
+            wrapper.copyFromChunk(slice.getName(), actual).join();
+            Assert.assertArrayEquals(Arrays.copyOfRange(data, 5 * i, 5 * (i + 1)), actual.toByteArray());
+
+            // Shared chunks can not be overwritten through a slice.
+            AssertExtensions.assertFutureThrows("overwriteChunk() allowed for slice",
+                    wrapper.overwriteChunk(slice.getName(), new ByteArrayInputStream(new byte[5]), 5),
+                    ex -> ex instanceof IllegalArgumentException);
+
+            // Storage information is that of the referenced range in the shared chunk.
+            val info = infoList.get(i);
+            Assert.assertEquals(slice.getName(), info.getChunkName());
+            Assert.assertTrue(info.isExistsInStorage());
+            Assert.assertEquals(5, info.getLengthInStorage());
+            Assert.assertEquals(5, info.getLengthInMetadata());
+        }
+
+        // Read back and validate segment
+        val segmentContents = new ByteArrayOutputStream(data.length);
+        wrapper.copyFromSegment(segmentName, segmentContents).join();
+        Assert.assertArrayEquals(data, segmentContents.toByteArray());
+    }
+
     @Test
     public void testEvictReadIndexCache() throws Exception {
         val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG;
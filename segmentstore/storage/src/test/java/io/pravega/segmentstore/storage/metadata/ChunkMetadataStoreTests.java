@@ -34,6 +34,7 @@ import org.junit.Test;
 import org.junit.rules.Timeout;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
@@ -1554,6 +1555,112 @@ public class ChunkMetadataStoreTests extends ThreadPooledTestSuite {
         Assert.assertTrue(allKeysAfter.contains(KEY2));
     }
 
+    @Test
+    public void testPrefetch() throws Exception {
+        try (MetadataTransaction txn = metadataStore.beginTransaction(false, KEYS)) {
+            txn.create(new MockStorageMetadata(KEY0, VALUE0));
+            txn.create(new MockStorageMetadata(KEY1, VALUE1));
+            txn.commit().join();
+        }
+        metadataStore.evictAllEligibleEntriesFromBuffer();
+        metadataStore.evictFromCache();
+        Assert.assertFalse(metadataStore.isCached(KEY0));
+        Assert.assertFalse(metadataStore.isCached(KEY1));
+
+        // Both existing and missing keys should be loaded.
+        metadataStore.prefetch(Arrays.asList(KEY0, KEY1, KEY3, KEY3, null)).join();
+        Assert.assertTrue(metadataStore.isCached(KEY0));
+        Assert.assertTrue(metadataStore.isCached(KEY1));
+        Assert.assertTrue(metadataStore.isCached(KEY3));
+        Assert.assertFalse(metadataStore.isCached(KEY2));
+
+        // Nothing left to load.
+        metadataStore.prefetch(Arrays.asList(KEY0, KEY1, KEY3)).join();
+
+        if (metadataStore instanceof InMemoryMetadataStore) {
+            // Prefetched values must be served without going to the backing store.
+            ((InMemoryMetadataStore) metadataStore).getBackingStore().clear();
+        }
+        try (MetadataTransaction txn = metadataStore.beginTransaction(true, KEYS)) {
+            assertEquals(txn.get(KEY0), KEY0, VALUE0);
+            assertEquals(txn.get(KEY1), KEY1, VALUE1);
+            assertNull(txn.get(KEY3));
+        }
+    }
+
+    /**
+     * Tests that a prefetch does not install a record that has been updated while it was being read from the store.
+     */
+    @Test
+    public void testPrefetchWithConcurrentUpdate() throws Exception {
+        if (!(metadataStore instanceof InMemoryMetadataStore)) {
+            return;
+        }
+        val testStore = (InMemoryMetadataStore) metadataStore;
+        try (MetadataTransaction txn = metadataStore.beginTransaction(false, KEYS)) {
+            txn.create(new MockStorageMetadata(KEY0, VALUE0));
+            txn.commit().join();
+        }
+        metadataStore.evictAllEligibleEntriesFromBuffer();
+        metadataStore.evictFromCache();
+
+        // Block the prefetch after it has read the old value.
+        val readStarted = new CompletableFuture<Void>();
+        val releaseRead = new CompletableFuture<Void>();
+        testStore.setReadCallback(data -> {
+            readStarted.complete(null);
+            return releaseRead;
+        });
+        val prefetchFuture = metadataStore.prefetch(Arrays.asList(KEY0));
+        readStarted.join();
+        testStore.setReadCallback(null);
+
+        // Update the record and try to evict it from both the buffer and the cache before the prefetch completes.
+        try (MetadataTransaction txn = metadataStore.beginTransaction(false, KEYS)) {
+            assertEquals(txn.get(KEY0), KEY0, VALUE0);
+            txn.update(new MockStorageMetadata(KEY0, VALUE1));
+            txn.commit().join();
+        }
+        metadataStore.evictAllEligibleEntriesFromBuffer();
+        metadataStore.evictFromCache();
+        releaseRead.complete(null);
+        prefetchFuture.join();
+
+        try (MetadataTransaction txn = metadataStore.beginTransaction(true, KEYS)) {
+            assertEquals(txn.get(KEY0), KEY0, VALUE1);
+        }
+    }
+
+    @Test
+    public void testCacheSizeInBytes() throws Exception {
+        if (!(metadataStore instanceof InMemoryMetadataStore)) {
+            return;
+        }
+        val maxEntries = 20;
+        val entrySize = BaseMetadataStore.estimateSize("key-00", BaseMetadataStore.TransactionData.builder()
+                .key("key-00")
+                .value(new MockStorageMetadata("key-00", VALUE0))
+                .build());
+        Assert.assertTrue("Absent records should be cheaper than present ones.",
+                BaseMetadataStore.estimateSize("key-00", BaseMetadataStore.TransactionData.builder().key("key-00").build()) < entrySize);
+
+        val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .maxCacheSizeInBytes(maxEntries * entrySize)
+                .build();
+        val testMetadataStore = new InMemoryMetadataStore(config, executorService());
+        val keys = new ArrayList<String>();
+        for (int i = 0; i < 5 * maxEntries; i++) {
+            keys.add(String.format("key-%02d", i));
+        }
+        try (MetadataTransaction txn = testMetadataStore.beginTransaction(false, keys.toArray(new String[0]))) {
+            keys.forEach(key -> txn.create(new MockStorageMetadata(key, VALUE0)));
+            txn.commit().join();
+        }
+        testMetadataStore.evictAllEligibleEntriesFromBuffer();
+        val cachedCount = keys.stream().filter(testMetadataStore::isCached).count();
+        AssertExtensions.assertLessThanOrEqual("Cache should be bounded by the estimated size of its entries.", maxEntries, cachedCount);
+    }
+
     private void assertNotNull(CompletableFuture<StorageMetadata> data) throws Exception {
         Assert.assertNotNull(data.get());
     }
@@ -77,6 +77,14 @@ public class StorageMetadataSerializationTests {
                 .name("name")
                 .length(1)
                 .status(2)
+                .build());        // Slice of a shared chunk
+        testStorageMetadataSerialization(ChunkMetadata.builder()
+                .name("name")
+                .nextChunk("nextChunk")
+                .length(1)
+                .status(2)
+                .sharedChunkName("sharedChunk")
+                .offsetInSharedChunk(3)
                 .build());
     }
 
@@ -133,6 +141,14 @@ public class StorageMetadataSerializationTests {
                 .name("name")
                 .length(1)
                 .status(2)
+                .build());        // Slice of a shared chunk
+        testStorageMetadataDeepCopy(ChunkMetadata.builder()
+                .name("name")
+                .nextChunk("nextChunk")
+                .length(1)
+                .status(2)
+                .sharedChunkName("sharedChunk")
+                .offsetInSharedChunk(3)
                 .build());
     }
 
@@ -106,6 +106,9 @@ public final class MetricsNames {
     public static final String TABLE_SEGMENT_GET_INFO = PREFIX + "segmentstore.tablesegment.get_info";                     // Counter and Per-segment Counter
 
     public static final String TABLE_SEGMENT_USED_CREDITS = PREFIX + "segmentstore.tablesegment.used_credits";  // Gauge
+    public static final String TABLE_SEGMENT_BLOOM_FILTER_SAVED_LOOKUPS = PREFIX + "segmentstore.tablesegment.bloom_filter.saved_lookups";              // Counter
+    public static final String TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVES = PREFIX + "segmentstore.tablesegment.bloom_filter.false_positives";          // Counter
+    public static final String TABLE_SEGMENT_BLOOM_FILTER_FALSE_POSITIVE_RATE = PREFIX + "segmentstore.tablesegment.bloom_filter.false_positive_rate"; // Gauge
 
     // Storage stats
     public static final String STORAGE_READ_LATENCY = PREFIX + "segmentstore.storage.read_latency_ms";     // Histogram
@@ -138,6 +141,9 @@ public final class MetricsNames {
     public static final String SLTS_SYSTEM_NUM_CHUNKS_ADDED = PREFIX + "segmentstore.storage.slts.system_num_chunks_added"; // Histogram
 
     public static final String SLTS_READ_INSTANT_TPUT = PREFIX + "segmentstore.storage.slts.read_instant_tput";       // Histogram
+    public static final String SLTS_READ_PARALLELISM = PREFIX + "segmentstore.storage.slts.read_parallelism";        // Histogram
+    public static final String SLTS_WRITE_PARALLELISM = PREFIX + "segmentstore.storage.slts.write_parallelism";      // Histogram
+    public static final String SLTS_NUM_WRITES_COALESCED = PREFIX + "segmentstore.storage.slts.num_writes_coalesced"; // Histogram
     public static final String SLTS_WRITE_INSTANT_TPUT = PREFIX + "segmentstore.storage.slts.write_instant_tput";     // Histogram
 
     public static final String SLTS_READ_INDEX_SCAN_LATENCY = PREFIX + "segmentstore.storage.slts.read_index.scan_latency_ms";              // Histogram
@@ -173,6 +179,7 @@ public final class MetricsNames {
     public static final String SLTS_GC_CHUNK_DELETED = PREFIX + "segmentstore.storage.slts.GC.chunk_deleted_count";     // Counter
     public static final String SLTS_GC_CHUNK_RETRY = PREFIX + "segmentstore.storage.slts.GC.chunk_retry_count";         // Counter
     public static final String SLTS_GC_CHUNK_FAILED = PREFIX + "segmentstore.storage.slts.GC.chunk_failed_count";       // Counter
+    public static final String SLTS_GC_SLICE_RELEASED = PREFIX + "segmentstore.storage.slts.GC.slice_released_count";   // Counter
 
     public static final String SLTS_GC_SEGMENT_QUEUED = PREFIX + "segmentstore.storage.slts.GC.segment_queued_count";       // Counter
     public static final String SLTS_GC_SEGMENT_PROCESSED = PREFIX + "segmentstore.storage.slts.GC.segment_deleted_count";   // Counter
@@ -196,6 +203,7 @@ public final class MetricsNames {
     public static final String STORAGE_METADATA_STORE_HIT_COUNT = PREFIX + "segmentstore.storage.metadata_store_hit_count";   // Counter
     public static final String STORAGE_METADATA_MISS_COUNT = PREFIX + "segmentstore.storage.metadata_miss_count";             // Counter
     public static final String STORAGE_METADATA_BUFFER_EVICTED_COUNT = PREFIX + "segmentstore.storage.metadata_buffer_evicted_count";             // Counter
+    public static final String STORAGE_METADATA_PREFETCHED_COUNT = PREFIX + "segmentstore.storage.metadata_prefetched_count";                 // Counter
 
     public static final String STORAGE_METADATA_BUFFER_SIZE = PREFIX + "segmentstore.storage.metadata_buffer_record_count";         // Gauge
     public static final String STORAGE_METADATA_CACHE_SIZE = PREFIX + "segmentstore.storage.metadata_cache_record_count";           // Gauge
@@ -211,6 +219,14 @@ public final class MetricsNames {
     public static final String CACHE_ALLOC_SIZE_BYTES = PREFIX + "segmentstore.cache.allocated_size_bytes";                       // Gauge
     public static final String CACHE_GENERATION_SPREAD = PREFIX + "segmentstore.cache.gen";                                       // Histogram
     public static final String CACHE_MANAGER_ITERATION_DURATION = PREFIX + "segmentstore.cache.manager_iteration_duration_ms";    // Timer
+    public static final String CACHE_HIT_RATIO = PREFIX + "segmentstore.cache.hit_ratio";                                         // Gauge
+    public static final String CACHE_FILE_WRITE_BYTES = PREFIX + "segmentstore.cache.file.write_bytes";                           // Counter
+    public static final String CACHE_FILE_READ_BYTES = PREFIX + "segmentstore.cache.file.read_bytes";                             // Counter
+    public static final String CACHE_FILE_DELETE_BYTES = PREFIX + "segmentstore.cache.file.delete_bytes";                         // Counter
+    public static final String CACHE_FILE_HIT_COUNT = PREFIX + "segmentstore.cache.file.hit_count";                               // Counter
+    public static final String CACHE_FILE_MISS_COUNT = PREFIX + "segmentstore.cache.file.miss_count";                             // Counter
+    public static final String CACHE_FILE_STORED_SIZE_BYTES = PREFIX + "segmentstore.cache.file.stored_size_bytes";               // Gauge
+    public static final String CACHE_FILE_USED_SIZE_BYTES = PREFIX + "segmentstore.cache.file.used_size_bytes";                   // Gauge
 
     // DurableDataLog (Tier1) stats
     public static final String BK_TOTAL_WRITE_LATENCY = PREFIX + "segmentstore.bookkeeper.total_write_latency_ms";   // Including Queue. Per-container Histogram
@@ -219,6 +235,7 @@ public final class MetricsNames {
     public static final String BK_WRITE_QUEUE_SIZE = PREFIX + "segmentstore.bookkeeper.write_queue_size";            // Per-container Histogram
     public static final String BK_WRITE_QUEUE_FILL_RATE = PREFIX + "segmentstore.bookkeeper.write_queue_fill";       // Per-container Histogram
     public static final String BK_LEDGER_COUNT = PREFIX + "segmentstore.bookkeeper.ledger_count";                    // Per-container Gauge
+    public static final String BK_LEDGER_ROLLOVER_STALL_LATENCY = PREFIX + "segmentstore.bookkeeper.rollover_stall_latency_ms"; // Per-container Histogram
 
     // StorageWriter stats
     public static final String STORAGE_WRITER_FLUSH_ELAPSED = PREFIX + "segmentstore.storagewriter.flush_elapsed_ms";         // Time to flush all processors. Per-container Histogram.
@@ -241,6 +258,9 @@ public final class MetricsNames {
     public static final String CONTAINER_SEAL_COUNT = PREFIX + "segmentstore.container.seal_count";                                                 // Per-container Event Counter
     public static final String CONTAINER_TRUNCATE_COUNT = PREFIX + "segmentstore.container.truncate_count";                                         // Per-container Event Counter
     public static final String CONTAINER_RECOVERY_TIME = PREFIX + "segmentstore.container.recovery_time";                                           // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_OPERATIONS_PER_SEC = PREFIX + "segmentstore.container.recovery_operations_per_sec";              // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_BYTES_PER_SEC = PREFIX + "segmentstore.container.recovery_bytes_per_sec";                        // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_STAGE_TIME = PREFIX + "segmentstore.container.recovery_stage_time";                             // Per-container, per-stage Gauge
     public static final String CONTAINER_EVENT_PROCESSOR_OUTSTANDING_BYTES = PREFIX + "segmentstore.container.event_processor_outstanding_bytes";   // Per-processor Gauge
     public static final String CONTAINER_EVENT_PROCESSOR_BATCH_LATENCY = PREFIX + "segmentstore.container.event_processor_batch_latency";           // Per-processor Histogram
 
@@ -256,6 +276,8 @@ public final class MetricsNames {
     public static final String OPERATION_COMMIT_MEMORY_COUNT = PREFIX + "segmentstore.container.operation_commit.memory_count";              // Per-container Histogram
     public static final String OPERATION_COMMIT_MEMORY_LATENCY = PREFIX + "segmentstore.container.operation_commit.memory_latency_ms";       // Per-container Histogram
     public static final String OPERATION_LOG_SIZE = PREFIX + "segmentstore.container.operation.log_size";                                    // Per-container Counter
+    public static final String OPERATION_DATA_FRAME_COMPRESSION_RATIO = PREFIX + "segmentstore.container.data_frame.compression_ratio";     // Per-container Histogram
+    public static final String OPERATION_DATA_FRAME_COMPRESSION_LATENCY = PREFIX + "segmentstore.container.data_frame.compression_latency_us"; // Per-container Histogram
 
     // Segment container metadata
     public static final String ACTIVE_SEGMENT_COUNT = PREFIX + "segmentstore.container.active_segments";   // Per-container Gauge
@@ -38,6 +38,9 @@ public final class MetricsTags {
     public static final String TAG_EXCEPTION = "exception";
     public static final String TAG_THROTTLER = "throttler";
     public static final String TAG_EVENT_PROCESSOR = "eventprocessor";
+    public static final String TAG_CACHE_EVICTION_POLICY = "evictionpolicy";
+    public static final String TAG_CACHE_ENTRY_TYPE = "entrytype";
+    public static final String TAG_RECOVERY_STAGE = "recoverystage";
 
     private static final String TRANSACTION_DELIMITER = "#transaction.";
     private static final String EPOCH_DELIMITER = ".#epoch.";
@@ -73,6 +76,16 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_THROTTLER, throttler};
     }
 
+    /**
+     * Generate a recovery stage tag (string array) on the input recovery stage to be associated with a metric.
+     * @param containerId container id.
+     * @param stage recovery stage name.
+     * @return string array as the recovery stage tag of metric.
+     */
+    public static String[] recoveryStageTag(int containerId, String stage) {
+        return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_RECOVERY_STAGE, stage};
+    }
+
     /**
      * Generate a host tag (string array) on the input hostname to be associated with a metric.
      * @param hostname hostname of the metric.
@@ -113,6 +126,17 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_EVENT_PROCESSOR, eventProcessorName};
     }
 
+    /**
+     * Generate Cache tags (String array) given the cache eviction policy and the type of cache entries.
+     *
+     * @param evictionPolicy Name of the cache eviction policy.
+     * @param entryType      Type of cache entries.
+     * @return               String array with the Cache tags.
+     */
+    public static String[] cacheTags(String evictionPolicy, String entryType) {
+        return new String[] {TAG_CACHE_EVICTION_POLICY, evictionPolicy, TAG_CACHE_ENTRY_TYPE, entryType};
+    }
+
     /**
      * Generate segment tags (string array) on the input fully qualified segment name to be associated with a metric.
      * @param qualifiedSegmentName fully qualified segment name.
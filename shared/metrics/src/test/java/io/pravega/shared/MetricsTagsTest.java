@@ -36,6 +36,15 @@ public class MetricsTagsTest {
         assertEquals("0", tag[1]);
     }
 
+    @Test
+    public void testRecoveryStageTag() {
+        String[] tags = recoveryStageTag(1, "Decode");
+        assertEquals(MetricsTags.TAG_CONTAINER, tags[0]);
+        assertEquals("1", tags[1]);
+        assertEquals(MetricsTags.TAG_RECOVERY_STAGE, tags[2]);
+        assertEquals("Decode", tags[3]);
+    }
+
     @Test
     public void testHostTag() {
         String[] tag = hostTag("localhost");
@@ -196,6 +205,15 @@ public class MetricsTagsTest {
         assertEquals("myProcessor", tags[3]);
     }
 
+    @Test
+    public void testCacheTags() {
+        String[] tags = cacheTags("FREQUENCY", "STREAM");
+        assertEquals(TAG_CACHE_EVICTION_POLICY, tags[0]);
+        assertEquals("FREQUENCY", tags[1]);
+        assertEquals(TAG_CACHE_ENTRY_TYPE, tags[2]);
+        assertEquals("STREAM", tags[3]);
+    }
+
     @Test
     public void testSegmentTagDirect() {
         String[] tags = segmentTagDirect("mySegment");
@@ -177,6 +177,11 @@ public final class NameUtils {
      */
     private static final String CHUNK_NAME_FORMAT_WITH_EPOCH_OFFSET = "%s.E-%d-O-%d.%s";
 
+    /**
+     * Format for name of shared chunk that contains coalesced writes from multiple segments of a container.
+     */
+    private static final String COALESCED_CHUNK_NAME_FORMAT = INTERNAL_CONTAINER_PREFIX + "_coalesced.epoch%d.container%d.%s";
+
     /**
      * Format for name of read index block index entry.
      */
@@ -463,6 +468,16 @@ public final class NameUtils {
         return String.format(CHUNK_NAME_FORMAT_WITH_EPOCH_OFFSET, segmentName, epoch, offset, UUID.randomUUID());
     }
 
+    /**
+     * Gets the name of a shared chunk that contains coalesced writes from multiple segments of the given container.
+     *
+     * @param containerId The Id of the Container.
+     * @param epoch       The epoch of the container.
+     * @return formatted chunk name.
+     */
+    public static String getCoalescedChunkName(int containerId, long epoch) {
+        return String.format(COALESCED_CHUNK_NAME_FORMAT, epoch, containerId, UUID.randomUUID());
+    }
 
     /**
      * Gets the name of the read index block entry for the given segment and offset.
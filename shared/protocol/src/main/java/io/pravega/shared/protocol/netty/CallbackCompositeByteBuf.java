@@ -0,0 +1,53 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.shared.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A {@link CompositeByteBuf} that invokes a callback once it has been deallocated (i.e., when its reference count reaches
+ * 0). This can be used to tie the lifecycle of an external resource (such as a pinned cache entry) to the lifecycle of
+ * the buffer that exposes it, including any derived buffers (slices, duplicates) that share its reference count.
+ */
+public class CallbackCompositeByteBuf extends CompositeByteBuf {
+    private final Runnable onDeallocate;
+
+    /**
+     * Creates a new instance of the {@link CallbackCompositeByteBuf} class.
+     *
+     * @param allocator    The {@link ByteBufAllocator} to use.
+     * @param components   The components of this buffer, in order. Ownership of these buffers is transferred to this
+     *                     instance; they will be released when this buffer is deallocated.
+     * @param onDeallocate A callback to invoke after this buffer has been deallocated.
+     */
+    public CallbackCompositeByteBuf(@NonNull ByteBufAllocator allocator, @NonNull List<ByteBuf> components, @NonNull Runnable onDeallocate) {
+        super(allocator, false, Math.max(1, components.size()), components);
+        this.onDeallocate = onDeallocate;
+    }
+
+    @Override
+    protected void deallocate() {
+        try {
+            super.deallocate();
+        } finally {
+            this.onDeallocate.run();
+        }
+    }
+}
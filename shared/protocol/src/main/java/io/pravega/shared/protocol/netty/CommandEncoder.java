@@ -18,14 +18,18 @@ package io.pravega.shared.protocol.netty;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.pravega.shared.metrics.MetricNotifier;
 import io.pravega.shared.protocol.netty.WireCommands.AppendBlock;
 import io.pravega.shared.protocol.netty.WireCommands.AppendBlockEnd;
 import io.pravega.shared.protocol.netty.WireCommands.Hello;
 import io.pravega.shared.protocol.netty.WireCommands.PartialEvent;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
@@ -196,6 +200,32 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
         }
     }
 
+    /**
+     * {@link SegmentRead} replies are written without copying their data: the command header and trailer are encoded
+     * into their own buffers, which are then composed with the data buffer and written out as a single message. If
+     * the channel is being used for appends, this falls back to the regular (copying) encoding. In either case, the
+     * {@link SegmentRead} is released once it has been handed off to the channel.
+     */
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (!(msg instanceof SegmentRead)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+
+        SegmentRead segmentRead = (SegmentRead) msg;
+        try {
+            if (isChannelFree() && pendingWrites.isEmpty()) {
+                log.trace("Encoding message to send over the wire {}", msg);
+                ctx.writeAndFlush(encodeSegmentRead(segmentRead, ctx.alloc()), promise);
+            } else {
+                super.write(ctx, msg, promise);
+            }
+        } finally {
+            segmentRead.release();
+        }
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
         log.trace("Encoding message to send over the wire {}", msg);
@@ -421,6 +451,39 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
         out.setInt(startIdx + TYPE_SIZE, fieldsSize + blockSize);
     }
 
+    /**
+     * Encodes the given {@link SegmentRead} into a {@link CompositeByteBuf} made up of the command header (up to and
+     * including the data length), the data (retained, not copied) and the command trailer. The result is identical to
+     * what {@link #writeMessage(WireCommand, ByteBuf)} would produce.
+     */
+    @SneakyThrows(IOException.class)
+    @VisibleForTesting
+    static CompositeByteBuf encodeSegmentRead(SegmentRead msg, ByteBufAllocator allocator) {
+        ByteBuf data = msg.getData();
+        int dataLength = data.readableBytes();
+        ByteBuf header = allocator.ioBuffer();
+        ByteBuf trailer = allocator.ioBuffer(Long.BYTES);
+        try {
+            ByteBufOutputStream bout = new ByteBufOutputStream(header);
+            bout.writeInt(msg.getType().getCode());
+            bout.write(LENGTH_PLACEHOLDER);
+            bout.writeUTF(msg.getSegment());
+            bout.writeLong(msg.getOffset());
+            bout.writeBoolean(msg.isAtTail());
+            bout.writeBoolean(msg.isEndOfSegment());
+            bout.writeInt(dataLength);
+            bout.close();
+            trailer.writeLong(msg.getRequestId());
+            header.setInt(TYPE_SIZE, header.readableBytes() - TYPE_PLUS_LENGTH_SIZE + dataLength + trailer.readableBytes());
+        } catch (Throwable ex) {
+            header.release();
+            trailer.release();
+            throw ex;
+        }
+
+        return allocator.compositeBuffer(3).addComponents(true, header, data.retainedSlice(), trailer);
+    }
+
     @SneakyThrows(IOException.class)
     @VisibleForTesting
     static int writeMessage(WireCommand msg, ByteBuf out) {
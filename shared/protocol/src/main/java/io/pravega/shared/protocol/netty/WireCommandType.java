@@ -39,6 +39,7 @@ public enum WireCommandType {
     STORAGE_CHUNKS_LISTED(-6, WireCommands.StorageChunksListed::readFrom),
 
     EVENT(0, null), // Is read manually.
+    COMPRESSED_EVENT(-7, null), // Is read manually.
 
     SETUP_APPEND(1, WireCommands.SetupAppend::readFrom),
     APPEND_SETUP(2, WireCommands.AppendSetup::readFrom),
@@ -63,7 +63,7 @@ import static io.netty.buffer.Unpooled.wrappedBuffer;
  * Incompatible changes should instead create a new WireCommand object.
  */
 public final class WireCommands {
-    public static final int WIRE_VERSION = 17;
+    public static final int WIRE_VERSION = 18;
     public static final int OLDEST_COMPATIBLE_VERSION = 5;
     public static final int TYPE_SIZE = 4;
     public static final int TYPE_PLUS_LENGTH_SIZE = 8;
@@ -2361,9 +2361,14 @@ public final class WireCommands {
         final ByteBuf prefixFilter;      // (Deprecated as of 0.10) Used to indicate any prefix filters to apply to keys.
         final ByteBuf fromKey;           // Lower bound of the iteration.
         final ByteBuf toKey;             // Upper bound of the iteration.
+        final boolean reverse;           // Whether to iterate from toKey down to fromKey.
+
+        public TableIteratorArgs(ByteBuf continuationToken, ByteBuf prefixFilter, ByteBuf fromKey, ByteBuf toKey) {
+            this(continuationToken, prefixFilter, fromKey, toKey, false);
+        }
 
         TableIteratorArgs(ByteBufInputStream in) throws IOException {
-            this(readBuffer(in), readBuffer(in), readBuffer(in), readBuffer(in));
+            this(readBuffer(in), readBuffer(in), readBuffer(in), readBuffer(in), in.available() > 0 && in.readBoolean());
         }
 
         private static ByteBuf readBuffer(ByteBufInputStream in) throws IOException {
@@ -2394,6 +2399,10 @@ public final class WireCommands {
             if (toKey.readableBytes() != 0) {
                 toKey.getBytes(toKey.readerIndex(), (OutputStream) out, toKey.readableBytes());
             }
+
+            // Reverse introduced in 0.15 (wire version 18). Older readers ignore it and iterate in ascending order,
+            // so it must only be set when the other side supports wire version 18.
+            out.writeBoolean(reverse);
         }
     }
 
@@ -2862,7 +2871,7 @@ public final class WireCommands {
          *
          * @return This instance.
          */
-        WireCommand requireRelease() {
+        public WireCommand requireRelease() {
             this.released = false;
             return this;
         }
@@ -181,6 +181,7 @@ public class NameUtilsTest {
                 "_system/containers/container_0_epoch");
         Assert.assertTrue(NameUtils.getSegmentChunkName("segment", 8, 9).startsWith("segment.E-8-O-9"));
         Assert.assertEquals(NameUtils.getSegmentReadIndexBlockName("segment", 10), "segment.B-10");
+        Assert.assertTrue(NameUtils.getCoalescedChunkName(11, 12).startsWith("_system/containers/_coalesced.epoch12.container11."));
     }
 
     @Test
@@ -16,6 +16,7 @@
 package io.pravega.shared.protocol.netty;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.concurrent.EventExecutor;
@@ -25,13 +26,16 @@ import io.pravega.shared.protocol.netty.WireCommands.Event;
 import io.pravega.shared.protocol.netty.WireCommands.Hello;
 import io.pravega.shared.protocol.netty.WireCommands.KeepAlive;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
+import java.util.Random;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.mockito.internal.verification.AtMost;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -95,6 +99,29 @@ public class CommandEncoderTest {
         verifyFlush(commandEncoder, allocator, new ReadSegment("segment", 0, 1000, "", 2L));
     }
 
+    @Test
+    public void testEncodeSegmentRead() {
+        UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false, false);
+        byte[] contents = new byte[1000];
+        new Random(0).nextBytes(contents);
+        ByteBuf data = Unpooled.wrappedBuffer(contents);
+        SegmentRead segmentRead = new SegmentRead("segment", 123L, true, false, data, 4L);
+
+        // Compare against the regular (copying) encoding.
+        ByteBuf expected = allocator.buffer();
+        CommandEncoder.writeMessage(segmentRead, expected);
+        ByteBuf actual = CommandEncoder.encodeSegmentRead(segmentRead, allocator);
+        assertEquals(expected, actual);
+        assertEquals("Not expecting data buffer to be consumed.", contents.length, data.readableBytes());
+
+        // The encoded buffer must hold its own reference to the data buffer.
+        assertEquals(2, data.refCnt());
+        actual.release();
+        assertEquals(1, data.refCnt());
+        expected.release();
+        data.release();
+    }
+
     public void verifyFlush(CommandEncoder commandEncoder, UnpooledByteBufAllocator allocator,
                             Object command) throws Exception {
         ChannelHandlerContext context = mock(ChannelHandlerContext.class);
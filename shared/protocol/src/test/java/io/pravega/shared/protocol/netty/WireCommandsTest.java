@@ -933,7 +933,18 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         ByteBufferOutputStream bout = new ByteBufferOutputStream();
         cmd.writeFields(new DataOutputStream(bout));
         T cmd2 = createWireCommand.apply(new WireCommands.TableIteratorArgs(buf, Unpooled.EMPTY_BUFFER, Unpooled.EMPTY_BUFFER, Unpooled.EMPTY_BUFFER));
-        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 2 * Integer.BYTES - buf2.readableBytes() - buf3.readableBytes()).getCopy(), cmd2);
+        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 1 - 2 * Integer.BYTES - buf2.readableBytes() - buf3.readableBytes()).getCopy(), cmd2);
+
+        // Reverse.
+        args = new WireCommands.TableIteratorArgs(Unpooled.EMPTY_BUFFER, Unpooled.EMPTY_BUFFER, buf, buf2, true);
+        cmd = createWireCommand.apply(args);
+        testCommand(cmd);
+
+        // Test that we are able to read fields from a version that did not have the reverse flag.
+        bout = new ByteBufferOutputStream();
+        cmd.writeFields(new DataOutputStream(bout));
+        cmd2 = createWireCommand.apply(new WireCommands.TableIteratorArgs(Unpooled.EMPTY_BUFFER, Unpooled.EMPTY_BUFFER, buf, buf2, false));
+        testCommandFromByteArray(bout.getData().slice(0, bout.size() - 1).getCopy(), cmd2);
     }
 
     @Test